@@ -18,7 +18,9 @@
  */
 package org.apache.gravitino.policy;
 
+import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.annotation.Evolving;
+import org.apache.gravitino.exceptions.NoSuchMetadataObjectException;
 import org.apache.gravitino.exceptions.NoSuchMetalakeException;
 import org.apache.gravitino.exceptions.NoSuchPolicyException;
 import org.apache.gravitino.exceptions.PolicyAlreadyExistsException;
@@ -106,4 +108,22 @@ public interface PolicyOperations {
    * @return True if the policy is deleted, false if the policy does not exist.
    */
   boolean deletePolicy(String name);
+
+  /**
+   * Associate and disassociate a batch of metadata objects with a policy in one call. The objects
+   * already associated with the policy are skipped, and the objects in both the adding and
+   * removing arrays are ignored.
+   *
+   * @param name The name of the policy.
+   * @param objectsToAdd The metadata objects to associate with the policy.
+   * @param objectsToRemove The metadata objects to disassociate from the policy.
+   * @throws NoSuchPolicyException If the policy does not exist.
+   * @throws NoSuchMetadataObjectException If any of the metadata objects does not exist.
+   */
+  default void associateMetadataObjectsForPolicy(
+      String name, MetadataObject[] objectsToAdd, MetadataObject[] objectsToRemove)
+      throws NoSuchPolicyException, NoSuchMetadataObjectException {
+    throw new UnsupportedOperationException(
+        "Associating metadata objects for a policy is not supported");
+  }
 }
@@ -20,7 +20,9 @@
 package org.apache.gravitino.tag;
 
 import java.util.Map;
+import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.annotation.Evolving;
+import org.apache.gravitino.exceptions.NoSuchMetadataObjectException;
 import org.apache.gravitino.exceptions.NoSuchMetalakeException;
 import org.apache.gravitino.exceptions.NoSuchTagException;
 import org.apache.gravitino.exceptions.TagAlreadyExistsException;
@@ -89,4 +91,22 @@ public interface TagOperations {
    * @return True if the tag is deleted, false if the tag does not exist.
    */
   boolean deleteTag(String name);
+
+  /**
+   * Associate and disassociate a batch of metadata objects with a tag in one call. The objects
+   * already associated with the tag are skipped, and the objects in both the adding and removing
+   * arrays are ignored.
+   *
+   * @param name The name of the tag.
+   * @param objectsToAdd The metadata objects to associate with the tag.
+   * @param objectsToRemove The metadata objects to disassociate from the tag.
+   * @throws NoSuchTagException If the tag does not exist.
+   * @throws NoSuchMetadataObjectException If any of the metadata objects does not exist.
+   */
+  default void associateMetadataObjectsForTag(
+      String name, MetadataObject[] objectsToAdd, MetadataObject[] objectsToRemove)
+      throws NoSuchTagException, NoSuchMetadataObjectException {
+    throw new UnsupportedOperationException(
+        "Associating metadata objects for a tag is not supported");
+  }
 }
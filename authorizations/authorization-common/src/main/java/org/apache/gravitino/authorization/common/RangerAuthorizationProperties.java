@@ -51,6 +51,38 @@ public class RangerAuthorizationProperties extends AuthorizationProperties {
   public static final String RANGER_SERVICE_CREATE_IF_ABSENT =
       "authorization.ranger.service.create-if-absent";
 
+  /**
+   * Whether the policy mutations are applied to Ranger in the background, the plugin operations
+   * return before the policies are synchronized if it is true
+   */
+  public static final String RANGER_POLICY_SYNC_ASYNC = "authorization.ranger.policy.sync.async";
+
+  public static final String DEFAULT_RANGER_POLICY_SYNC_ASYNC = "false";
+
+  /** The max number of policies applied to Ranger in parallel */
+  public static final String RANGER_POLICY_SYNC_THREADS =
+      "authorization.ranger.policy.sync.threads";
+
+  public static final String DEFAULT_RANGER_POLICY_SYNC_THREADS = "4";
+
+  /** The max number of retries of a failed policy mutation */
+  public static final String RANGER_POLICY_SYNC_MAX_RETRIES =
+      "authorization.ranger.policy.sync.max-retries";
+
+  public static final String DEFAULT_RANGER_POLICY_SYNC_MAX_RETRIES = "3";
+
+  /** The backoff in milliseconds before retrying a failed policy mutation */
+  public static final String RANGER_POLICY_SYNC_RETRY_BACKOFF_MS =
+      "authorization.ranger.policy.sync.retry-backoff-ms";
+
+  public static final String DEFAULT_RANGER_POLICY_SYNC_RETRY_BACKOFF_MS = "200";
+
+  /** The time in milliseconds a managed policy is cached locally, 0 disables the cache */
+  public static final String RANGER_POLICY_CACHE_TTL_MS =
+      "authorization.ranger.policy.cache.ttl-ms";
+
+  public static final String DEFAULT_RANGER_POLICY_CACHE_TTL_MS = "0";
+
   public static final String HADOOP_SECURITY_AUTHENTICATION =
       "authorization.ranger.hadoop.security.authentication";
   public static final String DEFAULT_HADOOP_SECURITY_AUTHENTICATION = "simple";
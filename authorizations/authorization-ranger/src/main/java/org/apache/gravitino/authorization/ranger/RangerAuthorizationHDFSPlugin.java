@@ -156,6 +156,12 @@ public class RangerAuthorizationHDFSPlugin extends RangerAuthorizationPlugin {
     return preciseFindPolicy(authzMetadataObject, preciseFilters);
   }
 
+  /** The managed policy of a path based metadata object is identified by its path. */
+  @Override
+  protected String policyKey(AuthorizationMetadataObject authzMetadataObject) {
+    return getAuthorizationPath((PathBasedMetadataObject) authzMetadataObject);
+  }
+
   @Override
   /** Wildcard search the Ranger policies in the different Ranger service. */
   protected List<RangerPolicy> wildcardSearchPolicies(
@@ -693,6 +699,7 @@ public class RangerAuthorizationHDFSPlugin extends RangerAuthorizationPlugin {
 
   @Override
   public Boolean onMetadataUpdated(MetadataObjectChange... changes) throws RuntimeException {
+    resetPolicySync();
     for (MetadataObjectChange change : changes) {
       if (change instanceof MetadataObjectChange.RenameMetadataObject) {
         MetadataObjectChange.RenameMetadataObject renameChange =
@@ -794,6 +801,7 @@ public class RangerAuthorizationHDFSPlugin extends RangerAuthorizationPlugin {
                 + (change == null ? "null" : change.getClass().getSimpleName()));
       }
     }
+    resetPolicySync();
     return Boolean.TRUE;
   }
 
@@ -739,6 +739,7 @@ public class RangerAuthorizationHadoopSQLPlugin extends RangerAuthorizationPlugi
 
   @Override
   public Boolean onMetadataUpdated(MetadataObjectChange... changes) throws RuntimeException {
+    resetPolicySync();
     for (MetadataObjectChange change : changes) {
       if (change instanceof MetadataObjectChange.RenameMetadataObject) {
         MetadataObject metadataObject =
@@ -788,6 +789,7 @@ public class RangerAuthorizationHadoopSQLPlugin extends RangerAuthorizationPlugi
                 + (change == null ? "null" : change.getClass().getSimpleName()));
       }
     }
+    resetPolicySync();
     return Boolean.TRUE;
   }
 
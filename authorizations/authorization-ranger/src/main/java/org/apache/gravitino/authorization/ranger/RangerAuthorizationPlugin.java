@@ -24,13 +24,16 @@ import com.google.common.collect.ImmutableMap;
 import com.sun.jersey.api.client.ClientResponse;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.gravitino.MetadataObject;
@@ -86,6 +89,9 @@ public abstract class RangerAuthorizationPlugin
   protected final String rangerServiceName;
   protected RangerClientExtension rangerClient;
   protected RangerHelper rangerHelper;
+  protected final RangerPolicySynchronizer policySynchronizer;
+  // Whether the plugin operations return before the policy mutations are applied to Ranger
+  private final boolean asyncPolicySync;
   @VisibleForTesting public final String rangerAdminName;
 
   protected RangerAuthorizationPlugin(String metalake, Map<String, String> config) {
@@ -114,6 +120,36 @@ public abstract class RangerAuthorizationPlugin
             rangerServiceName,
             ownerMappingRule(),
             policyResourceDefinesRule());
+
+    asyncPolicySync =
+        Boolean.parseBoolean(
+            getConfValue(
+                config,
+                RangerAuthorizationProperties.RANGER_POLICY_SYNC_ASYNC,
+                RangerAuthorizationProperties.DEFAULT_RANGER_POLICY_SYNC_ASYNC));
+    policySynchronizer =
+        new RangerPolicySynchronizer(
+            () -> this.rangerClient,
+            Integer.parseInt(
+                getConfValue(
+                    config,
+                    RangerAuthorizationProperties.RANGER_POLICY_SYNC_THREADS,
+                    RangerAuthorizationProperties.DEFAULT_RANGER_POLICY_SYNC_THREADS)),
+            Integer.parseInt(
+                getConfValue(
+                    config,
+                    RangerAuthorizationProperties.RANGER_POLICY_SYNC_MAX_RETRIES,
+                    RangerAuthorizationProperties.DEFAULT_RANGER_POLICY_SYNC_MAX_RETRIES)),
+            Long.parseLong(
+                getConfValue(
+                    config,
+                    RangerAuthorizationProperties.RANGER_POLICY_SYNC_RETRY_BACKOFF_MS,
+                    RangerAuthorizationProperties.DEFAULT_RANGER_POLICY_SYNC_RETRY_BACKOFF_MS)),
+            Long.parseLong(
+                getConfValue(
+                    config,
+                    RangerAuthorizationProperties.RANGER_POLICY_CACHE_TTL_MS,
+                    RangerAuthorizationProperties.DEFAULT_RANGER_POLICY_CACHE_TTL_MS)));
   }
 
   @VisibleForTesting
@@ -138,6 +174,8 @@ public abstract class RangerAuthorizationPlugin
 
   @VisibleForTesting
   public void setRangerClient(RangerClientExtension rangerClient) {
+    policySynchronizer.awaitPending();
+    policySynchronizer.invalidateAll();
     this.rangerClient = rangerClient;
   }
 
@@ -175,6 +213,51 @@ public abstract class RangerAuthorizationPlugin
   public abstract RangerPolicy findManagedPolicy(AuthorizationMetadataObject authzMetadataObject)
       throws AuthorizationPluginException;
 
+  /**
+   * The key of the managed policy in the policy synchronizer, the same metadata object always has
+   * the same key.
+   *
+   * @param authzMetadataObject The authorization metadata object of the policy.
+   * @return The key of the managed policy.
+   */
+  protected String policyKey(AuthorizationMetadataObject authzMetadataObject) {
+    return authzMetadataObject.type() + ":" + authzMetadataObject.fullName();
+  }
+
+  /**
+   * Get the managed policy from the policy synchronizer, which contains the mutations not yet
+   * applied to Ranger, and only find it from Ranger if it is unknown. The caller must hold the
+   * policy lock of the key.
+   */
+  private RangerPolicy getManagedPolicy(
+      String policyKey, AuthorizationMetadataObject authzMetadataObject) {
+    RangerPolicy policy = policySynchronizer.currentPolicy(policyKey);
+    if (policy == null) {
+      policy = findManagedPolicy(authzMetadataObject);
+      if (policy != null) {
+        policySynchronizer.cachePolicy(policyKey, policy);
+      }
+    }
+    return policy;
+  }
+
+  /** Wait for the policy mutations to be applied to Ranger, unless the sync is asynchronous. */
+  private void awaitPolicySync(List<CompletableFuture<Void>> futures) {
+    if (!asyncPolicySync) {
+      RangerPolicySynchronizer.await(futures);
+    }
+  }
+
+  /**
+   * Wait for all the queued policy mutations, and drop the cached policies. It must be called
+   * before and after the policies are modified in Ranger directly rather than by the policy
+   * synchronizer, such as renaming or removing the metadata objects.
+   */
+  protected void resetPolicySync() {
+    policySynchronizer.awaitPending();
+    policySynchronizer.invalidateAll();
+  }
+
   protected abstract void updatePolicyByMetadataObject(
       MetadataObject.Type operationType,
       AuthorizationMetadataObject oldAuthzMetaobject,
@@ -314,6 +397,8 @@ public abstract class RangerAuthorizationPlugin
         role.securableObjects().stream()
             .map(securableObject -> RoleChange.removeSecurableObject(role.name(), securableObject))
             .toArray(RoleChange[]::new));
+    // The policies must not refer to the role when it is deleted
+    policySynchronizer.awaitPending();
     // Lastly, delete the role in the Ranger
     try {
       rangerClient.deleteRole(
@@ -333,6 +418,7 @@ public abstract class RangerAuthorizationPlugin
   @Override
   public Boolean onRoleUpdated(Role role, RoleChange... changes)
       throws AuthorizationPluginException {
+    List<CompletableFuture<Void>> futures = new ArrayList<>();
     for (RoleChange change : changes) {
       if (change instanceof RoleChange.AddSecurableObject) {
         SecurableObject securableObject =
@@ -344,12 +430,8 @@ public abstract class RangerAuthorizationPlugin
         List<AuthorizationSecurableObject> authzSecurableObjects =
             translatePrivilege(securableObject);
         authzSecurableObjects.forEach(
-            authzSecurableObject -> {
-              if (!doAddSecurableObject(role.name(), authzSecurableObject)) {
-                throw new AuthorizationPluginException(
-                    "Failed to add the securable object to the Ranger policy!");
-              }
-            });
+            authzSecurableObject ->
+                futures.add(doAddSecurableObject(role.name(), authzSecurableObject)));
       } else if (change instanceof RoleChange.RemoveSecurableObject) {
         SecurableObject securableObject =
             ((RoleChange.RemoveSecurableObject) change).getSecurableObject();
@@ -359,14 +441,9 @@ public abstract class RangerAuthorizationPlugin
 
         List<AuthorizationSecurableObject> authzSecurableObjects =
             translatePrivilege(securableObject);
-        authzSecurableObjects.stream()
-            .forEach(
-                authzSecurableObject -> {
-                  if (!removeSecurableObject(role.name(), authzSecurableObject)) {
-                    throw new AuthorizationPluginException(
-                        "Failed to add the securable object to the Ranger policy!");
-                  }
-                });
+        authzSecurableObjects.forEach(
+            authzSecurableObject ->
+                futures.add(removeSecurableObject(role.name(), authzSecurableObject)));
       } else if (change instanceof RoleChange.UpdateSecurableObject) {
         SecurableObject oldSecurableObject =
             ((RoleChange.UpdateSecurableObject) change).getSecurableObject();
@@ -388,13 +465,11 @@ public abstract class RangerAuthorizationPlugin
         List<AuthorizationSecurableObject> rangerNewSecurableObjects =
             translatePrivilege(newSecurableObject);
         rangerOldSecurableObjects.forEach(
-            AuthorizationSecurableObject -> {
-              removeSecurableObject(role.name(), AuthorizationSecurableObject);
-            });
+            AuthorizationSecurableObject ->
+                futures.add(removeSecurableObject(role.name(), AuthorizationSecurableObject)));
         rangerNewSecurableObjects.forEach(
-            AuthorizationSecurableObject -> {
-              doAddSecurableObject(role.name(), AuthorizationSecurableObject);
-            });
+            AuthorizationSecurableObject ->
+                futures.add(doAddSecurableObject(role.name(), AuthorizationSecurableObject)));
       } else {
         throw new IllegalArgumentException(
             "Unsupported role change type: "
@@ -402,11 +477,13 @@ public abstract class RangerAuthorizationPlugin
       }
     }
 
+    awaitPolicySync(futures);
     return Boolean.TRUE;
   }
 
   @Override
   public Boolean onMetadataUpdated(MetadataObjectChange... changes) throws RuntimeException {
+    resetPolicySync();
     for (MetadataObjectChange change : changes) {
       if (change instanceof MetadataObjectChange.RenameMetadataObject) {
         MetadataObject metadataObject =
@@ -456,6 +533,7 @@ public abstract class RangerAuthorizationPlugin
                 + (change == null ? "null" : change.getClass().getSimpleName()));
       }
     }
+    resetPolicySync();
     return Boolean.TRUE;
   }
 
@@ -517,6 +595,7 @@ public abstract class RangerAuthorizationPlugin
     }
 
     List<AuthorizationSecurableObject> rangerSecurableObjects = translateOwner(metadataObject);
+    List<CompletableFuture<Void>> futures = new ArrayList<>();
     String ownerRoleName;
     switch (metadataObject.type()) {
       case METALAKE:
@@ -549,17 +628,19 @@ public abstract class RangerAuthorizationPlugin
 
         rangerSecurableObjects.forEach(
             rangerSecurableObject -> {
-              RangerPolicy policy = findManagedPolicy(rangerSecurableObject);
+              String policyKey = policyKey(rangerSecurableObject);
+              Lock lock = policySynchronizer.policyLock(policyKey);
+              lock.lock();
               try {
+                RangerPolicy policy = getManagedPolicy(policyKey, rangerSecurableObject);
                 if (policy == null) {
                   policy = addOwnerRoleToNewPolicy(rangerSecurableObject, ownerRoleName);
-                  rangerClient.createPolicy(policy);
                 } else {
                   rangerHelper.updatePolicyOwnerRole(policy, ownerRoleName);
-                  rangerClient.updatePolicy(policy.getId(), policy);
                 }
-              } catch (RangerServiceException e) {
-                throw new AuthorizationPluginException(e, "Failed to add the owner to the Ranger!");
+                futures.add(policySynchronizer.submitSave(policyKey, policy));
+              } finally {
+                lock.unlock();
               }
             });
         break;
@@ -567,29 +648,30 @@ public abstract class RangerAuthorizationPlugin
       case TABLE:
       case FILESET:
         // The schema and table use user/group to manage the owner
-        rangerSecurableObjects.stream()
-            .forEach(
-                AuthorizationSecurableObject -> {
-                  RangerPolicy policy = findManagedPolicy(AuthorizationSecurableObject);
-                  try {
-                    if (policy == null) {
-                      policy = addOwnerToNewPolicy(AuthorizationSecurableObject, newOwner);
-                      rangerClient.createPolicy(policy);
-                    } else {
-                      rangerHelper.updatePolicyOwner(policy, preOwner, newOwner);
-                      rangerClient.updatePolicy(policy.getId(), policy);
-                    }
-                  } catch (RangerServiceException e) {
-                    throw new AuthorizationPluginException(
-                        e, "Failed to add the owner to the Ranger!");
-                  }
-                });
+        rangerSecurableObjects.forEach(
+            AuthorizationSecurableObject -> {
+              String policyKey = policyKey(AuthorizationSecurableObject);
+              Lock lock = policySynchronizer.policyLock(policyKey);
+              lock.lock();
+              try {
+                RangerPolicy policy = getManagedPolicy(policyKey, AuthorizationSecurableObject);
+                if (policy == null) {
+                  policy = addOwnerToNewPolicy(AuthorizationSecurableObject, newOwner);
+                } else {
+                  rangerHelper.updatePolicyOwner(policy, preOwner, newOwner);
+                }
+                futures.add(policySynchronizer.submitSave(policyKey, policy));
+              } finally {
+                lock.unlock();
+              }
+            });
         break;
       default:
         throw new AuthorizationPluginException(
             ErrorMessages.OWNER_PRIVILEGE_NOT_SUPPORTED, metadataObject.type());
     }
 
+    awaitPolicySync(futures);
     return Boolean.TRUE;
   }
 
@@ -611,21 +693,21 @@ public abstract class RangerAuthorizationPlugin
 
     // If the user does not exist, then create it.
     onUserAdded(user);
+    if (roles.isEmpty()) {
+      return Boolean.TRUE;
+    }
 
-    roles.stream()
-        .forEach(
-            role -> {
-              rangerHelper.createRangerRoleIfNotExists(role.name(), false);
-              GrantRevokeRoleRequest grantRevokeRoleRequest =
-                  rangerHelper.createGrantRevokeRoleRequest(role.name(), user.name(), null);
-              try {
-                rangerClient.grantRole(rangerServiceName, grantRevokeRoleRequest);
-              } catch (RangerServiceException e) {
-                throw new AuthorizationPluginException(
-                    "Fail to grant role %s to user %s, exception: %s",
-                    role.name(), user.name(), e.getMessage());
-              }
-            });
+    roles.forEach(role -> rangerHelper.createRangerRoleIfNotExists(role.name(), false));
+    // Grant all the roles to the user in one request
+    GrantRevokeRoleRequest grantRevokeRoleRequest =
+        rangerHelper.createGrantRevokeRoleRequest(roleNames(roles), user.name(), null);
+    try {
+      rangerClient.grantRole(rangerServiceName, grantRevokeRoleRequest);
+    } catch (RangerServiceException e) {
+      throw new AuthorizationPluginException(
+          "Fail to grant roles %s to user %s, exception: %s",
+          roleNames(roles), user.name(), e.getMessage());
+    }
 
     return Boolean.TRUE;
   }
@@ -647,21 +729,21 @@ public abstract class RangerAuthorizationPlugin
     }
     // If the user does not exist, then create it.
     onUserAdded(user);
+    if (roles.isEmpty()) {
+      return Boolean.TRUE;
+    }
 
-    roles.stream()
-        .forEach(
-            role -> {
-              rangerHelper.checkRangerRole(role.name());
-              GrantRevokeRoleRequest grantRevokeRoleRequest =
-                  rangerHelper.createGrantRevokeRoleRequest(role.name(), user.name(), null);
-              try {
-                rangerClient.revokeRole(rangerServiceName, grantRevokeRoleRequest);
-              } catch (RangerServiceException e) {
-                throw new AuthorizationPluginException(
-                    "Fail to revoke role %s from user %s, exception: %s",
-                    role.name(), user.name(), e.getMessage());
-              }
-            });
+    roles.forEach(role -> rangerHelper.checkRangerRole(role.name()));
+    // Revoke all the roles from the user in one request
+    GrantRevokeRoleRequest grantRevokeRoleRequest =
+        rangerHelper.createGrantRevokeRoleRequest(roleNames(roles), user.name(), null);
+    try {
+      rangerClient.revokeRole(rangerServiceName, grantRevokeRoleRequest);
+    } catch (RangerServiceException e) {
+      throw new AuthorizationPluginException(
+          "Fail to revoke roles %s from user %s, exception: %s",
+          roleNames(roles), user.name(), e.getMessage());
+    }
 
     return Boolean.TRUE;
   }
@@ -683,21 +765,21 @@ public abstract class RangerAuthorizationPlugin
     }
     // If the group does not exist, then create it.
     onGroupAdded(group);
+    if (roles.isEmpty()) {
+      return Boolean.TRUE;
+    }
 
-    roles.stream()
-        .forEach(
-            role -> {
-              rangerHelper.createRangerRoleIfNotExists(role.name(), false);
-              GrantRevokeRoleRequest grantRevokeRoleRequest =
-                  rangerHelper.createGrantRevokeRoleRequest(role.name(), null, group.name());
-              try {
-                rangerClient.grantRole(rangerServiceName, grantRevokeRoleRequest);
-              } catch (RangerServiceException e) {
-                throw new AuthorizationPluginException(
-                    "Fail to grant role: %s to group %s, exception: %s.",
-                    role, group, e.getMessage());
-              }
-            });
+    roles.forEach(role -> rangerHelper.createRangerRoleIfNotExists(role.name(), false));
+    // Grant all the roles to the group in one request
+    GrantRevokeRoleRequest grantRevokeRoleRequest =
+        rangerHelper.createGrantRevokeRoleRequest(roleNames(roles), null, group.name());
+    try {
+      rangerClient.grantRole(rangerServiceName, grantRevokeRoleRequest);
+    } catch (RangerServiceException e) {
+      throw new AuthorizationPluginException(
+          "Fail to grant roles: %s to group %s, exception: %s.",
+          roleNames(roles), group, e.getMessage());
+    }
     return Boolean.TRUE;
   }
 
@@ -717,24 +799,29 @@ public abstract class RangerAuthorizationPlugin
       return false;
     }
     onGroupAdded(group);
-    roles.stream()
-        .forEach(
-            role -> {
-              rangerHelper.checkRangerRole(role.name());
-              GrantRevokeRoleRequest grantRevokeRoleRequest =
-                  rangerHelper.createGrantRevokeRoleRequest(role.name(), null, group.name());
-              try {
-                rangerClient.revokeRole(rangerServiceName, grantRevokeRoleRequest);
-              } catch (RangerServiceException e) {
-                throw new AuthorizationPluginException(
-                    "Fail to revoke role %s from group %s, exception: %s",
-                    role.name(), group.name(), e.getMessage());
-              }
-            });
+    if (roles.isEmpty()) {
+      return Boolean.TRUE;
+    }
+
+    roles.forEach(role -> rangerHelper.checkRangerRole(role.name()));
+    // Revoke all the roles from the group in one request
+    GrantRevokeRoleRequest grantRevokeRoleRequest =
+        rangerHelper.createGrantRevokeRoleRequest(roleNames(roles), null, group.name());
+    try {
+      rangerClient.revokeRole(rangerServiceName, grantRevokeRoleRequest);
+    } catch (RangerServiceException e) {
+      throw new AuthorizationPluginException(
+          "Fail to revoke roles %s from group %s, exception: %s",
+          roleNames(roles), group.name(), e.getMessage());
+    }
 
     return Boolean.TRUE;
   }
 
+  private static Set<String> roleNames(List<Role> roles) {
+    return roles.stream().map(Role::name).collect(Collectors.toSet());
+  }
+
   @Override
   public Boolean onUserAdded(User user) throws AuthorizationPluginException {
     return getUserId(user.name())
@@ -836,10 +923,24 @@ public abstract class RangerAuthorizationPlugin
    * 2. If the policy exists and has the same privilege, because support idempotent operation, so
    * return true. <br>
    * 3. If the policy does not exist, then create a new policy. <br>
+   *
+   * @return The future which is completed when the policy is applied to Ranger.
    */
-  private boolean doAddSecurableObject(
+  private CompletableFuture<Void> doAddSecurableObject(
       String roleName, AuthorizationSecurableObject securableObject) {
-    RangerPolicy policy = findManagedPolicy(securableObject);
+    String policyKey = policyKey(securableObject);
+    Lock lock = policySynchronizer.policyLock(policyKey);
+    lock.lock();
+    try {
+      return doAddSecurableObject(policyKey, roleName, securableObject);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private CompletableFuture<Void> doAddSecurableObject(
+      String policyKey, String roleName, AuthorizationSecurableObject securableObject) {
+    RangerPolicy policy = getManagedPolicy(policyKey, securableObject);
     if (policy != null) {
       // Check the policy item's accesses and roles equal the Ranger securable object's privilege
       List<AuthorizationPrivilege> allowPrivileges =
@@ -881,27 +982,16 @@ public abstract class RangerAuthorizationPlugin
             "The privilege({}) already added to Ranger policy({})!",
             policy.getName(),
             securableObject.fullName());
-        // If it exists policy with the same privilege, then directly return true, because support
+        // If it exists policy with the same privilege, then directly return, because support
         // idempotent operation.
-        return true;
+        return CompletableFuture.completedFuture(null);
       }
     } else {
       policy = createPolicyAddResources(securableObject);
     }
 
     rangerHelper.addPolicyItem(policy, roleName, securableObject);
-    try {
-      if (policy.getId() == null) {
-        rangerClient.createPolicy(policy);
-      } else {
-        rangerClient.updatePolicy(policy.getId(), policy);
-      }
-    } catch (RangerServiceException e) {
-      throw new AuthorizationPluginException(
-          e, "Failed to add the securable object to the Ranger!");
-    }
-
-    return true;
+    return policySynchronizer.submitSave(policyKey, policy);
   }
 
   /**
@@ -910,16 +1000,30 @@ public abstract class RangerAuthorizationPlugin
    * 2. If the policy exists and has the same privilege, then remove role name in the policy items.
    * <br>
    * 3. If policy does not contain any policy item, then delete this policy. <br>
+   *
+   * @return The future which is completed when the policy is applied to Ranger.
    */
-  private boolean removeSecurableObject(
+  private CompletableFuture<Void> removeSecurableObject(
       String roleName, AuthorizationSecurableObject authzSecurableObject) {
-    RangerPolicy policy = findManagedPolicy(authzSecurableObject);
+    String policyKey = policyKey(authzSecurableObject);
+    Lock lock = policySynchronizer.policyLock(policyKey);
+    lock.lock();
+    try {
+      return removeSecurableObject(policyKey, roleName, authzSecurableObject);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private CompletableFuture<Void> removeSecurableObject(
+      String policyKey, String roleName, AuthorizationSecurableObject authzSecurableObject) {
+    RangerPolicy policy = getManagedPolicy(policyKey, authzSecurableObject);
     if (policy == null) {
       LOG.warn(
           "Cannot find the Ranger policy for the Ranger securable object({})!",
           authzSecurableObject.fullName());
       // Don't throw exception or return false, because need support immutable operation.
-      return true;
+      return CompletableFuture.completedFuture(null);
     }
 
     authzSecurableObject.privileges().stream()
@@ -960,18 +1064,11 @@ public abstract class RangerAuthorizationPlugin
                     && policyItem.getUsers().isEmpty()
                     && policyItem.getGroups().isEmpty());
 
-    try {
-      if (policy.getPolicyItems().isEmpty() && policy.getDenyPolicyItems().isEmpty()) {
-        rangerClient.deletePolicy(policy.getId());
-      } else {
-        rangerClient.updatePolicy(policy.getId(), policy);
-      }
-    } catch (RangerServiceException e) {
-      LOG.error("Failed to remove the policy item from the Ranger policy {}!", policy);
-      throw new AuthorizationPluginException(
-          e, "Failed to remove the securable object from Ranger!");
+    if (policy.getPolicyItems().isEmpty() && policy.getDenyPolicyItems().isEmpty()) {
+      return policySynchronizer.submitDelete(policyKey, policy);
+    } else {
+      return policySynchronizer.submitSave(policyKey, policy);
     }
-    return true;
   }
 
   private void removePolicyItemIfEqualRoleName(
@@ -1040,7 +1137,10 @@ public abstract class RangerAuthorizationPlugin
   }
 
   @Override
-  public void close() throws IOException {}
+  public void close() throws IOException {
+    policySynchronizer.awaitPending();
+    policySynchronizer.close();
+  }
 
   /**
    * Generate authorization securable object.
@@ -230,7 +230,22 @@ public class RangerHelper {
 
   protected GrantRevokeRoleRequest createGrantRevokeRoleRequest(
       String roleName, String userName, String groupName) {
-    roleName = generateGravitinoRoleName(roleName);
+    return createGrantRevokeRoleRequest(Sets.newHashSet(roleName), userName, groupName);
+  }
+
+  /**
+   * Create a request to grant or revoke multiple roles at once, so that the roles are granted or
+   * revoked by a single Ranger call.
+   *
+   * @param roleNames The role names to grant or revoke
+   * @param userName The user to grant or revoke the roles, can be null
+   * @param groupName The group to grant or revoke the roles, can be null
+   * @return The request to grant or revoke the roles
+   */
+  protected GrantRevokeRoleRequest createGrantRevokeRoleRequest(
+      Set<String> roleNames, String userName, String groupName) {
+    Set<String> targetRoles =
+        roleNames.stream().map(this::generateGravitinoRoleName).collect(Collectors.toSet());
     Set<String> users =
         StringUtils.isEmpty(userName) ? Sets.newHashSet() : Sets.newHashSet(userName);
     Set<String> groups =
@@ -244,7 +259,7 @@ public class RangerHelper {
     roleRequest.setUsers(users);
     roleRequest.setGroups(groups);
     roleRequest.setGrantor(rangerAdminName);
-    roleRequest.setTargetRoles(Sets.newHashSet(roleName));
+    roleRequest.setTargetRoles(targetRoles);
     return roleRequest;
   }
 
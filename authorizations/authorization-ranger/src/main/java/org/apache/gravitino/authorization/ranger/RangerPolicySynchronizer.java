@@ -0,0 +1,372 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.authorization.ranger;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.Striped;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Supplier;
+import org.apache.gravitino.exceptions.AuthorizationPluginException;
+import org.apache.ranger.RangerServiceException;
+import org.apache.ranger.plugin.model.RangerPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Synchronizes the Gravitino managed policies to Ranger in the background, and caches them locally
+ * so that finding the managed policy of a metadata object does not search Ranger every time. <br>
+ * 1. Each managed policy is identified by a key, the same metadata object always has the same key.
+ * <br>
+ * 2. The mutations of the same policy are coalesced, if a policy is modified again before its
+ * previous mutation is applied, only the latest state of the policy is sent to Ranger. <br>
+ * 3. The mutations of the different policies are applied in parallel by a bounded thread pool, the
+ * mutations of the same policy are applied one by one. <br>
+ * 4. A failed mutation is retried, and the cached policy is invalidated if it still fails. <br>
+ *
+ * <p>The caller must hold the {@link #policyLock(String)} of a policy while reading and modifying
+ * it, the same lock is held while the policy is sent to Ranger, but not while waiting to retry.
+ *
+ * <p>The cache is disabled by default. It must only be enabled if the managed policies are not
+ * modified outside Gravitino, because an update sends the cached policy to Ranger as a whole and
+ * would overwrite the changes made by others.
+ */
+public class RangerPolicySynchronizer implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(RangerPolicySynchronizer.class);
+
+  private final Supplier<RangerClientExtension> rangerClient;
+  private final int maxRetries;
+  private final long retryBackoffMs;
+  private final ExecutorService executor;
+  private final Striped<Lock> policyLocks = Striped.lock(64);
+  private final Cache<String, RangerPolicy> policyCache;
+  private final ConcurrentMap<String, PolicyMutation> pendingMutations = new ConcurrentHashMap<>();
+  private final Set<CompletableFuture<Void>> unfinishedMutations = ConcurrentHashMap.newKeySet();
+  private final AtomicLong appliedMutations = new AtomicLong();
+  private final AtomicLong coalescedMutations = new AtomicLong();
+
+  /**
+   * Creates a new policy synchronizer.
+   *
+   * @param rangerClient The supplier of the Ranger client used to apply the mutations.
+   * @param threads The max number of the policies applied to Ranger in parallel.
+   * @param maxRetries The max number of retries of a failed mutation.
+   * @param retryBackoffMs The backoff in milliseconds before the first retry, it grows linearly
+   *     with the number of retries.
+   * @param cacheTtlMs The time in milliseconds a policy is cached after it is loaded from or
+   *     written to Ranger, 0 means the policies are not cached.
+   */
+  public RangerPolicySynchronizer(
+      Supplier<RangerClientExtension> rangerClient,
+      int threads,
+      int maxRetries,
+      long retryBackoffMs,
+      long cacheTtlMs) {
+    Preconditions.checkArgument(threads > 0, "The policy sync threads must be positive");
+    Preconditions.checkArgument(maxRetries >= 0, "The policy sync retries must be non-negative");
+    Preconditions.checkArgument(retryBackoffMs >= 0, "The retry backoff must be non-negative");
+    Preconditions.checkArgument(cacheTtlMs >= 0, "The policy cache TTL must be non-negative");
+    this.rangerClient = rangerClient;
+    this.maxRetries = maxRetries;
+    this.retryBackoffMs = retryBackoffMs;
+    this.executor =
+        Executors.newFixedThreadPool(
+            threads,
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("ranger-policy-sync-%d")
+                .build());
+    this.policyCache =
+        CacheBuilder.newBuilder()
+            .maximumSize(cacheTtlMs > 0 ? 10_000 : 0)
+            .expireAfterWrite(cacheTtlMs, TimeUnit.MILLISECONDS)
+            .build();
+  }
+
+  /**
+   * @param key The key of the policy.
+   * @return The lock which must be held while reading and modifying the policy.
+   */
+  public Lock policyLock(String key) {
+    return policyLocks.get(key);
+  }
+
+  /**
+   * Returns the latest known state of the policy, which is either a mutation not yet applied to
+   * Ranger, or the cached policy. The caller must hold the {@link #policyLock(String)}.
+   *
+   * @param key The key of the policy.
+   * @return The latest known state of the policy, or null if it is unknown and must be found from
+   *     Ranger.
+   */
+  public RangerPolicy currentPolicy(String key) {
+    PolicyMutation mutation = pendingMutations.get(key);
+    if (mutation != null) {
+      return mutation.delete ? null : mutation.policy;
+    }
+    return policyCache.getIfPresent(key);
+  }
+
+  /**
+   * Caches the policy found from Ranger. The caller must hold the {@link #policyLock(String)}.
+   *
+   * @param key The key of the policy.
+   * @param policy The policy found from Ranger.
+   */
+  public void cachePolicy(String key, RangerPolicy policy) {
+    policyCache.put(key, policy);
+  }
+
+  /**
+   * Queues the policy to be created if it has no ID, or updated otherwise. The caller must hold the
+   * {@link #policyLock(String)}.
+   *
+   * @param key The key of the policy.
+   * @param policy The latest state of the policy.
+   * @return The future which is completed when the policy, or a later state of it, is applied.
+   */
+  public CompletableFuture<Void> submitSave(String key, RangerPolicy policy) {
+    policyCache.put(key, policy);
+    return submit(key, new PolicyMutation(policy, false));
+  }
+
+  /**
+   * Queues the policy to be deleted. The caller must hold the {@link #policyLock(String)}.
+   *
+   * @param key The key of the policy.
+   * @param policy The policy to delete, nothing is deleted from Ranger if it has no ID.
+   * @return The future which is completed when the policy is deleted.
+   */
+  public CompletableFuture<Void> submitDelete(String key, RangerPolicy policy) {
+    policyCache.invalidate(key);
+    return submit(key, new PolicyMutation(policy, true));
+  }
+
+  /** Waits until all the queued mutations are applied or failed. */
+  public void awaitPending() {
+    List<CompletableFuture<Void>> futures = new ArrayList<>(unfinishedMutations);
+    futures.forEach(
+        future -> {
+          try {
+            future.join();
+          } catch (Exception e) {
+            // The failure has been logged and reported to the caller which queued the mutation
+          }
+        });
+  }
+
+  /**
+   * Waits until the given mutations are applied.
+   *
+   * @param futures The futures returned when the mutations were queued.
+   * @throws AuthorizationPluginException If any of the mutations failed.
+   */
+  public static void await(List<CompletableFuture<Void>> futures)
+      throws AuthorizationPluginException {
+    try {
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+    } catch (Exception e) {
+      Throwable cause = e.getCause() != null ? e.getCause() : e;
+      if (cause instanceof AuthorizationPluginException) {
+        throw (AuthorizationPluginException) cause;
+      }
+      throw new AuthorizationPluginException(cause, "Failed to synchronize the Ranger policies");
+    }
+  }
+
+  /** Invalidates all the cached policies, the mutations not yet applied are kept. */
+  public void invalidateAll() {
+    policyCache.invalidateAll();
+  }
+
+  @VisibleForTesting
+  long appliedMutations() {
+    return appliedMutations.get();
+  }
+
+  @VisibleForTesting
+  long coalescedMutations() {
+    return coalescedMutations.get();
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+    policyCache.invalidateAll();
+  }
+
+  private CompletableFuture<Void> submit(String key, PolicyMutation mutation) {
+    unfinishedMutations.add(mutation.future);
+    mutation.future.whenComplete((r, e) -> unfinishedMutations.remove(mutation.future));
+
+    PolicyMutation previous = pendingMutations.put(key, mutation);
+    if (previous != null) {
+      // The previous mutation is not applied yet, it is superseded by the latest state of the
+      // policy, and the task scheduled for it will apply the latest one instead.
+      coalescedMutations.incrementAndGet();
+      mutation.future.whenComplete(
+          (r, e) -> {
+            if (e != null) {
+              previous.future.completeExceptionally(e);
+            } else {
+              previous.future.complete(null);
+            }
+          });
+      return mutation.future;
+    }
+
+    try {
+      executor.execute(() -> apply(key));
+    } catch (Exception e) {
+      pendingMutations.remove(key, mutation);
+      mutation.future.completeExceptionally(e);
+    }
+    return mutation.future;
+  }
+
+  private void apply(String key) {
+    PolicyMutation applying = null;
+    int attempt = 0;
+    while (true) {
+      Lock lock = policyLock(key);
+      lock.lock();
+      try {
+        // The mutation stays queued until it is applied, so the policy modified while waiting for a
+        // retry is coalesced into it instead of being applied by another task out of order.
+        PolicyMutation mutation = pendingMutations.get(key);
+        if (mutation == null) {
+          return;
+        }
+        if (mutation != applying) {
+          applying = mutation;
+          attempt = 0;
+        }
+
+        try {
+          applyOnce(mutation);
+          pendingMutations.remove(key, mutation);
+          if (mutation.delete) {
+            policyCache.invalidate(key);
+          }
+          appliedMutations.incrementAndGet();
+          mutation.future.complete(null);
+          return;
+        } catch (RangerServiceException e) {
+          if (attempt >= maxRetries) {
+            fail(
+                key,
+                mutation,
+                new AuthorizationPluginException(
+                    e,
+                    "Failed to synchronize the policy(%s) to the Ranger!",
+                    mutation.policy.getName()));
+            return;
+          }
+          LOG.warn(
+              "Failed to synchronize the policy({}) to the Ranger, retry {}/{}",
+              mutation.policy.getName(),
+              attempt + 1,
+              maxRetries,
+              e);
+        } catch (Exception e) {
+          fail(key, mutation, e);
+          return;
+        }
+      } finally {
+        lock.unlock();
+      }
+
+      // Backs off without the lock, so the callers modifying the same policy are not blocked
+      try {
+        Thread.sleep(retryBackoffMs * (attempt + 1));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        failInterrupted(key, e);
+        return;
+      }
+      attempt++;
+    }
+  }
+
+  private void failInterrupted(String key, InterruptedException e) {
+    Lock lock = policyLock(key);
+    lock.lock();
+    try {
+      PolicyMutation mutation = pendingMutations.get(key);
+      if (mutation != null) {
+        fail(key, mutation, e);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void fail(String key, PolicyMutation mutation, Exception e) {
+    LOG.error("Failed to apply the Ranger policy({}) after retries", key, e);
+    pendingMutations.remove(key, mutation);
+    policyCache.invalidate(key);
+    mutation.future.completeExceptionally(e);
+  }
+
+  private void applyOnce(PolicyMutation mutation) throws RangerServiceException {
+    RangerPolicy policy = mutation.policy;
+    if (mutation.delete) {
+      if (policy.getId() != null) {
+        rangerClient.get().deletePolicy(policy.getId());
+      }
+    } else if (policy.getId() == null) {
+      RangerPolicy created = rangerClient.get().createPolicy(policy);
+      if (created != null) {
+        policy.setId(created.getId());
+        policy.setGuid(created.getGuid());
+        policy.setVersion(created.getVersion());
+      }
+    } else {
+      RangerPolicy updated = rangerClient.get().updatePolicy(policy.getId(), policy);
+      if (updated != null) {
+        policy.setVersion(updated.getVersion());
+      }
+    }
+  }
+
+  private static class PolicyMutation {
+    private final RangerPolicy policy;
+    private final boolean delete;
+    private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+    private PolicyMutation(RangerPolicy policy, boolean delete) {
+      this.policy = policy;
+      this.delete = delete;
+    }
+  }
+}
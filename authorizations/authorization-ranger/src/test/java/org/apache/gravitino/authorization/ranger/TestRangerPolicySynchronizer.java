@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.authorization.ranger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.Lists;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import org.apache.gravitino.exceptions.AuthorizationPluginException;
+import org.apache.ranger.RangerServiceException;
+import org.apache.ranger.plugin.model.RangerPolicy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestRangerPolicySynchronizer {
+
+  @Test
+  public void testCoalesceMutations() throws Exception {
+    RangerClientExtension client = mock(RangerClientExtension.class);
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(client.createPolicy(any()))
+        .thenAnswer(
+            invocation -> {
+              RangerPolicy policy = invocation.getArgument(0);
+              if ("blocking".equals(policy.getName())) {
+                blocked.countDown();
+                release.await();
+              }
+              RangerPolicy created = new RangerPolicy();
+              created.setId(policy.getName().length() + 0L);
+              return created;
+            });
+
+    try (RangerPolicySynchronizer synchronizer =
+        new RangerPolicySynchronizer(() -> client, 1, 0, 0, 60_000)) {
+      // Occupy the only sync thread, so that the following mutations are queued
+      CompletableFuture<Void> blocking = synchronizer.submitSave("blocking", newPolicy("blocking"));
+      Assertions.assertTrue(blocked.await(10, TimeUnit.SECONDS));
+
+      RangerPolicy policy = newPolicy("policy");
+      CompletableFuture<Void> first = synchronizer.submitSave("policy", policy);
+      policy.setDescription("second");
+      CompletableFuture<Void> second = synchronizer.submitSave("policy", policy);
+      policy.setDescription("third");
+      CompletableFuture<Void> third = synchronizer.submitSave("policy", policy);
+      Assertions.assertSame(policy, synchronizer.currentPolicy("policy"));
+
+      release.countDown();
+      RangerPolicySynchronizer.await(Lists.newArrayList(blocking, first, second, third));
+
+      // The three mutations of the same policy are applied by a single create
+      verify(client, times(2)).createPolicy(any());
+      verify(client, never()).updatePolicy(anyLong(), any());
+      Assertions.assertEquals(2, synchronizer.coalescedMutations());
+      Assertions.assertEquals(2, synchronizer.appliedMutations());
+      Assertions.assertEquals(Long.valueOf(6L), policy.getId());
+
+      // The created policy is cached with its ID, so the next mutation updates it
+      Assertions.assertSame(policy, synchronizer.currentPolicy("policy"));
+      RangerPolicySynchronizer.await(
+          Lists.newArrayList(synchronizer.submitSave("policy", policy)));
+      verify(client).updatePolicy(6L, policy);
+    }
+  }
+
+  @Test
+  public void testRetryMutations() throws Exception {
+    RangerClientExtension client = mock(RangerClientExtension.class);
+    when(client.updatePolicy(anyLong(), any()))
+        .thenThrow(new RangerServiceException(new Exception("test")))
+        .thenThrow(new RangerServiceException(new Exception("test")))
+        .thenReturn(new RangerPolicy());
+
+    try (RangerPolicySynchronizer synchronizer =
+        new RangerPolicySynchronizer(() -> client, 2, 2, 1, 60_000)) {
+      RangerPolicy policy = newPolicy("policy");
+      policy.setId(1L);
+      RangerPolicySynchronizer.await(
+          Lists.newArrayList(synchronizer.submitSave("policy", policy)));
+      verify(client, times(3)).updatePolicy(1L, policy);
+      Assertions.assertSame(policy, synchronizer.currentPolicy("policy"));
+
+      // The failed policy is dropped from the cache, and the failure is reported to the caller
+      RangerPolicy failed = newPolicy("failed");
+      when(client.createPolicy(any()))
+          .thenThrow(new RangerServiceException(new Exception("test")));
+      CompletableFuture<Void> future = synchronizer.submitSave("failed", failed);
+      Assertions.assertThrows(
+          AuthorizationPluginException.class,
+          () -> RangerPolicySynchronizer.await(Lists.newArrayList(future)));
+      verify(client, times(3)).createPolicy(failed);
+      Assertions.assertNull(synchronizer.currentPolicy("failed"));
+    }
+  }
+
+  @Test
+  public void testModifyPolicyWhileRetrying() throws Exception {
+    RangerClientExtension client = mock(RangerClientExtension.class);
+    CountDownLatch failed = new CountDownLatch(1);
+    when(client.updatePolicy(anyLong(), any()))
+        .thenAnswer(
+            invocation -> {
+              failed.countDown();
+              throw new RangerServiceException(new Exception("test"));
+            })
+        .thenReturn(new RangerPolicy());
+
+    try (RangerPolicySynchronizer synchronizer =
+        new RangerPolicySynchronizer(() -> client, 1, 1, 500, 0)) {
+      RangerPolicy policy = newPolicy("policy");
+      policy.setId(1L);
+      CompletableFuture<Void> first = synchronizer.submitSave("policy", policy);
+      Assertions.assertTrue(failed.await(10, TimeUnit.SECONDS));
+
+      // The lock is released while backing off, and the policy modified meanwhile is coalesced
+      // into the mutation being retried
+      Lock lock = synchronizer.policyLock("policy");
+      Assertions.assertTrue(lock.tryLock(400, TimeUnit.MILLISECONDS));
+      CompletableFuture<Void> second;
+      try {
+        RangerPolicy current = synchronizer.currentPolicy("policy");
+        Assertions.assertSame(policy, current);
+        current.setDescription("second");
+        second = synchronizer.submitSave("policy", current);
+      } finally {
+        lock.unlock();
+      }
+
+      RangerPolicySynchronizer.await(Lists.newArrayList(first, second));
+      verify(client, times(2)).updatePolicy(1L, policy);
+      Assertions.assertEquals(1, synchronizer.coalescedMutations());
+      Assertions.assertEquals(1, synchronizer.appliedMutations());
+      Assertions.assertNull(synchronizer.currentPolicy("policy"));
+    }
+  }
+
+  @Test
+  public void testPolicyCache() throws Exception {
+    RangerClientExtension client = mock(RangerClientExtension.class);
+    try (RangerPolicySynchronizer synchronizer =
+        new RangerPolicySynchronizer(() -> client, 1, 0, 0, 60_000)) {
+      RangerPolicy policy = newPolicy("policy");
+      policy.setId(1L);
+      synchronizer.cachePolicy("policy", policy);
+      Assertions.assertSame(policy, synchronizer.currentPolicy("policy"));
+
+      RangerPolicySynchronizer.await(
+          Lists.newArrayList(synchronizer.submitDelete("policy", policy)));
+      verify(client).deletePolicy(1L);
+      Assertions.assertNull(synchronizer.currentPolicy("policy"));
+
+      synchronizer.cachePolicy("policy", policy);
+      synchronizer.invalidateAll();
+      Assertions.assertNull(synchronizer.currentPolicy("policy"));
+    }
+
+    // The policies are not cached if the cache TTL is 0
+    try (RangerPolicySynchronizer synchronizer =
+        new RangerPolicySynchronizer(() -> client, 1, 0, 0, 0)) {
+      synchronizer.cachePolicy("policy", newPolicy("policy"));
+      Assertions.assertNull(synchronizer.currentPolicy("policy"));
+    }
+  }
+
+  private static RangerPolicy newPolicy(String name) {
+    RangerPolicy policy = new RangerPolicy();
+    policy.setName(name);
+    return policy;
+  }
+}
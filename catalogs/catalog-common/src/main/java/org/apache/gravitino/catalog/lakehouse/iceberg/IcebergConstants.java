@@ -75,6 +75,17 @@ public class IcebergConstants {
   public static final String ICEBERG_REST_CATALOG_CACHE_EVICTION_INTERVAL =
       "catalog-cache-eviction-interval-ms";
 
+  public static final String ICEBERG_REST_SCAN_PLANNING_THREADS = "scan-planning-threads";
+  public static final String ICEBERG_REST_SCAN_PLANNING_PAGE_SIZE = "scan-planning-page-size";
+  public static final String ICEBERG_REST_SCAN_PLAN_EXPIRATION = "scan-plan-expiration-ms";
+  public static final String ICEBERG_REST_SCAN_PLAN_MAX_TOTAL_TASKS = "scan-plan-max-total-tasks";
+  public static final String ICEBERG_REST_MANIFEST_CACHE_MAX_TOTAL_BYTES =
+      "manifest-cache-max-total-bytes";
+  public static final String ICEBERG_REST_MANIFEST_CACHE_MAX_CONTENT_LENGTH =
+      "manifest-cache-max-content-length";
+
+  public static final String ICEBERG_REST_COMMIT_COALESCING_ENABLED = "commit-coalescing-enabled";
+
   public static final String ICEBERG_REST_CATALOG_CONFIG_PROVIDER = "catalog-config-provider";
   public static final String STATIC_ICEBERG_CATALOG_CONFIG_PROVIDER_NAME = "static-config-provider";
   public static final String DYNAMIC_ICEBERG_CATALOG_CONFIG_PROVIDER_NAME =
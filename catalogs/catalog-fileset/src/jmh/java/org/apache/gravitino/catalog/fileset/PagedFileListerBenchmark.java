@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.fileset;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.apache.gravitino.dto.file.FileInfoDTO;
+import org.apache.gravitino.file.FileInfo;
+import org.apache.gravitino.file.FileInfoPage;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * PagedFileListerBenchmark benchmarks listing all the files of a large local directory with the
+ * {@link PagedFileLister} against listing them at once.
+ *
+ * <p>It includes three benchmark methods:
+ *
+ * <ul>
+ *   <li>{@code benchmarkListAtOnce}: Lists the directory with a single {@link
+ *       FileSystem#listStatus(Path)} into an array, as the files are listed without paging.
+ *   <li>{@code benchmarkListPages}: Lists the directory page by page, every page continues the
+ *       listing cursor kept by the lister.
+ *   <li>{@code benchmarkListPagesWithoutCursor}: Lists the directory page by page with a new lister
+ *       for every page, as if every page is served by another server, so the listing restarts and
+ *       skips the files before the page.
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class PagedFileListerBenchmark {
+  private static final long CURSOR_EXPIRE_MS = 60_000L;
+  private static final long MAX_CURSORS = 100L;
+
+  @Param({"10000", "100000"})
+  public int fileCnt;
+
+  @Param({"1000"})
+  public int pageSize;
+
+  private java.nio.file.Path dir;
+  private FileSystem fs;
+  private Path path;
+  private PagedFileLister lister;
+  private Function<FileStatus, FileInfo> converter;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    this.dir = Files.createTempDirectory("paged-file-lister-benchmark");
+    for (int i = 0; i < fileCnt; i++) {
+      Files.createFile(dir.resolve("file-" + i));
+    }
+
+    this.fs = FileSystem.getLocal(new Configuration()).getRawFileSystem();
+    this.path = new Path(dir.toUri());
+    this.lister = new PagedFileLister(CURSOR_EXPIRE_MS, MAX_CURSORS);
+    this.converter =
+        status ->
+            FileInfoDTO.builder()
+                .name(status.getPath().getName())
+                .isDir(status.isDirectory())
+                .size(status.isDirectory() ? 0L : status.getLen())
+                .lastModified(status.getModificationTime())
+                .path(status.getPath().toString())
+                .build();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    lister.close();
+    try (Stream<java.nio.file.Path> files = Files.walk(dir)) {
+      files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+    }
+  }
+
+  @Benchmark
+  public void benchmarkListAtOnce(Blackhole blackhole) throws IOException {
+    for (FileStatus status : fs.listStatus(path)) {
+      blackhole.consume(converter.apply(status));
+    }
+  }
+
+  @Benchmark
+  public void benchmarkListPages(Blackhole blackhole) throws IOException {
+    String pageToken = null;
+    do {
+      FileInfoPage page = lister.list(fs, path, false, pageToken, pageSize, converter);
+      blackhole.consume(page.files());
+      pageToken = page.nextPageToken();
+    } while (pageToken != null);
+  }
+
+  @Benchmark
+  public void benchmarkListPagesWithoutCursor(Blackhole blackhole) throws IOException {
+    String pageToken = null;
+    do {
+      try (PagedFileLister pageLister = new PagedFileLister(CURSOR_EXPIRE_MS, MAX_CURSORS)) {
+        FileInfoPage page = pageLister.list(fs, path, false, pageToken, pageSize, converter);
+        blackhole.consume(page.files());
+        pageToken = page.nextPageToken();
+      }
+    } while (pageToken != null);
+  }
+}
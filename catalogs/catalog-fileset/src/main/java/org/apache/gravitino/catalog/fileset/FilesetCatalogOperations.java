@@ -83,6 +83,7 @@ import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.exceptions.NonEmptySchemaException;
 import org.apache.gravitino.exceptions.SchemaAlreadyExistsException;
 import org.apache.gravitino.file.FileInfo;
+import org.apache.gravitino.file.FileInfoPage;
 import org.apache.gravitino.file.Fileset;
 import org.apache.gravitino.file.FilesetCatalog;
 import org.apache.gravitino.file.FilesetChange;
@@ -106,6 +107,9 @@ public class FilesetCatalogOperations extends ManagedSchemaOperations
   private static final String SCHEMA_DOES_NOT_EXIST_MSG = "Schema %s does not exist";
   private static final String FILESET_DOES_NOT_EXIST_MSG = "Fileset %s does not exist";
   private static final String SLASH = "/";
+  // The listing cursors of the paged listFiles are dropped if no page is listed in 5 minutes
+  private static final long LISTING_CURSOR_EXPIRE_MS = TimeUnit.MINUTES.toMillis(5);
+  private static final long MAX_LISTING_CURSORS = 1000;
 
   // location placeholder pattern format: {{placeholder}}
   private static final Pattern LOCATION_PLACEHOLDER_PATTERN = Pattern.compile("\\{\\{(.*?)\\}\\}");
@@ -131,6 +135,8 @@ public class FilesetCatalogOperations extends ManagedSchemaOperations
 
   @VisibleForTesting ScheduledThreadPoolExecutor scheduler;
   @VisibleForTesting Cache<FileSystemCacheKey, FileSystem> fileSystemCache;
+  private final PagedFileLister pagedFileLister =
+      new PagedFileLister(LISTING_CURSOR_EXPIRE_MS, MAX_LISTING_CURSORS);
 
   FilesetCatalogOperations(EntityStore store) {
     this.store = store;
@@ -345,6 +351,74 @@ public class FilesetCatalogOperations extends ManagedSchemaOperations
     }
   }
 
+  @Override
+  public FileInfoPage listFiles(
+      NameIdentifier filesetIdent,
+      String locationName,
+      String subPath,
+      boolean recursive,
+      String pageToken,
+      int pageSize)
+      throws NoSuchFilesetException, IOException {
+    if (disableFSOps) {
+      LOG.warn("Filesystem operations disabled, rejecting listFiles for {}", filesetIdent);
+      throw new UnsupportedOperationException("Filesystem operations are disabled on this server");
+    }
+
+    String actualPath = getFileLocation(filesetIdent, subPath, locationName);
+
+    FileSystem fileSystem = getFileSystemWithCache(new Path(actualPath), conf);
+    Path formalizedPath =
+        new Path(actualPath).makeQualified(fileSystem.getUri(), fileSystem.getWorkingDirectory());
+
+    FileSystem fs = getFileSystemWithCache(formalizedPath, conf);
+    // Only check the existence for the first page, the listing fails anyway if the path is
+    // deleted between two pages
+    if (pageToken == null && !fs.exists(formalizedPath)) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Path %s does not exist in fileset %s", formalizedPath.toString(), filesetIdent));
+    }
+
+    String catalogName = filesetIdent.namespace().level(1);
+    String schemaName = filesetIdent.namespace().level(2);
+    String filesetName = filesetIdent.name();
+    String listedPath = formalizedPath.toUri().getPath();
+
+    try {
+      return pagedFileLister.list(
+          fs,
+          formalizedPath,
+          recursive,
+          pageToken,
+          pageSize,
+          status -> {
+            // The path of the file relative to the listed path, it's the file name unless the
+            // files are listed recursively
+            String filePath = status.getPath().toUri().getPath();
+            String relativePath =
+                filePath.startsWith(listedPath)
+                    ? removeLeadingSlash(filePath.substring(listedPath.length()))
+                    : status.getPath().getName();
+            // The relative path is empty if the sub path is a file rather than a directory
+            String fileSubPath =
+                relativePath.isEmpty()
+                    ? subPath
+                    : ensureTrailingSlash(StringUtils.defaultString(subPath)) + relativePath;
+            return FileInfoDTO.builder()
+                .name(status.getPath().getName())
+                .isDir(status.isDirectory())
+                .size(status.isDirectory() ? 0L : status.getLen())
+                .lastModified(status.getModificationTime())
+                .path(buildGVFSFilePath(catalogName, schemaName, filesetName, fileSubPath))
+                .build();
+          });
+
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to list files in fileset" + filesetIdent, e);
+    }
+  }
+
   @Override
   public Fileset createMultipleLocationFileset(
       NameIdentifier ident,
@@ -964,7 +1038,7 @@ public class FilesetCatalogOperations extends ManagedSchemaOperations
 
   @Override
   public void close() throws IOException {
-    // do nothing
+    pagedFileLister.close();
     if (scheduler != null) {
       scheduler.shutdownNow();
     }
@@ -1134,6 +1208,10 @@ public class FilesetCatalogOperations extends ManagedSchemaOperations
     return path.startsWith(SLASH) ? path : SLASH + path;
   }
 
+  private String removeLeadingSlash(String path) {
+    return path.startsWith(SLASH) ? path.substring(1) : path;
+  }
+
   private FilesetEntity updateFilesetEntity(
       NameIdentifier ident, FilesetEntity filesetEntity, FilesetChange... changes) {
     Map<String, String> props =
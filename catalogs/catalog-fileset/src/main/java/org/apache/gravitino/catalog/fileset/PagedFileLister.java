@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.fileset;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.apache.gravitino.file.FileInfo;
+import org.apache.gravitino.file.FileInfoPage;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.RemoteIterator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Lists the files under a path page by page with {@link FileSystem#listStatusIterator(Path)} or
+ * {@link FileSystem#listFiles(Path, boolean)}, so that a huge directory is never listed into
+ * memory all at once.
+ *
+ * <p>The page token is formatted as "{cursor id}:{offset}". The listing iterator is kept in memory
+ * between two pages, so the next page continues the listing where the previous page ends. If the
+ * iterator has expired, or the next page is served by another server, the listing is restarted
+ * and the files before the offset are skipped.
+ */
+class PagedFileLister implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(PagedFileLister.class);
+
+  private static final String TOKEN_SEPARATOR = ":";
+
+  private final Cache<String, ListingCursor> cursors;
+
+  PagedFileLister(long cursorExpireMs, long maxCursors) {
+    this.cursors =
+        Caffeine.newBuilder()
+            .expireAfterAccess(cursorExpireMs, TimeUnit.MILLISECONDS)
+            .maximumSize(maxCursors)
+            .removalListener(
+                (String id, ListingCursor cursor, RemovalCause cause) -> {
+                  // The cursors are removed explicitly while a page is listed
+                  if (cause.wasEvicted() && cursor != null) {
+                    cursor.close();
+                  }
+                })
+            .build();
+  }
+
+  /**
+   * Lists a page of the files under the path.
+   *
+   * @param fs The file system of the path.
+   * @param path The path to list.
+   * @param recursive Whether to list the files under the sub directories recursively, only the
+   *     files are listed if it is true.
+   * @param pageToken The token returned with the previous page, or null to list the first page.
+   * @param pageSize The max number of files in the page.
+   * @param converter The function to convert the file status to the file info.
+   * @return A page of the files.
+   * @throws IOException If failed to list the files.
+   */
+  FileInfoPage list(
+      FileSystem fs,
+      Path path,
+      boolean recursive,
+      String pageToken,
+      int pageSize,
+      Function<FileStatus, FileInfo> converter)
+      throws IOException {
+    Preconditions.checkArgument(pageSize > 0, "The page size must be positive");
+    String listingKey = path + TOKEN_SEPARATOR + recursive;
+
+    String cursorId;
+    long offset;
+    ListingCursor cursor = null;
+    if (pageToken == null) {
+      cursorId = UUID.randomUUID().toString();
+      offset = 0;
+    } else {
+      int separator = pageToken.lastIndexOf(TOKEN_SEPARATOR);
+      Preconditions.checkArgument(separator > 0, "Invalid page token: %s", pageToken);
+      cursorId = pageToken.substring(0, separator);
+      try {
+        offset = Long.parseLong(pageToken.substring(separator + 1));
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException("Invalid page token: " + pageToken, e);
+      }
+      Preconditions.checkArgument(offset >= 0, "Invalid page token: %s", pageToken);
+      // Take the cursor, so that it is not used by the concurrent requests with the same token
+      cursor = cursors.asMap().remove(cursorId);
+    }
+
+    if (cursor == null || cursor.offset != offset || !cursor.listingKey.equals(listingKey)) {
+      if (cursor != null) {
+        cursor.close();
+      }
+      cursor = new ListingCursor(listingKey, listIterator(fs, path, recursive));
+      cursor.skip(offset);
+    }
+
+    List<FileInfo> files = new ArrayList<>(Math.min(pageSize, 1024));
+    while (files.size() < pageSize && cursor.iterator.hasNext()) {
+      files.add(converter.apply(cursor.iterator.next()));
+      cursor.offset++;
+    }
+
+    String nextPageToken = null;
+    if (cursor.iterator.hasNext()) {
+      nextPageToken = cursorId + TOKEN_SEPARATOR + cursor.offset;
+      cursors.put(cursorId, cursor);
+    } else {
+      cursor.close();
+    }
+    return new FileInfoPage(files.toArray(new FileInfo[0]), nextPageToken);
+  }
+
+  @VisibleForTesting
+  long cursorCount() {
+    cursors.cleanUp();
+    return cursors.estimatedSize();
+  }
+
+  @Override
+  public void close() {
+    cursors.asMap().values().forEach(ListingCursor::close);
+    cursors.invalidateAll();
+  }
+
+  private static RemoteIterator<? extends FileStatus> listIterator(
+      FileSystem fs, Path path, boolean recursive) throws IOException {
+    return recursive ? fs.listFiles(path, true) : fs.listStatusIterator(path);
+  }
+
+  private static class ListingCursor {
+    private final String listingKey;
+    private final RemoteIterator<? extends FileStatus> iterator;
+    private long offset;
+
+    private ListingCursor(String listingKey, RemoteIterator<? extends FileStatus> iterator) {
+      this.listingKey = listingKey;
+      this.iterator = iterator;
+    }
+
+    private void skip(long count) throws IOException {
+      while (offset < count && iterator.hasNext()) {
+        iterator.next();
+        offset++;
+      }
+    }
+
+    private void close() {
+      // Some remote iterators, such as the S3A listing, hold the resources until they are closed
+      if (iterator instanceof Closeable) {
+        try {
+          ((Closeable) iterator).close();
+        } catch (IOException e) {
+          LOG.warn("Failed to close the file listing iterator", e);
+        }
+      }
+    }
+  }
+}
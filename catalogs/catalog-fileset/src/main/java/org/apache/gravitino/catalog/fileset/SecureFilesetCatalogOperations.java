@@ -60,6 +60,7 @@ import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.exceptions.NonEmptySchemaException;
 import org.apache.gravitino.exceptions.SchemaAlreadyExistsException;
 import org.apache.gravitino.file.FileInfo;
+import org.apache.gravitino.file.FileInfoPage;
 import org.apache.gravitino.file.Fileset;
 import org.apache.gravitino.file.FilesetCatalog;
 import org.apache.gravitino.file.FilesetChange;
@@ -253,6 +254,19 @@ public class SecureFilesetCatalogOperations
     return filesetCatalogOperations.listFiles(ident, locationName, subPath);
   }
 
+  @Override
+  public FileInfoPage listFiles(
+      NameIdentifier ident,
+      String locationName,
+      String subPath,
+      boolean recursive,
+      String pageToken,
+      int pageSize)
+      throws NoSuchFilesetException, IOException {
+    return filesetCatalogOperations.listFiles(
+        ident, locationName, subPath, recursive, pageToken, pageSize);
+  }
+
   @Override
   public Fileset loadFileset(NameIdentifier ident) throws NoSuchFilesetException {
     return filesetCatalogOperations.loadFileset(ident);
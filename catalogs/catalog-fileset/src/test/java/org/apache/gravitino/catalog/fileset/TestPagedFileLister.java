@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.fileset;
+
+import com.google.common.collect.ImmutableSet;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+import org.apache.gravitino.dto.file.FileInfoDTO;
+import org.apache.gravitino.file.FileInfo;
+import org.apache.gravitino.file.FileInfoPage;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestPagedFileLister {
+
+  private static final Function<FileStatus, FileInfo> CONVERTER =
+      status ->
+          FileInfoDTO.builder()
+              .name(status.getPath().getName())
+              .isDir(status.isDirectory())
+              .size(status.getLen())
+              .lastModified(status.getModificationTime())
+              .path(status.getPath().toString())
+              .build();
+
+  @TempDir private File tempDir;
+
+  private FileSystem fs;
+  private Path root;
+  private PagedFileLister lister;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    fs = FileSystem.getLocal(new Configuration());
+    root = new Path(tempDir.toURI());
+    for (int i = 0; i < 5; i++) {
+      Files.createFile(new File(tempDir, "file" + i).toPath());
+    }
+    File subDir = new File(tempDir, "dir");
+    Files.createDirectory(subDir.toPath());
+    for (int i = 0; i < 3; i++) {
+      Files.createFile(new File(subDir, "nested" + i).toPath());
+    }
+    lister = new PagedFileLister(60_000, 100);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    lister.close();
+  }
+
+  @Test
+  public void testListPages() throws IOException {
+    Set<String> names = new HashSet<>();
+    FileInfoPage page = lister.list(fs, root, false, null, 2, CONVERTER);
+    int pages = 1;
+    collect(page, names);
+    while (page.nextPageToken() != null) {
+      Assertions.assertEquals(2, page.files().length);
+      Assertions.assertEquals(1, lister.cursorCount());
+      page = lister.list(fs, root, false, page.nextPageToken(), 2, CONVERTER);
+      collect(page, names);
+      pages++;
+    }
+
+    Assertions.assertEquals(3, pages);
+    Assertions.assertEquals(
+        ImmutableSet.of("file0", "file1", "file2", "file3", "file4", "dir"), names);
+    // The cursor is released once the listing reaches the end
+    Assertions.assertEquals(0, lister.cursorCount());
+  }
+
+  @Test
+  public void testListRecursively() throws IOException {
+    Set<String> names = new HashSet<>();
+    String pageToken = null;
+    do {
+      FileInfoPage page = lister.list(fs, root, true, pageToken, 3, CONVERTER);
+      collect(page, names);
+      pageToken = page.nextPageToken();
+    } while (pageToken != null);
+
+    Assertions.assertEquals(
+        ImmutableSet.of(
+            "file0", "file1", "file2", "file3", "file4", "nested0", "nested1", "nested2"),
+        names);
+  }
+
+  @Test
+  public void testResumeWithoutCursor() throws IOException {
+    Set<String> names = new HashSet<>();
+    FileInfoPage page = lister.list(fs, root, true, null, 5, CONVERTER);
+    collect(page, names);
+    Assertions.assertNotNull(page.nextPageToken());
+
+    // The next page is served by another lister which does not hold the cursor, e.g. another
+    // server, the listing is restarted and the listed files are skipped.
+    try (PagedFileLister another = new PagedFileLister(60_000, 100)) {
+      page = another.list(fs, root, true, page.nextPageToken(), 5, CONVERTER);
+      collect(page, names);
+      Assertions.assertNull(page.nextPageToken());
+      Assertions.assertEquals(0, another.cursorCount());
+    }
+
+    Assertions.assertEquals(8, names.size());
+  }
+
+  @Test
+  public void testInvalidPageToken() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> lister.list(fs, root, false, "invalid", 2, CONVERTER));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> lister.list(fs, root, false, "cursor:abc", 2, CONVERTER));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> lister.list(fs, root, false, null, 0, CONVERTER));
+  }
+
+  private static void collect(FileInfoPage page, Set<String> names) {
+    for (FileInfo file : page.files()) {
+      names.add(file.name());
+    }
+  }
+}
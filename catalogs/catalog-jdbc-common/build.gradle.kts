@@ -44,6 +44,7 @@ dependencies {
   implementation(project(":core"))
 
   implementation(libs.bundles.log4j)
+  implementation(libs.caffeine)
   implementation(libs.commons.collections4)
   implementation(libs.commons.dbcp2)
   implementation(libs.commons.lang3)
@@ -20,6 +20,8 @@ package org.apache.gravitino.catalog.jdbc;
 
 import static org.apache.gravitino.connector.BaseCatalog.CATALOG_BYPASS_PREFIX;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Maps;
 import java.sql.Connection;
@@ -34,9 +36,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.sql.DataSource;
+import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.NameIdentifier;
@@ -101,6 +105,9 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
 
   private final JdbcColumnDefaultValueConverter columnDefaultValueConverter;
 
+  // Short-lived cache of the tables loaded from the JDBC data store, null if it is disabled.
+  private Cache<NameIdentifier, JdbcTable> tableCache;
+
   public static class JDBCDriverInfo {
     public String name;
     public String version;
@@ -167,6 +174,13 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
     this.dataSource = DataSourceUtils.createDataSource(jdbcConfig);
 
     checkJDBCDriverVersion();
+    if (jdbcConfig.getTableCacheTtlMs() > 0) {
+      this.tableCache =
+          Caffeine.newBuilder()
+              .expireAfterWrite(jdbcConfig.getTableCacheTtlMs(), TimeUnit.MILLISECONDS)
+              .maximumSize(jdbcConfig.getTableCacheMaxSize())
+              .build();
+    }
     this.databaseOperation.initialize(dataSource, exceptionConverter, resultConf);
     this.tableOperation.initialize(
         dataSource, exceptionConverter, jdbcTypeConverter, columnDefaultValueConverter, resultConf);
@@ -175,6 +189,9 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
   /** Closes the Jdbc catalog and releases the associated client pool. */
   @Override
   public void close() {
+    if (tableCache != null) {
+      tableCache.invalidateAll();
+    }
     DataSourceUtils.closeDataSource(dataSource);
   }
 
@@ -299,7 +316,13 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
    */
   @Override
   public boolean dropSchema(NameIdentifier ident, boolean cascade) throws NonEmptySchemaException {
-    return databaseOperation.delete(ident.name(), cascade);
+    boolean dropped = databaseOperation.delete(ident.name(), cascade);
+    if (tableCache != null) {
+      Namespace tableNamespace =
+          Namespace.of(ArrayUtils.add(ident.namespace().levels(), ident.name()));
+      tableCache.asMap().keySet().removeIf(table -> table.namespace().equals(tableNamespace));
+    }
+    return dropped;
   }
 
   /**
@@ -328,7 +351,37 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
   public Table loadTable(NameIdentifier tableIdent) throws NoSuchTableException {
     String databaseName = NameIdentifier.of(tableIdent.namespace().levels()).name();
     String tableName = tableIdent.name();
-    JdbcTable load = tableOperation.load(databaseName, tableName);
+    JdbcTable load =
+        tableCache == null
+            ? tableOperation.load(databaseName, tableName)
+            : tableCache.get(tableIdent, ident -> tableOperation.load(databaseName, tableName));
+    return toGravitinoTable(databaseName, load);
+  }
+
+  /**
+   * Loads all the tables under the specified namespace with a few set-based queries instead of one
+   * round of metadata queries per table. The loaded tables are put into the table cache if it is
+   * enabled.
+   *
+   * @param namespace The namespace to load tables for.
+   * @return The loaded JdbcTable instances.
+   * @throws NoSuchSchemaException If the schema with the provided namespace does not exist.
+   */
+  public List<Table> loadTables(Namespace namespace) throws NoSuchSchemaException {
+    String databaseName = NameIdentifier.of(namespace.levels()).name();
+    return tableOperation.loadTables(databaseName, null).stream()
+        .map(
+            load -> {
+              if (tableCache != null) {
+                tableCache.put(NameIdentifier.of(namespace, load.name()), load);
+              }
+              return toGravitinoTable(databaseName, load);
+            })
+        .collect(Collectors.toList());
+  }
+
+  private Table toGravitinoTable(String databaseName, JdbcTable load) {
+    String tableName = load.name();
     Map<String, String> properties =
         load.properties() == null
             ? Maps.newHashMap()
@@ -400,7 +453,9 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
   @Override
   public boolean dropTable(NameIdentifier tableIdent) {
     String databaseName = NameIdentifier.of(tableIdent.namespace().levels()).name();
-    return tableOperation.drop(databaseName, tableIdent.name());
+    boolean dropped = tableOperation.drop(databaseName, tableIdent.name());
+    invalidateTable(tableIdent);
+    return dropped;
   }
 
   /**
@@ -462,6 +517,7 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
         partitioning,
         distribution,
         indexes);
+    invalidateTable(tableIdent);
 
     return JdbcTable.builder()
         .withAuditInfo(
@@ -487,7 +543,9 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
   @Override
   public boolean purgeTable(NameIdentifier tableIdent) throws UnsupportedOperationException {
     String databaseName = NameIdentifier.of(tableIdent.namespace().levels()).name();
-    return tableOperation.purge(databaseName, tableIdent.name());
+    boolean purged = tableOperation.purge(databaseName, tableIdent.name());
+    invalidateTable(tableIdent);
+    return purged;
   }
 
   /**
@@ -503,6 +561,7 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
       throws NoSuchTableException, IllegalArgumentException {
     String databaseName = NameIdentifier.of(tableIdent.namespace().levels()).name();
     tableOperation.rename(databaseName, tableIdent.name(), renameTable.getNewName());
+    invalidateTable(tableIdent);
     return loadTable(NameIdentifier.of(tableIdent.namespace(), renameTable.getNewName()));
   }
 
@@ -532,6 +591,7 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
     String databaseName = NameIdentifier.of(tableIdent.namespace().levels()).name();
     TableChange[] resultChanges = replaceJdbcProperties(changes);
     tableOperation.alterTable(databaseName, tableIdent.name(), resultChanges);
+    invalidateTable(tableIdent);
     return loadTable(tableIdent);
   }
 
@@ -562,6 +622,12 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
         .toArray(TableChange[]::new);
   }
 
+  private void invalidateTable(NameIdentifier tableIdent) {
+    if (tableCache != null) {
+      tableCache.invalidate(tableIdent);
+    }
+  }
+
   private static String currentUser() {
     return PrincipalUtils.getCurrentUserName();
   }
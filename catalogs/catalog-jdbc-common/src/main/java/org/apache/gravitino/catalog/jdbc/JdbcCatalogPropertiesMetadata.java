@@ -20,6 +20,7 @@ package org.apache.gravitino.catalog.jdbc;
 
 import static org.apache.gravitino.connector.PropertyEntry.booleanPropertyEntry;
 import static org.apache.gravitino.connector.PropertyEntry.integerPropertyEntry;
+import static org.apache.gravitino.connector.PropertyEntry.longPropertyEntry;
 import static org.apache.gravitino.connector.PropertyEntry.stringOptionalPropertyEntry;
 import static org.apache.gravitino.connector.PropertyEntry.stringPropertyEntry;
 
@@ -44,7 +45,9 @@ public class JdbcCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadata
           JdbcConfig.PASSWORD.getKey(),
           JdbcConfig.POOL_MIN_SIZE.getKey(),
           JdbcConfig.POOL_MAX_SIZE.getKey(),
-          JdbcConfig.TEST_ON_BORROW.getKey());
+          JdbcConfig.TEST_ON_BORROW.getKey(),
+          JdbcConfig.TABLE_CACHE_TTL_MS.getKey(),
+          JdbcConfig.TABLE_CACHE_MAX_SIZE.getKey());
 
   static {
     List<PropertyEntry<?>> propertyEntries =
@@ -110,6 +113,22 @@ public class JdbcCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadata
                 false /* immutable */,
                 JdbcConfig.TEST_ON_BORROW.getDefaultValue(),
                 true /* hidden */,
+                false /* reserved */),
+            longPropertyEntry(
+                JdbcConfig.TABLE_CACHE_TTL_MS.getKey(),
+                JdbcConfig.TABLE_CACHE_TTL_MS.getDoc(),
+                false /* required */,
+                false /* immutable */,
+                JdbcConfig.TABLE_CACHE_TTL_MS.getDefaultValue(),
+                false /* hidden */,
+                false /* reserved */),
+            integerPropertyEntry(
+                JdbcConfig.TABLE_CACHE_MAX_SIZE.getKey(),
+                JdbcConfig.TABLE_CACHE_MAX_SIZE.getDoc(),
+                false /* required */,
+                false /* immutable */,
+                JdbcConfig.TABLE_CACHE_MAX_SIZE.getDefaultValue(),
+                false /* hidden */,
                 false /* reserved */));
     PROPERTIES_METADATA =
         ImmutableMap.<String, PropertyEntry<?>>builder()
@@ -92,6 +92,24 @@ public class JdbcConfig extends Config {
           .booleanConf()
           .createWithDefault(true);
 
+  public static final ConfigEntry<Long> TABLE_CACHE_TTL_MS =
+      new ConfigBuilder("jdbc.table-cache.ttl-ms")
+          .doc(
+              "The time in milliseconds that a loaded table is cached by the catalog, 0 disables"
+                  + " the table cache")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0L);
+
+  public static final ConfigEntry<Integer> TABLE_CACHE_MAX_SIZE =
+      new ConfigBuilder("jdbc.table-cache.max-size")
+          .doc("The maximum number of tables cached by the catalog")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(10000);
+
   public String getJdbcUrl() {
     return get(JDBC_URL);
   }
@@ -124,6 +142,14 @@ public class JdbcConfig extends Config {
     return get(TEST_ON_BORROW);
   }
 
+  public long getTableCacheTtlMs() {
+    return get(TABLE_CACHE_TTL_MS);
+  }
+
+  public int getTableCacheMaxSize() {
+    return get(TABLE_CACHE_MAX_SIZE);
+  }
+
   public JdbcConfig(Map<String, String> properties) {
     super(false);
     loadFromMap(properties, k -> true);
@@ -22,12 +22,16 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -82,6 +86,8 @@ public abstract class JdbcTableOperations implements TableOperation {
 
   protected JdbcColumnDefaultValueConverter columnDefaultValueConverter;
 
+  private volatile String driverVersion;
+
   @Override
   public void initialize(
       DataSource dataSource,
@@ -194,55 +200,382 @@ public abstract class JdbcTableOperations implements TableOperation {
 
   @Override
   public JdbcTable load(String databaseName, String tableName) throws NoSuchTableException {
+    if (supportsBatchLoad()) {
+      return loadTables(databaseName, Collections.singletonList(tableName)).stream()
+          .findFirst()
+          .orElseThrow(
+              () ->
+                  new NoSuchTableException(
+                      "Table %s does not exist in %s.", tableName, databaseName));
+    }
+
+    try (Connection connection = getConnection(databaseName)) {
+      return loadTable(connection, databaseName, tableName);
+    } catch (SQLException e) {
+      throw exceptionMapper.toGravitinoException(e);
+    }
+  }
+
+  /**
+   * Loads the given tables of a database. When the catalog {@link #supportsBatchLoad() supports
+   * batch loading}, the columns, indexes and properties of all the tables are fetched by a few
+   * set-based queries instead of a round of metadata calls per table; otherwise the tables are
+   * loaded one by one over a single connection.
+   *
+   * @param databaseName The name of the database.
+   * @param tableNames The names of the tables to load, or null to load all the tables in the
+   *     database.
+   * @return The loaded tables, tables that do not exist are skipped.
+   */
+  @Override
+  public List<JdbcTable> loadTables(String databaseName, List<String> tableNames) {
+    if (tableNames != null && tableNames.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    try (Connection connection = getConnection(databaseName)) {
+      if (!supportsBatchLoad()) {
+        List<String> names = tableNames == null ? listTables(databaseName) : tableNames;
+        List<JdbcTable> tables = new ArrayList<>(names.size());
+        for (String tableName : names) {
+          try {
+            tables.add(loadTable(connection, databaseName, tableName));
+          } catch (NoSuchTableException e) {
+            LOG.debug("Table {} in database {} no longer exists, skip it", tableName, databaseName);
+          }
+        }
+        return tables;
+      }
+
+      // 1. Get the basic table information, only the tables found here are loaded further.
+      Map<String, JdbcTable.Builder> builders =
+          getTableBuildersInBatch(connection, databaseName, tableNames);
+      if (builders.isEmpty()) {
+        return Collections.emptyList();
+      }
+      List<String> foundTables = new ArrayList<>(builders.keySet());
+      // Pass null to the following queries when loading the whole database, so that they are
+      // not restricted by a huge IN list.
+      List<String> filter = tableNames == null ? null : foundTables;
+
+      // 2. Get column, index and property information of all the tables.
+      Map<String, List<JdbcColumn>> columns = getColumnsInBatch(connection, databaseName, filter);
+      Map<String, List<Index>> indexes = getIndexesInBatch(connection, databaseName, filter);
+      Map<String, Map<String, String>> properties =
+          getTablePropertiesInBatch(connection, databaseName, filter);
+
+      // 3. Assemble the tables, partitioning and distribution are still resolved per table.
+      List<JdbcTable> tables = new ArrayList<>(foundTables.size());
+      for (String tableName : foundTables) {
+        JdbcTable.Builder builder = builders.get(tableName);
+        builder
+            .withColumns(
+                columns.getOrDefault(tableName, Collections.emptyList()).toArray(new JdbcColumn[0]))
+            .withIndexes(
+                indexes.getOrDefault(tableName, Collections.emptyList()).toArray(new Index[0]))
+            .withPartitioning(getTablePartitioning(connection, databaseName, tableName))
+            .withDistribution(getDistributionInfo(connection, databaseName, tableName))
+            .withProperties(properties.getOrDefault(tableName, Collections.emptyMap()));
+        correctJdbcTableFields(connection, databaseName, tableName, builder);
+        tables.add(builder.withTableOperation(this).build());
+      }
+      return tables;
+    } catch (SQLException e) {
+      throw exceptionMapper.toGravitinoException(e);
+    }
+  }
+
+  private JdbcTable loadTable(Connection connection, String databaseName, String tableName)
+      throws SQLException {
     // We should handle case sensitivity and wild card issue in some catalog tables, take MySQL
     // tables, for example.
     // 1. MySQL will get table 'a_b' and 'A_B' when we query 'a_b' in a case-insensitive charset
     // like utf8mb4.
     // 2. MySQL treats 'a_b' as a wildcard, matching any table name that begins with 'a', followed
     // by any character, and ending with 'b'.
-    try (Connection connection = getConnection(databaseName)) {
-      // 1. Get table information, The result of tables may be more than one due to the reason
-      // above, so we need to check the result.
-      ResultSet tables = getTable(connection, databaseName, tableName);
-      JdbcTable.Builder jdbcTableBuilder = getTableBuilder(tables, databaseName, tableName);
-
-      // 2.Get column information
-      List<JdbcColumn> jdbcColumns = new ArrayList<>();
-      // Get columns are wildcard sensitive, so we need to check the result.
-      ResultSet columns = getColumns(connection, databaseName, tableName);
-      while (columns.next()) {
-        // TODO(yunqing): check schema and catalog also
-        JdbcColumn.Builder columnBuilder = getColumnBuilder(columns, databaseName, tableName);
-        if (columnBuilder != null) {
-          boolean autoIncrement = getAutoIncrementInfo(columns);
-          columnBuilder.withAutoIncrement(autoIncrement);
-          jdbcColumns.add(columnBuilder.build());
+
+    // 1. Get table information, The result of tables may be more than one due to the reason
+    // above, so we need to check the result.
+    ResultSet tables = getTable(connection, databaseName, tableName);
+    JdbcTable.Builder jdbcTableBuilder = getTableBuilder(tables, databaseName, tableName);
+
+    // 2.Get column information
+    List<JdbcColumn> jdbcColumns = new ArrayList<>();
+    // Get columns are wildcard sensitive, so we need to check the result.
+    ResultSet columns = getColumns(connection, databaseName, tableName);
+    while (columns.next()) {
+      // TODO(yunqing): check schema and catalog also
+      JdbcColumn.Builder columnBuilder = getColumnBuilder(columns, databaseName, tableName);
+      if (columnBuilder != null) {
+        boolean autoIncrement = getAutoIncrementInfo(columns);
+        columnBuilder.withAutoIncrement(autoIncrement);
+        jdbcColumns.add(columnBuilder.build());
+      }
+    }
+    jdbcTableBuilder.withColumns(jdbcColumns.toArray(new JdbcColumn[0]));
+
+    // 3.Get index information
+    List<Index> indexes = getIndexes(connection, databaseName, tableName);
+    jdbcTableBuilder.withIndexes(indexes.toArray(new Index[0]));
+
+    // 4.Get partitioning
+    Transform[] tablePartitioning = getTablePartitioning(connection, databaseName, tableName);
+    jdbcTableBuilder.withPartitioning(tablePartitioning);
+
+    // 5.Get distribution information
+    Distribution distribution = getDistributionInfo(connection, databaseName, tableName);
+    jdbcTableBuilder.withDistribution(distribution);
+
+    // 6.Get table properties
+    Map<String, String> tableProperties = getTableProperties(connection, tableName);
+    jdbcTableBuilder.withProperties(tableProperties);
+
+    // 7.Leave the information to the bottom layer to append the table
+    correctJdbcTableFields(connection, databaseName, tableName, jdbcTableBuilder);
+
+    return jdbcTableBuilder.withTableOperation(this).build();
+  }
+
+  /**
+   * Whether the tables of this catalog can be loaded by the set-based queries of {@link
+   * #getTableBuildersInBatch}, {@link #getColumnsInBatch}, {@link #getIndexesInBatch} and {@link
+   * #getTablePropertiesInBatch}. Catalogs enabling it must make sure these methods return the same
+   * metadata as the per-table {@link DatabaseMetaData} based loading.
+   *
+   * @return true if batch loading is supported, false otherwise.
+   */
+  protected boolean supportsBatchLoad() {
+    return false;
+  }
+
+  /**
+   * Get the basic information of tables in one query. The default implementation of this method is
+   * based on the MySQL information_schema, and if the catalog does not compatible with MySQL, this
+   * method needs to be rewritten.
+   *
+   * @param connection jdbc connection
+   * @param databaseName The name of the database
+   * @param tableNames The names of the tables, or null for all the tables in the database
+   * @return The table builders keyed by table name, in the order of the table names
+   * @throws SQLException if a database access error occurs
+   */
+  protected Map<String, JdbcTable.Builder> getTableBuildersInBatch(
+      Connection connection, String databaseName, List<String> tableNames) throws SQLException {
+    String sql =
+        "SELECT TABLE_NAME, TABLE_COMMENT FROM information_schema.TABLES WHERE TABLE_SCHEMA = ?"
+            + (tableNames == null
+                ? " AND TABLE_TYPE = 'BASE TABLE'"
+                : inClause(" AND TABLE_NAME", tableNames.size()))
+            + " ORDER BY TABLE_NAME";
+    Set<String> expectedNames = tableNames == null ? null : new HashSet<>(tableNames);
+    Map<String, JdbcTable.Builder> builders = new LinkedHashMap<>();
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      statement.setString(1, databaseName);
+      bindTableNames(statement, 2, tableNames);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          String tableName = resultSet.getString("TABLE_NAME");
+          // Table names may be compared case-insensitively in the information_schema.
+          if (expectedNames == null || expectedNames.contains(tableName)) {
+            builders.put(
+                tableName,
+                JdbcTable.builder()
+                    .withName(tableName)
+                    .withComment(resultSet.getString("TABLE_COMMENT"))
+                    .withAuditInfo(AuditInfo.EMPTY)
+                    .withDatabaseName(databaseName));
+          }
+        }
+      }
+    }
+    return builders;
+  }
+
+  /**
+   * Get the columns of tables in one query. The default implementation of this method is based on
+   * the MySQL information_schema, and if the catalog does not compatible with MySQL, this method
+   * needs to be rewritten.
+   *
+   * @param connection jdbc connection
+   * @param databaseName The name of the database
+   * @param tableNames The names of the tables, or null for all the tables in the database
+   * @return The columns in ordinal order keyed by table name
+   * @throws SQLException if a database access error occurs
+   */
+  protected Map<String, List<JdbcColumn>> getColumnsInBatch(
+      Connection connection, String databaseName, List<String> tableNames) throws SQLException {
+    String sql =
+        "SELECT TABLE_NAME, COLUMN_NAME, DATA_TYPE, COLUMN_TYPE, CHARACTER_MAXIMUM_LENGTH,"
+            + " NUMERIC_PRECISION, NUMERIC_SCALE, DATETIME_PRECISION, IS_NULLABLE,"
+            + " COLUMN_DEFAULT, COLUMN_COMMENT, EXTRA"
+            + " FROM information_schema.COLUMNS WHERE TABLE_SCHEMA = ?"
+            + inClause(" AND TABLE_NAME", tableNames)
+            + " ORDER BY TABLE_NAME, ORDINAL_POSITION";
+    Map<String, List<JdbcColumn>> columns = new HashMap<>();
+    String tinyInt1TypeName = getTinyInt1TypeName(connection);
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      statement.setString(1, databaseName);
+      bindTableNames(statement, 2, tableNames);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          String tableName = resultSet.getString("TABLE_NAME");
+          JdbcTypeConverter.JdbcTypeBean typeBean = getTypeBean(resultSet, tinyInt1TypeName);
+          String extra = StringUtils.defaultString(resultSet.getString("EXTRA"));
+          JdbcColumn column =
+              buildJdbcColumn(
+                      resultSet.getString("COLUMN_NAME"),
+                      typeBean,
+                      resultSet.getString("COLUMN_COMMENT"),
+                      "YES".equalsIgnoreCase(resultSet.getString("IS_NULLABLE")),
+                      resultSet.getString("COLUMN_DEFAULT"),
+                      StringUtils.containsIgnoreCase(extra, "GENERATED"))
+                  .withAutoIncrement(StringUtils.containsIgnoreCase(extra, "auto_increment"))
+                  .build();
+          columns.computeIfAbsent(tableName, k -> new ArrayList<>()).add(column);
         }
       }
-      jdbcTableBuilder.withColumns(jdbcColumns.toArray(new JdbcColumn[0]));
+    }
+    return columns;
+  }
 
-      // 3.Get index information
-      List<Index> indexes = getIndexes(connection, databaseName, tableName);
-      jdbcTableBuilder.withIndexes(indexes.toArray(new Index[0]));
+  // Builds the type of an information_schema column the same way as MySQL Connector/J reports the
+  // TYPE_NAME and COLUMN_SIZE of DatabaseMetaData#getColumns, so that a column loaded in batch has
+  // the same type as the one loaded per table.
+  private JdbcTypeConverter.JdbcTypeBean getTypeBean(ResultSet column, String tinyInt1TypeName)
+      throws SQLException {
+    String dataType = StringUtils.upperCase(column.getString("DATA_TYPE"));
+    String columnType = StringUtils.lowerCase(column.getString("COLUMN_TYPE"));
+    JdbcTypeConverter.JdbcTypeBean typeBean;
+    if (tinyInt1TypeName != null && StringUtils.startsWith(columnType, "tinyint(1)")) {
+      typeBean = new JdbcTypeConverter.JdbcTypeBean(tinyInt1TypeName);
+      typeBean.setColumnSize(1);
+      typeBean.setScale(0);
+      return typeBean;
+    }
 
-      // 4.Get partitioning
-      Transform[] tablePartitioning = getTablePartitioning(connection, databaseName, tableName);
-      jdbcTableBuilder.withPartitioning(tablePartitioning);
+    boolean unsigned =
+        StringUtils.contains(columnType, "unsigned")
+            && !"SET".equals(dataType)
+            && !"ENUM".equals(dataType);
+    String typeName = unsigned ? dataType + " UNSIGNED" : dataType;
+    boolean datetime =
+        "TIME".equals(dataType) || "DATETIME".equals(dataType) || "TIMESTAMP".equals(dataType);
+    int columnSize;
+    int datetimePrecision = column.getInt("DATETIME_PRECISION");
+    if (datetime && !column.wasNull()) {
+      // 'HH:MM:SS' or 'YYYY-MM-DD HH:MM:SS', followed by a decimal point and the fraction
+      columnSize =
+          ("TIME".equals(dataType) ? 8 : 19) + (datetimePrecision > 0 ? datetimePrecision + 1 : 0);
+    } else {
+      long charLength = column.getLong("CHARACTER_MAXIMUM_LENGTH");
+      columnSize =
+          column.wasNull()
+              ? column.getInt("NUMERIC_PRECISION")
+              : (int) Math.min(charLength, Integer.MAX_VALUE);
+    }
+    int scale = column.getInt("NUMERIC_SCALE");
 
-      // 5.Get distribution information
-      Distribution distribution = getDistributionInfo(connection, databaseName, tableName);
-      jdbcTableBuilder.withDistribution(distribution);
+    typeBean = new JdbcTypeConverter.JdbcTypeBean(typeName);
+    typeBean.setColumnSize(columnSize);
+    typeBean.setScale(scale);
+    typeBean.setDatetimePrecision(calculateDatetimePrecision(typeName, columnSize, scale));
+    return typeBean;
+  }
 
-      // 6.Get table properties
-      Map<String, String> tableProperties = getTableProperties(connection, tableName);
-      jdbcTableBuilder.withProperties(tableProperties);
+  // MySQL Connector/J reports the tinyint(1) columns as BIT, or as BOOLEAN if the BIT columns are
+  // transformed to BOOLEAN, unless it is disabled by tinyInt1isBit=false in the JDBC URL.
+  private static String getTinyInt1TypeName(Connection connection) throws SQLException {
+    String url = StringUtils.lowerCase(connection.getMetaData().getURL());
+    if (StringUtils.contains(url, "tinyint1isbit=false")) {
+      return null;
+    }
+    return StringUtils.contains(url, "transformedbitisboolean=true") ? "BOOLEAN" : "BIT";
+  }
 
-      // 7.Leave the information to the bottom layer to append the table
-      correctJdbcTableFields(connection, databaseName, tableName, jdbcTableBuilder);
+  /**
+   * Get the primary and unique keys of tables in one query. The default implementation of this
+   * method is based on the MySQL information_schema, and if the catalog does not compatible with
+   * MySQL, this method needs to be rewritten.
+   *
+   * @param connection jdbc connection
+   * @param databaseName The name of the database
+   * @param tableNames The names of the tables, or null for all the tables in the database
+   * @return The indexes keyed by table name
+   * @throws SQLException if a database access error occurs
+   */
+  protected Map<String, List<Index>> getIndexesInBatch(
+      Connection connection, String databaseName, List<String> tableNames) throws SQLException {
+    String sql =
+        "SELECT TABLE_NAME, INDEX_NAME, COLUMN_NAME, SEQ_IN_INDEX"
+            + " FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = ? AND NON_UNIQUE = 0"
+            + inClause(" AND TABLE_NAME", tableNames);
+    Map<String, List<JdbcIndexBean>> indexBeans = new HashMap<>();
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      statement.setString(1, databaseName);
+      bindTableNames(statement, 2, tableNames);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          String indexName = resultSet.getString("INDEX_NAME");
+          Index.IndexType indexType =
+              "PRIMARY".equals(indexName)
+                  ? Index.IndexType.PRIMARY_KEY
+                  : Index.IndexType.UNIQUE_KEY;
+          indexBeans
+              .computeIfAbsent(resultSet.getString("TABLE_NAME"), k -> new ArrayList<>())
+              .add(
+                  new JdbcIndexBean(
+                      indexType,
+                      resultSet.getString("COLUMN_NAME"),
+                      indexName,
+                      resultSet.getInt("SEQ_IN_INDEX")));
+        }
+      }
+    }
 
-      return jdbcTableBuilder.withTableOperation(this).build();
-    } catch (SQLException e) {
-      throw exceptionMapper.toGravitinoException(e);
+    Map<String, List<Index>> indexes = new HashMap<>();
+    indexBeans.forEach((tableName, beans) -> indexes.put(tableName, toIndexes(beans)));
+    return indexes;
+  }
+
+  /**
+   * Get the properties of tables. The default implementation of this method calls {@link
+   * #getTableProperties(Connection, String)} for each table, catalogs that can fetch the properties
+   * in one query should rewrite it.
+   *
+   * @param connection jdbc connection
+   * @param databaseName The name of the database
+   * @param tableNames The names of the tables, or null for all the tables in the database
+   * @return The table properties keyed by table name
+   * @throws SQLException if a database access error occurs
+   */
+  protected Map<String, Map<String, String>> getTablePropertiesInBatch(
+      Connection connection, String databaseName, List<String> tableNames) throws SQLException {
+    Map<String, Map<String, String>> properties = new HashMap<>();
+    for (String tableName : tableNames == null ? listTables(databaseName) : tableNames) {
+      try {
+        properties.put(tableName, getTableProperties(connection, tableName));
+      } catch (NoSuchTableException e) {
+        LOG.debug("Table {} in database {} no longer exists, skip it", tableName, databaseName);
+      }
+    }
+    return properties;
+  }
+
+  protected static String inClause(String prefix, List<String> values) {
+    return values == null ? "" : inClause(prefix, values.size());
+  }
+
+  protected static String inClause(String prefix, int size) {
+    return prefix + " IN (" + String.join(", ", Collections.nCopies(size, "?")) + ")";
+  }
+
+  protected static void bindTableNames(
+      PreparedStatement statement, int startIndex, List<String> tableNames) throws SQLException {
+    if (tableNames == null) {
+      return;
+    }
+    for (int i = 0; i < tableNames.size(); i++) {
+      statement.setString(startIndex + i, tableNames.get(i));
     }
   }
 
@@ -389,7 +722,6 @@ public abstract class JdbcTableOperations implements TableOperation {
   protected List<Index> getIndexes(Connection connection, String databaseName, String tableName)
       throws SQLException {
     DatabaseMetaData metaData = connection.getMetaData();
-    List<Index> indexes = new ArrayList<>();
 
     // Get primary key information
     ResultSet primaryKeys = getPrimaryKeys(databaseName, tableName, metaData);
@@ -424,6 +756,11 @@ public abstract class JdbcTableOperations implements TableOperation {
       }
     }
 
+    return toIndexes(jdbcIndexBeans);
+  }
+
+  protected List<Index> toIndexes(List<JdbcIndexBean> jdbcIndexBeans) {
+    List<Index> indexes = new ArrayList<>();
     // Assemble into Index
     Map<Index.IndexType, List<JdbcIndexBean>> indexBeanGroupByIndexType =
         jdbcIndexBeans.stream().collect(Collectors.groupingBy(JdbcIndexBean::getIndexType));
@@ -624,16 +961,27 @@ public abstract class JdbcTableOperations implements TableOperation {
     Integer datetimePrecision = calculateDatetimePrecision(typeName, columnSize, scale);
     typeBean.setDatetimePrecision(datetimePrecision);
 
-    String comment = column.getString("REMARKS");
-    boolean nullable = column.getBoolean("NULLABLE");
+    return buildJdbcColumn(
+        column.getString("COLUMN_NAME"),
+        typeBean,
+        column.getString("REMARKS"),
+        column.getBoolean("NULLABLE"),
+        column.getString("COLUMN_DEF"),
+        "YES".equals(column.getString("IS_GENERATEDCOLUMN")));
+  }
 
-    String columnDef = column.getString("COLUMN_DEF");
-    boolean isExpression = "YES".equals(column.getString("IS_GENERATEDCOLUMN"));
+  protected JdbcColumn.Builder buildJdbcColumn(
+      String name,
+      JdbcTypeConverter.JdbcTypeBean typeBean,
+      String comment,
+      boolean nullable,
+      String columnDef,
+      boolean isExpression) {
     Expression defaultValue =
         columnDefaultValueConverter.toGravitino(typeBean, columnDef, isExpression, nullable);
 
     return JdbcColumn.builder()
-        .withName(column.getString("COLUMN_NAME"))
+        .withName(name)
         .withType(typeConverter.toGravitino(typeBean))
         .withComment(StringUtils.isEmpty(comment) ? null : comment)
         .withNullable(nullable)
@@ -685,15 +1033,20 @@ public abstract class JdbcTableOperations implements TableOperation {
   }
 
   /**
-   * Get MySQL driver version from DatabaseMetaData
+   * Get MySQL driver version from DatabaseMetaData. The driver of a data source never changes, so
+   * the version is fetched once and cached, instead of borrowing a connection for every column.
    *
    * @return the driver version string, or null if not available
    */
   protected String getMySQLDriverVersion() {
+    if (driverVersion != null) {
+      return driverVersion;
+    }
     try {
       if (dataSource != null) {
         try (Connection connection = dataSource.getConnection()) {
-          return connection.getMetaData().getDriverVersion();
+          driverVersion = connection.getMetaData().getDriverVersion();
+          return driverVersion;
         }
       }
     } catch (SQLException e) {
@@ -19,6 +19,7 @@
 
 package org.apache.gravitino.catalog.jdbc.operation;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import javax.sql.DataSource;
@@ -95,6 +96,24 @@ public interface TableOperation {
    */
   JdbcTable load(String databaseName, String tableName) throws NoSuchTableException;
 
+  /**
+   * @param databaseName The name of the database.
+   * @param tableNames The names of the tables, or null to load all the tables in the database.
+   * @return information objects of the JDBC tables, tables that do not exist are skipped.
+   */
+  default List<JdbcTable> loadTables(String databaseName, List<String> tableNames) {
+    List<String> names = tableNames == null ? listTables(databaseName) : tableNames;
+    List<JdbcTable> tables = new ArrayList<>(names.size());
+    for (String tableName : names) {
+      try {
+        tables.add(load(databaseName, tableName));
+      } catch (NoSuchTableException e) {
+        // The table is dropped concurrently, skip it.
+      }
+    }
+    return tables;
+  }
+
   /**
    * @param databaseName The name of the database.
    * @param oldTableName The name of the table to rename.
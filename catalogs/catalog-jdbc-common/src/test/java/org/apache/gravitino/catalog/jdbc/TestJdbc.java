@@ -21,6 +21,7 @@ package org.apache.gravitino.catalog.jdbc;
 import static org.apache.gravitino.dto.util.DTOConverters.toDTO;
 
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -143,6 +144,59 @@ public abstract class TestJdbc {
     Assertions.assertTrue(Arrays.deepEquals(table.partitioning(), partitioning));
   }
 
+  /**
+   * Asserts the tables loaded in batch by {@link #TABLE_OPERATIONS} are the same as the tables
+   * loaded one by one by the given table operations, which don't support batch loading.
+   *
+   * @param singleLoadOperations The table operations loading the tables one by one.
+   * @param databaseName The name of the database.
+   * @param tableNames The names of the tables to compare.
+   */
+  protected static void assertBatchLoadEqualsSingleLoad(
+      JdbcTableOperations singleLoadOperations, String databaseName, List<String> tableNames) {
+    Map<String, JdbcTable> batchTables =
+        TABLE_OPERATIONS.loadTables(databaseName, null).stream()
+            .collect(Collectors.toMap(JdbcTable::name, table -> table));
+    List<JdbcTable> requestedTables = TABLE_OPERATIONS.loadTables(databaseName, tableNames);
+    Assertions.assertEquals(tableNames.size(), requestedTables.size());
+    for (JdbcTable requestedTable : requestedTables) {
+      JdbcTable singleTable = singleLoadOperations.load(databaseName, requestedTable.name());
+      Assertions.assertTrue(batchTables.containsKey(requestedTable.name()));
+      assertTableEquals(singleTable, batchTables.get(requestedTable.name()));
+      assertTableEquals(singleTable, requestedTable);
+      assertTableEquals(singleTable, TABLE_OPERATIONS.load(databaseName, requestedTable.name()));
+    }
+  }
+
+  private static void assertTableEquals(JdbcTable expected, JdbcTable actual) {
+    Assertions.assertEquals(expected.name(), actual.name());
+    Assertions.assertEquals(expected.databaseName(), actual.databaseName());
+    Assertions.assertEquals(expected.comment(), actual.comment());
+    Assertions.assertEquals(expected.columns().length, actual.columns().length);
+    for (int i = 0; i < expected.columns().length; i++) {
+      Assertions.assertEquals(
+          toDTO(expected.columns()[i]),
+          toDTO(actual.columns()[i]),
+          String.format("Column %s of table %s", expected.columns()[i].name(), expected.name()));
+    }
+
+    Comparator<Index> byName = Comparator.comparing(Index::name);
+    Index[] expectedIndexes = expected.index().clone();
+    Index[] actualIndexes = actual.index().clone();
+    Arrays.sort(expectedIndexes, byName);
+    Arrays.sort(actualIndexes, byName);
+    Assertions.assertEquals(expectedIndexes.length, actualIndexes.length);
+    for (int i = 0; i < expectedIndexes.length; i++) {
+      Assertions.assertEquals(expectedIndexes[i].name(), actualIndexes[i].name());
+      Assertions.assertEquals(expectedIndexes[i].type(), actualIndexes[i].type());
+      Assertions.assertArrayEquals(expectedIndexes[i].fieldNames(), actualIndexes[i].fieldNames());
+    }
+
+    Assertions.assertArrayEquals(expected.partitioning(), actual.partitioning());
+    Assertions.assertEquals(expected.distribution(), actual.distribution());
+    Assertions.assertEquals(expected.properties(), actual.properties());
+  }
+
   public static void assertColumn(Column expected, Column actual) {
     if (!(actual instanceof ColumnDTO)) {
       actual = toDTO(actual);
@@ -211,6 +211,42 @@ public class TestJdbcTableOperations {
         JDBC_TABLE_OPERATIONS.drop(DATABASE_NAME, newName), "table should be non-existent");
   }
 
+  @Test
+  public void testLoadTables() {
+    List<String> tableNames = Arrays.asList("batch_table1", "batch_table2");
+    for (String tableName : tableNames) {
+      JDBC_TABLE_OPERATIONS.create(
+          DATABASE_NAME,
+          tableName,
+          generateRandomColumn(1, 4),
+          null,
+          Maps.newHashMap(),
+          null,
+          Distributions.NONE,
+          Indexes.EMPTY_INDEXES);
+    }
+
+    try {
+      // load the whole database
+      List<JdbcTable> tables = JDBC_TABLE_OPERATIONS.loadTables(DATABASE_NAME, null);
+      Assertions.assertEquals(
+          tableNames, tables.stream().map(JdbcTable::name).sorted().collect(Collectors.toList()));
+
+      // load the given tables, the non-existent table is skipped
+      tables =
+          JDBC_TABLE_OPERATIONS.loadTables(DATABASE_NAME, Arrays.asList("batch_table2", "no_exist"));
+      Assertions.assertEquals(1, tables.size());
+      JdbcTable expected = JDBC_TABLE_OPERATIONS.load(DATABASE_NAME, "batch_table2");
+      Assertions.assertEquals(expected.name(), tables.get(0).name());
+      Assertions.assertArrayEquals(expected.columns(), tables.get(0).columns());
+
+      Assertions.assertTrue(
+          JDBC_TABLE_OPERATIONS.loadTables(DATABASE_NAME, Collections.emptyList()).isEmpty());
+    } finally {
+      tableNames.forEach(tableName -> JDBC_TABLE_OPERATIONS.drop(DATABASE_NAME, tableName));
+    }
+  }
+
   @Test
   public void testDriverVersionParsing() {
     // Test supported MySQL versions
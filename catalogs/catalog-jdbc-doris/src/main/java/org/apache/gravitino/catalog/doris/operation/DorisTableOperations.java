@@ -372,6 +372,22 @@ public class DorisTableOperations extends JdbcTableOperations {
     return Collections.unmodifiableMap(DorisUtils.extractPropertiesFromSql(createTableSql));
   }
 
+  @Override
+  protected boolean supportsBatchLoad() {
+    return true;
+  }
+
+  @Override
+  protected Map<String, List<Index>> getIndexesInBatch(
+      Connection connection, String databaseName, List<String> tableNames) throws SQLException {
+    // Doris keys are only exposed by SHOW INDEX, which works on a single table.
+    Map<String, List<Index>> indexes = new HashMap<>();
+    for (String tableName : tableNames == null ? listTables(databaseName) : tableNames) {
+      indexes.put(tableName, getIndexes(connection, databaseName, tableName));
+    }
+    return indexes;
+  }
+
   @Override
   protected List<Index> getIndexes(Connection connection, String databaseName, String tableName)
       throws SQLException {
@@ -22,6 +22,8 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import com.google.common.collect.Maps;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -31,11 +33,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import org.apache.gravitino.catalog.doris.converter.DorisColumnDefaultValueConverter;
 import org.apache.gravitino.catalog.doris.converter.DorisTypeConverter;
 import org.apache.gravitino.catalog.jdbc.JdbcColumn;
 import org.apache.gravitino.catalog.jdbc.JdbcTable;
 import org.apache.gravitino.catalog.jdbc.converter.JdbcTypeConverter;
 import org.apache.gravitino.catalog.jdbc.operation.JdbcTablePartitionOperations;
+import org.apache.gravitino.catalog.jdbc.utils.JdbcConnectorUtils;
 import org.apache.gravitino.integration.test.util.GravitinoITUtils;
 import org.apache.gravitino.rel.TableChange;
 import org.apache.gravitino.rel.expressions.Expression;
@@ -739,4 +743,53 @@ public class TestDorisTableOperations extends TestDoris {
         operationsWithOldDriver.calculateDatetimePrecision("DATETIME", 26, 0),
         "DATETIME type should return null for unsupported driver version");
   }
+
+  @Test
+  public void testBatchLoadEqualsSingleLoad() throws SQLException {
+    String typesTable = GravitinoITUtils.genRandomName("doris_batch_types");
+    String keysTable = GravitinoITUtils.genRandomName("doris_batch_keys");
+    try (Connection connection = DATA_SOURCE.getConnection()) {
+      JdbcConnectorUtils.executeUpdate(
+          connection,
+          "CREATE TABLE `"
+              + databaseName
+              + "`.`"
+              + typesTable
+              + "` (id int NOT NULL COMMENT 'id', col_bool boolean, col_tinyint tinyint,"
+              + " col_smallint smallint DEFAULT \"1\", col_bigint bigint, col_largeint largeint,"
+              + " col_float float, col_double double, col_decimal decimal(10, 2),"
+              + " col_date date, col_datetime datetime(3), col_char char(10),"
+              + " col_varchar varchar(255) DEFAULT \"a\", col_string string)"
+              + " DUPLICATE KEY(id) COMMENT 'types'"
+              + " PARTITION BY RANGE(id) (PARTITION p1 VALUES LESS THAN (\"10\"))"
+              + " DISTRIBUTED BY HASH(id) BUCKETS 2 PROPERTIES (\"replication_num\" = \"1\")");
+      JdbcConnectorUtils.executeUpdate(
+          connection,
+          "CREATE TABLE `"
+              + databaseName
+              + "`.`"
+              + keysTable
+              + "` (id int NOT NULL, name varchar(10)) UNIQUE KEY(id)"
+              + " DISTRIBUTED BY HASH(id) BUCKETS 1 PROPERTIES (\"replication_num\" = \"1\")");
+    }
+
+    DorisTableOperations singleLoadOperations =
+        new DorisTableOperations() {
+          @Override
+          protected boolean supportsBatchLoad() {
+            return false;
+          }
+        };
+    singleLoadOperations.initialize(
+        DATA_SOURCE,
+        JDBC_EXCEPTION_CONVERTER,
+        new DorisTypeConverter(),
+        new DorisColumnDefaultValueConverter(),
+        Collections.emptyMap());
+    assertBatchLoadEqualsSingleLoad(
+        singleLoadOperations, databaseName, Arrays.asList(typesTable, keysTable));
+
+    TABLE_OPERATIONS.drop(databaseName, typesTable);
+    TABLE_OPERATIONS.drop(databaseName, keysTable);
+  }
 }
@@ -42,6 +42,7 @@ dependencies {
   }
 
   implementation(libs.bundles.log4j)
+  implementation(libs.caffeine)
   implementation(libs.commons.collections4)
   implementation(libs.commons.lang3)
   implementation(libs.guava)
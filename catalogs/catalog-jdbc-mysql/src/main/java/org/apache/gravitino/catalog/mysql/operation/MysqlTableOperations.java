@@ -193,6 +193,39 @@ public class MysqlTableOperations extends JdbcTableOperations {
     }
   }
 
+  @Override
+  protected boolean supportsBatchLoad() {
+    return true;
+  }
+
+  @Override
+  protected Map<String, Map<String, String>> getTablePropertiesInBatch(
+      Connection connection, String databaseName, List<String> tableNames) throws SQLException {
+    String sql =
+        "SELECT TABLE_NAME, TABLE_COMMENT, ENGINE, AUTO_INCREMENT FROM information_schema.TABLES"
+            + " WHERE TABLE_SCHEMA = ?"
+            + inClause(" AND TABLE_NAME", tableNames);
+    Map<String, Map<String, String>> properties = new HashMap<>();
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      statement.setString(1, databaseName);
+      bindTableNames(statement, 2, tableNames);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          Map<String, String> tableProperties = new HashMap<>();
+          tableProperties.put(COMMENT, resultSet.getString("TABLE_COMMENT"));
+          tableProperties.put(MYSQL_ENGINE_KEY, resultSet.getString("ENGINE"));
+          String autoIncrement = resultSet.getString("AUTO_INCREMENT");
+          if (StringUtils.isNotEmpty(autoIncrement)) {
+            tableProperties.put(MYSQL_AUTO_INCREMENT_OFFSET_KEY, autoIncrement);
+          }
+          properties.put(
+              resultSet.getString("TABLE_NAME"), Collections.unmodifiableMap(tableProperties));
+        }
+      }
+    }
+    return properties;
+  }
+
   @Override
   protected void correctJdbcTableFields(
       Connection connection, String databaseName, String tableName, JdbcTable.Builder tableBuilder)
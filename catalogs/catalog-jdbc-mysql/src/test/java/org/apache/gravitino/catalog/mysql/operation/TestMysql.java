@@ -45,6 +45,7 @@ public class TestMysql extends TestJdbc {
     TEST_DB_NAME = TestDatabaseName.MYSQL_MYSQL_ABSTRACT_IT;
     containerSuite.startMySQLContainer(TEST_DB_NAME);
     DataSource dataSource = DataSourceUtils.createDataSource(getMySQLCatalogProperties());
+    DATA_SOURCE = dataSource;
 
     DATABASE_OPERATIONS = new MysqlDatabaseOperations();
     TABLE_OPERATIONS = new MysqlTableOperations();
@@ -21,6 +21,8 @@ package org.apache.gravitino.catalog.mysql.operation;
 import static org.apache.gravitino.catalog.mysql.MysqlTablePropertiesMetadata.MYSQL_AUTO_INCREMENT_OFFSET_KEY;
 import static org.apache.gravitino.catalog.mysql.MysqlTablePropertiesMetadata.MYSQL_ENGINE_KEY;
 
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -33,6 +35,9 @@ import org.apache.commons.lang3.RandomStringUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.catalog.jdbc.JdbcColumn;
 import org.apache.gravitino.catalog.jdbc.JdbcTable;
+import org.apache.gravitino.catalog.jdbc.utils.JdbcConnectorUtils;
+import org.apache.gravitino.catalog.mysql.converter.MysqlColumnDefaultValueConverter;
+import org.apache.gravitino.catalog.mysql.converter.MysqlTypeConverter;
 import org.apache.gravitino.exceptions.GravitinoRuntimeException;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.TableChange;
@@ -1164,4 +1169,56 @@ public class TestMysqlTableOperations extends TestMysql {
         operationsWithOldDriver.calculateDatetimePrecision("TIME", 16, 0),
         "TIME type should return null for unsupported driver version");
   }
+
+  @Test
+  public void testBatchLoadEqualsSingleLoad() throws SQLException {
+    String databaseName = TEST_DB_NAME.toString();
+    String typesTable = RandomNameUtils.genRandomName("batch_types_");
+    String keysTable = RandomNameUtils.genRandomName("batch_keys_");
+    try (Connection connection = DATA_SOURCE.getConnection()) {
+      connection.setCatalog(databaseName);
+      JdbcConnectorUtils.executeUpdate(
+          connection,
+          "CREATE TABLE `"
+              + typesTable
+              + "` (col_bool tinyint(1) NOT NULL DEFAULT 1 COMMENT 'bool',"
+              + " col_tinyint tinyint unsigned, col_smallint smallint DEFAULT -1,"
+              + " col_int int unsigned, col_bigint bigint unsigned NOT NULL AUTO_INCREMENT,"
+              + " col_decimal decimal(10, 2) DEFAULT 1.50,"
+              + " col_decimal_unsigned decimal(5) unsigned, col_float float, col_double double,"
+              + " col_bit bit(1), col_bits bit(8),"
+              + " col_date date, col_time time(3), col_datetime datetime(6) NOT NULL"
+              + " DEFAULT CURRENT_TIMESTAMP(6), col_timestamp timestamp NULL, col_year year,"
+              + " col_char char(10), col_varchar varchar(255) DEFAULT 'a', col_text text,"
+              + " col_binary binary(8), col_varbinary varbinary(16), col_blob blob, col_json json,"
+              + " col_enum enum('a', 'b'), col_set set('a', 'b'), col_geometry geometry,"
+              + " col_generated int GENERATED ALWAYS AS (col_tinyint + 1) VIRTUAL,"
+              + " PRIMARY KEY (col_bigint)) COMMENT 'types'");
+      JdbcConnectorUtils.executeUpdate(
+          connection,
+          "CREATE TABLE `"
+              + keysTable
+              + "` (id int NOT NULL, a varchar(10), b int, PRIMARY KEY (id),"
+              + " UNIQUE KEY uk_a_b (a, b))");
+    }
+
+    MysqlTableOperations singleLoadOperations =
+        new MysqlTableOperations() {
+          @Override
+          protected boolean supportsBatchLoad() {
+            return false;
+          }
+        };
+    singleLoadOperations.initialize(
+        DATA_SOURCE,
+        JDBC_EXCEPTION_CONVERTER,
+        new MysqlTypeConverter(),
+        new MysqlColumnDefaultValueConverter(),
+        Collections.emptyMap());
+    assertBatchLoadEqualsSingleLoad(
+        singleLoadOperations, databaseName, Arrays.asList(typesTable, keysTable));
+
+    TABLE_OPERATIONS.drop(databaseName, typesTable);
+    TABLE_OPERATIONS.drop(databaseName, keysTable);
+  }
 }
@@ -18,6 +18,8 @@
  */
 package org.apache.gravitino.catalog.oceanbase.operation;
 
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -30,6 +32,9 @@ import org.apache.commons.lang3.RandomStringUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.catalog.jdbc.JdbcColumn;
 import org.apache.gravitino.catalog.jdbc.JdbcTable;
+import org.apache.gravitino.catalog.jdbc.utils.JdbcConnectorUtils;
+import org.apache.gravitino.catalog.oceanbase.converter.OceanBaseColumnDefaultValueConverter;
+import org.apache.gravitino.catalog.oceanbase.converter.OceanBaseTypeConverter;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.TableChange;
 import org.apache.gravitino.rel.expressions.distributions.Distributions;
@@ -1133,4 +1138,51 @@ public class TestOceanBaseTableOperations extends TestOceanBase {
         operationsWithOceanBaseDriver.calculateDatetimePrecision("TIME", 10, 0),
         "TIME type should return precision for OceanBase driver");
   }
+
+  @Test
+  public void testBatchLoadEqualsSingleLoad() throws SQLException {
+    String typesTable = RandomNameUtils.genRandomName("batch_types_");
+    String keysTable = RandomNameUtils.genRandomName("batch_keys_");
+    try (Connection connection = DATA_SOURCE.getConnection()) {
+      connection.setCatalog(TEST_DB_NAME);
+      JdbcConnectorUtils.executeUpdate(
+          connection,
+          "CREATE TABLE `"
+              + typesTable
+              + "` (col_bool tinyint(1) NOT NULL DEFAULT 1 COMMENT 'bool',"
+              + " col_tinyint tinyint unsigned, col_smallint smallint DEFAULT -1,"
+              + " col_int int unsigned, col_bigint bigint NOT NULL AUTO_INCREMENT,"
+              + " col_decimal decimal(10, 2) DEFAULT 1.50, col_float float, col_double double,"
+              + " col_date date, col_time time(3), col_datetime datetime(6) NOT NULL"
+              + " DEFAULT CURRENT_TIMESTAMP(6), col_timestamp timestamp NULL,"
+              + " col_char char(10), col_varchar varchar(255) DEFAULT 'a', col_text text,"
+              + " col_binary binary(8), col_varbinary varbinary(16), col_blob blob,"
+              + " PRIMARY KEY (col_bigint)) COMMENT 'types'");
+      JdbcConnectorUtils.executeUpdate(
+          connection,
+          "CREATE TABLE `"
+              + keysTable
+              + "` (id int NOT NULL, a varchar(10), b int, PRIMARY KEY (id),"
+              + " UNIQUE KEY uk_a_b (a, b))");
+    }
+
+    OceanBaseTableOperations singleLoadOperations =
+        new OceanBaseTableOperations() {
+          @Override
+          protected boolean supportsBatchLoad() {
+            return false;
+          }
+        };
+    singleLoadOperations.initialize(
+        DATA_SOURCE,
+        JDBC_EXCEPTION_CONVERTER,
+        new OceanBaseTypeConverter(),
+        new OceanBaseColumnDefaultValueConverter(),
+        Collections.emptyMap());
+    assertBatchLoadEqualsSingleLoad(
+        singleLoadOperations, TEST_DB_NAME, Arrays.asList(typesTable, keysTable));
+
+    TABLE_OPERATIONS.drop(TEST_DB_NAME, typesTable);
+    TABLE_OPERATIONS.drop(TEST_DB_NAME, keysTable);
+  }
 }
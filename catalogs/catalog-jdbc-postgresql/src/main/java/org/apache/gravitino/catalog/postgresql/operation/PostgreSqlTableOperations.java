@@ -25,10 +25,13 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -41,6 +44,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.StringIdentifier;
 import org.apache.gravitino.catalog.jdbc.JdbcColumn;
 import org.apache.gravitino.catalog.jdbc.JdbcTable;
+import org.apache.gravitino.catalog.jdbc.bean.JdbcIndexBean;
 import org.apache.gravitino.catalog.jdbc.config.JdbcConfig;
 import org.apache.gravitino.catalog.jdbc.converter.JdbcColumnDefaultValueConverter;
 import org.apache.gravitino.catalog.jdbc.converter.JdbcExceptionConverter;
@@ -49,6 +53,7 @@ import org.apache.gravitino.catalog.jdbc.operation.JdbcTableOperations;
 import org.apache.gravitino.exceptions.NoSuchColumnException;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.exceptions.NoSuchTableException;
+import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.TableChange;
 import org.apache.gravitino.rel.expressions.distributions.Distribution;
@@ -116,7 +121,7 @@ public class PostgreSqlTableOperations extends JdbcTableOperations {
       String tableSchemaInResultLowerCase = tablesResult.getString("TABLE_SCHEM");
       if (Objects.equals(tableNameInResult, tableName)
           && Objects.equals(tableSchemaInResultLowerCase, databaseName)) {
-        builder = getBasicJdbcTableInfo(tablesResult);
+        builder = getBasicJdbcTableInfo(tablesResult).withDatabaseName(databaseName);
         found = true;
       }
     }
@@ -128,6 +133,142 @@ public class PostgreSqlTableOperations extends JdbcTableOperations {
     return builder;
   }
 
+  @Override
+  protected boolean supportsBatchLoad() {
+    return true;
+  }
+
+  @Override
+  protected Map<String, JdbcTable.Builder> getTableBuildersInBatch(
+      Connection connection, String schemaName, List<String> tableNames) throws SQLException {
+    String sql =
+        "SELECT c.relname AS table_name, obj_description(c.oid, 'pg_class') AS remarks"
+            + " FROM pg_catalog.pg_class c"
+            + " JOIN pg_catalog.pg_namespace n ON n.oid = c.relnamespace"
+            + " WHERE n.nspname = ?"
+            + (tableNames == null
+                ? " AND c.relkind = 'r'"
+                : " AND c.relkind IN ('r', 'p', 'v', 'm', 'f')"
+                    + inClause(" AND c.relname", tableNames))
+            + " ORDER BY c.relname";
+    Map<String, JdbcTable.Builder> builders = new LinkedHashMap<>();
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      statement.setString(1, schemaName);
+      bindTableNames(statement, 2, tableNames);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          String tableName = resultSet.getString("table_name");
+          builders.put(
+              tableName,
+              JdbcTable.builder()
+                  .withName(tableName)
+                  .withComment(resultSet.getString("remarks"))
+                  .withAuditInfo(AuditInfo.EMPTY)
+                  .withDatabaseName(schemaName));
+        }
+      }
+    }
+    return builders;
+  }
+
+  @Override
+  protected Map<String, List<JdbcColumn>> getColumnsInBatch(
+      Connection connection, String schemaName, List<String> tableNames) throws SQLException {
+    String sql =
+        "SELECT c.table_name, c.column_name, c.udt_name, c.character_maximum_length,"
+            + " c.numeric_precision, c.numeric_scale, c.datetime_precision, c.is_nullable,"
+            + " c.column_default, c.is_identity, c.is_generated, d.description AS remarks"
+            + " FROM information_schema.columns c"
+            + " JOIN pg_catalog.pg_namespace n ON n.nspname = c.table_schema"
+            + " JOIN pg_catalog.pg_class cls"
+            + " ON cls.relnamespace = n.oid AND cls.relname = c.table_name"
+            + " LEFT JOIN pg_catalog.pg_description d ON d.objoid = cls.oid"
+            + " AND d.classoid = 'pg_catalog.pg_class'::regclass"
+            + " AND d.objsubid = c.ordinal_position"
+            + " WHERE c.table_schema = ?"
+            + inClause(" AND c.table_name", tableNames)
+            + " ORDER BY c.table_name, c.ordinal_position";
+    Map<String, List<JdbcColumn>> columns = new HashMap<>();
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      statement.setString(1, schemaName);
+      bindTableNames(statement, 2, tableNames);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          JdbcTypeConverter.JdbcTypeBean typeBean =
+              new JdbcTypeConverter.JdbcTypeBean(resultSet.getString("udt_name"));
+          int charLength = resultSet.getInt("character_maximum_length");
+          typeBean.setColumnSize(
+              resultSet.wasNull() ? resultSet.getInt("numeric_precision") : charLength);
+          typeBean.setScale(resultSet.getInt("numeric_scale"));
+          int datetimePrecision = resultSet.getInt("datetime_precision");
+          typeBean.setDatetimePrecision(
+              resultSet.wasNull()
+                  ? null
+                  : calculateDatetimePrecision(typeBean.getTypeName(), 0, datetimePrecision));
+
+          String columnDef = resultSet.getString("column_default");
+          boolean autoIncrement =
+              "YES".equals(resultSet.getString("is_identity"))
+                  || StringUtils.startsWith(columnDef, "nextval(");
+          JdbcColumn column =
+              buildJdbcColumn(
+                      resultSet.getString("column_name"),
+                      typeBean,
+                      resultSet.getString("remarks"),
+                      "YES".equals(resultSet.getString("is_nullable")),
+                      columnDef,
+                      "ALWAYS".equals(resultSet.getString("is_generated")))
+                  .withAutoIncrement(autoIncrement)
+                  .build();
+          columns
+              .computeIfAbsent(resultSet.getString("table_name"), k -> new ArrayList<>())
+              .add(column);
+        }
+      }
+    }
+    return columns;
+  }
+
+  @Override
+  protected Map<String, List<Index>> getIndexesInBatch(
+      Connection connection, String schemaName, List<String> tableNames) throws SQLException {
+    String sql =
+        "SELECT t.relname AS table_name, i.relname AS index_name, ix.indisprimary AS is_primary,"
+            + " a.attname AS column_name,"
+            + " array_position(ix.indkey::int2[], a.attnum) AS key_seq"
+            + " FROM pg_catalog.pg_index ix"
+            + " JOIN pg_catalog.pg_class t ON t.oid = ix.indrelid"
+            + " JOIN pg_catalog.pg_namespace n ON n.oid = t.relnamespace"
+            + " JOIN pg_catalog.pg_class i ON i.oid = ix.indexrelid"
+            + " JOIN pg_catalog.pg_attribute a"
+            + " ON a.attrelid = t.oid AND a.attnum = ANY(ix.indkey)"
+            + " WHERE n.nspname = ? AND ix.indisunique"
+            + inClause(" AND t.relname", tableNames);
+    Map<String, List<JdbcIndexBean>> indexBeans = new HashMap<>();
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      statement.setString(1, schemaName);
+      bindTableNames(statement, 2, tableNames);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          indexBeans
+              .computeIfAbsent(resultSet.getString("table_name"), k -> new ArrayList<>())
+              .add(
+                  new JdbcIndexBean(
+                      resultSet.getBoolean("is_primary")
+                          ? Index.IndexType.PRIMARY_KEY
+                          : Index.IndexType.UNIQUE_KEY,
+                      resultSet.getString("column_name"),
+                      resultSet.getString("index_name"),
+                      resultSet.getInt("key_seq")));
+        }
+      }
+    }
+
+    Map<String, List<Index>> indexes = new HashMap<>();
+    indexBeans.forEach((tableName, beans) -> indexes.put(tableName, toIndexes(beans)));
+    return indexes;
+  }
+
   @Override
   protected JdbcColumn.Builder getColumnBuilder(
       ResultSet columnsResult, String databaseName, String tableName) throws SQLException {
@@ -21,6 +21,7 @@ package org.apache.gravitino.catalog.postgresql.operation;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -783,4 +784,56 @@ public class TestPostgreSqlTableOperations extends TestPostgreSql {
         TABLE_OPERATIONS.calculateDatetimePrecision("VARCHAR", 50, 0),
         "Non-datetime type should return 0 precision");
   }
+
+  @Test
+  public void testBatchLoadEqualsSingleLoad() throws SQLException {
+    String typesTable = RandomNameUtils.genRandomName("batch_types_");
+    String keysTable = RandomNameUtils.genRandomName("batch_keys_");
+    String qualifiedTypesTable = TEST_DB_NAME + "." + typesTable;
+    try (Connection connection = DATA_SOURCE.getConnection()) {
+      JdbcConnectorUtils.executeUpdate(
+          connection,
+          "CREATE TABLE "
+              + qualifiedTypesTable
+              + " (col_bool boolean NOT NULL DEFAULT true, col_smallint smallint,"
+              + " col_int integer DEFAULT 1, col_bigint bigserial PRIMARY KEY, col_real real,"
+              + " col_double double precision, col_numeric numeric(10, 2) DEFAULT 1.50,"
+              + " col_date date, col_time time(3), col_timetz time with time zone,"
+              + " col_timestamp timestamp(6) DEFAULT CURRENT_TIMESTAMP,"
+              + " col_timestamptz timestamptz, col_char char(10),"
+              + " col_varchar varchar(255) DEFAULT 'a', col_text text,"
+              + " col_bytea bytea, col_json json, col_int_array integer[], col_uuid uuid)");
+      JdbcConnectorUtils.executeUpdate(
+          connection, "COMMENT ON TABLE " + qualifiedTypesTable + " IS 'types'");
+      JdbcConnectorUtils.executeUpdate(
+          connection, "COMMENT ON COLUMN " + qualifiedTypesTable + ".col_bool IS 'bool'");
+      JdbcConnectorUtils.executeUpdate(
+          connection,
+          "CREATE TABLE "
+              + TEST_DB_NAME
+              + "."
+              + keysTable
+              + " (id integer PRIMARY KEY, a varchar(10), b integer,"
+              + " CONSTRAINT uk_a_b UNIQUE (a, b))");
+    }
+
+    PostgreSqlTableOperations singleLoadOperations =
+        new PostgreSqlTableOperations() {
+          @Override
+          protected boolean supportsBatchLoad() {
+            return false;
+          }
+        };
+    singleLoadOperations.initialize(
+        DATA_SOURCE,
+        JDBC_EXCEPTION_CONVERTER,
+        new PostgreSqlTypeConverter(),
+        new PostgreSqlColumnDefaultValueConverter(),
+        Collections.singletonMap(JdbcConfig.JDBC_DATABASE.getKey(), CONTAINER.getDatabaseName()));
+    assertBatchLoadEqualsSingleLoad(
+        singleLoadOperations, TEST_DB_NAME, Arrays.asList(typesTable, keysTable));
+
+    TABLE_OPERATIONS.drop(TEST_DB_NAME, typesTable);
+    TABLE_OPERATIONS.drop(TEST_DB_NAME, keysTable);
+  }
 }
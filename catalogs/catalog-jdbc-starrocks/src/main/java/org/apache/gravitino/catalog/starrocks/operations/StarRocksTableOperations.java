@@ -30,6 +30,7 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -228,6 +229,22 @@ public class StarRocksTableOperations extends JdbcTableOperations {
     return Collections.unmodifiableMap(StarRocksUtils.extractPropertiesFromSql(createTableSql));
   }
 
+  @Override
+  protected boolean supportsBatchLoad() {
+    return true;
+  }
+
+  @Override
+  protected Map<String, List<Index>> getIndexesInBatch(
+      Connection connection, String databaseName, List<String> tableNames) throws SQLException {
+    // StarRocks keys are only exposed by SHOW INDEX, which works on a single table.
+    Map<String, List<Index>> indexes = new HashMap<>();
+    for (String tableName : tableNames == null ? listTables(databaseName) : tableNames) {
+      indexes.put(tableName, getIndexes(connection, databaseName, tableName));
+    }
+    return indexes;
+  }
+
   @Override
   protected List<Index> getIndexes(Connection connection, String databaseName, String tableName)
       throws SQLException {
@@ -22,6 +22,8 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import com.google.common.collect.Maps;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -35,7 +37,10 @@ import org.apache.gravitino.catalog.jdbc.JdbcColumn;
 import org.apache.gravitino.catalog.jdbc.JdbcTable;
 import org.apache.gravitino.catalog.jdbc.converter.JdbcTypeConverter;
 import org.apache.gravitino.catalog.jdbc.operation.JdbcTablePartitionOperations;
+import org.apache.gravitino.catalog.jdbc.utils.JdbcConnectorUtils;
+import org.apache.gravitino.catalog.starrocks.converter.StarRocksColumnDefaultValueConverter;
 import org.apache.gravitino.catalog.starrocks.converter.StarRocksTypeConverter;
+import org.apache.gravitino.catalog.starrocks.operations.StarRocksTableOperations;
 import org.apache.gravitino.catalog.starrocks.operations.StarRocksTablePartitionOperations;
 import org.apache.gravitino.integration.test.util.GravitinoITUtils;
 import org.apache.gravitino.rel.TableChange;
@@ -580,4 +585,53 @@ public class TestStarRocksTableOperations extends TestStarRocks {
     assertTrue(loadedListPartitions.containsKey("p2"));
     assertTrue(Arrays.deepEquals(listPartition2.lists(), loadedListPartitions.get("p2").lists()));
   }
+
+  @Test
+  public void testBatchLoadEqualsSingleLoad() throws SQLException {
+    String typesTable = GravitinoITUtils.genRandomName("starrocks_batch_types");
+    String keysTable = GravitinoITUtils.genRandomName("starrocks_batch_keys");
+    try (Connection connection = DATA_SOURCE.getConnection()) {
+      JdbcConnectorUtils.executeUpdate(
+          connection,
+          "CREATE TABLE `"
+              + databaseName
+              + "`.`"
+              + typesTable
+              + "` (id int NOT NULL COMMENT 'id', col_bool boolean, col_tinyint tinyint,"
+              + " col_smallint smallint DEFAULT \"1\", col_bigint bigint, col_largeint largeint,"
+              + " col_float float, col_double double, col_decimal decimal(10, 2),"
+              + " col_date date, col_datetime datetime, col_char char(10),"
+              + " col_varchar varchar(255) DEFAULT \"a\", col_string string)"
+              + " DUPLICATE KEY(id) COMMENT 'types'"
+              + " PARTITION BY RANGE(id) (PARTITION p1 VALUES LESS THAN (\"10\"))"
+              + " DISTRIBUTED BY HASH(id) BUCKETS 2 PROPERTIES (\"replication_num\" = \"1\")");
+      JdbcConnectorUtils.executeUpdate(
+          connection,
+          "CREATE TABLE `"
+              + databaseName
+              + "`.`"
+              + keysTable
+              + "` (id int NOT NULL, name varchar(10)) PRIMARY KEY(id)"
+              + " DISTRIBUTED BY HASH(id) BUCKETS 1 PROPERTIES (\"replication_num\" = \"1\")");
+    }
+
+    StarRocksTableOperations singleLoadOperations =
+        new StarRocksTableOperations() {
+          @Override
+          protected boolean supportsBatchLoad() {
+            return false;
+          }
+        };
+    singleLoadOperations.initialize(
+        DATA_SOURCE,
+        JDBC_EXCEPTION_CONVERTER,
+        new StarRocksTypeConverter(),
+        new StarRocksColumnDefaultValueConverter(),
+        Collections.emptyMap());
+    assertBatchLoadEqualsSingleLoad(
+        singleLoadOperations, databaseName, Arrays.asList(typesTable, keysTable));
+
+    TABLE_OPERATIONS.drop(databaseName, typesTable);
+    TABLE_OPERATIONS.drop(databaseName, keysTable);
+  }
 }
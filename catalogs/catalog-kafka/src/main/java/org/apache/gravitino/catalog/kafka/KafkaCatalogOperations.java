@@ -27,11 +27,14 @@ import static org.apache.gravitino.storage.RandomIdGenerator.MAX_ID;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -48,9 +51,11 @@ import org.apache.gravitino.Namespace;
 import org.apache.gravitino.Schema;
 import org.apache.gravitino.SchemaChange;
 import org.apache.gravitino.StringIdentifier;
+import org.apache.gravitino.catalog.kafka.KafkaTopicMetadataCache.TopicMetadata;
 import org.apache.gravitino.connector.CatalogInfo;
 import org.apache.gravitino.connector.CatalogOperations;
 import org.apache.gravitino.connector.HasPropertyMetadata;
+import org.apache.gravitino.connector.PropertiesMetadata;
 import org.apache.gravitino.connector.SupportsSchemas;
 import org.apache.gravitino.exceptions.ConnectionFailedException;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
@@ -105,6 +110,9 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
   private CatalogInfo info;
   private AdminClient adminClient;
   private HasPropertyMetadata propertiesMetadata;
+  private int topicDescribeBatchSize =
+      KafkaCatalogPropertiesMetadata.DEFAULT_TOPIC_DESCRIBE_BATCH_SIZE;
+  @VisibleForTesting KafkaTopicMetadataCache topicCache;
 
   @VisibleForTesting
   KafkaCatalogOperations(EntityStore store, IdGenerator idGenerator) {
@@ -159,6 +167,7 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
       }
       throw new RuntimeException("Failed to create Kafka AdminClient", e);
     }
+    initializeTopicCache(config);
     createDefaultSchemaIfNecessary();
   }
 
@@ -167,12 +176,70 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
     NameIdentifier schemaIdent = NameIdentifier.of(namespace.levels());
     checkSchemaExists(schemaIdent);
 
+    Set<String> topicNames =
+        Optional.ofNullable(topicCache)
+            .flatMap(KafkaTopicMetadataCache::topicNames)
+            .orElseGet(() -> listTopicNames(namespace));
+    return topicNames.stream()
+        .map(name -> NameIdentifier.of(namespace, name))
+        .toArray(NameIdentifier[]::new);
+  }
+
+  /**
+   * Load the given topics under the namespace. The topics and their configs are described in
+   * batched requests to Kafka instead of one request per topic, and the topics which do not exist
+   * are skipped.
+   *
+   * @param namespace The namespace of the topics.
+   * @param topicNames The names of the topics to load, or null to load all the topics under the
+   *     namespace.
+   * @return The loaded topics.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  public List<Topic> loadTopics(Namespace namespace, List<String> topicNames)
+      throws NoSuchSchemaException {
+    NameIdentifier schemaIdent = NameIdentifier.of(namespace.levels());
+    checkSchemaExists(schemaIdent);
+
+    Set<String> names =
+        topicNames == null
+            ? Optional.ofNullable(topicCache)
+                .flatMap(KafkaTopicMetadataCache::topicNames)
+                .orElseGet(() -> listTopicNames(namespace))
+            : new LinkedHashSet<>(topicNames);
+
+    Map<String, TopicMetadata> metadata = Maps.newHashMap();
+    List<String> missedTopics = Lists.newArrayList();
+    for (String name : names) {
+      Optional<TopicMetadata> cached =
+          Optional.ofNullable(topicCache).flatMap(cache -> cache.get(name));
+      if (cached.isPresent()) {
+        metadata.put(name, cached.get());
+      } else {
+        missedTopics.add(name);
+      }
+    }
+
+    if (!missedTopics.isEmpty()) {
+      long cacheVersion = topicCache == null ? 0 : topicCache.version();
+      Map<String, TopicMetadata> described = describeTopics(missedTopics);
+      if (topicCache != null) {
+        described.forEach((name, m) -> topicCache.put(name, m, cacheVersion));
+      }
+      metadata.putAll(described);
+    }
+
+    LOG.info("Loaded {} topics under the schema {} from Kafka", metadata.size(), namespace);
+    return names.stream()
+        .filter(metadata::containsKey)
+        .map(name -> toKafkaTopic(name, metadata.get(name)))
+        .collect(Collectors.toList());
+  }
+
+  private Set<String> listTopicNames(Namespace namespace) {
     try {
       ListTopicsResult result = adminClient.listTopics();
-      Set<String> topicNames = result.names().get();
-      return topicNames.stream()
-          .map(name -> NameIdentifier.of(namespace, name))
-          .toArray(NameIdentifier[]::new);
+      return result.names().get();
     } catch (ExecutionException e) {
       throw new RuntimeException(
           String.format(
@@ -204,49 +271,24 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
     NameIdentifier schemaIdent = NameIdentifier.of(ident.namespace().levels());
     checkSchemaExists(schemaIdent);
 
-    DescribeTopicsResult result = adminClient.describeTopics(Collections.singleton(ident.name()));
-    ConfigResource configResource = new ConfigResource(ConfigResource.Type.TOPIC, ident.name());
-    DescribeConfigsResult configsResult =
-        adminClient.describeConfigs(Collections.singleton(configResource));
+    Optional<TopicMetadata> cached =
+        Optional.ofNullable(topicCache).flatMap(cache -> cache.get(ident.name()));
+    if (cached.isPresent()) {
+      return toKafkaTopic(ident.name(), cached.get());
+    }
 
-    int partitions;
-    int replicationFactor;
-    Uuid topicId;
-    Map<String, String> properties = Maps.newHashMap();
-    try {
-      TopicDescription topicDescription = result.topicNameValues().get(ident.name()).get();
-      partitions = topicDescription.partitions().size();
-      replicationFactor = topicDescription.partitions().get(0).replicas().size();
-      topicId = topicDescription.topicId();
-
-      Config topicConfigs = configsResult.all().get().get(configResource);
-      topicConfigs.entries().forEach(e -> properties.put(e.name(), e.value()));
-      properties.put(KafkaTopicPropertiesMetadata.PARTITION_COUNT, String.valueOf(partitions));
-      properties.put(
-          KafkaTopicPropertiesMetadata.REPLICATION_FACTOR, String.valueOf(replicationFactor));
-    } catch (ExecutionException e) {
-      if (e.getCause() instanceof UnknownTopicOrPartitionException) {
-        throw new NoSuchTopicException(e, "Topic %s does not exist", ident);
-      } else {
-        throw new RuntimeException("Failed to load topic " + ident.name() + " from Kafka", e);
-      }
-    } catch (InterruptedException e) {
-      throw new RuntimeException("Failed to load topic " + ident.name() + " from Kafka", e);
+    long cacheVersion = topicCache == null ? 0 : topicCache.version();
+    TopicMetadata metadata =
+        describeTopics(Collections.singletonList(ident.name())).get(ident.name());
+    if (metadata == null) {
+      throw new NoSuchTopicException("Topic %s does not exist", ident);
+    }
+    if (topicCache != null) {
+      topicCache.put(ident.name(), metadata, cacheVersion);
     }
 
     LOG.info("Loaded topic {} from Kafka", ident);
-
-    return KafkaTopic.builder()
-        .withName(ident.name())
-        // Because there is no way to store the Gravitino ID in Kafka, therefor we use the topic ID
-        // as the Gravitino ID
-        .withProperties(newPropertiesWithId(convertToGravitinoId(topicId), properties))
-        .withAuditInfo(
-            AuditInfo.builder()
-                .withCreator(PrincipalUtils.getCurrentPrincipal().getName())
-                .withCreateTime(Instant.now())
-                .build())
-        .build();
+    return toKafkaTopic(ident.name(), metadata);
   }
 
   @Override
@@ -308,6 +350,8 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
       }
     } catch (InterruptedException e) {
       throw new RuntimeException("Failed to create topic in Kafka" + ident, e);
+    } finally {
+      invalidateTopic(ident.name());
     }
   }
 
@@ -317,6 +361,8 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
     NameIdentifier schemaIdent = NameIdentifier.of(ident.namespace().levels());
     checkSchemaExists(schemaIdent);
 
+    // Always alter the topic based on the latest metadata in Kafka rather than the cached one
+    invalidateTopic(ident.name());
     KafkaTopic topic = (KafkaTopic) loadTopic(ident);
     String newComment = topic.comment();
     int oldPartitionCount =
@@ -346,12 +392,16 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
       }
     }
 
-    if (newPartitionCount != oldPartitionCount) {
-      doPartitionCountIncrement(ident.name(), newPartitionCount);
-    }
+    try {
+      if (newPartitionCount != oldPartitionCount) {
+        doPartitionCountIncrement(ident.name(), newPartitionCount);
+      }
 
-    if (!alterConfigOps.isEmpty()) {
-      doAlterTopicConfig(ident.name(), alterConfigOps);
+      if (!alterConfigOps.isEmpty()) {
+        doAlterTopicConfig(ident.name(), alterConfigOps);
+      }
+    } finally {
+      invalidateTopic(ident.name());
     }
 
     return KafkaTopic.builder()
@@ -384,6 +434,8 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
       }
     } catch (InterruptedException e) {
       throw new RuntimeException("Failed to drop topic " + ident.name() + " from Kafka", e);
+    } finally {
+      invalidateTopic(ident.name());
     }
   }
 
@@ -451,6 +503,11 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
 
   @Override
   public void close() throws IOException {
+    if (topicCache != null) {
+      topicCache.close();
+      topicCache = null;
+    }
+
     if (adminClient != null) {
       adminClient.close();
       adminClient = null;
@@ -552,6 +609,99 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
     }
   }
 
+  private void initializeTopicCache(Map<String, String> config) {
+    PropertiesMetadata catalogPropertiesMetadata = propertiesMetadata.catalogPropertiesMetadata();
+    this.topicDescribeBatchSize =
+        (int)
+            catalogPropertiesMetadata.getOrDefault(
+                config, KafkaCatalogPropertiesMetadata.TOPIC_DESCRIBE_BATCH_SIZE);
+    Preconditions.checkArgument(
+        topicDescribeBatchSize > 0,
+        "%s must be positive",
+        KafkaCatalogPropertiesMetadata.TOPIC_DESCRIBE_BATCH_SIZE);
+
+    long refreshIntervalMs =
+        (long)
+            catalogPropertiesMetadata.getOrDefault(
+                config, KafkaCatalogPropertiesMetadata.TOPIC_CACHE_REFRESH_INTERVAL_MS);
+    if (refreshIntervalMs > 0) {
+      Namespace namespace =
+          Namespace.of(info.namespace().level(0), info.name(), DEFAULT_SCHEMA_NAME);
+      this.topicCache =
+          new KafkaTopicMetadataCache(
+              () -> listTopicNames(namespace), this::describeTopics, refreshIntervalMs);
+    }
+  }
+
+  private void invalidateTopic(String topicName) {
+    if (topicCache != null) {
+      topicCache.invalidate(topicName);
+    }
+  }
+
+  /**
+   * Describe the given topics and their configs from Kafka, one batched request is sent for every
+   * {@code topicDescribeBatchSize} topics.
+   *
+   * @param topicNames The names of the topics to describe.
+   * @return The metadata of the topics keyed by the topic name, the topics which do not exist are
+   *     absent.
+   */
+  private Map<String, TopicMetadata> describeTopics(Collection<String> topicNames) {
+    Map<String, TopicMetadata> result = Maps.newHashMap();
+    for (List<String> batch : Iterables.partition(topicNames, topicDescribeBatchSize)) {
+      DescribeTopicsResult topicsResult = adminClient.describeTopics(batch);
+      Map<String, ConfigResource> configResources = Maps.newHashMap();
+      batch.forEach(
+          name -> configResources.put(name, new ConfigResource(ConfigResource.Type.TOPIC, name)));
+      DescribeConfigsResult configsResult = adminClient.describeConfigs(configResources.values());
+
+      for (String name : batch) {
+        try {
+          TopicDescription topicDescription = topicsResult.topicNameValues().get(name).get();
+          Config topicConfigs = configsResult.values().get(configResources.get(name)).get();
+          result.put(name, toTopicMetadata(topicDescription, topicConfigs));
+        } catch (ExecutionException e) {
+          if (e.getCause() instanceof UnknownTopicOrPartitionException) {
+            LOG.debug("Topic {} does not exist in Kafka, skip it", name);
+          } else {
+            throw new RuntimeException("Failed to load topic " + name + " from Kafka", e);
+          }
+        } catch (InterruptedException e) {
+          throw new RuntimeException("Failed to load topic " + name + " from Kafka", e);
+        }
+      }
+    }
+    return result;
+  }
+
+  private TopicMetadata toTopicMetadata(TopicDescription topicDescription, Config topicConfigs) {
+    int partitions = topicDescription.partitions().size();
+    int replicationFactor = topicDescription.partitions().get(0).replicas().size();
+
+    Map<String, String> properties = Maps.newHashMap();
+    topicConfigs.entries().forEach(e -> properties.put(e.name(), e.value()));
+    properties.put(KafkaTopicPropertiesMetadata.PARTITION_COUNT, String.valueOf(partitions));
+    properties.put(
+        KafkaTopicPropertiesMetadata.REPLICATION_FACTOR, String.valueOf(replicationFactor));
+    return new TopicMetadata(topicDescription.topicId(), properties);
+  }
+
+  private KafkaTopic toKafkaTopic(String topicName, TopicMetadata metadata) {
+    return KafkaTopic.builder()
+        .withName(topicName)
+        // Because there is no way to store the Gravitino ID in Kafka, therefor we use the topic ID
+        // as the Gravitino ID
+        .withProperties(
+            newPropertiesWithId(convertToGravitinoId(metadata.topicId()), metadata.properties()))
+        .withAuditInfo(
+            AuditInfo.builder()
+                .withCreator(PrincipalUtils.getCurrentPrincipal().getName())
+                .withCreateTime(Instant.now())
+                .build())
+        .build();
+  }
+
   private StringIdentifier convertToGravitinoId(Uuid topicId) {
     return StringIdentifier.fromId(topicId.getLeastSignificantBits() & MAX_ID);
   }
@@ -29,6 +29,16 @@ public class KafkaCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadat
   // multiple brokers by comma-separating them.
   public static final String BOOTSTRAP_SERVERS = "bootstrap.servers";
 
+  // The interval in milliseconds to refresh the topic metadata cache in the background, the cache
+  // is disabled if the value is not positive.
+  public static final String TOPIC_CACHE_REFRESH_INTERVAL_MS =
+      "topic-metadata-cache.refresh-interval-ms";
+
+  // The max number of topics described in a single batched AdminClient request.
+  public static final String TOPIC_DESCRIBE_BATCH_SIZE = "topic-describe.batch-size";
+
+  public static final int DEFAULT_TOPIC_DESCRIBE_BATCH_SIZE = 500;
+
   private static final Map<String, PropertyEntry<?>> KAFKA_CATALOG_PROPERTY_ENTRIES =
       ImmutableMap.<String, PropertyEntry<?>>builder()
           .put(
@@ -39,6 +49,23 @@ public class KafkaCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadat
                       + "comma-separating them",
                   false /* immutable */,
                   false /* hidden */))
+          .put(
+              TOPIC_CACHE_REFRESH_INTERVAL_MS,
+              PropertyEntry.longOptionalPropertyEntry(
+                  TOPIC_CACHE_REFRESH_INTERVAL_MS,
+                  "The interval in milliseconds to refresh the topic metadata cache in the "
+                      + "background, 0 means the cache is disabled",
+                  false /* immutable */,
+                  0L /* defaultValue */,
+                  false /* hidden */))
+          .put(
+              TOPIC_DESCRIBE_BATCH_SIZE,
+              PropertyEntry.integerOptionalPropertyEntry(
+                  TOPIC_DESCRIBE_BATCH_SIZE,
+                  "The max number of topics described in a single batched request to Kafka",
+                  false /* immutable */,
+                  DEFAULT_TOPIC_DESCRIBE_BATCH_SIZE,
+                  false /* hidden */))
           .build();
 
   @Override
@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.kafka;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.apache.kafka.common.Uuid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An in-memory cache of the Kafka topic names and topic metadata. The whole cache is refreshed
+ * periodically by a background thread, so that listing and loading topics can be served without a
+ * round trip to the Kafka cluster for every request.
+ *
+ * <p>Every topic modification made through the catalog must call {@link #invalidate(String)}. A
+ * refresh or a load which started before the invalidation is discarded instead of putting stale
+ * metadata back into the cache.
+ */
+public class KafkaTopicMetadataCache implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(KafkaTopicMetadataCache.class);
+
+  private final Supplier<Set<String>> topicLister;
+  private final Function<Collection<String>, Map<String, TopicMetadata>> topicDescriber;
+  private final ScheduledExecutorService refresher;
+
+  private final ConcurrentMap<String, TopicMetadata> topics = new ConcurrentHashMap<>();
+  private final AtomicLong version = new AtomicLong();
+  // null means the topic names are unknown, and must be listed from the Kafka cluster
+  private volatile Set<String> topicNames;
+
+  /**
+   * Creates a new topic metadata cache and schedules the background refresh.
+   *
+   * @param topicLister The function to list all the topic names from the Kafka cluster.
+   * @param topicDescriber The function to describe the given topics from the Kafka cluster, the
+   *     topics which do not exist are absent from the result.
+   * @param refreshIntervalMs The interval in milliseconds between two background refreshes.
+   */
+  KafkaTopicMetadataCache(
+      Supplier<Set<String>> topicLister,
+      Function<Collection<String>, Map<String, TopicMetadata>> topicDescriber,
+      long refreshIntervalMs) {
+    this.topicLister = topicLister;
+    this.topicDescriber = topicDescriber;
+    this.refresher =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("kafka-topic-metadata-cache-%d")
+                .build());
+    refresher.scheduleWithFixedDelay(this::refresh, 0, refreshIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * @return The cached topic names, or empty if the topic names are not loaded yet or have been
+   *     invalidated since the last refresh.
+   */
+  public Optional<Set<String>> topicNames() {
+    return Optional.ofNullable(topicNames);
+  }
+
+  /**
+   * @param topicName The name of the topic.
+   * @return The cached metadata of the topic, or empty if the topic is not cached.
+   */
+  public Optional<TopicMetadata> get(String topicName) {
+    return Optional.ofNullable(topics.get(topicName));
+  }
+
+  /**
+   * Returns the current version of the cache. The version must be read before describing topics
+   * from the Kafka cluster and passed to {@link #put(String, TopicMetadata, long)}.
+   *
+   * @return The current version of the cache.
+   */
+  public long version() {
+    return version.get();
+  }
+
+  /**
+   * Puts the metadata of a topic into the cache, unless the cache has been invalidated since the
+   * given version was read.
+   *
+   * @param topicName The name of the topic.
+   * @param metadata The metadata of the topic.
+   * @param expectedVersion The version of the cache read before the metadata was described.
+   */
+  public synchronized void put(String topicName, TopicMetadata metadata, long expectedVersion) {
+    if (version.get() == expectedVersion) {
+      topics.put(topicName, metadata);
+    }
+  }
+
+  /**
+   * Invalidates the cached metadata of the topic and the cached topic names.
+   *
+   * @param topicName The name of the topic which is created, altered or dropped.
+   */
+  public synchronized void invalidate(String topicName) {
+    version.incrementAndGet();
+    topics.remove(topicName);
+    topicNames = null;
+  }
+
+  @VisibleForTesting
+  void refresh() {
+    long startVersion = version.get();
+    try {
+      Set<String> names = topicLister.get();
+      Map<String, TopicMetadata> described = topicDescriber.apply(names);
+
+      synchronized (this) {
+        if (version.get() != startVersion) {
+          LOG.debug("Kafka topic metadata cache was invalidated during refresh, skip this round");
+          return;
+        }
+        topics.keySet().retainAll(described.keySet());
+        topics.putAll(described);
+        topicNames = ImmutableSet.copyOf(names);
+      }
+      LOG.debug("Refreshed Kafka topic metadata cache with {} topics", described.size());
+    } catch (Exception e) {
+      LOG.warn("Failed to refresh Kafka topic metadata cache", e);
+    }
+  }
+
+  @Override
+  public void close() {
+    refresher.shutdownNow();
+    topics.clear();
+    topicNames = null;
+  }
+
+  /** The metadata of a Kafka topic described from the Kafka cluster. */
+  public static class TopicMetadata {
+    private final Uuid topicId;
+    private final Map<String, String> properties;
+
+    /**
+     * @param topicId The Kafka topic ID.
+     * @param properties The topic configs along with the partition count and replication factor.
+     */
+    public TopicMetadata(Uuid topicId, Map<String, String> properties) {
+      this.topicId = topicId;
+      // Kafka returns null values for the sensitive configs, so ImmutableMap cannot be used here
+      this.properties = Collections.unmodifiableMap(new HashMap<>(properties));
+    }
+
+    /** @return The Kafka topic ID. */
+    public Uuid topicId() {
+      return topicId;
+    }
+
+    /** @return The topic configs along with the partition count and replication factor. */
+    public Map<String, String> properties() {
+      return properties;
+    }
+  }
+}
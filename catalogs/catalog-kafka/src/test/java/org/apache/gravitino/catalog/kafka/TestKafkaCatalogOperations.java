@@ -39,6 +39,7 @@ import static org.apache.gravitino.catalog.kafka.KafkaCatalog.SCHEMA_PROPERTIES_
 import static org.apache.gravitino.catalog.kafka.KafkaCatalog.TOPIC_PROPERTIES_METADATA;
 import static org.apache.gravitino.catalog.kafka.KafkaCatalogOperations.CLIENT_ID_TEMPLATE;
 import static org.apache.gravitino.catalog.kafka.KafkaCatalogPropertiesMetadata.BOOTSTRAP_SERVERS;
+import static org.apache.gravitino.catalog.kafka.KafkaCatalogPropertiesMetadata.TOPIC_CACHE_REFRESH_INTERVAL_MS;
 import static org.apache.gravitino.catalog.kafka.KafkaTopicPropertiesMetadata.PARTITION_COUNT;
 import static org.apache.gravitino.catalog.kafka.KafkaTopicPropertiesMetadata.REPLICATION_FACTOR;
 import static org.mockito.Mockito.doReturn;
@@ -48,7 +49,13 @@ import com.google.common.collect.ImmutableMap;
 import java.io.File;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import org.apache.commons.io.FileUtils;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
@@ -563,6 +570,97 @@ public class TestKafkaCatalogOperations extends KafkaClusterEmbedded {
     Assertions.assertEquals("Cannot reduce partition count from 3 to 1", exception.getMessage());
   }
 
+  @Test
+  public void testLoadTopics() {
+    Namespace namespace = Namespace.of(METALAKE_NAME, CATALOG_NAME, DEFAULT_SCHEMA_NAME);
+    List<Topic> topics =
+        kafkaCatalogOperations.loadTopics(namespace, Arrays.asList(TOPIC_1, "error_topic"));
+    Assertions.assertEquals(1, topics.size());
+    Assertions.assertEquals(TOPIC_1, topics.get(0).name());
+    Assertions.assertEquals("1", topics.get(0).properties().get(PARTITION_COUNT));
+    Assertions.assertEquals("1", topics.get(0).properties().get(REPLICATION_FACTOR));
+    Assertions.assertNotNull(topics.get(0).properties().get(ID_KEY));
+
+    topics = kafkaCatalogOperations.loadTopics(namespace, null);
+    Set<String> topicNames = topics.stream().map(Topic::name).collect(Collectors.toSet());
+    Assertions.assertTrue(topicNames.contains(TOPIC_1));
+    Assertions.assertEquals(kafkaCatalogOperations.listTopics(namespace).length, topics.size());
+
+    Assertions.assertTrue(
+        kafkaCatalogOperations.loadTopics(namespace, Collections.emptyList()).isEmpty());
+    Assertions.assertThrows(
+        NoSuchSchemaException.class,
+        () ->
+            kafkaCatalogOperations.loadTopics(
+                Namespace.of(METALAKE_NAME, CATALOG_NAME, "error_schema"), null));
+  }
+
+  @Test
+  public void testTopicMetadataCache() throws IOException {
+    String catalogName = "test_kafka_catalog_topic_cache";
+    Map<String, String> properties =
+        ImmutableMap.<String, String>builder()
+            .putAll(MOCK_CATALOG_PROPERTIES)
+            // refresh the cache manually in this test
+            .put(TOPIC_CACHE_REFRESH_INTERVAL_MS, String.valueOf(TimeUnit.HOURS.toMillis(1)))
+            .build();
+    CatalogEntity catalogEntity =
+        CatalogEntity.builder()
+            .withId(3L)
+            .withName(catalogName)
+            .withNamespace(Namespace.of(METALAKE_NAME))
+            .withType(MESSAGING)
+            .withProvider("kafka")
+            .withAuditInfo(
+                AuditInfo.builder()
+                    .withCreator("testKafkaUser")
+                    .withCreateTime(Instant.now())
+                    .build())
+            .withProperties(properties)
+            .build();
+    KafkaCatalogOperations ops = new KafkaCatalogOperations(store, idGenerator);
+    ops.initialize(properties, catalogEntity.toCatalogInfo(), KAFKA_PROPERTIES_METADATA);
+    Assertions.assertEquals(2, ops.adminClientConfig.size());
+    Assertions.assertNotNull(ops.topicCache);
+
+    Namespace namespace = Namespace.of(METALAKE_NAME, catalogName, DEFAULT_SCHEMA_NAME);
+    NameIdentifier ident = NameIdentifier.of(namespace, "test_cached_topic");
+    try {
+      ops.topicCache.refresh();
+      Assertions.assertTrue(ops.topicCache.topicNames().isPresent());
+      Assertions.assertTrue(ops.topicCache.get(TOPIC_1).isPresent());
+      Assertions.assertEquals(TOPIC_1, ops.loadTopic(NameIdentifier.of(namespace, TOPIC_1)).name());
+
+      // creating a topic invalidates the cached topic names
+      ops.createTopic(
+          ident, null, null, ImmutableMap.of(PARTITION_COUNT, "1", REPLICATION_FACTOR, "1"));
+      Assertions.assertFalse(ops.topicCache.topicNames().isPresent());
+      Assertions.assertTrue(
+          Arrays.asList(ops.listTopics(namespace)).contains(ident),
+          "The created topic should be listed even if the cache is not refreshed");
+
+      // loading a topic caches it, and altering the topic invalidates it
+      Assertions.assertEquals("1", ops.loadTopic(ident).properties().get(PARTITION_COUNT));
+      Assertions.assertTrue(ops.topicCache.get(ident.name()).isPresent());
+      ops.alterTopic(ident, TopicChange.setProperty(PARTITION_COUNT, "2"));
+      Assertions.assertFalse(ops.topicCache.get(ident.name()).isPresent());
+      Assertions.assertEquals("2", ops.loadTopic(ident).properties().get(PARTITION_COUNT));
+
+      ops.topicCache.refresh();
+      Assertions.assertTrue(ops.topicCache.topicNames().get().contains(ident.name()));
+      Assertions.assertEquals(
+          "2", ops.topicCache.get(ident.name()).get().properties().get(PARTITION_COUNT));
+
+      // dropping a topic invalidates it
+      Assertions.assertTrue(ops.dropTopic(ident));
+      Assertions.assertFalse(ops.topicCache.get(ident.name()).isPresent());
+      Assertions.assertThrows(NoSuchTopicException.class, () -> ops.loadTopic(ident));
+    } finally {
+      ops.close();
+    }
+    Assertions.assertNull(ops.topicCache);
+  }
+
   @Test
   public void testTestConnection() {
     Assertions.assertDoesNotThrow(
@@ -18,7 +18,10 @@
  */
 package org.apache.gravitino.catalog.lakehouse.hudi;
 
+import static org.apache.gravitino.connector.PropertyEntry.booleanPropertyEntry;
 import static org.apache.gravitino.connector.PropertyEntry.enumImmutablePropertyEntry;
+import static org.apache.gravitino.connector.PropertyEntry.integerOptionalPropertyEntry;
+import static org.apache.gravitino.connector.PropertyEntry.longOptionalPropertyEntry;
 import static org.apache.gravitino.connector.PropertyEntry.stringRequiredPropertyEntry;
 
 import com.google.common.collect.ImmutableMap;
@@ -31,6 +34,27 @@ import org.apache.gravitino.hive.ClientPropertiesMetadata;
 public class HudiCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadata {
   public static final String CATALOG_BACKEND = "catalog-backend";
   public static final String URI = "uri";
+
+  /** The max number of table objects fetched from HMS in one call when listing tables. */
+  public static final String LIST_TABLES_BATCH_SIZE = "list-tables.batch-size";
+
+  /** The max number of concurrent HMS calls to fetch the table objects when listing tables. */
+  public static final String LIST_TABLES_PARALLELISM = "list-tables.parallelism";
+
+  /**
+   * Whether to only fetch the tables whose `provider` parameter is `hudi` from HMS when listing
+   * tables. The Hudi tables without the parameter, like the ones synced by old Hudi versions, are
+   * not listed if it is enabled.
+   */
+  public static final String LIST_TABLES_FILTER_PUSH_DOWN = "list-tables.filter-push-down";
+
+  /** The time in milliseconds a table is remembered as a Hudi or non-Hudi table, 0 disables it. */
+  public static final String TABLE_TYPE_CACHE_TTL_MS = "table-type-cache.ttl-ms";
+
+  public static final int DEFAULT_LIST_TABLES_BATCH_SIZE = 100;
+  public static final int DEFAULT_LIST_TABLES_PARALLELISM = 4;
+  public static final long DEFAULT_TABLE_TYPE_CACHE_TTL_MS = 3600000L;
+
   private static final ClientPropertiesMetadata CLIENT_PROPERTIES_METADATA =
       new ClientPropertiesMetadata();
 
@@ -50,6 +74,40 @@ public class HudiCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadata
               URI,
               stringRequiredPropertyEntry(
                   URI, "Hudi catalog uri config", false /* immutable */, false /* hidden */))
+          .put(
+              LIST_TABLES_BATCH_SIZE,
+              integerOptionalPropertyEntry(
+                  LIST_TABLES_BATCH_SIZE,
+                  "The max number of table objects fetched from HMS in one call",
+                  false /* immutable */,
+                  DEFAULT_LIST_TABLES_BATCH_SIZE,
+                  false /* hidden */))
+          .put(
+              LIST_TABLES_PARALLELISM,
+              integerOptionalPropertyEntry(
+                  LIST_TABLES_PARALLELISM,
+                  "The max number of concurrent HMS calls to fetch the table objects",
+                  false /* immutable */,
+                  DEFAULT_LIST_TABLES_PARALLELISM,
+                  false /* hidden */))
+          .put(
+              LIST_TABLES_FILTER_PUSH_DOWN,
+              booleanPropertyEntry(
+                  LIST_TABLES_FILTER_PUSH_DOWN,
+                  "Whether to only fetch the tables with the Hudi provider parameter from HMS",
+                  false /* required */,
+                  false /* immutable */,
+                  false /* defaultValue */,
+                  false /* hidden */,
+                  false /* reserved */))
+          .put(
+              TABLE_TYPE_CACHE_TTL_MS,
+              longOptionalPropertyEntry(
+                  TABLE_TYPE_CACHE_TTL_MS,
+                  "The time in milliseconds a table is remembered as a Hudi or non-Hudi table",
+                  false /* immutable */,
+                  DEFAULT_TABLE_TYPE_CACHE_TTL_MS,
+                  false /* hidden */))
           .putAll(CLIENT_PROPERTIES_METADATA.propertyEntries())
           .build();
 
@@ -18,19 +18,38 @@
  */
 package org.apache.gravitino.catalog.lakehouse.hudi.backend.hms;
 
+import static org.apache.gravitino.catalog.lakehouse.hudi.HudiCatalogPropertiesMetadata.LIST_TABLES_BATCH_SIZE;
+import static org.apache.gravitino.catalog.lakehouse.hudi.HudiCatalogPropertiesMetadata.LIST_TABLES_FILTER_PUSH_DOWN;
+import static org.apache.gravitino.catalog.lakehouse.hudi.HudiCatalogPropertiesMetadata.LIST_TABLES_PARALLELISM;
+import static org.apache.gravitino.catalog.lakehouse.hudi.HudiCatalogPropertiesMetadata.TABLE_TYPE_CACHE_TTL_MS;
 import static org.apache.gravitino.catalog.lakehouse.hudi.HudiCatalogPropertiesMetadata.URI;
 import static org.apache.gravitino.connector.BaseCatalog.CATALOG_BYPASS_PREFIX;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.File;
 import java.io.IOException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.security.PrivilegedExceptionAction;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.SchemaChange;
+import org.apache.gravitino.catalog.lakehouse.hudi.HudiCatalogPropertiesMetadata;
 import org.apache.gravitino.catalog.lakehouse.hudi.HudiSchema;
 import org.apache.gravitino.catalog.lakehouse.hudi.HudiTable;
 import org.apache.gravitino.catalog.lakehouse.hudi.backend.hms.kerberos.AuthenticationConfig;
@@ -56,6 +75,8 @@ import org.apache.hadoop.hive.metastore.api.Database;
 import org.apache.hadoop.hive.metastore.api.NoSuchObjectException;
 import org.apache.hadoop.hive.metastore.api.Table;
 import org.apache.hadoop.hive.metastore.api.UnknownDBException;
+import org.apache.hadoop.hive.metastore.api.hive_metastoreConstants;
+import org.apache.hadoop.security.UserGroupInformation;
 import org.apache.thrift.TException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -66,16 +87,69 @@ public class HudiHMSBackendOps implements HudiCatalogBackendOps {
   private static final Map<String, String> CONFIG_CONVERTER =
       ImmutableMap.of(URI, HiveConf.ConfVars.METASTOREURIS.varname);
 
+  private static final HudiCatalogPropertiesMetadata CATALOG_PROPERTIES_METADATA =
+      new HudiCatalogPropertiesMetadata();
+
   private static final String HUDI_PACKAGE_PREFIX = "org.apache.hudi";
 
+  // The tables created by the Spark data source of Hudi have the `provider` parameter.
+  private static final String HUDI_PROVIDER_FILTER =
+      String.format("%sprovider like \"hudi\"", hive_metastoreConstants.HIVE_FILTER_FIELD_PARAMS);
+
+  // Matches the tables whose DDL time is the given one.
+  private static final String DDL_TIME_FILTER =
+      String.format(
+          "%s%s = \"%%s\"",
+          hive_metastoreConstants.HIVE_FILTER_FIELD_PARAMS, hive_metastoreConstants.DDL_TIME);
+
+  // The maximum number of tables returned by the listTableNamesByFilter function, -1 means all.
+  private static final short MAX_TABLES = -1;
+
   @VisibleForTesting CachedClientPool clientPool;
 
+  private int listTablesBatchSize;
+  private boolean listTablesFilterPushDown;
+  // Fetches the batches of table objects concurrently, null if the parallelism is 1.
+  private ExecutorService listTablesExecutor;
+  // Null if the table type cache is disabled.
+  @VisibleForTesting HudiTableTypeCache tableTypeCache;
+
   public static final String GRAVITINO_KEYTAB_FORMAT = "keytabs/gravitino-lakehouse-hudi-%s-keytab";
 
   @Override
   public void initialize(Map<String, String> properties) {
     HiveConf hiveConf = buildHiveConfAndInitKerberosAuth(properties);
     this.clientPool = new CachedClientPool(hiveConf, properties);
+
+    this.listTablesBatchSize =
+        (int) CATALOG_PROPERTIES_METADATA.getOrDefault(properties, LIST_TABLES_BATCH_SIZE);
+    Preconditions.checkArgument(
+        listTablesBatchSize > 0, "%s must be positive", LIST_TABLES_BATCH_SIZE);
+    this.listTablesFilterPushDown =
+        (boolean)
+            CATALOG_PROPERTIES_METADATA.getOrDefault(properties, LIST_TABLES_FILTER_PUSH_DOWN);
+
+    int listTablesParallelism =
+        (int) CATALOG_PROPERTIES_METADATA.getOrDefault(properties, LIST_TABLES_PARALLELISM);
+    Preconditions.checkArgument(
+        listTablesParallelism > 0, "%s must be positive", LIST_TABLES_PARALLELISM);
+    if (listTablesParallelism > 1) {
+      this.listTablesExecutor =
+          Executors.newFixedThreadPool(
+              listTablesParallelism,
+              new ThreadFactoryBuilder()
+                  .setDaemon(true)
+                  .setNameFormat("hudi-list-tables-%d")
+                  .build());
+    }
+
+    long tableTypeCacheTtlMs =
+        (long) CATALOG_PROPERTIES_METADATA.getOrDefault(properties, TABLE_TYPE_CACHE_TTL_MS);
+    Preconditions.checkArgument(
+        tableTypeCacheTtlMs >= 0, "%s must not be negative", TABLE_TYPE_CACHE_TTL_MS);
+    if (tableTypeCacheTtlMs > 0) {
+      this.tableTypeCache = new HudiTableTypeCache(tableTypeCacheTtlMs);
+    }
   }
 
   @Override
@@ -144,15 +218,26 @@ public class HudiHMSBackendOps implements HudiCatalogBackendOps {
       throw new NoSuchSchemaException("Schema (database) does not exist %s", namespace);
     }
 
+    String dbName = schemaIdent.name();
     try {
-      return clientPool.run(
-          c -> {
-            List<String> allTables = c.getAllTables(schemaIdent.name());
-            return c.getTableObjectsByName(schemaIdent.name(), allTables).stream()
-                .filter(this::checkHudiTable)
-                .map(t -> NameIdentifier.of(namespace, t.getTableName()))
-                .toArray(NameIdentifier[]::new);
-          });
+      List<String> tableNames =
+          listTablesFilterPushDown
+              ? clientPool.run(
+                  c -> c.listTableNamesByFilter(dbName, HUDI_PROVIDER_FILTER, MAX_TABLES))
+              : clientPool.run(c -> c.getAllTables(dbName));
+
+      // Only fetches the table objects of the tables whose types are unknown or stale
+      Map<String, Boolean> tableTypes = Maps.newHashMap();
+      List<String> uncachedTables = uncachedTables(dbName, tableNames, tableTypes);
+      for (Table table : fetchTableObjects(dbName, uncachedTables)) {
+        tableTypes.put(table.getTableName(), checkHudiTable(table));
+      }
+
+      // The table might be dropped after listing the table names
+      return tableNames.stream()
+          .filter(t -> Boolean.TRUE.equals(tableTypes.get(t)))
+          .map(t -> NameIdentifier.of(namespace, t))
+          .toArray(NameIdentifier[]::new);
 
     } catch (UnknownDBException e) {
       throw new NoSuchSchemaException(
@@ -181,6 +266,9 @@ public class HudiHMSBackendOps implements HudiCatalogBackendOps {
       return HudiHMSTable.builder().withBackendTable(table).build();
 
     } catch (NoSuchObjectException e) {
+      if (tableTypeCache != null) {
+        tableTypeCache.invalidate(schemaIdent.name(), tableIdent.name());
+      }
       throw new NoSuchTableException(
           e, "Hudi table does not exist: %s in Hive Metastore", tableIdent.name());
 
@@ -220,19 +308,124 @@ public class HudiHMSBackendOps implements HudiCatalogBackendOps {
 
   @Override
   public void close() {
+    if (listTablesExecutor != null) {
+      listTablesExecutor.shutdownNow();
+      listTablesExecutor = null;
+    }
+    if (tableTypeCache != null) {
+      tableTypeCache.invalidateAll();
+    }
     if (clientPool != null) {
       clientPool.close();
       clientPool = null;
     }
   }
 
+  // Puts the cached types of the tables into the given map and returns the tables to fetch. The
+  // cached types are rechecked against the current DDL times of the tables in batches, HMS only
+  // returns the names of the tables whose DDL times are among the cached ones, so a table dropped
+  // and recreated or altered since it was cached is fetched again.
+  private List<String> uncachedTables(
+      String dbName, List<String> tableNames, Map<String, Boolean> tableTypes)
+      throws TException, InterruptedException {
+    if (tableTypeCache == null) {
+      return tableNames;
+    }
+
+    List<String> uncachedTables = new ArrayList<>();
+    Map<String, HudiTableTypeCache.TableType> cachedTables = Maps.newHashMap();
+    for (String tableName : tableNames) {
+      HudiTableTypeCache.TableType tableType = tableTypeCache.get(dbName, tableName);
+      if (tableType == null) {
+        uncachedTables.add(tableName);
+      } else {
+        cachedTables.put(tableName, tableType);
+      }
+    }
+
+    for (List<String> batch :
+        Lists.partition(new ArrayList<>(cachedTables.keySet()), listTablesBatchSize)) {
+      String filter =
+          batch.stream()
+              .map(t -> String.format(DDL_TIME_FILTER, cachedTables.get(t).ddlTime()))
+              .distinct()
+              .collect(Collectors.joining(" or "));
+      Set<String> unchangedTables =
+          Sets.newHashSet(
+              clientPool.run(c -> c.listTableNamesByFilter(dbName, filter, MAX_TABLES)));
+      for (String tableName : batch) {
+        if (unchangedTables.contains(tableName)) {
+          tableTypes.put(tableName, cachedTables.get(tableName).hudi());
+        } else {
+          tableTypeCache.invalidate(dbName, tableName);
+          uncachedTables.add(tableName);
+        }
+      }
+    }
+    return uncachedTables;
+  }
+
+  // Fetches the table objects in batches to bound the size of the HMS responses, the batches are
+  // fetched concurrently on behalf of the current user if the parallelism is more than 1.
+  private List<Table> fetchTableObjects(String dbName, List<String> tableNames)
+      throws TException, InterruptedException {
+    List<List<String>> batches = Lists.partition(tableNames, listTablesBatchSize);
+    List<Table> tables = new ArrayList<>(tableNames.size());
+    if (listTablesExecutor == null || batches.size() <= 1) {
+      for (List<String> batch : batches) {
+        tables.addAll(clientPool.run(c -> c.getTableObjectsByName(dbName, batch)));
+      }
+      return tables;
+    }
+
+    UserGroupInformation user;
+    try {
+      user = UserGroupInformation.getCurrentUser();
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to get the current user", e);
+    }
+    List<Future<List<Table>>> futures = new ArrayList<>(batches.size());
+    for (List<String> batch : batches) {
+      futures.add(
+          listTablesExecutor.submit(
+              () ->
+                  user.doAs(
+                      (PrivilegedExceptionAction<List<Table>>)
+                          () -> clientPool.run(c -> c.getTableObjectsByName(dbName, batch)))));
+    }
+
+    try {
+      for (Future<List<Table>> future : futures) {
+        tables.addAll(future.get());
+      }
+      return tables;
+
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof UndeclaredThrowableException) {
+        cause = cause.getCause();
+      }
+      Throwables.throwIfInstanceOf(cause, TException.class);
+      Throwables.throwIfUnchecked(cause);
+      throw new RuntimeException(cause);
+
+    } finally {
+      futures.forEach(future -> future.cancel(true));
+    }
+  }
+
   private boolean checkHudiTable(Table table) {
     // here uses the input format to filter out non-Hudi tables, the COW table
     // uses `org.apache.hudi.hadoop.HoodieParquetInputFormat` and MOR table
     // uses `org.apache.hudi.hadoop.HoodieParquetRealtimeInputFormat`, to
     // simplify the logic, we just check the prefix of the input format
-    return table.getSd().getInputFormat() != null
-        && table.getSd().getInputFormat().startsWith(HUDI_PACKAGE_PREFIX);
+    boolean hudi =
+        table.getSd().getInputFormat() != null
+            && table.getSd().getInputFormat().startsWith(HUDI_PACKAGE_PREFIX);
+    if (tableTypeCache != null) {
+      tableTypeCache.put(table, hudi);
+    }
+    return hudi;
   }
 
   private HiveConf buildHiveConfAndInitKerberosAuth(Map<String, String> properties) {
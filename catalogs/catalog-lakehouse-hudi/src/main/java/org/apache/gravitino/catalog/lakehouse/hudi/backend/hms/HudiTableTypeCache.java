@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.lakehouse.hudi.backend.hms;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.hadoop.hive.metastore.api.Table;
+import org.apache.hadoop.hive.metastore.api.hive_metastoreConstants;
+
+/**
+ * Remembers whether the HMS tables are Hudi tables along with their DDL times, so listing the
+ * tables only fetches the table objects of the tables not seen before or changed since. An entry
+ * is replaced when a fetched table object carries another DDL time than the cached one, is
+ * invalidated when the table is found dropped or changed, and expires after the TTL.
+ */
+class HudiTableTypeCache {
+
+  private static final long MAX_TABLES = 1_000_000L;
+
+  private final Cache<String, TableType> tableTypes;
+
+  /** @param ttlMs The time in milliseconds an entry is kept after it is written. */
+  HudiTableTypeCache(long ttlMs) {
+    this.tableTypes =
+        CacheBuilder.newBuilder()
+            .expireAfterWrite(ttlMs, TimeUnit.MILLISECONDS)
+            .maximumSize(MAX_TABLES)
+            .build();
+  }
+
+  /**
+   * @param dbName The database name.
+   * @param tableName The table name.
+   * @return The cached type of the table, or null if it is unknown.
+   */
+  TableType get(String dbName, String tableName) {
+    return tableTypes.getIfPresent(key(dbName, tableName));
+  }
+
+  /**
+   * Records the type of a fetched table object.
+   *
+   * @param table The table object fetched from HMS.
+   * @param hudi Whether the table is a Hudi table.
+   */
+  void put(Table table, boolean hudi) {
+    String key = key(table.getDbName(), table.getTableName());
+    String ddlTime = ddlTime(table);
+    TableType cached = tableTypes.getIfPresent(key);
+    if (cached == null || cached.hudi != hudi || !cached.ddlTime.equals(ddlTime)) {
+      tableTypes.put(key, new TableType(ddlTime, hudi));
+    }
+  }
+
+  void invalidate(String dbName, String tableName) {
+    tableTypes.invalidate(key(dbName, tableName));
+  }
+
+  void invalidateAll() {
+    tableTypes.invalidateAll();
+  }
+
+  private static String key(String dbName, String tableName) {
+    return dbName + "." + tableName;
+  }
+
+  private static String ddlTime(Table table) {
+    Map<String, String> parameters = table.getParameters();
+    String ddlTime = parameters == null ? null : parameters.get(hive_metastoreConstants.DDL_TIME);
+    return ddlTime == null ? String.valueOf(table.getCreateTime()) : ddlTime;
+  }
+
+  static class TableType {
+    private final String ddlTime;
+    private final boolean hudi;
+
+    private TableType(String ddlTime, boolean hudi) {
+      this.ddlTime = ddlTime;
+      this.hudi = hudi;
+    }
+
+    /** @return The `transient_lastDdlTime` of the table when it was cached. */
+    String ddlTime() {
+      return ddlTime;
+    }
+
+    /** @return Whether the table is a Hudi table. */
+    boolean hudi() {
+      return hudi;
+    }
+  }
+}
@@ -18,6 +18,10 @@
  */
 package org.apache.gravitino.catalog.lakehouse.hudi.backend.hms;
 
+import static org.apache.gravitino.catalog.lakehouse.hudi.HudiCatalogPropertiesMetadata.LIST_TABLES_BATCH_SIZE;
+import static org.apache.gravitino.catalog.lakehouse.hudi.HudiCatalogPropertiesMetadata.LIST_TABLES_FILTER_PUSH_DOWN;
+import static org.apache.gravitino.catalog.lakehouse.hudi.HudiCatalogPropertiesMetadata.LIST_TABLES_PARALLELISM;
+import static org.apache.gravitino.catalog.lakehouse.hudi.HudiCatalogPropertiesMetadata.TABLE_TYPE_CACHE_TTL_MS;
 import static org.apache.gravitino.catalog.lakehouse.hudi.HudiCatalogPropertiesMetadata.URI;
 import static org.apache.gravitino.catalog.lakehouse.hudi.HudiSchemaPropertiesMetadata.LOCATION;
 
@@ -40,6 +44,7 @@ import org.apache.hadoop.hive.metastore.api.FieldSchema;
 import org.apache.hadoop.hive.metastore.api.SerDeInfo;
 import org.apache.hadoop.hive.metastore.api.StorageDescriptor;
 import org.apache.hadoop.hive.metastore.api.Table;
+import org.apache.hadoop.hive.metastore.api.hive_metastoreConstants;
 import org.apache.spark.sql.SparkSession;
 import org.apache.thrift.TException;
 import org.junit.jupiter.api.AfterAll;
@@ -90,6 +95,11 @@ public class TestHudiHMSBackendOps extends MiniHiveMetastoreService {
     // create a hudi table
     sparkSession.sql(
         String.format("CREATE TABLE %s.%s (ts BIGINT) USING HUDI", DB_NAME, HUDI_TABLE_NAME));
+
+    // the listing filter push-down only matches the tables with the `provider` parameter
+    Table hudiTable = metastoreClient.getTable(DB_NAME, HUDI_TABLE_NAME);
+    hudiTable.putToParameters("provider", "hudi");
+    metastoreClient.alter_table(DB_NAME, HUDI_TABLE_NAME, hudiTable);
   }
 
   @AfterAll
@@ -133,6 +143,71 @@ public class TestHudiHMSBackendOps extends MiniHiveMetastoreService {
     Assertions.assertEquals(HUDI_TABLE_NAME, tables[0].name());
   }
 
+  @Test
+  public void testListTablesInBatches() {
+    Map<String, String> props = Maps.newHashMap();
+    props.put(URI, hiveConf.get(HiveConf.ConfVars.METASTOREURIS.varname));
+    props.put(LIST_TABLES_BATCH_SIZE, "1");
+    props.put(LIST_TABLES_PARALLELISM, "2");
+
+    Namespace namespace = Namespace.of(METALAKE_NAME, CATALOG_NAME, DB_NAME);
+    try (HudiHMSBackendOps batchOps = new HudiHMSBackendOps()) {
+      batchOps.initialize(props);
+      NameIdentifier[] tables = batchOps.listTables(namespace);
+      Assertions.assertEquals(1, tables.length);
+      Assertions.assertEquals(HUDI_TABLE_NAME, tables[0].name());
+
+      // the table types are cached, listing again doesn't fetch the table objects
+      Assertions.assertTrue(batchOps.tableTypeCache.get(DB_NAME, HUDI_TABLE_NAME).hudi());
+      Assertions.assertFalse(batchOps.tableTypeCache.get(DB_NAME, HIVE_TABLE_NAME).hudi());
+      tables = batchOps.listTables(namespace);
+      Assertions.assertEquals(1, tables.length);
+      Assertions.assertEquals(HUDI_TABLE_NAME, tables[0].name());
+    }
+
+    props.put(TABLE_TYPE_CACHE_TTL_MS, "0");
+    props.put(LIST_TABLES_FILTER_PUSH_DOWN, "true");
+    try (HudiHMSBackendOps filterOps = new HudiHMSBackendOps()) {
+      filterOps.initialize(props);
+      Assertions.assertNull(filterOps.tableTypeCache);
+      NameIdentifier[] tables = filterOps.listTables(namespace);
+      // the hive table is filtered out by HMS, the hudi table is still listed
+      Assertions.assertEquals(1, tables.length);
+      Assertions.assertEquals(HUDI_TABLE_NAME, tables[0].name());
+    }
+  }
+
+  @Test
+  public void testListTablesRechecksDdlTime() throws TException {
+    String tableName = "recreated_table";
+    Namespace namespace = Namespace.of(METALAKE_NAME, CATALOG_NAME, DB_NAME);
+    metastoreClient.createTable(newTable(tableName, null, "1"));
+    try {
+      NameIdentifier[] tables = ops.listTables(namespace);
+      Assertions.assertEquals(1, tables.length);
+      Assertions.assertFalse(ops.tableTypeCache.get(DB_NAME, tableName).hudi());
+
+      // the table is recreated as a Hudi table with another DDL time
+      metastoreClient.dropTable(DB_NAME, tableName);
+      metastoreClient.createTable(
+          newTable(tableName, "org.apache.hudi.hadoop.HoodieParquetInputFormat", "2"));
+      tables = ops.listTables(namespace);
+      Assertions.assertEquals(2, tables.length);
+      Assertions.assertTrue(
+          Arrays.stream(tables).anyMatch(table -> table.name().equals(tableName)));
+      Assertions.assertTrue(ops.tableTypeCache.get(DB_NAME, tableName).hudi());
+
+      // the dropped table is invalidated when it is loaded
+      metastoreClient.dropTable(DB_NAME, tableName);
+      Assertions.assertThrows(
+          NoSuchTableException.class, () -> ops.loadTable(NameIdentifier.of(namespace, tableName)));
+      Assertions.assertNull(ops.tableTypeCache.get(DB_NAME, tableName));
+
+    } finally {
+      metastoreClient.dropTable(DB_NAME, tableName, true, true, true);
+    }
+  }
+
   @Test
   public void testLoadTable() {
     Namespace namespace = Namespace.of(METALAKE_NAME, CATALOG_NAME, DB_NAME);
@@ -181,4 +256,17 @@ public class TestHudiHMSBackendOps extends MiniHiveMetastoreService {
     Assertions.assertEquals(
         HudiColumn.builder().withName("ts").withType(Types.LongType.get()).build(), columns[5]);
   }
+
+  private static Table newTable(String tableName, String inputFormat, String ddlTime) {
+    Table table = new Table();
+    table.setDbName(DB_NAME);
+    table.setTableName(tableName);
+    StorageDescriptor strgDesc = new StorageDescriptor();
+    strgDesc.setCols(Lists.newArrayList(new FieldSchema("col1", "string", "description")));
+    strgDesc.setSerdeInfo(new SerDeInfo());
+    strgDesc.setInputFormat(inputFormat);
+    table.setSd(strgDesc);
+    table.putToParameters(hive_metastoreConstants.DDL_TIME, ddlTime);
+    return table;
+  }
 }
@@ -23,8 +23,10 @@ import com.google.common.base.Preconditions;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Catalog;
@@ -40,12 +42,14 @@ import org.apache.gravitino.dto.requests.FilesetUpdateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdatesRequest;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
+import org.apache.gravitino.dto.responses.FileInfoListResponse;
 import org.apache.gravitino.dto.responses.FileLocationResponse;
 import org.apache.gravitino.dto.responses.FilesetResponse;
 import org.apache.gravitino.exceptions.FilesetAlreadyExistsException;
 import org.apache.gravitino.exceptions.NoSuchFilesetException;
 import org.apache.gravitino.exceptions.NoSuchLocationNameException;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
+import org.apache.gravitino.file.FileInfo;
 import org.apache.gravitino.file.Fileset;
 import org.apache.gravitino.file.FilesetChange;
 import org.apache.gravitino.rest.RESTUtils;
@@ -56,7 +60,7 @@ import org.apache.gravitino.rest.RESTUtils;
  * metalake.
  */
 class FilesetCatalog extends BaseSchemaCatalog
-    implements org.apache.gravitino.file.FilesetCatalog, SupportsCredentials {
+    implements org.apache.gravitino.file.FilesetCatalog, SupportsCredentials, SupportsFileListing {
 
   FilesetCatalog(
       Namespace namespace,
@@ -269,6 +273,38 @@ class FilesetCatalog extends BaseSchemaCatalog
     }
   }
 
+  /**
+   * Lists the files under the sub path of a fileset lazily, the files are fetched from the server
+   * page by page.
+   *
+   * @param ident A fileset identifier.
+   * @param locationName The name of the location to be listed, or null for the default location.
+   * @param subPath The sub path of the directory to list, "/" for the root of the fileset.
+   * @param recursive Whether to list the files in the sub directories recursively.
+   * @param pageSize The max number of files fetched in one request.
+   * @return The iterator of the files.
+   * @throws NoSuchFilesetException If the fileset does not exist.
+   */
+  @Override
+  public Iterator<FileInfo> listFiles(
+      NameIdentifier ident, String locationName, String subPath, boolean recursive, int pageSize)
+      throws NoSuchFilesetException {
+    checkFilesetNameIdentifier(ident);
+    Preconditions.checkArgument(pageSize > 0, "The page size must be positive");
+    Namespace fullNamespace = getFilesetFullNamespace(ident.namespace());
+    String path = formatFilesRequestPath(fullNamespace, ident.name());
+
+    Map<String, String> params = new HashMap<>();
+    params.put("sub_path", RESTUtils.encodeString(StringUtils.defaultIfBlank(subPath, "/")));
+    if (locationName != null) {
+      params.put("location_name", RESTUtils.encodeString(locationName));
+    }
+    params.put("recursive", String.valueOf(recursive));
+    params.put("page_size", String.valueOf(pageSize));
+
+    return new PagedFileIterator(path, params);
+  }
+
   @Override
   public SupportsCredentials supportsCredentials() throws UnsupportedOperationException {
     return this;
@@ -303,6 +339,11 @@ class FilesetCatalog extends BaseSchemaCatalog
         .toString();
   }
 
+  @VisibleForTesting
+  static String formatFilesRequestPath(Namespace ns, String name) {
+    return formatFilesetRequestPath(ns) + "/" + RESTUtils.encodeString(name) + "/files";
+  }
+
   /**
    * Check whether the namespace of a fileset is valid.
    *
@@ -380,4 +421,76 @@ class FilesetCatalog extends BaseSchemaCatalog
           namespace, name, type, provider, comment, properties, audit, restClient);
     }
   }
+
+  /** The iterator of the files which fetches the next page when the current page is consumed. */
+  private class PagedFileIterator implements Iterator<FileInfo> {
+    private final String path;
+    private final Map<String, String> params;
+    // The caller context of the listing, the pages after the first one are fetched lazily, maybe
+    // after the caller has moved on to other calls, so they can't read it from the thread local.
+    private final CallerContext callerContext;
+    private FileInfo[] page;
+    private int index;
+    private String nextPageToken;
+
+    private PagedFileIterator(String path, Map<String, String> params) {
+      this.path = path;
+      this.params = params;
+      this.callerContext = CallerContext.CallerContextHolder.get();
+      // Clear the caller context, it's consumed by this listing as by any other call
+      CallerContext.CallerContextHolder.remove();
+      fetch(null);
+    }
+
+    @Override
+    public boolean hasNext() {
+      // A page may be empty even if it is not the last page, e.g. all the remaining files are
+      // deleted during the listing, so keep fetching until a file is found or no page is left.
+      while (index >= page.length && nextPageToken != null) {
+        fetch(nextPageToken);
+      }
+      return index < page.length;
+    }
+
+    @Override
+    public FileInfo next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return page[index++];
+    }
+
+    private void fetch(String pageToken) {
+      Map<String, String> pageParams = new HashMap<>(params);
+      if (pageToken != null) {
+        pageParams.put("page_token", pageToken);
+      }
+
+      CallerContext previousCallerContext = CallerContext.CallerContextHolder.get();
+      if (callerContext != null) {
+        CallerContext.CallerContextHolder.set(callerContext);
+      }
+      try {
+        FileInfoListResponse resp =
+            restClient.get(
+                path,
+                pageParams,
+                FileInfoListResponse.class,
+                callerContext != null ? callerContext.context() : Collections.emptyMap(),
+                ErrorHandlers.filesetErrorHandler());
+        resp.validate();
+
+        this.page = resp.getFiles();
+        this.index = 0;
+        this.nextPageToken = resp.getNextPageToken();
+      } finally {
+        // Restore the caller context of the thread, which may be set for another call
+        if (previousCallerContext != null) {
+          CallerContext.CallerContextHolder.set(previousCallerContext);
+        } else {
+          CallerContext.CallerContextHolder.remove();
+        }
+      }
+    }
+  }
 }
@@ -573,6 +573,13 @@ public class GravitinoClient extends GravitinoClientBase
     return getMetalake().deleteTag(name);
   }
 
+  @Override
+  public void associateMetadataObjectsForTag(
+      String name, MetadataObject[] objectsToAdd, MetadataObject[] objectsToRemove)
+      throws NoSuchTagException, NoSuchMetadataObjectException {
+    getMetalake().associateMetadataObjectsForTag(name, objectsToAdd, objectsToRemove);
+  }
+
   @Override
   public List<JobTemplate> listJobTemplates() {
     return getMetalake().listJobTemplates();
@@ -663,6 +670,13 @@ public class GravitinoClient extends GravitinoClientBase
     return getMetalake().deletePolicy(name);
   }
 
+  @Override
+  public void associateMetadataObjectsForPolicy(
+      String name, MetadataObject[] objectsToAdd, MetadataObject[] objectsToRemove)
+      throws NoSuchPolicyException, NoSuchMetadataObjectException {
+    getMetalake().associateMetadataObjectsForPolicy(name, objectsToAdd, objectsToRemove);
+  }
+
   /** Builder class for constructing a GravitinoClient. */
   public static class ClientBuilder extends GravitinoClientBase.Builder<GravitinoClient> {
 
@@ -56,6 +56,7 @@ import org.apache.gravitino.dto.requests.CatalogUpdatesRequest;
 import org.apache.gravitino.dto.requests.GroupAddRequest;
 import org.apache.gravitino.dto.requests.JobRunRequest;
 import org.apache.gravitino.dto.requests.JobTemplateRegisterRequest;
+import org.apache.gravitino.dto.requests.MetadataObjectsAssociateRequest;
 import org.apache.gravitino.dto.requests.OwnerSetRequest;
 import org.apache.gravitino.dto.requests.PolicyCreateRequest;
 import org.apache.gravitino.dto.requests.PolicySetRequest;
@@ -93,6 +94,7 @@ import org.apache.gravitino.dto.responses.TagListResponse;
 import org.apache.gravitino.dto.responses.TagResponse;
 import org.apache.gravitino.dto.responses.UserListResponse;
 import org.apache.gravitino.dto.responses.UserResponse;
+import org.apache.gravitino.dto.tag.MetadataObjectDTO;
 import org.apache.gravitino.exceptions.CatalogAlreadyExistsException;
 import org.apache.gravitino.exceptions.CatalogInUseException;
 import org.apache.gravitino.exceptions.GroupAlreadyExistsException;
@@ -574,6 +576,38 @@ public class GravitinoMetalake extends MetalakeDTO
     return resp.dropped();
   }
 
+  /**
+   * Associate and disassociate a batch of metadata objects with a tag in one call.
+   *
+   * @param name The name of the tag.
+   * @param objectsToAdd The metadata objects to associate with the tag.
+   * @param objectsToRemove The metadata objects to disassociate from the tag.
+   * @throws NoSuchTagException If the tag does not exist.
+   * @throws NoSuchMetadataObjectException If any of the metadata objects does not exist.
+   */
+  @Override
+  public void associateMetadataObjectsForTag(
+      String name, MetadataObject[] objectsToAdd, MetadataObject[] objectsToRemove)
+      throws NoSuchTagException, NoSuchMetadataObjectException {
+    Preconditions.checkArgument(StringUtils.isNotBlank(name), "tag name must not be null or empty");
+
+    MetadataObjectsAssociateRequest req =
+        new MetadataObjectsAssociateRequest(toDTOs(objectsToAdd), toDTOs(objectsToRemove));
+    req.validate();
+
+    BaseResponse resp =
+        restClient.post(
+            String.format(API_METALAKES_TAGS_PATH, RESTUtils.encodeString(this.name()))
+                + "/"
+                + RESTUtils.encodeString(name)
+                + "/objects",
+            req,
+            BaseResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.tagErrorHandler());
+    resp.validate();
+  }
+
   /**
    * List all the policies under the current metalake.
    *
@@ -752,6 +786,39 @@ public class GravitinoMetalake extends MetalakeDTO
     return resp.dropped();
   }
 
+  /**
+   * Associate and disassociate a batch of metadata objects with a policy in one call.
+   *
+   * @param name The name of the policy.
+   * @param objectsToAdd The metadata objects to associate with the policy.
+   * @param objectsToRemove The metadata objects to disassociate from the policy.
+   * @throws NoSuchPolicyException If the policy does not exist.
+   * @throws NoSuchMetadataObjectException If any of the metadata objects does not exist.
+   */
+  @Override
+  public void associateMetadataObjectsForPolicy(
+      String name, MetadataObject[] objectsToAdd, MetadataObject[] objectsToRemove)
+      throws NoSuchPolicyException, NoSuchMetadataObjectException {
+    Preconditions.checkArgument(
+        StringUtils.isNotBlank(name), "policy name must not be null or empty");
+
+    MetadataObjectsAssociateRequest req =
+        new MetadataObjectsAssociateRequest(toDTOs(objectsToAdd), toDTOs(objectsToRemove));
+    req.validate();
+
+    BaseResponse resp =
+        restClient.post(
+            String.format(API_METALAKES_POLICIES_PATH, RESTUtils.encodeString(this.name()))
+                + "/"
+                + RESTUtils.encodeString(name)
+                + "/objects",
+            req,
+            BaseResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.policyErrorHandler());
+    resp.validate();
+  }
+
   /**
    * Adds a new User.
    *
@@ -1610,4 +1677,11 @@ public class GravitinoMetalake extends MetalakeDTO
 
     ErrorHandlers.policyErrorHandler().accept(resp);
   }
+
+  private static MetadataObjectDTO[] toDTOs(MetadataObject[] objects) {
+    if (objects == null) {
+      return null;
+    }
+    return Arrays.stream(objects).map(o -> toDTO(o)).toArray(MetadataObjectDTO[]::new);
+  }
 }
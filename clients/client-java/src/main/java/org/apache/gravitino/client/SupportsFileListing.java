@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.client;
+
+import java.util.Iterator;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.exceptions.NoSuchFilesetException;
+import org.apache.gravitino.file.FileInfo;
+
+/**
+ * Interface for listing the files in a fileset page by page. The fileset catalog returned by the
+ * Java client implements this interface, it can be obtained by casting the result of {@code
+ * catalog.asFilesetCatalog()}.
+ */
+public interface SupportsFileListing {
+
+  /**
+   * Lists the files under the sub path of a fileset lazily. The first page is fetched when this
+   * method is called, the following pages are fetched when the iterator reaches the end of the
+   * previous page, so that listing a huge directory does not need to hold all the files in memory.
+   *
+   * @param ident A fileset identifier.
+   * @param locationName The name of the location to be listed, or null for the default location.
+   * @param subPath The sub path of the directory to list, "/" for the root of the fileset.
+   * @param recursive Whether to list the files in the sub directories recursively. If it is true,
+   *     only the files are returned, otherwise both the files and the directories are returned.
+   * @param pageSize The max number of files fetched in one request.
+   * @return The iterator of the files.
+   * @throws NoSuchFilesetException If the fileset does not exist.
+   */
+  Iterator<FileInfo> listFiles(
+      NameIdentifier ident, String locationName, String subPath, boolean recursive, int pageSize)
+      throws NoSuchFilesetException;
+}
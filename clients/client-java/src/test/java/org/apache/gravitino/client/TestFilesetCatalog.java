@@ -29,9 +29,12 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.nio.file.NoSuchFileException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
@@ -44,6 +47,7 @@ import org.apache.gravitino.audit.FilesetDataOperation;
 import org.apache.gravitino.audit.InternalClientType;
 import org.apache.gravitino.dto.AuditDTO;
 import org.apache.gravitino.dto.CatalogDTO;
+import org.apache.gravitino.dto.file.FileInfoDTO;
 import org.apache.gravitino.dto.file.FilesetDTO;
 import org.apache.gravitino.dto.requests.CatalogCreateRequest;
 import org.apache.gravitino.dto.requests.FilesetCreateRequest;
@@ -53,6 +57,7 @@ import org.apache.gravitino.dto.responses.CatalogResponse;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.dto.responses.FileInfoListResponse;
 import org.apache.gravitino.dto.responses.FileLocationResponse;
 import org.apache.gravitino.dto.responses.FilesetResponse;
 import org.apache.gravitino.exceptions.AlreadyExistsException;
@@ -61,6 +66,7 @@ import org.apache.gravitino.exceptions.NoSuchFilesetException;
 import org.apache.gravitino.exceptions.NoSuchLocationNameException;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.exceptions.NotFoundException;
+import org.apache.gravitino.file.FileInfo;
 import org.apache.gravitino.file.Fileset;
 import org.apache.gravitino.rest.RESTUtils;
 import org.apache.hc.core5.http.Method;
@@ -522,6 +528,145 @@ public class TestFilesetCatalog extends TestBase {
         "location name not found");
   }
 
+  @Test
+  public void testListFilesWithPages() throws JsonProcessingException {
+    NameIdentifier fileset = NameIdentifier.of(metalakeName, catalogName, "schema1", "fileset1");
+    String filesPath =
+        withSlash(
+            FilesetCatalog.formatFilesRequestPath(
+                Namespace.of(metalakeName, catalogName, "schema1"), fileset.name()));
+    Map<String, String> queryParams = new HashMap<>();
+    queryParams.put("sub_path", RESTUtils.encodeString("/dir"));
+    queryParams.put("recursive", "true");
+    queryParams.put("page_size", "2");
+
+    FileInfoDTO file1 = mockFileInfo("file1");
+    FileInfoDTO file2 = mockFileInfo("file2");
+    FileInfoDTO file3 = mockFileInfo("file3");
+    buildMockResource(
+        Method.GET,
+        filesPath,
+        queryParams,
+        null,
+        new FileInfoListResponse(new FileInfoDTO[] {file1, file2}, "cursor:2"),
+        SC_OK);
+    Map<String, String> nextPageParams = new HashMap<>(queryParams);
+    nextPageParams.put("page_token", "cursor:2");
+    buildMockResource(
+        Method.GET,
+        filesPath,
+        nextPageParams,
+        null,
+        new FileInfoListResponse(new FileInfoDTO[] {file3}),
+        SC_OK);
+
+    Iterator<FileInfo> files =
+        ((SupportsFileListing) catalog.asFilesetCatalog())
+            .listFiles(
+                NameIdentifier.of(fileset.namespace().level(2), fileset.name()),
+                null,
+                "/dir",
+                true,
+                2);
+    List<String> names = new ArrayList<>();
+    files.forEachRemaining(f -> names.add(f.name()));
+    Assertions.assertEquals(ImmutableList.of("file1", "file2", "file3"), names);
+    Assertions.assertThrows(NoSuchElementException.class, files::next);
+
+    // Throw fileset not found exception when the first page is fetched
+    ErrorResponse errResp =
+        ErrorResponse.notFound(NoSuchFilesetException.class.getSimpleName(), "fileset not found");
+    buildMockResource(Method.GET, filesPath, queryParams, null, errResp, SC_NOT_FOUND);
+    Assertions.assertThrows(
+        NoSuchFilesetException.class,
+        () ->
+            ((SupportsFileListing) catalog.asFilesetCatalog())
+                .listFiles(
+                    NameIdentifier.of(fileset.namespace().level(2), fileset.name()),
+                    null,
+                    "/dir",
+                    true,
+                    2));
+  }
+
+  @Test
+  public void testCallerContextOfPagedFiles() throws JsonProcessingException {
+    NameIdentifier fileset = NameIdentifier.of(metalakeName, catalogName, "schema1", "fileset2");
+    String filesPath =
+        withSlash(
+            FilesetCatalog.formatFilesRequestPath(
+                Namespace.of(metalakeName, catalogName, "schema1"), fileset.name()));
+    Map<String, String> queryParams = new HashMap<>();
+    queryParams.put("sub_path", RESTUtils.encodeString("/dir"));
+    queryParams.put("page_size", "1");
+    buildMockResource(
+        Method.GET,
+        filesPath,
+        queryParams,
+        null,
+        new FileInfoListResponse(new FileInfoDTO[] {mockFileInfo("file1")}, "cursor:1"),
+        SC_OK);
+
+    List<Parameter> nextPageParameters =
+        ImmutableList.of(
+            new Parameter("sub_path", RESTUtils.encodeString("/dir")),
+            new Parameter("page_size", "1"),
+            new Parameter("page_token", "cursor:1"));
+    HttpRequest nextPageRequest =
+        HttpRequest.request(filesPath)
+            .withMethod(Method.GET.name())
+            .withQueryStringParameters(nextPageParameters);
+    String nextPageJson =
+        MAPPER.writeValueAsString(
+            new FileInfoListResponse(new FileInfoDTO[] {mockFileInfo("file2")}));
+    AtomicReference<String> dataOperation = new AtomicReference<>(null);
+    mockServer
+        .when(nextPageRequest, Times.exactly(1))
+        .respond(
+            httpRequest -> {
+              dataOperation.set(
+                  httpRequest.getFirstHeader(
+                      FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION));
+              return HttpResponse.response().withStatusCode(SC_OK).withBody(nextPageJson);
+            });
+
+    CallerContext listContext =
+        CallerContext.builder()
+            .withContext(
+                ImmutableMap.of(
+                    FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION,
+                    FilesetDataOperation.LIST_STATUS.name()))
+            .build();
+    CallerContext.CallerContextHolder.set(listContext);
+    Iterator<FileInfo> files =
+        ((SupportsFileListing) catalog.asFilesetCatalog())
+            .listFiles(
+                NameIdentifier.of(fileset.namespace().level(2), fileset.name()),
+                null,
+                "/dir",
+                false,
+                1);
+    // The caller context is consumed by the listing
+    Assertions.assertNull(CallerContext.CallerContextHolder.get());
+
+    // The next page is fetched with the context of the listing, and the context set on the
+    // thread for another call is kept
+    CallerContext otherContext =
+        CallerContext.builder()
+            .withContext(
+                ImmutableMap.of(
+                    FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION,
+                    FilesetDataOperation.OPEN.name()))
+            .build();
+    CallerContext.CallerContextHolder.set(otherContext);
+    List<String> names = new ArrayList<>();
+    files.forEachRemaining(f -> names.add(f.name()));
+    Assertions.assertEquals(ImmutableList.of("file1", "file2"), names);
+    Assertions.assertEquals(FilesetDataOperation.LIST_STATUS.name(), dataOperation.get());
+    Assertions.assertSame(otherContext, CallerContext.CallerContextHolder.get());
+    CallerContext.CallerContextHolder.remove();
+  }
+
   @Test
   public void testCallerContextToHeader() throws JsonProcessingException {
     NameIdentifier fileset = NameIdentifier.of(metalakeName, catalogName, "schema1", "fileset1");
@@ -608,4 +753,14 @@ public class TestFilesetCatalog extends TestBase {
     Assertions.assertEquals(expected.type(), actual.type());
     Assertions.assertEquals(expected.properties(), actual.properties());
   }
+
+  private FileInfoDTO mockFileInfo(String name) {
+    return FileInfoDTO.builder()
+        .name(name)
+        .isDir(false)
+        .size(10L)
+        .lastModified(Instant.now().toEpochMilli())
+        .path("/fileset/" + catalogName + "/schema1/fileset1/dir/" + name)
+        .build();
+  }
 }
@@ -19,6 +19,7 @@
 package org.apache.gravitino.client;
 
 import static org.apache.gravitino.dto.util.DTOConverters.fromDTO;
+import static org.apache.gravitino.dto.util.DTOConverters.toDTO;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.collect.ImmutableMap;
@@ -33,6 +34,7 @@ import java.util.stream.Collectors;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.CatalogChange;
 import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.MetadataObjects;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.dto.AuditDTO;
 import org.apache.gravitino.dto.CatalogDTO;
@@ -42,6 +44,7 @@ import org.apache.gravitino.dto.policy.PolicyDTO;
 import org.apache.gravitino.dto.requests.CatalogCreateRequest;
 import org.apache.gravitino.dto.requests.CatalogUpdateRequest;
 import org.apache.gravitino.dto.requests.CatalogUpdatesRequest;
+import org.apache.gravitino.dto.requests.MetadataObjectsAssociateRequest;
 import org.apache.gravitino.dto.requests.MetalakeCreateRequest;
 import org.apache.gravitino.dto.requests.PolicyCreateRequest;
 import org.apache.gravitino.dto.requests.PolicyUpdateRequest;
@@ -49,6 +52,7 @@ import org.apache.gravitino.dto.requests.PolicyUpdatesRequest;
 import org.apache.gravitino.dto.requests.TagCreateRequest;
 import org.apache.gravitino.dto.requests.TagUpdateRequest;
 import org.apache.gravitino.dto.requests.TagUpdatesRequest;
+import org.apache.gravitino.dto.responses.BaseResponse;
 import org.apache.gravitino.dto.responses.CatalogListResponse;
 import org.apache.gravitino.dto.responses.CatalogResponse;
 import org.apache.gravitino.dto.responses.DropResponse;
@@ -60,6 +64,7 @@ import org.apache.gravitino.dto.responses.PolicyListResponse;
 import org.apache.gravitino.dto.responses.PolicyResponse;
 import org.apache.gravitino.dto.responses.TagListResponse;
 import org.apache.gravitino.dto.responses.TagResponse;
+import org.apache.gravitino.dto.tag.MetadataObjectDTO;
 import org.apache.gravitino.dto.tag.TagDTO;
 import org.apache.gravitino.exceptions.CatalogAlreadyExistsException;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
@@ -721,6 +726,64 @@ public class TestGravitinoMetalake extends TestBase {
     Assertions.assertTrue(ex1.getMessage().contains("mock error"));
   }
 
+  @Test
+  public void testAssociateMetadataObjectsForTag() throws JsonProcessingException {
+    String tagName = "tag1";
+    String path = "/api/metalakes/" + metalakeName + "/tags/" + tagName + "/objects";
+    MetadataObject[] objectsToAdd =
+        new MetadataObject[] {MetadataObjects.parse("catalog1", MetadataObject.Type.CATALOG)};
+    MetadataObject[] objectsToRemove =
+        new MetadataObject[] {
+          MetadataObjects.parse("catalog1.schema1", MetadataObject.Type.SCHEMA)
+        };
+    MetadataObjectsAssociateRequest req =
+        new MetadataObjectsAssociateRequest(
+            new MetadataObjectDTO[] {toDTO(objectsToAdd[0])},
+            new MetadataObjectDTO[] {toDTO(objectsToRemove[0])});
+
+    buildMockResource(Method.POST, path, req, new BaseResponse(), HttpStatus.SC_OK);
+    Assertions.assertDoesNotThrow(
+        () ->
+            gravitinoClient.associateMetadataObjectsForTag(tagName, objectsToAdd, objectsToRemove));
+
+    // Test throw NoSuchTagException
+    ErrorResponse errorResponse =
+        ErrorResponse.notFound(NoSuchTagException.class.getSimpleName(), "mock error");
+    buildMockResource(Method.POST, path, req, errorResponse, HttpStatus.SC_NOT_FOUND);
+    Throwable ex =
+        Assertions.assertThrows(
+            NoSuchTagException.class,
+            () ->
+                gravitinoClient.associateMetadataObjectsForTag(
+                    tagName, objectsToAdd, objectsToRemove));
+    Assertions.assertTrue(ex.getMessage().contains("mock error"));
+  }
+
+  @Test
+  public void testAssociateMetadataObjectsForPolicy() throws JsonProcessingException {
+    String policyName = "policy1";
+    String path = "/api/metalakes/" + metalakeName + "/policies/" + policyName + "/objects";
+    MetadataObject[] objectsToAdd =
+        new MetadataObject[] {MetadataObjects.parse("catalog1", MetadataObject.Type.CATALOG)};
+    MetadataObjectsAssociateRequest req =
+        new MetadataObjectsAssociateRequest(new MetadataObjectDTO[] {toDTO(objectsToAdd[0])}, null);
+
+    buildMockResource(Method.POST, path, req, new BaseResponse(), HttpStatus.SC_OK);
+    Assertions.assertDoesNotThrow(
+        () -> gravitinoClient.associateMetadataObjectsForPolicy(policyName, objectsToAdd, null));
+
+    // Test throw NoSuchPolicyException
+    ErrorResponse errorResponse =
+        ErrorResponse.notFound(NoSuchPolicyException.class.getSimpleName(), "mock error");
+    buildMockResource(Method.POST, path, req, errorResponse, HttpStatus.SC_NOT_FOUND);
+    Throwable ex =
+        Assertions.assertThrows(
+            NoSuchPolicyException.class,
+            () ->
+                gravitinoClient.associateMetadataObjectsForPolicy(policyName, objectsToAdd, null));
+    Assertions.assertTrue(ex.getMessage().contains("mock error"));
+  }
+
   @Test
   public void testListPolicies() throws JsonProcessingException {
     String path = "/api/metalakes/" + metalakeName + "/policies";
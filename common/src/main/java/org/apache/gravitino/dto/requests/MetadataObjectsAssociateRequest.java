@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.requests;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.dto.tag.MetadataObjectDTO;
+import org.apache.gravitino.rest.RESTRequest;
+
+/** Represents a request to associate a tag or a policy with many metadata objects. */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class MetadataObjectsAssociateRequest implements RESTRequest {
+
+  @JsonProperty("objectsToAdd")
+  private final MetadataObjectDTO[] objectsToAdd;
+
+  @JsonProperty("objectsToRemove")
+  private final MetadataObjectDTO[] objectsToRemove;
+
+  /**
+   * Creates a new MetadataObjectsAssociateRequest.
+   *
+   * @param objectsToAdd The metadata objects to associate with.
+   * @param objectsToRemove The metadata objects to disassociate from.
+   */
+  public MetadataObjectsAssociateRequest(
+      MetadataObjectDTO[] objectsToAdd, MetadataObjectDTO[] objectsToRemove) {
+    this.objectsToAdd = objectsToAdd;
+    this.objectsToRemove = objectsToRemove;
+  }
+
+  /** This is the constructor that is used by Jackson deserializer */
+  public MetadataObjectsAssociateRequest() {
+    this(null, null);
+  }
+
+  /**
+   * Validates the request.
+   *
+   * @throws IllegalArgumentException If the request is invalid, this exception is thrown.
+   */
+  @Override
+  public void validate() throws IllegalArgumentException {
+    Preconditions.checkArgument(
+        objectsToAdd != null || objectsToRemove != null,
+        "objectsToAdd and objectsToRemove cannot both be null");
+
+    if (objectsToAdd != null) {
+      for (MetadataObjectDTO object : objectsToAdd) {
+        Preconditions.checkArgument(
+            object != null && object.type() != null && StringUtils.isNotBlank(object.name()),
+            "objectsToAdd must not contain null or empty metadata objects");
+      }
+    }
+
+    if (objectsToRemove != null) {
+      for (MetadataObjectDTO object : objectsToRemove) {
+        Preconditions.checkArgument(
+            object != null && object.type() != null && StringUtils.isNotBlank(object.name()),
+            "objectsToRemove must not contain null or empty metadata objects");
+      }
+    }
+  }
+}
@@ -18,6 +18,7 @@
  */
 package org.apache.gravitino.dto.responses;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.base.Preconditions;
 import lombok.EqualsAndHashCode;
@@ -34,10 +35,15 @@ public class FileInfoListResponse extends BaseResponse {
   @JsonProperty("files")
   private final FileInfoDTO[] files;
 
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  @JsonProperty("nextPageToken")
+  private final String nextPageToken;
+
   /** Constructor for FileInfoListResponse. */
   public FileInfoListResponse() {
     super(0);
     this.files = null;
+    this.nextPageToken = null;
   }
 
   /**
@@ -46,8 +52,19 @@ public class FileInfoListResponse extends BaseResponse {
    * @param files Array of FileInfo objects to be returned.
    */
   public FileInfoListResponse(FileInfoDTO[] files) {
+    this(files, null);
+  }
+
+  /**
+   * Constructor for FileInfoListResponse of a paged listing.
+   *
+   * @param files Array of FileInfo objects in the page.
+   * @param nextPageToken The token to fetch the next page, or null if this is the last page.
+   */
+  public FileInfoListResponse(FileInfoDTO[] files, String nextPageToken) {
     super(0);
     this.files = files;
+    this.nextPageToken = nextPageToken;
   }
 
   /**
@@ -18,6 +18,7 @@
  */
 package org.apache.gravitino.dto.responses;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.base.Preconditions;
 import java.util.Arrays;
@@ -36,20 +37,36 @@ public class MetadataObjectListResponse extends BaseResponse {
   @JsonProperty("metadataObjects")
   private final MetadataObjectDTO[] metadataObjects;
 
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  @JsonProperty("nextPageToken")
+  private final String nextPageToken;
+
   /**
    * Constructor for MetadataObjectListResponse.
    *
    * @param metadataObjects The array of metadata object DTOs.
    */
   public MetadataObjectListResponse(MetadataObjectDTO[] metadataObjects) {
+    this(metadataObjects, null);
+  }
+
+  /**
+   * Constructor for MetadataObjectListResponse of a paged search.
+   *
+   * @param metadataObjects The array of metadata object DTOs in the page.
+   * @param nextPageToken The token to fetch the next page, or null if this is the last page.
+   */
+  public MetadataObjectListResponse(MetadataObjectDTO[] metadataObjects, String nextPageToken) {
     super(0);
     this.metadataObjects = metadataObjects;
+    this.nextPageToken = nextPageToken;
   }
 
   /** Default constructor for MetadataObjectListResponse. (Used for Jackson deserialization.) */
   public MetadataObjectListResponse() {
     super();
     this.metadataObjects = null;
+    this.nextPageToken = null;
   }
 
   /**
@@ -27,6 +27,7 @@ import org.apache.commons.lang3.ArrayUtils;
 import org.apache.gravitino.Audit;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.MetadataObjects;
 import org.apache.gravitino.Metalake;
 import org.apache.gravitino.Schema;
 import org.apache.gravitino.authorization.Group;
@@ -1030,6 +1031,21 @@ public class DTOConverters {
     return Arrays.stream(partitioning).map(DTOConverters::fromDTO).toArray(Transform[]::new);
   }
 
+  /**
+   * Converts MetadataObjectDTO array to metadata object array.
+   *
+   * @param metadataObjects The metadata object DTO array to be converted.
+   * @return The metadata object array.
+   */
+  public static MetadataObject[] fromDTOs(MetadataObjectDTO[] metadataObjects) {
+    if (ArrayUtils.isEmpty(metadataObjects)) {
+      return new MetadataObject[0];
+    }
+    return Arrays.stream(metadataObjects)
+        .map(object -> MetadataObjects.parse(object.fullName(), object.type()))
+        .toArray(MetadataObject[]::new);
+  }
+
   /**
    * Converts a ColumnDTO to a Column.
    *
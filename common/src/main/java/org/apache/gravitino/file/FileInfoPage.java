@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.file;
+
+/**
+ * A page of the files listed from a fileset. The files in a directory are listed page by page, so
+ * that listing a huge directory does not need to hold all the files in memory.
+ */
+public final class FileInfoPage {
+
+  private final FileInfo[] files;
+  private final String nextPageToken;
+
+  /**
+   * Creates a new page of the files.
+   *
+   * @param files The files in the page.
+   * @param nextPageToken The token to list the next page, or null if this is the last page.
+   */
+  public FileInfoPage(FileInfo[] files, String nextPageToken) {
+    this.files = files;
+    this.nextPageToken = nextPageToken;
+  }
+
+  /** @return The files in the page. */
+  public FileInfo[] files() {
+    return files;
+  }
+
+  /** @return The token to list the next page, or null if this is the last page. */
+  public String nextPageToken() {
+    return nextPageToken;
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.requests;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.dto.tag.MetadataObjectDTO;
+import org.apache.gravitino.json.JsonUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestMetadataObjectsAssociateRequest {
+
+  @Test
+  public void testMetadataObjectsAssociateRequestSerDe() throws JsonProcessingException {
+    MetadataObjectDTO column =
+        MetadataObjectDTO.builder()
+            .withParent("catalog.schema.table")
+            .withName("column")
+            .withType(MetadataObject.Type.COLUMN)
+            .build();
+    MetadataObjectDTO table =
+        MetadataObjectDTO.builder()
+            .withParent("catalog.schema")
+            .withName("table")
+            .withType(MetadataObject.Type.TABLE)
+            .build();
+
+    MetadataObjectsAssociateRequest request =
+        new MetadataObjectsAssociateRequest(
+            new MetadataObjectDTO[] {column}, new MetadataObjectDTO[] {table});
+    String serJson = JsonUtils.objectMapper().writeValueAsString(request);
+    MetadataObjectsAssociateRequest deserRequest =
+        JsonUtils.objectMapper().readValue(serJson, MetadataObjectsAssociateRequest.class);
+    Assertions.assertEquals(request, deserRequest);
+    Assertions.assertEquals(
+        "catalog.schema.table.column", deserRequest.getObjectsToAdd()[0].fullName());
+
+    MetadataObjectsAssociateRequest request1 =
+        new MetadataObjectsAssociateRequest(new MetadataObjectDTO[] {column}, null);
+    serJson = JsonUtils.objectMapper().writeValueAsString(request1);
+    MetadataObjectsAssociateRequest deserRequest1 =
+        JsonUtils.objectMapper().readValue(serJson, MetadataObjectsAssociateRequest.class);
+    Assertions.assertEquals(request1, deserRequest1);
+    Assertions.assertNull(deserRequest1.getObjectsToRemove());
+    Assertions.assertDoesNotThrow(deserRequest1::validate);
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> new MetadataObjectsAssociateRequest().validate());
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new MetadataObjectsAssociateRequest(new MetadataObjectDTO[] {null}, null).validate());
+  }
+}
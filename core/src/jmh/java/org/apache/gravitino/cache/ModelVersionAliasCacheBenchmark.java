@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.cache;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.time.Instant;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.ModelVersionEntity;
+import org.apache.gravitino.model.ModelVersion;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * ModelVersionAliasCacheBenchmark benchmarks the throughput of resolving model versions by alias
+ * from the {@link CaffeineEntityCache}, compared with looking them up by version number.
+ *
+ * <p>A single model with a configurable number of versions (e.g., 100, 10000) is preloaded into
+ * the cache before each iteration, every version has a unique alias. This simulates the inference
+ * serving traffic which resolves the model versions by alias such as "production".
+ *
+ * <p>It includes two benchmark methods:
+ *
+ * <ul>
+ *   <li>{@code benchmarkGetByAlias}: Retrieves a {@link ModelVersionEntity} by a random alias.
+ *   <li>{@code benchmarkGetByVersion}: Retrieves a {@link ModelVersionEntity} by a random version
+ *       number, as the baseline.
+ * </ul>
+ *
+ * @see org.apache.gravitino.cache.CaffeineEntityCache
+ * @see org.openjdk.jmh.annotations.Benchmark
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class ModelVersionAliasCacheBenchmark {
+  @Param({"100", "10000"})
+  public int versionCnt;
+
+  private EntityCache cache;
+  private NameIdentifier[] aliasIdents;
+  private NameIdentifier[] versionIdents;
+  private final Random random = new Random();
+
+  @Setup(Level.Iteration)
+  public void setup() {
+    Config config = new Config() {};
+    this.cache = new CaffeineEntityCache(config);
+    this.aliasIdents = new NameIdentifier[versionCnt];
+    this.versionIdents = new NameIdentifier[versionCnt];
+
+    NameIdentifier modelIdent = NameIdentifier.of("metalake", "catalog", "schema", "model");
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("benchmark").withCreateTime(Instant.now()).build();
+    for (int i = 0; i < versionCnt; i++) {
+      String alias = "alias-" + i;
+      ModelVersionEntity modelVersion =
+          ModelVersionEntity.builder()
+              .withModelIdentifier(modelIdent)
+              .withVersion(i)
+              .withAliases(ImmutableList.of(alias))
+              .withUris(ImmutableMap.of(ModelVersion.URI_NAME_UNKNOWN, "s3://bucket/model/" + i))
+              .withAuditInfo(auditInfo)
+              .build();
+      cache.put(modelVersion);
+
+      aliasIdents[i] = NameIdentifierUtil.toModelVersionIdentifier(modelIdent, alias);
+      versionIdents[i] = modelVersion.nameIdentifier();
+    }
+  }
+
+  @Benchmark
+  public Entity benchmarkGetByAlias() {
+    NameIdentifier aliasIdent = aliasIdents[random.nextInt(versionCnt)];
+
+    return cache.getIfPresent(aliasIdent, Entity.EntityType.MODEL_VERSION).orElse(null);
+  }
+
+  @Benchmark
+  public Entity benchmarkGetByVersion() {
+    NameIdentifier versionIdent = versionIdents[random.nextInt(versionCnt)];
+
+    return cache.getIfPresent(versionIdent, Entity.EntityType.MODEL_VERSION).orElse(null);
+  }
+}
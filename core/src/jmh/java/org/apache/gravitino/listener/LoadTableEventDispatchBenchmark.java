@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.listener;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Audit;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.catalog.TableDispatcher;
+import org.apache.gravitino.listener.api.EventListenerPlugin;
+import org.apache.gravitino.listener.api.event.BaseEvent;
+import org.apache.gravitino.listener.api.event.CreateTableEvent;
+import org.apache.gravitino.listener.api.event.Event;
+import org.apache.gravitino.listener.api.event.PreEvent;
+import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.rel.types.Types;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * LoadTableEventDispatchBenchmark benchmarks the overhead of the {@link TableEventDispatcher} on
+ * loading a table, the underlying dispatcher returns the same table without any work.
+ *
+ * <p>The benchmark runs with the following listener setups:
+ *
+ * <ul>
+ *   <li>{@code NONE}: No event listener is registered.
+ *   <li>{@code UNSUBSCRIBED}: A listener subscribing only to {@link CreateTableEvent} is
+ *       registered, so the load table events are not built.
+ *   <li>{@code SUBSCRIBED}: A listener subscribing to all the events is registered, so the load
+ *       table pre-event and post-event are built and dispatched.
+ * </ul>
+ *
+ * <p>Run it with {@code -prof gc} to compare the allocation rate of the setups.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class LoadTableEventDispatchBenchmark {
+  @Param({"NONE", "UNSUBSCRIBED", "SUBSCRIBED"})
+  public String listenerSetup;
+
+  private static final NameIdentifier TABLE_IDENT =
+      NameIdentifier.of("metalake", "catalog", "schema", "table");
+
+  private TableEventDispatcher tableEventDispatcher;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    Table table = new BenchmarkTable();
+    TableDispatcher tableDispatcher = mock(TableDispatcher.class);
+    when(tableDispatcher.loadTable(any(NameIdentifier.class))).thenReturn(table);
+
+    EventBus eventBus;
+    switch (listenerSetup) {
+      case "NONE":
+        eventBus = new EventBus(Collections.emptyList());
+        break;
+      case "UNSUBSCRIBED":
+        eventBus = createEventBus(ImmutableSet.of(CreateTableEvent.class));
+        break;
+      case "SUBSCRIBED":
+        eventBus = createEventBus(ImmutableSet.of(BaseEvent.class));
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown listener setup: " + listenerSetup);
+    }
+    this.tableEventDispatcher = new TableEventDispatcher(eventBus, tableDispatcher);
+  }
+
+  @Benchmark
+  public Table benchmarkLoadTable() {
+    return tableEventDispatcher.loadTable(TABLE_IDENT);
+  }
+
+  private static EventBus createEventBus(Set<Class<? extends BaseEvent>> eventTypes) {
+    EventListenerPlugin listener = new NoopEventListener(eventTypes);
+    return new EventBus(ImmutableList.of(new EventListenerPluginWrapper("noop", listener)));
+  }
+
+  private static class NoopEventListener implements EventListenerPlugin {
+    private final Set<Class<? extends BaseEvent>> eventTypes;
+
+    private NoopEventListener(Set<Class<? extends BaseEvent>> eventTypes) {
+      this.eventTypes = eventTypes;
+    }
+
+    @Override
+    public void init(Map<String, String> properties) {}
+
+    @Override
+    public void start() {}
+
+    @Override
+    public void stop() {}
+
+    @Override
+    public void onPostEvent(Event event) {}
+
+    @Override
+    public void onPreEvent(PreEvent preEvent) {}
+
+    @Override
+    public Set<Class<? extends BaseEvent>> subscribedEventTypes() {
+      return eventTypes;
+    }
+
+    @Override
+    public Mode mode() {
+      return Mode.SYNC;
+    }
+  }
+
+  private static class BenchmarkTable implements Table {
+    private final Column[] columns = new Column[] {Column.of("a", Types.IntegerType.get())};
+
+    @Override
+    public String name() {
+      return "table";
+    }
+
+    @Override
+    public Column[] columns() {
+      return columns;
+    }
+
+    @Override
+    public Audit auditInfo() {
+      return null;
+    }
+  }
+}
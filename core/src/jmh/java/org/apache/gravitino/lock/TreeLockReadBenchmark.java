@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.lock;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.NameIdentifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * TreeLockReadBenchmark benchmarks the throughput of the concurrent reads guarded by the {@link
+ * TreeLock}, compared with the lock-free {@link OptimisticRead}.
+ *
+ * <p>The reads are spread over a configurable number of tables (e.g., 10, 1000) under the same
+ * metalake, catalog and schema, so all the reads share the root, metalake, catalog and schema
+ * nodes. This simulates the read-heavy traffic of loading tables from the benchmark threads.
+ *
+ * <p>It includes two benchmark methods:
+ *
+ * <ul>
+ *   <li>{@code benchmarkTreeLockRead}: Creates a tree lock, locks it with the read lock and unlocks
+ *       it, which is what {@link TreeLockUtils#doWithTreeLock} does.
+ *   <li>{@code benchmarkOptimisticRead}: Starts an optimistic read and validates it, which is what
+ *       {@link TreeLockUtils#doWithOptimisticReadLock} does if there is no concurrent write.
+ * </ul>
+ *
+ * @see org.apache.gravitino.lock.LockManager
+ * @see org.openjdk.jmh.annotations.Benchmark
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class TreeLockReadBenchmark {
+  @Param({"10", "1000"})
+  public int tableCnt;
+
+  private LockManager lockManager;
+  private NameIdentifier[] tableIdents;
+
+  @Setup(Level.Iteration)
+  public void setup() {
+    Config config = new Config() {};
+    this.lockManager = new LockManager(config);
+    this.tableIdents = new NameIdentifier[tableCnt];
+
+    for (int i = 0; i < tableCnt; i++) {
+      tableIdents[i] = NameIdentifier.of("metalake", "catalog", "schema", "table-" + i);
+      // Create the tree lock nodes in advance, as the hot tables are always locked before.
+      TreeLock treeLock = lockManager.createTreeLock(tableIdents[i]);
+      treeLock.lock(LockType.READ);
+      treeLock.unlock();
+    }
+  }
+
+  @Benchmark
+  public boolean benchmarkTreeLockRead() {
+    NameIdentifier tableIdent = tableIdents[ThreadLocalRandom.current().nextInt(tableCnt)];
+
+    TreeLock treeLock = lockManager.createTreeLock(tableIdent);
+    treeLock.lock(LockType.READ);
+    treeLock.unlock();
+    return true;
+  }
+
+  @Benchmark
+  public boolean benchmarkOptimisticRead() {
+    NameIdentifier tableIdent = tableIdents[ThreadLocalRandom.current().nextInt(tableCnt)];
+
+    OptimisticRead read = lockManager.tryOptimisticRead(tableIdent);
+    return read != null && read.validate();
+  }
+}
@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.kv;
+
+import static org.apache.gravitino.Configs.ENTITY_KV_BACKEND_COMPACTION_THRESHOLD_BYTES;
+import static org.apache.gravitino.Configs.ENTITY_KV_BACKEND_PATH;
+import static org.apache.gravitino.Configs.ENTITY_KV_BACKEND_SYNC_WRITES;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PATH;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_URL;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_USER;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_WAIT_MILLISECONDS;
+import static org.mockito.Mockito.mock;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.FileUtils;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.storage.RandomIdGenerator;
+import org.apache.gravitino.storage.relational.JDBCBackend;
+import org.apache.gravitino.storage.relational.RelationalBackend;
+import org.apache.gravitino.utils.TestUtil;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * EntityBackendBenchmark compares the {@link KvBackend} with the {@link JDBCBackend} on an embedded
+ * H2 database, which are the two choices for a single node deployment without an external
+ * database. The backends are benchmarked directly without the entity cache, so the results show
+ * the latency of the cache misses and the writes.
+ *
+ * <p>A schema with a configurable number of tables (e.g., 100, 10000) is preloaded before the
+ * benchmark. It includes three benchmark methods:
+ *
+ * <ul>
+ *   <li>{@code benchmarkGetTable}: Gets a random table.
+ *   <li>{@code benchmarkListTables}: Lists all the tables of the schema.
+ *   <li>{@code benchmarkInsertTable}: Inserts a new table, the writes are flushed to the disk.
+ * </ul>
+ *
+ * @see org.apache.gravitino.storage.kv.KvBackend
+ * @see org.openjdk.jmh.annotations.Benchmark
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+public class EntityBackendBenchmark {
+  private static final String METALAKE_NAME = "benchmark_metalake";
+  private static final String CATALOG_NAME = "benchmark_catalog";
+  private static final String SCHEMA_NAME = "benchmark_schema";
+  private static final Namespace TABLE_NAMESPACE =
+      Namespace.of(METALAKE_NAME, CATALOG_NAME, SCHEMA_NAME);
+
+  @Param({"JDBCBackend", "KvBackend"})
+  public String backendName;
+
+  @Param({"100", "10000"})
+  public int totalCnt;
+
+  private final String storeDir =
+      "/tmp/gravitino_entity_backend_benchmark_" + UUID.randomUUID().toString().replace("-", "");
+  private RelationalBackend backend;
+  private NameIdentifier[] tableIdents;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    new File(storeDir).mkdirs();
+    Config config = mock(Config.class);
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_PATH)).thenReturn(storeDir);
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_URL))
+        .thenReturn(String.format("jdbc:h2:file:%s/db;DB_CLOSE_DELAY=-1;MODE=MYSQL", storeDir));
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_USER)).thenReturn("gravitino");
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD)).thenReturn("gravitino");
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER)).thenReturn("org.h2.Driver");
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS)).thenReturn(100);
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_WAIT_MILLISECONDS)).thenReturn(1000L);
+    Mockito.when(config.get(ENTITY_KV_BACKEND_PATH)).thenReturn(storeDir + "/kv");
+    Mockito.when(config.get(ENTITY_KV_BACKEND_SYNC_WRITES)).thenReturn(true);
+    Mockito.when(config.get(ENTITY_KV_BACKEND_COMPACTION_THRESHOLD_BYTES))
+        .thenReturn(64L * 1024 * 1024);
+
+    backend =
+        Configs.KV_ENTITY_RELATIONAL_STORE.equals(backendName)
+            ? new KvBackend()
+            : new JDBCBackend();
+    backend.initialize(config);
+    backend.insert(
+        TestUtil.getTestMetalake(RandomIdGenerator.INSTANCE.nextId(), METALAKE_NAME, ""), false);
+    backend.insert(
+        TestUtil.getTestCatalogEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            CATALOG_NAME,
+            Namespace.of(METALAKE_NAME),
+            "hive",
+            ""),
+        false);
+    backend.insert(
+        TestUtil.getTestSchemaEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            SCHEMA_NAME,
+            Namespace.of(METALAKE_NAME, CATALOG_NAME),
+            ""),
+        false);
+
+    tableIdents = new NameIdentifier[totalCnt];
+    for (int i = 0; i < totalCnt; i++) {
+      TableEntity table = newTable("table_" + i);
+      backend.insert(table, false);
+      tableIdents[i] = table.nameIdentifier();
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    backend.close();
+    FileUtils.deleteQuietly(new File(storeDir));
+  }
+
+  @Benchmark
+  public TableEntity benchmarkGetTable() throws IOException {
+    Random random = ThreadLocalRandom.current();
+    return backend.get(tableIdents[random.nextInt(totalCnt)], Entity.EntityType.TABLE);
+  }
+
+  @Benchmark
+  public List<TableEntity> benchmarkListTables() throws IOException {
+    return backend.list(TABLE_NAMESPACE, Entity.EntityType.TABLE, false);
+  }
+
+  @Benchmark
+  public TableEntity benchmarkInsertTable() throws IOException {
+    TableEntity table = newTable("table_" + UUID.randomUUID().toString().replace("-", ""));
+    backend.insert(table, false);
+    return table;
+  }
+
+  private static TableEntity newTable(String name) {
+    return TableEntity.builder()
+        .withId(RandomIdGenerator.INSTANCE.nextId())
+        .withName(name)
+        .withNamespace(TABLE_NAMESPACE)
+        .withAuditInfo(TestUtil.getTestAuditInfo())
+        .build();
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational;
+
+import static org.apache.gravitino.Configs.ENTITY_ID_GENERATOR;
+import static org.apache.gravitino.Configs.ENTITY_ID_GENERATOR_SNOWFLAKE_MAX_CLOCK_BACKWARD_MS;
+import static org.apache.gravitino.Configs.ENTITY_ID_GENERATOR_SNOWFLAKE_NODE_ID;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PATH;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_URL;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_USER;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_WAIT_MILLISECONDS;
+import static org.mockito.Mockito.mock;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.FileUtils;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.meta.ColumnEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.rel.types.Types;
+import org.apache.gravitino.storage.IdGenerator;
+import org.apache.gravitino.storage.IdGeneratorFactory;
+import org.apache.gravitino.storage.RandomIdGenerator;
+import org.apache.gravitino.storage.SnowflakeIdGenerator;
+import org.apache.gravitino.utils.TestUtil;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * IdGeneratorInsertBenchmark benchmarks the throughput of inserting tables into the {@link
+ * JDBCBackend} with the ids generated by {@link RandomIdGenerator} and {@link
+ * SnowflakeIdGenerator}.
+ *
+ * <p>Every inserted table has a configurable number of columns (e.g., 10, 100), which are inserted
+ * by a multi-row insert. The random ids scatter the inserts over the whole primary key index, while
+ * the time ordered ids append them to the end of the index. The backend is an embedded H2 database
+ * in MySQL mode, run the benchmark against a MySQL backend by changing the JDBC URL and driver to
+ * see the effect on the InnoDB B-tree.
+ *
+ * <p>It includes one benchmark method:
+ *
+ * <ul>
+ *   <li>{@code benchmarkInsertTable}: Inserts a table with all its columns.
+ * </ul>
+ *
+ * @see org.apache.gravitino.storage.SnowflakeIdGenerator
+ * @see org.openjdk.jmh.annotations.Benchmark
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class IdGeneratorInsertBenchmark {
+  private static final String METALAKE_NAME = "benchmark_metalake";
+  private static final String CATALOG_NAME = "benchmark_catalog";
+  private static final String SCHEMA_NAME = "benchmark_schema";
+
+  @Param({"random", "snowflake"})
+  public String idGeneratorType;
+
+  @Param({"10", "100"})
+  public int columnCnt;
+
+  private final String dbDir =
+      "/tmp/gravitino_jdbc_id_benchmark_" + UUID.randomUUID().toString().replace("-", "");
+  private JDBCBackend backend;
+  private IdGenerator idGenerator;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    new File(dbDir).mkdirs();
+    Config config = mock(Config.class);
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_PATH)).thenReturn(dbDir);
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_URL))
+        .thenReturn(String.format("jdbc:h2:file:%s/db;DB_CLOSE_DELAY=-1;MODE=MYSQL", dbDir));
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_USER)).thenReturn("gravitino");
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD)).thenReturn("gravitino");
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER)).thenReturn("org.h2.Driver");
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS)).thenReturn(100);
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_WAIT_MILLISECONDS)).thenReturn(1000L);
+
+    Mockito.when(config.get(ENTITY_ID_GENERATOR)).thenReturn(idGeneratorType);
+    Mockito.when(config.get(ENTITY_ID_GENERATOR_SNOWFLAKE_NODE_ID)).thenReturn(1);
+    Mockito.when(config.get(ENTITY_ID_GENERATOR_SNOWFLAKE_MAX_CLOCK_BACKWARD_MS)).thenReturn(5000L);
+    idGenerator = IdGeneratorFactory.createIdGenerator(config);
+
+    backend = new JDBCBackend();
+    backend.initialize(config);
+    backend.insert(TestUtil.getTestMetalake(idGenerator.nextId(), METALAKE_NAME, ""), false);
+    backend.insert(
+        TestUtil.getTestCatalogEntity(
+            idGenerator.nextId(), CATALOG_NAME, Namespace.of(METALAKE_NAME), "hive", ""),
+        false);
+    backend.insert(
+        TestUtil.getTestSchemaEntity(
+            idGenerator.nextId(), SCHEMA_NAME, Namespace.of(METALAKE_NAME, CATALOG_NAME), ""),
+        false);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    backend.close();
+    FileUtils.deleteQuietly(new File(dbDir));
+  }
+
+  @Benchmark
+  public TableEntity benchmarkInsertTable() throws IOException {
+    List<ColumnEntity> columns = new ArrayList<>(columnCnt);
+    for (int i = 0; i < columnCnt; i++) {
+      columns.add(
+          ColumnEntity.builder()
+              .withId(idGenerator.nextId())
+              .withName("column_" + i)
+              .withPosition(i)
+              .withDataType(Types.StringType.get())
+              .withNullable(true)
+              .withAutoIncrement(false)
+              .withAuditInfo(TestUtil.getTestAuditInfo())
+              .build());
+    }
+    TableEntity table =
+        TableEntity.builder()
+            .withId(idGenerator.nextId())
+            .withName("table_" + UUID.randomUUID().toString().replace("-", ""))
+            .withNamespace(Namespace.of(METALAKE_NAME, CATALOG_NAME, SCHEMA_NAME))
+            .withColumns(columns)
+            .withAuditInfo(TestUtil.getTestAuditInfo())
+            .build();
+    backend.insert(table, false);
+    return table;
+  }
+}
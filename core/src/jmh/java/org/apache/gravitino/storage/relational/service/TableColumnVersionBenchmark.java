@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.storage.relational.service;
+
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PATH;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_URL;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_USER;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_WAIT_MILLISECONDS;
+import static org.mockito.Mockito.mock;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.FileUtils;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.meta.ColumnEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.rel.types.Types;
+import org.apache.gravitino.storage.RandomIdGenerator;
+import org.apache.gravitino.storage.relational.JDBCBackend;
+import org.apache.gravitino.utils.TestUtil;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * TableColumnVersionBenchmark benchmarks the latency of loading and altering a table from the
+ * {@link JDBCBackend} as the column count and the table version count grow.
+ *
+ * <p>Each benchmark thread creates its own table with a configurable number of columns (e.g., 100,
+ * 2000), then alters one column per version until the table reaches the configured number of
+ * versions (e.g., 1, 100). When {@code compacted} is true, the superseded column rows are removed
+ * by {@link TableColumnMetaService#deleteColumnVersionsByRetentionCount(Long, int)} before each
+ * iteration, as the garbage collector does periodically.
+ *
+ * <p>It includes two benchmark methods:
+ *
+ * <ul>
+ *   <li>{@code benchmarkLoadTable}: Loads the table with all its columns.
+ *   <li>{@code benchmarkAlterTable}: Alters the comment of a column, which writes a new version.
+ * </ul>
+ *
+ * @see org.apache.gravitino.storage.relational.service.TableColumnMetaService
+ * @see org.openjdk.jmh.annotations.Benchmark
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class TableColumnVersionBenchmark {
+  private static final String METALAKE_NAME = "benchmark_metalake";
+  private static final String CATALOG_NAME = "benchmark_catalog";
+  private static final String SCHEMA_NAME = "benchmark_schema";
+
+  @Param({"100", "2000"})
+  public int columnCnt;
+
+  @Param({"1", "100"})
+  public int versionCnt;
+
+  @Param({"false", "true"})
+  public boolean compacted;
+
+  private TableEntity table;
+  private int alterCnt;
+
+  /** The backend shared by all the benchmark threads. */
+  @State(Scope.Benchmark)
+  public static class BackendState {
+    private final String dbDir =
+        "/tmp/gravitino_jdbc_column_benchmark_" + UUID.randomUUID().toString().replace("-", "");
+    private JDBCBackend backend;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+      new File(dbDir).mkdirs();
+      Config config = mock(Config.class);
+      Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_PATH)).thenReturn(dbDir);
+      Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_URL))
+          .thenReturn(String.format("jdbc:h2:file:%s/db;DB_CLOSE_DELAY=-1;MODE=MYSQL", dbDir));
+      Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_USER)).thenReturn("gravitino");
+      Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD)).thenReturn("gravitino");
+      Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER)).thenReturn("org.h2.Driver");
+      Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS)).thenReturn(100);
+      Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_WAIT_MILLISECONDS)).thenReturn(1000L);
+
+      backend = new JDBCBackend();
+      backend.initialize(config);
+      backend.insert(
+          TestUtil.getTestMetalake(RandomIdGenerator.INSTANCE.nextId(), METALAKE_NAME, ""),
+          false);
+      backend.insert(
+          TestUtil.getTestCatalogEntity(
+              RandomIdGenerator.INSTANCE.nextId(),
+              CATALOG_NAME,
+              Namespace.of(METALAKE_NAME),
+              "hive",
+              ""),
+          false);
+      backend.insert(
+          TestUtil.getTestSchemaEntity(
+              RandomIdGenerator.INSTANCE.nextId(),
+              SCHEMA_NAME,
+              Namespace.of(METALAKE_NAME, CATALOG_NAME),
+              ""),
+          false);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+      backend.close();
+      FileUtils.deleteQuietly(new File(dbDir));
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setup(BackendState state) throws IOException {
+    List<ColumnEntity> columns = new ArrayList<>(columnCnt);
+    for (int i = 0; i < columnCnt; i++) {
+      columns.add(createColumn(RandomIdGenerator.INSTANCE.nextId(), i, "comment"));
+    }
+    table =
+        TableEntity.builder()
+            .withId(RandomIdGenerator.INSTANCE.nextId())
+            .withName("table_" + UUID.randomUUID().toString().replace("-", ""))
+            .withNamespace(Namespace.of(METALAKE_NAME, CATALOG_NAME, SCHEMA_NAME))
+            .withColumns(columns)
+            .withAuditInfo(TestUtil.getTestAuditInfo())
+            .build();
+    state.backend.insert(table, false);
+
+    for (int i = 1; i < versionCnt; i++) {
+      alterColumn(state);
+    }
+  }
+
+  @Setup(Level.Iteration)
+  public void compact() {
+    if (!compacted) {
+      return;
+    }
+    int deletedCount;
+    do {
+      deletedCount =
+          TableColumnMetaService.getInstance().deleteColumnVersionsByRetentionCount(1L, 10000);
+    } while (deletedCount > 0);
+  }
+
+  @Benchmark
+  public TableEntity benchmarkLoadTable(BackendState state) throws IOException {
+    return state.backend.get(table.nameIdentifier(), Entity.EntityType.TABLE);
+  }
+
+  @Benchmark
+  public TableEntity benchmarkAlterTable(BackendState state) throws IOException {
+    return alterColumn(state);
+  }
+
+  private TableEntity alterColumn(BackendState state) throws IOException {
+    int alterId = alterCnt++;
+    return state.backend.update(
+        table.nameIdentifier(),
+        Entity.EntityType.TABLE,
+        (TableEntity oldTable) -> {
+          List<ColumnEntity> columns = new ArrayList<>(oldTable.columns());
+          int position = alterId % columns.size();
+          ColumnEntity column =
+              columns.stream().filter(c -> c.position() == position).findFirst().get();
+          columns.set(
+              columns.indexOf(column),
+              createColumn(column.id(), position, "comment_" + alterId));
+          return TableEntity.builder()
+              .withId(oldTable.id())
+              .withName(oldTable.name())
+              .withNamespace(oldTable.namespace())
+              .withColumns(columns)
+              .withAuditInfo(oldTable.auditInfo())
+              .build();
+        });
+  }
+
+  private static ColumnEntity createColumn(Long id, int position, String comment) {
+    return ColumnEntity.builder()
+        .withId(id)
+        .withName("column_" + position)
+        .withPosition(position)
+        .withComment(comment)
+        .withDataType(Types.StringType.get())
+        .withNullable(true)
+        .withAutoIncrement(false)
+        .withAuditInfo(TestUtil.getTestAuditInfo())
+        .build();
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.storage.relational.utils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Catalog;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.CatalogEntity;
+import org.apache.gravitino.meta.ColumnEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.rel.types.Types;
+import org.apache.gravitino.storage.relational.po.CatalogPO;
+import org.apache.gravitino.storage.relational.po.ColumnPO;
+import org.apache.gravitino.storage.relational.po.TablePO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * POConvertersBenchmark benchmarks the throughput of converting the entities from and to the POs
+ * of the relational entity store with the different {@link EntityColumnCodec.Format}s.
+ *
+ * <p>It converts a page of 100 catalogs with a configurable number of properties (e.g., 10, 100),
+ * and a table with 100 columns, which are the typical payloads of listing catalogs and loading a
+ * wide table from the {@code JDBCBackend}.
+ *
+ * <p>It includes four benchmark methods:
+ *
+ * <ul>
+ *   <li>{@code benchmarkToCatalogPOs}: Converts the catalogs to {@link CatalogPO}s.
+ *   <li>{@code benchmarkFromCatalogPOs}: Converts the {@link CatalogPO}s to catalogs.
+ *   <li>{@code benchmarkToColumnPOs}: Converts the columns to {@link ColumnPO}s.
+ *   <li>{@code benchmarkFromColumnPOs}: Converts the {@link ColumnPO}s to columns.
+ * </ul>
+ *
+ * @see org.apache.gravitino.storage.relational.utils.POConverters
+ * @see org.openjdk.jmh.annotations.Benchmark
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class POConvertersBenchmark {
+  private static final int ENTITY_CNT = 100;
+
+  @Param({"JSON", "SMILE"})
+  public EntityColumnCodec.Format format;
+
+  @Param({"10", "100"})
+  public int propertyCnt;
+
+  private final Namespace namespace = Namespace.of("metalake");
+  private EntityColumnCodec codec;
+  private List<CatalogEntity> catalogs;
+  private List<CatalogPO> catalogPOs;
+  private TablePO tablePO;
+  private List<ColumnEntity> columns;
+  private List<ColumnPO> columnPOs;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    this.codec = new EntityColumnCodec(format);
+    AuditInfo auditInfo =
+        AuditInfo.builder()
+            .withCreator("benchmark")
+            .withCreateTime(Instant.now())
+            .withLastModifier("benchmark")
+            .withLastModifiedTime(Instant.now())
+            .build();
+
+    Map<String, String> properties = new HashMap<>();
+    for (int i = 0; i < propertyCnt; i++) {
+      properties.put("property-key-" + i, "property-value-" + i);
+    }
+
+    this.catalogs = new ArrayList<>(ENTITY_CNT);
+    this.catalogPOs = new ArrayList<>(ENTITY_CNT);
+    for (int i = 0; i < ENTITY_CNT; i++) {
+      CatalogEntity catalog =
+          CatalogEntity.builder()
+              .withId((long) i)
+              .withName("catalog-" + i)
+              .withNamespace(namespace)
+              .withType(Catalog.Type.RELATIONAL)
+              .withProvider("hive")
+              .withComment("catalog-" + i)
+              .withProperties(properties)
+              .withAuditInfo(auditInfo)
+              .build();
+      catalogs.add(catalog);
+      catalogPOs.add(POConverters.initializeCatalogPOWithVersion(catalog, 1L, codec));
+    }
+
+    TableEntity table =
+        TableEntity.builder()
+            .withId(1L)
+            .withName("table")
+            .withNamespace(Namespace.of("metalake", "catalog", "schema"))
+            .withAuditInfo(auditInfo)
+            .build();
+    this.tablePO =
+        POConverters.initializeTablePOWithVersion(
+            table, TablePO.builder().withMetalakeId(1L).withCatalogId(1L).withSchemaId(1L));
+    this.columns = new ArrayList<>(ENTITY_CNT);
+    for (int i = 0; i < ENTITY_CNT; i++) {
+      columns.add(
+          ColumnEntity.builder()
+              .withId((long) i)
+              .withName("column-" + i)
+              .withPosition(i)
+              .withDataType(i % 2 == 0 ? Types.LongType.get() : Types.DecimalType.of(20, 2))
+              .withComment("column-" + i)
+              .withNullable(true)
+              .withAutoIncrement(false)
+              .withAuditInfo(auditInfo)
+              .build());
+    }
+    this.columnPOs =
+        POConverters.initializeColumnPOs(tablePO, columns, ColumnPO.ColumnOpType.CREATE, codec);
+  }
+
+  @Benchmark
+  public List<CatalogPO> benchmarkToCatalogPOs() {
+    List<CatalogPO> result = new ArrayList<>(catalogs.size());
+    for (CatalogEntity catalog : catalogs) {
+      result.add(POConverters.initializeCatalogPOWithVersion(catalog, 1L, codec));
+    }
+    return result;
+  }
+
+  @Benchmark
+  public List<CatalogEntity> benchmarkFromCatalogPOs() {
+    return POConverters.fromCatalogPOs(catalogPOs, namespace);
+  }
+
+  @Benchmark
+  public List<ColumnPO> benchmarkToColumnPOs() {
+    return POConverters.initializeColumnPOs(tablePO, columns, ColumnPO.ColumnOpType.CREATE, codec);
+  }
+
+  @Benchmark
+  public List<ColumnEntity> benchmarkFromColumnPOs() {
+    return POConverters.fromColumnPOs(columnPOs);
+  }
+}
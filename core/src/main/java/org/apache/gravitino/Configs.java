@@ -35,9 +35,13 @@ public class Configs {
   private Configs() {}
 
   public static final String RELATIONAL_ENTITY_STORE = "relational";
+
+  public static final String RANDOM_ID_GENERATOR = "random";
+  public static final String SNOWFLAKE_ID_GENERATOR = "snowflake";
   public static final String ENTITY_STORE_KEY = "gravitino.entity.store";
 
   public static final String DEFAULT_ENTITY_RELATIONAL_STORE = "JDBCBackend";
+  public static final String KV_ENTITY_RELATIONAL_STORE = "KvBackend";
   public static final String ENTITY_RELATIONAL_STORE_KEY = "gravitino.entity.store.relational";
 
   public static final String ENTITY_RELATIONAL_JDBC_BACKEND_URL_KEY =
@@ -83,6 +87,9 @@ public class Configs {
   public static final String DEFAULT_RELATIONAL_JDBC_BACKEND_PATH =
       String.join(File.separator, System.getenv("GRAVITINO_HOME"), "data", "jdbc");
 
+  public static final String DEFAULT_KV_BACKEND_PATH =
+      String.join(File.separator, System.getenv("GRAVITINO_HOME"), "data", "kv");
+
   public static final String DEFAULT_RELATIONAL_JDBC_BACKEND_URL = "jdbc:h2";
 
   public static final String DEFAULT_RELATIONAL_JDBC_BACKEND_DRIVER = "org.h2.Driver";
@@ -117,6 +124,40 @@ public class Configs {
           .checkValue(StringUtils::isNotBlank, ConfigConstants.NOT_BLANK_ERROR_MSG)
           .createWithDefault(DEFAULT_ENTITY_RELATIONAL_STORE);
 
+  public static final ConfigEntry<String> ENTITY_ID_GENERATOR =
+      new ConfigBuilder("gravitino.entity.idGenerator")
+          .doc(
+              "Which id generator to use for the entity ids, `random` or `snowflake`, or the full"
+                  + " qualified class name of a custom `IdGenerator`")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .stringConf()
+          .checkValue(StringUtils::isNotBlank, ConfigConstants.NOT_BLANK_ERROR_MSG)
+          .createWithDefault(RANDOM_ID_GENERATOR);
+
+  public static final ConfigEntry<Integer> ENTITY_ID_GENERATOR_SNOWFLAKE_NODE_ID =
+      new ConfigBuilder("gravitino.entity.idGenerator.snowflake.nodeId")
+          .doc(
+              "The node id in [0, 1023] embedded in the ids generated by the `snowflake` id"
+                  + " generator, it must be unique among the Gravitino servers sharing the same"
+                  + " entity store. -1 means the node id is derived from the host name and the"
+                  + " process id")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .intConf()
+          .checkValue(
+              value -> value >= -1 && value <= 1023, "The value must be in the range [-1, 1023]")
+          .createWithDefault(-1);
+
+  public static final ConfigEntry<Long> ENTITY_ID_GENERATOR_SNOWFLAKE_MAX_CLOCK_BACKWARD_MS =
+      new ConfigBuilder("gravitino.entity.idGenerator.snowflake.maxClockBackwardMs")
+          .doc(
+              "The max time in milliseconds the system clock may move backwards while the"
+                  + " `snowflake` id generator keeps generating ids, it fails to generate ids if"
+                  + " the clock moves backwards further")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(5000L);
+
   public static final ConfigEntry<String> ENTITY_RELATIONAL_JDBC_BACKEND_URL =
       new ConfigBuilder(ENTITY_RELATIONAL_JDBC_BACKEND_URL_KEY)
           .doc("Connection URL of `JDBCBackend`")
@@ -174,6 +215,66 @@ public class Configs {
           .stringConf()
           .createWithDefault(DEFAULT_RELATIONAL_JDBC_BACKEND_PATH);
 
+  public static final ConfigEntry<String> ENTITY_KV_BACKEND_PATH =
+      new ConfigBuilder("gravitino.entity.store.kv.path")
+          .doc(
+              "The storage directory of the `KvBackend` entity store. If the value is a relative"
+                  + " path, the final path is `${GRAVITINO_HOME}/${PATH_YOU_HAVA_SET}`, default"
+                  + " value is `${GRAVITINO_HOME}/data/kv`")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .stringConf()
+          .checkValue(StringUtils::isNotBlank, ConfigConstants.NOT_BLANK_ERROR_MSG)
+          .createWithDefault(DEFAULT_KV_BACKEND_PATH);
+
+  public static final ConfigEntry<Boolean> ENTITY_KV_BACKEND_SYNC_WRITES =
+      new ConfigBuilder("gravitino.entity.store.kv.syncWrites")
+          .doc(
+              "Whether the `KvBackend` entity store flushes the log to the disk before a write"
+                  + " returns. The writes acknowledged before a machine crash may be lost if false")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .booleanConf()
+          .createWithDefault(true);
+
+  public static final ConfigEntry<Long> ENTITY_KV_BACKEND_COMPACTION_THRESHOLD_BYTES =
+      new ConfigBuilder("gravitino.entity.store.kv.compactionThresholdBytes")
+          .doc(
+              "The size in bytes of the `KvBackend` log which triggers a compaction of the log into"
+                  + " a snapshot of the entity store")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(64L * 1024 * 1024);
+
+  public static final ConfigEntry<String> ENTITY_RELATIONAL_COLUMN_ENCODING =
+      new ConfigBuilder("gravitino.entity.store.relational.columnEncoding")
+          .doc(
+              "The encoding of the properties, audit info and other JSON columns written by the"
+                  + " relational entity store, `json` or `smile`. The columns in both encodings"
+                  + " can always be read")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .stringConf()
+          .checkValue(
+              value -> value != null && ("json".equals(value) || "smile".equals(value)),
+              "The value must be `json` or `smile`")
+          .createWithDefault("json");
+
+  public static final ConfigEntry<Boolean> ENTITY_RELATIONAL_COLUMN_ENCODING_MIGRATE =
+      new ConfigBuilder("gravitino.entity.store.relational.columnEncoding.migrate")
+          .doc(
+              "Whether to re-encode the existing JSON columns in the background with the encoding"
+                  + " of `gravitino.entity.store.relational.columnEncoding`")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Integer> ENTITY_RELATIONAL_COLUMN_ENCODING_MIGRATE_BATCH_SIZE =
+      new ConfigBuilder("gravitino.entity.store.relational.columnEncoding.migrateBatchSize")
+          .doc("The number of rows re-encoded in each batch by the background migration")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(500);
+
   public static final ConfigEntry<Long> CATALOG_CACHE_EVICTION_INTERVAL_MS =
       new ConfigBuilder("gravitino.catalog.cache.evictionIntervalMs")
           .doc("The interval in milliseconds to evict the catalog cache")
@@ -181,6 +282,16 @@ public class Configs {
           .longConf()
           .createWithDefault(60 * 60 * 1000L);
 
+  public static final ConfigEntry<Long> CATALOG_TABLE_CACHE_MAX_SIZE =
+      new ConfigBuilder("gravitino.catalog.tableCache.maxSize")
+          .doc(
+              "The maximum number of the tables kept in the table cache shared by all the "
+                  + "catalogs with a positive table-cache-staleness-ms")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(10_000L);
+
   public static final ConfigEntry<Boolean> CATALOG_LOAD_ISOLATED =
       new ConfigBuilder("gravitino.catalog.classloader.isolated")
           .doc("Whether to load the catalog in an isolated classloader")
@@ -188,6 +299,44 @@ public class Configs {
           .booleanConf()
           .createWithDefault(true);
 
+  public static final ConfigEntry<Long> CATALOG_IMPORT_CRAWLER_INTERVAL_MS =
+      new ConfigBuilder("gravitino.catalog.importCrawler.intervalMs")
+          .doc(
+              "The interval in milliseconds between two background crawls which import the schemas"
+                  + " and tables created outside Gravitino, 0 means the scheduled crawl is"
+                  + " disabled")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0L);
+
+  public static final ConfigEntry<Integer> CATALOG_IMPORT_CRAWLER_THREADS =
+      new ConfigBuilder("gravitino.catalog.importCrawler.threads")
+          .doc("The number of threads to crawl the schemas of a catalog in parallel")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(4);
+
+  public static final ConfigEntry<Integer> CATALOG_IMPORT_CRAWLER_MAX_OPERATIONS_PER_SECOND =
+      new ConfigBuilder("gravitino.catalog.importCrawler.maxOperationsPerSecond")
+          .doc(
+              "The maximum number of schemas and tables imported or dropped by the crawler per"
+                  + " second, to limit the load on the underlying catalogs and the entity store")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(50);
+
+  public static final ConfigEntry<Boolean> CATALOG_IMPORT_CRAWLER_DROP_STALE_ENTITIES =
+      new ConfigBuilder("gravitino.catalog.importCrawler.dropStaleEntities")
+          .doc(
+              "Whether the crawler drops the schemas and tables from the entity store which no"
+                  + " longer exist in the underlying catalogs")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .booleanConf()
+          .createWithDefault(false);
+
   public static final ConfigEntry<String> AUTHENTICATOR =
       new ConfigBuilder("gravitino.authenticator")
           .doc(
@@ -279,6 +428,15 @@ public class Configs {
           .longConf()
           .createWithDefault(CLEAN_INTERVAL_IN_SECS);
 
+  public static final ConfigEntry<Boolean> TREE_LOCK_OPTIMISTIC_READ_ENABLED =
+      new ConfigBuilder("gravitino.lock.optimisticRead.enabled")
+          .doc(
+              "Whether to load and list the schemas and tables with the lock-free optimistic "
+                  + "reads, which fall back to the tree lock once they conflict with writes")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .booleanConf()
+          .createWithDefault(true);
+
   public static final ConfigEntry<Boolean> ENABLE_AUTHORIZATION =
       new ConfigBuilder("gravitino.authorization.enable")
           .doc("Enable the authorization")
@@ -313,6 +471,26 @@ public class Configs {
           .intConf()
           .createWithDefault(DEFAULT_METRICS_TIME_SLIDING_WINDOW_SECONDS);
 
+  public static final ConfigEntry<Boolean> METRICS_LATENCY_TRACING_ENABLED =
+      new ConfigBuilder("gravitino.metrics.latencyTracing.enabled")
+          .doc(
+              "Whether to trace the latency of the tree lock, entity cache, entity store, catalog "
+                  + "operations and authorization, and export them as Gravitino metrics")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Long> METRICS_SLOW_REQUEST_THRESHOLD_MS =
+      new ConfigBuilder("gravitino.metrics.latencyTracing.slowRequestThresholdMs")
+          .doc(
+              "The threshold in milliseconds to log a slow request along with the latency of each "
+                  + "traced stage, 0 means the slow request log is disabled. It only takes effect "
+                  + "when the latency tracing is enabled")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0L);
+
   public static final ConfigEntry<List<String>> REST_API_EXTENSION_PACKAGES =
       new ConfigBuilder("gravitino.server.rest.extensionPackages")
           .doc("Comma-separated list of REST API packages to expand")
@@ -454,4 +632,13 @@ public class Configs {
           .version(ConfigConstants.VERSION_1_0_0)
           .stringConf()
           .createWithDefault(MemoryPartitionStatsStorageFactory.class.getCanonicalName());
+
+  public static final ConfigEntry<Boolean> METADATA_OBJECT_INDEX_ENABLED =
+      new ConfigBuilder("gravitino.metadataObjectIndex.enabled")
+          .doc(
+              "Whether to keep an in-memory index from the tags and policies to the metadata "
+                  + "objects associated with them, which serves the metadata object search.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .booleanConf()
+          .createWithDefault(true);
 }
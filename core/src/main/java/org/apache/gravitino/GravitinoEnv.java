@@ -34,6 +34,7 @@ import org.apache.gravitino.catalog.CatalogNormalizeDispatcher;
 import org.apache.gravitino.catalog.FilesetDispatcher;
 import org.apache.gravitino.catalog.FilesetNormalizeDispatcher;
 import org.apache.gravitino.catalog.FilesetOperationDispatcher;
+import org.apache.gravitino.catalog.MetadataImportCrawler;
 import org.apache.gravitino.catalog.ModelDispatcher;
 import org.apache.gravitino.catalog.ModelNormalizeDispatcher;
 import org.apache.gravitino.catalog.ModelOperationDispatcher;
@@ -76,13 +77,18 @@ import org.apache.gravitino.lock.LockManager;
 import org.apache.gravitino.metalake.MetalakeDispatcher;
 import org.apache.gravitino.metalake.MetalakeManager;
 import org.apache.gravitino.metalake.MetalakeNormalizeDispatcher;
+import org.apache.gravitino.metrics.LatencyTracer;
 import org.apache.gravitino.metrics.MetricsSystem;
 import org.apache.gravitino.metrics.source.JVMMetricsSource;
+import org.apache.gravitino.metrics.source.LatencyTracingMetricsSource;
 import org.apache.gravitino.policy.PolicyDispatcher;
 import org.apache.gravitino.policy.PolicyManager;
+import org.apache.gravitino.search.MetadataObjectIndex;
+import org.apache.gravitino.search.MetadataObjectIndexEventListener;
+import org.apache.gravitino.search.PolicyIndexDispatcher;
 import org.apache.gravitino.stats.StatisticManager;
 import org.apache.gravitino.storage.IdGenerator;
-import org.apache.gravitino.storage.RandomIdGenerator;
+import org.apache.gravitino.storage.IdGeneratorFactory;
 import org.apache.gravitino.tag.TagDispatcher;
 import org.apache.gravitino.tag.TagManager;
 import org.slf4j.Logger;
@@ -127,6 +133,8 @@ public class GravitinoEnv {
 
   private PolicyDispatcher policyDispatcher;
 
+  private MetadataObjectIndex metadataObjectIndex;
+
   private AccessControlDispatcher accessControlDispatcher;
 
   private IdGenerator idGenerator;
@@ -148,6 +156,7 @@ public class GravitinoEnv {
   private FutureGrantManager futureGrantManager;
   private GravitinoAuthorizer gravitinoAuthorizer;
   private StatisticManager statisticManager;
+  private MetadataImportCrawler metadataImportCrawler;
 
   protected GravitinoEnv() {}
 
@@ -360,6 +369,15 @@ public class GravitinoEnv {
     return policyDispatcher;
   }
 
+  /**
+   * Get the MetadataObjectIndex associated with the Gravitino environment.
+   *
+   * @return The MetadataObjectIndex instance, or null if the index is disabled.
+   */
+  public MetadataObjectIndex metadataObjectIndex() {
+    return metadataObjectIndex;
+  }
+
   /**
    * Get the Owner dispatcher associated with the Gravitino environment.
    *
@@ -419,6 +437,15 @@ public class GravitinoEnv {
     return statisticManager;
   }
 
+  /**
+   * Get the MetadataImportCrawler associated with the Gravitino environment.
+   *
+   * @return The MetadataImportCrawler instance.
+   */
+  public MetadataImportCrawler metadataImportCrawler() {
+    return metadataImportCrawler;
+  }
+
   public void start() {
     metricsSystem.start();
     eventListenerManager.start();
@@ -431,6 +458,10 @@ public class GravitinoEnv {
   public void shutdown() {
     LOG.info("Shutting down Gravitino Environment...");
 
+    if (metadataImportCrawler != null) {
+      metadataImportCrawler.close();
+    }
+
     if (entityStore != null) {
       try {
         entityStore.close();
@@ -452,6 +483,7 @@ public class GravitinoEnv {
     }
 
     if (metricsSystem != null) {
+      LatencyTracer.disable();
       metricsSystem.close();
     }
 
@@ -486,6 +518,11 @@ public class GravitinoEnv {
   private void initBaseComponents() {
     this.metricsSystem = new MetricsSystem();
     metricsSystem.register(new JVMMetricsSource());
+    if (config.get(Configs.METRICS_LATENCY_TRACING_ENABLED)) {
+      LatencyTracingMetricsSource latencyTracingMetricsSource = new LatencyTracingMetricsSource();
+      metricsSystem.register(latencyTracingMetricsSource);
+      LatencyTracer.enable(latencyTracingMetricsSource);
+    }
 
     this.eventListenerManager = new EventListenerManager();
     eventListenerManager.init(
@@ -501,8 +538,8 @@ public class GravitinoEnv {
     this.entityStore = EntityStoreFactory.createEntityStore(config);
     entityStore.initialize(config);
 
-    // create and initialize a random id generator
-    this.idGenerator = new RandomIdGenerator();
+    // Create the id generator, the ids are random by default
+    this.idGenerator = IdGeneratorFactory.createIdGenerator(config);
 
     // Tree lock
     this.lockManager = new LockManager(config);
@@ -536,12 +573,28 @@ public class GravitinoEnv {
     this.schemaDispatcher = new SchemaEventDispatcher(eventBus, schemaNormalizeDispatcher);
 
     TableOperationDispatcher tableOperationDispatcher =
-        new TableOperationDispatcher(catalogManager, entityStore, idGenerator);
+        new TableOperationDispatcher(
+            catalogManager,
+            entityStore,
+            idGenerator,
+            config.get(Configs.CATALOG_TABLE_CACHE_MAX_SIZE));
     TableHookDispatcher tableHookDispatcher = new TableHookDispatcher(tableOperationDispatcher);
     TableNormalizeDispatcher tableNormalizeDispatcher =
         new TableNormalizeDispatcher(tableHookDispatcher, catalogManager);
     this.tableDispatcher = new TableEventDispatcher(eventBus, tableNormalizeDispatcher);
 
+    // The crawler imports the schemas and tables directly through the operation dispatchers, the
+    // same way as they are imported lazily when loaded.
+    this.metadataImportCrawler =
+        new MetadataImportCrawler(
+            config,
+            catalogManager,
+            entityStore,
+            schemaOperationDispatcher,
+            tableOperationDispatcher,
+            eventBus);
+    metricsSystem.register(metadataImportCrawler.metricsSource());
+
     // TODO: We can install hooks when we need, we only supports ownership post hook,
     //  partition doesn't have ownership, so we don't need it now.
     PartitionOperationDispatcher partitionOperationDispatcher =
@@ -595,9 +648,23 @@ public class GravitinoEnv {
     this.auxServiceManager.serviceInit(config);
 
     // Create and initialize Tag related modules
-    this.tagDispatcher = new TagEventDispatcher(eventBus, new TagManager(idGenerator, entityStore));
+    TagManager tagManager = new TagManager(idGenerator, entityStore);
+    PolicyManager policyManager = new PolicyManager(idGenerator, entityStore);
+    this.tagDispatcher = new TagEventDispatcher(eventBus, tagManager);
     // todo: support policy event dispatcher
-    this.policyDispatcher = new PolicyManager(idGenerator, entityStore);
+    this.policyDispatcher = policyManager;
+
+    // The index is loaded from the managers directly so that loading it doesn't emit events, the
+    // tag and metadata object changes are applied to it by an event listener, and the policy
+    // changes by a dispatcher decorator since there are no policy events yet.
+    if (config.get(Configs.METADATA_OBJECT_INDEX_ENABLED)) {
+      this.metadataObjectIndex = new MetadataObjectIndex(tagManager, policyManager);
+      this.policyDispatcher = new PolicyIndexDispatcher(policyManager, metadataObjectIndex);
+      eventListenerManager.addEventListener(
+          "metadata-object-index", new MetadataObjectIndexEventListener(metadataObjectIndex));
+    } else {
+      this.metadataObjectIndex = null;
+    }
 
     // TODO: Support event for job operation dispatcher
     this.jobOperationDispatcher = new JobManager(config, entityStore, idGenerator);
@@ -20,6 +20,7 @@ package org.apache.gravitino;
 
 import java.io.IOException;
 import java.util.List;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
 
 /**
@@ -146,4 +147,45 @@ public interface SupportsRelationOperations {
     throw new UnsupportedOperationException(
         "updateEntityRelations is not supported by this implementation");
   }
+
+  /**
+   * Updates the relations of a given destination entity with many source entities in one call, by
+   * adding the relations with a set of source entities and removing the relations with another set
+   * of source entities. The relations that already exist are skipped.
+   *
+   * <p>The default implementation updates the source entities one by one, the implementations
+   * should override it to update the relations in batches.
+   *
+   * @param relType The type of relation to update.
+   * @param destEntityIdent The identifier of the destination entity, for example, a policy.
+   * @param destEntityType The type of the destination entity.
+   * @param srcEntitiesToAdd The identifiers and types of the source entities to be associated.
+   * @param srcEntitiesToRemove The identifiers and types of the source entities to be
+   *     disassociated.
+   * @throws IOException If a storage-related error occurs.
+   * @throws NoSuchEntityException If any of the specified entities does not exist.
+   */
+  default void batchUpdateEntityRelations(
+      Type relType,
+      NameIdentifier destEntityIdent,
+      Entity.EntityType destEntityType,
+      List<Pair<NameIdentifier, Entity.EntityType>> srcEntitiesToAdd,
+      List<Pair<NameIdentifier, Entity.EntityType>> srcEntitiesToRemove)
+      throws IOException, NoSuchEntityException {
+    NameIdentifier[] destEntities = new NameIdentifier[] {destEntityIdent};
+    NameIdentifier[] noEntities = new NameIdentifier[0];
+    for (Pair<NameIdentifier, Entity.EntityType> srcEntity : srcEntitiesToAdd) {
+      boolean related =
+          listEntitiesByRelation(relType, srcEntity.getLeft(), srcEntity.getRight(), false).stream()
+              .anyMatch(e -> e.nameIdentifier().equals(destEntityIdent));
+      if (!related) {
+        updateEntityRelations(
+            relType, srcEntity.getLeft(), srcEntity.getRight(), destEntities, noEntities);
+      }
+    }
+    for (Pair<NameIdentifier, Entity.EntityType> srcEntity : srcEntitiesToRemove) {
+      updateEntityRelations(
+          relType, srcEntity.getLeft(), srcEntity.getRight(), noEntities, destEntities);
+    }
+  }
 }
@@ -21,12 +21,15 @@ package org.apache.gravitino.audit;
 
 import com.google.common.annotations.VisibleForTesting;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
 import org.apache.gravitino.exceptions.GravitinoRuntimeException;
 import org.apache.gravitino.listener.EventListenerManager;
 import org.apache.gravitino.listener.api.EventListenerPlugin;
+import org.apache.gravitino.listener.api.event.BaseEvent;
 import org.apache.gravitino.listener.api.event.Event;
 import org.apache.gravitino.utils.MapUtils;
 import org.slf4j.Logger;
@@ -78,6 +81,12 @@ public class AuditLogManager {
             }
           }
 
+          // Every operation is audited, but only once it's done, the pre-events are not needed.
+          @Override
+          public Set<Class<? extends BaseEvent>> subscribedEventTypes() {
+            return Collections.singleton(Event.class);
+          }
+
           @Override
           public void onPostEvent(Event event) throws RuntimeException {
             try {
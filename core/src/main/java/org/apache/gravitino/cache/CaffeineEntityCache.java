@@ -25,6 +25,7 @@ import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import com.googlecode.concurrenttrees.radix.ConcurrentRadixTree;
 import com.googlecode.concurrenttrees.radix.RadixTree;
@@ -32,6 +33,7 @@ import com.googlecode.concurrenttrees.radix.node.concrete.DefaultCharArrayNodeFa
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -44,6 +46,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
@@ -51,6 +54,7 @@ import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.SupportsRelationOperations;
 import org.apache.gravitino.meta.ModelVersionEntity;
+import org.apache.gravitino.utils.NameIdentifierUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -84,6 +88,12 @@ public class CaffeineEntityCache extends BaseEntityCache {
   /** Index part */
   private RadixTree<EntityCacheKey> cacheIndex;
 
+  /**
+   * Index from the model identifier to the aliases of its cached model versions, it is used to
+   * serve the model version lookups by alias from the cached model versions.
+   */
+  private final Cache<NameIdentifier, Map<String, Integer>> modelVersionAliasIndex;
+
   private ScheduledExecutorService scheduler;
 
   /**
@@ -117,6 +127,7 @@ public class CaffeineEntityCache extends BaseEntityCache {
             });
 
     this.cacheData = cacheDataBuilder.build();
+    this.modelVersionAliasIndex = newModelVersionAliasIndex(cacheConfig);
 
     if (cacheConfig.get(Configs.CACHE_STATS_ENABLED)) {
       this.scheduler = Executors.newSingleThreadScheduledExecutor();
@@ -143,6 +154,10 @@ public class CaffeineEntityCache extends BaseEntityCache {
       NameIdentifier ident, Entity.EntityType type) {
     checkArguments(ident, type);
 
+    if (isModelVersionAlias(ident, type)) {
+      return getModelVersionByAlias(ident).map(BaseEntityCache::convertEntity);
+    }
+
     List<Entity> entitiesFromCache = cacheData.getIfPresent(EntityCacheKey.of(ident, type));
 
     return Optional.ofNullable(entitiesFromCache)
@@ -164,7 +179,17 @@ public class CaffeineEntityCache extends BaseEntityCache {
   public boolean invalidate(NameIdentifier ident, Entity.EntityType type) {
     checkArguments(ident, type);
 
-    return withLock(() -> invalidateEntities(ident));
+    return withLock(
+        () -> {
+          if (type == Entity.EntityType.MODEL_VERSION) {
+            return invalidateModelVersion(ident);
+          }
+
+          if (type == Entity.EntityType.MODEL) {
+            modelVersionAliasIndex.invalidate(ident);
+          }
+          return invalidateEntities(ident);
+        });
   }
 
   /** {@inheritDoc} */
@@ -179,6 +204,9 @@ public class CaffeineEntityCache extends BaseEntityCache {
   @Override
   public boolean contains(NameIdentifier ident, Entity.EntityType type) {
     checkArguments(ident, type);
+    if (isModelVersionAlias(ident, type)) {
+      return getModelVersionByAlias(ident).isPresent();
+    }
     return cacheData.getIfPresent(EntityCacheKey.of(ident, type)) != null;
   }
 
@@ -194,6 +222,7 @@ public class CaffeineEntityCache extends BaseEntityCache {
     withLock(
         () -> {
           cacheData.invalidateAll();
+          modelVersionAliasIndex.invalidateAll();
           cacheIndex = new ConcurrentRadixTree<>(new DefaultCharArrayNodeFactory());
         });
   }
@@ -231,6 +260,10 @@ public class CaffeineEntityCache extends BaseEntityCache {
           EntityCacheKey entityCacheKey = EntityCacheKey.of(identifier, entity.type());
 
           syncEntitiesToCache(entityCacheKey, Lists.newArrayList(entity));
+          if (entity.type() == Entity.EntityType.MODEL_VERSION
+              && cacheData.policy().getIfPresentQuietly(entityCacheKey) != null) {
+            indexModelVersionAliases((ModelVersionEntity) entity);
+          }
         });
   }
 
@@ -239,10 +272,11 @@ public class CaffeineEntityCache extends BaseEntityCache {
   public <E extends Entity & HasIdentifier> void invalidateOnKeyChange(E entity) {
     // Invalidate the cache if inserting the entity may affect related cache keys.
     // For example, inserting a model version changes the latest version of the model,
-    // so the corresponding model cache entry should be invalidated.
+    // so the corresponding model cache entry should be invalidated. Only the model entry itself
+    // is invalidated, the cached model versions and the relations of the model are still valid.
     if (Objects.requireNonNull(entity.type()) == Entity.EntityType.MODEL_VERSION) {
       NameIdentifier modelIdent = ((ModelVersionEntity) entity).modelIdentifier();
-      invalidate(modelIdent, Entity.EntityType.MODEL);
+      withLock(() -> invalidateEntity(EntityCacheKey.of(modelIdent, Entity.EntityType.MODEL)));
     }
   }
 
@@ -330,14 +364,131 @@ public class CaffeineEntityCache extends BaseEntityCache {
     return (Caffeine<KEY, VALUE>) builder;
   }
 
+  /**
+   * Returns a new Caffeine cache for the model version alias index, it shares the size and
+   * expiration settings with the entity cache.
+   *
+   * @param cacheConfig The cache configuration
+   * @return The new cache for the model version alias index
+   */
+  private static Cache<NameIdentifier, Map<String, Integer>> newModelVersionAliasIndex(
+      Config cacheConfig) {
+    Caffeine<Object, Object> builder =
+        Caffeine.newBuilder().maximumSize(cacheConfig.get(Configs.CACHE_MAX_ENTRIES));
+    if (cacheConfig.get(Configs.CACHE_EXPIRATION_TIME) > 0) {
+      builder.expireAfterWrite(
+          cacheConfig.get(Configs.CACHE_EXPIRATION_TIME), TimeUnit.MILLISECONDS);
+    }
+
+    return builder.build();
+  }
+
+  private static boolean isModelVersionAlias(NameIdentifier ident, Entity.EntityType type) {
+    return type == Entity.EntityType.MODEL_VERSION && !NumberUtils.isCreatable(ident.name());
+  }
+
+  /**
+   * Indexes the aliases of the cached model version, so that it can be looked up by alias.
+   *
+   * @param modelVersion The cached model version entity
+   */
+  private void indexModelVersionAliases(ModelVersionEntity modelVersion) {
+    if (modelVersion.aliases() == null || modelVersion.aliases().isEmpty()) {
+      return;
+    }
+
+    Map<String, Integer> aliases =
+        modelVersionAliasIndex.get(modelVersion.modelIdentifier(), k -> Maps.newConcurrentMap());
+    modelVersion.aliases().forEach(alias -> aliases.put(alias, modelVersion.version()));
+  }
+
+  /**
+   * Gets the cached model version by alias with the alias index. The alias index may be stale
+   * after the aliases are changed, so the aliases of the cached model version are checked again.
+   *
+   * @param aliasIdent The identifier of the model version with the alias as the name
+   * @return The cached model version, or empty if it is not cached
+   */
+  private Optional<ModelVersionEntity> getModelVersionByAlias(NameIdentifier aliasIdent) {
+    NameIdentifier modelIdent = NameIdentifierUtil.toModelIdentifier(aliasIdent);
+    Map<String, Integer> aliases = modelVersionAliasIndex.getIfPresent(modelIdent);
+    Integer version = aliases == null ? null : aliases.get(aliasIdent.name());
+    if (version == null) {
+      return Optional.empty();
+    }
+
+    NameIdentifier versionIdent = NameIdentifierUtil.toModelVersionIdentifier(modelIdent, version);
+    return Optional.ofNullable(
+            cacheData.getIfPresent(
+                EntityCacheKey.of(versionIdent, Entity.EntityType.MODEL_VERSION)))
+        .filter(l -> !l.isEmpty())
+        .map(l -> (ModelVersionEntity) l.get(0))
+        .filter(e -> e.aliases() != null && e.aliases().contains(aliasIdent.name()));
+  }
+
+  /**
+   * Invalidates the model version identified by either the version number or the alias. Unlike
+   * other entities, only the keys of the model version itself are invalidated, rather than all the
+   * keys starting with the identifier, e.g. invalidating version 1 does not invalidate version 10.
+   *
+   * @param ident The identifier of the model version to invalidate
+   * @return true if any cache entry was removed
+   */
+  private boolean invalidateModelVersion(NameIdentifier ident) {
+    NameIdentifier modelIdent = NameIdentifierUtil.toModelIdentifier(ident);
+
+    int version;
+    if (isModelVersionAlias(ident, Entity.EntityType.MODEL_VERSION)) {
+      Optional<ModelVersionEntity> cached = getModelVersionByAlias(ident);
+      if (!cached.isPresent()) {
+        // The model version with the alias may still be cached if its alias index is evicted,
+        // so all the cached model versions of the model are invalidated to be safe.
+        modelVersionAliasIndex.invalidate(modelIdent);
+        return invalidateEntities(modelIdent.toString() + ".");
+      }
+      version = cached.get().version();
+    } else {
+      version = Integer.parseInt(ident.name());
+    }
+
+    // The aliases of the model version may be changed, so they are removed from the index and
+    // will be indexed again when the model version is cached again.
+    Map<String, Integer> aliases = modelVersionAliasIndex.getIfPresent(modelIdent);
+    if (aliases != null) {
+      aliases.values().removeIf(v -> v == version);
+    }
+
+    NameIdentifier versionIdent = NameIdentifierUtil.toModelVersionIdentifier(modelIdent, version);
+    return invalidateEntities(versionIdent.toString() + ":");
+  }
+
+  /**
+   * Invalidates the single entry of the given cache key.
+   *
+   * @param key The cache key to invalidate
+   */
+  private void invalidateEntity(EntityCacheKey key) {
+    cacheData.invalidate(key);
+    cacheIndex.remove(key.toString());
+  }
+
   /**
    * Invalidates the entities by the given cache key.
    *
    * @param identifier The identifier of the entity to invalidate
    */
   private boolean invalidateEntities(NameIdentifier identifier) {
+    return invalidateEntities(identifier.toString());
+  }
+
+  /**
+   * Invalidates the entities whose cache keys start with the given prefix.
+   *
+   * @param keyPrefix The prefix of the cache keys to invalidate
+   */
+  private boolean invalidateEntities(String keyPrefix) {
     List<EntityCacheKey> entityKeysToRemove =
-        Lists.newArrayList(cacheIndex.getValuesForKeysStartingWith(identifier.toString()));
+        Lists.newArrayList(cacheIndex.getValuesForKeysStartingWith(keyPrefix));
 
     cacheData.invalidateAll(entityKeysToRemove);
     entityKeysToRemove.forEach(key -> cacheIndex.remove(key.toString()));
@@ -97,6 +97,8 @@ import org.apache.gravitino.messaging.TopicCatalog;
 import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.meta.CatalogEntity;
 import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.metrics.LatencyTracer;
+import org.apache.gravitino.metrics.LatencyTracer.Subsystem;
 import org.apache.gravitino.model.ModelCatalog;
 import org.apache.gravitino.rel.SupportsPartitions;
 import org.apache.gravitino.rel.Table;
@@ -131,6 +133,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
 
     private BaseCatalog catalog;
     private IsolatedClassLoader classLoader;
+    private volatile CatalogMetadataSnapshot metadataSnapshot;
 
     public CatalogWrapper(BaseCatalog catalog, IsolatedClassLoader classLoader) {
       this.catalog = catalog;
@@ -142,7 +145,8 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     }
 
     public <R> R doWithSchemaOps(ThrowableFunction<SupportsSchemas, R> fn) throws Exception {
-      return classLoader.withClassLoader(
+      return withClassLoader(
+          "schema",
           cl -> {
             if (asSchemas() == null) {
               throw new UnsupportedOperationException("Catalog does not support schema operations");
@@ -152,7 +156,8 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     }
 
     public <R> R doWithTableOps(ThrowableFunction<TableCatalog, R> fn) throws Exception {
-      return classLoader.withClassLoader(
+      return withClassLoader(
+          "table",
           cl -> {
             if (asTables() == null) {
               throw new UnsupportedOperationException("Catalog does not support table operations");
@@ -162,7 +167,8 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     }
 
     public <R> R doWithFilesetOps(ThrowableFunction<FilesetCatalog, R> fn) throws Exception {
-      return classLoader.withClassLoader(
+      return withClassLoader(
+          "fileset",
           cl -> {
             if (asFilesets() == null) {
               throw new UnsupportedOperationException(
@@ -173,7 +179,8 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     }
 
     public <R> R doWithFilesetFileOps(ThrowableFunction<FilesetFileOps, R> fn) throws Exception {
-      return classLoader.withClassLoader(
+      return withClassLoader(
+          "fileset_file",
           cl -> {
             if (asFilesetFileOps() == null) {
               throw new UnsupportedOperationException(
@@ -184,11 +191,12 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     }
 
     public <R> R doWithCredentialOps(ThrowableFunction<BaseCatalog, R> fn) throws Exception {
-      return classLoader.withClassLoader(cl -> fn.apply(catalog));
+      return withClassLoader("credential", cl -> fn.apply(catalog));
     }
 
     public <R> R doWithTopicOps(ThrowableFunction<TopicCatalog, R> fn) throws Exception {
-      return classLoader.withClassLoader(
+      return withClassLoader(
+          "topic",
           cl -> {
             if (asTopics() == null) {
               throw new UnsupportedOperationException("Catalog does not support topic operations");
@@ -198,7 +206,8 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     }
 
     public <R> R doWithModelOps(ThrowableFunction<ModelCatalog, R> fn) throws Exception {
-      return classLoader.withClassLoader(
+      return withClassLoader(
+          "model",
           cl -> {
             if (asModels() == null) {
               throw new UnsupportedOperationException("Catalog does not support model operations");
@@ -208,12 +217,13 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     }
 
     public <R> R doWithCatalogOps(ThrowableFunction<CatalogOperations, R> fn) throws Exception {
-      return classLoader.withClassLoader(cl -> fn.apply(catalog.ops()));
+      return withClassLoader("catalog", cl -> fn.apply(catalog.ops()));
     }
 
     public <R> R doWithPartitionOps(
         NameIdentifier tableIdent, ThrowableFunction<SupportsPartitions, R> fn) throws Exception {
-      return classLoader.withClassLoader(
+      return withClassLoader(
+          "partition",
           cl -> {
             Preconditions.checkArgument(
                 asTables() != null, "Catalog does not support table operations");
@@ -227,11 +237,47 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
 
     public <R> R doWithPropertiesMeta(ThrowableFunction<HasPropertyMetadata, R> fn)
         throws Exception {
-      return classLoader.withClassLoader(cl -> fn.apply(catalog));
+      return withClassLoader("properties_meta", cl -> fn.apply(catalog));
     }
 
     public Capability capabilities() throws Exception {
-      return classLoader.withClassLoader(cl -> catalog.capability());
+      return metadataSnapshot().capability();
+    }
+
+    /**
+     * Returns the properties metadata of the catalog. Unlike {@link #doWithPropertiesMeta}, it
+     * doesn't switch to the class loader of the catalog, so it only fits the cheap lookups like
+     * checking whether a property is hidden.
+     *
+     * @return The properties metadata of the catalog.
+     * @throws Exception If the properties metadata could not be loaded.
+     */
+    public HasPropertyMetadata propertiesMetadata() throws Exception {
+      return metadataSnapshot();
+    }
+
+    // The capability and the properties metadata never change for a catalog instance, they are
+    // loaded once in the class loader of the catalog and shared by all the operations.
+    private CatalogMetadataSnapshot metadataSnapshot() throws Exception {
+      CatalogMetadataSnapshot snapshot = metadataSnapshot;
+      if (snapshot == null) {
+        synchronized (this) {
+          snapshot = metadataSnapshot;
+          if (snapshot == null) {
+            snapshot =
+                withClassLoader("metadata_snapshot", cl -> new CatalogMetadataSnapshot(catalog));
+            metadataSnapshot = snapshot;
+          }
+        }
+      }
+      return snapshot;
+    }
+
+    private <R> R withClassLoader(String operationType, ThrowableFunction<ClassLoader, R> fn)
+        throws Exception {
+      try (LatencyTracer.Span ignored = LatencyTracer.start(Subsystem.CATALOG, operationType)) {
+        return classLoader.withClassLoader(fn);
+      }
     }
 
     public void close() {
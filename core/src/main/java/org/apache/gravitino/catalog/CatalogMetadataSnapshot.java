@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import org.apache.gravitino.connector.BaseCatalog;
+import org.apache.gravitino.connector.HasPropertyMetadata;
+import org.apache.gravitino.connector.PropertiesMetadata;
+import org.apache.gravitino.connector.capability.Capability;
+
+/**
+ * A snapshot of the capability and the properties metadata of a catalog instance. They never
+ * change during the life of the catalog instance, so they are computed once in the class loader of
+ * the catalog and could be read from any class loader afterward. A reloaded catalog is wrapped by a
+ * new {@link CatalogManager.CatalogWrapper}, which builds a new snapshot.
+ */
+class CatalogMetadataSnapshot implements HasPropertyMetadata {
+
+  private final Capability capability;
+  private final Result tablePropertiesMetadata;
+  private final Result catalogPropertiesMetadata;
+  private final Result schemaPropertiesMetadata;
+  private final Result filesetPropertiesMetadata;
+  private final Result topicPropertiesMetadata;
+  private final Result modelPropertiesMetadata;
+  private final Result modelVersionPropertiesMetadata;
+
+  /**
+   * Builds the snapshot, must be called in the class loader of the catalog.
+   *
+   * @param catalog The catalog to take the snapshot of.
+   */
+  CatalogMetadataSnapshot(BaseCatalog<?> catalog) {
+    this.capability = catalog.capability();
+    this.tablePropertiesMetadata = Result.of(catalog::tablePropertiesMetadata);
+    this.catalogPropertiesMetadata = Result.of(catalog::catalogPropertiesMetadata);
+    this.schemaPropertiesMetadata = Result.of(catalog::schemaPropertiesMetadata);
+    this.filesetPropertiesMetadata = Result.of(catalog::filesetPropertiesMetadata);
+    this.topicPropertiesMetadata = Result.of(catalog::topicPropertiesMetadata);
+    this.modelPropertiesMetadata = Result.of(catalog::modelPropertiesMetadata);
+    this.modelVersionPropertiesMetadata = Result.of(catalog::modelVersionPropertiesMetadata);
+  }
+
+  /** @return The capability of the catalog. */
+  Capability capability() {
+    return capability;
+  }
+
+  @Override
+  public PropertiesMetadata tablePropertiesMetadata() throws UnsupportedOperationException {
+    return tablePropertiesMetadata.get();
+  }
+
+  @Override
+  public PropertiesMetadata catalogPropertiesMetadata() throws UnsupportedOperationException {
+    return catalogPropertiesMetadata.get();
+  }
+
+  @Override
+  public PropertiesMetadata schemaPropertiesMetadata() throws UnsupportedOperationException {
+    return schemaPropertiesMetadata.get();
+  }
+
+  @Override
+  public PropertiesMetadata filesetPropertiesMetadata() throws UnsupportedOperationException {
+    return filesetPropertiesMetadata.get();
+  }
+
+  @Override
+  public PropertiesMetadata topicPropertiesMetadata() throws UnsupportedOperationException {
+    return topicPropertiesMetadata.get();
+  }
+
+  @Override
+  public PropertiesMetadata modelPropertiesMetadata() throws UnsupportedOperationException {
+    return modelPropertiesMetadata.get();
+  }
+
+  @Override
+  public PropertiesMetadata modelVersionPropertiesMetadata() throws UnsupportedOperationException {
+    return modelVersionPropertiesMetadata.get();
+  }
+
+  // The properties metadata of a kind of entity, or the reason why the catalog doesn't support it.
+  private static class Result {
+    private final PropertiesMetadata propertiesMetadata;
+    private final UnsupportedOperationException unsupported;
+
+    private Result(
+        PropertiesMetadata propertiesMetadata, UnsupportedOperationException unsupported) {
+      this.propertiesMetadata = propertiesMetadata;
+      this.unsupported = unsupported;
+    }
+
+    private static Result of(Provider provider) {
+      try {
+        return new Result(provider.get(), null);
+      } catch (UnsupportedOperationException e) {
+        return new Result(null, e);
+      }
+    }
+
+    private PropertiesMetadata get() {
+      if (unsupported != null) {
+        throw new UnsupportedOperationException(unsupported.getMessage(), unsupported);
+      }
+      return propertiesMetadata;
+    }
+  }
+
+  @FunctionalInterface
+  private interface Provider {
+    PropertiesMetadata get() throws UnsupportedOperationException;
+  }
+}
@@ -23,6 +23,7 @@ import java.io.IOException;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.exceptions.NoSuchFilesetException;
 import org.apache.gravitino.file.FileInfo;
+import org.apache.gravitino.file.FileInfoPage;
 
 /**
  * The {@code FilesetFileOps} interface defines operations for managing files within filesets. This
@@ -44,4 +45,30 @@ public interface FilesetFileOps {
     throw new UnsupportedOperationException(
         "listFiles not supported by " + getClass().getSimpleName());
   }
+
+  /**
+   * List the files in a fileset page by page. Unlike {@link #listFiles(NameIdentifier, String,
+   * String)}, the files are not listed into memory all at once, so it can be used to list the huge
+   * directories.
+   *
+   * @param ident A fileset identifier.
+   * @param locationName The location name. If null, the default location will be used.
+   * @param subPath The sub path under the fileset.
+   * @param recursive Whether to list the files under the sub directories recursively. Only the
+   *     files are listed if it is true, the directories are not.
+   * @param pageToken The token returned with the previous page, or null to list the first page.
+   * @param pageSize The max number of files in the page.
+   * @return A page of file information objects.
+   */
+  default FileInfoPage listFiles(
+      NameIdentifier ident,
+      String locationName,
+      String subPath,
+      boolean recursive,
+      String pageToken,
+      int pageSize)
+      throws NoSuchFilesetException, IOException {
+    throw new UnsupportedOperationException(
+        "listFiles with pages not supported by " + getClass().getSimpleName());
+  }
 }
@@ -33,6 +33,7 @@ import org.apache.gravitino.exceptions.NoSuchFilesetException;
 import org.apache.gravitino.exceptions.NoSuchLocationNameException;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.file.FileInfo;
+import org.apache.gravitino.file.FileInfoPage;
 import org.apache.gravitino.file.Fileset;
 import org.apache.gravitino.file.FilesetChange;
 
@@ -60,6 +61,19 @@ public class FilesetNormalizeDispatcher implements FilesetDispatcher {
     return dispatcher.listFiles(normalizeCaseSensitive(ident), locationName, subPath);
   }
 
+  @Override
+  public FileInfoPage listFiles(
+      NameIdentifier ident,
+      String locationName,
+      String subPath,
+      boolean recursive,
+      String pageToken,
+      int pageSize)
+      throws NoSuchFilesetException, IOException {
+    return dispatcher.listFiles(
+        normalizeCaseSensitive(ident), locationName, subPath, recursive, pageToken, pageSize);
+  }
+
   @Override
   public Fileset loadFileset(NameIdentifier ident) throws NoSuchFilesetException {
     // The constraints of the name spec may be more strict than underlying catalog,
@@ -34,6 +34,7 @@ import org.apache.gravitino.exceptions.NoSuchLocationNameException;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.exceptions.NonEmptyEntityException;
 import org.apache.gravitino.file.FileInfo;
+import org.apache.gravitino.file.FileInfoPage;
 import org.apache.gravitino.file.Fileset;
 import org.apache.gravitino.file.FilesetChange;
 import org.apache.gravitino.lock.LockType;
@@ -114,6 +115,30 @@ public class FilesetOperationDispatcher extends OperationDispatcher implements F
                 NoSuchFilesetException.class));
   }
 
+  @Override
+  public FileInfoPage listFiles(
+      NameIdentifier ident,
+      String locationName,
+      String subPath,
+      boolean recursive,
+      String pageToken,
+      int pageSize)
+      throws NoSuchFilesetException {
+    NameIdentifier catalogIdent = getCatalogIdentifier(ident);
+    return TreeLockUtils.doWithTreeLock(
+        ident,
+        LockType.READ,
+        () ->
+            doWithCatalog(
+                catalogIdent,
+                c ->
+                    c.doWithFilesetFileOps(
+                        f ->
+                            f.listFiles(
+                                ident, locationName, subPath, recursive, pageToken, pageSize)),
+                NoSuchFilesetException.class));
+  }
+
   /**
    * Create a fileset metadata in the catalog.
    *
@@ -0,0 +1,417 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import static org.apache.gravitino.Entity.EntityType.CATALOG;
+import static org.apache.gravitino.Entity.EntityType.METALAKE;
+import static org.apache.gravitino.Entity.EntityType.SCHEMA;
+import static org.apache.gravitino.Entity.EntityType.TABLE;
+
+import com.codahale.metrics.Timer;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.apache.gravitino.Catalog;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.authorization.AuthorizationUtils;
+import org.apache.gravitino.connector.capability.Capability;
+import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.exceptions.NoSuchSchemaException;
+import org.apache.gravitino.exceptions.NoSuchTableException;
+import org.apache.gravitino.listener.EventBus;
+import org.apache.gravitino.listener.api.event.DropSchemaEvent;
+import org.apache.gravitino.listener.api.event.DropTableEvent;
+import org.apache.gravitino.lock.LockType;
+import org.apache.gravitino.lock.TreeLockUtils;
+import org.apache.gravitino.meta.BaseMetalake;
+import org.apache.gravitino.meta.CatalogEntity;
+import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.metrics.source.MetadataImportCrawlerMetricsSource;
+import org.apache.gravitino.utils.NamespaceUtil;
+import org.apache.gravitino.utils.PrincipalUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A background crawler which imports the schemas and tables created outside Gravitino into the
+ * entity store, so that the first access to them doesn't need to import them under a write tree
+ * lock in the request path.
+ *
+ * <p>A crawl of a relational catalog lists the schemas and tables from the underlying catalog and
+ * diffs them against the entity store. The new schemas and tables are imported through the schema
+ * and table dispatchers, the same way as they are imported lazily when loaded. The schemas of a
+ * catalog are crawled in parallel, and the imports and drops are rate limited to protect the
+ * underlying catalogs and the entity store.
+ *
+ * <p>If {@link Configs#CATALOG_IMPORT_CRAWLER_DROP_STALE_ENTITIES} is enabled, the schemas and
+ * tables which no longer exist in the underlying catalog are also dropped from the entity store,
+ * unless the catalog manages the storage of them. The crawler never drops anything from the
+ * underlying catalog, so it deletes the stale entities from the store itself instead of calling
+ * the drop operations, then removes their privileges from the authorization plugins and
+ * dispatches the drop events, as a drop through Gravitino does.
+ *
+ * <p>All the relational catalogs are crawled periodically if {@link
+ * Configs#CATALOG_IMPORT_CRAWLER_INTERVAL_MS} is positive, a single catalog can also be crawled on
+ * demand by {@link #triggerCrawl(NameIdentifier)}.
+ */
+public class MetadataImportCrawler implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(MetadataImportCrawler.class);
+
+  private final CatalogManager catalogManager;
+  private final EntityStore store;
+  private final SchemaDispatcher schemaDispatcher;
+  private final TableDispatcher tableDispatcher;
+  private final EventBus eventBus;
+  private final boolean dropStaleEntities;
+  private final RateLimiter rateLimiter;
+  private final MetadataImportCrawlerMetricsSource metricsSource;
+
+  // The catalogs being crawled, a catalog is never crawled by two threads at the same time.
+  private final Set<NameIdentifier> runningCatalogs = ConcurrentHashMap.newKeySet();
+  // The catalogs whose triggered crawls are not finished yet, a catalog is triggered only once
+  // until its triggered crawl is finished.
+  private final Set<NameIdentifier> triggeredCatalogs = ConcurrentHashMap.newKeySet();
+  private final ScheduledExecutorService scheduler;
+  // The triggered crawls don't run on the scheduler, so that they don't wait for a periodic crawl
+  // of all the catalogs to finish.
+  private final ExecutorService triggeredCrawlers;
+  private final ExecutorService schemaCrawlers;
+
+  /**
+   * Creates a new MetadataImportCrawler instance and schedules the periodic crawl if enabled.
+   *
+   * @param config The configuration of Gravitino server.
+   * @param catalogManager The CatalogManager instance to load the catalogs.
+   * @param store The EntityStore instance to diff the schemas and tables against.
+   * @param schemaDispatcher The SchemaDispatcher instance to import the schemas.
+   * @param tableDispatcher The TableDispatcher instance to import the tables.
+   * @param eventBus The EventBus instance to dispatch the events of the dropped stale entities.
+   */
+  public MetadataImportCrawler(
+      Config config,
+      CatalogManager catalogManager,
+      EntityStore store,
+      SchemaDispatcher schemaDispatcher,
+      TableDispatcher tableDispatcher,
+      EventBus eventBus) {
+    this.catalogManager = catalogManager;
+    this.store = store;
+    this.schemaDispatcher = schemaDispatcher;
+    this.tableDispatcher = tableDispatcher;
+    this.eventBus = eventBus;
+    this.dropStaleEntities = config.get(Configs.CATALOG_IMPORT_CRAWLER_DROP_STALE_ENTITIES);
+    this.rateLimiter =
+        RateLimiter.create(config.get(Configs.CATALOG_IMPORT_CRAWLER_MAX_OPERATIONS_PER_SECOND));
+    this.metricsSource = new MetadataImportCrawlerMetricsSource(runningCatalogs::size);
+
+    this.scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("metadata-import-crawler-%d")
+                .build());
+    // At most one triggered crawl of each catalog is in flight, so the threads are bounded by the
+    // number of the relational catalogs.
+    this.triggeredCrawlers =
+        Executors.newCachedThreadPool(
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("metadata-import-crawler-triggered-%d")
+                .build());
+    this.schemaCrawlers =
+        Executors.newFixedThreadPool(
+            config.get(Configs.CATALOG_IMPORT_CRAWLER_THREADS),
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("metadata-import-crawler-schema-%d")
+                .build());
+
+    long intervalMs = config.get(Configs.CATALOG_IMPORT_CRAWLER_INTERVAL_MS);
+    if (intervalMs > 0) {
+      scheduler.scheduleWithFixedDelay(
+          this::crawlAllCatalogs, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+      LOG.info("Metadata import crawler is scheduled every {} ms", intervalMs);
+    }
+  }
+
+  /** @return The metrics source which reports the progress of the crawls. */
+  public MetadataImportCrawlerMetricsSource metricsSource() {
+    return metricsSource;
+  }
+
+  /**
+   * Triggers a crawl of the catalog in the background. The trigger is ignored if the catalog is
+   * being crawled or a crawl of it is already triggered.
+   *
+   * @param catalogIdent The identifier of the relational catalog to crawl.
+   * @return {@code true} if the crawl is triggered, {@code false} if the catalog is being crawled
+   *     or a crawl of it is already triggered.
+   * @throws org.apache.gravitino.exceptions.NoSuchCatalogException If the catalog does not exist.
+   * @throws IllegalArgumentException If the catalog is not a relational catalog.
+   */
+  public boolean triggerCrawl(NameIdentifier catalogIdent) {
+    Catalog catalog = catalogManager.loadCatalog(catalogIdent);
+    Preconditions.checkArgument(
+        catalog.type() == Catalog.Type.RELATIONAL,
+        "Only relational catalogs can be crawled, but %s is %s",
+        catalogIdent,
+        catalog.type());
+    if (runningCatalogs.contains(catalogIdent) || !triggeredCatalogs.add(catalogIdent)) {
+      return false;
+    }
+
+    try {
+      triggeredCrawlers.execute(
+          () -> {
+            try {
+              crawlCatalog(catalogIdent);
+            } finally {
+              triggeredCatalogs.remove(catalogIdent);
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      triggeredCatalogs.remove(catalogIdent);
+      throw e;
+    }
+    return true;
+  }
+
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+    triggeredCrawlers.shutdownNow();
+    schemaCrawlers.shutdownNow();
+  }
+
+  @VisibleForTesting
+  void crawlAllCatalogs() {
+    try {
+      for (BaseMetalake metalake : store.list(Namespace.empty(), BaseMetalake.class, METALAKE)) {
+        Namespace catalogNamespace = NamespaceUtil.ofCatalog(metalake.name());
+        for (CatalogEntity catalog : store.list(catalogNamespace, CatalogEntity.class, CATALOG)) {
+          if (catalog.getType() == Catalog.Type.RELATIONAL) {
+            crawlCatalog(catalog.nameIdentifier());
+          }
+        }
+      }
+    } catch (Exception e) {
+      LOG.warn("Failed to list the catalogs to crawl", e);
+    }
+  }
+
+  @VisibleForTesting
+  void crawlCatalog(NameIdentifier catalogIdent) {
+    if (!runningCatalogs.add(catalogIdent)) {
+      LOG.info("Catalog {} is being crawled, skip this crawl", catalogIdent);
+      return;
+    }
+
+    try (Timer.Context ignored = metricsSource.catalogCrawlDuration().time()) {
+      catalogManager.checkCatalogInUse(store, catalogIdent);
+      CatalogManager.CatalogWrapper catalog = catalogManager.loadCatalogAndWrap(catalogIdent);
+      Namespace schemaNamespace =
+          NamespaceUtil.ofSchema(catalogIdent.namespace().level(0), catalogIdent.name());
+
+      Set<NameIdentifier> schemas =
+          Sets.newHashSet(catalog.doWithSchemaOps(s -> s.listSchemas(schemaNamespace)));
+      Set<NameIdentifier> storedSchemas =
+          store.list(schemaNamespace, SchemaEntity.class, SCHEMA).stream()
+              .map(SchemaEntity::nameIdentifier)
+              .collect(Collectors.toSet());
+
+      for (NameIdentifier schemaIdent : Sets.difference(schemas, storedSchemas)) {
+        rateLimiter.acquire();
+        importSchema(schemaIdent);
+      }
+
+      if (dropStaleEntities && !isManaged(catalog, Capability.Scope.SCHEMA)) {
+        for (NameIdentifier schemaIdent : Sets.difference(storedSchemas, schemas)) {
+          rateLimiter.acquire();
+          dropStaleSchema(catalog, schemaIdent);
+        }
+      }
+
+      boolean dropStaleTables = dropStaleEntities && !isManaged(catalog, Capability.Scope.TABLE);
+      List<Future<?>> futures = Lists.newArrayList();
+      for (NameIdentifier schemaIdent : schemas) {
+        futures.add(
+            schemaCrawlers.submit(() -> crawlSchema(catalog, schemaIdent, dropStaleTables)));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+      LOG.info("Finished crawling catalog {} with {} schemas", catalogIdent, schemas.size());
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      LOG.warn("Crawling catalog {} is interrupted", catalogIdent);
+    } catch (Exception e) {
+      metricsSource.failures().inc();
+      LOG.warn("Failed to crawl catalog {}", catalogIdent, e);
+    } finally {
+      runningCatalogs.remove(catalogIdent);
+    }
+  }
+
+  private void crawlSchema(
+      CatalogManager.CatalogWrapper catalog, NameIdentifier schemaIdent, boolean dropStaleTables) {
+    try {
+      Namespace tableNamespace =
+          NamespaceUtil.ofTable(
+              schemaIdent.namespace().level(0),
+              schemaIdent.namespace().level(1),
+              schemaIdent.name());
+      Set<NameIdentifier> tables =
+          Sets.newHashSet(catalog.doWithTableOps(t -> t.listTables(tableNamespace)));
+      Set<NameIdentifier> storedTables =
+          store.list(tableNamespace, TableEntity.class, TABLE).stream()
+              .map(TableEntity::nameIdentifier)
+              .collect(Collectors.toSet());
+
+      for (NameIdentifier tableIdent : Sets.difference(tables, storedTables)) {
+        rateLimiter.acquire();
+        importTable(tableIdent);
+      }
+
+      if (dropStaleTables) {
+        for (NameIdentifier tableIdent : Sets.difference(storedTables, tables)) {
+          rateLimiter.acquire();
+          dropStaleTable(catalog, tableIdent);
+        }
+      }
+
+    } catch (Exception e) {
+      metricsSource.failures().inc();
+      LOG.warn("Failed to crawl schema {}", schemaIdent, e);
+    }
+  }
+
+  private void importSchema(NameIdentifier schemaIdent) {
+    try {
+      // Loading the schema imports it if it's not imported yet
+      schemaDispatcher.loadSchema(schemaIdent);
+      metricsSource.schemasImported().inc();
+    } catch (NoSuchSchemaException e) {
+      LOG.debug("Schema {} is dropped before it's imported", schemaIdent);
+    } catch (Exception e) {
+      metricsSource.failures().inc();
+      LOG.warn("Failed to import schema {}", schemaIdent, e);
+    }
+  }
+
+  private void importTable(NameIdentifier tableIdent) {
+    try {
+      // Loading the table imports it if it's not imported yet
+      tableDispatcher.loadTable(tableIdent);
+      metricsSource.tablesImported().inc();
+    } catch (NoSuchTableException e) {
+      LOG.debug("Table {} is dropped before it's imported", tableIdent);
+    } catch (Exception e) {
+      metricsSource.failures().inc();
+      LOG.warn("Failed to import table {}", tableIdent, e);
+    }
+  }
+
+  private void dropStaleSchema(CatalogManager.CatalogWrapper catalog, NameIdentifier schemaIdent) {
+    try {
+      // Check the existence again under the write lock, the schema may be created through
+      // Gravitino after it was listed from the underlying catalog.
+      boolean dropped =
+          TreeLockUtils.doWithTreeLock(
+              NameIdentifier.of(schemaIdent.namespace().levels()),
+              LockType.WRITE,
+              () ->
+                  !catalog.doWithSchemaOps(s -> s.schemaExists(schemaIdent))
+                      && store.delete(schemaIdent, SCHEMA, true /* cascade */));
+      if (dropped) {
+        onStaleEntityDropped(schemaIdent, SCHEMA);
+        metricsSource.schemasDropped().inc();
+        LOG.info("Dropped stale schema {} which no longer exists in the catalog", schemaIdent);
+      }
+    } catch (NoSuchEntityException e) {
+      LOG.debug("Stale schema {} is already dropped", schemaIdent);
+    } catch (Exception e) {
+      metricsSource.failures().inc();
+      LOG.warn("Failed to drop stale schema {}", schemaIdent, e);
+    }
+  }
+
+  private void dropStaleTable(CatalogManager.CatalogWrapper catalog, NameIdentifier tableIdent) {
+    try {
+      // Check the existence again under the write lock, the table may be created through
+      // Gravitino after it was listed from the underlying catalog.
+      boolean dropped =
+          TreeLockUtils.doWithTreeLock(
+              NameIdentifier.of(tableIdent.namespace().levels()),
+              LockType.WRITE,
+              () ->
+                  !catalog.doWithTableOps(t -> t.tableExists(tableIdent))
+                      && store.delete(tableIdent, TABLE));
+      if (dropped) {
+        onStaleEntityDropped(tableIdent, TABLE);
+        metricsSource.tablesDropped().inc();
+        LOG.info("Dropped stale table {} which no longer exists in the catalog", tableIdent);
+      }
+    } catch (NoSuchEntityException e) {
+      LOG.debug("Stale table {} is already dropped", tableIdent);
+    } catch (Exception e) {
+      metricsSource.failures().inc();
+      LOG.warn("Failed to drop stale table {}", tableIdent, e);
+    }
+  }
+
+  private void onStaleEntityDropped(NameIdentifier ident, Entity.EntityType type) {
+    // The entity is already gone from the underlying catalog, so its locations can't be resolved
+    // anymore, only the privileges of the metadata object itself are removed.
+    AuthorizationUtils.authorizationPluginRemovePrivileges(ident, type, Collections.emptyList());
+    String user = PrincipalUtils.getCurrentUserName();
+    if (type == SCHEMA) {
+      eventBus.dispatchEvent(new DropSchemaEvent(user, ident, true, true /* cascade */));
+    } else {
+      eventBus.dispatchEvent(new DropTableEvent(user, ident, true));
+    }
+  }
+
+  private boolean isManaged(CatalogManager.CatalogWrapper catalog, Capability.Scope scope)
+      throws Exception {
+    return catalog.capabilities().managedStorage(scope).supported();
+  }
+}
@@ -139,14 +139,12 @@ public abstract class OperationDispatcher {
       Map<String, String> properties) {
     return doWithCatalog(
         catalogIdent,
-        c ->
-            c.doWithPropertiesMeta(
-                p -> {
-                  PropertiesMetadata propertiesMetadata = provider.apply(p);
-                  return properties.keySet().stream()
-                      .filter(propertiesMetadata::isHiddenProperty)
-                      .collect(Collectors.toSet());
-                }),
+        c -> {
+          PropertiesMetadata propertiesMetadata = provider.apply(c.propertiesMetadata());
+          return properties.keySet().stream()
+              .filter(propertiesMetadata::isHiddenProperty)
+              .collect(Collectors.toSet());
+        },
         IllegalArgumentException.class);
   }
 
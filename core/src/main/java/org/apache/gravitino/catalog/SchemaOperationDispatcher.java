@@ -73,9 +73,8 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
    */
   @Override
   public NameIdentifier[] listSchemas(Namespace namespace) throws NoSuchCatalogException {
-    return TreeLockUtils.doWithTreeLock(
+    return TreeLockUtils.doWithOptimisticReadLock(
         NameIdentifier.of(namespace.levels()),
-        LockType.READ,
         () ->
             doWithCatalog(
                 getCatalogIdentifier(NameIdentifier.of(namespace.levels())),
@@ -184,9 +183,10 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
    */
   @Override
   public Schema loadSchema(NameIdentifier ident) throws NoSuchSchemaException {
-    // Load the schema and check if this schema is already imported.
+    // Load the schema and check if this schema is already imported. The catalog only reads the
+    // schema from the underlying source, so the load is safe to run twice in the optimistic read.
     EntityCombinedSchema schema =
-        TreeLockUtils.doWithTreeLock(ident, LockType.READ, () -> internalLoadSchema(ident));
+        TreeLockUtils.doWithOptimisticReadLock(ident, () -> internalLoadSchema(ident));
 
     if (!schema.imported()) {
       TreeLockUtils.doWithTreeLock(
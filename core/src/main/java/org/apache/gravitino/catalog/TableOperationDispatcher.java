@@ -20,27 +20,36 @@ package org.apache.gravitino.catalog;
 
 import static org.apache.gravitino.Entity.EntityType.TABLE;
 import static org.apache.gravitino.catalog.CapabilityHelpers.applyCapabilities;
+import static org.apache.gravitino.catalog.PropertiesMetadataHelpers.checkValueFormat;
 import static org.apache.gravitino.catalog.PropertiesMetadataHelpers.validatePropertyForCreate;
 import static org.apache.gravitino.rel.expressions.transforms.Transforms.EMPTY_TRANSFORM;
 import static org.apache.gravitino.utils.NameIdentifierUtil.getCatalogIdentifier;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.gravitino.Configs;
 import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.StringIdentifier;
+import org.apache.gravitino.connector.BaseCatalog;
 import org.apache.gravitino.connector.HasPropertyMetadata;
 import org.apache.gravitino.connector.capability.Capability;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
@@ -71,6 +80,10 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
 
   private static final Logger LOG = LoggerFactory.getLogger(TableOperationDispatcher.class);
 
+  // The tables loaded from the catalogs with a positive table cache staleness, every entry expires
+  // after the staleness of its catalog at the time it was loaded.
+  private final Cache<NameIdentifier, CachedTable> tableCache;
+
   /**
    * Creates a new TableOperationDispatcher instance.
    *
@@ -80,7 +93,57 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
    */
   public TableOperationDispatcher(
       CatalogManager catalogManager, EntityStore store, IdGenerator idGenerator) {
+    this(
+        catalogManager,
+        store,
+        idGenerator,
+        Configs.CATALOG_TABLE_CACHE_MAX_SIZE.getDefaultValue());
+  }
+
+  /**
+   * Creates a new TableOperationDispatcher instance.
+   *
+   * @param catalogManager The CatalogManager instance to be used for table operations.
+   * @param store The EntityStore instance to be used for table operations.
+   * @param idGenerator The IdGenerator instance to be used for table operations.
+   * @param tableCacheMaxSize The maximum number of the tables kept in the table cache.
+   */
+  public TableOperationDispatcher(
+      CatalogManager catalogManager,
+      EntityStore store,
+      IdGenerator idGenerator,
+      long tableCacheMaxSize) {
     super(catalogManager, store, idGenerator);
+    this.tableCache =
+        Caffeine.newBuilder()
+            .maximumSize(tableCacheMaxSize)
+            .expireAfter(
+                new Expiry<NameIdentifier, CachedTable>() {
+                  @Override
+                  public long expireAfterCreate(
+                      NameIdentifier key, CachedTable value, long currentTime) {
+                    return TimeUnit.MILLISECONDS.toNanos(value.stalenessMs);
+                  }
+
+                  @Override
+                  public long expireAfterUpdate(
+                      NameIdentifier key,
+                      CachedTable value,
+                      long currentTime,
+                      long currentDuration) {
+                    return TimeUnit.MILLISECONDS.toNanos(value.stalenessMs);
+                  }
+
+                  @Override
+                  public long expireAfterRead(
+                      NameIdentifier key,
+                      CachedTable value,
+                      long currentTime,
+                      long currentDuration) {
+                    return currentDuration;
+                  }
+                })
+            .build();
   }
 
   /**
@@ -93,9 +156,8 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
    */
   @Override
   public NameIdentifier[] listTables(Namespace namespace) throws NoSuchSchemaException {
-    return TreeLockUtils.doWithTreeLock(
+    return TreeLockUtils.doWithOptimisticReadLock(
         NameIdentifier.of(namespace.levels()),
-        LockType.READ,
         () ->
             doWithCatalog(
                 getCatalogIdentifier(NameIdentifier.of(namespace.levels())),
@@ -112,8 +174,21 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
    */
   @Override
   public Table loadTable(NameIdentifier ident) throws NoSuchTableException {
+    CatalogManager.CatalogWrapper catalogWrapper =
+        doWithCatalog(getCatalogIdentifier(ident), c -> c, IllegalArgumentException.class);
+    long stalenessMs = tableCacheStalenessMs(catalogWrapper);
+    if (stalenessMs > 0) {
+      EntityCombinedTable cachedTable = getCachedTable(ident, catalogWrapper);
+      if (cachedTable != null) {
+        return cachedTable;
+      }
+    }
+
+    // The catalog only reads the table from the underlying source, the caches it fills hold what
+    // the source returns whatever the Gravitino locks are, so the load is safe to run twice.
     EntityCombinedTable entityCombinedTable =
-        TreeLockUtils.doWithTreeLock(ident, LockType.READ, () -> internalLoadTable(ident));
+        TreeLockUtils.doWithOptimisticReadLock(ident, () -> internalLoadTable(ident));
+    boolean entityFromStore = entityCombinedTable.imported();
 
     if (!entityCombinedTable.imported()) {
       // Load the schema to make sure the schema is imported.
@@ -130,13 +205,24 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
     // fetching from the underlying source.
     TableEntity updatedEntity = updateColumnsIfNecessaryWhenLoad(ident, entityCombinedTable);
 
-    return EntityCombinedTable.of(entityCombinedTable.tableFromCatalog(), updatedEntity)
-        .withHiddenProperties(
-            getHiddenPropertyNames(
-                getCatalogIdentifier(ident),
-                HasPropertyMetadata::tablePropertiesMetadata,
-                entityCombinedTable.tableFromCatalog().properties()))
-        .withImported(entityCombinedTable.imported());
+    EntityCombinedTable loadedTable =
+        EntityCombinedTable.of(entityCombinedTable.tableFromCatalog(), updatedEntity)
+            .withHiddenProperties(
+                getHiddenPropertyNames(
+                    getCatalogIdentifier(ident),
+                    HasPropertyMetadata::tablePropertiesMetadata,
+                    entityCombinedTable.tableFromCatalog().properties()))
+            .withImported(entityCombinedTable.imported());
+
+    // Only cache the table whose entity is read from the store as is, so that the cached table can
+    // be revalidated by comparing its entity with the one in the store.
+    if (stalenessMs > 0
+        && entityFromStore
+        && updatedEntity == entityCombinedTable.tableFromGravitino()) {
+      tableCache.put(ident, new CachedTable(loadedTable, catalogWrapper, stalenessMs));
+    }
+
+    return loadedTable;
   }
 
   /**
@@ -172,16 +258,22 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
     return TreeLockUtils.doWithTreeLock(
         NameIdentifier.of(ident.namespace().levels()),
         LockType.WRITE,
-        () ->
-            internalCreateTable(
-                ident,
-                columns,
-                comment,
-                properties,
-                partitions,
-                distribution,
-                sortOrders,
-                indexes));
+        () -> {
+          Table table =
+              internalCreateTable(
+                  ident,
+                  columns,
+                  comment,
+                  properties,
+                  partitions,
+                  distribution,
+                  sortOrders,
+                  indexes);
+          // Invalidate after creating the table under the lock, so that a concurrent load can't
+          // cache the absent or dropped table again.
+          tableCache.invalidate(ident);
+          return table;
+        });
   }
 
   /**
@@ -210,6 +302,7 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
         nameIdentifierForLock,
         LockType.WRITE,
         () -> {
+          invalidateCachedTables(ident, changes);
           NameIdentifier catalogIdent = getCatalogIdentifier(ident);
           Table alteredTable =
               doWithCatalog(
@@ -303,6 +396,7 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
         schemaIdentifier,
         LockType.WRITE,
         () -> {
+          tableCache.invalidate(ident);
           NameIdentifier catalogIdent = getCatalogIdentifier(ident);
           boolean droppedFromCatalog =
               doWithCatalog(
@@ -357,6 +451,7 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
         schemaIdentifier,
         LockType.WRITE,
         () -> {
+          tableCache.invalidate(ident);
           boolean droppedFromCatalog =
               doWithCatalog(
                   catalogIdent,
@@ -390,6 +485,63 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
         });
   }
 
+  @VisibleForTesting
+  long cachedTableCount() {
+    tableCache.cleanUp();
+    return tableCache.estimatedSize();
+  }
+
+  // The staleness is only meaningful for the catalogs with tables, so it's validated here rather
+  // than by the catalog properties metadata shared by all the catalog types.
+  private long tableCacheStalenessMs(CatalogManager.CatalogWrapper catalogWrapper) {
+    String value = catalogWrapper.catalog().properties().get(BaseCatalog.TABLE_CACHE_STALENESS_MS);
+    if (value == null) {
+      return 0L;
+    }
+
+    long stalenessMs =
+        checkValueFormat(BaseCatalog.TABLE_CACHE_STALENESS_MS, value, Long::parseLong);
+    Preconditions.checkArgument(
+        stalenessMs >= 0,
+        "Invalid value: '%s' for property: '%s', it must not be negative",
+        value,
+        BaseCatalog.TABLE_CACHE_STALENESS_MS);
+    return stalenessMs;
+  }
+
+  private EntityCombinedTable getCachedTable(
+      NameIdentifier ident, CatalogManager.CatalogWrapper catalogWrapper) {
+    CachedTable cachedTable = tableCache.getIfPresent(ident);
+    if (cachedTable == null) {
+      return null;
+    }
+
+    // The catalog is reloaded after it is altered, the tables loaded from the old catalog instance
+    // are discarded.
+    if (cachedTable.catalogWrapper != catalogWrapper) {
+      tableCache.invalidate(ident);
+      return null;
+    }
+
+    // Revalidate the cached table against the entity store, the table entity is updated by every
+    // change made through Gravitino, including the ones made by the other Gravitino servers.
+    TableEntity tableEntity = getEntity(ident, TABLE, TableEntity.class);
+    if (!Objects.equal(tableEntity, cachedTable.table.tableFromGravitino())) {
+      tableCache.invalidate(ident);
+      return null;
+    }
+
+    return cachedTable.table;
+  }
+
+  private void invalidateCachedTables(NameIdentifier ident, TableChange... changes) {
+    tableCache.invalidate(ident);
+    Arrays.stream(changes)
+        .filter(c -> c instanceof TableChange.RenameTable)
+        .map(c -> NameIdentifier.of(ident.namespace(), ((TableChange.RenameTable) c).getNewName()))
+        .forEach(tableCache::invalidate);
+  }
+
   private EntityCombinedTable importTable(NameIdentifier identifier) {
     EntityCombinedTable table = internalLoadTable(identifier);
 
@@ -745,4 +897,17 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
                 "UPDATE",
                 combinedTable.tableFromGravitino().id()));
   }
+
+  private static class CachedTable {
+    private final EntityCombinedTable table;
+    private final CatalogManager.CatalogWrapper catalogWrapper;
+    private final long stalenessMs;
+
+    private CachedTable(
+        EntityCombinedTable table, CatalogManager.CatalogWrapper catalogWrapper, long stalenessMs) {
+      this.table = table;
+      this.catalogWrapper = catalogWrapper;
+      this.stalenessMs = stalenessMs;
+    }
+  }
 }
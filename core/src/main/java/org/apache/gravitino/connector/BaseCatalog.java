@@ -61,6 +61,10 @@ public abstract class BaseCatalog<T extends BaseCatalog>
   // The object you used is not stable, don't use it unless you know what you are doing.
   public static final String CATALOG_OPERATION_IMPL = "ops-impl";
 
+  // The maximum staleness in milliseconds of the tables served from the table cache of Gravitino
+  // server without loading from the underlying catalog, 0 means the table cache is disabled.
+  public static final String TABLE_CACHE_STALENESS_MS = "table-cache-staleness-ms";
+
   // Underlying access control system plugin for this catalog.
   private volatile AuthorizationPlugin authorizationPlugin;
 
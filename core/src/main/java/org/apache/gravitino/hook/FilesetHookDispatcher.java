@@ -34,6 +34,7 @@ import org.apache.gravitino.exceptions.NoSuchFilesetException;
 import org.apache.gravitino.exceptions.NoSuchLocationNameException;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.file.FileInfo;
+import org.apache.gravitino.file.FileInfoPage;
 import org.apache.gravitino.file.Fileset;
 import org.apache.gravitino.file.FilesetChange;
 import org.apache.gravitino.utils.NameIdentifierUtil;
@@ -62,6 +63,18 @@ public class FilesetHookDispatcher implements FilesetDispatcher {
     return dispatcher.listFiles(ident, locationName, subPath);
   }
 
+  @Override
+  public FileInfoPage listFiles(
+      NameIdentifier ident,
+      String locationName,
+      String subPath,
+      boolean recursive,
+      String pageToken,
+      int pageSize)
+      throws NoSuchFilesetException, IOException {
+    return dispatcher.listFiles(ident, locationName, subPath, recursive, pageToken, pageSize);
+  }
+
   @Override
   public Fileset loadFileset(NameIdentifier ident) throws NoSuchFilesetException {
     return dispatcher.loadFileset(ident);
@@ -24,10 +24,12 @@ import com.google.common.base.Preconditions;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 import org.apache.gravitino.listener.api.EventListenerPlugin;
 import org.apache.gravitino.listener.api.event.BaseEvent;
 import org.apache.gravitino.listener.api.event.Event;
@@ -47,6 +49,7 @@ public class AsyncQueueListener implements EventListenerPlugin {
   private static final float HIGH_WATERMARK_RATIO = 0.9f;
 
   private final List<EventListenerPlugin> eventListeners;
+  private final EventRoutingTable routingTable;
   private final BlockingQueue<BaseEvent> queue;
   private final Thread asyncProcessor;
   private final int dispatcherJoinSeconds;
@@ -64,6 +67,7 @@ public class AsyncQueueListener implements EventListenerPlugin {
       int dispatcherJoinSeconds) {
     this.asyncQueueListenerName = NAME_PREFIX + name;
     this.eventListeners = listeners;
+    this.routingTable = new EventRoutingTable(listeners);
     this.queue = new LinkedBlockingQueue<>(queueCapacity);
     this.asyncProcessor = new Thread(() -> processEvents());
     this.dispatcherJoinSeconds = dispatcherJoinSeconds;
@@ -82,6 +86,13 @@ public class AsyncQueueListener implements EventListenerPlugin {
     enqueueEvent(event);
   }
 
+  @Override
+  public Set<Class<? extends BaseEvent>> subscribedEventTypes() {
+    return eventListeners.stream()
+        .flatMap(listener -> listener.subscribedEventTypes().stream())
+        .collect(Collectors.toSet());
+  }
+
   @Override
   public void init(Map<String, String> properties) {
     throw new RuntimeException(
@@ -120,10 +131,11 @@ public class AsyncQueueListener implements EventListenerPlugin {
     while (!Thread.currentThread().isInterrupted()) {
       try {
         BaseEvent baseEvent = queue.take();
+        List<EventListenerPlugin> subscribers = routingTable.route(baseEvent.getClass());
         if (baseEvent instanceof PreEvent) {
-          this.eventListeners.forEach(listener -> listener.onPreEvent((PreEvent) baseEvent));
+          subscribers.forEach(listener -> listener.onPreEvent((PreEvent) baseEvent));
         } else if (baseEvent instanceof Event) {
-          this.eventListeners.forEach(listener -> listener.onPostEvent((Event) baseEvent));
+          subscribers.forEach(listener -> listener.onPostEvent((Event) baseEvent));
         } else {
           LOG.warn("Unknown event type: {}", baseEvent.getClass().getSimpleName());
         }
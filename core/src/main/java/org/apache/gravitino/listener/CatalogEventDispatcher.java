@@ -73,10 +73,16 @@ public class CatalogEventDispatcher implements CatalogDispatcher {
 
   @Override
   public NameIdentifier[] listCatalogs(Namespace namespace) throws NoSuchMetalakeException {
-    eventBus.dispatchEvent(new ListCatalogPreEvent(PrincipalUtils.getCurrentUserName(), namespace));
+    if (eventBus.isSubscribed(ListCatalogPreEvent.class)) {
+      eventBus.dispatchEvent(
+          new ListCatalogPreEvent(PrincipalUtils.getCurrentUserName(), namespace));
+    }
     try {
       NameIdentifier[] nameIdentifiers = dispatcher.listCatalogs(namespace);
-      eventBus.dispatchEvent(new ListCatalogEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      if (eventBus.isSubscribed(ListCatalogEvent.class)) {
+        eventBus.dispatchEvent(
+            new ListCatalogEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      }
       return nameIdentifiers;
     } catch (Exception e) {
       eventBus.dispatchEvent(
@@ -87,10 +93,16 @@ public class CatalogEventDispatcher implements CatalogDispatcher {
 
   @Override
   public Catalog[] listCatalogsInfo(Namespace namespace) throws NoSuchMetalakeException {
-    eventBus.dispatchEvent(new ListCatalogPreEvent(PrincipalUtils.getCurrentUserName(), namespace));
+    if (eventBus.isSubscribed(ListCatalogPreEvent.class)) {
+      eventBus.dispatchEvent(
+          new ListCatalogPreEvent(PrincipalUtils.getCurrentUserName(), namespace));
+    }
     try {
       Catalog[] catalogs = dispatcher.listCatalogsInfo(namespace);
-      eventBus.dispatchEvent(new ListCatalogEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      if (eventBus.isSubscribed(ListCatalogEvent.class)) {
+        eventBus.dispatchEvent(
+            new ListCatalogEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      }
       return catalogs;
     } catch (Exception e) {
       eventBus.dispatchEvent(
@@ -101,12 +113,16 @@ public class CatalogEventDispatcher implements CatalogDispatcher {
 
   @Override
   public Catalog loadCatalog(NameIdentifier ident) throws NoSuchCatalogException {
-    eventBus.dispatchEvent(new LoadCatalogPreEvent(PrincipalUtils.getCurrentUserName(), ident));
+    if (eventBus.isSubscribed(LoadCatalogPreEvent.class)) {
+      eventBus.dispatchEvent(new LoadCatalogPreEvent(PrincipalUtils.getCurrentUserName(), ident));
+    }
     try {
       Catalog catalog = dispatcher.loadCatalog(ident);
-      eventBus.dispatchEvent(
-          new LoadCatalogEvent(
-              PrincipalUtils.getCurrentUserName(), ident, new CatalogInfo(catalog)));
+      if (eventBus.isSubscribed(LoadCatalogEvent.class)) {
+        eventBus.dispatchEvent(
+            new LoadCatalogEvent(
+                PrincipalUtils.getCurrentUserName(), ident, new CatalogInfo(catalog)));
+      }
       return catalog;
     } catch (Exception e) {
       eventBus.dispatchEvent(
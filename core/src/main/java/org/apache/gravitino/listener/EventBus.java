@@ -50,6 +50,9 @@ public class EventBus {
    */
   private final List<AsyncQueueListener> asyncQueueListeners;
 
+  /** Routes the events to the listeners subscribing to them. */
+  private final EventRoutingTable routingTable;
+
   /**
    * Constructs an EventBus with a predefined list of event listeners.
    *
@@ -63,6 +66,7 @@ public class EventBus {
             .filter(AsyncQueueListener.class::isInstance)
             .map(AsyncQueueListener.class::cast)
             .collect(Collectors.toList());
+    this.routingTable = new EventRoutingTable(eventListeners);
   }
 
   /**
@@ -84,6 +88,17 @@ public class EventBus {
     }
   }
 
+  /**
+   * Checks whether any listener subscribes to the events of the class. The dispatchers should skip
+   * building the events nobody subscribes to, the check costs no allocation.
+   *
+   * @param eventClass The class of the event.
+   * @return True if any listener subscribes to the events of the class.
+   */
+  public boolean isSubscribed(Class<? extends BaseEvent> eventClass) {
+    return !routingTable.route(eventClass).isEmpty();
+  }
+
   public boolean isHighWatermark() {
     return asyncQueueListeners.stream().anyMatch(AsyncQueueListener::isHighWatermark);
   }
@@ -101,25 +116,30 @@ public class EventBus {
   }
 
   private void dispatchPostEvent(Event postEvent) {
-    eventListeners.forEach(eventListener -> eventListener.onPostEvent(postEvent));
+    routingTable
+        .route(postEvent.getClass())
+        .forEach(eventListener -> eventListener.onPostEvent(postEvent));
   }
 
   private Optional<BaseEvent> dispatchAndTransformPreEvent(PreEvent originalEvent)
       throws ForbiddenException {
+    List<EventListenerPlugin> subscribers = routingTable.route(originalEvent.getClass());
     boolean supportsChangePreEvent = originalEvent instanceof SupportsChangingPreEvent;
     PreEvent preEvent;
     if (supportsChangePreEvent) {
-      preEvent = (PreEvent) transformPreEvent((SupportsChangingPreEvent) originalEvent);
+      preEvent =
+          (PreEvent) transformPreEvent(subscribers, (SupportsChangingPreEvent) originalEvent);
     } else {
       preEvent = originalEvent;
     }
-    eventListeners.forEach(eventListener -> eventListener.onPreEvent(preEvent));
+    subscribers.forEach(eventListener -> eventListener.onPreEvent(preEvent));
     return supportsChangePreEvent ? Optional.of(preEvent) : Optional.empty();
   }
 
-  private SupportsChangingPreEvent transformPreEvent(SupportsChangingPreEvent preEvent) {
+  private SupportsChangingPreEvent transformPreEvent(
+      List<EventListenerPlugin> subscribers, SupportsChangingPreEvent preEvent) {
     SupportsChangingPreEvent tmpPreEvent = preEvent;
-    for (EventListenerPlugin eventListener : eventListeners) {
+    for (EventListenerPlugin eventListener : subscribers) {
       tmpPreEvent = eventListener.transformPreEvent(tmpPreEvent);
       Preconditions.checkNotNull(
           tmpPreEvent,
@@ -21,6 +21,7 @@ package org.apache.gravitino.listener;
 
 import com.google.common.annotations.VisibleForTesting;
 import java.util.Map;
+import java.util.Set;
 import org.apache.gravitino.exceptions.ForbiddenException;
 import org.apache.gravitino.listener.api.EventListenerPlugin;
 import org.apache.gravitino.listener.api.event.BaseEvent;
@@ -100,6 +101,11 @@ public class EventListenerPluginWrapper implements EventListenerPlugin {
     return userEventListener.transformPreEvent(preEvent);
   }
 
+  @Override
+  public Set<Class<? extends BaseEvent>> subscribedEventTypes() {
+    return userEventListener.subscribedEventTypes();
+  }
+
   public String listenerName() {
     return listenerName;
   }
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.listener;
+
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.gravitino.listener.api.EventListenerPlugin;
+import org.apache.gravitino.listener.api.event.BaseEvent;
+
+/**
+ * Routes the events to the listeners subscribing to them. The listeners of an event class are
+ * computed once and cached, the cache is rebuilt when a listener is added to the listener list.
+ */
+class EventRoutingTable {
+
+  private final List<EventListenerPlugin> eventListeners;
+  private volatile Routes routes;
+
+  /** @param eventListeners The listeners to route to, the list could only be appended. */
+  EventRoutingTable(List<EventListenerPlugin> eventListeners) {
+    this.eventListeners = eventListeners;
+    this.routes = new Routes(eventListeners.size());
+  }
+
+  /**
+   * @param eventClass The class of the event.
+   * @return The listeners subscribing to the event class, in the order of the listener list.
+   */
+  List<EventListenerPlugin> route(Class<? extends BaseEvent> eventClass) {
+    Routes current = routes;
+    if (current.listenerCount != eventListeners.size()) {
+      current = new Routes(eventListeners.size());
+      routes = current;
+    }
+    return current.listenersByEventClass.computeIfAbsent(eventClass, this::subscribers);
+  }
+
+  private List<EventListenerPlugin> subscribers(Class<? extends BaseEvent> eventClass) {
+    ImmutableList.Builder<EventListenerPlugin> subscribers = ImmutableList.builder();
+    for (EventListenerPlugin eventListener : eventListeners) {
+      if (subscribes(eventListener, eventClass)) {
+        subscribers.add(eventListener);
+      }
+    }
+    return subscribers.build();
+  }
+
+  static boolean subscribes(
+      EventListenerPlugin eventListener, Class<? extends BaseEvent> eventClass) {
+    return eventListener.subscribedEventTypes().stream()
+        .anyMatch(eventType -> eventType.isAssignableFrom(eventClass));
+  }
+
+  // The routes computed for a version of the listener list.
+  private static class Routes {
+    private final int listenerCount;
+    private final ConcurrentMap<Class<? extends BaseEvent>, List<EventListenerPlugin>>
+        listenersByEventClass = new ConcurrentHashMap<>();
+
+    private Routes(int listenerCount) {
+      this.listenerCount = listenerCount;
+    }
+  }
+}
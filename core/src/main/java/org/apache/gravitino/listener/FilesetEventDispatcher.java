@@ -31,6 +31,7 @@ import org.apache.gravitino.exceptions.NoSuchFilesetException;
 import org.apache.gravitino.exceptions.NoSuchLocationNameException;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.file.FileInfo;
+import org.apache.gravitino.file.FileInfoPage;
 import org.apache.gravitino.file.Fileset;
 import org.apache.gravitino.file.FilesetChange;
 import org.apache.gravitino.listener.api.event.AlterFilesetEvent;
@@ -74,10 +75,16 @@ public class FilesetEventDispatcher implements FilesetDispatcher {
 
   @Override
   public NameIdentifier[] listFilesets(Namespace namespace) throws NoSuchSchemaException {
-    eventBus.dispatchEvent(new ListFilesetPreEvent(PrincipalUtils.getCurrentUserName(), namespace));
+    if (eventBus.isSubscribed(ListFilesetPreEvent.class)) {
+      eventBus.dispatchEvent(
+          new ListFilesetPreEvent(PrincipalUtils.getCurrentUserName(), namespace));
+    }
     try {
       NameIdentifier[] nameIdentifiers = dispatcher.listFilesets(namespace);
-      eventBus.dispatchEvent(new ListFilesetEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      if (eventBus.isSubscribed(ListFilesetEvent.class)) {
+        eventBus.dispatchEvent(
+            new ListFilesetEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      }
       return nameIdentifiers;
     } catch (Exception e) {
       eventBus.dispatchEvent(
@@ -104,14 +111,43 @@ public class FilesetEventDispatcher implements FilesetDispatcher {
     }
   }
 
+  @Override
+  public FileInfoPage listFiles(
+      NameIdentifier ident,
+      String locationName,
+      String subPath,
+      boolean recursive,
+      String pageToken,
+      int pageSize)
+      throws NoSuchFilesetException, IOException {
+    eventBus.dispatchEvent(
+        new ListFilesPreEvent(PrincipalUtils.getCurrentUserName(), ident, locationName, subPath));
+    try {
+      FileInfoPage page =
+          dispatcher.listFiles(ident, locationName, subPath, recursive, pageToken, pageSize);
+      eventBus.dispatchEvent(
+          new ListFilesEvent(PrincipalUtils.getCurrentUserName(), ident, locationName, subPath));
+      return page;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListFilesFailureEvent(
+              PrincipalUtils.getCurrentUserName(), ident, locationName, subPath, e));
+      throw e;
+    }
+  }
+
   @Override
   public Fileset loadFileset(NameIdentifier ident) throws NoSuchFilesetException {
-    eventBus.dispatchEvent(new LoadFilesetPreEvent(PrincipalUtils.getCurrentUserName(), ident));
+    if (eventBus.isSubscribed(LoadFilesetPreEvent.class)) {
+      eventBus.dispatchEvent(new LoadFilesetPreEvent(PrincipalUtils.getCurrentUserName(), ident));
+    }
     try {
       Fileset fileset = dispatcher.loadFileset(ident);
-      eventBus.dispatchEvent(
-          new LoadFilesetEvent(
-              PrincipalUtils.getCurrentUserName(), ident, new FilesetInfo(fileset)));
+      if (eventBus.isSubscribed(LoadFilesetEvent.class)) {
+        eventBus.dispatchEvent(
+            new LoadFilesetEvent(
+                PrincipalUtils.getCurrentUserName(), ident, new FilesetInfo(fileset)));
+      }
       return fileset;
     } catch (Exception e) {
       eventBus.dispatchEvent(
@@ -187,9 +223,11 @@ public class FilesetEventDispatcher implements FilesetDispatcher {
   @Override
   public String getFileLocation(NameIdentifier ident, String subPath, String locationName)
       throws NoSuchFilesetException, NoSuchLocationNameException {
-    eventBus.dispatchEvent(
-        new GetFileLocationPreEvent(
-            PrincipalUtils.getCurrentUserName(), ident, subPath, locationName));
+    if (eventBus.isSubscribed(GetFileLocationPreEvent.class)) {
+      eventBus.dispatchEvent(
+          new GetFileLocationPreEvent(
+              PrincipalUtils.getCurrentUserName(), ident, subPath, locationName));
+    }
     try {
       String actualFileLocation = dispatcher.getFileLocation(ident, subPath, locationName);
       // get the audit info from the thread local context
@@ -198,14 +236,16 @@ public class FilesetEventDispatcher implements FilesetDispatcher {
       if (callerContext != null && callerContext.context() != null) {
         builder.putAll(callerContext.context());
       }
-      eventBus.dispatchEvent(
-          new GetFileLocationEvent(
-              PrincipalUtils.getCurrentUserName(),
-              ident,
-              actualFileLocation,
-              subPath,
-              locationName,
-              builder.build()));
+      if (eventBus.isSubscribed(GetFileLocationEvent.class)) {
+        eventBus.dispatchEvent(
+            new GetFileLocationEvent(
+                PrincipalUtils.getCurrentUserName(),
+                ident,
+                actualFileLocation,
+                subPath,
+                locationName,
+                builder.build()));
+      }
       return actualFileLocation;
     } catch (Exception e) {
       eventBus.dispatchEvent(
@@ -70,10 +70,14 @@ public class MetalakeEventDispatcher implements MetalakeDispatcher {
 
   @Override
   public Metalake[] listMetalakes() {
-    eventBus.dispatchEvent(new ListMetalakePreEvent(PrincipalUtils.getCurrentUserName()));
+    if (eventBus.isSubscribed(ListMetalakePreEvent.class)) {
+      eventBus.dispatchEvent(new ListMetalakePreEvent(PrincipalUtils.getCurrentUserName()));
+    }
     try {
       Metalake[] metalakes = dispatcher.listMetalakes();
-      eventBus.dispatchEvent(new ListMetalakeEvent(PrincipalUtils.getCurrentUserName()));
+      if (eventBus.isSubscribed(ListMetalakeEvent.class)) {
+        eventBus.dispatchEvent(new ListMetalakeEvent(PrincipalUtils.getCurrentUserName()));
+      }
       return metalakes;
     } catch (Exception e) {
       eventBus.dispatchEvent(new ListMetalakeFailureEvent(PrincipalUtils.getCurrentUserName(), e));
@@ -83,12 +87,16 @@ public class MetalakeEventDispatcher implements MetalakeDispatcher {
 
   @Override
   public Metalake loadMetalake(NameIdentifier ident) throws NoSuchMetalakeException {
-    eventBus.dispatchEvent(new LoadMetalakePreEvent(PrincipalUtils.getCurrentUserName(), ident));
+    if (eventBus.isSubscribed(LoadMetalakePreEvent.class)) {
+      eventBus.dispatchEvent(new LoadMetalakePreEvent(PrincipalUtils.getCurrentUserName(), ident));
+    }
     try {
       Metalake metalake = dispatcher.loadMetalake(ident);
-      eventBus.dispatchEvent(
-          new LoadMetalakeEvent(
-              PrincipalUtils.getCurrentUserName(), ident, new MetalakeInfo(metalake)));
+      if (eventBus.isSubscribed(LoadMetalakeEvent.class)) {
+        eventBus.dispatchEvent(
+            new LoadMetalakeEvent(
+                PrincipalUtils.getCurrentUserName(), ident, new MetalakeInfo(metalake)));
+      }
       return metalake;
     } catch (Exception e) {
       eventBus.dispatchEvent(
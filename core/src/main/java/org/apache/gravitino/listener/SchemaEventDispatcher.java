@@ -72,10 +72,15 @@ public class SchemaEventDispatcher implements SchemaDispatcher {
 
   @Override
   public NameIdentifier[] listSchemas(Namespace namespace) throws NoSuchCatalogException {
-    eventBus.dispatchEvent(new ListSchemaPreEvent(PrincipalUtils.getCurrentUserName(), namespace));
+    if (eventBus.isSubscribed(ListSchemaPreEvent.class)) {
+      eventBus.dispatchEvent(
+          new ListSchemaPreEvent(PrincipalUtils.getCurrentUserName(), namespace));
+    }
     try {
       NameIdentifier[] nameIdentifiers = dispatcher.listSchemas(namespace);
-      eventBus.dispatchEvent(new ListSchemaEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      if (eventBus.isSubscribed(ListSchemaEvent.class)) {
+        eventBus.dispatchEvent(new ListSchemaEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      }
       return nameIdentifiers;
     } catch (Exception e) {
       eventBus.dispatchEvent(
@@ -111,11 +116,16 @@ public class SchemaEventDispatcher implements SchemaDispatcher {
 
   @Override
   public Schema loadSchema(NameIdentifier ident) throws NoSuchSchemaException {
-    eventBus.dispatchEvent(new LoadSchemaPreEvent(PrincipalUtils.getCurrentUserName(), ident));
+    if (eventBus.isSubscribed(LoadSchemaPreEvent.class)) {
+      eventBus.dispatchEvent(new LoadSchemaPreEvent(PrincipalUtils.getCurrentUserName(), ident));
+    }
     try {
       Schema schema = dispatcher.loadSchema(ident);
-      eventBus.dispatchEvent(
-          new LoadSchemaEvent(PrincipalUtils.getCurrentUserName(), ident, new SchemaInfo(schema)));
+      if (eventBus.isSubscribed(LoadSchemaEvent.class)) {
+        eventBus.dispatchEvent(
+            new LoadSchemaEvent(
+                PrincipalUtils.getCurrentUserName(), ident, new SchemaInfo(schema)));
+      }
       return schema;
     } catch (Exception e) {
       eventBus.dispatchEvent(
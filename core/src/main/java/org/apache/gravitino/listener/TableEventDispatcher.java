@@ -80,10 +80,14 @@ public class TableEventDispatcher implements TableDispatcher {
 
   @Override
   public NameIdentifier[] listTables(Namespace namespace) throws NoSuchSchemaException {
-    eventBus.dispatchEvent(new ListTablePreEvent(PrincipalUtils.getCurrentUserName(), namespace));
+    if (eventBus.isSubscribed(ListTablePreEvent.class)) {
+      eventBus.dispatchEvent(new ListTablePreEvent(PrincipalUtils.getCurrentUserName(), namespace));
+    }
     try {
       NameIdentifier[] nameIdentifiers = dispatcher.listTables(namespace);
-      eventBus.dispatchEvent(new ListTableEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      if (eventBus.isSubscribed(ListTableEvent.class)) {
+        eventBus.dispatchEvent(new ListTableEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      }
       return nameIdentifiers;
     } catch (Exception e) {
       eventBus.dispatchEvent(
@@ -94,11 +98,15 @@ public class TableEventDispatcher implements TableDispatcher {
 
   @Override
   public Table loadTable(NameIdentifier ident) throws NoSuchTableException {
-    eventBus.dispatchEvent(new LoadTablePreEvent(PrincipalUtils.getCurrentUserName(), ident));
+    if (eventBus.isSubscribed(LoadTablePreEvent.class)) {
+      eventBus.dispatchEvent(new LoadTablePreEvent(PrincipalUtils.getCurrentUserName(), ident));
+    }
     try {
       Table table = dispatcher.loadTable(ident);
-      eventBus.dispatchEvent(
-          new LoadTableEvent(PrincipalUtils.getCurrentUserName(), ident, new TableInfo(table)));
+      if (eventBus.isSubscribed(LoadTableEvent.class)) {
+        eventBus.dispatchEvent(
+            new LoadTableEvent(PrincipalUtils.getCurrentUserName(), ident, new TableInfo(table)));
+      }
       return table;
     } catch (Exception e) {
       eventBus.dispatchEvent(
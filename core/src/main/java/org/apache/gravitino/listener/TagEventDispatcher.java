@@ -24,6 +24,9 @@ import org.apache.gravitino.exceptions.NoSuchTagException;
 import org.apache.gravitino.listener.api.event.AlterTagEvent;
 import org.apache.gravitino.listener.api.event.AlterTagFailureEvent;
 import org.apache.gravitino.listener.api.event.AlterTagPreEvent;
+import org.apache.gravitino.listener.api.event.AssociateMetadataObjectsForTagEvent;
+import org.apache.gravitino.listener.api.event.AssociateMetadataObjectsForTagFailureEvent;
+import org.apache.gravitino.listener.api.event.AssociateMetadataObjectsForTagPreEvent;
 import org.apache.gravitino.listener.api.event.AssociateTagsForMetadataObjectEvent;
 import org.apache.gravitino.listener.api.event.AssociateTagsForMetadataObjectFailureEvent;
 import org.apache.gravitino.listener.api.event.AssociateTagsForMetadataObjectPreEvent;
@@ -274,6 +277,34 @@ public class TagEventDispatcher implements TagDispatcher {
     }
   }
 
+  @Override
+  public void associateMetadataObjectsForTag(
+      String metalake,
+      String name,
+      MetadataObject[] objectsToAdd,
+      MetadataObject[] objectsToRemove) {
+    eventBus.dispatchEvent(
+        new AssociateMetadataObjectsForTagPreEvent(
+            PrincipalUtils.getCurrentUserName(), metalake, name, objectsToAdd, objectsToRemove));
+
+    try {
+      dispatcher.associateMetadataObjectsForTag(metalake, name, objectsToAdd, objectsToRemove);
+      eventBus.dispatchEvent(
+          new AssociateMetadataObjectsForTagEvent(
+              PrincipalUtils.getCurrentUserName(), metalake, name, objectsToAdd, objectsToRemove));
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new AssociateMetadataObjectsForTagFailureEvent(
+              PrincipalUtils.getCurrentUserName(),
+              metalake,
+              name,
+              objectsToAdd,
+              objectsToRemove,
+              e));
+      throw e;
+    }
+  }
+
   @Override
   public Tag getTagForMetadataObject(String metalake, MetadataObject metadataObject, String name) {
     eventBus.dispatchEvent(
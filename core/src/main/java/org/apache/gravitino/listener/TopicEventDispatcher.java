@@ -103,10 +103,14 @@ public class TopicEventDispatcher implements TopicDispatcher {
 
   @Override
   public NameIdentifier[] listTopics(Namespace namespace) throws NoSuchTopicException {
-    eventBus.dispatchEvent(new ListTopicPreEvent(PrincipalUtils.getCurrentUserName(), namespace));
+    if (eventBus.isSubscribed(ListTopicPreEvent.class)) {
+      eventBus.dispatchEvent(new ListTopicPreEvent(PrincipalUtils.getCurrentUserName(), namespace));
+    }
     try {
       NameIdentifier[] nameIdentifiers = dispatcher.listTopics(namespace);
-      eventBus.dispatchEvent(new ListTopicEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      if (eventBus.isSubscribed(ListTopicEvent.class)) {
+        eventBus.dispatchEvent(new ListTopicEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      }
       return nameIdentifiers;
     } catch (Exception e) {
       eventBus.dispatchEvent(
@@ -117,11 +121,15 @@ public class TopicEventDispatcher implements TopicDispatcher {
 
   @Override
   public Topic loadTopic(NameIdentifier ident) throws NoSuchTopicException {
-    eventBus.dispatchEvent(new LoadTopicPreEvent(PrincipalUtils.getCurrentUserName(), ident));
+    if (eventBus.isSubscribed(LoadTopicPreEvent.class)) {
+      eventBus.dispatchEvent(new LoadTopicPreEvent(PrincipalUtils.getCurrentUserName(), ident));
+    }
     try {
       Topic topic = dispatcher.loadTopic(ident);
-      eventBus.dispatchEvent(
-          new LoadTopicEvent(PrincipalUtils.getCurrentUserName(), ident, new TopicInfo(topic)));
+      if (eventBus.isSubscribed(LoadTopicEvent.class)) {
+        eventBus.dispatchEvent(
+            new LoadTopicEvent(PrincipalUtils.getCurrentUserName(), ident, new TopicInfo(topic)));
+      }
       return topic;
     } catch (Exception e) {
       eventBus.dispatchEvent(
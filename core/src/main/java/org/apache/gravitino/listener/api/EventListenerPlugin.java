@@ -19,10 +19,13 @@
 
 package org.apache.gravitino.listener.api;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 import javax.validation.constraints.NotNull;
 import org.apache.gravitino.annotation.DeveloperApi;
 import org.apache.gravitino.exceptions.ForbiddenException;
+import org.apache.gravitino.listener.api.event.BaseEvent;
 import org.apache.gravitino.listener.api.event.Event;
 import org.apache.gravitino.listener.api.event.PreEvent;
 import org.apache.gravitino.listener.api.event.SupportsChangingPreEvent;
@@ -136,6 +139,20 @@ public interface EventListenerPlugin {
     return preEvent;
   }
 
+  /**
+   * Specifies the types of the events handled by the plugin, an event is dispatched to the plugin
+   * only if it is an instance of any of the types. The events no plugin subscribes to are not
+   * built at all, so the plugins handling a few kinds of events should declare them. The default
+   * implementation subscribes to all the events.
+   *
+   * <p>The types are read when the plugin is registered and shouldn't change afterwards.
+   *
+   * @return The types of the events the plugin subscribes to.
+   */
+  default Set<Class<? extends BaseEvent>> subscribedEventTypes() {
+    return Collections.singleton(BaseEvent.class);
+  }
+
   /**
    * Specifies the default operational mode for event processing by the plugin. The default
    * implementation is synchronous, but implementers can override this to utilize asynchronous
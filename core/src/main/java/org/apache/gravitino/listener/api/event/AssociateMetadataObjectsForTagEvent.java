@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.listener.api.event;
+
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.annotation.DeveloperApi;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+
+/**
+ * Represents an event that is triggered upon successfully associating a tag with many metadata
+ * objects in one call.
+ */
+@DeveloperApi
+public final class AssociateMetadataObjectsForTagEvent extends TagEvent {
+  private final MetadataObject[] objectsToAdd;
+  private final MetadataObject[] objectsToRemove;
+
+  /**
+   * Constructs an instance of {@code AssociateMetadataObjectsForTagEvent}.
+   *
+   * @param user The username of the individual who initiated the tag association.
+   * @param metalake The metalake from which the tag was associated.
+   * @param name The name of the tag.
+   * @param objectsToAdd The metadata objects the tag was associated with.
+   * @param objectsToRemove The metadata objects the tag was removed from.
+   */
+  public AssociateMetadataObjectsForTagEvent(
+      String user,
+      String metalake,
+      String name,
+      MetadataObject[] objectsToAdd,
+      MetadataObject[] objectsToRemove) {
+    super(user, NameIdentifierUtil.ofTag(metalake, name));
+    this.objectsToAdd = objectsToAdd != null ? objectsToAdd.clone() : new MetadataObject[0];
+    this.objectsToRemove =
+        objectsToRemove != null ? objectsToRemove.clone() : new MetadataObject[0];
+  }
+
+  /**
+   * Provides the metadata objects the tag was associated with in this operation.
+   *
+   * @return An array of metadata objects the tag was associated with.
+   */
+  public MetadataObject[] objectsToAdd() {
+    return objectsToAdd;
+  }
+
+  /**
+   * Provides the metadata objects the tag was removed from in this operation.
+   *
+   * @return An array of metadata objects the tag was removed from.
+   */
+  public MetadataObject[] objectsToRemove() {
+    return objectsToRemove;
+  }
+
+  /**
+   * Returns the type of operation.
+   *
+   * @return The operation type.
+   */
+  @Override
+  public OperationType operationType() {
+    return OperationType.ASSOCIATE_METADATA_OBJECTS_FOR_TAG;
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.listener.api.event;
+
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.annotation.DeveloperApi;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+
+/**
+ * Represents an event triggered before associating a tag with many metadata objects in one call.
+ */
+@DeveloperApi
+public class AssociateMetadataObjectsForTagPreEvent extends TagPreEvent {
+  private final MetadataObject[] objectsToAdd;
+  private final MetadataObject[] objectsToRemove;
+
+  /**
+   * Constructs a new {@code AssociateMetadataObjectsForTagPreEvent} instance.
+   *
+   * @param user The user who initiated the operation.
+   * @param metalake The metalake name where the tag resides.
+   * @param name The name of the tag.
+   * @param objectsToAdd The metadata objects to associate the tag with.
+   * @param objectsToRemove The metadata objects to remove the tag from.
+   */
+  public AssociateMetadataObjectsForTagPreEvent(
+      String user,
+      String metalake,
+      String name,
+      MetadataObject[] objectsToAdd,
+      MetadataObject[] objectsToRemove) {
+    super(user, NameIdentifierUtil.ofTag(metalake, name));
+    this.objectsToAdd = objectsToAdd != null ? objectsToAdd.clone() : new MetadataObject[0];
+    this.objectsToRemove =
+        objectsToRemove != null ? objectsToRemove.clone() : new MetadataObject[0];
+  }
+
+  /**
+   * Returns the metadata objects to associate the tag with.
+   *
+   * @return The metadata objects to associate the tag with.
+   */
+  public MetadataObject[] objectsToAdd() {
+    return objectsToAdd;
+  }
+
+  /**
+   * Returns the metadata objects to remove the tag from.
+   *
+   * @return The metadata objects to remove the tag from.
+   */
+  public MetadataObject[] objectsToRemove() {
+    return objectsToRemove;
+  }
+
+  /**
+   * Returns the type of operation.
+   *
+   * @return the operation type.
+   */
+  @Override
+  public OperationType operationType() {
+    return OperationType.ASSOCIATE_METADATA_OBJECTS_FOR_TAG;
+  }
+}
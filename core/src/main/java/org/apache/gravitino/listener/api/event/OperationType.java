@@ -39,6 +39,7 @@ public enum OperationType {
   ALTER_TAG,
   LIST_TAG,
   ASSOCIATE_TAGS_FOR_METADATA_OBJECT,
+  ASSOCIATE_METADATA_OBJECTS_FOR_TAG,
   LIST_TAGS_FOR_METADATA_OBJECT,
   LIST_TAGS_INFO_FOR_METADATA_OBJECT,
   LIST_METADATA_OBJECTS_FOR_TAG,
@@ -22,6 +22,7 @@ package org.apache.gravitino.lock;
 import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
+import static org.apache.gravitino.Configs.TREE_LOCK_OPTIMISTIC_READ_ENABLED;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
@@ -64,6 +65,9 @@ public class LockManager {
   // The interval in seconds to clean up the stale tree lock nodes.
   @VisibleForTesting long cleanTreeNodeIntervalInSecs;
 
+  // Whether to read with the lock-free OptimisticRead before falling back to the TreeLock.
+  @VisibleForTesting boolean optimisticReadEnabled;
+
   private void initParameters(Config config) {
     long maxNodesInMemory = config.get(TREE_LOCK_MAX_NODE_IN_MEMORY);
     if (maxNodesInMemory <= 0) {
@@ -99,6 +103,9 @@ public class LockManager {
     }
 
     this.cleanTreeNodeIntervalInSecs = cleanIntervalInSecs;
+    // The value is absent if the config is mocked, fall back to the default value (enabled).
+    this.optimisticReadEnabled =
+        !Boolean.FALSE.equals(config.get(TREE_LOCK_OPTIMISTIC_READ_ENABLED));
   }
 
   private void startDeadLockChecker() {
@@ -282,6 +289,21 @@ public class LockManager {
     }
   }
 
+  /**
+   * Try to start an optimistic read with the given identifier. Different from {@link
+   * #createTreeLock(NameIdentifier)}, it doesn't create any tree lock node, so it's only available
+   * when the nodes of the resource path exist, which is the common case for the hot resources.
+   *
+   * @param identifier The identifier of the resource path to read.
+   * @return The optimistic read, or null if the optimistic read is disabled or not available.
+   */
+  OptimisticRead tryOptimisticRead(NameIdentifier identifier) {
+    if (!optimisticReadEnabled) {
+      return null;
+    }
+    return OptimisticRead.tryStart(treeLockRootNode, identifier);
+  }
+
   /**
    * Check if the total node count is greater than the maxTreeNodeInMemory, if so, we should throw
    * an exception.
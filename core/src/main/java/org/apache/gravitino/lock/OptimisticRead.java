@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lock;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.gravitino.NameIdentifier;
+
+/**
+ * OptimisticRead is a lock-free read of the resource path. Different from {@link TreeLock}, it
+ * neither creates the tree lock nodes nor changes their reference counts or locks, so the
+ * concurrent reads never write to the shared tree lock nodes like the root and metalake nodes.
+ *
+ * <p>It takes a stamp of each node from the root to the resource path before the read, and the
+ * read is valid only if none of these nodes has been write locked, evicted or replaced since then.
+ * Otherwise, the read must be retried with the {@link TreeLock}.
+ */
+final class OptimisticRead {
+  // The tree lock nodes from the root to the resource path.
+  private final TreeLockNode[] nodes;
+  private final long[] stamps;
+
+  private OptimisticRead(TreeLockNode[] nodes, long[] stamps) {
+    this.nodes = nodes;
+    this.stamps = stamps;
+  }
+
+  /**
+   * Try to start an optimistic read of the resource path.
+   *
+   * @param root The root tree lock node.
+   * @param identifier The identifier of the resource path.
+   * @return The optimistic read, or null if any node of the path doesn't exist or is write locked.
+   */
+  @SuppressWarnings("ReferenceEquality")
+  static OptimisticRead tryStart(TreeLockNode root, NameIdentifier identifier) {
+    // Avoid to use value equality instead of reference equality here, see LockManager.
+    String[] levels =
+        identifier == LockManager.ROOT
+            ? ArrayUtils.EMPTY_STRING_ARRAY
+            : ArrayUtils.add(identifier.namespace().levels(), identifier.name());
+
+    TreeLockNode[] nodes = new TreeLockNode[levels.length + 1];
+    long[] stamps = new long[levels.length + 1];
+    TreeLockNode node = root;
+    for (int i = 0; ; i++) {
+      long stamp = node.tryOptimisticRead();
+      if (stamp == 0) {
+        return null;
+      }
+      nodes[i] = node;
+      stamps[i] = stamp;
+
+      if (i == levels.length) {
+        return new OptimisticRead(nodes, stamps);
+      }
+
+      // The node doesn't exist means it has never been locked or has been evicted, it may be
+      // created and write locked at any time without invalidating any stamp, so fall back to lock.
+      node = node.getChild(levels[i]);
+      if (node == null) {
+        return null;
+      }
+    }
+  }
+
+  /**
+   * Validate whether the read since {@link #tryStart(TreeLockNode, NameIdentifier)} is consistent.
+   *
+   * @return true if no node of the path has been write locked, evicted or replaced.
+   */
+  @SuppressWarnings("ReferenceEquality")
+  boolean validate() {
+    for (int i = 0; i < nodes.length; i++) {
+      if (!nodes[i].validate(stamps[i])) {
+        return false;
+      }
+
+      // If the node has been evicted, a writer may write lock a new node with the same name.
+      if (i > 0 && nodes[i - 1].getChild(nodes[i].getName()) != nodes[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
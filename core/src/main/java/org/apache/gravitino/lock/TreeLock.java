@@ -24,6 +24,8 @@ import java.util.List;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.metrics.LatencyTracer;
+import org.apache.gravitino.metrics.LatencyTracer.Subsystem;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -97,6 +99,20 @@ public class TreeLock {
   public void lock(LockType lockType) {
     this.lockType = lockType;
 
+    try (LatencyTracer.Span ignored = LatencyTracer.start(Subsystem.TREE_LOCK, lockType)) {
+      lockNodes(lockType);
+    }
+
+    if (LOG.isTraceEnabled()) {
+      LOG.trace(
+          "Locked the tree lock, ident: {}, lockNodes: [{}], lock type: {}",
+          identifier,
+          lockNodes,
+          lockType);
+    }
+  }
+
+  private void lockNodes(LockType lockType) {
     int length = lockNodes.size();
     for (int i = 0; i < length; i++) {
       TreeLockNode treeLockNode = lockNodes.get(i);
@@ -128,14 +144,6 @@ public class TreeLock {
         throw e;
       }
     }
-
-    if (LOG.isTraceEnabled()) {
-      LOG.trace(
-          "Locked the tree lock, ident: {}, lockNodes: [{}], lock type: {}",
-          identifier,
-          lockNodes,
-          lockType);
-    }
   }
 
   /** Unlock the tree lock. */
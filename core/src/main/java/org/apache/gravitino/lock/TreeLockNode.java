@@ -28,6 +28,7 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.NameIdentifier;
 import org.slf4j.Logger;
@@ -44,6 +45,12 @@ public class TreeLockNode {
   public static final Logger LOG = LoggerFactory.getLogger(TreeLockNode.class);
   private final String name;
   private final ReentrantReadWriteLock readWriteLock;
+  // The stamped lock is write locked along with the write lock of the read-write lock and is never
+  // read locked, so that an optimistic read can validate whether the node has been write locked
+  // without writing to this node. For more, please refer to {@link OptimisticRead}.
+  private final StampedLock writeStampLock = new StampedLock();
+  // The stamp of the stamped lock, it's only accessed by the thread holding the write lock.
+  private long writeStamp;
   @VisibleForTesting final Map<String, TreeLockNode> childMap;
 
   private final Map<ThreadIdentifier, Long> holdingThreadTimestamp = new ConcurrentHashMap<>();
@@ -152,6 +159,10 @@ public class TreeLockNode {
       readWriteLock.readLock().lock();
     } else {
       readWriteLock.writeLock().lock();
+      // The write lock is reentrant, only the outermost one needs to invalidate optimistic reads.
+      if (readWriteLock.getWriteHoldCount() == 1) {
+        writeStamp = writeStampLock.writeLock();
+      }
     }
   }
 
@@ -166,12 +177,45 @@ public class TreeLockNode {
     if (lockType == LockType.READ) {
       readWriteLock.readLock().unlock();
     } else {
+      if (readWriteLock.getWriteHoldCount() == 1) {
+        writeStampLock.unlockWrite(writeStamp);
+      }
       readWriteLock.writeLock().unlock();
     }
 
     this.referenceCount.decrementAndGet();
   }
 
+  /**
+   * Get a stamp for an optimistic read of this node, it doesn't write to this node.
+   *
+   * @return The stamp to validate later, or 0 if the node is write locked.
+   */
+  long tryOptimisticRead() {
+    return writeStampLock.tryOptimisticRead();
+  }
+
+  /**
+   * Validate whether the node has not been write locked since the stamp was issued.
+   *
+   * @param stamp The stamp returned by {@link #tryOptimisticRead()}.
+   * @return true if the node has not been write locked since the stamp was issued.
+   */
+  boolean validate(long stamp) {
+    return writeStampLock.validate(stamp);
+  }
+
+  /**
+   * Get the existing child node by the given name without creating it or changing its reference
+   * count.
+   *
+   * @param name The name of a resource such as entity or others.
+   * @return The child node, or null if the child node doesn't exist.
+   */
+  TreeLockNode getChild(String name) {
+    return childMap.get(name);
+  }
+
   /**
    * Get the tree lock node by the given name. If the node doesn't exist, create a new TreeNode.
    *
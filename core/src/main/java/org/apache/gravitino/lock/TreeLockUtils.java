@@ -19,6 +19,10 @@
 
 package org.apache.gravitino.lock;
 
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.utils.Executable;
@@ -26,6 +30,11 @@ import org.apache.gravitino.utils.Executable;
 /** Utility class for tree locks. */
 public class TreeLockUtils {
 
+  // The cache writes deferred by the optimistic read the current thread is executing, which may be
+  // racing with a writer. It's null if the current thread is not executing an optimistic read.
+  private static final ThreadLocal<List<Consumer<BooleanSupplier>>> DEFERRED_CACHE_WRITES =
+      new ThreadLocal<>();
+
   private TreeLockUtils() {
     // Prevent instantiation.
   }
@@ -52,6 +61,91 @@ public class TreeLockUtils {
     }
   }
 
+  /**
+   * Execute the given read-only executable with a lock-free optimistic read of the given resource
+   * path, see {@link OptimisticRead}. If the optimistic read is not available, or any node of the
+   * path is write locked during the execution, the executable will be executed again with the read
+   * tree lock. So the executable may be executed twice, it must only read and any state it fills
+   * other than the entity cache, e.g., the caches of the underlying catalog, must be safe to fill
+   * by a read racing with a writer. The entity cache writes are deferred until the read is
+   * validated, see {@link #writeCacheIfValid(Consumer)}.
+   *
+   * @param identifier The identifier of resource path that the executable reads.
+   * @param executable The read-only executable to execute.
+   * @return The result of the executable.
+   * @param <R> The type of the result.
+   * @param <E> The type of the exception.
+   * @throws E If the executable throws an exception.
+   */
+  public static <R, E extends Exception> R doWithOptimisticReadLock(
+      NameIdentifier identifier, Executable<R, E> executable) throws E {
+    OptimisticRead read = GravitinoEnv.getInstance().lockManager().tryOptimisticRead(identifier);
+    if (read != null) {
+      List<Consumer<BooleanSupplier>> outerCacheWrites = DEFERRED_CACHE_WRITES.get();
+      List<Consumer<BooleanSupplier>> cacheWrites = Lists.newArrayList();
+      DEFERRED_CACHE_WRITES.set(cacheWrites);
+      R result = null;
+      boolean valid = false;
+      try {
+        result = executable.execute();
+        valid = read.validate();
+      } catch (Exception e) {
+        // The exception may be caused by the concurrent writes, e.g., the resource is dropped
+        if (read.validate()) {
+          throw e;
+        }
+      } finally {
+        // Restore the outer optimistic read if this one is nested in it
+        DEFERRED_CACHE_WRITES.set(outerCacheWrites);
+      }
+
+      if (valid) {
+        // Validate the read again when writing the cache, the writer may start after the
+        // validation above and invalidate the cache before the write.
+        cacheWrites.forEach(
+            cacheWrite ->
+                writeCacheIfValid(
+                    outerValid ->
+                        cacheWrite.accept(() -> read.validate() && outerValid.getAsBoolean())));
+        return result;
+      }
+    }
+
+    return doWithTreeLock(identifier, LockType.READ, executable);
+  }
+
+  /**
+   * Writes the entities read to the cache if the read is still valid. If the current thread is
+   * executing an optimistic read of {@link #doWithOptimisticReadLock(NameIdentifier, Executable)},
+   * the read may be racing with a writer which has already invalidated the cache, so the write is
+   * deferred until the read is validated, and it's dropped if the read falls back to the tree lock.
+   * Otherwise, the write is executed immediately.
+   *
+   * <p>The cache write is given a check of whether the read is still valid, it must write the cache
+   * only if the check passes, and do the check and the write atomically against the cache
+   * invalidations of the writers, e.g., under the cache lock.
+   *
+   * @param cacheWrite The cache write which accepts the check of whether the read is still valid.
+   */
+  public static void writeCacheIfValid(Consumer<BooleanSupplier> cacheWrite) {
+    List<Consumer<BooleanSupplier>> cacheWrites = DEFERRED_CACHE_WRITES.get();
+    if (cacheWrites == null) {
+      cacheWrite.accept(() -> true);
+    } else {
+      cacheWrites.add(cacheWrite);
+    }
+  }
+
+  /**
+   * Whether the current thread is executing the optimistic read of {@link
+   * #doWithOptimisticReadLock(NameIdentifier, Executable)}.
+   *
+   * @return true if the current thread is executing an optimistic read.
+   */
+  public static boolean isInOptimisticRead() {
+    return DEFERRED_CACHE_WRITES.get() != null;
+  }
+
   /**
    * Execute the given executable with the root tree lock.
    *
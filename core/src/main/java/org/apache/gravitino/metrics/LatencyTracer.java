@@ -0,0 +1,257 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.metrics.source.LatencyTracingMetricsSource;
+
+/**
+ * LatencyTracer records the latency of the hot paths inside the Gravitino server, such as waiting
+ * for the tree lock, accessing the entity cache and the entity store, calling the catalog
+ * operations and checking the authorization.
+ *
+ * <p>The latency of each span is recorded into the timer of {@link LatencyTracingMetricsSource} by
+ * the subsystem and the type, e.g., the entity type, and is accumulated into the {@link
+ * RequestTrace} of the current thread if any, which is used to log the per-stage breakdown of slow
+ * requests.
+ *
+ * <p>The tracer is disabled by default, {@link #start(Subsystem, String)} returns a no-op span
+ * without reading the clock in that case, so the overhead on the hot paths is negligible.
+ */
+public final class LatencyTracer {
+
+  /** The subsystems whose latency is traced. */
+  public enum Subsystem {
+    TREE_LOCK("tree_lock"),
+    ENTITY_CACHE("entity_cache"),
+    ENTITY_STORE("entity_store"),
+    CATALOG("catalog"),
+    AUTHORIZATION("authorization");
+
+    private final String metricName;
+
+    Subsystem(String metricName) {
+      this.metricName = metricName;
+    }
+
+    /** @return The name of the subsystem used in the metric names. */
+    public String metricName() {
+      return metricName;
+    }
+  }
+
+  /** A span measures the latency of a traced operation until it is closed. */
+  public interface Span extends AutoCloseable {
+    @Override
+    void close();
+  }
+
+  private static final Span NOOP_SPAN = () -> {};
+  private static final ConcurrentMap<Enum<?>, String> TYPE_NAMES = new ConcurrentHashMap<>();
+  private static final ThreadLocal<RequestTrace> CURRENT_REQUEST = new ThreadLocal<>();
+
+  private static volatile LatencyTracingMetricsSource metricsSource;
+
+  private LatencyTracer() {}
+
+  /**
+   * Enables the latency tracing, the latency will be recorded into the given metrics source.
+   *
+   * @param source The metrics source to record the latency, it should be registered to the {@link
+   *     MetricsSystem} by the caller.
+   */
+  public static void enable(LatencyTracingMetricsSource source) {
+    metricsSource = source;
+  }
+
+  /** Disables the latency tracing. */
+  public static void disable() {
+    metricsSource = null;
+  }
+
+  /** @return Whether the latency tracing is enabled. */
+  public static boolean isEnabled() {
+    return metricsSource != null;
+  }
+
+  /**
+   * Starts a span of the given subsystem, the span must be closed once the operation is done,
+   * typically in a try-with-resources statement.
+   *
+   * @param subsystem The subsystem of the operation.
+   * @param type The type of the operation, e.g., the entity type. It must not contain dots.
+   * @return The started span, or a no-op span if the latency tracing is disabled.
+   */
+  public static Span start(Subsystem subsystem, String type) {
+    LatencyTracingMetricsSource source = metricsSource;
+    if (source == null) {
+      return NOOP_SPAN;
+    }
+    return new TimedSpan(source, subsystem, type);
+  }
+
+  /**
+   * Starts a span of the given subsystem, the lower case name of the enum constant is used as the
+   * type of the operation.
+   *
+   * @param subsystem The subsystem of the operation.
+   * @param type The type of the operation, e.g., the entity type.
+   * @return The started span, or a no-op span if the latency tracing is disabled.
+   */
+  public static Span start(Subsystem subsystem, Enum<?> type) {
+    LatencyTracingMetricsSource source = metricsSource;
+    if (source == null) {
+      return NOOP_SPAN;
+    }
+    return new TimedSpan(source, subsystem, typeName(type));
+  }
+
+  /**
+   * Begins the trace of a request on the current thread, the latency of all the spans started on
+   * the current thread will be accumulated into the trace until {@link #endRequest(RequestTrace)}
+   * is called.
+   *
+   * @param name The name of the request, e.g., the HTTP method and path.
+   * @return The trace of the request.
+   */
+  public static RequestTrace beginRequest(String name) {
+    RequestTrace trace = new RequestTrace(name);
+    CURRENT_REQUEST.set(trace);
+    return trace;
+  }
+
+  /**
+   * Ends the trace of the request on the current thread.
+   *
+   * @param trace The trace returned by {@link #beginRequest(String)}.
+   */
+  public static void endRequest(RequestTrace trace) {
+    trace.finish();
+    CURRENT_REQUEST.remove();
+  }
+
+  private static String typeName(Enum<?> type) {
+    String name = TYPE_NAMES.get(type);
+    if (name == null) {
+      name = TYPE_NAMES.computeIfAbsent(type, t -> t.name().toLowerCase(Locale.ROOT));
+    }
+    return name;
+  }
+
+  private static final class TimedSpan implements Span {
+    private final LatencyTracingMetricsSource source;
+    private final Subsystem subsystem;
+    private final String type;
+    private final long startNanos;
+
+    private TimedSpan(LatencyTracingMetricsSource source, Subsystem subsystem, String type) {
+      this.source = source;
+      this.subsystem = subsystem;
+      this.type = type;
+      this.startNanos = System.nanoTime();
+    }
+
+    @Override
+    public void close() {
+      long elapsedNanos = System.nanoTime() - startNanos;
+      source.getTimer(subsystem, type).update(elapsedNanos, TimeUnit.NANOSECONDS);
+
+      RequestTrace trace = CURRENT_REQUEST.get();
+      if (trace != null) {
+        trace.record(subsystem, elapsedNanos);
+      }
+    }
+  }
+
+  /**
+   * The trace of a request, it accumulates the latency and the number of the spans per subsystem.
+   * The spans may nest, e.g., checking the authorization may load entities from the entity store,
+   * so the sum of the stages may exceed the latency of the whole request.
+   */
+  public static final class RequestTrace {
+    private final String name;
+    private final long startNanos;
+    private final long[] stageNanos = new long[Subsystem.values().length];
+    private final int[] stageCounts = new int[Subsystem.values().length];
+    private long endNanos = -1;
+
+    private RequestTrace(String name) {
+      this.name = name;
+      this.startNanos = System.nanoTime();
+    }
+
+    private void record(Subsystem subsystem, long elapsedNanos) {
+      stageNanos[subsystem.ordinal()] += elapsedNanos;
+      stageCounts[subsystem.ordinal()]++;
+    }
+
+    private void finish() {
+      this.endNanos = System.nanoTime();
+    }
+
+    /** @return The name of the request. */
+    public String name() {
+      return name;
+    }
+
+    /** @return The elapsed milliseconds of the request, until now if it is not ended yet. */
+    public long elapsedMillis() {
+      long end = endNanos < 0 ? System.nanoTime() : endNanos;
+      return TimeUnit.NANOSECONDS.toMillis(end - startNanos);
+    }
+
+    /**
+     * @param subsystem The subsystem.
+     * @return The accumulated milliseconds of the spans of the subsystem.
+     */
+    public long stageMillis(Subsystem subsystem) {
+      return TimeUnit.NANOSECONDS.toMillis(stageNanos[subsystem.ordinal()]);
+    }
+
+    /**
+     * @param subsystem The subsystem.
+     * @return The number of the spans of the subsystem.
+     */
+    public int stageCount(Subsystem subsystem) {
+      return stageCounts[subsystem.ordinal()];
+    }
+
+    /** @return The per-stage breakdown, e.g., "entity_store=12ms/3, catalog=250ms/1". */
+    public String stageBreakdown() {
+      StringBuilder sb = new StringBuilder();
+      for (Subsystem subsystem : Subsystem.values()) {
+        if (stageCount(subsystem) == 0) {
+          continue;
+        }
+        if (sb.length() > 0) {
+          sb.append(", ");
+        }
+        sb.append(subsystem.metricName())
+            .append('=')
+            .append(stageMillis(subsystem))
+            .append("ms/")
+            .append(stageCount(subsystem));
+      }
+      return sb.toString();
+    }
+  }
+}
@@ -22,12 +22,40 @@ package org.apache.gravitino.metrics;
 public class MetricNames {
   public static final String HTTP_PROCESS_DURATION = "http-request-duration-seconds";
   public static final String SERVER_IDLE_THREAD_NUM = "http-server.idle-thread.num";
+  public static final String SERVER_ADMISSION_REJECTED_REQUESTS =
+      "http-server.admission.rejected-requests";
+  public static final String SERVER_ADMISSION_IN_FLIGHT_REQUESTS =
+      "http-server.admission.in-flight-requests";
   public static final String ENTITY_STORE_RELATION_DATASOURCE_ACTIVE_CONNECTIONS =
       "entity-store.relation-datasource.active-connections";
   public static final String ENTITY_STORE_RELATION_DATASOURCE_IDLE_CONNECTIONS =
       "entity-store.relation-datasource.idle-connections";
   public static final String ENTITY_STORE_RELATION_DATASOURCE_MAX_CONNECTIONS =
       "entity-store.relation-datasource.max-connections";
+  public static final String IMPORT_CRAWLER_SCHEMAS_IMPORTED = "import-crawler.schemas-imported";
+  public static final String IMPORT_CRAWLER_TABLES_IMPORTED = "import-crawler.tables-imported";
+  public static final String IMPORT_CRAWLER_SCHEMAS_DROPPED = "import-crawler.schemas-dropped";
+  public static final String IMPORT_CRAWLER_TABLES_DROPPED = "import-crawler.tables-dropped";
+  public static final String IMPORT_CRAWLER_FAILURES = "import-crawler.failures";
+  public static final String IMPORT_CRAWLER_CATALOG_CRAWL_DURATION =
+      "import-crawler.catalog-crawl-duration";
+  public static final String IMPORT_CRAWLER_RUNNING_CATALOGS = "import-crawler.running-catalogs";
+  public static final String ICEBERG_COMMIT_DURATION = "iceberg-commit.duration";
+  public static final String ICEBERG_COMMIT_CONFLICTS = "iceberg-commit.conflicts";
+  public static final String ICEBERG_COMMIT_CONFLICT_RATE = "iceberg-commit.conflict-rate";
+  public static final String ICEBERG_COMMIT_COALESCED = "iceberg-commit.coalesced";
+  public static final String LINEAGE_EVENTS_DISPATCHED = "lineage.events-dispatched";
+  public static final String LINEAGE_EVENTS_REJECTED = "lineage.events-rejected";
+  public static final String LINEAGE_HTTP_SINK_EVENTS_SENT = "lineage-http-sink.events-sent";
+  public static final String LINEAGE_HTTP_SINK_EVENTS_FAILED = "lineage-http-sink.events-failed";
+  public static final String LINEAGE_HTTP_SINK_EVENTS_OVERFLOWED =
+      "lineage-http-sink.events-overflowed";
+  public static final String LINEAGE_HTTP_SINK_RETRIES = "lineage-http-sink.retries";
+  public static final String LINEAGE_HTTP_SINK_REQUEST_DURATION =
+      "lineage-http-sink.request-duration";
+  public static final String LINEAGE_HTTP_SINK_IN_FLIGHT_REQUESTS =
+      "lineage-http-sink.in-flight-requests";
+  public static final String LINEAGE_HTTP_SINK_OVERFLOW_BYTES = "lineage-http-sink.overflow-bytes";
 
   private MetricNames() {}
 }
@@ -177,7 +177,11 @@ public class MetricsSystem implements Closeable {
         new MapperConfig(
             MetricsSource.GRAVITINO_SERVER_METRIC_NAME + ".*.*",
             MetricsSource.GRAVITINO_SERVER_METRIC_NAME + "_${1}",
-            ImmutableMap.of("operation", "${0}")));
+            ImmutableMap.of("operation", "${0}")),
+        new MapperConfig(
+            MetricsSource.LATENCY_TRACING_METRIC_NAME + ".*.*",
+            MetricsSource.LATENCY_TRACING_METRIC_NAME + "_${0}",
+            ImmutableMap.of("type", "${1}")));
   }
 
   private void registerMetricsToPrometheusRegistry() {
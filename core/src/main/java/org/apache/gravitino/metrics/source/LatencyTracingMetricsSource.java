@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics.source;
+
+import com.codahale.metrics.Timer;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.gravitino.metrics.LatencyTracer;
+import org.apache.gravitino.metrics.LatencyTracer.Subsystem;
+
+/**
+ * The metrics source of {@link LatencyTracer}, it holds one timer per subsystem and type, which is
+ * named as "{subsystem}.{type}", e.g., "entity_store.table".
+ */
+public class LatencyTracingMetricsSource extends MetricsSource {
+
+  private final Map<Subsystem, ConcurrentMap<String, Timer>> timers =
+      new EnumMap<>(Subsystem.class);
+
+  public LatencyTracingMetricsSource() {
+    super(MetricsSource.LATENCY_TRACING_METRIC_NAME);
+    for (Subsystem subsystem : Subsystem.values()) {
+      timers.put(subsystem, new ConcurrentHashMap<>());
+    }
+  }
+
+  /**
+   * Get or create the Timer of the subsystem and type.
+   *
+   * @param subsystem The traced subsystem.
+   * @param type The type of the traced operation.
+   * @return a new or pre-existing Timer
+   */
+  public Timer getTimer(Subsystem subsystem, String type) {
+    ConcurrentMap<String, Timer> subsystemTimers = timers.get(subsystem);
+    Timer timer = subsystemTimers.get(type);
+    if (timer == null) {
+      timer =
+          subsystemTimers.computeIfAbsent(type, t -> getTimer(subsystem.metricName() + "." + t));
+    }
+    return timer;
+  }
+}
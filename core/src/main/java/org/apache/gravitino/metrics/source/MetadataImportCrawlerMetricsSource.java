@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics.source;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Timer;
+import java.util.function.Supplier;
+import org.apache.gravitino.catalog.MetadataImportCrawler;
+import org.apache.gravitino.metrics.MetricNames;
+
+/** The metrics source of {@link MetadataImportCrawler}, it reports the progress of the crawls. */
+public class MetadataImportCrawlerMetricsSource extends MetricsSource {
+
+  private final Counter schemasImported;
+  private final Counter tablesImported;
+  private final Counter schemasDropped;
+  private final Counter tablesDropped;
+  private final Counter failures;
+  private final Timer catalogCrawlDuration;
+
+  /** @param runningCatalogs The supplier of the number of the catalogs being crawled. */
+  public MetadataImportCrawlerMetricsSource(Supplier<Integer> runningCatalogs) {
+    super(MetricsSource.IMPORT_CRAWLER_METRIC_NAME);
+    this.schemasImported = getCounter(MetricNames.IMPORT_CRAWLER_SCHEMAS_IMPORTED);
+    this.tablesImported = getCounter(MetricNames.IMPORT_CRAWLER_TABLES_IMPORTED);
+    this.schemasDropped = getCounter(MetricNames.IMPORT_CRAWLER_SCHEMAS_DROPPED);
+    this.tablesDropped = getCounter(MetricNames.IMPORT_CRAWLER_TABLES_DROPPED);
+    this.failures = getCounter(MetricNames.IMPORT_CRAWLER_FAILURES);
+    this.catalogCrawlDuration = getTimer(MetricNames.IMPORT_CRAWLER_CATALOG_CRAWL_DURATION);
+    registerGauge(
+        MetricNames.IMPORT_CRAWLER_RUNNING_CATALOGS, (Gauge<Integer>) runningCatalogs::get);
+  }
+
+  /** @return The counter of the schemas imported by the crawler. */
+  public Counter schemasImported() {
+    return schemasImported;
+  }
+
+  /** @return The counter of the tables imported by the crawler. */
+  public Counter tablesImported() {
+    return tablesImported;
+  }
+
+  /** @return The counter of the stale schemas dropped by the crawler. */
+  public Counter schemasDropped() {
+    return schemasDropped;
+  }
+
+  /** @return The counter of the stale tables dropped by the crawler. */
+  public Counter tablesDropped() {
+    return tablesDropped;
+  }
+
+  /** @return The counter of the schemas and tables failed to be crawled. */
+  public Counter failures() {
+    return failures;
+  }
+
+  /** @return The timer of the crawl of a whole catalog. */
+  public Timer catalogCrawlDuration() {
+    return catalogCrawlDuration;
+  }
+}
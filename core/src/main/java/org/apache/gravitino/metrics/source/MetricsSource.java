@@ -41,6 +41,11 @@ public abstract class MetricsSource {
   public static final String ICEBERG_REST_SERVER_METRIC_NAME = "iceberg-rest-server";
   public static final String GRAVITINO_SERVER_METRIC_NAME = "gravitino-server";
   public static final String JVM_METRIC_NAME = "jvm";
+  public static final String LATENCY_TRACING_METRIC_NAME = "gravitino-latency";
+  public static final String IMPORT_CRAWLER_METRIC_NAME = "gravitino-import-crawler";
+  public static final String ICEBERG_COMMIT_METRIC_NAME = "iceberg-rest-commit";
+  public static final String LINEAGE_METRIC_NAME = "gravitino-lineage";
+  public static final String LINEAGE_HTTP_SINK_METRIC_NAME = "gravitino-lineage-http-sink";
   private final MetricRegistry metricRegistry;
   private final String metricsSourceName;
   private final int timeSlidingWindowSeconds;
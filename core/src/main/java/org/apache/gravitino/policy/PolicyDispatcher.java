@@ -163,6 +163,21 @@ public interface PolicyDispatcher {
       String[] policiesToAdd,
       String[] policiesToRemove);
 
+  /**
+   * Associate or disassociate a policy with many metadata objects under a metalake in one call. The
+   * metadata objects already associated with the policy are skipped.
+   *
+   * @param metalake the name of the metalake
+   * @param policyName the name of the policy
+   * @param objectsToAdd the metadata objects to associate the policy with
+   * @param objectsToRemove the metadata objects to remove the policy from
+   */
+  void associateMetadataObjectsForPolicy(
+      String metalake,
+      String policyName,
+      MetadataObject[] objectsToAdd,
+      MetadataObject[] objectsToRemove);
+
   /**
    * Get a specific policy associated with the specified metadata object.
    *
@@ -28,6 +28,8 @@ import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.EntityStore;
@@ -363,6 +365,87 @@ public class PolicyManager implements PolicyDispatcher {
                 }));
   }
 
+  @Override
+  public void associateMetadataObjectsForPolicy(
+      String metalake,
+      String policyName,
+      MetadataObject[] objectsToAdd,
+      MetadataObject[] objectsToRemove) {
+    // Remove all the metadata objects that are both set to add and remove
+    Set<MetadataObject> objectsToAddSet =
+        objectsToAdd == null
+            ? Sets.newLinkedHashSet()
+            : Sets.newLinkedHashSet(Arrays.asList(objectsToAdd));
+    Set<MetadataObject> objectsToRemoveSet =
+        objectsToRemove == null
+            ? Sets.newLinkedHashSet()
+            : Sets.newLinkedHashSet(Arrays.asList(objectsToRemove));
+    Set<MetadataObject> common =
+        Sets.intersection(objectsToAddSet, objectsToRemoveSet).immutableCopy();
+    objectsToAddSet.removeAll(common);
+    objectsToRemoveSet.removeAll(common);
+
+    for (MetadataObject metadataObject : Sets.union(objectsToAddSet, objectsToRemoveSet)) {
+      Preconditions.checkArgument(
+          !metadataObject.type().equals(MetadataObject.Type.METALAKE)
+              && !metadataObject.type().equals(MetadataObject.Type.ROLE)
+              && !metadataObject.type().equals(MetadataObject.Type.COLUMN),
+          "Cannot associate policies for unsupported metadata object type %s",
+          metadataObject.type());
+      MetadataObjectUtil.checkMetadataObject(metalake, metadataObject);
+    }
+
+    NameIdentifier policyIdent = NameIdentifierUtil.ofPolicy(metalake, policyName);
+    List<Pair<NameIdentifier, Entity.EntityType>> objectsToAddIdent =
+        objectsToAddSet.stream()
+            .map(
+                object ->
+                    Pair.of(
+                        MetadataObjectUtil.toEntityIdent(metalake, object),
+                        MetadataObjectUtil.toEntityType(object)))
+            .collect(Collectors.toList());
+    List<Pair<NameIdentifier, Entity.EntityType>> objectsToRemoveIdent =
+        objectsToRemoveSet.stream()
+            .map(
+                object ->
+                    Pair.of(
+                        MetadataObjectUtil.toEntityIdent(metalake, object),
+                        MetadataObjectUtil.toEntityType(object)))
+            .collect(Collectors.toList());
+
+    checkMetalake(NameIdentifier.of(metalake), entityStore);
+    // Unlike associating policies for a single metadata object, the metadata objects are not locked
+    // one by one, a metadata object dropped concurrently leaves a dangling relation which is
+    // skipped when listing the metadata objects for the policy.
+    TreeLockUtils.doWithTreeLock(
+        NameIdentifier.of(NamespaceUtil.ofPolicy(metalake).levels()),
+        LockType.WRITE,
+        () -> {
+          try {
+            entityStore
+                .relationOperations()
+                .batchUpdateEntityRelations(
+                    SupportsRelationOperations.Type.POLICY_METADATA_OBJECT_REL,
+                    policyIdent,
+                    Entity.EntityType.POLICY,
+                    objectsToAddIdent,
+                    objectsToRemoveIdent);
+            return null;
+          } catch (NoSuchEntityException e) {
+            if (e.getMessage().contains("No such policy entity")) {
+              throw new NoSuchPolicyException(
+                  e, "Policy with name %s under metalake %s does not exist", policyName, metalake);
+            }
+            throw new NoSuchMetadataObjectException(
+                e,
+                "Failed to associate policy %s for metadata objects due to not found",
+                policyName);
+          } catch (IOException e) {
+            LOG.error("Failed to associate policy {} for metadata objects", policyName, e);
+            throw new RuntimeException(e);
+          }
+        });
+  }
   @Override
   public PolicyEntity getPolicyForMetadataObject(
       String metalake, MetadataObject metadataObject, String policyName) {
@@ -0,0 +1,583 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.search;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.MetadataObjects;
+import org.apache.gravitino.exceptions.NoSuchPolicyException;
+import org.apache.gravitino.exceptions.NoSuchTagException;
+import org.apache.gravitino.policy.PolicyDispatcher;
+import org.apache.gravitino.tag.TagDispatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An in-memory inverted index from the tags and policies to the metadata objects associated with
+ * them, it answers the questions like "all the tables with tag PII under catalog C" without loading
+ * the metadata objects of every tag from the entity store.
+ *
+ * <p>The index of a metalake is loaded from the tag and policy dispatchers when it is searched for
+ * the first time, and then kept current by the tag, policy and metadata object changes. Every
+ * metadata object in the index is assigned a dense ordinal, so the metadata objects of a tag or a
+ * policy are a {@link BitSet} of the ordinals, and the AND/OR queries are bitwise operations. The
+ * changes which cannot be applied incrementally, such as renaming a table, drop the index of the
+ * metalake, it is loaded again by the next search.
+ *
+ * <p>Only the direct associations are indexed, the tags and policies inherited from the parent
+ * metadata objects are not.
+ */
+public class MetadataObjectIndex {
+
+  private static final Logger LOG = LoggerFactory.getLogger(MetadataObjectIndex.class);
+
+  private static final Comparator<MetadataObject> ORDER =
+      Comparator.comparing(MetadataObject::fullName).thenComparing(MetadataObject::type);
+
+  private enum LabelType {
+    TAG,
+    POLICY
+  }
+
+  private final TagDispatcher tagDispatcher;
+  private final PolicyDispatcher policyDispatcher;
+
+  private final Map<String, MetalakeIndex> indexes = new ConcurrentHashMap<>();
+  // The version of a metalake is increased by every change that is not applied to a loaded index,
+  // an index loaded across such a change is discarded instead of being cached.
+  private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new metadata object index.
+   *
+   * @param tagDispatcher The tag dispatcher to load the tag associations from.
+   * @param policyDispatcher The policy dispatcher to load the policy associations from.
+   */
+  public MetadataObjectIndex(TagDispatcher tagDispatcher, PolicyDispatcher policyDispatcher) {
+    this.tagDispatcher = tagDispatcher;
+    this.policyDispatcher = policyDispatcher;
+  }
+
+  /**
+   * Searches the metadata objects under a metalake by the tags and policies associated with them.
+   *
+   * @param metalake The name of the metalake.
+   * @param query The query.
+   * @return A page of the matched metadata objects, ordered by their full names.
+   * @throws IllegalArgumentException If the page token of the query is invalid.
+   */
+  public MetadataObjectPage search(String metalake, MetadataObjectQuery query) {
+    MetadataObject after = decodePageToken(query.pageToken());
+    return loadIndex(metalake).search(query, after);
+  }
+
+  /**
+   * Lists the tags directly associated with a metadata object.
+   *
+   * @param metalake The name of the metalake.
+   * @param metadataObject The metadata object.
+   * @return The names of the tags.
+   */
+  public String[] listTagsForMetadataObject(String metalake, MetadataObject metadataObject) {
+    return loadIndex(metalake).labels(LabelType.TAG, normalize(metadataObject));
+  }
+
+  /**
+   * Lists the policies directly associated with a metadata object.
+   *
+   * @param metalake The name of the metalake.
+   * @param metadataObject The metadata object.
+   * @return The names of the policies.
+   */
+  public String[] listPoliciesForMetadataObject(String metalake, MetadataObject metadataObject) {
+    return loadIndex(metalake).labels(LabelType.POLICY, normalize(metadataObject));
+  }
+
+  void updateTagsForMetadataObject(String metalake, MetadataObject metadataObject, String[] tags) {
+    update(metalake, index -> index.setLabels(LabelType.TAG, normalize(metadataObject), tags));
+  }
+
+  void associateMetadataObjectsForTag(
+      String metalake,
+      String tag,
+      MetadataObject[] objectsToAdd,
+      MetadataObject[] objectsToRemove) {
+    associate(LabelType.TAG, metalake, tag, objectsToAdd, objectsToRemove);
+  }
+
+  void removeTag(String metalake, String tag) {
+    update(metalake, index -> index.removeLabel(LabelType.TAG, tag));
+  }
+
+  void updatePoliciesForMetadataObject(
+      String metalake, MetadataObject metadataObject, String[] policies) {
+    update(
+        metalake, index -> index.setLabels(LabelType.POLICY, normalize(metadataObject), policies));
+  }
+
+  void associateMetadataObjectsForPolicy(
+      String metalake,
+      String policy,
+      MetadataObject[] objectsToAdd,
+      MetadataObject[] objectsToRemove) {
+    associate(LabelType.POLICY, metalake, policy, objectsToAdd, objectsToRemove);
+  }
+
+  void renamePolicy(String metalake, String oldName, String newName) {
+    update(metalake, index -> index.renameLabel(LabelType.POLICY, oldName, newName));
+  }
+
+  void removePolicy(String metalake, String policy) {
+    update(metalake, index -> index.removeLabel(LabelType.POLICY, policy));
+  }
+
+  /**
+   * Removes a dropped metadata object and all the metadata objects under it from the index.
+   *
+   * @param metalake The name of the metalake.
+   * @param metadataObject The dropped metadata object.
+   */
+  void removeMetadataObject(String metalake, MetadataObject metadataObject) {
+    update(metalake, index -> index.removeMetadataObject(normalize(metadataObject)));
+  }
+
+  /**
+   * Drops the index of a metalake, the index is loaded again by the next search.
+   *
+   * @param metalake The name of the metalake.
+   */
+  void invalidate(String metalake) {
+    synchronized (this) {
+      versions.computeIfAbsent(metalake, k -> new AtomicLong()).incrementAndGet();
+      if (indexes.remove(metalake) != null) {
+        LOG.debug("Invalidated the metadata object index of metalake {}", metalake);
+      }
+    }
+  }
+
+  @VisibleForTesting
+  boolean isLoaded(String metalake) {
+    return indexes.containsKey(metalake);
+  }
+
+  private void associate(
+      LabelType labelType,
+      String metalake,
+      String label,
+      MetadataObject[] objectsToAdd,
+      MetadataObject[] objectsToRemove) {
+    // The metadata objects both to add and remove are ignored, the same as the dispatchers do
+    Set<MetadataObject> toAdd = normalize(objectsToAdd);
+    Set<MetadataObject> toRemove = normalize(objectsToRemove);
+    Set<MetadataObject> common = Sets.intersection(toAdd, toRemove).immutableCopy();
+    toAdd.removeAll(common);
+    toRemove.removeAll(common);
+
+    update(metalake, index -> index.associate(labelType, label, toAdd, toRemove));
+  }
+
+  private void update(String metalake, Consumer<MetalakeIndex> updater) {
+    MetalakeIndex index;
+    synchronized (this) {
+      index = indexes.get(metalake);
+      if (index == null) {
+        versions.computeIfAbsent(metalake, k -> new AtomicLong()).incrementAndGet();
+        return;
+      }
+    }
+    index.update(updater);
+  }
+
+  private MetalakeIndex loadIndex(String metalake) {
+    MetalakeIndex index = indexes.get(metalake);
+    if (index != null) {
+      return index;
+    }
+
+    AtomicLong version = versions.computeIfAbsent(metalake, k -> new AtomicLong());
+    // Only one thread loads the index of a metalake, the others wait for it and reuse it
+    synchronized (version) {
+      index = indexes.get(metalake);
+      if (index != null) {
+        return index;
+      }
+
+      long startVersion = version.get();
+      MetalakeIndex loaded = new MetalakeIndex();
+      for (String tag : tagDispatcher.listTags(metalake)) {
+        try {
+          loaded.associate(
+              LabelType.TAG,
+              tag,
+              normalize(tagDispatcher.listMetadataObjectsForTag(metalake, tag)),
+              Collections.emptySet());
+        } catch (NoSuchTagException e) {
+          LOG.debug("Tag {} is deleted while loading the index of metalake {}", tag, metalake);
+        }
+      }
+      for (String policy : policyDispatcher.listPolicies(metalake)) {
+        try {
+          loaded.associate(
+              LabelType.POLICY,
+              policy,
+              normalize(policyDispatcher.listMetadataObjectsForPolicy(metalake, policy)),
+              Collections.emptySet());
+        } catch (NoSuchPolicyException e) {
+          LOG.debug(
+              "Policy {} is deleted while loading the index of metalake {}", policy, metalake);
+        }
+      }
+
+      synchronized (this) {
+        if (version.get() == startVersion) {
+          indexes.put(metalake, loaded);
+          LOG.info(
+              "Loaded the metadata object index of metalake {} with {} metadata objects",
+              metalake,
+              loaded.size());
+        } else {
+          LOG.debug("Metalake {} was changed while loading its index, skip caching it", metalake);
+        }
+      }
+      return loaded;
+    }
+  }
+
+  private static MetadataObject normalize(MetadataObject metadataObject) {
+    return MetadataObjects.parse(metadataObject.fullName(), metadataObject.type());
+  }
+
+  private static Set<MetadataObject> normalize(MetadataObject[] metadataObjects) {
+    Set<MetadataObject> normalized = Sets.newLinkedHashSet();
+    if (metadataObjects != null) {
+      Arrays.stream(metadataObjects).map(MetadataObjectIndex::normalize).forEach(normalized::add);
+    }
+    return normalized;
+  }
+
+  private static boolean isSelfOrDescendant(MetadataObject object, MetadataObject ancestor) {
+    if (object.equals(ancestor)) {
+      return true;
+    }
+
+    switch (ancestor.type()) {
+      case CATALOG:
+      case SCHEMA:
+        return object.fullName().startsWith(ancestor.fullName() + ".");
+      case TABLE:
+        return object.type() == MetadataObject.Type.COLUMN
+            && ancestor.fullName().equals(object.parent());
+      default:
+        return false;
+    }
+  }
+
+  private static String encodePageToken(MetadataObject metadataObject) {
+    String cursor = metadataObject.type().name() + ":" + metadataObject.fullName();
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static MetadataObject decodePageToken(String pageToken) {
+    if (pageToken == null) {
+      return null;
+    }
+
+    try {
+      String cursor = new String(Base64.getUrlDecoder().decode(pageToken), StandardCharsets.UTF_8);
+      int separator = cursor.indexOf(':');
+      return MetadataObjects.parse(
+          cursor.substring(separator + 1),
+          MetadataObject.Type.valueOf(cursor.substring(0, separator)));
+    } catch (RuntimeException e) {
+      throw new IllegalArgumentException("Invalid page token: " + pageToken, e);
+    }
+  }
+
+  /** The tags or the policies of the metadata objects under a metalake. */
+  private static class LabelIndex {
+    private final Map<String, BitSet> objectsByLabel = new HashMap<>();
+    private final Map<Integer, Set<String>> labelsByObject = new HashMap<>();
+
+    private BitSet objects(String label) {
+      return objectsByLabel.get(label);
+    }
+
+    private Set<String> labels(int ordinal) {
+      return labelsByObject.getOrDefault(ordinal, Collections.emptySet());
+    }
+
+    private boolean contains(int ordinal) {
+      return labelsByObject.containsKey(ordinal);
+    }
+
+    private void add(String label, int ordinal) {
+      objectsByLabel.computeIfAbsent(label, k -> new BitSet()).set(ordinal);
+      labelsByObject.computeIfAbsent(ordinal, k -> new HashSet<>()).add(label);
+    }
+
+    private void remove(String label, int ordinal) {
+      BitSet objects = objectsByLabel.get(label);
+      if (objects != null) {
+        objects.clear(ordinal);
+        if (objects.isEmpty()) {
+          objectsByLabel.remove(label);
+        }
+      }
+
+      Set<String> labels = labelsByObject.get(ordinal);
+      if (labels != null) {
+        labels.remove(label);
+        if (labels.isEmpty()) {
+          labelsByObject.remove(ordinal);
+        }
+      }
+    }
+
+    private void setLabels(int ordinal, Set<String> labels) {
+      for (String label : ImmutableSet.copyOf(labels(ordinal))) {
+        if (!labels.contains(label)) {
+          remove(label, ordinal);
+        }
+      }
+      labels.forEach(label -> add(label, ordinal));
+    }
+
+    private BitSet removeLabel(String label) {
+      BitSet objects = objectsByLabel.get(label);
+      if (objects == null) {
+        return new BitSet();
+      }
+
+      BitSet removed = (BitSet) objects.clone();
+      removed.stream().forEach(ordinal -> remove(label, ordinal));
+      return removed;
+    }
+  }
+
+  /** The index of the metadata objects under a metalake. */
+  private static class MetalakeIndex {
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<MetadataObject, Integer> ordinals = new HashMap<>();
+    private final List<MetadataObject> metadataObjects = new ArrayList<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private final Map<LabelType, LabelIndex> labelIndexes = new EnumMap<>(LabelType.class);
+
+    private MetalakeIndex() {
+      for (LabelType labelType : LabelType.values()) {
+        labelIndexes.put(labelType, new LabelIndex());
+      }
+    }
+
+    private int size() {
+      return ordinals.size();
+    }
+
+    private void update(Consumer<MetalakeIndex> updater) {
+      lock.writeLock().lock();
+      try {
+        updater.accept(this);
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+
+    private String[] labels(LabelType labelType, MetadataObject metadataObject) {
+      lock.readLock().lock();
+      try {
+        Integer ordinal = ordinals.get(metadataObject);
+        return ordinal == null
+            ? new String[0]
+            : labelIndexes.get(labelType).labels(ordinal).toArray(new String[0]);
+      } finally {
+        lock.readLock().unlock();
+      }
+    }
+
+    private void setLabels(LabelType labelType, MetadataObject metadataObject, String[] labels) {
+      Set<String> newLabels = labels == null ? Collections.emptySet() : Sets.newHashSet(labels);
+      // A metadata object without any label is not added to the index
+      Integer ordinal = ordinals.get(metadataObject);
+      if (ordinal == null && !newLabels.isEmpty()) {
+        ordinal = ordinal(metadataObject);
+      }
+
+      if (ordinal != null) {
+        labelIndexes.get(labelType).setLabels(ordinal, newLabels);
+        releaseIfUnused(ordinal);
+      }
+    }
+
+    private void associate(
+        LabelType labelType,
+        String label,
+        Set<MetadataObject> objectsToAdd,
+        Set<MetadataObject> objectsToRemove) {
+      LabelIndex labelIndex = labelIndexes.get(labelType);
+      for (MetadataObject metadataObject : objectsToRemove) {
+        Integer ordinal = ordinals.get(metadataObject);
+        if (ordinal != null) {
+          labelIndex.remove(label, ordinal);
+          releaseIfUnused(ordinal);
+        }
+      }
+      objectsToAdd.forEach(metadataObject -> labelIndex.add(label, ordinal(metadataObject)));
+    }
+
+    private void renameLabel(LabelType labelType, String oldLabel, String newLabel) {
+      LabelIndex labelIndex = labelIndexes.get(labelType);
+      labelIndex
+          .removeLabel(oldLabel)
+          .stream()
+          .forEach(ordinal -> labelIndex.add(newLabel, ordinal));
+    }
+
+    private void removeLabel(LabelType labelType, String label) {
+      labelIndexes.get(labelType).removeLabel(label).stream().forEach(this::releaseIfUnused);
+    }
+
+    private void removeMetadataObject(MetadataObject ancestor) {
+      List<Integer> removed = Lists.newArrayList();
+      ordinals.forEach(
+          (metadataObject, ordinal) -> {
+            if (isSelfOrDescendant(metadataObject, ancestor)) {
+              removed.add(ordinal);
+            }
+          });
+
+      for (int ordinal : removed) {
+        labelIndexes
+            .values()
+            .forEach(labelIndex -> labelIndex.setLabels(ordinal, ImmutableSet.of()));
+        releaseIfUnused(ordinal);
+      }
+    }
+
+    private MetadataObjectPage search(MetadataObjectQuery query, MetadataObject after) {
+      lock.readLock().lock();
+      try {
+        BitSet matched = null;
+        for (String tag : query.tags()) {
+          matched = combine(matched, labelIndexes.get(LabelType.TAG).objects(tag), query);
+        }
+        for (String policy : query.policies()) {
+          matched = combine(matched, labelIndexes.get(LabelType.POLICY).objects(policy), query);
+        }
+
+        // Keep the first pageSize + 1 matched metadata objects after the cursor in a max heap, the
+        // extra one tells whether there is a next page.
+        int pageSize = query.pageSize();
+        PriorityQueue<MetadataObject> heap = new PriorityQueue<>(ORDER.reversed());
+        for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+          MetadataObject metadataObject = metadataObjects.get(i);
+          if (!query.matches(metadataObject)
+              || (after != null && ORDER.compare(metadataObject, after) <= 0)) {
+            continue;
+          }
+
+          heap.offer(metadataObject);
+          if (heap.size() > pageSize + 1) {
+            heap.poll();
+          }
+        }
+
+        boolean hasNext = heap.size() > pageSize;
+        if (hasNext) {
+          heap.poll();
+        }
+        List<MetadataObject> page = new ArrayList<>(heap);
+        page.sort(ORDER);
+        return new MetadataObjectPage(
+            page.toArray(new MetadataObject[0]),
+            hasNext ? encodePageToken(page.get(page.size() - 1)) : null);
+      } finally {
+        lock.readLock().unlock();
+      }
+    }
+
+    private BitSet combine(BitSet matched, BitSet objects, MetadataObjectQuery query) {
+      BitSet operand = objects == null ? new BitSet() : objects;
+      if (matched == null) {
+        return (BitSet) operand.clone();
+      }
+
+      if (query.operator() == MetadataObjectQuery.Operator.AND) {
+        matched.and(operand);
+      } else {
+        matched.or(operand);
+      }
+      return matched;
+    }
+
+    private int ordinal(MetadataObject metadataObject) {
+      Integer ordinal = ordinals.get(metadataObject);
+      if (ordinal != null) {
+        return ordinal;
+      }
+
+      int newOrdinal;
+      if (freeOrdinals.isEmpty()) {
+        newOrdinal = metadataObjects.size();
+        metadataObjects.add(metadataObject);
+      } else {
+        newOrdinal = freeOrdinals.pop();
+        metadataObjects.set(newOrdinal, metadataObject);
+      }
+      ordinals.put(metadataObject, newOrdinal);
+      return newOrdinal;
+    }
+
+    private void releaseIfUnused(int ordinal) {
+      if (labelIndexes.values().stream().anyMatch(labelIndex -> labelIndex.contains(ordinal))) {
+        return;
+      }
+
+      MetadataObject metadataObject = metadataObjects.set(ordinal, null);
+      if (metadataObject != null) {
+        ordinals.remove(metadataObject);
+        freeOrdinals.push(ordinal);
+      }
+    }
+  }
+}
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.search;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import org.apache.gravitino.CatalogChange;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.MetalakeChange;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.file.FilesetChange;
+import org.apache.gravitino.listener.api.EventListenerPlugin;
+import org.apache.gravitino.listener.api.event.AlterCatalogEvent;
+import org.apache.gravitino.listener.api.event.AlterFilesetEvent;
+import org.apache.gravitino.listener.api.event.AlterMetalakeEvent;
+import org.apache.gravitino.listener.api.event.AlterModelEvent;
+import org.apache.gravitino.listener.api.event.AlterTableEvent;
+import org.apache.gravitino.listener.api.event.AlterTagEvent;
+import org.apache.gravitino.listener.api.event.AssociateMetadataObjectsForTagEvent;
+import org.apache.gravitino.listener.api.event.AssociateTagsForMetadataObjectEvent;
+import org.apache.gravitino.listener.api.event.BaseEvent;
+import org.apache.gravitino.listener.api.event.DeleteModelEvent;
+import org.apache.gravitino.listener.api.event.DeleteTagEvent;
+import org.apache.gravitino.listener.api.event.DropCatalogEvent;
+import org.apache.gravitino.listener.api.event.DropFilesetEvent;
+import org.apache.gravitino.listener.api.event.DropMetalakeEvent;
+import org.apache.gravitino.listener.api.event.DropSchemaEvent;
+import org.apache.gravitino.listener.api.event.DropTableEvent;
+import org.apache.gravitino.listener.api.event.DropTopicEvent;
+import org.apache.gravitino.listener.api.event.Event;
+import org.apache.gravitino.listener.api.event.PurgeTableEvent;
+import org.apache.gravitino.model.ModelChange;
+import org.apache.gravitino.rel.TableChange;
+import org.apache.gravitino.tag.TagChange;
+import org.apache.gravitino.utils.MetadataObjectUtil;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+
+/**
+ * The event listener to keep the {@link MetadataObjectIndex} current with the tag and metadata
+ * object changes. The tag associations are applied to the index incrementally, the renames which
+ * change the full names of the indexed metadata objects invalidate the index of the metalake.
+ */
+public class MetadataObjectIndexEventListener implements EventListenerPlugin {
+
+  // The events handled by onPostEvent, the other events are not dispatched to the listener.
+  private static final Set<Class<? extends BaseEvent>> SUBSCRIBED_EVENT_TYPES =
+      ImmutableSet.of(
+          AssociateTagsForMetadataObjectEvent.class,
+          AssociateMetadataObjectsForTagEvent.class,
+          AlterTagEvent.class,
+          DeleteTagEvent.class,
+          DropMetalakeEvent.class,
+          AlterMetalakeEvent.class,
+          AlterCatalogEvent.class,
+          AlterTableEvent.class,
+          AlterFilesetEvent.class,
+          AlterModelEvent.class,
+          DropCatalogEvent.class,
+          DropSchemaEvent.class,
+          DropTableEvent.class,
+          PurgeTableEvent.class,
+          DropFilesetEvent.class,
+          DropTopicEvent.class,
+          DeleteModelEvent.class);
+
+  private final MetadataObjectIndex index;
+
+  /**
+   * Creates a new event listener for the metadata object index.
+   *
+   * @param index The metadata object index to update.
+   */
+  public MetadataObjectIndexEventListener(MetadataObjectIndex index) {
+    this.index = index;
+  }
+
+  @Override
+  public void init(Map<String, String> properties) throws RuntimeException {}
+
+  @Override
+  public void start() throws RuntimeException {}
+
+  @Override
+  public void stop() throws RuntimeException {}
+
+  @Override
+  public Set<Class<? extends BaseEvent>> subscribedEventTypes() {
+    return SUBSCRIBED_EVENT_TYPES;
+  }
+
+  @Override
+  public void onPostEvent(Event postEvent) throws RuntimeException {
+    NameIdentifier identifier = postEvent.identifier();
+    if (identifier == null) {
+      return;
+    }
+    String metalake = NameIdentifierUtil.getMetalake(identifier);
+
+    if (postEvent instanceof AssociateTagsForMetadataObjectEvent) {
+      AssociateTagsForMetadataObjectEvent event = (AssociateTagsForMetadataObjectEvent) postEvent;
+      MetadataObject metadataObject =
+          NameIdentifierUtil.toMetadataObject(
+              identifier, MetadataObjectUtil.toEntityType(event.objectType()));
+      index.updateTagsForMetadataObject(metalake, metadataObject, event.associatedTags());
+
+    } else if (postEvent instanceof AssociateMetadataObjectsForTagEvent) {
+      AssociateMetadataObjectsForTagEvent event = (AssociateMetadataObjectsForTagEvent) postEvent;
+      index.associateMetadataObjectsForTag(
+          metalake, identifier.name(), event.objectsToAdd(), event.objectsToRemove());
+
+    } else if (postEvent instanceof AlterTagEvent) {
+      // The event only carries the new name of a renamed tag
+      if (Arrays.stream(((AlterTagEvent) postEvent).changes())
+          .anyMatch(change -> change instanceof TagChange.RenameTag)) {
+        index.invalidate(metalake);
+      }
+
+    } else if (postEvent instanceof DeleteTagEvent) {
+      if (((DeleteTagEvent) postEvent).isExists()) {
+        index.removeTag(metalake, identifier.name());
+      }
+
+    } else if (postEvent instanceof DropMetalakeEvent) {
+      index.invalidate(identifier.name());
+
+    } else if (postEvent instanceof AlterMetalakeEvent) {
+      if (Arrays.stream(((AlterMetalakeEvent) postEvent).metalakeChanges())
+          .anyMatch(change -> change instanceof MetalakeChange.RenameMetalake)) {
+        index.invalidate(identifier.name());
+      }
+
+    } else if (isRenamed(postEvent)) {
+      index.invalidate(metalake);
+
+    } else {
+      removeDroppedMetadataObject(metalake, postEvent);
+    }
+  }
+
+  private boolean isRenamed(Event event) {
+    if (event instanceof AlterCatalogEvent) {
+      return Arrays.stream(((AlterCatalogEvent) event).catalogChanges())
+          .anyMatch(change -> change instanceof CatalogChange.RenameCatalog);
+    } else if (event instanceof AlterTableEvent) {
+      // The columns are indexed by their full names as well
+      return Arrays.stream(((AlterTableEvent) event).tableChanges())
+          .anyMatch(
+              change ->
+                  change instanceof TableChange.RenameTable
+                      || change instanceof TableChange.RenameColumn
+                      || change instanceof TableChange.DeleteColumn);
+    } else if (event instanceof AlterFilesetEvent) {
+      return Arrays.stream(((AlterFilesetEvent) event).filesetChanges())
+          .anyMatch(change -> change instanceof FilesetChange.RenameFileset);
+    } else if (event instanceof AlterModelEvent) {
+      return Arrays.stream(((AlterModelEvent) event).modelChanges())
+          .anyMatch(change -> change instanceof ModelChange.RenameModel);
+    }
+    return false;
+  }
+
+  private void removeDroppedMetadataObject(String metalake, Event event) {
+    Entity.EntityType entityType;
+    if (event instanceof DropCatalogEvent && ((DropCatalogEvent) event).isExists()) {
+      entityType = Entity.EntityType.CATALOG;
+    } else if (event instanceof DropSchemaEvent && ((DropSchemaEvent) event).isExists()) {
+      entityType = Entity.EntityType.SCHEMA;
+    } else if (event instanceof DropTableEvent && ((DropTableEvent) event).isExists()) {
+      entityType = Entity.EntityType.TABLE;
+    } else if (event instanceof PurgeTableEvent && ((PurgeTableEvent) event).isExists()) {
+      entityType = Entity.EntityType.TABLE;
+    } else if (event instanceof DropFilesetEvent && ((DropFilesetEvent) event).isExists()) {
+      entityType = Entity.EntityType.FILESET;
+    } else if (event instanceof DropTopicEvent && ((DropTopicEvent) event).isExists()) {
+      entityType = Entity.EntityType.TOPIC;
+    } else if (event instanceof DeleteModelEvent && ((DeleteModelEvent) event).isExists()) {
+      entityType = Entity.EntityType.MODEL;
+    } else {
+      return;
+    }
+
+    index.removeMetadataObject(
+        metalake, NameIdentifierUtil.toMetadataObject(event.identifier(), entityType));
+  }
+}
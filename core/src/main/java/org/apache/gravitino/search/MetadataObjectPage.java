@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.search;
+
+import org.apache.gravitino.MetadataObject;
+
+/**
+ * A page of the metadata objects matched by a {@link MetadataObjectQuery}. The metadata objects are
+ * ordered by their full names.
+ */
+public final class MetadataObjectPage {
+
+  private final MetadataObject[] metadataObjects;
+  private final String nextPageToken;
+
+  /**
+   * Creates a new page of the metadata objects.
+   *
+   * @param metadataObjects The metadata objects in the page.
+   * @param nextPageToken The token to fetch the next page, or null if this is the last page.
+   */
+  public MetadataObjectPage(MetadataObject[] metadataObjects, String nextPageToken) {
+    this.metadataObjects = metadataObjects;
+    this.nextPageToken = nextPageToken;
+  }
+
+  /** @return The metadata objects in the page. */
+  public MetadataObject[] metadataObjects() {
+    return metadataObjects;
+  }
+
+  /** @return The token to fetch the next page, or null if this is the last page. */
+  public String nextPageToken() {
+    return nextPageToken;
+  }
+}
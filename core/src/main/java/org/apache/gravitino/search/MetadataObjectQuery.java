@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.search;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import java.util.Collections;
+import java.util.List;
+import javax.annotation.Nullable;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.MetadataObject;
+
+/**
+ * A query to search the metadata objects by the tags and policies associated with them. All the
+ * tags and policies of the query are combined with the same {@link Operator}, the matched metadata
+ * objects can be further narrowed down by a scope and a metadata object type.
+ */
+public class MetadataObjectQuery {
+
+  /** The operator to combine the tags and policies of a query. */
+  public enum Operator {
+    /** The metadata object must be associated with all the tags and policies. */
+    AND,
+    /** The metadata object must be associated with any of the tags and policies. */
+    OR
+  }
+
+  private final List<String> tags;
+  private final List<String> policies;
+  private final Operator operator;
+  @Nullable private final String scope;
+  @Nullable private final MetadataObject.Type type;
+  private final int pageSize;
+  @Nullable private final String pageToken;
+
+  private MetadataObjectQuery(
+      List<String> tags,
+      List<String> policies,
+      Operator operator,
+      @Nullable String scope,
+      @Nullable MetadataObject.Type type,
+      int pageSize,
+      @Nullable String pageToken) {
+    this.tags = tags;
+    this.policies = policies;
+    this.operator = operator;
+    this.scope = scope;
+    this.type = type;
+    this.pageSize = pageSize;
+    this.pageToken = pageToken;
+  }
+
+  /** @return The tag names to search by. */
+  public List<String> tags() {
+    return tags;
+  }
+
+  /** @return The policy names to search by. */
+  public List<String> policies() {
+    return policies;
+  }
+
+  /** @return The operator to combine the tags and policies. */
+  public Operator operator() {
+    return operator;
+  }
+
+  /**
+   * @return The full name of the catalog, schema or table the matched metadata objects must be
+   *     under, or null if the metadata objects are not scoped.
+   */
+  @Nullable
+  public String scope() {
+    return scope;
+  }
+
+  /** @return The type of the matched metadata objects, or null for any type. */
+  @Nullable
+  public MetadataObject.Type type() {
+    return type;
+  }
+
+  /** @return The max number of metadata objects in a page. */
+  public int pageSize() {
+    return pageSize;
+  }
+
+  /** @return The token returned by the previous page, or null to fetch the first page. */
+  @Nullable
+  public String pageToken() {
+    return pageToken;
+  }
+
+  /**
+   * Checks whether the metadata object is in the scope and of the type of this query.
+   *
+   * @param metadataObject The metadata object to check.
+   * @return True if the metadata object matches the scope and the type.
+   */
+  boolean matches(MetadataObject metadataObject) {
+    if (type != null && metadataObject.type() != type) {
+      return false;
+    }
+    return scope == null
+        || metadataObject.fullName().equals(scope)
+        || metadataObject.fullName().startsWith(scope + ".");
+  }
+
+  /** @return A new builder of the query. */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /** The builder of {@link MetadataObjectQuery}. */
+  public static class Builder {
+    private List<String> tags = Collections.emptyList();
+    private List<String> policies = Collections.emptyList();
+    private Operator operator = Operator.AND;
+    private String scope;
+    private MetadataObject.Type type;
+    private int pageSize = 100;
+    private String pageToken;
+
+    private Builder() {}
+
+    /**
+     * @param tags The tag names to search by.
+     * @return The builder.
+     */
+    public Builder withTags(List<String> tags) {
+      this.tags = tags == null ? Collections.emptyList() : ImmutableList.copyOf(tags);
+      return this;
+    }
+
+    /**
+     * @param policies The policy names to search by.
+     * @return The builder.
+     */
+    public Builder withPolicies(List<String> policies) {
+      this.policies = policies == null ? Collections.emptyList() : ImmutableList.copyOf(policies);
+      return this;
+    }
+
+    /**
+     * @param operator The operator to combine the tags and policies.
+     * @return The builder.
+     */
+    public Builder withOperator(Operator operator) {
+      this.operator = operator;
+      return this;
+    }
+
+    /**
+     * @param scope The full name of the catalog, schema or table to search under.
+     * @return The builder.
+     */
+    public Builder withScope(String scope) {
+      this.scope = StringUtils.isBlank(scope) ? null : scope;
+      return this;
+    }
+
+    /**
+     * @param type The type of the metadata objects to search for.
+     * @return The builder.
+     */
+    public Builder withType(MetadataObject.Type type) {
+      this.type = type;
+      return this;
+    }
+
+    /**
+     * @param pageSize The max number of metadata objects in a page.
+     * @return The builder.
+     */
+    public Builder withPageSize(int pageSize) {
+      this.pageSize = pageSize;
+      return this;
+    }
+
+    /**
+     * @param pageToken The token returned by the previous page.
+     * @return The builder.
+     */
+    public Builder withPageToken(String pageToken) {
+      this.pageToken = StringUtils.isBlank(pageToken) ? null : pageToken;
+      return this;
+    }
+
+    /** @return The built query. */
+    public MetadataObjectQuery build() {
+      Preconditions.checkArgument(
+          !tags.isEmpty() || !policies.isEmpty(), "At least one tag or policy must be specified");
+      Preconditions.checkArgument(
+          tags.stream().noneMatch(StringUtils::isBlank), "Tag name must not be blank");
+      Preconditions.checkArgument(
+          policies.stream().noneMatch(StringUtils::isBlank), "Policy name must not be blank");
+      Preconditions.checkArgument(operator != null, "Operator must not be null");
+      Preconditions.checkArgument(pageSize > 0, "Page size must be positive");
+      return new MetadataObjectQuery(tags, policies, operator, scope, type, pageSize, pageToken);
+    }
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.search;
+
+import java.util.Arrays;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.exceptions.NoSuchPolicyException;
+import org.apache.gravitino.exceptions.PolicyAlreadyExistsException;
+import org.apache.gravitino.meta.PolicyEntity;
+import org.apache.gravitino.policy.Policy;
+import org.apache.gravitino.policy.PolicyChange;
+import org.apache.gravitino.policy.PolicyContent;
+import org.apache.gravitino.policy.PolicyDispatcher;
+
+/**
+ * {@code PolicyIndexDispatcher} is a decorator for {@link PolicyDispatcher} that delegates the
+ * policy operations to the underlying policy dispatcher and applies the changes of the policy
+ * associations to the {@link MetadataObjectIndex} after each operation is completed.
+ */
+public class PolicyIndexDispatcher implements PolicyDispatcher {
+  private final PolicyDispatcher dispatcher;
+  private final MetadataObjectIndex index;
+
+  public PolicyIndexDispatcher(PolicyDispatcher dispatcher, MetadataObjectIndex index) {
+    this.dispatcher = dispatcher;
+    this.index = index;
+  }
+
+  @Override
+  public String[] listPolicies(String metalake) {
+    return dispatcher.listPolicies(metalake);
+  }
+
+  @Override
+  public PolicyEntity[] listPolicyInfos(String metalake) {
+    return dispatcher.listPolicyInfos(metalake);
+  }
+
+  @Override
+  public PolicyEntity getPolicy(String metalake, String policyName) throws NoSuchPolicyException {
+    return dispatcher.getPolicy(metalake, policyName);
+  }
+
+  @Override
+  public PolicyEntity createPolicy(
+      String metalake,
+      String name,
+      Policy.BuiltInType type,
+      String comment,
+      boolean enabled,
+      PolicyContent content)
+      throws PolicyAlreadyExistsException {
+    return dispatcher.createPolicy(metalake, name, type, comment, enabled, content);
+  }
+
+  @Override
+  public PolicyEntity alterPolicy(String metalake, String policyName, PolicyChange... changes) {
+    PolicyEntity policy = dispatcher.alterPolicy(metalake, policyName, changes);
+    if (Arrays.stream(changes).anyMatch(change -> change instanceof PolicyChange.RenamePolicy)) {
+      index.renamePolicy(metalake, policyName, policy.name());
+    }
+    return policy;
+  }
+
+  @Override
+  public void enablePolicy(String metalake, String policyName) throws NoSuchPolicyException {
+    dispatcher.enablePolicy(metalake, policyName);
+  }
+
+  @Override
+  public void disablePolicy(String metalake, String policyName) throws NoSuchPolicyException {
+    dispatcher.disablePolicy(metalake, policyName);
+  }
+
+  @Override
+  public boolean deletePolicy(String metalake, String policyName) {
+    boolean deleted = dispatcher.deletePolicy(metalake, policyName);
+    if (deleted) {
+      index.removePolicy(metalake, policyName);
+    }
+    return deleted;
+  }
+
+  @Override
+  public MetadataObject[] listMetadataObjectsForPolicy(String metalake, String policyName) {
+    return dispatcher.listMetadataObjectsForPolicy(metalake, policyName);
+  }
+
+  @Override
+  public String[] listPoliciesForMetadataObject(String metalake, MetadataObject metadataObject) {
+    return dispatcher.listPoliciesForMetadataObject(metalake, metadataObject);
+  }
+
+  @Override
+  public PolicyEntity[] listPolicyInfosForMetadataObject(
+      String metalake, MetadataObject metadataObject) {
+    return dispatcher.listPolicyInfosForMetadataObject(metalake, metadataObject);
+  }
+
+  @Override
+  public String[] associatePoliciesForMetadataObject(
+      String metalake,
+      MetadataObject metadataObject,
+      String[] policiesToAdd,
+      String[] policiesToRemove) {
+    String[] policies =
+        dispatcher.associatePoliciesForMetadataObject(
+            metalake, metadataObject, policiesToAdd, policiesToRemove);
+    index.updatePoliciesForMetadataObject(metalake, metadataObject, policies);
+    return policies;
+  }
+
+  @Override
+  public void associateMetadataObjectsForPolicy(
+      String metalake,
+      String policyName,
+      MetadataObject[] objectsToAdd,
+      MetadataObject[] objectsToRemove) {
+    dispatcher.associateMetadataObjectsForPolicy(
+        metalake, policyName, objectsToAdd, objectsToRemove);
+    index.associateMetadataObjectsForPolicy(metalake, policyName, objectsToAdd, objectsToRemove);
+  }
+
+  @Override
+  public PolicyEntity getPolicyForMetadataObject(
+      String metalake, MetadataObject metadataObject, String policyName) {
+    return dispatcher.getPolicyForMetadataObject(metalake, metadataObject, policyName);
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Snowflake style id generator. The ids are time ordered, so that the rows are appended to the end
+ * of the primary key index of the relational entity store instead of being scattered over the
+ * whole index like the ids of {@link RandomIdGenerator}.
+ *
+ * <p>An id is a positive 63 bits long composed by:
+ *
+ * <ul>
+ *   <li>41 bits of the milliseconds since {@link #EPOCH_MS}, which lasts for about 69 years.
+ *   <li>10 bits of the node id, which must be unique among the servers sharing the same store.
+ *   <li>12 bits of the sequence in the same millisecond.
+ * </ul>
+ *
+ * <p>The last timestamp and sequence are kept in a single {@link AtomicLong} and advanced with
+ * compare-and-set, so the generator is lock free. If the system clock moves backwards, the ids
+ * keep being generated from the last timestamp as long as the sequence is not exhausted, and the
+ * generator fails if the clock moves backwards by more than the configured tolerance.
+ */
+public class SnowflakeIdGenerator implements IdGenerator {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SnowflakeIdGenerator.class);
+
+  /** The custom epoch of the timestamps, 2024-01-01T00:00:00Z. */
+  public static final long EPOCH_MS = 1704067200000L;
+
+  @VisibleForTesting static final int NODE_ID_BITS = 10;
+  @VisibleForTesting static final int SEQUENCE_BITS = 12;
+  @VisibleForTesting static final long MAX_NODE_ID = (1L << NODE_ID_BITS) - 1;
+  private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+  private static final long MAX_TIMESTAMP = (1L << (63 - NODE_ID_BITS - SEQUENCE_BITS)) - 1;
+
+  private final long nodeId;
+  private final long maxClockBackwardMs;
+  private final LongSupplier clock;
+
+  // The last timestamp relative to the epoch shifted left by the sequence bits, plus the sequence
+  private final AtomicLong lastTimestampAndSequence = new AtomicLong();
+
+  /**
+   * Creates a Snowflake id generator with the node id and the clock tolerance in the config.
+   *
+   * @param config The Gravitino server config.
+   */
+  public SnowflakeIdGenerator(Config config) {
+    this(
+        resolveNodeId(config.get(Configs.ENTITY_ID_GENERATOR_SNOWFLAKE_NODE_ID)),
+        config.get(Configs.ENTITY_ID_GENERATOR_SNOWFLAKE_MAX_CLOCK_BACKWARD_MS),
+        System::currentTimeMillis);
+  }
+
+  @VisibleForTesting
+  SnowflakeIdGenerator(long nodeId, long maxClockBackwardMs, LongSupplier clock) {
+    Preconditions.checkArgument(
+        nodeId >= 0 && nodeId <= MAX_NODE_ID,
+        "The node id must be in the range [0, %s], but got %s",
+        MAX_NODE_ID,
+        nodeId);
+    Preconditions.checkArgument(
+        maxClockBackwardMs >= 0, "The max clock backward time must not be negative");
+    this.nodeId = nodeId;
+    this.maxClockBackwardMs = maxClockBackwardMs;
+    this.clock = clock;
+    LOG.info("Snowflake id generator is initialized with node id {}", nodeId);
+  }
+
+  @Override
+  public long nextId() {
+    while (true) {
+      long now = clock.getAsLong() - EPOCH_MS;
+      Preconditions.checkState(
+          now >= 0 && now <= MAX_TIMESTAMP, "The system clock is out of the supported range");
+
+      long last = lastTimestampAndSequence.get();
+      long lastTimestamp = last >>> SEQUENCE_BITS;
+      long next;
+      if (now > lastTimestamp) {
+        next = now << SEQUENCE_BITS;
+      } else if (lastTimestamp - now > maxClockBackwardMs) {
+        throw new IllegalStateException(
+            String.format(
+                "The system clock moved backwards by %d ms, which exceeds the max tolerance %d ms",
+                lastTimestamp - now, maxClockBackwardMs));
+      } else if ((last & SEQUENCE_MASK) == SEQUENCE_MASK) {
+        // The sequence of the last timestamp is exhausted, wait for the clock to move forward
+        Thread.yield();
+        continue;
+      } else {
+        next = last + 1;
+      }
+
+      if (lastTimestampAndSequence.compareAndSet(last, next)) {
+        long timestamp = next >>> SEQUENCE_BITS;
+        return (timestamp << (NODE_ID_BITS + SEQUENCE_BITS))
+            | (nodeId << SEQUENCE_BITS)
+            | (next & SEQUENCE_MASK);
+      }
+    }
+  }
+
+  /** @return The node id embedded in the generated ids. */
+  public long nodeId() {
+    return nodeId;
+  }
+
+  private static long resolveNodeId(int configuredNodeId) {
+    if (configuredNodeId >= 0) {
+      return configuredNodeId;
+    }
+
+    // The runtime name is formatted as "pid@hostname" on most JVMs
+    String runtimeName = ManagementFactory.getRuntimeMXBean().getName();
+    long nodeId = runtimeName.hashCode() & MAX_NODE_ID;
+    LOG.warn(
+        "The node id of the snowflake id generator is not configured, derived {} from {}. "
+            + "Please set {} explicitly if multiple Gravitino servers share the same entity store",
+        nodeId,
+        runtimeName,
+        Configs.ENTITY_ID_GENERATOR_SNOWFLAKE_NODE_ID.getKey());
+    return nodeId;
+  }
+}
@@ -0,0 +1,1301 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.kv;
+
+import static org.apache.gravitino.Entity.EntityType.CATALOG;
+import static org.apache.gravitino.Entity.EntityType.COLUMN;
+import static org.apache.gravitino.Entity.EntityType.FILESET;
+import static org.apache.gravitino.Entity.EntityType.JOB;
+import static org.apache.gravitino.Entity.EntityType.JOB_TEMPLATE;
+import static org.apache.gravitino.Entity.EntityType.METALAKE;
+import static org.apache.gravitino.Entity.EntityType.MODEL;
+import static org.apache.gravitino.Entity.EntityType.MODEL_VERSION;
+import static org.apache.gravitino.Entity.EntityType.POLICY;
+import static org.apache.gravitino.Entity.EntityType.SCHEMA;
+import static org.apache.gravitino.Entity.EntityType.TABLE;
+import static org.apache.gravitino.Entity.EntityType.TABLE_STATISTIC;
+import static org.apache.gravitino.Entity.EntityType.TAG;
+import static org.apache.gravitino.Entity.EntityType.TOPIC;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.EntityAlreadyExistsException;
+import org.apache.gravitino.HasIdentifier;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.UnsupportedEntityTypeException;
+import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.exceptions.NonEmptyEntityException;
+import org.apache.gravitino.meta.BaseMetalake;
+import org.apache.gravitino.meta.CatalogEntity;
+import org.apache.gravitino.meta.ColumnEntity;
+import org.apache.gravitino.meta.FilesetEntity;
+import org.apache.gravitino.meta.GenericEntity;
+import org.apache.gravitino.meta.JobEntity;
+import org.apache.gravitino.meta.JobTemplateEntity;
+import org.apache.gravitino.meta.ModelEntity;
+import org.apache.gravitino.meta.ModelVersionEntity;
+import org.apache.gravitino.meta.PolicyEntity;
+import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.meta.StatisticEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.meta.TagEntity;
+import org.apache.gravitino.meta.TopicEntity;
+import org.apache.gravitino.storage.relational.RelationalBackend;
+import org.apache.gravitino.storage.relational.po.CatalogPO;
+import org.apache.gravitino.storage.relational.po.ColumnPO;
+import org.apache.gravitino.storage.relational.po.FilesetPO;
+import org.apache.gravitino.storage.relational.po.JobPO;
+import org.apache.gravitino.storage.relational.po.JobTemplatePO;
+import org.apache.gravitino.storage.relational.po.MetalakePO;
+import org.apache.gravitino.storage.relational.po.ModelPO;
+import org.apache.gravitino.storage.relational.po.ModelVersionAliasRelPO;
+import org.apache.gravitino.storage.relational.po.ModelVersionPO;
+import org.apache.gravitino.storage.relational.po.PolicyPO;
+import org.apache.gravitino.storage.relational.po.SchemaPO;
+import org.apache.gravitino.storage.relational.po.StatisticPO;
+import org.apache.gravitino.storage.relational.po.TablePO;
+import org.apache.gravitino.storage.relational.po.TagPO;
+import org.apache.gravitino.storage.relational.po.TopicPO;
+import org.apache.gravitino.storage.relational.utils.POConverters;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+import org.apache.gravitino.utils.NamespaceUtil;
+
+/**
+ * {@link KvBackend} is an embedded key-value implementation of {@link RelationalBackend}, it is
+ * designed for the single node deployments which don't want to run an external database. It is
+ * enabled by setting {@link Configs#ENTITY_RELATIONAL_STORE} to {@code KvBackend}.
+ *
+ * <p>The entities are stored in a {@link KvStorage} under hierarchical keys, the key of an entity
+ * is {@code e/<type>/<parent id>/<name>}, so the entities under a namespace are a range of the keys
+ * and listing them is a prefix scan. The keys refer to the parent by id rather than by name, so
+ * renaming an entity doesn't rewrite the keys of its children. The following keys are maintained
+ * along with the entities:
+ *
+ * <ul>
+ *   <li>{@code i/<type>/<id>}: the parent id and the name of the entity with the id, which is used
+ *       to resolve the associated objects of a tag or a policy back to their names.
+ *   <li>{@code t/<object type>/<object id>/<tag id>} and {@code T/<tag id>/<object type>/<object
+ *       id>}: the associations between the tags and the metadata objects, in both directions.
+ *   <li>{@code p/...} and {@code P/...}: the associations between the policies and the metadata
+ *       objects, in the same layout as the tags.
+ *   <li>{@code a/<model id>/<alias>}: the version number of the model version with the alias, the
+ *       model versions are keyed by the version number.
+ * </ul>
+ *
+ * <p>The values are the persistent objects of the {@link RelationalBackend}, so the entities are
+ * converted in the same way as the JDBC backend. The users, groups, roles and owners are not
+ * supported, so the backend refuses to start with the authorization enabled. The entities are
+ * deleted physically, so there is no legacy data for the garbage collector except the finished
+ * jobs, and the garbage collector compacts the storage log instead.
+ */
+public class KvBackend implements RelationalBackend {
+
+  private static final ObjectMapper MAPPER =
+      new ObjectMapper()
+          .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+          .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+          .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+  private static final Set<Entity.EntityType> SUPPORTED_TYPES =
+      ImmutableSet.of(
+          METALAKE,
+          CATALOG,
+          SCHEMA,
+          TABLE,
+          FILESET,
+          TOPIC,
+          MODEL,
+          MODEL_VERSION,
+          TAG,
+          POLICY,
+          TABLE_STATISTIC,
+          JOB_TEMPLATE,
+          JOB);
+
+  private static final Map<Entity.EntityType, Entity.EntityType> PARENT_TYPES =
+      ImmutableMap.<Entity.EntityType, Entity.EntityType>builder()
+          .put(CATALOG, METALAKE)
+          .put(SCHEMA, CATALOG)
+          .put(TABLE, SCHEMA)
+          .put(FILESET, SCHEMA)
+          .put(TOPIC, SCHEMA)
+          .put(MODEL, SCHEMA)
+          .put(MODEL_VERSION, MODEL)
+          .put(COLUMN, TABLE)
+          .put(TABLE_STATISTIC, TABLE)
+          .put(TAG, METALAKE)
+          .put(POLICY, METALAKE)
+          .put(JOB_TEMPLATE, METALAKE)
+          .put(JOB, METALAKE)
+          .build();
+
+  private static final Map<Entity.EntityType, List<Entity.EntityType>> CHILD_TYPES =
+      ImmutableMap.of(
+          METALAKE, ImmutableList.of(CATALOG, TAG, POLICY, JOB_TEMPLATE, JOB),
+          CATALOG, ImmutableList.of(SCHEMA),
+          SCHEMA, ImmutableList.of(TABLE, FILESET, TOPIC, MODEL),
+          TABLE, ImmutableList.of(TABLE_STATISTIC),
+          MODEL, ImmutableList.of(MODEL_VERSION));
+
+  // The children which are dropped along with the parent even if the drop is not cascaded, the
+  // same as the JDBC backend.
+  private static final Set<Entity.EntityType> OWNED_TYPES =
+      ImmutableSet.of(TAG, POLICY, JOB_TEMPLATE, JOB, TABLE_STATISTIC, MODEL_VERSION);
+
+  // The parent id of the metalakes.
+  private static final long ROOT_ID = 0L;
+  private static final byte[] EMPTY_VALUE = new byte[0];
+  private static final char TAG_REL = 't';
+  private static final char POLICY_REL = 'p';
+
+  // The storage is written under the write lock, so that an operation reads and writes the
+  // storage consistently, the reads are under the read lock to see the complete writes.
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  private KvStorage storage;
+  private long compactionThresholdBytes;
+
+  @Override
+  public void initialize(Config config) {
+    // The config may be a mock in tests, so the absent values fall back to the defaults.
+    Preconditions.checkArgument(
+        !Boolean.TRUE.equals(config.get(Configs.ENABLE_AUTHORIZATION)),
+        "%s doesn't support the authorization, please disable %s",
+        Configs.KV_ENTITY_RELATIONAL_STORE,
+        Configs.ENABLE_AUTHORIZATION.getKey());
+
+    Path path = Paths.get(config.get(Configs.ENTITY_KV_BACKEND_PATH));
+    if (!path.isAbsolute()) {
+      path = Paths.get(System.getenv("GRAVITINO_HOME"), path.toString());
+    }
+    Long threshold = config.get(Configs.ENTITY_KV_BACKEND_COMPACTION_THRESHOLD_BYTES);
+    this.compactionThresholdBytes =
+        threshold == null
+            ? Configs.ENTITY_KV_BACKEND_COMPACTION_THRESHOLD_BYTES.getDefaultValue()
+            : threshold;
+
+    try {
+      this.storage =
+          new KvStorage(
+              path, !Boolean.FALSE.equals(config.get(Configs.ENTITY_KV_BACKEND_SYNC_WRITES)));
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to open the key-value storage in " + path, e);
+    }
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> list(
+      Namespace namespace, Entity.EntityType entityType, boolean allFields) throws IOException {
+    checkSupported(entityType, "list");
+    lock.readLock().lock();
+    try {
+      long[] ancestorIds = resolveAncestors(namespace, entityType);
+      // The jobs of a job template are listed by the namespace of the job template identifier.
+      String jobTemplateName =
+          entityType == JOB && namespace.length() == 4 ? namespace.level(3) : null;
+      Namespace entityNamespace =
+          jobTemplateName == null ? namespace : NamespaceUtil.ofJob(namespace.level(0));
+
+      List<E> entities = Lists.newArrayList();
+      for (byte[] value :
+          storage.scan(entityPrefix(entityType, parentId(ancestorIds))).values()) {
+        E entity = decode(entityType, value, entityNamespace, allFields);
+        if (jobTemplateName == null
+            || jobTemplateName.equals(((JobEntity) entity).jobTemplateName())) {
+          entities.add(entity);
+        }
+      }
+      return entities;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public boolean exists(NameIdentifier ident, Entity.EntityType entityType) throws IOException {
+    try {
+      return get(ident, entityType) != null;
+    } catch (NoSuchEntityException e) {
+      return false;
+    }
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> void insert(E e, boolean overwritten)
+      throws EntityAlreadyExistsException, IOException {
+    Entity.EntityType entityType = e.type();
+    checkSupported(entityType, "insert");
+    lock.writeLock().lock();
+    try {
+      if (entityType == MODEL_VERSION) {
+        insertModelVersion((ModelVersionEntity) e);
+        return;
+      }
+
+      long[] ancestorIds = resolveAncestors(e.namespace(), entityType);
+      String key = entityKey(entityType, parentId(ancestorIds), e.name());
+      KvStorage.WriteBatch batch = new KvStorage.WriteBatch();
+      byte[] oldValue = storage.get(key);
+      if (oldValue != null) {
+        if (!overwritten) {
+          throw new EntityAlreadyExistsException(
+              "The %s entity: %s already exists.", entityType.name(), e.nameIdentifier());
+        }
+        if (idOf(oldValue) != e.id()) {
+          removeEntity(batch, entityType, key, oldValue);
+        } else if (entityType == TABLE) {
+          removeDroppedColumns(batch, oldValue, (TableEntity) e);
+        }
+      }
+
+      putEntity(batch, e, ancestorIds, key);
+      storage.write(batch);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> E update(
+      NameIdentifier ident, Entity.EntityType entityType, Function<E, E> updater)
+      throws IOException, NoSuchEntityException {
+    checkSupported(entityType, "update");
+    lock.writeLock().lock();
+    try {
+      if (entityType == MODEL_VERSION) {
+        return updateModelVersion(ident, updater);
+      }
+
+      long[] ancestorIds = resolveAncestors(ident.namespace(), entityType);
+      String key = entityKey(entityType, parentId(ancestorIds), ident.name());
+      byte[] oldValue = storage.get(key);
+      if (oldValue == null) {
+        throw noSuchEntity(entityType, ident.name());
+      }
+
+      E oldEntity = decode(entityType, oldValue, ident.namespace(), true);
+      E newEntity = updater.apply(oldEntity);
+      Preconditions.checkArgument(
+          Objects.equals(oldEntity.id(), newEntity.id()),
+          "The updated %s entity id: %s should be same with the entity id before: %s",
+          entityType,
+          newEntity.id(),
+          oldEntity.id());
+
+      KvStorage.WriteBatch batch = new KvStorage.WriteBatch();
+      String newKey = entityKey(entityType, parentId(ancestorIds), newEntity.name());
+      if (!newKey.equals(key)) {
+        if (storage.get(newKey) != null) {
+          throw new EntityAlreadyExistsException(
+              "The %s entity: %s already exists.", entityType.name(), newEntity.nameIdentifier());
+        }
+        batch.delete(key);
+      }
+      if (entityType == TABLE) {
+        removeDroppedColumns(batch, oldValue, (TableEntity) newEntity);
+      }
+
+      putEntity(batch, newEntity, ancestorIds, newKey);
+      storage.write(batch);
+      return newEntity;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> E get(
+      NameIdentifier ident, Entity.EntityType entityType) throws IOException {
+    checkSupported(entityType, "get");
+    lock.readLock().lock();
+    try {
+      return decode(entityType, requireValue(ident, entityType), ident.namespace(), true);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public boolean delete(NameIdentifier ident, Entity.EntityType entityType, boolean cascade)
+      throws IOException {
+    checkSupported(entityType, "delete");
+    lock.writeLock().lock();
+    try {
+      long[] ancestorIds = resolveAncestors(ident.namespace(), entityType);
+      String key = lookupKey(entityType, parentId(ancestorIds), ident.name());
+      byte[] value = key == null ? null : storage.get(key);
+      if (value == null) {
+        return false;
+      }
+
+      if (!cascade && hasSubEntities(entityType, idOf(value))) {
+        throw new NonEmptyEntityException(
+            "Entity %s has sub-entities, you should remove sub-entities first", ident);
+      }
+
+      KvStorage.WriteBatch batch = new KvStorage.WriteBatch();
+      if (entityType == JOB_TEMPLATE) {
+        // The jobs of the job template are dropped along with it, the same as the JDBC backend.
+        removeJobs(batch, ancestorIds[0], ident.name());
+      }
+      removeTree(batch, entityType, key, value);
+      storage.write(batch);
+      return true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public int batchDelete(
+      List<Pair<NameIdentifier, Entity.EntityType>> entitiesToDelete, boolean cascade)
+      throws IOException {
+    if (entitiesToDelete == null || entitiesToDelete.isEmpty()) {
+      return 0;
+    }
+    Preconditions.checkArgument(
+        entitiesToDelete.stream().map(Pair::getRight).distinct().count() == 1,
+        "All entities must be of the same type for batch delete operation.");
+    Entity.EntityType entityType = entitiesToDelete.get(0).getRight();
+    checkBatchSupported(entityType, "delete");
+    Preconditions.checkArgument(cascade, "Batch delete for statistics must be cascade deleted.");
+    Namespace namespace = entitiesToDelete.get(0).getLeft().namespace();
+    Preconditions.checkArgument(
+        entitiesToDelete.stream().allMatch(pair -> pair.getLeft().namespace().equals(namespace)),
+        "All entities must be in the same namespace for batch delete operation.");
+
+    lock.writeLock().lock();
+    try {
+      long[] ancestorIds = resolveAncestors(namespace, entityType);
+      KvStorage.WriteBatch batch = new KvStorage.WriteBatch();
+      int deleted = 0;
+      for (Pair<NameIdentifier, Entity.EntityType> entity : entitiesToDelete) {
+        String key = entityKey(entityType, parentId(ancestorIds), entity.getLeft().name());
+        byte[] value = storage.get(key);
+        if (value != null) {
+          removeEntity(batch, entityType, key, value);
+          deleted++;
+        }
+      }
+      storage.write(batch);
+      return deleted;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> void batchPut(List<E> entities, boolean overwritten)
+      throws IOException, EntityAlreadyExistsException {
+    if (entities.isEmpty()) {
+      return;
+    }
+    Preconditions.checkArgument(
+        entities.stream().map(Entity::type).distinct().count() == 1,
+        "All entities must be of the same type for batchPut operation.");
+    Entity.EntityType entityType = entities.get(0).type();
+    checkBatchSupported(entityType, "put");
+    Preconditions.checkArgument(overwritten, "Batch put for statistics must be overwritten.");
+    Namespace namespace = entities.get(0).namespace();
+    Preconditions.checkArgument(
+        entities.stream().allMatch(e -> e.namespace().equals(namespace)),
+        "All entities must be in the same namespace for batchPut operation.");
+
+    lock.writeLock().lock();
+    try {
+      long[] ancestorIds = resolveAncestors(namespace, entityType);
+      KvStorage.WriteBatch batch = new KvStorage.WriteBatch();
+      for (E e : entities) {
+        String key = entityKey(entityType, parentId(ancestorIds), e.name());
+        byte[] oldValue = storage.get(key);
+        if (oldValue != null && idOf(oldValue) != e.id()) {
+          removeEntity(batch, entityType, key, oldValue);
+        }
+        putEntity(batch, e, ancestorIds, key);
+      }
+      storage.write(batch);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public int hardDeleteLegacyData(Entity.EntityType entityType, long legacyTimeline)
+      throws IOException {
+    // The entities are deleted physically, the garbage collection compacts the log instead. Only
+    // the finished jobs are deleted after the legacy timeline, the same as the JDBC backend.
+    int deleted = entityType == JOB ? deleteFinishedJobs(legacyTimeline) : 0;
+    storage.compactIfNeeded(compactionThresholdBytes);
+    return deleted;
+  }
+
+  @Override
+  public int deleteOldVersionData(Entity.EntityType entityType, long versionRetentionCount)
+      throws IOException {
+    // The old versions of the entities are not kept.
+    return 0;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (storage != null) {
+      storage.close();
+    }
+  }
+
+  @Override
+  public List<MetadataObject> listAssociatedMetadataObjectsForTag(NameIdentifier tagIdent)
+      throws IOException {
+    lock.readLock().lock();
+    try {
+      List<MetadataObject> metadataObjects = Lists.newArrayList();
+      for (Pair<Entity.EntityType, Long> object : listAssociatedObjects(TAG_REL, tagIdent)) {
+        identOf(object.getLeft(), object.getRight())
+            .ifPresent(
+                ident ->
+                    metadataObjects.add(
+                        NameIdentifierUtil.toMetadataObject(ident, object.getLeft())));
+      }
+      return metadataObjects;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public List<TagEntity> listAssociatedTagsForMetadataObject(
+      NameIdentifier objectIdent, Entity.EntityType objectType)
+      throws NoSuchEntityException, IOException {
+    lock.readLock().lock();
+    try {
+      return listAssociatedEntities(TAG_REL, objectIdent, objectType);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public TagEntity getTagForMetadataObject(
+      NameIdentifier objectIdent, Entity.EntityType objectType, NameIdentifier tagIdent)
+      throws NoSuchEntityException, IOException {
+    lock.readLock().lock();
+    try {
+      return getAssociatedEntity(TAG_REL, objectIdent, objectType, tagIdent);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public List<TagEntity> associateTagsWithMetadataObject(
+      NameIdentifier objectIdent,
+      Entity.EntityType objectType,
+      NameIdentifier[] tagsToAdd,
+      NameIdentifier[] tagsToRemove)
+      throws NoSuchEntityException, EntityAlreadyExistsException, IOException {
+    lock.writeLock().lock();
+    try {
+      return associateEntities(TAG_REL, objectIdent, objectType, tagsToAdd, tagsToRemove);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> listEntitiesByRelation(
+      Type relType, NameIdentifier nameIdentifier, Entity.EntityType identType, boolean allFields)
+      throws IOException {
+    checkPolicyRelation(relType);
+    lock.readLock().lock();
+    try {
+      if (identType == POLICY) {
+        List<E> entities = Lists.newArrayList();
+        for (Pair<Entity.EntityType, Long> object :
+            listAssociatedObjects(POLICY_REL, nameIdentifier)) {
+          entities.add(
+              (E)
+                  GenericEntity.builder()
+                      .withId(object.getRight())
+                      .withEntityType(object.getLeft())
+                      .build());
+        }
+        return entities;
+      }
+      return listAssociatedEntities(POLICY_REL, nameIdentifier, identType);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> E getEntityByRelation(
+      Type relType,
+      NameIdentifier srcIdentifier,
+      Entity.EntityType srcType,
+      NameIdentifier destEntityIdent)
+      throws IOException, NoSuchEntityException {
+    checkPolicyRelation(relType);
+    lock.readLock().lock();
+    try {
+      return getAssociatedEntity(POLICY_REL, srcIdentifier, srcType, destEntityIdent);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public void insertRelation(
+      Type relType,
+      NameIdentifier srcIdentifier,
+      Entity.EntityType srcType,
+      NameIdentifier dstIdentifier,
+      Entity.EntityType dstType,
+      boolean override) {
+    throw new IllegalArgumentException(
+        String.format("Doesn't support the relation type %s", relType));
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> updateEntityRelations(
+      Type relType,
+      NameIdentifier srcEntityIdent,
+      Entity.EntityType srcEntityType,
+      NameIdentifier[] destEntitiesToAdd,
+      NameIdentifier[] destEntitiesToRemove)
+      throws IOException, NoSuchEntityException, EntityAlreadyExistsException {
+    checkPolicyRelation(relType);
+    lock.writeLock().lock();
+    try {
+      return associateEntities(
+          POLICY_REL, srcEntityIdent, srcEntityType, destEntitiesToAdd, destEntitiesToRemove);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private <E extends Entity & HasIdentifier> List<E> listAssociatedEntities(
+      char relation, NameIdentifier objectIdent, Entity.EntityType objectType) throws IOException {
+    Entity.EntityType targetType = relation == TAG_REL ? TAG : POLICY;
+    String prefix = relationPrefix(relation, objectType, objectId(objectIdent, objectType));
+    Namespace namespace = targetNamespace(relation, objectIdent.namespace().level(0));
+
+    List<E> entities = Lists.newArrayList();
+    for (String key : storage.scan(prefix).keySet()) {
+      long targetId = parseId(key.substring(prefix.length()));
+      byte[] value = valueById(targetType, targetId);
+      if (value != null) {
+        entities.add(decode(targetType, value, namespace, true));
+      }
+    }
+    return entities;
+  }
+
+  private <E extends Entity & HasIdentifier> E getAssociatedEntity(
+      char relation,
+      NameIdentifier objectIdent,
+      Entity.EntityType objectType,
+      NameIdentifier targetIdent)
+      throws IOException {
+    Entity.EntityType targetType = relation == TAG_REL ? TAG : POLICY;
+    long objectId = objectId(objectIdent, objectType);
+    byte[] value = findValue(targetIdent, targetType);
+    if (value == null
+        || storage.get(relationKey(relation, objectType, objectId, idOf(value))) == null) {
+      throw noSuchEntity(targetType, targetIdent.name());
+    }
+    return decode(
+        targetType, value, targetNamespace(relation, objectIdent.namespace().level(0)), true);
+  }
+
+  private List<Pair<Entity.EntityType, Long>> listAssociatedObjects(
+      char relation, NameIdentifier targetIdent) {
+    byte[] value = findValue(targetIdent, relation == TAG_REL ? TAG : POLICY);
+    if (value == null) {
+      return Collections.emptyList();
+    }
+
+    String prefix = reverseRelationPrefix(relation, idOf(value));
+    List<Pair<Entity.EntityType, Long>> objects = Lists.newArrayList();
+    for (String key : storage.scan(prefix).keySet()) {
+      String[] parts = key.substring(prefix.length()).split("/", 2);
+      objects.add(Pair.of(Entity.EntityType.valueOf(parts[0]), parseId(parts[1])));
+    }
+    return objects;
+  }
+
+  private <E extends Entity & HasIdentifier> List<E> associateEntities(
+      char relation,
+      NameIdentifier objectIdent,
+      Entity.EntityType objectType,
+      NameIdentifier[] targetsToAdd,
+      NameIdentifier[] targetsToRemove)
+      throws IOException {
+    Entity.EntityType targetType = relation == TAG_REL ? TAG : POLICY;
+    long objectId = objectId(objectIdent, objectType);
+
+    // The absent targets are ignored, the same as the JDBC backend.
+    KvStorage.WriteBatch batch = new KvStorage.WriteBatch();
+    for (NameIdentifier targetIdent : targetsToAdd) {
+      byte[] value = findValue(targetIdent, targetType);
+      if (value == null) {
+        continue;
+      }
+      long targetId = idOf(value);
+      String key = relationKey(relation, objectType, objectId, targetId);
+      if (storage.get(key) != null) {
+        throw new EntityAlreadyExistsException(
+            "The %s entity: %s already exists.", targetType.name(), objectIdent);
+      }
+      batch.put(key, EMPTY_VALUE);
+      batch.put(reverseRelationKey(relation, objectType, objectId, targetId), EMPTY_VALUE);
+    }
+    for (NameIdentifier targetIdent : targetsToRemove) {
+      byte[] value = findValue(targetIdent, targetType);
+      if (value != null) {
+        long targetId = idOf(value);
+        batch.delete(relationKey(relation, objectType, objectId, targetId));
+        batch.delete(reverseRelationKey(relation, objectType, objectId, targetId));
+      }
+    }
+    storage.write(batch);
+
+    return listAssociatedEntities(relation, objectIdent, objectType);
+  }
+
+  private void insertModelVersion(ModelVersionEntity modelVersion) throws IOException {
+    NameIdentifier modelIdent = modelVersion.modelIdentifier();
+    long[] ancestorIds = resolveAncestors(modelIdent.namespace(), MODEL);
+    String modelKey = entityKey(MODEL, parentId(ancestorIds), modelIdent.name());
+    byte[] modelValue = storage.get(modelKey);
+    if (modelValue == null) {
+      throw noSuchEntity(MODEL, modelIdent.name());
+    }
+
+    // The version number is assigned from the latest version of the model rather than the
+    // version of the entity, the same as the JDBC backend.
+    ModelPO modelPO = decodeValue(modelValue, ModelPO.class);
+    ModelEntity model = POConverters.fromModelPO(modelPO, modelIdent.namespace());
+    ModelVersionEntity newModelVersion =
+        ModelVersionEntity.builder()
+            .withModelIdentifier(modelIdent)
+            .withVersion(model.latestVersion())
+            .withComment(modelVersion.comment())
+            .withAliases(modelVersion.aliases())
+            .withUris(modelVersion.uris())
+            .withProperties(modelVersion.properties())
+            .withAuditInfo(modelVersion.auditInfo())
+            .build();
+    if (storage.get(entityKey(MODEL_VERSION, model.id(), hex(model.latestVersion()))) != null) {
+      throw new EntityAlreadyExistsException(
+          "The %s entity: %s already exists.",
+          MODEL_VERSION.name(), newModelVersion.nameIdentifier());
+    }
+    ModelEntity newModel =
+        ModelEntity.builder()
+            .withId(model.id())
+            .withName(model.name())
+            .withNamespace(model.namespace())
+            .withComment(model.comment())
+            .withLatestVersion(model.latestVersion() + 1)
+            .withProperties(model.properties())
+            .withAuditInfo(model.auditInfo())
+            .build();
+
+    KvStorage.WriteBatch batch = new KvStorage.WriteBatch();
+    putModelVersion(batch, model.id(), Collections.emptyList(), newModelVersion);
+    batch.put(modelKey, encodeValue(model.id(), POConverters.updateModelPO(modelPO, newModel)));
+    storage.write(batch);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <E extends Entity & HasIdentifier> E updateModelVersion(
+      NameIdentifier ident, Function<E, E> updater) throws IOException {
+    long[] ancestorIds = resolveAncestors(ident.namespace(), MODEL_VERSION);
+    long modelId = parentId(ancestorIds);
+    String key = lookupKey(MODEL_VERSION, modelId, ident.name());
+    byte[] oldValue = key == null ? null : storage.get(key);
+    if (oldValue == null) {
+      throw noSuchEntity(MODEL_VERSION, ident.toString());
+    }
+
+    ModelVersionEntity oldModelVersion = decode(MODEL_VERSION, oldValue, ident.namespace(), true);
+    ModelVersionEntity newModelVersion = (ModelVersionEntity) updater.apply((E) oldModelVersion);
+    Preconditions.checkArgument(
+        Objects.equals(oldModelVersion.version(), newModelVersion.version()),
+        "The updated model version: %s should be same with the model version before: %s",
+        newModelVersion.version(),
+        oldModelVersion.version());
+
+    KvStorage.WriteBatch batch = new KvStorage.WriteBatch();
+    putModelVersion(batch, modelId, oldModelVersion.aliases(), newModelVersion);
+    storage.write(batch);
+    return (E) newModelVersion;
+  }
+
+  private void putModelVersion(
+      KvStorage.WriteBatch batch,
+      long modelId,
+      List<String> oldAliases,
+      ModelVersionEntity modelVersion)
+      throws IOException {
+    String version = hex(modelVersion.version());
+    for (String alias : oldAliases) {
+      batch.delete(aliasKey(modelId, alias));
+    }
+    for (String alias : modelVersion.aliases()) {
+      byte[] ref = storage.get(aliasKey(modelId, alias));
+      if (ref != null && !version.equals(new String(ref, StandardCharsets.UTF_8))) {
+        throw new EntityAlreadyExistsException(
+            "The %s entity: %s already exists.",
+            MODEL_VERSION.name(), NameIdentifier.of(modelVersion.namespace(), alias));
+      }
+      batch.put(aliasKey(modelId, alias), version.getBytes(StandardCharsets.UTF_8));
+    }
+
+    ModelVersionValue value =
+        new ModelVersionValue(
+            POConverters.initializeModelVersionPO(modelVersion, modelId),
+            POConverters.initializeModelVersionAliasRelPO(modelVersion, modelId));
+    batch.put(
+        entityKey(MODEL_VERSION, modelId, version), encodeValue(modelVersion.version(), value));
+  }
+
+  // Resolves the ids of the ancestors of the entities in the namespace, from the metalake down to
+  // the parent of the entities.
+  private long[] resolveAncestors(Namespace namespace, Entity.EntityType entityType) {
+    List<Entity.EntityType> ancestorTypes = Lists.newArrayList();
+    for (Entity.EntityType type = PARENT_TYPES.get(entityType);
+        type != null;
+        type = PARENT_TYPES.get(type)) {
+      ancestorTypes.add(0, type);
+    }
+
+    long[] ids = new long[ancestorTypes.size()];
+    long parentId = ROOT_ID;
+    for (int i = 0; i < ids.length; i++) {
+      Entity.EntityType type = ancestorTypes.get(i);
+      byte[] value = storage.get(entityKey(type, parentId, namespace.level(i)));
+      if (value == null) {
+        throw noSuchEntity(type, namespace.level(i));
+      }
+      parentId = ids[i] = idOf(value);
+    }
+    return ids;
+  }
+
+  private byte[] findValue(NameIdentifier ident, Entity.EntityType entityType) {
+    try {
+      return requireValue(ident, entityType);
+    } catch (NoSuchEntityException e) {
+      return null;
+    }
+  }
+
+  private byte[] requireValue(NameIdentifier ident, Entity.EntityType entityType) {
+    long[] ancestorIds = resolveAncestors(ident.namespace(), entityType);
+    String key = lookupKey(entityType, parentId(ancestorIds), ident.name());
+    byte[] value = key == null ? null : storage.get(key);
+    if (value == null) {
+      throw noSuchEntity(entityType, ident.name());
+    }
+    return value;
+  }
+
+  // The key of the entity with the name, a model version is named by either its version number or
+  // one of its aliases, it is null if the alias is absent.
+  private String lookupKey(Entity.EntityType entityType, long parentId, String name) {
+    if (entityType != MODEL_VERSION || NumberUtils.isCreatable(name)) {
+      return entityKey(entityType, parentId, versionName(entityType, name));
+    }
+
+    byte[] version = storage.get(aliasKey(parentId, name));
+    return version == null
+        ? null
+        : entityKey(entityType, parentId, new String(version, StandardCharsets.UTF_8));
+  }
+
+  private byte[] valueById(Entity.EntityType entityType, long id) {
+    byte[] ref = storage.get(idKey(entityType, id));
+    if (ref == null) {
+      return null;
+    }
+    String parentAndName = new String(ref, StandardCharsets.UTF_8);
+    return storage.get("e/" + entityType + "/" + parentAndName);
+  }
+
+  // The id of a metadata object which tags and policies are associated with, the columns are
+  // looked up in the table.
+  private long objectId(NameIdentifier ident, Entity.EntityType entityType) throws IOException {
+    if (entityType != COLUMN) {
+      checkSupported(entityType, "association");
+      return idOf(requireValue(ident, entityType));
+    }
+
+    NameIdentifier tableIdent = NameIdentifier.of(ident.namespace().levels());
+    TableEntity table =
+        decode(TABLE, requireValue(tableIdent, TABLE), tableIdent.namespace(), true);
+    return table.columns().stream()
+        .filter(column -> column.name().equals(ident.name()))
+        .findFirst()
+        .orElseThrow(() -> noSuchEntity(COLUMN, ident.name()))
+        .id();
+  }
+
+  // Resolves the full identifier of the entity with the id, it is empty if the entity is deleted.
+  private Optional<NameIdentifier> identOf(Entity.EntityType entityType, long id) {
+    byte[] ref = storage.get(idKey(entityType, id));
+    if (ref == null) {
+      return Optional.empty();
+    }
+
+    String parentAndName = new String(ref, StandardCharsets.UTF_8);
+    int separator = parentAndName.indexOf('/');
+    String name = parentAndName.substring(separator + 1);
+    Entity.EntityType parentType = PARENT_TYPES.get(entityType);
+    if (parentType == null) {
+      return Optional.of(NameIdentifier.of(name));
+    }
+
+    return identOf(parentType, parseId(parentAndName.substring(0, separator)))
+        .map(
+            parent ->
+                NameIdentifier.of(
+                    Namespace.of(ArrayUtils.add(parent.namespace().levels(), parent.name())),
+                    name));
+  }
+
+  private boolean hasSubEntities(Entity.EntityType entityType, long id) {
+    for (Entity.EntityType childType : CHILD_TYPES.getOrDefault(entityType, ImmutableList.of())) {
+      if (!OWNED_TYPES.contains(childType)
+          && !storage.scan(entityPrefix(childType, id)).isEmpty()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void removeTree(
+      KvStorage.WriteBatch batch, Entity.EntityType entityType, String key, byte[] value) {
+    long id = idOf(value);
+    for (Entity.EntityType childType : CHILD_TYPES.getOrDefault(entityType, ImmutableList.of())) {
+      for (Map.Entry<String, byte[]> child : storage.scan(entityPrefix(childType, id)).entrySet()) {
+        removeTree(batch, childType, child.getKey(), child.getValue());
+      }
+    }
+    removeEntity(batch, entityType, key, value);
+  }
+
+  private void removeEntity(
+      KvStorage.WriteBatch batch, Entity.EntityType entityType, String key, byte[] value) {
+    long id = idOf(value);
+    batch.delete(key);
+    batch.delete(idKey(entityType, id));
+    removeRelations(batch, entityType, id);
+
+    if (entityType == TABLE) {
+      for (ColumnPO column : decodeValue(value, TableValue.class).columns) {
+        batch.delete(idKey(COLUMN, column.getColumnId()));
+        removeRelations(batch, COLUMN, column.getColumnId());
+      }
+    } else if (entityType == MODEL_VERSION) {
+      for (ModelVersionAliasRelPO alias : decodeValue(value, ModelVersionValue.class).aliases) {
+        batch.delete(aliasKey(alias.getModelId(), alias.getModelVersionAlias()));
+      }
+    }
+  }
+
+  private void removeJobs(KvStorage.WriteBatch batch, long metalakeId, String jobTemplateName) {
+    for (Map.Entry<String, byte[]> job : storage.scan(entityPrefix(JOB, metalakeId)).entrySet()) {
+      if (jobTemplateName.equals(decodeValue(job.getValue(), JobPO.class).jobTemplateName())) {
+        removeEntity(batch, JOB, job.getKey(), job.getValue());
+      }
+    }
+  }
+
+  private int deleteFinishedJobs(long legacyTimeline) throws IOException {
+    lock.writeLock().lock();
+    try {
+      KvStorage.WriteBatch batch = new KvStorage.WriteBatch();
+      int deleted = 0;
+      for (Map.Entry<String, byte[]> job : storage.scan("e/" + JOB + "/").entrySet()) {
+        long finishedAt = decodeValue(job.getValue(), JobPO.class).jobFinishedAt();
+        if (finishedAt > 0 && finishedAt < legacyTimeline) {
+          removeEntity(batch, JOB, job.getKey(), job.getValue());
+          deleted++;
+        }
+      }
+      if (deleted > 0) {
+        storage.write(batch);
+      }
+      return deleted;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void removeDroppedColumns(
+      KvStorage.WriteBatch batch, byte[] oldValue, TableEntity newTable) {
+    Set<Long> columnIds = Sets.newHashSet();
+    for (ColumnEntity column : newTable.columns()) {
+      columnIds.add(column.id());
+    }
+    for (ColumnPO column : decodeValue(oldValue, TableValue.class).columns) {
+      if (!columnIds.contains(column.getColumnId())) {
+        batch.delete(idKey(COLUMN, column.getColumnId()));
+        removeRelations(batch, COLUMN, column.getColumnId());
+      }
+    }
+  }
+
+  private void removeRelations(KvStorage.WriteBatch batch, Entity.EntityType entityType, long id) {
+    if (entityType == TAG || entityType == POLICY) {
+      char relation = entityType == TAG ? TAG_REL : POLICY_REL;
+      String prefix = reverseRelationPrefix(relation, id);
+      for (String key : storage.scan(prefix).keySet()) {
+        String[] parts = key.substring(prefix.length()).split("/", 2);
+        batch.delete(key);
+        batch.delete(
+            relationKey(relation, Entity.EntityType.valueOf(parts[0]), parseId(parts[1]), id));
+      }
+      return;
+    }
+
+    for (char relation : new char[] {TAG_REL, POLICY_REL}) {
+      String prefix = relationPrefix(relation, entityType, id);
+      for (String key : storage.scan(prefix).keySet()) {
+        batch.delete(key);
+        batch.delete(
+            reverseRelationKey(relation, entityType, id, parseId(key.substring(prefix.length()))));
+      }
+    }
+  }
+
+  private void putEntity(
+      KvStorage.WriteBatch batch, Entity entity, long[] ancestorIds, String key)
+      throws IOException {
+    HasIdentifier identifier = (HasIdentifier) entity;
+    long parentId = parentId(ancestorIds);
+    batch.put(key, encode(entity, ancestorIds));
+    batch.put(idKey(entity.type(), identifier.id()), ref(parentId, identifier.name()));
+
+    if (entity.type() == TABLE) {
+      for (ColumnEntity column : ((TableEntity) entity).columns()) {
+        batch.put(idKey(COLUMN, column.id()), ref(identifier.id(), column.name()));
+      }
+    }
+  }
+
+  private byte[] encode(Entity entity, long[] ancestorIds) throws IOException {
+    Object po;
+    switch (entity.type()) {
+      case METALAKE:
+        po = POConverters.initializeMetalakePOWithVersion((BaseMetalake) entity);
+        break;
+      case CATALOG:
+        po = POConverters.initializeCatalogPOWithVersion((CatalogEntity) entity, ancestorIds[0]);
+        break;
+      case SCHEMA:
+        po =
+            POConverters.initializeSchemaPOWithVersion(
+                (SchemaEntity) entity,
+                SchemaPO.builder().withMetalakeId(ancestorIds[0]).withCatalogId(ancestorIds[1]));
+        break;
+      case TABLE:
+        TableEntity table = (TableEntity) entity;
+        TablePO tablePO =
+            POConverters.initializeTablePOWithVersion(
+                table,
+                TablePO.builder()
+                    .withMetalakeId(ancestorIds[0])
+                    .withCatalogId(ancestorIds[1])
+                    .withSchemaId(ancestorIds[2]));
+        po =
+            new TableValue(
+                tablePO,
+                POConverters.initializeColumnPOs(
+                    tablePO, table.columns(), ColumnPO.ColumnOpType.CREATE));
+        break;
+      case FILESET:
+        po =
+            POConverters.initializeFilesetPOWithVersion(
+                (FilesetEntity) entity,
+                FilesetPO.builder()
+                    .withMetalakeId(ancestorIds[0])
+                    .withCatalogId(ancestorIds[1])
+                    .withSchemaId(ancestorIds[2]));
+        break;
+      case TOPIC:
+        po =
+            POConverters.initializeTopicPOWithVersion(
+                (TopicEntity) entity,
+                TopicPO.builder()
+                    .withMetalakeId(ancestorIds[0])
+                    .withCatalogId(ancestorIds[1])
+                    .withSchemaId(ancestorIds[2]));
+        break;
+      case MODEL:
+        po =
+            POConverters.initializeModelPO(
+                (ModelEntity) entity,
+                ModelPO.builder()
+                    .withMetalakeId(ancestorIds[0])
+                    .withCatalogId(ancestorIds[1])
+                    .withSchemaId(ancestorIds[2]));
+        break;
+      case TAG:
+        po =
+            POConverters.initializeTagPOWithVersion(
+                (TagEntity) entity, TagPO.builder().withMetalakeId(ancestorIds[0]));
+        break;
+      case POLICY:
+        po =
+            POConverters.initializePolicyPOWithVersion(
+                (PolicyEntity) entity, PolicyPO.builder().withMetalakeId(ancestorIds[0]));
+        break;
+      case TABLE_STATISTIC:
+        po =
+            StatisticPO.initializeStatisticPOs(
+                    ImmutableList.of((StatisticEntity) entity),
+                    ancestorIds[0],
+                    ancestorIds[3],
+                    MetadataObject.Type.TABLE)
+                .get(0);
+        break;
+      case JOB_TEMPLATE:
+        po =
+            JobTemplatePO.initializeJobTemplatePO(
+                (JobTemplateEntity) entity, JobTemplatePO.builder().withMetalakeId(ancestorIds[0]));
+        break;
+      case JOB:
+        po =
+            JobPO.initializeJobPO(
+                (JobEntity) entity, JobPO.builder().withMetalakeId(ancestorIds[0]));
+        break;
+      default:
+        throw new UnsupportedEntityTypeException(
+            "Unsupported entity type: %s for insert operation", entity.type());
+    }
+
+    return encodeValue(((HasIdentifier) entity).id(), po);
+  }
+
+  private static byte[] encodeValue(long id, Object po) throws IOException {
+    byte[] json = MAPPER.writeValueAsBytes(po);
+    return ByteBuffer.allocate(Long.BYTES + json.length).putLong(id).put(json).array();
+  }
+
+  @SuppressWarnings("unchecked")
+  private <E extends Entity & HasIdentifier> E decode(
+      Entity.EntityType entityType, byte[] value, Namespace namespace, boolean allFields) {
+    switch (entityType) {
+      case METALAKE:
+        return (E) POConverters.fromMetalakePO(decodeValue(value, MetalakePO.class));
+      case CATALOG:
+        return (E) POConverters.fromCatalogPO(decodeValue(value, CatalogPO.class), namespace);
+      case SCHEMA:
+        return (E) POConverters.fromSchemaPO(decodeValue(value, SchemaPO.class), namespace);
+      case TABLE:
+        TableValue table = decodeValue(value, TableValue.class);
+        return (E)
+            POConverters.fromTableAndColumnPOs(
+                table.table, allFields ? table.columns : Collections.emptyList(), namespace);
+      case FILESET:
+        return (E) POConverters.fromFilesetPO(decodeValue(value, FilesetPO.class), namespace);
+      case TOPIC:
+        return (E) POConverters.fromTopicPO(decodeValue(value, TopicPO.class), namespace);
+      case MODEL:
+        return (E) POConverters.fromModelPO(decodeValue(value, ModelPO.class), namespace);
+      case MODEL_VERSION:
+        ModelVersionValue modelVersion = decodeValue(value, ModelVersionValue.class);
+        return (E)
+            POConverters.fromModelVersionPO(
+                NameIdentifier.of(namespace.levels()), modelVersion.versions, modelVersion.aliases);
+      case TAG:
+        return (E) POConverters.fromTagPO(decodeValue(value, TagPO.class), namespace);
+      case POLICY:
+        return (E) POConverters.fromPolicyPO(decodeValue(value, PolicyPO.class), namespace);
+      case TABLE_STATISTIC:
+        return (E) StatisticPO.fromStatisticPO(decodeValue(value, StatisticPO.class));
+      case JOB_TEMPLATE:
+        return (E)
+            JobTemplatePO.fromJobTemplatePO(decodeValue(value, JobTemplatePO.class), namespace);
+      case JOB:
+        return (E) JobPO.fromJobPO(decodeValue(value, JobPO.class), namespace);
+      default:
+        throw new UnsupportedEntityTypeException(
+            "Unsupported entity type: %s for get operation", entityType);
+    }
+  }
+
+  private static <T> T decodeValue(byte[] value, Class<T> clazz) {
+    try {
+      return MAPPER.readValue(value, Long.BYTES, value.length - Long.BYTES, clazz);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to deserialize the entity:", e);
+    }
+  }
+
+  private static Namespace targetNamespace(char relation, String metalake) {
+    return relation == TAG_REL ? NamespaceUtil.ofTag(metalake) : NamespaceUtil.ofPolicy(metalake);
+  }
+
+  private static void checkSupported(Entity.EntityType entityType, String operation) {
+    if (!SUPPORTED_TYPES.contains(entityType)) {
+      throw new UnsupportedEntityTypeException(
+          "Unsupported entity type: %s for %s operation", entityType, operation);
+    }
+  }
+
+  private static void checkBatchSupported(Entity.EntityType entityType, String operation) {
+    if (entityType != TABLE_STATISTIC) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Batch %s is not supported for entity type %s", operation, entityType.name()));
+    }
+  }
+
+  private static void checkPolicyRelation(Type relType) {
+    if (relType != Type.POLICY_METADATA_OBJECT_REL) {
+      throw new IllegalArgumentException(
+          String.format("Doesn't support the relation type %s", relType));
+    }
+  }
+
+  private static NoSuchEntityException noSuchEntity(Entity.EntityType entityType, String name) {
+    return new NoSuchEntityException(
+        NoSuchEntityException.NO_SUCH_ENTITY_MESSAGE, entityType.name().toLowerCase(), name);
+  }
+
+  private static long idOf(byte[] value) {
+    return ByteBuffer.wrap(value).getLong();
+  }
+
+  private static long parentId(long[] ancestorIds) {
+    return ancestorIds.length == 0 ? ROOT_ID : ancestorIds[ancestorIds.length - 1];
+  }
+
+  private static String hex(long id) {
+    return Strings.padStart(Long.toHexString(id), 16, '0');
+  }
+
+  private static long parseId(String hex) {
+    return Long.parseUnsignedLong(hex, 16);
+  }
+
+  private static byte[] ref(long parentId, String name) {
+    return (hex(parentId) + "/" + name).getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static String entityPrefix(Entity.EntityType entityType, long parentId) {
+    return "e/" + entityType + "/" + hex(parentId) + "/";
+  }
+
+  private static String entityKey(Entity.EntityType entityType, long parentId, String name) {
+    return entityPrefix(entityType, parentId) + name;
+  }
+
+  private static String idKey(Entity.EntityType entityType, long id) {
+    return "i/" + entityType + "/" + hex(id);
+  }
+
+  private static String aliasKey(long modelId, String alias) {
+    return "a/" + hex(modelId) + "/" + alias;
+  }
+
+  // The model versions are named by the version number in the keys, in the same width as the ids
+  // so that they are listed in order.
+  private static String versionName(Entity.EntityType entityType, String name) {
+    return entityType == MODEL_VERSION ? hex(Integer.parseInt(name)) : name;
+  }
+
+  private static String relationPrefix(char relation, Entity.EntityType objectType, long objectId) {
+    return relation + "/" + objectType + "/" + hex(objectId) + "/";
+  }
+
+  private static String relationKey(
+      char relation, Entity.EntityType objectType, long objectId, long targetId) {
+    return relationPrefix(relation, objectType, objectId) + hex(targetId);
+  }
+
+  private static String reverseRelationPrefix(char relation, long targetId) {
+    return Character.toUpperCase(relation) + "/" + hex(targetId) + "/";
+  }
+
+  private static String reverseRelationKey(
+      char relation, Entity.EntityType objectType, long objectId, long targetId) {
+    return reverseRelationPrefix(relation, targetId) + objectType + "/" + hex(objectId);
+  }
+
+  // A table is stored along with its columns in a single value.
+  private static class TableValue {
+    private TablePO table;
+    private List<ColumnPO> columns;
+
+    @SuppressWarnings("unused")
+    private TableValue() {}
+
+    private TableValue(TablePO table, List<ColumnPO> columns) {
+      this.table = table;
+      this.columns = columns;
+    }
+  }
+
+  // A model version is stored along with its URIs and aliases in a single value.
+  private static class ModelVersionValue {
+    private List<ModelVersionPO> versions;
+    private List<ModelVersionAliasRelPO> aliases;
+
+    @SuppressWarnings("unused")
+    private ModelVersionValue() {}
+
+    private ModelVersionValue(List<ModelVersionPO> versions, List<ModelVersionAliasRelPO> aliases) {
+      this.versions = versions;
+      this.aliases = aliases;
+    }
+  }
+}
@@ -0,0 +1,371 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.kv;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An embedded ordered key-value storage. All the key-values are kept in a sorted in-memory map, so
+ * that a point lookup is a map lookup and a prefix scan is a range of the map. Every write batch
+ * is appended to a log file before it is applied to the map, and the log is compacted into a
+ * snapshot file once it grows beyond a threshold.
+ *
+ * <p>Every record of the log and the snapshot is {@code [int length][int crc32][payload]}, the
+ * payload is a list of put or delete operations which are applied atomically. A torn record at the
+ * tail of the log, which is left by a crash in the middle of a write, is truncated on recovery.
+ * Since the operations are idempotent, the log written before the latest snapshot can be replayed
+ * again safely if the storage crashes between writing the snapshot and truncating the log.
+ *
+ * <p>If appending a record fails, the partially written record is truncated from the log before the
+ * failure is thrown, so that the later records are not appended after a torn record and dropped on
+ * recovery. If the truncation fails as well, the storage refuses all the later writes.
+ */
+public class KvStorage implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(KvStorage.class);
+
+  @VisibleForTesting static final String LOG_FILE = "entity.log";
+  @VisibleForTesting static final String SNAPSHOT_FILE = "entity.snapshot";
+  private static final String SNAPSHOT_TMP_FILE = "entity.snapshot.tmp";
+
+  private static final byte OP_PUT = 1;
+  private static final byte OP_DELETE = 2;
+  private static final int RECORD_HEADER_SIZE = 8;
+  private static final int SNAPSHOT_RECORD_ENTRIES = 1024;
+
+  private final ConcurrentSkipListMap<String, byte[]> data = new ConcurrentSkipListMap<>();
+  private final Path directory;
+  private final boolean syncWrites;
+  private final FileChannel log;
+  private long logSize;
+  private IOException failure;
+
+  /**
+   * Opens the storage in the given directory, the existing snapshot and log are loaded into memory.
+   *
+   * @param directory The directory of the storage files, it is created if absent.
+   * @param syncWrites Whether the log is flushed to the disk before a write returns.
+   * @throws IOException If the storage files cannot be read or created.
+   */
+  public KvStorage(Path directory, boolean syncWrites) throws IOException {
+    this.directory = directory;
+    this.syncWrites = syncWrites;
+    Files.createDirectories(directory);
+    Files.deleteIfExists(directory.resolve(SNAPSHOT_TMP_FILE));
+
+    Path snapshot = directory.resolve(SNAPSHOT_FILE);
+    if (Files.exists(snapshot)) {
+      long validSize = readRecords(snapshot, this::apply);
+      if (validSize != Files.size(snapshot)) {
+        throw new IOException("The snapshot of the key-value storage is corrupted: " + snapshot);
+      }
+    }
+
+    Path logFile = directory.resolve(LOG_FILE);
+    long validSize = Files.exists(logFile) ? readRecords(logFile, this::apply) : 0;
+    this.log =
+        FileChannel.open(
+            logFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    if (validSize != log.size()) {
+      LOG.warn(
+          "Truncate the torn tail of the key-value storage log {} from {} to {} bytes",
+          logFile,
+          log.size(),
+          validSize);
+      log.truncate(validSize);
+      log.force(true);
+    }
+    log.position(validSize);
+    this.logSize = validSize;
+    LOG.info("Opened the key-value storage in {} with {} keys", directory, data.size());
+  }
+
+  /**
+   * @param key The key.
+   * @return The value of the key, or null if the key is absent.
+   */
+  public byte[] get(String key) {
+    return data.get(key);
+  }
+
+  /**
+   * Scans the keys with the given prefix. The result is a live view of the storage in the key
+   * order, it reflects the writes made during the iteration.
+   *
+   * @param prefix The prefix of the keys.
+   * @return The key-values whose key starts with the prefix.
+   */
+  public NavigableMap<String, byte[]> scan(String prefix) {
+    return data.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+  }
+
+  /**
+   * Writes the batch atomically, the batch is either applied as a whole or not at all.
+   *
+   * @param batch The batch of operations to write.
+   * @throws IOException If the batch cannot be appended to the log.
+   */
+  public synchronized void write(WriteBatch batch) throws IOException {
+    if (batch.ops.isEmpty()) {
+      return;
+    }
+
+    if (failure != null) {
+      throw new IOException("The key-value storage log failed and refuses writes", failure);
+    }
+
+    ByteBuffer record = encodeRecord(batch.ops);
+    int size = record.remaining();
+    try {
+      writeFully(log, record);
+      if (syncWrites) {
+        log.force(false);
+      }
+    } catch (IOException e) {
+      rollbackLog(e);
+      throw e;
+    }
+    logSize += size;
+    apply(batch.ops);
+  }
+
+  /**
+   * Compacts the log into a snapshot if the log is larger than the threshold.
+   *
+   * @param thresholdBytes The size of the log in bytes which triggers the compaction.
+   * @return true if the log is compacted, false otherwise.
+   * @throws IOException If the snapshot cannot be written.
+   */
+  public synchronized boolean compactIfNeeded(long thresholdBytes) throws IOException {
+    if (logSize < thresholdBytes) {
+      return false;
+    }
+
+    Path tmp = directory.resolve(SNAPSHOT_TMP_FILE);
+    try (FileChannel snapshot =
+        FileChannel.open(
+            tmp,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE)) {
+      List<Op> ops = Lists.newArrayListWithCapacity(SNAPSHOT_RECORD_ENTRIES);
+      for (Map.Entry<String, byte[]> entry : data.entrySet()) {
+        ops.add(new Op(OP_PUT, entry.getKey(), entry.getValue()));
+        if (ops.size() == SNAPSHOT_RECORD_ENTRIES) {
+          writeFully(snapshot, encodeRecord(ops));
+          ops.clear();
+        }
+      }
+      if (!ops.isEmpty()) {
+        writeFully(snapshot, encodeRecord(ops));
+      }
+      snapshot.force(true);
+    }
+    Files.move(
+        tmp,
+        directory.resolve(SNAPSHOT_FILE),
+        StandardCopyOption.ATOMIC_MOVE,
+        StandardCopyOption.REPLACE_EXISTING);
+
+    LOG.info("Compacted the key-value storage log of {} bytes into a snapshot", logSize);
+    log.truncate(0);
+    log.force(true);
+    logSize = 0;
+    return true;
+  }
+
+  /** @return The size of the log in bytes. */
+  public synchronized long logSize() {
+    return logSize;
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    log.close();
+    data.clear();
+  }
+
+  // Truncates the partially written record, so the next record is appended after the last valid
+  // one. If the log cannot be truncated, later writes would follow a torn record and be dropped on
+  // recovery, so the storage is marked failed instead.
+  private void rollbackLog(IOException cause) {
+    try {
+      log.truncate(logSize);
+      log.position(logSize);
+    } catch (IOException e) {
+      cause.addSuppressed(e);
+      failure = cause;
+      LOG.error("Failed to truncate the key-value storage log, refuse the later writes", e);
+    }
+  }
+
+  private void apply(List<Op> ops) {
+    for (Op op : ops) {
+      if (op.type == OP_PUT) {
+        data.put(op.key, op.value);
+      } else {
+        data.remove(op.key);
+      }
+    }
+  }
+
+  private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
+  private static ByteBuffer encodeRecord(List<Op> ops) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeInt(0); // the length, filled in later
+      out.writeInt(0); // the checksum, filled in later
+      out.writeInt(ops.size());
+      for (Op op : ops) {
+        out.writeByte(op.type);
+        out.writeUTF(op.key);
+        if (op.type == OP_PUT) {
+          out.writeInt(op.value.length);
+          out.write(op.value);
+        }
+      }
+    }
+
+    ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+    int payloadSize = buffer.capacity() - RECORD_HEADER_SIZE;
+    CRC32 crc = new CRC32();
+    crc.update(buffer.array(), RECORD_HEADER_SIZE, payloadSize);
+    buffer.putInt(0, payloadSize);
+    buffer.putInt(4, (int) crc.getValue());
+    return buffer;
+  }
+
+  // Reads the records of the file until the end or the first torn record, returns the size of the
+  // valid records.
+  private static long readRecords(Path file, Consumer<List<Op>> consumer) throws IOException {
+    long fileSize = Files.size(file);
+    long validSize = 0;
+    try (InputStream stream = Files.newInputStream(file);
+        DataInputStream in = new DataInputStream(new BufferedInputStream(stream))) {
+      while (validSize + RECORD_HEADER_SIZE <= fileSize) {
+        int payloadSize = in.readInt();
+        int checksum = in.readInt();
+        if (payloadSize < 0 || validSize + RECORD_HEADER_SIZE + payloadSize > fileSize) {
+          break;
+        }
+
+        byte[] payload = new byte[payloadSize];
+        in.readFully(payload);
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        if ((int) crc.getValue() != checksum) {
+          break;
+        }
+
+        consumer.accept(decodePayload(payload));
+        validSize += RECORD_HEADER_SIZE + payloadSize;
+      }
+    } catch (EOFException e) {
+      // A torn record, the valid size stops before it.
+    }
+    return validSize;
+  }
+
+  private static List<Op> decodePayload(byte[] payload) throws IOException {
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+      int count = in.readInt();
+      List<Op> ops = Lists.newArrayListWithCapacity(count);
+      for (int i = 0; i < count; i++) {
+        byte type = in.readByte();
+        String key = in.readUTF();
+        byte[] value = null;
+        if (type == OP_PUT) {
+          value = new byte[in.readInt()];
+          in.readFully(value);
+        }
+        ops.add(new Op(type, key, value));
+      }
+      return ops;
+    }
+  }
+
+  private static class Op {
+    private final byte type;
+    private final String key;
+    private final byte[] value;
+
+    private Op(byte type, String key, byte[] value) {
+      this.type = type;
+      this.key = key;
+      this.value = value;
+    }
+  }
+
+  /** A batch of put and delete operations which are written atomically in order. */
+  public static class WriteBatch {
+    private final List<Op> ops = Lists.newArrayList();
+
+    /**
+     * Puts the key-value, it replaces the existing value of the key.
+     *
+     * @param key The key.
+     * @param value The value.
+     * @return This batch.
+     */
+    public WriteBatch put(String key, byte[] value) {
+      ops.add(new Op(OP_PUT, key, value));
+      return this;
+    }
+
+    /**
+     * Deletes the key, it does nothing if the key is absent.
+     *
+     * @param key The key.
+     * @return This batch.
+     */
+    public WriteBatch delete(String key) {
+      ops.add(new Op(OP_DELETE, key, null));
+      return this;
+    }
+  }
+}
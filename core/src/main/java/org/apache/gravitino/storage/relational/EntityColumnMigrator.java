@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import java.io.Closeable;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.storage.relational.mapper.CatalogMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.EntityColumnMigrationMapper;
+import org.apache.gravitino.storage.relational.mapper.FilesetMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.GroupMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.JobMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.JobTemplateMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.MetalakeMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.ModelMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.ModelVersionMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.PolicyMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.PolicyVersionMapper;
+import org.apache.gravitino.storage.relational.mapper.RoleMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.SchemaMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.StatisticMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.TableColumnMapper;
+import org.apache.gravitino.storage.relational.mapper.TableMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.TagMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.TopicMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.UserMetaMapper;
+import org.apache.gravitino.storage.relational.po.EntityColumnValuePO;
+import org.apache.gravitino.storage.relational.utils.EntityColumnCodec;
+import org.apache.gravitino.storage.relational.utils.SessionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * EntityColumnMigrator re-encodes the existing entity columns with the given {@link
+ * EntityColumnCodec} in the background. It scans each table by the primary key in batches
+ * and stops once all the tables are migrated. A value is only replaced if it's not changed since it
+ * was read, so the migration is safe to run along with the normal entity operations.
+ */
+public final class EntityColumnMigrator implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(EntityColumnMigrator.class);
+
+  private static final List<EntityColumns> ENTITY_COLUMNS =
+      ImmutableList.of(
+          new EntityColumns(
+              MetalakeMetaMapper.TABLE_NAME,
+              "metalake_id",
+              "properties",
+              "audit_info",
+              "schema_version"),
+          new EntityColumns(CatalogMetaMapper.TABLE_NAME, "catalog_id", "properties", "audit_info"),
+          new EntityColumns(SchemaMetaMapper.TABLE_NAME, "schema_id", "properties", "audit_info"),
+          new EntityColumns(TableMetaMapper.TABLE_NAME, "table_id", "audit_info"),
+          new EntityColumns(
+              TableColumnMapper.COLUMN_TABLE_NAME,
+              "id",
+              "column_type",
+              "column_default_value",
+              "audit_info"),
+          new EntityColumns(FilesetMetaMapper.META_TABLE_NAME, "fileset_id", "audit_info"),
+          new EntityColumns(FilesetMetaMapper.VERSION_TABLE_NAME, "id", "properties"),
+          new EntityColumns(TopicMetaMapper.TABLE_NAME, "topic_id", "properties", "audit_info"),
+          new EntityColumns(UserMetaMapper.USER_TABLE_NAME, "user_id", "audit_info"),
+          new EntityColumns(GroupMetaMapper.GROUP_TABLE_NAME, "group_id", "audit_info"),
+          new EntityColumns(RoleMetaMapper.ROLE_TABLE_NAME, "role_id", "properties", "audit_info"),
+          new EntityColumns(TagMetaMapper.TAG_TABLE_NAME, "tag_id", "properties", "audit_info"),
+          new EntityColumns(
+              ModelMetaMapper.TABLE_NAME, "model_id", "model_properties", "audit_info"),
+          new EntityColumns(
+              ModelVersionMetaMapper.TABLE_NAME, "id", "model_version_properties", "audit_info"),
+          new EntityColumns(PolicyMetaMapper.POLICY_META_TABLE_NAME, "policy_id", "audit_info"),
+          new EntityColumns(PolicyVersionMapper.POLICY_VERSION_TABLE_NAME, "id", "content"),
+          new EntityColumns(
+              StatisticMetaMapper.STATISTIC_META_TABLE_NAME, "id", "statistic_value", "audit_info"),
+          new EntityColumns(
+              JobTemplateMetaMapper.TABLE_NAME,
+              "job_template_id",
+              "job_template_content",
+              "audit_info"),
+          new EntityColumns(JobMetaMapper.TABLE_NAME, "job_run_id", "audit_info"));
+
+  private final int batchSize;
+  private final EntityColumnCodec codec;
+  private volatile boolean closed = false;
+
+  @VisibleForTesting
+  final ScheduledExecutorService migratorPool =
+      new ScheduledThreadPoolExecutor(
+          1,
+          r -> {
+            Thread t = new Thread(r, "RelationalBackend-Column-Migrator");
+            t.setDaemon(true);
+            return t;
+          },
+          new ThreadPoolExecutor.AbortPolicy());
+
+  public EntityColumnMigrator(int batchSize, EntityColumnCodec codec) {
+    this.batchSize = batchSize;
+    this.codec = codec;
+  }
+
+  public void start() {
+    // Delay the migration a little to not compete with the server startup.
+    migratorPool.schedule(this::migrate, 1, TimeUnit.MINUTES);
+  }
+
+  @VisibleForTesting
+  long migrate() {
+    LOG.info("Start to migrate the entity columns to the encoding {}", codec.writeFormat());
+    long migratedCount = 0;
+    for (EntityColumns entityColumns : ENTITY_COLUMNS) {
+      for (String column : entityColumns.columns) {
+        try {
+          migratedCount += migrateColumn(entityColumns.tableName, entityColumns.idColumn, column);
+        } catch (RuntimeException e) {
+          LOG.error(
+              "Failed to migrate the column {} of table {}", column, entityColumns.tableName, e);
+        }
+        if (closed) {
+          return migratedCount;
+        }
+      }
+    }
+    LOG.info("Finish migrating the entity columns, {} values are re-encoded", migratedCount);
+    return migratedCount;
+  }
+
+  private long migrateColumn(String tableName, String idColumn, String column) {
+    long migratedCount = 0;
+    long lastId = Long.MIN_VALUE;
+    List<EntityColumnValuePO> values;
+    do {
+      final long afterId = lastId;
+      values =
+          SessionUtils.getWithoutCommit(
+              EntityColumnMigrationMapper.class,
+              mapper ->
+                  mapper.selectColumnValuesAfterId(
+                      tableName, idColumn, column, afterId, batchSize));
+      if (values.isEmpty()) {
+        break;
+      }
+
+      List<EntityColumnValuePO> batch = values;
+      migratedCount +=
+          SessionUtils.doWithCommitAndFetchResult(
+              EntityColumnMigrationMapper.class,
+              mapper -> {
+                int updated = 0;
+                for (EntityColumnValuePO value : batch) {
+                  String newValue = reencode(value.getColumnValue());
+                  if (newValue != null && !newValue.equals(value.getColumnValue())) {
+                    updated +=
+                        mapper.updateColumnValue(
+                            tableName,
+                            idColumn,
+                            column,
+                            value.getId(),
+                            value.getColumnValue(),
+                            newValue);
+                  }
+                }
+                return updated;
+              });
+      lastId = values.get(values.size() - 1).getId();
+    } while (values.size() == batchSize && !closed);
+
+    LOG.debug("Migrated {} values of the column {} of table {}", migratedCount, column, tableName);
+    return migratedCount;
+  }
+
+  private String reencode(String value) {
+    try {
+      return codec.reencode(value);
+    } catch (JsonProcessingException e) {
+      // Keep the value which cannot be decoded, the entity conversion will report it.
+      LOG.warn("Failed to re-encode the entity column value, skip it", e);
+      return null;
+    }
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    migratorPool.shutdownNow();
+  }
+
+  private static class EntityColumns {
+    private final String tableName;
+    private final String idColumn;
+    private final String[] columns;
+
+    EntityColumns(String tableName, String idColumn, String... columns) {
+      this.tableName = tableName;
+      this.idColumn = idColumn;
+      this.columns = columns;
+    }
+  }
+}
@@ -98,6 +98,9 @@ public class JDBCBackend implements RelationalBackend {
   // Database instance of this JDBCBackend.
   private JDBCDatabase jdbcDatabase;
 
+  // The background migrator of the entity column encoding, null if it's not enabled.
+  private EntityColumnMigrator columnMigrator;
+
   /** Initialize the jdbc backend instance. */
   @Override
   public void initialize(Config config) {
@@ -105,6 +108,15 @@ public class JDBCBackend implements RelationalBackend {
 
     SqlSessionFactoryHelper.getInstance().init(config);
     SQLExceptionConverterFactory.initConverter(config);
+
+    // The config may be a mock in tests, so the absent values fall back to the defaults.
+    if (Boolean.TRUE.equals(config.get(Configs.ENTITY_RELATIONAL_COLUMN_ENCODING_MIGRATE))) {
+      columnMigrator =
+          new EntityColumnMigrator(
+              config.get(Configs.ENTITY_RELATIONAL_COLUMN_ENCODING_MIGRATE_BATCH_SIZE),
+              SqlSessionFactoryHelper.getInstance().columnCodec());
+      columnMigrator.start();
+    }
   }
 
   @Override
@@ -414,7 +426,6 @@ public class JDBCBackend implements RelationalBackend {
       case CATALOG:
       case SCHEMA:
       case TABLE:
-      case COLUMN:
       case TOPIC:
       case USER:
       case GROUP:
@@ -429,6 +440,12 @@ public class JDBCBackend implements RelationalBackend {
         // These entity types have not implemented multi-versions, so we can skip.
         return 0;
 
+      case COLUMN:
+        // The table versions are only kept by the column rows.
+        return TableColumnMetaService.getInstance()
+            .deleteColumnVersionsByRetentionCount(
+                versionRetentionCount, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+
       case FILESET:
         return FilesetMetaService.getInstance()
             .deleteFilesetVersionsByRetentionCount(
@@ -447,6 +464,9 @@ public class JDBCBackend implements RelationalBackend {
 
   @Override
   public void close() throws IOException {
+    if (columnMigrator != null) {
+      columnMigrator.close();
+    }
     SqlSessionFactoryHelper.getInstance().close();
     SQLExceptionConverterFactory.close();
 
@@ -486,6 +506,16 @@ public class JDBCBackend implements RelationalBackend {
         .associateTagsWithMetadataObject(objectIdent, objectType, tagsToAdd, tagsToRemove);
   }
 
+  @Override
+  public void associateMetadataObjectsWithTag(
+      NameIdentifier tagIdent,
+      List<Pair<NameIdentifier, Entity.EntityType>> objectsToAdd,
+      List<Pair<NameIdentifier, Entity.EntityType>> objectsToRemove)
+      throws NoSuchEntityException, IOException {
+    TagMetaService.getInstance()
+        .associateMetadataObjectsWithTag(tagIdent, objectsToAdd, objectsToRemove);
+  }
+
   @Override
   public int batchDelete(
       List<Pair<NameIdentifier, Entity.EntityType>> entitiesToDelete, boolean cascade)
@@ -641,6 +671,26 @@ public class JDBCBackend implements RelationalBackend {
     }
   }
 
+  @Override
+  public void batchUpdateEntityRelations(
+      Type relType,
+      NameIdentifier destEntityIdent,
+      Entity.EntityType destEntityType,
+      List<Pair<NameIdentifier, Entity.EntityType>> srcEntitiesToAdd,
+      List<Pair<NameIdentifier, Entity.EntityType>> srcEntitiesToRemove)
+      throws IOException, NoSuchEntityException {
+    switch (relType) {
+      case POLICY_METADATA_OBJECT_REL:
+        PolicyMetaService.getInstance()
+            .associateMetadataObjectsWithPolicy(
+                destEntityIdent, srcEntitiesToAdd, srcEntitiesToRemove);
+        break;
+      default:
+        throw new IllegalArgumentException(
+            String.format("Doesn't support the relation type %s", relType));
+    }
+  }
+
   @Override
   public <E extends Entity & HasIdentifier> E getEntityByRelation(
       Type relType,
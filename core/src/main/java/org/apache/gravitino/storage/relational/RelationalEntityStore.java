@@ -40,7 +40,11 @@ import org.apache.gravitino.cache.CacheFactory;
 import org.apache.gravitino.cache.EntityCache;
 import org.apache.gravitino.cache.NoOpsCache;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.lock.TreeLockUtils;
 import org.apache.gravitino.meta.TagEntity;
+import org.apache.gravitino.metrics.LatencyTracer;
+import org.apache.gravitino.metrics.LatencyTracer.Subsystem;
+import org.apache.gravitino.storage.kv.KvBackend;
 import org.apache.gravitino.tag.SupportsTagOperations;
 import org.apache.gravitino.utils.Executable;
 import org.slf4j.Logger;
@@ -56,7 +60,10 @@ public class RelationalEntityStore
   private static final Logger LOGGER = LoggerFactory.getLogger(RelationalEntityStore.class);
   public static final ImmutableMap<String, String> RELATIONAL_BACKENDS =
       ImmutableMap.of(
-          Configs.DEFAULT_ENTITY_RELATIONAL_STORE, JDBCBackend.class.getCanonicalName());
+          Configs.DEFAULT_ENTITY_RELATIONAL_STORE,
+          JDBCBackend.class.getCanonicalName(),
+          Configs.KV_ENTITY_RELATIONAL_STORE,
+          KvBackend.class.getCanonicalName());
   private RelationalBackend backend;
   private RelationalGarbageCollector garbageCollector;
   private EntityCache cache;
@@ -93,27 +100,48 @@ public class RelationalEntityStore
   @Override
   public <E extends Entity & HasIdentifier> List<E> list(
       Namespace namespace, Class<E> type, Entity.EntityType entityType) throws IOException {
-    return backend.list(namespace, entityType, false);
+    try (LatencyTracer.Span ignored = LatencyTracer.start(Subsystem.ENTITY_STORE, entityType)) {
+      return backend.list(namespace, entityType, false);
+    }
   }
 
   @Override
   public <E extends Entity & HasIdentifier> List<E> list(
       Namespace namespace, Class<E> type, Entity.EntityType entityType, boolean allFields)
       throws IOException {
-    return backend.list(namespace, entityType, allFields);
+    try (LatencyTracer.Span ignored = LatencyTracer.start(Subsystem.ENTITY_STORE, entityType)) {
+      return backend.list(namespace, entityType, allFields);
+    }
   }
 
   @Override
   public boolean exists(NameIdentifier ident, Entity.EntityType entityType) throws IOException {
-    boolean existsInCache = cache.contains(ident, entityType);
-    return existsInCache || backend.exists(ident, entityType);
+    boolean existsInCache;
+    try (LatencyTracer.Span ignored = LatencyTracer.start(Subsystem.ENTITY_CACHE, entityType)) {
+      existsInCache = cache.contains(ident, entityType);
+    }
+    if (existsInCache) {
+      return true;
+    }
+
+    try (LatencyTracer.Span ignored = LatencyTracer.start(Subsystem.ENTITY_STORE, entityType)) {
+      return backend.exists(ident, entityType);
+    }
   }
 
   @Override
   public <E extends Entity & HasIdentifier> void put(E e, boolean overwritten)
       throws IOException, EntityAlreadyExistsException {
-    backend.insert(e, overwritten);
-    cache.put(e);
+    try (LatencyTracer.Span ignored = LatencyTracer.start(Subsystem.ENTITY_STORE, e.type())) {
+      backend.insert(e, overwritten);
+    }
+    if (e.type() == Entity.EntityType.MODEL_VERSION) {
+      // The version number of a new model version is assigned by the backend, so the inserted
+      // entity only holds a placeholder version and cannot be cached.
+      cache.invalidateOnKeyChange(e);
+    } else {
+      cache.put(e);
+    }
   }
 
   @Override
@@ -121,7 +149,9 @@ public class RelationalEntityStore
       NameIdentifier ident, Class<E> type, Entity.EntityType entityType, Function<E, E> updater)
       throws IOException, NoSuchEntityException, EntityAlreadyExistsException {
     cache.invalidate(ident, entityType);
-    return backend.update(ident, entityType, updater);
+    try (LatencyTracer.Span ignored = LatencyTracer.start(Subsystem.ENTITY_STORE, entityType)) {
+      return backend.update(ident, entityType, updater);
+    }
   }
 
   @Override
@@ -130,13 +160,29 @@ public class RelationalEntityStore
       throws NoSuchEntityException, IOException {
     return cache.withCacheLock(
         () -> {
-          Optional<E> entityFromCache = cache.getIfPresent(ident, entityType);
+          Optional<E> entityFromCache;
+          try (LatencyTracer.Span ignored =
+              LatencyTracer.start(Subsystem.ENTITY_CACHE, entityType)) {
+            entityFromCache = cache.getIfPresent(ident, entityType);
+          }
           if (entityFromCache.isPresent()) {
             return entityFromCache.get();
           }
 
-          E entity = backend.get(ident, entityType);
-          cache.put(entity);
+          E entity;
+          try (LatencyTracer.Span ignored =
+              LatencyTracer.start(Subsystem.ENTITY_STORE, entityType)) {
+            entity = backend.get(ident, entityType);
+          }
+          // The optimistic read may be racing with a writer, only cache the entity once it's valid.
+          TreeLockUtils.writeCacheIfValid(
+              valid ->
+                  cache.withCacheLock(
+                      () -> {
+                        if (valid.getAsBoolean()) {
+                          cache.put(entity);
+                        }
+                      }));
           return entity;
         });
   }
@@ -146,7 +192,9 @@ public class RelationalEntityStore
       throws IOException {
     try {
       cache.invalidate(ident, entityType);
-      return backend.delete(ident, entityType, cascade);
+      try (LatencyTracer.Span ignored = LatencyTracer.start(Subsystem.ENTITY_STORE, entityType)) {
+        return backend.delete(ident, entityType, cascade);
+      }
     } catch (NoSuchEntityException e) {
       return false;
     }
@@ -205,21 +253,45 @@ public class RelationalEntityStore
         objectIdent, objectType, tagsToAdd, tagsToRemove);
   }
 
+  @Override
+  public void associateMetadataObjectsWithTag(
+      NameIdentifier tagIdent,
+      List<Pair<NameIdentifier, Entity.EntityType>> objectsToAdd,
+      List<Pair<NameIdentifier, Entity.EntityType>> objectsToRemove)
+      throws NoSuchEntityException, IOException {
+    backend.associateMetadataObjectsWithTag(tagIdent, objectsToAdd, objectsToRemove);
+  }
+
   @Override
   public <E extends Entity & HasIdentifier> List<E> listEntitiesByRelation(
       Type relType, NameIdentifier nameIdentifier, Entity.EntityType identType, boolean allFields)
       throws IOException {
     return cache.withCacheLock(
         () -> {
-          Optional<List<E>> entities = cache.getIfPresent(relType, nameIdentifier, identType);
+          Optional<List<E>> entities;
+          try (LatencyTracer.Span ignored =
+              LatencyTracer.start(Subsystem.ENTITY_CACHE, identType)) {
+            entities = cache.getIfPresent(relType, nameIdentifier, identType);
+          }
           if (entities.isPresent()) {
             return entities.get();
           }
 
-          List<E> backendEntities =
-              backend.listEntitiesByRelation(relType, nameIdentifier, identType, allFields);
+          List<E> backendEntities;
+          try (LatencyTracer.Span ignored =
+              LatencyTracer.start(Subsystem.ENTITY_STORE, identType)) {
+            backendEntities =
+                backend.listEntitiesByRelation(relType, nameIdentifier, identType, allFields);
+          }
 
-          cache.put(nameIdentifier, identType, relType, backendEntities);
+          TreeLockUtils.writeCacheIfValid(
+              valid ->
+                  cache.withCacheLock(
+                      () -> {
+                        if (valid.getAsBoolean()) {
+                          cache.put(nameIdentifier, identType, relType, backendEntities);
+                        }
+                      }));
 
           return backendEntities;
         });
@@ -262,6 +334,21 @@ public class RelationalEntityStore
         relType, srcEntityIdent, srcEntityType, destEntitiesToAdd, destEntitiesToRemove);
   }
 
+  @Override
+  public void batchUpdateEntityRelations(
+      Type relType,
+      NameIdentifier destEntityIdent,
+      Entity.EntityType destEntityType,
+      List<Pair<NameIdentifier, Entity.EntityType>> srcEntitiesToAdd,
+      List<Pair<NameIdentifier, Entity.EntityType>> srcEntitiesToRemove)
+      throws IOException, NoSuchEntityException {
+    cache.invalidate(destEntityIdent, destEntityType, relType);
+    srcEntitiesToAdd.forEach(e -> cache.invalidate(e.getLeft(), e.getRight(), relType));
+    srcEntitiesToRemove.forEach(e -> cache.invalidate(e.getLeft(), e.getRight(), relType));
+    backend.batchUpdateEntityRelations(
+        relType, destEntityIdent, destEntityType, srcEntitiesToAdd, srcEntitiesToRemove);
+  }
+
   @Override
   public int batchDelete(
       List<Pair<NameIdentifier, Entity.EntityType>> entitiesToDelete, boolean cascade)
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper;
+
+import java.util.List;
+import org.apache.gravitino.storage.relational.po.EntityColumnValuePO;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.SelectProvider;
+import org.apache.ibatis.annotations.UpdateProvider;
+
+/**
+ * A MyBatis Mapper to migrate the encoding of the entity columns, such as the properties and the
+ * audit info. The table and column names are always the constants of the entity mappers.
+ */
+public interface EntityColumnMigrationMapper {
+
+  @SelectProvider(
+      type = EntityColumnMigrationSQLProviderFactory.class,
+      method = "selectColumnValuesAfterId")
+  List<EntityColumnValuePO> selectColumnValuesAfterId(
+      @Param("tableName") String tableName,
+      @Param("idColumn") String idColumn,
+      @Param("column") String column,
+      @Param("lastId") Long lastId,
+      @Param("limit") int limit);
+
+  @UpdateProvider(
+      type = EntityColumnMigrationSQLProviderFactory.class,
+      method = "updateColumnValue")
+  Integer updateColumnValue(
+      @Param("tableName") String tableName,
+      @Param("idColumn") String idColumn,
+      @Param("column") String column,
+      @Param("id") Long id,
+      @Param("oldValue") String oldValue,
+      @Param("newValue") String newValue);
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import org.apache.gravitino.storage.relational.JDBCBackend.JDBCBackendType;
+import org.apache.gravitino.storage.relational.mapper.provider.base.EntityColumnMigrationBaseSQLProvider;
+import org.apache.gravitino.storage.relational.session.SqlSessionFactoryHelper;
+import org.apache.ibatis.annotations.Param;
+
+public class EntityColumnMigrationSQLProviderFactory {
+
+  static class EntityColumnMigrationMySQLProvider extends EntityColumnMigrationBaseSQLProvider {}
+
+  static class EntityColumnMigrationH2Provider extends EntityColumnMigrationBaseSQLProvider {
+    @Override
+    public String updateColumnValue(
+        @Param("tableName") String tableName,
+        @Param("idColumn") String idColumn,
+        @Param("column") String column,
+        @Param("id") Long id,
+        @Param("oldValue") String oldValue,
+        @Param("newValue") String newValue) {
+      // The MEDIUMTEXT columns are CLOBs in H2, which cannot be compared directly.
+      return "UPDATE "
+          + tableName
+          + " SET "
+          + column
+          + " = #{newValue} WHERE "
+          + idColumn
+          + " = #{id} AND CAST("
+          + column
+          + " AS VARCHAR) = #{oldValue}";
+    }
+  }
+
+  static class EntityColumnMigrationPostgreSQLProvider
+      extends EntityColumnMigrationBaseSQLProvider {}
+
+  private static final Map<JDBCBackendType, EntityColumnMigrationBaseSQLProvider>
+      ENTITY_COLUMN_MIGRATION_SQL_PROVIDER_MAP =
+          ImmutableMap.of(
+              JDBCBackendType.MYSQL, new EntityColumnMigrationMySQLProvider(),
+              JDBCBackendType.H2, new EntityColumnMigrationH2Provider(),
+              JDBCBackendType.POSTGRESQL, new EntityColumnMigrationPostgreSQLProvider());
+
+  public static EntityColumnMigrationBaseSQLProvider getProvider() {
+    String databaseId =
+        SqlSessionFactoryHelper.getInstance()
+            .getSqlSessionFactory()
+            .getConfiguration()
+            .getDatabaseId();
+
+    JDBCBackendType jdbcBackendType = JDBCBackendType.fromString(databaseId);
+    return ENTITY_COLUMN_MIGRATION_SQL_PROVIDER_MAP.get(jdbcBackendType);
+  }
+
+  public static String selectColumnValuesAfterId(
+      @Param("tableName") String tableName,
+      @Param("idColumn") String idColumn,
+      @Param("column") String column,
+      @Param("lastId") Long lastId,
+      @Param("limit") int limit) {
+    return getProvider().selectColumnValuesAfterId(tableName, idColumn, column, lastId, limit);
+  }
+
+  public static String updateColumnValue(
+      @Param("tableName") String tableName,
+      @Param("idColumn") String idColumn,
+      @Param("column") String column,
+      @Param("id") Long id,
+      @Param("oldValue") String oldValue,
+      @Param("newValue") String newValue) {
+    return getProvider().updateColumnValue(tableName, idColumn, column, id, oldValue, newValue);
+  }
+}
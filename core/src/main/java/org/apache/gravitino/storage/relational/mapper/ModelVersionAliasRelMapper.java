@@ -53,6 +53,14 @@ public interface ModelVersionAliasRelMapper {
   List<ModelVersionAliasRelPO> selectModelVersionAliasRelsByModelIdAndVersion(
       @Param("modelId") Long modelId, @Param("modelVersion") Integer modelVersion);
 
+  @SelectProvider(
+      type = ModelVersionAliasSQLProviderFactory.class,
+      method = "selectModelVersionAliasRelsByModelIdAndVersionRange")
+  List<ModelVersionAliasRelPO> selectModelVersionAliasRelsByModelIdAndVersionRange(
+      @Param("modelId") Long modelId,
+      @Param("startVersion") Integer startVersion,
+      @Param("endVersion") Integer endVersion);
+
   @SelectProvider(
       type = ModelVersionAliasSQLProviderFactory.class,
       method = "selectModelVersionAliasRelsByModelIdAndAlias")
@@ -65,6 +65,14 @@ public class ModelVersionAliasSQLProviderFactory {
     return getProvider().selectModelVersionAliasRelsByModelIdAndVersion(modelId, modelVersion);
   }
 
+  public static String selectModelVersionAliasRelsByModelIdAndVersionRange(
+      @Param("modelId") Long modelId,
+      @Param("startVersion") Integer startVersion,
+      @Param("endVersion") Integer endVersion) {
+    return getProvider()
+        .selectModelVersionAliasRelsByModelIdAndVersionRange(modelId, startVersion, endVersion);
+  }
+
   public static String selectModelVersionAliasRelsByModelIdAndAlias(
       @Param("modelId") Long modelId, @Param("alias") String alias) {
     return getProvider().selectModelVersionAliasRelsByModelIdAndAlias(modelId, alias);
@@ -46,6 +46,14 @@ public interface ModelVersionMetaMapper {
       method = "listModelVersionMetasByModelId")
   List<ModelVersionPO> listModelVersionMetasByModelId(@Param("modelId") Long modelId);
 
+  @SelectProvider(
+      type = ModelVersionMetaSQLProviderFactory.class,
+      method = "listModelVersionMetasByModelIdAndVersionRange")
+  List<ModelVersionPO> listModelVersionMetasByModelIdAndVersionRange(
+      @Param("modelId") Long modelId,
+      @Param("startVersion") Integer startVersion,
+      @Param("limit") int limit);
+
   @SelectProvider(
       type = ModelVersionMetaSQLProviderFactory.class,
       method = "selectModelVersionMeta")
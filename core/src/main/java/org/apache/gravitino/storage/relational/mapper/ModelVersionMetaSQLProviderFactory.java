@@ -65,6 +65,14 @@ public class ModelVersionMetaSQLProviderFactory {
     return getProvider().listModelVersionMetasByModelId(modelId);
   }
 
+  public static String listModelVersionMetasByModelIdAndVersionRange(
+      @Param("modelId") Long modelId,
+      @Param("startVersion") Integer startVersion,
+      @Param("limit") int limit) {
+    return getProvider()
+        .listModelVersionMetasByModelIdAndVersionRange(modelId, startVersion, limit);
+  }
+
   public static String selectModelVersionMeta(
       @Param("modelId") Long modelId, @Param("modelVersion") Integer modelVersion) {
     return getProvider().selectModelVersionMeta(modelId, modelVersion);
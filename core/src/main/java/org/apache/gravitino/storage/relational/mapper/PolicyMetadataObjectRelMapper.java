@@ -103,6 +103,14 @@ public interface PolicyMetadataObjectRelMapper {
       @Param("metadataObjectType") String metadataObjectType,
       @Param("policyIds") List<Long> policyIds);
 
+  @UpdateProvider(
+      type = PolicyMetadataObjectRelSQLProviderFactory.class,
+      method = "batchDeletePolicyMetadataObjectRelsByPolicyIdAndMetadataObjectIds")
+  void batchDeletePolicyMetadataObjectRelsByPolicyIdAndMetadataObjectIds(
+      @Param("policyId") Long policyId,
+      @Param("metadataObjectType") String metadataObjectType,
+      @Param("metadataObjectIds") List<Long> metadataObjectIds);
+
   @UpdateProvider(
       type = PolicyMetadataObjectRelSQLProviderFactory.class,
       method = "softDeletePolicyMetadataObjectRelsByMetalakeAndPolicyName")
@@ -89,6 +89,15 @@ public class PolicyMetadataObjectRelSQLProviderFactory {
             metadataObjectId, metadataObjectType, policyIds);
   }
 
+  public static String batchDeletePolicyMetadataObjectRelsByPolicyIdAndMetadataObjectIds(
+      @Param("policyId") Long policyId,
+      @Param("metadataObjectType") String metadataObjectType,
+      @Param("metadataObjectIds") List<Long> metadataObjectIds) {
+    return getProvider()
+        .batchDeletePolicyMetadataObjectRelsByPolicyIdAndMetadataObjectIds(
+            policyId, metadataObjectType, metadataObjectIds);
+  }
+
   public static String softDeletePolicyMetadataObjectRelsByMetalakeAndPolicyName(
       @Param("metalakeName") String metalakeName, @Param("policyName") String policyName) {
     return getProvider()
@@ -63,6 +63,15 @@ public interface TableColumnMapper {
   Integer deleteColumnPOsByLegacyTimeline(
       @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit);
 
+  @SelectProvider(
+      type = TableColumnSQLProviderFactory.class,
+      method = "selectColumnIdsByRetentionCount")
+  List<Long> selectColumnIdsByRetentionCount(
+      @Param("versionRetentionCount") Long versionRetentionCount, @Param("limit") int limit);
+
+  @UpdateProvider(type = TableColumnSQLProviderFactory.class, method = "softDeleteColumnsByIds")
+  Integer softDeleteColumnsByIds(@Param("ids") List<Long> ids);
+
   @SelectProvider(
       type = TableColumnSQLProviderFactory.class,
       method = "selectColumnIdByTableIdAndName")
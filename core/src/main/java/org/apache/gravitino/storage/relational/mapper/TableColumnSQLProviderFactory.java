@@ -57,6 +57,15 @@ public class TableColumnSQLProviderFactory {
     return getProvider().listColumnPOsByTableIdAndVersion(tableId, tableVersion);
   }
 
+  public static String selectColumnIdsByRetentionCount(
+      @Param("versionRetentionCount") Long versionRetentionCount, @Param("limit") int limit) {
+    return getProvider().selectColumnIdsByRetentionCount(versionRetentionCount, limit);
+  }
+
+  public static String softDeleteColumnsByIds(@Param("ids") List<Long> ids) {
+    return getProvider().softDeleteColumnsByIds(ids);
+  }
+
   public static String insertColumnPOs(@Param("columnPOs") List<ColumnPO> columnPOs) {
     return getProvider().insertColumnPOs(columnPOs);
   }
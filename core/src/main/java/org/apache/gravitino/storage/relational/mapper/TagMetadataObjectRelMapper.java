@@ -64,6 +64,14 @@ public interface TagMetadataObjectRelMapper {
       @Param("metadataObjectType") String metadataObjectType,
       @Param("tagIds") List<Long> tagIds);
 
+  @UpdateProvider(
+      type = TagMetadataObjectRelSQLProviderFactory.class,
+      method = "batchDeleteTagMetadataObjectRelsByTagIdAndMetadataObjectIds")
+  void batchDeleteTagMetadataObjectRelsByTagIdAndMetadataObjectIds(
+      @Param("tagId") Long tagId,
+      @Param("metadataObjectType") String metadataObjectType,
+      @Param("metadataObjectIds") List<Long> metadataObjectIds);
+
   @UpdateProvider(
       type = TagMetadataObjectRelSQLProviderFactory.class,
       method = "softDeleteTagMetadataObjectRelsByMetalakeAndTagName")
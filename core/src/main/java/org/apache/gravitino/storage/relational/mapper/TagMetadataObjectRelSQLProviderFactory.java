@@ -85,6 +85,15 @@ public class TagMetadataObjectRelSQLProviderFactory {
             metadataObjectId, metadataObjectType, tagIds);
   }
 
+  public static String batchDeleteTagMetadataObjectRelsByTagIdAndMetadataObjectIds(
+      @Param("tagId") Long tagId,
+      @Param("metadataObjectType") String metadataObjectType,
+      @Param("metadataObjectIds") List<Long> metadataObjectIds) {
+    return getProvider()
+        .batchDeleteTagMetadataObjectRelsByTagIdAndMetadataObjectIds(
+            tagId, metadataObjectType, metadataObjectIds);
+  }
+
   public static String softDeleteTagMetadataObjectRelsByMetalakeAndTagName(
       @Param("metalakeName") String metalakeName, @Param("tagName") String tagName) {
     return getProvider().softDeleteTagMetadataObjectRelsByMetalakeAndTagName(metalakeName, tagName);
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper.provider.base;
+
+import org.apache.ibatis.annotations.Param;
+
+public class EntityColumnMigrationBaseSQLProvider {
+
+  public String selectColumnValuesAfterId(
+      @Param("tableName") String tableName,
+      @Param("idColumn") String idColumn,
+      @Param("column") String column,
+      @Param("lastId") Long lastId,
+      @Param("limit") int limit) {
+    return "SELECT "
+        + idColumn
+        + " AS id, "
+        + column
+        + " AS columnValue FROM "
+        + tableName
+        + " WHERE "
+        + idColumn
+        + " > #{lastId} ORDER BY "
+        + idColumn
+        + " LIMIT #{limit}";
+  }
+
+  public String updateColumnValue(
+      @Param("tableName") String tableName,
+      @Param("idColumn") String idColumn,
+      @Param("column") String column,
+      @Param("id") Long id,
+      @Param("oldValue") String oldValue,
+      @Param("newValue") String newValue) {
+    // Only update the value if it's not changed since it was selected.
+    return "UPDATE "
+        + tableName
+        + " SET "
+        + column
+        + " = #{newValue} WHERE "
+        + idColumn
+        + " = #{id} AND "
+        + column
+        + " = #{oldValue}";
+  }
+}
@@ -61,6 +61,18 @@ public class ModelVersionAliasRelBaseSQLProvider {
         + " WHERE model_id = #{modelId} AND model_version = #{modelVersion} AND deleted_at = 0";
   }
 
+  public String selectModelVersionAliasRelsByModelIdAndVersionRange(
+      @Param("modelId") Long modelId,
+      @Param("startVersion") Integer startVersion,
+      @Param("endVersion") Integer endVersion) {
+    return "SELECT model_id AS modelId, model_version AS modelVersion,"
+        + " model_version_alias AS modelVersionAlias, deleted_at AS deletedAt"
+        + " FROM "
+        + ModelVersionAliasRelMapper.TABLE_NAME
+        + " WHERE model_id = #{modelId} AND model_version >= #{startVersion}"
+        + " AND model_version <= #{endVersion} AND deleted_at = 0";
+  }
+
   public String selectModelVersionAliasRelsByModelIdAndAlias(
       @Param("modelId") Long modelId, @Param("alias") String alias) {
     return "SELECT model_id AS modelId, model_version AS modelVersion,"
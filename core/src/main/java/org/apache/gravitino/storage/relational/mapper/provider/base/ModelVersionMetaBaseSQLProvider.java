@@ -91,6 +91,28 @@ public class ModelVersionMetaBaseSQLProvider {
         + " WHERE model_id = #{modelId} AND deleted_at = 0";
   }
 
+  public String listModelVersionMetasByModelIdAndVersionRange(
+      @Param("modelId") Long modelId,
+      @Param("startVersion") Integer startVersion,
+      @Param("limit") int limit) {
+    // A model version may have multiple rows, one for each URI name, so the limit is applied to the
+    // distinct version numbers instead of the rows.
+    return "SELECT mvi.metalake_id AS metalakeId, mvi.catalog_id AS catalogId, mvi.schema_id AS schemaId,"
+        + " mvi.model_id AS modelId, mvi.version AS modelVersion, mvi.model_version_comment AS modelVersionComment,"
+        + " mvi.model_version_properties AS modelVersionProperties, mvi.model_version_uri_name AS modelVersionUriName,"
+        + " mvi.model_version_uri AS modelVersionUri, mvi.audit_info AS auditInfo, mvi.deleted_at AS deletedAt"
+        + " FROM "
+        + ModelVersionMetaMapper.TABLE_NAME
+        + " mvi"
+        + " JOIN (SELECT DISTINCT version FROM "
+        + ModelVersionMetaMapper.TABLE_NAME
+        + " WHERE model_id = #{modelId} AND version >= #{startVersion} AND deleted_at = 0"
+        + " ORDER BY version LIMIT #{limit}) page"
+        + " ON mvi.version = page.version"
+        + " WHERE mvi.model_id = #{modelId} AND mvi.deleted_at = 0"
+        + " ORDER BY mvi.version";
+  }
+
   public String selectModelVersionMeta(
       @Param("modelId") Long modelId, @Param("modelVersion") Integer modelVersion) {
     return "SELECT metalake_id AS metalakeId, catalog_id AS catalogId, schema_id AS schemaId, "
@@ -131,6 +131,25 @@ public class PolicyMetadataObjectRelBaseSQLProvider {
         + "</script>";
   }
 
+  public String batchDeletePolicyMetadataObjectRelsByPolicyIdAndMetadataObjectIds(
+      @Param("policyId") Long policyId,
+      @Param("metadataObjectType") String metadataObjectType,
+      @Param("metadataObjectIds") List<Long> metadataObjectIds) {
+    return "<script>"
+        + "UPDATE "
+        + PolicyMetadataObjectRelMapper.POLICY_METADATA_OBJECT_RELATION_TABLE_NAME
+        + " SET deleted_at = (UNIX_TIMESTAMP() * 1000.0)"
+        + " + EXTRACT(MICROSECOND FROM CURRENT_TIMESTAMP(3)) / 1000"
+        + " WHERE policy_id = #{policyId} AND metadata_object_type = #{metadataObjectType}"
+        + " AND metadata_object_id IN "
+        + "<foreach item='metadataObjectId' collection='metadataObjectIds' open='('"
+        + " separator=',' close=')'>"
+        + "#{metadataObjectId}"
+        + "</foreach>"
+        + " AND deleted_at = 0"
+        + "</script>";
+  }
+
   public String softDeletePolicyMetadataObjectRelsByMetalakeAndPolicyName(
       @Param("metalakeName") String metalakeName, @Param("policyName") String policyName) {
     return "UPDATE "
@@ -20,6 +20,7 @@ package org.apache.gravitino.storage.relational.mapper.provider.base;
 
 import java.util.List;
 import org.apache.gravitino.storage.relational.mapper.TableColumnMapper;
+import org.apache.gravitino.storage.relational.mapper.TableMetaMapper;
 import org.apache.gravitino.storage.relational.po.ColumnPO;
 import org.apache.ibatis.annotations.Param;
 
@@ -45,7 +46,9 @@ public class TableColumnBaseSQLProvider {
         + " WHERE table_id = #{tableId} AND table_version <= #{tableVersion} AND deleted_at = 0"
         + " GROUP BY column_id) t2"
         + " ON t1.column_id = t2.column_id AND t1.table_version = t2.max_table_version"
-        + " AND t1.table_id = #{tableId}";
+        + " AND t1.table_id = #{tableId}"
+        + " WHERE t1.column_op_type <> "
+        + ColumnPO.ColumnOpType.DELETE.value();
   }
 
   public String insertColumnPOs(@Param("columnPOs") List<ColumnPO> columnPOs) {
@@ -105,6 +108,41 @@ public class TableColumnBaseSQLProvider {
         + " WHERE deleted_at > 0 AND deleted_at < #{legacyTimeline} LIMIT #{limit}";
   }
 
+  public String selectColumnIdsByRetentionCount(
+      @Param("versionRetentionCount") Long versionRetentionCount, @Param("limit") int limit) {
+    // A column row can be removed once a newer row of the same column is out of the retention
+    // count, the rows of a deleted column can all be removed once the DELETE row is out of it.
+    return "SELECT DISTINCT t1.id FROM "
+        + TableColumnMapper.COLUMN_TABLE_NAME
+        + " t1 JOIN "
+        + TableColumnMapper.COLUMN_TABLE_NAME
+        + " t2 ON t1.table_id = t2.table_id AND t1.column_id = t2.column_id"
+        + " JOIN "
+        + TableMetaMapper.TABLE_NAME
+        + " tm ON t1.table_id = tm.table_id"
+        + " WHERE t1.deleted_at = 0 AND t2.deleted_at = 0 AND tm.deleted_at = 0"
+        + " AND (t2.table_version > t1.table_version"
+        + " OR (t2.id = t1.id AND t2.column_op_type = "
+        + ColumnPO.ColumnOpType.DELETE.value()
+        + "))"
+        + " AND t2.table_version + #{versionRetentionCount} <= tm.current_version + 1"
+        + " LIMIT #{limit}";
+  }
+
+  public String softDeleteColumnsByIds(@Param("ids") List<Long> ids) {
+    return "<script>"
+        + "UPDATE "
+        + TableColumnMapper.COLUMN_TABLE_NAME
+        + " SET deleted_at = (UNIX_TIMESTAMP() * 1000.0)"
+        + " + EXTRACT(MICROSECOND FROM CURRENT_TIMESTAMP(3)) / 1000"
+        + " WHERE id IN ("
+        + "<foreach collection='ids' item='id' separator=','>"
+        + "#{id}"
+        + "</foreach>"
+        + ") AND deleted_at = 0"
+        + "</script>";
+  }
+
   public String selectColumnIdByTableIdAndName(
       @Param("tableId") Long tableId, @Param("columnName") String name) {
     return "SELECT"
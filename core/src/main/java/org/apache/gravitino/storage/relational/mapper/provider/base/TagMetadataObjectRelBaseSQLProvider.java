@@ -128,6 +128,25 @@ public class TagMetadataObjectRelBaseSQLProvider {
         + "</script>";
   }
 
+  public String batchDeleteTagMetadataObjectRelsByTagIdAndMetadataObjectIds(
+      @Param("tagId") Long tagId,
+      @Param("metadataObjectType") String metadataObjectType,
+      @Param("metadataObjectIds") List<Long> metadataObjectIds) {
+    return "<script>"
+        + "UPDATE "
+        + TagMetadataObjectRelMapper.TAG_METADATA_OBJECT_RELATION_TABLE_NAME
+        + " SET deleted_at = (UNIX_TIMESTAMP() * 1000.0)"
+        + " + EXTRACT(MICROSECOND FROM CURRENT_TIMESTAMP(3)) / 1000"
+        + " WHERE tag_id = #{tagId} AND metadata_object_type = #{metadataObjectType}"
+        + " AND metadata_object_id IN "
+        + "<foreach item='metadataObjectId' collection='metadataObjectIds' open='('"
+        + " separator=',' close=')'>"
+        + "#{metadataObjectId}"
+        + "</foreach>"
+        + " AND deleted_at = 0"
+        + "</script>";
+  }
+
   public String softDeleteTagMetadataObjectRelsByMetalakeAndTagName(
       @Param("metalakeName") String metalakeName, @Param("tagName") String tagName) {
     return "UPDATE "
@@ -171,6 +171,24 @@ public class PolicyMetadataObjectRelPostgreSQLProvider
         + "</script>";
   }
 
+  @Override
+  public String batchDeletePolicyMetadataObjectRelsByPolicyIdAndMetadataObjectIds(
+      Long policyId, String metadataObjectType, List<Long> metadataObjectIds) {
+    return "<script>"
+        + "UPDATE "
+        + POLICY_METADATA_OBJECT_RELATION_TABLE_NAME
+        + " SET deleted_at ="
+        + DELETED_AT_NOW_EXPRESSION
+        + " WHERE policy_id = #{policyId} AND metadata_object_type = #{metadataObjectType}"
+        + " AND metadata_object_id IN "
+        + "<foreach item='metadataObjectId' collection='metadataObjectIds' open='('"
+        + " separator=',' close=')'>"
+        + "#{metadataObjectId}"
+        + "</foreach>"
+        + " AND deleted_at = 0"
+        + "</script>";
+  }
+
   @Override
   public String listPolicyMetadataObjectRelsByMetalakeAndPolicyName(
       String metalakeName, String policyName) {
@@ -193,6 +193,24 @@ public class TagMetadataObjectRelPostgreSQLProvider extends TagMetadataObjectRel
         + "</script>";
   }
 
+  @Override
+  public String batchDeleteTagMetadataObjectRelsByTagIdAndMetadataObjectIds(
+      Long tagId, String metadataObjectType, List<Long> metadataObjectIds) {
+    return "<script>"
+        + "UPDATE "
+        + TAG_METADATA_OBJECT_RELATION_TABLE_NAME
+        + " SET deleted_at = floor(extract(epoch from((current_timestamp -"
+        + " timestamp '1970-01-01 00:00:00')*1000))) "
+        + " WHERE tag_id = #{tagId} AND metadata_object_type = #{metadataObjectType}"
+        + " AND metadata_object_id IN "
+        + "<foreach item='metadataObjectId' collection='metadataObjectIds' open='('"
+        + " separator=',' close=')'>"
+        + "#{metadataObjectId}"
+        + "</foreach>"
+        + " AND deleted_at = 0"
+        + "</script>";
+  }
+
   @Override
   public String listTagMetadataObjectRelsByMetalakeAndTagName(String metalakeName, String tagName) {
     return "SELECT te.tag_id as tagId, te.metadata_object_id as metadataObjectId,"
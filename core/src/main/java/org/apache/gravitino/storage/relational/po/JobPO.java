@@ -30,9 +30,10 @@ import lombok.experimental.Accessors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.job.JobHandle;
-import org.apache.gravitino.json.JsonUtils;
 import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.meta.JobEntity;
+import org.apache.gravitino.storage.relational.session.SqlSessionFactoryHelper;
+import org.apache.gravitino.storage.relational.utils.EntityColumnCodec;
 
 @Getter
 @Accessors(fluent = true)
@@ -116,7 +117,10 @@ public class JobPO {
           .withJobExecutionId(jobEntity.jobExecutionId())
           .withJobRunStatus(jobEntity.status().name())
           .withJobFinishedAt(finished)
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(jobEntity.auditInfo()))
+          .withAuditInfo(
+              SqlSessionFactoryHelper.getInstance()
+                  .columnCodec()
+                  .writeValueAsString(jobEntity.auditInfo()))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -134,7 +138,7 @@ public class JobPO {
           .withNamespace(namespace)
           .withStatus(JobHandle.Status.valueOf(jobPO.jobRunStatus))
           .withJobTemplateName(jobPO.jobTemplateName)
-          .withAuditInfo(JsonUtils.anyFieldMapper().readValue(jobPO.auditInfo, AuditInfo.class))
+          .withAuditInfo(EntityColumnCodec.readValue(jobPO.auditInfo, AuditInfo.class))
           .withFinishedAt(jobPO.jobFinishedAt())
           .build();
     } catch (JsonProcessingException e) {
@@ -29,9 +29,10 @@ import lombok.ToString;
 import lombok.experimental.Accessors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Namespace;
-import org.apache.gravitino.json.JsonUtils;
 import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.meta.JobTemplateEntity;
+import org.apache.gravitino.storage.relational.session.SqlSessionFactoryHelper;
+import org.apache.gravitino.storage.relational.utils.EntityColumnCodec;
 
 @Getter
 @Accessors(fluent = true)
@@ -99,9 +100,13 @@ public class JobTemplatePO {
           .withJobTemplateName(jobTemplateEntity.name())
           .withJobTemplateComment(jobTemplateEntity.comment())
           .withJobTemplateContent(
-              JsonUtils.anyFieldMapper().writeValueAsString(jobTemplateEntity.templateContent()))
+              SqlSessionFactoryHelper.getInstance()
+                  .columnCodec()
+                  .writeValueAsString(jobTemplateEntity.templateContent()))
           .withAuditInfo(
-              JsonUtils.anyFieldMapper().writeValueAsString(jobTemplateEntity.auditInfo()))
+              SqlSessionFactoryHelper.getInstance()
+                  .columnCodec()
+                  .writeValueAsString(jobTemplateEntity.auditInfo()))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -120,11 +125,9 @@ public class JobTemplatePO {
           .withNamespace(namespace)
           .withComment(jobTemplatePO.jobTemplateComment())
           .withTemplateContent(
-              JsonUtils.anyFieldMapper()
-                  .readValue(
-                      jobTemplatePO.jobTemplateContent(), JobTemplateEntity.TemplateContent.class))
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(jobTemplatePO.auditInfo(), AuditInfo.class))
+              EntityColumnCodec.readValue(
+                  jobTemplatePO.jobTemplateContent(), JobTemplateEntity.TemplateContent.class))
+          .withAuditInfo(EntityColumnCodec.readValue(jobTemplatePO.auditInfo(), AuditInfo.class))
           .build();
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize job template PO", e);
@@ -25,10 +25,11 @@ import java.util.Objects;
 import java.util.stream.Collectors;
 import lombok.Getter;
 import org.apache.gravitino.MetadataObject;
-import org.apache.gravitino.json.JsonUtils;
 import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.meta.StatisticEntity;
 import org.apache.gravitino.stats.StatisticValue;
+import org.apache.gravitino.storage.relational.session.SqlSessionFactoryHelper;
+import org.apache.gravitino.storage.relational.utils.EntityColumnCodec;
 import org.apache.gravitino.storage.relational.utils.POConverters;
 
 @Getter
@@ -63,10 +64,8 @@ public class StatisticPO {
           .withId(statisticPO.getStatisticId())
           .withName(statisticPO.getStatisticName())
           .withValue(
-              JsonUtils.anyFieldMapper()
-                  .readValue(statisticPO.getStatisticValue(), StatisticValue.class))
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(statisticPO.getAuditInfo(), AuditInfo.class))
+              EntityColumnCodec.readValue(statisticPO.getStatisticValue(), StatisticValue.class))
+          .withAuditInfo(EntityColumnCodec.readValue(statisticPO.getAuditInfo(), AuditInfo.class))
           .build();
     } catch (JsonProcessingException je) {
       throw new RuntimeException("Failed to deserialize json object: ", je);
@@ -78,6 +77,7 @@ public class StatisticPO {
       Long metalakeId,
       Long objectId,
       MetadataObject.Type objectType) {
+    EntityColumnCodec codec = SqlSessionFactoryHelper.getInstance().columnCodec();
     return statisticEntities.stream()
         .map(
             statisticEntity -> {
@@ -88,13 +88,11 @@ public class StatisticPO {
                     .withMetadataObjectType(objectType.name())
                     .withStatisticId(statisticEntity.id())
                     .withStatisticName(statisticEntity.name())
-                    .withStatisticValue(
-                        JsonUtils.anyFieldMapper().writeValueAsString(statisticEntity.value()))
+                    .withStatisticValue(codec.writeValueAsString(statisticEntity.value()))
                     .withDeletedAt(POConverters.DEFAULT_DELETED_AT)
                     .withCurrentVersion(POConverters.INIT_VERSION)
                     .withLastVersion(POConverters.INIT_VERSION)
-                    .withAuditInfo(
-                        JsonUtils.anyFieldMapper().writeValueAsString(statisticEntity.auditInfo()))
+                    .withAuditInfo(codec.writeValueAsString(statisticEntity.auditInfo()))
                     .build();
               } catch (JsonProcessingException e) {
                 throw new RuntimeException("Failed to serialize json object:", e);
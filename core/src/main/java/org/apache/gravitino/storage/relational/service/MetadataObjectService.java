@@ -24,12 +24,14 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.MetadataObjects;
+import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.meta.GenericEntity;
 import org.apache.gravitino.storage.relational.mapper.CatalogMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.FilesetMetaMapper;
@@ -63,6 +65,9 @@ public class MetadataObjectService {
 
   private static final Logger LOG = LoggerFactory.getLogger(MetadataObjectService.class);
 
+  // The max number of metadata objects in one IN clause or one multi-row statement.
+  static final int METADATA_OBJECT_BATCH_SIZE = 1000;
+
   static final Map<MetadataObject.Type, Function<List<Long>, Map<Long, String>>>
       TYPE_TO_FULLNAME_FUNCTION_MAP =
           ImmutableMap.of(
@@ -93,7 +98,7 @@ public class MetadataObjectService {
     for (Map.Entry<Entity.EntityType, List<Long>> entry : groupIdsByType.entrySet()) {
       MetadataObject.Type objectType = MetadataObject.Type.valueOf(entry.getKey().name());
       Map<Long, String> metadataObjectNames =
-          TYPE_TO_FULLNAME_FUNCTION_MAP.get(objectType).apply(entry.getValue());
+          getMetadataObjectsFullName(objectType, entry.getValue());
 
       for (Map.Entry<Long, String> metadataObjectName : metadataObjectNames.entrySet()) {
         String fullName = metadataObjectName.getValue();
@@ -155,6 +160,121 @@ public class MetadataObjectService {
     throw new IllegalArgumentException(String.format("Doesn't support the type %s", type));
   }
 
+  /**
+   * Retrieves the ids of the metadata objects under the same metalake. Unlike calling {@link
+   * #getMetadataObjectId(long, String, MetadataObject.Type)} for every object, the ids of the
+   * parent objects shared by the metadata objects are queried only once, and the columns of a table
+   * are loaded together, so resolving all the columns of a table costs a few queries only.
+   *
+   * @param metalakeId The id of the metalake.
+   * @param metadataObjects The metadata objects to fetch ids for.
+   * @return The ids of the metadata objects, in the same order as the given metadata objects.
+   * @throws NoSuchEntityException If any of the metadata objects does not exist.
+   */
+  public static List<Long> getMetadataObjectIds(
+      long metalakeId, List<MetadataObject> metadataObjects) {
+    Map<String, Long> catalogIds = new HashMap<>();
+    Map<String, Long> schemaIds = new HashMap<>();
+    Map<String, Long> tableIds = new HashMap<>();
+    Map<String, Map<String, Long>> columnIdsByTable = new HashMap<>();
+
+    List<Long> metadataObjectIds = Lists.newArrayListWithCapacity(metadataObjects.size());
+    for (MetadataObject metadataObject : metadataObjects) {
+      MetadataObject.Type type = metadataObject.type();
+      if (type == MetadataObject.Type.METALAKE || type == MetadataObject.Type.ROLE) {
+        metadataObjectIds.add(getMetadataObjectId(metalakeId, metadataObject.fullName(), type));
+        continue;
+      }
+
+      List<String> names = DOT_SPLITTER.splitToList(metadataObject.fullName());
+      long catalogId =
+          catalogIds.computeIfAbsent(
+              names.get(0),
+              name ->
+                  CatalogMetaService.getInstance()
+                      .getCatalogIdByMetalakeIdAndName(metalakeId, name));
+      if (type == MetadataObject.Type.CATALOG) {
+        metadataObjectIds.add(catalogId);
+        continue;
+      }
+
+      long schemaId =
+          schemaIds.computeIfAbsent(
+              DOT_JOINER.join(names.subList(0, 2)),
+              key ->
+                  SchemaMetaService.getInstance()
+                      .getSchemaIdByCatalogIdAndName(catalogId, names.get(1)));
+      String tableFullName = names.size() > 2 ? DOT_JOINER.join(names.subList(0, 3)) : null;
+      switch (type) {
+        case SCHEMA:
+          metadataObjectIds.add(schemaId);
+          break;
+        case FILESET:
+        case TOPIC:
+        case MODEL:
+          metadataObjectIds.add(getMetadataObjectId(metalakeId, metadataObject.fullName(), type));
+          break;
+        case TABLE:
+          metadataObjectIds.add(
+              tableIds.computeIfAbsent(
+                  tableFullName,
+                  key ->
+                      TableMetaService.getInstance()
+                          .getTableIdBySchemaIdAndName(schemaId, names.get(2))));
+          break;
+        case COLUMN:
+          Map<String, Long> columnIds =
+              columnIdsByTable.computeIfAbsent(
+                  tableFullName, key -> listColumnIdsByName(schemaId, names.get(2)));
+          Long columnId = columnIds.get(names.get(3));
+          if (columnId == null) {
+            throw new NoSuchEntityException(
+                NoSuchEntityException.NO_SUCH_ENTITY_MESSAGE,
+                Entity.EntityType.COLUMN.name().toLowerCase(Locale.ROOT),
+                names.get(3));
+          }
+          metadataObjectIds.add(columnId);
+          break;
+        default:
+          throw new IllegalArgumentException(String.format("Doesn't support the type %s", type));
+      }
+    }
+
+    return metadataObjectIds;
+  }
+
+  /**
+   * Retrieves a map of metadata object IDs to their full names for the metadata objects of the
+   * same type. The IDs are deduplicated and queried in batches, so that a large number of IDs does
+   * not produce an oversized IN clause.
+   *
+   * @param type The type of the metadata objects.
+   * @param metadataObjectIds A list of metadata object IDs to fetch names for.
+   * @return A Map where the key is the metadata object ID and the value is the full name, the map
+   *     may contain null values for the names if its parent object is deleted.
+   */
+  static Map<Long, String> getMetadataObjectsFullName(
+      MetadataObject.Type type, List<Long> metadataObjectIds) {
+    Function<List<Long>, Map<Long, String>> fullNameFunction =
+        TYPE_TO_FULLNAME_FUNCTION_MAP.get(type);
+    List<Long> distinctIds = metadataObjectIds.stream().distinct().collect(Collectors.toList());
+
+    Map<Long, String> metadataObjectNames = new HashMap<>();
+    for (List<Long> ids : Lists.partition(distinctIds, METADATA_OBJECT_BATCH_SIZE)) {
+      metadataObjectNames.putAll(fullNameFunction.apply(ids));
+    }
+    return metadataObjectNames;
+  }
+
+  private static Map<String, Long> listColumnIdsByName(long schemaId, String tableName) {
+    TablePO tablePO =
+        TableMetaService.getInstance().getTablePOBySchemaIdAndName(schemaId, tableName);
+    return TableColumnMetaService.getInstance()
+        .getColumnsByTableIdAndVersion(tablePO.getTableId(), tablePO.getCurrentVersion())
+        .stream()
+        .collect(Collectors.toMap(ColumnPO::getColumnName, ColumnPO::getColumnId));
+  }
+
   /**
    * Retrieves a map of Metalake object IDs to their full names.
    *
@@ -201,7 +321,7 @@ public class MetadataObjectService {
     }
 
     List<Long> schemaIds =
-        filesetPOs.stream().map(FilesetPO::getSchemaId).collect(Collectors.toList());
+        filesetPOs.stream().map(FilesetPO::getSchemaId).distinct().collect(Collectors.toList());
 
     Map<Long, String> schemaIdAndNameMap = getSchemaObjectsFullName(schemaIds);
 
@@ -243,7 +363,8 @@ public class MetadataObjectService {
       return new HashMap<>();
     }
 
-    List<Long> schemaIds = modelPOs.stream().map(ModelPO::getSchemaId).collect(Collectors.toList());
+    List<Long> schemaIds =
+        modelPOs.stream().map(ModelPO::getSchemaId).distinct().collect(Collectors.toList());
 
     Map<Long, String> schemaIdAndNameMap = getSchemaObjectsFullName(schemaIds);
 
@@ -285,7 +406,8 @@ public class MetadataObjectService {
       return new HashMap<>();
     }
 
-    List<Long> schemaIds = tablePOs.stream().map(TablePO::getSchemaId).collect(Collectors.toList());
+    List<Long> schemaIds =
+        tablePOs.stream().map(TablePO::getSchemaId).distinct().collect(Collectors.toList());
 
     Map<Long, String> schemaIdAndNameMap = getSchemaObjectsFullName(schemaIds);
 
@@ -328,7 +450,8 @@ public class MetadataObjectService {
       return new HashMap<>();
     }
 
-    List<Long> tableIds = columnPOs.stream().map(ColumnPO::getTableId).collect(Collectors.toList());
+    List<Long> tableIds =
+        columnPOs.stream().map(ColumnPO::getTableId).distinct().collect(Collectors.toList());
     Map<Long, String> tableIdAndNameMap = getTableObjectsFullName(tableIds);
 
     HashMap<Long, String> columnIdAndNameMap = new HashMap<>();
@@ -373,7 +496,8 @@ public class MetadataObjectService {
       return new HashMap<>();
     }
 
-    List<Long> schemaIds = topicPOs.stream().map(TopicPO::getSchemaId).collect(Collectors.toList());
+    List<Long> schemaIds =
+        topicPOs.stream().map(TopicPO::getSchemaId).distinct().collect(Collectors.toList());
 
     Map<Long, String> schemaIdAndNameMap = getSchemaObjectsFullName(schemaIds);
 
@@ -442,7 +566,7 @@ public class MetadataObjectService {
     }
 
     List<Long> catalogIds =
-        schemaPOs.stream().map(SchemaPO::getCatalogId).collect(Collectors.toList());
+        schemaPOs.stream().map(SchemaPO::getCatalogId).distinct().collect(Collectors.toList());
 
     Map<Long, String> catalogIdAndNameMap = getCatalogObjectsFullName(catalogIds);
 
@@ -29,6 +29,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -59,6 +60,9 @@ public class ModelVersionMetaService {
     return INSTANCE;
   }
 
+  // The max number of model versions loaded by a single query when listing all the model versions.
+  private static final int LIST_MODEL_VERSIONS_PAGE_SIZE = 1000;
+
   private ModelVersionMetaService() {}
 
   public List<ModelVersionEntity> listModelVersionsByNamespace(Namespace ns) {
@@ -68,38 +72,81 @@ public class ModelVersionMetaService {
     // Will throw a NoSuchEntityException if the model does not exist.
     ModelEntity modelEntity = ModelMetaService.getInstance().getModelByIdentifier(modelIdent);
 
+    // List the model versions page by page, so that a model with a huge number of versions will
+    // not be loaded by a single query.
+    ImmutableList.Builder<ModelVersionEntity> builder = ImmutableList.builder();
+    int startVersion = 0;
+    while (true) {
+      List<ModelVersionEntity> page =
+          listModelVersionsByModelId(
+              modelIdent, modelEntity.id(), startVersion, LIST_MODEL_VERSIONS_PAGE_SIZE);
+      builder.addAll(page);
+      if (page.size() < LIST_MODEL_VERSIONS_PAGE_SIZE) {
+        return builder.build();
+      }
+      startVersion = page.get(page.size() - 1).version() + 1;
+    }
+  }
+
+  /**
+   * Lists a page of the model versions in the given namespace ordered by the version number.
+   *
+   * @param ns the namespace of the model versions
+   * @param startVersion the smallest version number to list, inclusive
+   * @param limit the max number of model versions to list
+   * @return the model versions which are not less than {@code startVersion}, at most {@code limit}
+   *     ones
+   */
+  public List<ModelVersionEntity> listModelVersionsByNamespace(
+      Namespace ns, int startVersion, int limit) {
+    NamespaceUtil.checkModelVersion(ns);
+    Preconditions.checkArgument(limit > 0, "The limit must be positive, but got %s", limit);
+
+    NameIdentifier modelIdent = NameIdentifier.of(ns.levels());
+    // Will throw a NoSuchEntityException if the model does not exist.
+    ModelEntity modelEntity = ModelMetaService.getInstance().getModelByIdentifier(modelIdent);
+
+    return listModelVersionsByModelId(modelIdent, modelEntity.id(), startVersion, limit);
+  }
+
+  private List<ModelVersionEntity> listModelVersionsByModelId(
+      NameIdentifier modelIdent, Long modelId, int startVersion, int limit) {
     List<ModelVersionPO> modelVersionPOs =
         SessionUtils.getWithoutCommit(
             ModelVersionMetaMapper.class,
-            mapper -> mapper.listModelVersionMetasByModelId(modelEntity.id()));
+            mapper ->
+                mapper.listModelVersionMetasByModelIdAndVersionRange(
+                    modelId, startVersion, limit));
 
     if (modelVersionPOs.isEmpty()) {
       return Collections.emptyList();
     }
 
-    // Get the aliases for all the model versions.
+    // Get the aliases for the model versions in this page only, the POs are ordered by version.
+    int endVersion = modelVersionPOs.get(modelVersionPOs.size() - 1).getModelVersion();
     List<ModelVersionAliasRelPO> aliasRelPOs =
         SessionUtils.getWithoutCommit(
             ModelVersionAliasRelMapper.class,
-            mapper -> mapper.selectModelVersionAliasRelsByModelId(modelEntity.id()));
+            mapper ->
+                mapper.selectModelVersionAliasRelsByModelIdAndVersionRange(
+                    modelId, startVersion, endVersion));
     Multimap<Integer, ModelVersionAliasRelPO> aliasRelPOsByModelVersion =
         ArrayListMultimap.create();
     aliasRelPOs.forEach(r -> aliasRelPOsByModelVersion.put(r.getModelVersion(), r));
 
-    return ImmutableList.copyOf(
+    Map<Integer, List<ModelVersionPO>> modelVersionPOsByVersion =
         modelVersionPOs.stream()
             .collect(
                 Collectors.groupingBy(
-                    ModelVersionPO::getModelVersion,
-                    Collectors.collectingAndThen(
-                        Collectors.<ModelVersionPO>toList(),
-                        m -> {
-                          List<ModelVersionAliasRelPO> versionAliasRelPOs =
-                              Lists.newArrayList(
-                                  aliasRelPOsByModelVersion.get(m.get(0).getModelVersion()));
-                          return POConverters.fromModelVersionPO(modelIdent, m, versionAliasRelPOs);
-                        })))
-            .values());
+                    ModelVersionPO::getModelVersion, TreeMap::new, Collectors.toList()));
+    return modelVersionPOsByVersion.entrySet().stream()
+        .map(
+            e ->
+                POConverters.fromModelVersionPO(
+                    modelIdent,
+                    e.getValue(),
+                    Lists.newArrayList(aliasRelPOsByModelVersion.get(e.getKey()))))
+        .collect(Collectors.toList());
   }
 
   public ModelVersionEntity getModelVersionByIdentifier(NameIdentifier ident) {
@@ -19,13 +19,18 @@
 package org.apache.gravitino.storage.relational.service;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.HasIdentifier;
@@ -366,6 +371,93 @@ public class PolicyMetaService {
     }
   }
 
+  public void associateMetadataObjectsWithPolicy(
+      NameIdentifier policyIdent,
+      List<Pair<NameIdentifier, Entity.EntityType>> objectsToAdd,
+      List<Pair<NameIdentifier, Entity.EntityType>> objectsToRemove)
+      throws NoSuchEntityException, IOException {
+    String metalake = policyIdent.namespace().level(0);
+
+    try {
+      Long metalakeId = MetalakeMetaService.getInstance().getMetalakeIdByName(metalake);
+      Long policyId = getPolicyPOByMetalakeAndName(metalake, policyIdent.name()).getPolicyId();
+
+      List<MetadataObject> metadataObjectsToAdd =
+          objectsToAdd.stream()
+              .map(p -> NameIdentifierUtil.toMetadataObject(p.getLeft(), p.getRight()))
+              .collect(Collectors.toList());
+      List<Long> metadataObjectIdsToAdd =
+          MetadataObjectService.getMetadataObjectIds(metalakeId, metadataObjectsToAdd);
+      List<MetadataObject> metadataObjectsToRemove =
+          objectsToRemove.stream()
+              .map(p -> NameIdentifierUtil.toMetadataObject(p.getLeft(), p.getRight()))
+              .collect(Collectors.toList());
+      List<Long> metadataObjectIdsToRemove =
+          MetadataObjectService.getMetadataObjectIds(metalakeId, metadataObjectsToRemove);
+
+      // Skip the metadata objects already associated with the policy, so a bulk association can
+      // be retried as a whole after a partial failure.
+      Set<Pair<Long, String>> associatedObjects =
+          SessionUtils.getWithoutCommit(
+                  PolicyMetadataObjectRelMapper.class,
+                  mapper ->
+                      mapper.listPolicyMetadataObjectRelsByMetalakeAndPolicyName(
+                          metalake, policyIdent.name()))
+              .stream()
+              .map(rel -> Pair.of(rel.getMetadataObjectId(), rel.getMetadataObjectType()))
+              .collect(Collectors.toSet());
+      List<PolicyMetadataObjectRelPO> policyRelsToAdd = Lists.newArrayList();
+      for (int i = 0; i < metadataObjectsToAdd.size(); i++) {
+        Long metadataObjectId = metadataObjectIdsToAdd.get(i);
+        String metadataObjectType = metadataObjectsToAdd.get(i).type().toString();
+        if (associatedObjects.add(Pair.of(metadataObjectId, metadataObjectType))) {
+          policyRelsToAdd.add(
+              POConverters.initializePolicyMetadataObjectRelPOWithVersion(
+                  policyId, metadataObjectId, metadataObjectType));
+        }
+      }
+
+      Map<String, List<Long>> metadataObjectIdsToRemoveByType = Maps.newHashMap();
+      for (int i = 0; i < metadataObjectsToRemove.size(); i++) {
+        metadataObjectIdsToRemoveByType
+            .computeIfAbsent(
+                metadataObjectsToRemove.get(i).type().toString(), k -> Lists.newArrayList())
+            .add(metadataObjectIdsToRemove.get(i));
+      }
+
+      SessionUtils.doMultipleWithCommit(
+          () -> {
+            // Insert the policy metadata object relations with multi-row statements.
+            for (List<PolicyMetadataObjectRelPO> policyRels :
+                Lists.partition(
+                    policyRelsToAdd, MetadataObjectService.METADATA_OBJECT_BATCH_SIZE)) {
+              SessionUtils.doWithoutCommit(
+                  PolicyMetadataObjectRelMapper.class,
+                  mapper -> mapper.batchInsertPolicyMetadataObjectRels(policyRels));
+            }
+          },
+          () -> {
+            // Remove the policy metadata object relations, one statement per type and batch.
+            for (Map.Entry<String, List<Long>> entry :
+                metadataObjectIdsToRemoveByType.entrySet()) {
+              for (List<Long> metadataObjectIds :
+                  Lists.partition(
+                      entry.getValue(), MetadataObjectService.METADATA_OBJECT_BATCH_SIZE)) {
+                SessionUtils.doWithoutCommit(
+                    PolicyMetadataObjectRelMapper.class,
+                    mapper ->
+                        mapper.batchDeletePolicyMetadataObjectRelsByPolicyIdAndMetadataObjectIds(
+                            policyId, entry.getKey(), metadataObjectIds));
+              }
+            }
+          });
+
+    } catch (RuntimeException e) {
+      ExceptionUtils.checkSQLException(e, Entity.EntityType.POLICY, policyIdent.toString());
+      throw e;
+    }
+  }
+
   public int deletePolicyAndVersionMetasByLegacyTimeline(Long legacyTimeline, int limit) {
     int policyDeletedCount =
         SessionUtils.doWithCommitAndFetchResult(
@@ -34,9 +34,13 @@ import org.apache.gravitino.storage.relational.po.ColumnPO;
 import org.apache.gravitino.storage.relational.po.TablePO;
 import org.apache.gravitino.storage.relational.utils.POConverters;
 import org.apache.gravitino.storage.relational.utils.SessionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class TableColumnMetaService {
 
+  private static final Logger LOG = LoggerFactory.getLogger(TableColumnMetaService.class);
+
   private static final TableColumnMetaService INSTANCE = new TableColumnMetaService();
 
   private TableColumnMetaService() {}
@@ -46,15 +50,10 @@ public class TableColumnMetaService {
   }
 
   List<ColumnPO> getColumnsByTableIdAndVersion(Long tableId, Long version) {
-    List<ColumnPO> columnPOs =
-        SessionUtils.getWithoutCommit(
-            TableColumnMapper.class,
-            mapper -> mapper.listColumnPOsByTableIdAndVersion(tableId, version));
-
-    // Filter out the deleted columns
-    return columnPOs.stream()
-        .filter(c -> c.getColumnOpType() != ColumnPO.ColumnOpType.DELETE.value())
-        .collect(Collectors.toList());
+    // The deleted columns are filtered out in SQL.
+    return SessionUtils.getWithoutCommit(
+        TableColumnMapper.class,
+        mapper -> mapper.listColumnPOsByTableIdAndVersion(tableId, version));
   }
 
   Long getColumnIdByTableIdAndName(Long tableId, String columnName) {
@@ -111,6 +110,36 @@ public class TableColumnMetaService {
         mapper -> mapper.deleteColumnPOsByLegacyTimeline(legacyTimeline, limit));
   }
 
+  /**
+   * Soft delete the column rows which are no longer needed to load the retained table versions.
+   * Only the changed columns are written for each table version, so a column row is superseded
+   * once a newer row of the same column is out of the retention count. This compacts the column
+   * rows of each table to a snapshot of its retained versions.
+   *
+   * @param versionRetentionCount The count of table versions to retain.
+   * @param limit The maximum number of column rows to delete.
+   * @return The number of column rows deleted.
+   */
+  public int deleteColumnVersionsByRetentionCount(Long versionRetentionCount, int limit) {
+    List<Long> columnRowIds =
+        SessionUtils.getWithoutCommit(
+            TableColumnMapper.class,
+            mapper -> mapper.selectColumnIdsByRetentionCount(versionRetentionCount, limit));
+    if (columnRowIds.isEmpty()) {
+      return 0;
+    }
+
+    int deletedCount =
+        SessionUtils.doWithCommitAndFetchResult(
+            TableColumnMapper.class, mapper -> mapper.softDeleteColumnsByIds(columnRowIds));
+    LOG.info(
+        "Soft delete {} column rows which are superseded by the versions out of the retention"
+            + " count: {}.",
+        deletedCount,
+        versionRetentionCount);
+    return deletedCount;
+  }
+
   boolean isColumnUpdated(TableEntity oldTable, TableEntity newTable) {
     Map<Long, ColumnEntity> oldColumns =
         oldTable.columns() == null
@@ -269,7 +269,7 @@ public class TableMetaService {
     builder.withSchemaId(parentEntityIds[2]);
   }
 
-  private TablePO getTablePOBySchemaIdAndName(Long schemaId, String tableName) {
+  TablePO getTablePOBySchemaIdAndName(Long schemaId, String tableName) {
     TablePO tablePO =
         SessionUtils.getWithoutCommit(
             TableMetaMapper.class,
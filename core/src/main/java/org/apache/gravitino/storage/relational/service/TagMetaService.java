@@ -20,14 +20,17 @@ package org.apache.gravitino.storage.relational.service;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.HasIdentifier;
@@ -245,9 +248,8 @@ public class TagMetaService {
                 .map(TagMetadataObjectRelPO::getMetadataObjectId)
                 .collect(Collectors.toList());
         Map<Long, String> metadataObjectNames =
-            MetadataObjectService.TYPE_TO_FULLNAME_FUNCTION_MAP
-                .get(MetadataObject.Type.valueOf(metadataObjectType))
-                .apply(metadataObjectIds);
+            MetadataObjectService.getMetadataObjectsFullName(
+                MetadataObject.Type.valueOf(metadataObjectType), metadataObjectIds);
 
         for (Map.Entry<Long, String> metadataObjectName : metadataObjectNames.entrySet()) {
           String fullName = metadataObjectName.getValue();
@@ -352,6 +354,92 @@ public class TagMetaService {
     }
   }
 
+  public void associateMetadataObjectsWithTag(
+      NameIdentifier tagIdent,
+      List<Pair<NameIdentifier, Entity.EntityType>> objectsToAdd,
+      List<Pair<NameIdentifier, Entity.EntityType>> objectsToRemove)
+      throws NoSuchEntityException, IOException {
+    String metalake = tagIdent.namespace().level(0);
+
+    try {
+      Long metalakeId = MetalakeMetaService.getInstance().getMetalakeIdByName(metalake);
+      Long tagId = getTagPOByMetalakeAndName(metalake, tagIdent.name()).getTagId();
+
+      List<MetadataObject> metadataObjectsToAdd =
+          objectsToAdd.stream()
+              .map(p -> NameIdentifierUtil.toMetadataObject(p.getLeft(), p.getRight()))
+              .collect(Collectors.toList());
+      List<Long> metadataObjectIdsToAdd =
+          MetadataObjectService.getMetadataObjectIds(metalakeId, metadataObjectsToAdd);
+      List<MetadataObject> metadataObjectsToRemove =
+          objectsToRemove.stream()
+              .map(p -> NameIdentifierUtil.toMetadataObject(p.getLeft(), p.getRight()))
+              .collect(Collectors.toList());
+      List<Long> metadataObjectIdsToRemove =
+          MetadataObjectService.getMetadataObjectIds(metalakeId, metadataObjectsToRemove);
+
+      // Skip the metadata objects already associated with the tag, so a bulk association can be
+      // retried as a whole after a partial failure.
+      Set<Pair<Long, String>> associatedObjects =
+          SessionUtils.getWithoutCommit(
+                  TagMetadataObjectRelMapper.class,
+                  mapper ->
+                      mapper.listTagMetadataObjectRelsByMetalakeAndTagName(
+                          metalake, tagIdent.name()))
+              .stream()
+              .map(rel -> Pair.of(rel.getMetadataObjectId(), rel.getMetadataObjectType()))
+              .collect(Collectors.toSet());
+      List<TagMetadataObjectRelPO> tagRelsToAdd = Lists.newArrayList();
+      for (int i = 0; i < metadataObjectsToAdd.size(); i++) {
+        Long metadataObjectId = metadataObjectIdsToAdd.get(i);
+        String metadataObjectType = metadataObjectsToAdd.get(i).type().toString();
+        if (associatedObjects.add(Pair.of(metadataObjectId, metadataObjectType))) {
+          tagRelsToAdd.add(
+              POConverters.initializeTagMetadataObjectRelPOWithVersion(
+                  tagId, metadataObjectId, metadataObjectType));
+        }
+      }
+
+      Map<String, List<Long>> metadataObjectIdsToRemoveByType = Maps.newHashMap();
+      for (int i = 0; i < metadataObjectsToRemove.size(); i++) {
+        metadataObjectIdsToRemoveByType
+            .computeIfAbsent(
+                metadataObjectsToRemove.get(i).type().toString(), k -> Lists.newArrayList())
+            .add(metadataObjectIdsToRemove.get(i));
+      }
+
+      SessionUtils.doMultipleWithCommit(
+          () -> {
+            // Insert the tag metadata object relations with multi-row statements.
+            for (List<TagMetadataObjectRelPO> tagRels :
+                Lists.partition(tagRelsToAdd, MetadataObjectService.METADATA_OBJECT_BATCH_SIZE)) {
+              SessionUtils.doWithoutCommit(
+                  TagMetadataObjectRelMapper.class,
+                  mapper -> mapper.batchInsertTagMetadataObjectRels(tagRels));
+            }
+          },
+          () -> {
+            // Remove the tag metadata object relations, one statement per type and batch.
+            for (Map.Entry<String, List<Long>> entry :
+                metadataObjectIdsToRemoveByType.entrySet()) {
+              for (List<Long> metadataObjectIds :
+                  Lists.partition(
+                      entry.getValue(), MetadataObjectService.METADATA_OBJECT_BATCH_SIZE)) {
+                SessionUtils.doWithoutCommit(
+                    TagMetadataObjectRelMapper.class,
+                    mapper ->
+                        mapper.batchDeleteTagMetadataObjectRelsByTagIdAndMetadataObjectIds(
+                            tagId, entry.getKey(), metadataObjectIds));
+              }
+            }
+          });
+
+    } catch (RuntimeException e) {
+      ExceptionUtils.checkSQLException(e, Entity.EntityType.TAG, tagIdent.toString());
+      throw e;
+    }
+  }
+
   public int deleteTagMetasByLegacyTimeline(long legacyTimeline, int limit) {
     int[] tagDeletedCount = new int[] {0};
     int[] tagMetadataObjectRelDeletedCount = new int[] {0};
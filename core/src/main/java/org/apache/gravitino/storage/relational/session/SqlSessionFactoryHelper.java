@@ -32,6 +32,7 @@ import org.apache.gravitino.metrics.MetricsSystem;
 import org.apache.gravitino.metrics.source.RelationDatasourceMetricsSource;
 import org.apache.gravitino.storage.relational.JDBCBackend.JDBCBackendType;
 import org.apache.gravitino.storage.relational.mapper.provider.MapperPackageProvider;
+import org.apache.gravitino.storage.relational.utils.EntityColumnCodec;
 import org.apache.gravitino.utils.JdbcUrlUtils;
 import org.apache.ibatis.mapping.Environment;
 import org.apache.ibatis.session.Configuration;
@@ -47,6 +48,9 @@ import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
  */
 public class SqlSessionFactoryHelper {
   private static volatile SqlSessionFactory sqlSessionFactory;
+  // The codec of the entity columns written through the SqlSessionFactory, it's created from the
+  // same config as the SqlSessionFactory.
+  private static volatile EntityColumnCodec columnCodec = EntityColumnCodec.JSON_CODEC;
   private static final SqlSessionFactoryHelper INSTANCE = new SqlSessionFactoryHelper();
 
   public static SqlSessionFactoryHelper getInstance() {
@@ -115,6 +119,11 @@ public class SqlSessionFactoryHelper {
       synchronized (SqlSessionFactoryHelper.class) {
         if (sqlSessionFactory == null) {
           sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+          // The config may be a mock in tests, so the absent value falls back to the default.
+          columnCodec =
+              "smile".equals(config.get(Configs.ENTITY_RELATIONAL_COLUMN_ENCODING))
+                  ? new EntityColumnCodec(EntityColumnCodec.Format.SMILE)
+                  : EntityColumnCodec.JSON_CODEC;
         }
       }
     }
@@ -125,6 +134,16 @@ public class SqlSessionFactoryHelper {
     return sqlSessionFactory;
   }
 
+  /**
+   * Get the codec of the entity columns, which writes the values in the format configured for the
+   * SqlSessionFactory, or the JSON format if the SqlSessionFactory is not initialized.
+   *
+   * @return The codec of the entity columns.
+   */
+  public EntityColumnCodec columnCodec() {
+    return columnCodec;
+  }
+
   public void close() {
     if (sqlSessionFactory != null) {
       synchronized (SqlSessionFactoryHelper.class) {
@@ -138,6 +157,7 @@ public class SqlSessionFactoryHelper {
             // silently ignore the error report
           }
           sqlSessionFactory = null;
+          columnCodec = EntityColumnCodec.JSON_CODEC;
         }
       }
     }
@@ -27,6 +27,10 @@ import org.apache.ibatis.session.TransactionIsolationLevel;
  * SqlSessions is a utility class to maintain the MyBatis's {@link SqlSession} object. It is a
  * thread local class and should be used to get the {@link SqlSession} object. It also provides the
  * methods to commit, rollback and close the {@link SqlSession} object.
+ *
+ * <p>The {@link SqlSession} object must be closed by the thread opening it. The web servers may run
+ * the requests on virtual threads, which are never reused, so a session left open is not picked up
+ * by a later request and holds its connection until it is garbage collected.
  */
 public final class SqlSessions {
   private static final ThreadLocal<SqlSession> sessions = new ThreadLocal<>();
@@ -57,6 +61,11 @@ public final class SqlSessions {
     return sqlSession;
   }
 
+  /** @return True if a SqlSession object is present in the thread local storage. */
+  public static boolean hasSqlSession() {
+    return sessions.get() != null;
+  }
+
   /**
    * Commit the SqlSession object and close it. It also removes the SqlSession object from the
    * thread local storage.
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.google.common.annotations.VisibleForTesting;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+import org.apache.gravitino.json.JsonUtils;
+
+/**
+ * EntityColumnCodec encodes the objects stored in the text columns of the relational entity store,
+ * such as the properties, the audit info, the schema version and the column type. It supports the
+ * following formats:
+ *
+ * <ul>
+ *   <li>{@link Format#JSON}: The JSON text written by {@link JsonUtils#anyFieldMapper()}, which is
+ *       the format of all the values written before the other formats are introduced.
+ *   <li>{@link Format#SMILE}: The Base64 text of the Jackson Smile binary encoding, prefixed with
+ *       the marker "~1". It's more compact and much cheaper to parse than the JSON text.
+ * </ul>
+ *
+ * <p>Values are always written in the format of the codec, while the format of each value is
+ * detected by its marker when reading. So the values written in different formats can be read
+ * together, and the existing values can be migrated in the background, see {@link
+ * org.apache.gravitino.storage.relational.EntityColumnMigrator}. The codec of the relational entity
+ * store is created from its config, see {@link
+ * org.apache.gravitino.storage.relational.session.SqlSessionFactoryHelper#columnCodec()}.
+ */
+public class EntityColumnCodec {
+
+  /** The encoding formats of the entity columns. */
+  public enum Format {
+    JSON,
+    SMILE
+  }
+
+  // No JSON text starts with '~', the digit is the version of the binary format.
+  @VisibleForTesting static final String SMILE_MARKER = "~1";
+
+  private static final ObjectMapper SMILE_MAPPER =
+      JsonUtils.anyFieldMapper().copyWith(new SmileFactory());
+
+  /** The codec writing the JSON text, which is the default format. */
+  public static final EntityColumnCodec JSON_CODEC = new EntityColumnCodec(Format.JSON);
+
+  private final Format writeFormat;
+
+  /**
+   * Create a codec writing the values in the given format.
+   *
+   * @param writeFormat The format to write the entity columns.
+   */
+  public EntityColumnCodec(Format writeFormat) {
+    this.writeFormat = writeFormat;
+  }
+
+  /** @return The format to write the entity columns. */
+  public Format writeFormat() {
+    return writeFormat;
+  }
+
+  /**
+   * Encode the value in the format of the codec.
+   *
+   * @param value The value to encode.
+   * @return The encoded text of the value.
+   * @throws JsonProcessingException If the value fails to be encoded.
+   */
+  public String writeValueAsString(Object value) throws JsonProcessingException {
+    // Null is kept as the JSON text "null" since it's shorter than any encoded binary.
+    if (writeFormat == Format.JSON || value == null) {
+      return JsonUtils.anyFieldMapper().writeValueAsString(value);
+    }
+    return SMILE_MARKER + Base64.getEncoder().encodeToString(SMILE_MAPPER.writeValueAsBytes(value));
+  }
+
+  /**
+   * Decode the value from the text in any supported format.
+   *
+   * @param content The encoded text.
+   * @param valueType The class of the value.
+   * @return The decoded value.
+   * @param <T> The type of the value.
+   * @throws JsonProcessingException If the text fails to be decoded.
+   */
+  public static <T> T readValue(String content, Class<T> valueType) throws JsonProcessingException {
+    if (!isBinary(content)) {
+      return JsonUtils.anyFieldMapper().readValue(content, valueType);
+    }
+    try {
+      return SMILE_MAPPER.readValue(decodeBinary(content), valueType);
+    } catch (JsonProcessingException e) {
+      throw e;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Decode the value from the text in any supported format.
+   *
+   * @param content The encoded text.
+   * @param valueTypeRef The type reference of the value.
+   * @return The decoded value.
+   * @param <T> The type of the value.
+   * @throws JsonProcessingException If the text fails to be decoded.
+   */
+  public static <T> T readValue(String content, TypeReference<T> valueTypeRef)
+      throws JsonProcessingException {
+    if (!isBinary(content)) {
+      return JsonUtils.anyFieldMapper().readValue(content, valueTypeRef);
+    }
+    try {
+      return SMILE_MAPPER.readValue(decodeBinary(content), valueTypeRef);
+    } catch (JsonProcessingException e) {
+      throw e;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Re-encode the text in the format of the codec without knowing the type of the value, the text
+   * already in the format of the codec is returned as it is.
+   *
+   * @param content The encoded text.
+   * @return The text encoded in the format of the codec.
+   * @throws JsonProcessingException If the text fails to be decoded or encoded.
+   */
+  public String reencode(String content) throws JsonProcessingException {
+    if (content == null || isBinary(content) == (writeFormat == Format.SMILE)) {
+      return content;
+    }
+    JsonNode tree;
+    if (isBinary(content)) {
+      try {
+        tree = SMILE_MAPPER.readTree(decodeBinary(content));
+      } catch (JsonProcessingException e) {
+        throw e;
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    } else {
+      tree = JsonUtils.anyFieldMapper().readTree(content);
+    }
+    return tree.isNull() ? content : writeValueAsString(tree);
+  }
+
+  /**
+   * @param content The encoded text.
+   * @return true if the text is encoded in a binary format.
+   */
+  public static boolean isBinary(String content) {
+    return content != null && content.startsWith(SMILE_MARKER);
+  }
+
+  private static byte[] decodeBinary(String content) {
+    return Base64.getDecoder().decode(content.substring(SMILE_MARKER.length()));
+  }
+}
@@ -20,6 +20,7 @@
 package org.apache.gravitino.storage.relational.utils;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
 import java.time.Instant;
 import java.util.Collections;
@@ -39,7 +40,6 @@ import org.apache.gravitino.authorization.SecurableObjects;
 import org.apache.gravitino.dto.rel.expressions.FunctionArg;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.file.Fileset;
-import org.apache.gravitino.json.JsonUtils;
 import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.meta.BaseMetalake;
 import org.apache.gravitino.meta.CatalogEntity;
@@ -86,6 +86,7 @@ import org.apache.gravitino.storage.relational.po.TagPO;
 import org.apache.gravitino.storage.relational.po.TopicPO;
 import org.apache.gravitino.storage.relational.po.UserPO;
 import org.apache.gravitino.storage.relational.po.UserRoleRelPO;
+import org.apache.gravitino.storage.relational.session.SqlSessionFactoryHelper;
 import org.apache.gravitino.utils.PrincipalUtils;
 
 /** POConverters is a utility class to convert PO to Base and vice versa. */
@@ -95,6 +96,11 @@ public class POConverters {
 
   private POConverters() {}
 
+  // The entity columns are written in the format configured for the relational entity store.
+  private static EntityColumnCodec columnCodec() {
+    return SqlSessionFactoryHelper.getInstance().columnCodec();
+  }
+
   /**
    * Initialize MetalakePO
    *
@@ -107,10 +113,9 @@ public class POConverters {
           .withMetalakeId(baseMetalake.id())
           .withMetalakeName(baseMetalake.name())
           .withMetalakeComment(baseMetalake.comment())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(baseMetalake.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(baseMetalake.auditInfo()))
-          .withSchemaVersion(
-              JsonUtils.anyFieldMapper().writeValueAsString(baseMetalake.getVersion()))
+          .withProperties(columnCodec().writeValueAsString(baseMetalake.properties()))
+          .withAuditInfo(columnCodec().writeValueAsString(baseMetalake.auditInfo()))
+          .withSchemaVersion(columnCodec().writeValueAsString(baseMetalake.getVersion()))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -137,10 +142,9 @@ public class POConverters {
           .withMetalakeId(newMetalake.id())
           .withMetalakeName(newMetalake.name())
           .withMetalakeComment(newMetalake.comment())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(newMetalake.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newMetalake.auditInfo()))
-          .withSchemaVersion(
-              JsonUtils.anyFieldMapper().writeValueAsString(newMetalake.getVersion()))
+          .withProperties(columnCodec().writeValueAsString(newMetalake.properties()))
+          .withAuditInfo(columnCodec().writeValueAsString(newMetalake.auditInfo()))
+          .withSchemaVersion(columnCodec().writeValueAsString(newMetalake.getVersion()))
           .withCurrentVersion(nextVersion)
           .withLastVersion(nextVersion)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -162,13 +166,10 @@ public class POConverters {
           .withId(metalakePO.getMetalakeId())
           .withName(metalakePO.getMetalakeName())
           .withComment(metalakePO.getMetalakeComment())
-          .withProperties(
-              JsonUtils.anyFieldMapper().readValue(metalakePO.getProperties(), Map.class))
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(metalakePO.getAuditInfo(), AuditInfo.class))
+          .withProperties(EntityColumnCodec.readValue(metalakePO.getProperties(), Map.class))
+          .withAuditInfo(EntityColumnCodec.readValue(metalakePO.getAuditInfo(), AuditInfo.class))
           .withVersion(
-              JsonUtils.anyFieldMapper()
-                  .readValue(metalakePO.getSchemaVersion(), SchemaVersion.class))
+              EntityColumnCodec.readValue(metalakePO.getSchemaVersion(), SchemaVersion.class))
           .build();
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize json object:", e);
@@ -195,6 +196,12 @@ public class POConverters {
    */
   public static CatalogPO initializeCatalogPOWithVersion(
       CatalogEntity catalogEntity, Long metalakeId) {
+    return initializeCatalogPOWithVersion(catalogEntity, metalakeId, columnCodec());
+  }
+
+  @VisibleForTesting
+  static CatalogPO initializeCatalogPOWithVersion(
+      CatalogEntity catalogEntity, Long metalakeId, EntityColumnCodec codec) {
     try {
       return CatalogPO.builder()
           .withCatalogId(catalogEntity.id())
@@ -203,9 +210,8 @@ public class POConverters {
           .withType(catalogEntity.getType().name())
           .withProvider(catalogEntity.getProvider())
           .withCatalogComment(catalogEntity.getComment())
-          .withProperties(
-              JsonUtils.anyFieldMapper().writeValueAsString(catalogEntity.getProperties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(catalogEntity.auditInfo()))
+          .withProperties(codec.writeValueAsString(catalogEntity.getProperties()))
+          .withAuditInfo(codec.writeValueAsString(catalogEntity.auditInfo()))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -237,8 +243,8 @@ public class POConverters {
           .withType(newCatalog.getType().name())
           .withProvider(newCatalog.getProvider())
           .withCatalogComment(newCatalog.getComment())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(newCatalog.getProperties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newCatalog.auditInfo()))
+          .withProperties(columnCodec().writeValueAsString(newCatalog.getProperties()))
+          .withAuditInfo(columnCodec().writeValueAsString(newCatalog.auditInfo()))
           .withCurrentVersion(nextVersion)
           .withLastVersion(nextVersion)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -264,10 +270,8 @@ public class POConverters {
           .withType(Catalog.Type.valueOf(catalogPO.getType()))
           .withProvider(catalogPO.getProvider())
           .withComment(catalogPO.getCatalogComment())
-          .withProperties(
-              JsonUtils.anyFieldMapper().readValue(catalogPO.getProperties(), Map.class))
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(catalogPO.getAuditInfo(), AuditInfo.class))
+          .withProperties(EntityColumnCodec.readValue(catalogPO.getProperties(), Map.class))
+          .withAuditInfo(EntityColumnCodec.readValue(catalogPO.getAuditInfo(), AuditInfo.class))
           .build();
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize json object:", e);
@@ -303,8 +307,8 @@ public class POConverters {
           .withSchemaId(schemaEntity.id())
           .withSchemaName(schemaEntity.name())
           .withSchemaComment(schemaEntity.comment())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(schemaEntity.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(schemaEntity.auditInfo()))
+          .withProperties(columnCodec().writeValueAsString(schemaEntity.properties()))
+          .withAuditInfo(columnCodec().writeValueAsString(schemaEntity.auditInfo()))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -332,8 +336,8 @@ public class POConverters {
           .withMetalakeId(oldSchemaPO.getMetalakeId())
           .withCatalogId(oldSchemaPO.getCatalogId())
           .withSchemaComment(newSchema.comment())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(newSchema.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newSchema.auditInfo()))
+          .withProperties(columnCodec().writeValueAsString(newSchema.properties()))
+          .withAuditInfo(columnCodec().writeValueAsString(newSchema.auditInfo()))
           .withCurrentVersion(nextVersion)
           .withLastVersion(nextVersion)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -357,9 +361,8 @@ public class POConverters {
           .withName(schemaPO.getSchemaName())
           .withNamespace(namespace)
           .withComment(schemaPO.getSchemaComment())
-          .withProperties(JsonUtils.anyFieldMapper().readValue(schemaPO.getProperties(), Map.class))
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(schemaPO.getAuditInfo(), AuditInfo.class))
+          .withProperties(EntityColumnCodec.readValue(schemaPO.getProperties(), Map.class))
+          .withAuditInfo(EntityColumnCodec.readValue(schemaPO.getAuditInfo(), AuditInfo.class))
           .build();
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize json object:", e);
@@ -393,7 +396,7 @@ public class POConverters {
       return builder
           .withTableId(tableEntity.id())
           .withTableName(tableEntity.name())
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(tableEntity.auditInfo()))
+          .withAuditInfo(columnCodec().writeValueAsString(tableEntity.auditInfo()))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -430,7 +433,7 @@ public class POConverters {
           .withMetalakeId(oldTablePO.getMetalakeId())
           .withCatalogId(oldTablePO.getCatalogId())
           .withSchemaId(oldTablePO.getSchemaId())
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newTable.auditInfo()))
+          .withAuditInfo(columnCodec().writeValueAsString(newTable.auditInfo()))
           .withCurrentVersion(currentVersion)
           .withLastVersion(lastVersion)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -459,8 +462,7 @@ public class POConverters {
           .withName(tablePO.getTableName())
           .withNamespace(namespace)
           .withColumns(fromColumnPOs(columnPOs))
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(tablePO.getAuditInfo(), AuditInfo.class))
+          .withAuditInfo(EntityColumnCodec.readValue(tablePO.getAuditInfo(), AuditInfo.class))
           .build();
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize json object:", e);
@@ -473,7 +475,7 @@ public class POConverters {
           .withId(columnPO.getColumnId())
           .withName(columnPO.getColumnName())
           .withPosition(columnPO.getColumnPosition())
-          .withDataType(JsonUtils.anyFieldMapper().readValue(columnPO.getColumnType(), Type.class))
+          .withDataType(EntityColumnCodec.readValue(columnPO.getColumnType(), Type.class))
           .withComment(columnPO.getColumnComment())
           .withAutoIncrement(
               ColumnPO.AutoIncrement.fromValue(columnPO.getAutoIncrement()).autoIncrement())
@@ -483,10 +485,9 @@ public class POConverters {
                   ? Column.DEFAULT_VALUE_NOT_SET
                   : DTOConverters.fromFunctionArg(
                       (FunctionArg)
-                          JsonUtils.anyFieldMapper()
-                              .readValue(columnPO.getDefaultValue(), Expression.class)))
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(columnPO.getAuditInfo(), AuditInfo.class))
+                          EntityColumnCodec.readValue(
+                              columnPO.getDefaultValue(), Expression.class)))
+          .withAuditInfo(EntityColumnCodec.readValue(columnPO.getAuditInfo(), AuditInfo.class))
           .build();
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize json object:", e);
@@ -499,6 +500,14 @@ public class POConverters {
 
   public static ColumnPO initializeColumnPO(
       TablePO tablePO, ColumnEntity columnEntity, ColumnPO.ColumnOpType opType) {
+    return initializeColumnPO(tablePO, columnEntity, opType, columnCodec());
+  }
+
+  private static ColumnPO initializeColumnPO(
+      TablePO tablePO,
+      ColumnEntity columnEntity,
+      ColumnPO.ColumnOpType opType,
+      EntityColumnCodec codec) {
     try {
       return ColumnPO.builder()
           .withColumnId(columnEntity.id())
@@ -509,7 +518,7 @@ public class POConverters {
           .withSchemaId(tablePO.getSchemaId())
           .withTableId(tablePO.getTableId())
           .withTableVersion(tablePO.getCurrentVersion())
-          .withColumnType(JsonUtils.anyFieldMapper().writeValueAsString(columnEntity.dataType()))
+          .withColumnType(codec.writeValueAsString(columnEntity.dataType()))
           .withColumnComment(columnEntity.comment())
           .withNullable(ColumnPO.Nullable.fromBoolean(columnEntity.nullable()).value())
           .withAutoIncrement(
@@ -518,10 +527,10 @@ public class POConverters {
               columnEntity.defaultValue() == null
                       || columnEntity.defaultValue().equals(Column.DEFAULT_VALUE_NOT_SET)
                   ? null
-                  : JsonUtils.anyFieldMapper()
-                      .writeValueAsString(DTOConverters.toFunctionArg(columnEntity.defaultValue())))
+                  : codec.writeValueAsString(
+                      DTOConverters.toFunctionArg(columnEntity.defaultValue())))
           .withColumnOpType(opType.value())
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(columnEntity.auditInfo()))
+          .withAuditInfo(codec.writeValueAsString(columnEntity.auditInfo()))
           .withDeletedAt(DEFAULT_DELETED_AT)
           .build();
     } catch (JsonProcessingException e) {
@@ -531,8 +540,17 @@ public class POConverters {
 
   public static List<ColumnPO> initializeColumnPOs(
       TablePO tablePO, List<ColumnEntity> columnEntities, ColumnPO.ColumnOpType opType) {
+    return initializeColumnPOs(tablePO, columnEntities, opType, columnCodec());
+  }
+
+  @VisibleForTesting
+  static List<ColumnPO> initializeColumnPOs(
+      TablePO tablePO,
+      List<ColumnEntity> columnEntities,
+      ColumnPO.ColumnOpType opType,
+      EntityColumnCodec codec) {
     return columnEntities.stream()
-        .map(columnEntity -> initializeColumnPO(tablePO, columnEntity, opType))
+        .map(columnEntity -> initializeColumnPO(tablePO, columnEntity, opType, codec))
         .collect(Collectors.toList());
   }
 
@@ -560,7 +578,7 @@ public class POConverters {
   public static FilesetPO initializeFilesetPOWithVersion(
       FilesetEntity filesetEntity, FilesetPO.Builder builder) {
     try {
-      String props = JsonUtils.anyFieldMapper().writeValueAsString(filesetEntity.properties());
+      String props = columnCodec().writeValueAsString(filesetEntity.properties());
       List<FilesetVersionPO> filesetVersionPOs =
           filesetEntity.storageLocations().entrySet().stream()
               .map(
@@ -582,7 +600,7 @@ public class POConverters {
           .withFilesetId(filesetEntity.id())
           .withFilesetName(filesetEntity.name())
           .withType(filesetEntity.filesetType().name())
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(filesetEntity.auditInfo()))
+          .withAuditInfo(columnCodec().writeValueAsString(filesetEntity.auditInfo()))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -613,7 +631,7 @@ public class POConverters {
       if (needUpdateVersion) {
         lastVersion++;
         currentVersion = lastVersion;
-        String props = JsonUtils.anyFieldMapper().writeValueAsString(newFileset.properties());
+        String props = columnCodec().writeValueAsString(newFileset.properties());
         newFilesetVersionPOs =
             newFileset.storageLocations().entrySet().stream()
                 .map(
@@ -642,7 +660,7 @@ public class POConverters {
           .withCatalogId(oldFilesetPO.getCatalogId())
           .withSchemaId(oldFilesetPO.getSchemaId())
           .withType(newFileset.filesetType().name())
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newFileset.auditInfo()))
+          .withAuditInfo(columnCodec().writeValueAsString(newFileset.auditInfo()))
           .withCurrentVersion(currentVersion)
           .withLastVersion(lastVersion)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -667,8 +685,7 @@ public class POConverters {
 
     try {
       Map<String, String> oldProperties =
-          JsonUtils.anyFieldMapper()
-              .readValue(oldFilesetVersionPOs.get(0).getProperties(), Map.class);
+          EntityColumnCodec.readValue(oldFilesetVersionPOs.get(0).getProperties(), Map.class);
       if (oldProperties == null) {
         return newFileset.properties() != null;
       }
@@ -687,8 +704,8 @@ public class POConverters {
 
     try {
       PolicyContent oldContent =
-          JsonUtils.anyFieldMapper()
-              .readValue(oldPolicyVersionPO.getContent(), newPolicy.policyType().contentClass());
+          EntityColumnCodec.readValue(
+              oldPolicyVersionPO.getContent(), newPolicy.policyType().contentClass());
       if (oldContent == null) {
         return newPolicy.content() != null;
       }
@@ -715,7 +732,7 @@ public class POConverters {
                 .withVersion(currentVersion)
                 .withPolicyComment(newPolicy.comment())
                 .withEnabled(newPolicy.enabled())
-                .withContent(JsonUtils.anyFieldMapper().writeValueAsString(newPolicy.content()))
+                .withContent(columnCodec().writeValueAsString(newPolicy.content()))
                 .withDeletedAt(DEFAULT_DELETED_AT)
                 .build();
       } else {
@@ -727,7 +744,7 @@ public class POConverters {
           .withPolicyName(newPolicy.name())
           .withPolicyType(newPolicy.policyType().name())
           .withMetalakeId(oldPolicyPO.getMetalakeId())
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newPolicy.auditInfo()))
+          .withAuditInfo(columnCodec().writeValueAsString(newPolicy.auditInfo()))
           .withCurrentVersion(currentVersion)
           .withLastVersion(lastVersion)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -760,10 +777,9 @@ public class POConverters {
           .withFilesetType(Fileset.Type.valueOf(filesetPO.getType()))
           .withStorageLocations(storageLocations)
           .withProperties(
-              JsonUtils.anyFieldMapper()
-                  .readValue(filesetPO.getFilesetVersionPOs().get(0).getProperties(), Map.class))
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(filesetPO.getAuditInfo(), AuditInfo.class))
+              EntityColumnCodec.readValue(
+                  filesetPO.getFilesetVersionPOs().get(0).getProperties(), Map.class))
+          .withAuditInfo(EntityColumnCodec.readValue(filesetPO.getAuditInfo(), AuditInfo.class))
           .build();
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize json object:", e);
@@ -777,9 +793,8 @@ public class POConverters {
           .withName(topicPO.getTopicName())
           .withNamespace(namespace)
           .withComment(topicPO.getComment())
-          .withProperties(JsonUtils.anyFieldMapper().readValue(topicPO.getProperties(), Map.class))
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(topicPO.getAuditInfo(), AuditInfo.class))
+          .withProperties(EntityColumnCodec.readValue(topicPO.getProperties(), Map.class))
+          .withAuditInfo(EntityColumnCodec.readValue(topicPO.getAuditInfo(), AuditInfo.class))
           .build();
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize json object:", e);
@@ -813,8 +828,8 @@ public class POConverters {
           .withTopicId(topicEntity.id())
           .withTopicName(topicEntity.name())
           .withComment(topicEntity.comment())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(topicEntity.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(topicEntity.auditInfo()))
+          .withProperties(columnCodec().writeValueAsString(topicEntity.properties()))
+          .withAuditInfo(columnCodec().writeValueAsString(topicEntity.auditInfo()))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -836,8 +851,8 @@ public class POConverters {
           .withCatalogId(oldTopicPO.getCatalogId())
           .withSchemaId(oldTopicPO.getSchemaId())
           .withComment(newEntity.comment())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(newEntity.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newEntity.auditInfo()))
+          .withProperties(columnCodec().writeValueAsString(newEntity.properties()))
+          .withAuditInfo(columnCodec().writeValueAsString(newEntity.auditInfo()))
           .withCurrentVersion(nextVersion)
           .withLastVersion(nextVersion)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -860,7 +875,7 @@ public class POConverters {
       return builder
           .withUserId(userEntity.id())
           .withUserName(userEntity.name())
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(userEntity.auditInfo()))
+          .withAuditInfo(columnCodec().writeValueAsString(userEntity.auditInfo()))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -887,7 +902,7 @@ public class POConverters {
           .withUserId(oldUserPO.getUserId())
           .withUserName(newUser.name())
           .withMetalakeId(oldUserPO.getMetalakeId())
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newUser.auditInfo()))
+          .withAuditInfo(columnCodec().writeValueAsString(newUser.auditInfo()))
           .withCurrentVersion(nextVersion)
           .withLastVersion(nextVersion)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -916,8 +931,7 @@ public class POConverters {
               .withId(userPO.getUserId())
               .withName(userPO.getUserName())
               .withNamespace(namespace)
-              .withAuditInfo(
-                  JsonUtils.anyFieldMapper().readValue(userPO.getAuditInfo(), AuditInfo.class));
+              .withAuditInfo(EntityColumnCodec.readValue(userPO.getAuditInfo(), AuditInfo.class));
       if (!roleNames.isEmpty()) {
         builder.withRoleNames(roleNames);
       }
@@ -944,11 +958,10 @@ public class POConverters {
               .withId(userPO.getUserId())
               .withName(userPO.getUserName())
               .withNamespace(namespace)
-              .withAuditInfo(
-                  JsonUtils.anyFieldMapper().readValue(userPO.getAuditInfo(), AuditInfo.class));
+              .withAuditInfo(EntityColumnCodec.readValue(userPO.getAuditInfo(), AuditInfo.class));
       if (StringUtils.isNotBlank(userPO.getRoleNames())) {
         List<String> roleNamesFromJson =
-            JsonUtils.anyFieldMapper().readValue(userPO.getRoleNames(), List.class);
+            EntityColumnCodec.readValue(userPO.getRoleNames(), List.class);
         List<String> roleNames =
             roleNamesFromJson.stream().filter(StringUtils::isNotBlank).collect(Collectors.toList());
         if (!roleNames.isEmpty()) {
@@ -960,8 +973,7 @@ public class POConverters {
         // Different JSON AGG from backends will produce different types data, we
         // can only use Object. PostSQL produces the data with type Long. H2 produces
         // the data with type String.
-        List<Object> roleIdsFromJson =
-            JsonUtils.anyFieldMapper().readValue(userPO.getRoleIds(), List.class);
+        List<Object> roleIdsFromJson = EntityColumnCodec.readValue(userPO.getRoleIds(), List.class);
         List<Long> roleIds =
             roleIdsFromJson.stream()
                 .filter(Objects::nonNull)
@@ -1000,8 +1012,7 @@ public class POConverters {
               .withId(groupPO.getGroupId())
               .withName(groupPO.getGroupName())
               .withNamespace(namespace)
-              .withAuditInfo(
-                  JsonUtils.anyFieldMapper().readValue(groupPO.getAuditInfo(), AuditInfo.class));
+              .withAuditInfo(EntityColumnCodec.readValue(groupPO.getAuditInfo(), AuditInfo.class));
       if (!roleNames.isEmpty()) {
         builder.withRoleNames(roleNames);
       }
@@ -1028,12 +1039,11 @@ public class POConverters {
               .withId(groupPO.getGroupId())
               .withName(groupPO.getGroupName())
               .withNamespace(namespace)
-              .withAuditInfo(
-                  JsonUtils.anyFieldMapper().readValue(groupPO.getAuditInfo(), AuditInfo.class));
+              .withAuditInfo(EntityColumnCodec.readValue(groupPO.getAuditInfo(), AuditInfo.class));
 
       if (StringUtils.isNotBlank(groupPO.getRoleNames())) {
         List<String> roleNamesFromJson =
-            JsonUtils.anyFieldMapper().readValue(groupPO.getRoleNames(), List.class);
+            EntityColumnCodec.readValue(groupPO.getRoleNames(), List.class);
         List<String> roleNames =
             roleNamesFromJson.stream().filter(StringUtils::isNotBlank).collect(Collectors.toList());
         if (!roleNames.isEmpty()) {
@@ -1046,7 +1056,7 @@ public class POConverters {
         // can only use Object. PostSQL produces the data with type Long. H2 produces
         // the data with type String.
         List<Object> roleIdsFromJson =
-            JsonUtils.anyFieldMapper().readValue(groupPO.getRoleIds(), List.class);
+            EntityColumnCodec.readValue(groupPO.getRoleIds(), List.class);
         List<Long> roleIds =
             roleIdsFromJson.stream()
                 .filter(Objects::nonNull)
@@ -1081,8 +1091,7 @@ public class POConverters {
             UserRoleRelPO.builder()
                 .withUserId(userEntity.id())
                 .withRoleId(roleId)
-                .withAuditInfo(
-                    JsonUtils.anyFieldMapper().writeValueAsString(userEntity.auditInfo()))
+                .withAuditInfo(columnCodec().writeValueAsString(userEntity.auditInfo()))
                 .withCurrentVersion(INIT_VERSION)
                 .withLastVersion(INIT_VERSION)
                 .withDeletedAt(DEFAULT_DELETED_AT)
@@ -1108,8 +1117,8 @@ public class POConverters {
       return builder
           .withRoleId(roleEntity.id())
           .withRoleName(roleEntity.name())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(roleEntity.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(roleEntity.auditInfo()))
+          .withProperties(columnCodec().writeValueAsString(roleEntity.properties()))
+          .withAuditInfo(columnCodec().writeValueAsString(roleEntity.auditInfo()))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -1133,7 +1142,7 @@ public class POConverters {
       return builder
           .withGroupId(groupEntity.id())
           .withGroupName(groupEntity.name())
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(groupEntity.auditInfo()))
+          .withAuditInfo(columnCodec().writeValueAsString(groupEntity.auditInfo()))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -1160,7 +1169,7 @@ public class POConverters {
           .withGroupId(oldGroupPO.getGroupId())
           .withGroupName(newGroup.name())
           .withMetalakeId(oldGroupPO.getMetalakeId())
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newGroup.auditInfo()))
+          .withAuditInfo(columnCodec().writeValueAsString(newGroup.auditInfo()))
           .withCurrentVersion(nextVersion)
           .withLastVersion(nextVersion)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -1186,8 +1195,7 @@ public class POConverters {
             GroupRoleRelPO.builder()
                 .withGroupId(groupEntity.id())
                 .withRoleId(roleId)
-                .withAuditInfo(
-                    JsonUtils.anyFieldMapper().writeValueAsString(groupEntity.auditInfo()))
+                .withAuditInfo(columnCodec().writeValueAsString(groupEntity.auditInfo()))
                 .withCurrentVersion(INIT_VERSION)
                 .withLastVersion(INIT_VERSION)
                 .withDeletedAt(DEFAULT_DELETED_AT)
@@ -1204,10 +1212,9 @@ public class POConverters {
       String fullName, SecurableObjectPO securableObjectPO, MetadataObject.Type type) {
     try {
       List<String> privilegeNames =
-          JsonUtils.anyFieldMapper().readValue(securableObjectPO.getPrivilegeNames(), List.class);
+          EntityColumnCodec.readValue(securableObjectPO.getPrivilegeNames(), List.class);
       List<String> privilegeConditions =
-          JsonUtils.anyFieldMapper()
-              .readValue(securableObjectPO.getPrivilegeConditions(), List.class);
+          EntityColumnCodec.readValue(securableObjectPO.getPrivilegeConditions(), List.class);
 
       List<Privilege> privileges = Lists.newArrayList();
       for (int index = 0; index < privilegeNames.size(); index++) {
@@ -1231,10 +1238,9 @@ public class POConverters {
           .withId(rolePO.getRoleId())
           .withName(rolePO.getRoleName())
           .withNamespace(namespace)
-          .withProperties(JsonUtils.anyFieldMapper().readValue(rolePO.getProperties(), Map.class))
+          .withProperties(EntityColumnCodec.readValue(rolePO.getProperties(), Map.class))
           .withSecurableObjects(securableObjects)
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(rolePO.getAuditInfo(), AuditInfo.class))
+          .withAuditInfo(EntityColumnCodec.readValue(rolePO.getAuditInfo(), AuditInfo.class))
           .build();
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize json object:", e);
@@ -1249,19 +1255,17 @@ public class POConverters {
           .withRoleId(roleId)
           .withType(type)
           .withPrivilegeConditions(
-              JsonUtils.anyFieldMapper()
-                  .writeValueAsString(
-                      securableObject.privileges().stream()
-                          .map(Privilege::condition)
-                          .map(Privilege.Condition::name)
-                          .collect(Collectors.toList())))
+              columnCodec().writeValueAsString(
+                  securableObject.privileges().stream()
+                      .map(Privilege::condition)
+                      .map(Privilege.Condition::name)
+                      .collect(Collectors.toList())))
           .withPrivilegeNames(
-              JsonUtils.anyFieldMapper()
-                  .writeValueAsString(
-                      securableObject.privileges().stream()
-                          .map(Privilege::name)
-                          .map(Privilege.Name::name)
-                          .collect(Collectors.toList())))
+              columnCodec().writeValueAsString(
+                  securableObject.privileges().stream()
+                      .map(Privilege::name)
+                      .map(Privilege.Name::name)
+                      .collect(Collectors.toList())))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeletedAt(DEFAULT_DELETED_AT);
@@ -1282,8 +1286,8 @@ public class POConverters {
           .withRoleId(oldRolePO.getRoleId())
           .withRoleName(newRole.name())
           .withMetalakeId(oldRolePO.getMetalakeId())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(newRole.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newRole.auditInfo()))
+          .withProperties(columnCodec().writeValueAsString(newRole.properties()))
+          .withAuditInfo(columnCodec().writeValueAsString(newRole.auditInfo()))
           .withCurrentVersion(nextVersion)
           .withLastVersion(nextVersion)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -1300,9 +1304,8 @@ public class POConverters {
           .withName(tagPO.getTagName())
           .withNamespace(namespace)
           .withComment(tagPO.getComment())
-          .withProperties(JsonUtils.anyFieldMapper().readValue(tagPO.getProperties(), Map.class))
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(tagPO.getAuditInfo(), AuditInfo.class))
+          .withProperties(EntityColumnCodec.readValue(tagPO.getProperties(), Map.class))
+          .withAuditInfo(EntityColumnCodec.readValue(tagPO.getAuditInfo(), AuditInfo.class))
           .build();
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize json object:", e);
@@ -1315,8 +1318,8 @@ public class POConverters {
           .withTagId(tagEntity.id())
           .withTagName(tagEntity.name())
           .withComment(tagEntity.comment())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(tagEntity.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(tagEntity.auditInfo()))
+          .withProperties(columnCodec().writeValueAsString(tagEntity.properties()))
+          .withAuditInfo(columnCodec().writeValueAsString(tagEntity.auditInfo()))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -1337,8 +1340,8 @@ public class POConverters {
           .withTagName(newEntity.name())
           .withMetalakeId(oldTagPO.getMetalakeId())
           .withComment(newEntity.comment())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(newEntity.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newEntity.auditInfo()))
+          .withProperties(columnCodec().writeValueAsString(newEntity.properties()))
+          .withAuditInfo(columnCodec().writeValueAsString(newEntity.auditInfo()))
           .withCurrentVersion(nextVersion)
           .withLastVersion(nextVersion)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -1361,7 +1364,7 @@ public class POConverters {
           .withTagId(tagId)
           .withMetadataObjectId(metadataObjectId)
           .withMetadataObjectType(metadataObjectType)
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(auditInfo))
+          .withAuditInfo(columnCodec().writeValueAsString(auditInfo))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -1382,10 +1385,9 @@ public class POConverters {
           .withComment(policyPO.getPolicyVersionPO().getPolicyComment())
           .withEnabled(policyPO.getPolicyVersionPO().isEnabled())
           .withContent(
-              JsonUtils.anyFieldMapper()
-                  .readValue(policyPO.getPolicyVersionPO().getContent(), policyType.contentClass()))
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(policyPO.getAuditInfo(), AuditInfo.class))
+              EntityColumnCodec.readValue(
+                  policyPO.getPolicyVersionPO().getContent(), policyType.contentClass()))
+          .withAuditInfo(EntityColumnCodec.readValue(policyPO.getAuditInfo(), AuditInfo.class))
           .build();
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize json object:", e);
@@ -1395,7 +1397,7 @@ public class POConverters {
   public static PolicyPO initializePolicyPOWithVersion(
       PolicyEntity policyEntity, PolicyPO.Builder builder) {
     try {
-      String content = JsonUtils.anyFieldMapper().writeValueAsString(policyEntity.content());
+      String content = columnCodec().writeValueAsString(policyEntity.content());
       PolicyVersionPO policyVersionPO =
           PolicyVersionPO.builder()
               .withMetalakeId(builder.getMetalakeId())
@@ -1410,7 +1412,7 @@ public class POConverters {
           .withPolicyId(policyEntity.id())
           .withPolicyName(policyEntity.name())
           .withPolicyType(policyEntity.policyType().name())
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(policyEntity.auditInfo()))
+          .withAuditInfo(columnCodec().writeValueAsString(policyEntity.auditInfo()))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -1434,7 +1436,7 @@ public class POConverters {
           .withPolicyId(policyId)
           .withMetadataObjectId(metadataObjectId)
           .withMetadataObjectType(metadataObjectType)
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(auditInfo))
+          .withAuditInfo(columnCodec().writeValueAsString(auditInfo))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -1462,7 +1464,7 @@ public class POConverters {
           .withOwnerType(ownerType)
           .withMetadataObjectId(metadataObjectId)
           .withMetadataObjectType(metadataObjectType)
-          .withAuditIfo(JsonUtils.anyFieldMapper().writeValueAsString(auditInfo))
+          .withAuditIfo(columnCodec().writeValueAsString(auditInfo))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeleteAt(DEFAULT_DELETED_AT)
@@ -1480,10 +1482,8 @@ public class POConverters {
           .withNamespace(namespace)
           .withComment(modelPO.getModelComment())
           .withLatestVersion(modelPO.getModelLatestVersion())
-          .withProperties(
-              JsonUtils.anyFieldMapper().readValue(modelPO.getModelProperties(), Map.class))
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(modelPO.getAuditInfo(), AuditInfo.class))
+          .withProperties(EntityColumnCodec.readValue(modelPO.getModelProperties(), Map.class))
+          .withAuditInfo(EntityColumnCodec.readValue(modelPO.getAuditInfo(), AuditInfo.class))
           .build();
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize json object:", e);
@@ -1497,9 +1497,8 @@ public class POConverters {
           .withModelName(modelEntity.name())
           .withModelComment(modelEntity.comment())
           .withModelLatestVersion(modelEntity.latestVersion())
-          .withModelProperties(
-              JsonUtils.anyFieldMapper().writeValueAsString(modelEntity.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(modelEntity.auditInfo()))
+          .withModelProperties(columnCodec().writeValueAsString(modelEntity.properties()))
+          .withAuditInfo(columnCodec().writeValueAsString(modelEntity.auditInfo()))
           .withDeletedAt(DEFAULT_DELETED_AT)
           .build();
     } catch (JsonProcessingException e) {
@@ -1530,10 +1529,9 @@ public class POConverters {
           .withComment(modelVersionPO.getModelVersionComment())
           .withUris(uris)
           .withProperties(
-              JsonUtils.anyFieldMapper()
-                  .readValue(modelVersionPO.getModelVersionProperties(), Map.class))
+              EntityColumnCodec.readValue(modelVersionPO.getModelVersionProperties(), Map.class))
           .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(modelVersionPO.getAuditInfo(), AuditInfo.class))
+              EntityColumnCodec.readValue(modelVersionPO.getAuditInfo(), AuditInfo.class))
           .build();
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize json object:", e);
@@ -1558,8 +1556,8 @@ public class POConverters {
           .withSchemaId(oldModelPO.getSchemaId())
           .withModelComment(newModel.comment())
           .withModelLatestVersion(newModel.latestVersion())
-          .withModelProperties(JsonUtils.anyFieldMapper().writeValueAsString(newModel.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newModel.auditInfo()))
+          .withModelProperties(columnCodec().writeValueAsString(newModel.properties()))
+          .withAuditInfo(columnCodec().writeValueAsString(newModel.auditInfo()))
           .withDeletedAt(DEFAULT_DELETED_AT)
           .build();
     } catch (JsonProcessingException e) {
@@ -1591,8 +1589,8 @@ public class POConverters {
           .withModelVersion(oldModelVersionPO.getModelVersion())
           .withModelVersionComment(newModelVersion.comment())
           .withModelVersionProperties(
-              JsonUtils.anyFieldMapper().writeValueAsString(newModelVersion.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newModelVersion.auditInfo()))
+              columnCodec().writeValueAsString(newModelVersion.properties()))
+          .withAuditInfo(columnCodec().writeValueAsString(newModelVersion.auditInfo()))
           .withDeletedAt(DEFAULT_DELETED_AT)
           .build();
     } catch (JsonProcessingException e) {
@@ -1626,9 +1624,9 @@ public class POConverters {
       ModelVersionEntity modelVersionEntity, Long modelId) {
     try {
       String modelVersionProperties =
-          JsonUtils.anyFieldMapper().writeValueAsString(modelVersionEntity.properties());
+          columnCodec().writeValueAsString(modelVersionEntity.properties());
       String modelVersionAuditInfo =
-          JsonUtils.anyFieldMapper().writeValueAsString(modelVersionEntity.auditInfo());
+          columnCodec().writeValueAsString(modelVersionEntity.auditInfo());
       return modelVersionEntity.uris().entrySet().stream()
           .map(
               entry ->
@@ -88,6 +88,10 @@ public class SessionUtils {
    * @param <R> the type of the result
    */
   public static <T, R> R doWithoutCommitAndFetchResult(Class<T> mapperClazz, Function<T, R> func) {
+    if (!SqlSessions.hasSqlSession()) {
+      // Not in a transaction, close the session after the operation instead of leaving it open.
+      return getWithoutCommit(mapperClazz, func);
+    }
     T mapper = SqlSessions.getMapper(mapperClazz);
     return func.apply(mapper);
   }
@@ -101,6 +105,16 @@ public class SessionUtils {
    * @param <T> the type of the mapper
    */
   public static <T> void doWithoutCommit(Class<T> mapperClazz, Consumer<T> consumer) {
+    if (!SqlSessions.hasSqlSession()) {
+      // Not in a transaction, close the session after the operation instead of leaving it open.
+      getWithoutCommit(
+          mapperClazz,
+          mapper -> {
+            consumer.accept(mapper);
+            return null;
+          });
+      return;
+    }
     T mapper = SqlSessions.getMapper(mapperClazz);
     consumer.accept(mapper);
   }
@@ -20,6 +20,7 @@ package org.apache.gravitino.tag;
 
 import java.io.IOException;
 import java.util.List;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.EntityStore;
@@ -92,4 +93,39 @@ public interface SupportsTagOperations {
       NameIdentifier[] tagsToAdd,
       NameIdentifier[] tagsToRemove)
       throws NoSuchEntityException, EntityAlreadyExistsException, IOException;
+
+  /**
+   * Associate the given tag with many metadata objects, and disassociate it from many metadata
+   * objects in one call. The metadata objects already associated with the tag are skipped.
+   *
+   * <p>The default implementation updates the metadata objects one by one, the implementations
+   * should override it to update the relations in batches.
+   *
+   * @param tagIdent The identifier of the tag.
+   * @param objectsToAdd The identifiers and types of the metadata objects to associate the tag
+   *     with.
+   * @param objectsToRemove The identifiers and types of the metadata objects to remove the tag
+   *     from.
+   * @throws NoSuchEntityException if the tag or any of the metadata objects does not exist.
+   * @throws IOException If an error occurs while accessing the entity store.
+   */
+  default void associateMetadataObjectsWithTag(
+      NameIdentifier tagIdent,
+      List<Pair<NameIdentifier, Entity.EntityType>> objectsToAdd,
+      List<Pair<NameIdentifier, Entity.EntityType>> objectsToRemove)
+      throws NoSuchEntityException, IOException {
+    NameIdentifier[] tags = new NameIdentifier[] {tagIdent};
+    NameIdentifier[] noTags = new NameIdentifier[0];
+    for (Pair<NameIdentifier, Entity.EntityType> object : objectsToAdd) {
+      boolean associated =
+          listAssociatedTagsForMetadataObject(object.getLeft(), object.getRight()).stream()
+              .anyMatch(tag -> tag.name().equals(tagIdent.name()));
+      if (!associated) {
+        associateTagsWithMetadataObject(object.getLeft(), object.getRight(), tags, noTags);
+      }
+    }
+    for (Pair<NameIdentifier, Entity.EntityType> object : objectsToRemove) {
+      associateTagsWithMetadataObject(object.getLeft(), object.getRight(), noTags, tags);
+    }
+  }
 }
@@ -123,6 +123,21 @@ public interface TagDispatcher {
   String[] associateTagsForMetadataObject(
       String metalake, MetadataObject metadataObject, String[] tagsToAdd, String[] tagsToRemove);
 
+  /**
+   * Associate or disassociate the specified tag with many metadata objects in one call. The
+   * metadata objects already associated with the tag are skipped.
+   *
+   * @param metalake The name of the metalake.
+   * @param name The name of the tag.
+   * @param objectsToAdd The metadata objects to associate the tag with.
+   * @param objectsToRemove The metadata objects to remove the tag from.
+   */
+  void associateMetadataObjectsForTag(
+      String metalake,
+      String name,
+      MetadataObject[] objectsToAdd,
+      MetadataObject[] objectsToRemove);
+
   /**
    * Retrieve a specific tag associated with the specified metadata object.
    *
@@ -27,12 +27,16 @@ import java.io.IOException;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.MetadataObjects;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.exceptions.NoSuchMetadataObjectException;
@@ -350,6 +354,86 @@ public class TagManager implements TagDispatcher {
                 }));
   }
 
+  public void associateMetadataObjectsForTag(
+      String metalake,
+      String name,
+      MetadataObject[] objectsToAdd,
+      MetadataObject[] objectsToRemove)
+      throws NoSuchTagException, NoSuchMetadataObjectException {
+    // Remove all the metadata objects that are both set to add and remove
+    Set<MetadataObject> objectsToAddSet =
+        objectsToAdd == null
+            ? Sets.newLinkedHashSet()
+            : Sets.newLinkedHashSet(Arrays.asList(objectsToAdd));
+    Set<MetadataObject> objectsToRemoveSet =
+        objectsToRemove == null
+            ? Sets.newLinkedHashSet()
+            : Sets.newLinkedHashSet(Arrays.asList(objectsToRemove));
+    Set<MetadataObject> common =
+        Sets.intersection(objectsToAddSet, objectsToRemoveSet).immutableCopy();
+    objectsToAddSet.removeAll(common);
+    objectsToRemoveSet.removeAll(common);
+
+    // Check the metadata objects, a column is checked by its table, so that a table is loaded only
+    // once no matter how many of its columns are associated.
+    Set<MetadataObject> objectsToCheck = Sets.newHashSet();
+    for (MetadataObject metadataObject : Sets.union(objectsToAddSet, objectsToRemoveSet)) {
+      Preconditions.checkArgument(
+          !metadataObject.type().equals(MetadataObject.Type.METALAKE)
+              && !metadataObject.type().equals(MetadataObject.Type.ROLE),
+          "Cannot associate tags for unsupported metadata object type %s",
+          metadataObject.type());
+      objectsToCheck.add(
+          metadataObject.type() == MetadataObject.Type.COLUMN
+              ? MetadataObjects.parse(metadataObject.parent(), MetadataObject.Type.TABLE)
+              : metadataObject);
+    }
+    objectsToCheck.forEach(object -> MetadataObjectUtil.checkMetadataObject(metalake, object));
+
+    NameIdentifier tagIdent = NameIdentifierUtil.ofTag(metalake, name);
+    List<Pair<NameIdentifier, Entity.EntityType>> objectsToAddIdent =
+        objectsToAddSet.stream()
+            .map(
+                object ->
+                    Pair.of(
+                        MetadataObjectUtil.toEntityIdent(metalake, object),
+                        MetadataObjectUtil.toEntityType(object)))
+            .collect(Collectors.toList());
+    List<Pair<NameIdentifier, Entity.EntityType>> objectsToRemoveIdent =
+        objectsToRemoveSet.stream()
+            .map(
+                object ->
+                    Pair.of(
+                        MetadataObjectUtil.toEntityIdent(metalake, object),
+                        MetadataObjectUtil.toEntityType(object)))
+            .collect(Collectors.toList());
+
+    checkMetalake(NameIdentifier.of(metalake), entityStore);
+    // Unlike associating tags for a single metadata object, the metadata objects are not locked one
+    // by one, a metadata object dropped concurrently leaves a dangling relation which is skipped
+    // when listing the metadata objects for the tag.
+    TreeLockUtils.doWithTreeLock(
+        NameIdentifier.of(NamespaceUtil.ofTag(metalake).levels()),
+        LockType.WRITE,
+        () -> {
+          try {
+            supportsTagOperations.associateMetadataObjectsWithTag(
+                tagIdent, objectsToAddIdent, objectsToRemoveIdent);
+            return null;
+          } catch (NoSuchEntityException e) {
+            if (e.getMessage().contains("No such tag entity")) {
+              throw new NoSuchTagException(
+                  e, "Tag with name %s under metalake %s does not exist", name, metalake);
+            }
+            throw new NoSuchMetadataObjectException(
+                e, "Failed to associate tag %s for metadata objects due to not found", name);
+          } catch (IOException e) {
+            LOG.error("Failed to associate tag {} for metadata objects", name, e);
+            throw new RuntimeException(e);
+          }
+        });
+  }
+
   private TagEntity updateTagEntity(TagEntity tagEntity, TagChange... changes) {
     Map<String, String> props =
         tagEntity.properties() == null
@@ -22,10 +22,15 @@ import com.google.common.base.Preconditions;
 import java.io.Closeable;
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 // core/src/main/java/org/apache/iceberg/ClientPoolImpl.java
+// The monitors are replaced with a ReentrantLock, a virtual thread waiting on a monitor or blocked
+// in a synchronized block pins its carrier thread, which may starve the threads releasing clients.
 public abstract class ClientPoolImpl<C, E extends Exception>
     implements Closeable, ClientPool<C, E> {
   private static final Logger LOG = LoggerFactory.getLogger(ClientPoolImpl.class);
@@ -33,7 +38,8 @@ public abstract class ClientPoolImpl<C, E extends Exception>
   private final int poolSize;
   private final Deque<C> clients;
   private final Class<? extends E> reconnectExc;
-  private final Object signal = new Object();
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition signal = lock.newCondition();
   private final boolean retryByDefault;
   private volatile int currentSize;
   private volatile boolean closed;
@@ -96,58 +102,66 @@ public abstract class ClientPoolImpl<C, E extends Exception>
     }
 
     this.closed = true;
+    lock.lock();
     try {
       while (currentSize > 0) {
         if (!clients.isEmpty()) {
-          synchronized (this) {
-            if (!clients.isEmpty()) {
-              C client = clients.removeFirst();
-              close(client);
-              currentSize -= 1;
-            }
-          }
-        }
-        if (clients.isEmpty() && currentSize > 0) {
+          C client = clients.removeFirst();
+          close(client);
+          currentSize -= 1;
+        } else {
           // wake every second in case this missed the signal
-          synchronized (signal) {
-            signal.wait(1000);
-          }
+          signal.await(1, TimeUnit.SECONDS);
         }
       }
 
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
       LOG.warn("Interrupted while shutting down pool. Some clients may not be closed.", e);
+    } finally {
+      lock.unlock();
     }
   }
 
   private C get() throws InterruptedException {
     Preconditions.checkState(!closed, "Cannot get a client from a closed pool");
-    while (true) {
-      if (!clients.isEmpty() || currentSize < poolSize) {
-        synchronized (this) {
-          if (!clients.isEmpty()) {
-            return clients.removeFirst();
-          } else if (currentSize < poolSize) {
-            C client = newClient();
-            currentSize += 1;
-            return client;
-          }
-        }
-      }
-      synchronized (signal) {
+    lock.lock();
+    try {
+      while (clients.isEmpty() && currentSize >= poolSize) {
         // wake every second in case this missed the signal
-        signal.wait(1000);
+        signal.await(1, TimeUnit.SECONDS);
+      }
+      if (!clients.isEmpty()) {
+        return clients.removeFirst();
+      }
+      currentSize += 1;
+    } finally {
+      lock.unlock();
+    }
+
+    // Create the client outside the lock, so connecting to the server does not block the other
+    // threads getting or releasing clients.
+    try {
+      return newClient();
+    } catch (RuntimeException e) {
+      lock.lock();
+      try {
+        currentSize -= 1;
+        signal.signalAll();
+      } finally {
+        lock.unlock();
       }
+      throw e;
     }
   }
 
   private void release(C client) {
-    synchronized (this) {
+    lock.lock();
+    try {
       clients.addFirst(client);
-    }
-    synchronized (signal) {
-      signal.notifyAll();
+      signal.signalAll();
+    } finally {
+      lock.unlock();
     }
   }
 
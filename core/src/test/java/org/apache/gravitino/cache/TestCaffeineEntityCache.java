@@ -33,6 +33,7 @@ import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.SupportsRelationOperations;
 import org.apache.gravitino.meta.BaseMetalake;
@@ -48,6 +49,7 @@ import org.apache.gravitino.meta.TagEntity;
 import org.apache.gravitino.meta.TopicEntity;
 import org.apache.gravitino.meta.UserEntity;
 import org.apache.gravitino.model.ModelVersion;
+import org.apache.gravitino.utils.NameIdentifierUtil;
 import org.apache.gravitino.utils.TestUtil;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -633,6 +635,86 @@ public class TestCaffeineEntityCache {
         cache.contains(testModelVersionEntity.nameIdentifier(), testModelVersionEntity.type()));
   }
 
+  @Test
+  void testInvalidateOnKeyChangeKeepsModelVersions() {
+    ModelEntity testModelEntity = TestUtil.getTestModelEntity();
+    ModelVersionEntity version1 = newModelVersion(testModelEntity.nameIdentifier(), 1, "alias1");
+
+    EntityCache cache = getNormalCache();
+    cache.put(testModelEntity);
+    cache.put(version1);
+    Assertions.assertFalse(
+        cache.contains(testModelEntity.nameIdentifier(), testModelEntity.type()));
+
+    // Linking a new model version only invalidates the model entity
+    cache.put(testModelEntity);
+    cache.invalidateOnKeyChange(newModelVersion(testModelEntity.nameIdentifier(), 0, "alias2"));
+    Assertions.assertFalse(
+        cache.contains(testModelEntity.nameIdentifier(), testModelEntity.type()));
+    Assertions.assertTrue(cache.contains(version1.nameIdentifier(), version1.type()));
+    Assertions.assertTrue(
+        cache.contains(
+            NameIdentifierUtil.toModelVersionIdentifier(testModelEntity.nameIdentifier(), "alias1"),
+            Entity.EntityType.MODEL_VERSION));
+  }
+
+  @Test
+  void testGetModelVersionByAlias() {
+    NameIdentifier modelIdent = TestUtil.getTestModelEntity().nameIdentifier();
+    ModelVersionEntity version1 = newModelVersion(modelIdent, 1, "alias1");
+    ModelVersionEntity version10 = newModelVersion(modelIdent, 10, "alias10");
+    NameIdentifier alias1Ident = NameIdentifierUtil.toModelVersionIdentifier(modelIdent, "alias1");
+    NameIdentifier alias10Ident =
+        NameIdentifierUtil.toModelVersionIdentifier(modelIdent, "alias10");
+
+    EntityCache cache = getNormalCache();
+    Assertions.assertFalse(cache.contains(alias1Ident, Entity.EntityType.MODEL_VERSION));
+
+    cache.put(version1);
+    cache.put(version10);
+    Assertions.assertEquals(
+        version1, cache.getIfPresent(alias1Ident, Entity.EntityType.MODEL_VERSION).get());
+    Assertions.assertEquals(
+        version10, cache.getIfPresent(alias10Ident, Entity.EntityType.MODEL_VERSION).get());
+    Assertions.assertFalse(
+        cache
+            .getIfPresent(
+                NameIdentifierUtil.toModelVersionIdentifier(modelIdent, "alias2"),
+                Entity.EntityType.MODEL_VERSION)
+            .isPresent());
+
+    // Invalidating version 1 by alias does not invalidate version 10
+    Assertions.assertTrue(cache.invalidate(alias1Ident, Entity.EntityType.MODEL_VERSION));
+    Assertions.assertFalse(cache.contains(alias1Ident, Entity.EntityType.MODEL_VERSION));
+    Assertions.assertFalse(cache.contains(version1.nameIdentifier(), version1.type()));
+    Assertions.assertTrue(cache.contains(alias10Ident, Entity.EntityType.MODEL_VERSION));
+
+    // The alias moves to another version
+    ModelVersionEntity newVersion1 = newModelVersion(modelIdent, 1, "alias10");
+    Assertions.assertTrue(
+        cache.invalidate(version10.nameIdentifier(), Entity.EntityType.MODEL_VERSION));
+    Assertions.assertFalse(cache.contains(alias10Ident, Entity.EntityType.MODEL_VERSION));
+    cache.put(newVersion1);
+    Assertions.assertEquals(
+        newVersion1, cache.getIfPresent(alias10Ident, Entity.EntityType.MODEL_VERSION).get());
+
+    // Invalidating the model invalidates all of its model versions
+    cache.invalidate(modelIdent, Entity.EntityType.MODEL);
+    Assertions.assertFalse(cache.contains(alias10Ident, Entity.EntityType.MODEL_VERSION));
+    Assertions.assertEquals(0, cache.size());
+  }
+
+  private static ModelVersionEntity newModelVersion(
+      NameIdentifier modelIdent, int version, String alias) {
+    return TestUtil.getTestModelVersionEntity(
+        modelIdent,
+        version,
+        ImmutableMap.of(ModelVersion.URI_NAME_UNKNOWN, "s3://test/path"),
+        ImmutableMap.of(),
+        "test model version",
+        ImmutableList.of(alias));
+  }
+
   @Test
   void testPutSameRelationalEntities() {
     EntityCache cache = getNormalCache();
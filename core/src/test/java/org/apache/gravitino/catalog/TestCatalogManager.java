@@ -478,6 +478,33 @@ public class TestCatalogManager {
     Assertions.assertNotNull(catalogManager.getCatalogCache().getIfPresent(ident));
   }
 
+  @Test
+  public void testCatalogMetadataSnapshot() throws Exception {
+    NameIdentifier ident = NameIdentifier.of("metalake", "test71");
+    Map<String, String> props =
+        ImmutableMap.of("provider", "test", PROPERTY_KEY1, "value1", PROPERTY_KEY2, "value2");
+    catalogManager.createCatalog(ident, Catalog.Type.RELATIONAL, provider, "comment", props);
+
+    CatalogManager.CatalogWrapper wrapper = catalogManager.loadCatalogAndWrap(ident);
+    Assertions.assertSame(wrapper.capabilities(), wrapper.capabilities());
+    Assertions.assertSame(
+        wrapper.catalog().tablePropertiesMetadata(),
+        wrapper.propertiesMetadata().tablePropertiesMetadata());
+    // The catalog creates a new catalog properties metadata for each call
+    Assertions.assertSame(
+        wrapper.propertiesMetadata().catalogPropertiesMetadata(),
+        wrapper.propertiesMetadata().catalogPropertiesMetadata());
+    Assertions.assertThrows(
+        UnsupportedOperationException.class,
+        () -> wrapper.propertiesMetadata().topicPropertiesMetadata());
+
+    // Reloading the catalog rebuilds the snapshot
+    catalogManager.alterCatalog(ident, CatalogChange.updateComment("comment1"));
+    CatalogManager.CatalogWrapper reloaded = catalogManager.loadCatalogAndWrap(ident);
+    Assertions.assertNotSame(wrapper, reloaded);
+    Assertions.assertNotSame(wrapper.propertiesMetadata(), reloaded.propertiesMetadata());
+  }
+
   @Test
   public void testAlterCatalog() {
     NameIdentifier ident = NameIdentifier.of("metalake", "test31");
@@ -0,0 +1,257 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import static org.apache.gravitino.Entity.EntityType.SCHEMA;
+import static org.apache.gravitino.Entity.EntityType.TABLE;
+
+import com.codahale.metrics.Timer;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.TestCatalog;
+import org.apache.gravitino.TestColumn;
+import org.apache.gravitino.connector.TestCatalogOperations;
+import org.apache.gravitino.exceptions.NoSuchCatalogException;
+import org.apache.gravitino.listener.DummyEventListener;
+import org.apache.gravitino.listener.EventBus;
+import org.apache.gravitino.listener.api.event.DropSchemaEvent;
+import org.apache.gravitino.listener.api.event.DropTableEvent;
+import org.apache.gravitino.listener.api.event.Event;
+import org.apache.gravitino.metrics.source.MetadataImportCrawlerMetricsSource;
+import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.expressions.transforms.Transform;
+import org.apache.gravitino.rel.types.Types;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestMetadataImportCrawler extends TestOperationDispatcher {
+
+  private static DummyEventListener eventListener;
+  private static MetadataImportCrawler crawler;
+  private static MetadataImportCrawler defaultCrawler;
+
+  @BeforeAll
+  public static void initialize() throws IllegalAccessException {
+    SchemaOperationDispatcher schemaOperationDispatcher =
+        new SchemaOperationDispatcher(catalogManager, entityStore, idGenerator);
+    TableOperationDispatcher tableOperationDispatcher =
+        new TableOperationDispatcher(catalogManager, entityStore, idGenerator);
+    FieldUtils.writeField(
+        GravitinoEnv.getInstance(), "schemaDispatcher", schemaOperationDispatcher, true);
+
+    eventListener = new DummyEventListener();
+    EventBus eventBus = new EventBus(Arrays.asList(eventListener));
+    Config config = new Config(false) {};
+    config.set(Configs.CATALOG_IMPORT_CRAWLER_DROP_STALE_ENTITIES, true);
+    crawler =
+        new MetadataImportCrawler(
+            config,
+            catalogManager,
+            entityStore,
+            schemaOperationDispatcher,
+            tableOperationDispatcher,
+            eventBus);
+    defaultCrawler =
+        new MetadataImportCrawler(
+            new Config(false) {},
+            catalogManager,
+            entityStore,
+            schemaOperationDispatcher,
+            tableOperationDispatcher,
+            eventBus);
+  }
+
+  @AfterAll
+  public static void closeCrawler() {
+    if (crawler != null) {
+      crawler.close();
+      crawler = null;
+    }
+    if (defaultCrawler != null) {
+      defaultCrawler.close();
+      defaultCrawler = null;
+    }
+  }
+
+  @Test
+  public void testCrawlCatalog() throws IOException {
+    NameIdentifier catalogIdent = NameIdentifier.of(metalake, catalog);
+    NameIdentifier schemaIdent = NameIdentifier.of(metalake, catalog, "schema_crawled");
+    NameIdentifier tableIdent1 = NameIdentifier.of(metalake, catalog, "schema_crawled", "table1");
+    NameIdentifier tableIdent2 = NameIdentifier.of(metalake, catalog, "schema_crawled", "table2");
+    Column[] columns =
+        new Column[] {
+          TestColumn.builder()
+              .withName("col1")
+              .withPosition(0)
+              .withType(Types.StringType.get())
+              .build()
+        };
+
+    // Create the schema and tables directly in the underlying catalog
+    TestCatalog testCatalog = (TestCatalog) catalogManager.loadCatalog(catalogIdent);
+    TestCatalogOperations testCatalogOperations = (TestCatalogOperations) testCatalog.ops();
+    testCatalogOperations.createSchema(schemaIdent, "comment", Collections.emptyMap());
+    testCatalogOperations.createTable(
+        tableIdent1, columns, "comment", Collections.emptyMap(), new Transform[0]);
+    testCatalogOperations.createTable(
+        tableIdent2, columns, "comment", Collections.emptyMap(), new Transform[0]);
+    Assertions.assertFalse(entityStore.exists(schemaIdent, SCHEMA));
+    Assertions.assertFalse(entityStore.exists(tableIdent1, TABLE));
+
+    MetadataImportCrawlerMetricsSource metrics = crawler.metricsSource();
+    long schemasImported = metrics.schemasImported().getCount();
+    long tablesImported = metrics.tablesImported().getCount();
+    long schemasDropped = metrics.schemasDropped().getCount();
+    long tablesDropped = metrics.tablesDropped().getCount();
+    long failures = metrics.failures().getCount();
+
+    crawler.crawlCatalog(catalogIdent);
+    Assertions.assertTrue(entityStore.exists(schemaIdent, SCHEMA));
+    Assertions.assertTrue(entityStore.exists(tableIdent1, TABLE));
+    Assertions.assertTrue(entityStore.exists(tableIdent2, TABLE));
+    Assertions.assertEquals(schemasImported + 1, metrics.schemasImported().getCount());
+    Assertions.assertEquals(tablesImported + 2, metrics.tablesImported().getCount());
+
+    // Crawling again doesn't import anything
+    crawler.crawlCatalog(catalogIdent);
+    Assertions.assertEquals(schemasImported + 1, metrics.schemasImported().getCount());
+    Assertions.assertEquals(tablesImported + 2, metrics.tablesImported().getCount());
+
+    // The table dropped directly from the underlying catalog is dropped from the store
+    eventListener.clear();
+    testCatalogOperations.dropTable(tableIdent1);
+    crawler.crawlCatalog(catalogIdent);
+    Assertions.assertFalse(entityStore.exists(tableIdent1, TABLE));
+    Assertions.assertTrue(entityStore.exists(tableIdent2, TABLE));
+    Assertions.assertEquals(tablesDropped + 1, metrics.tablesDropped().getCount());
+    Event event = eventListener.popPostEvent();
+    Assertions.assertEquals(DropTableEvent.class, event.getClass());
+    Assertions.assertEquals(tableIdent1, event.identifier());
+    Assertions.assertTrue(((DropTableEvent) event).isExists());
+
+    // The schema dropped directly from the underlying catalog is dropped from the store
+    testCatalogOperations.dropSchema(schemaIdent, true);
+    crawler.crawlCatalog(catalogIdent);
+    Assertions.assertFalse(entityStore.exists(schemaIdent, SCHEMA));
+    Assertions.assertEquals(schemasDropped + 1, metrics.schemasDropped().getCount());
+    event = eventListener.popPostEvent();
+    Assertions.assertEquals(DropSchemaEvent.class, event.getClass());
+    Assertions.assertEquals(schemaIdent, event.identifier());
+    Assertions.assertEquals(failures, metrics.failures().getCount());
+  }
+
+  @Test
+  public void testStaleEntitiesAreKeptByDefault() throws IOException {
+    NameIdentifier catalogIdent = NameIdentifier.of(metalake, catalog);
+    NameIdentifier schemaIdent = NameIdentifier.of(metalake, catalog, "schema_kept");
+    TestCatalog testCatalog = (TestCatalog) catalogManager.loadCatalog(catalogIdent);
+    TestCatalogOperations testCatalogOperations = (TestCatalogOperations) testCatalog.ops();
+    testCatalogOperations.createSchema(schemaIdent, "comment", Collections.emptyMap());
+
+    defaultCrawler.crawlCatalog(catalogIdent);
+    Assertions.assertTrue(entityStore.exists(schemaIdent, SCHEMA));
+
+    // The schema dropped directly from the underlying catalog stays in the store
+    eventListener.clear();
+    testCatalogOperations.dropSchema(schemaIdent, true);
+    defaultCrawler.crawlCatalog(catalogIdent);
+    Assertions.assertTrue(entityStore.exists(schemaIdent, SCHEMA));
+    Assertions.assertTrue(eventListener.getPostEvents().isEmpty());
+
+    entityStore.delete(schemaIdent, SCHEMA, true);
+  }
+
+  @Test
+  public void testTriggerCrawl() {
+    Assertions.assertThrows(
+        NoSuchCatalogException.class,
+        () -> crawler.triggerCrawl(NameIdentifier.of(metalake, "not_exist_catalog")));
+
+    Timer crawlDuration = crawler.metricsSource().catalogCrawlDuration();
+    long crawled = crawlDuration.getCount();
+    Assertions.assertTrue(crawler.triggerCrawl(NameIdentifier.of(metalake, catalog)));
+    Awaitility.await()
+        .atMost(30, TimeUnit.SECONDS)
+        .until(() -> crawlDuration.getCount() == crawled + 1);
+  }
+
+  @Test
+  public void testTriggerCrawlIsDeduplicated() throws Exception {
+    NameIdentifier catalogIdent = NameIdentifier.of(metalake, catalog);
+    CountDownLatch crawlStarted = new CountDownLatch(1);
+    CountDownLatch releaseCrawl = new CountDownLatch(1);
+    CatalogManager blockingCatalogManager = Mockito.spy(catalogManager);
+    Mockito.doAnswer(
+            invocation -> {
+              crawlStarted.countDown();
+              releaseCrawl.await();
+              return invocation.callRealMethod();
+            })
+        .when(blockingCatalogManager)
+        .loadCatalogAndWrap(catalogIdent);
+
+    MetadataImportCrawler blockingCrawler =
+        new MetadataImportCrawler(
+            new Config(false) {},
+            blockingCatalogManager,
+            entityStore,
+            Mockito.mock(SchemaDispatcher.class),
+            Mockito.mock(TableDispatcher.class),
+            new EventBus(Collections.emptyList()));
+    try {
+      Timer crawlDuration = blockingCrawler.metricsSource().catalogCrawlDuration();
+      Assertions.assertTrue(blockingCrawler.triggerCrawl(catalogIdent));
+      Assertions.assertTrue(crawlStarted.await(30, TimeUnit.SECONDS));
+
+      // The catalog is being crawled, so the trigger is ignored
+      Assertions.assertFalse(blockingCrawler.triggerCrawl(catalogIdent));
+
+      // The triggered crawl runs out of the scheduler of the periodic crawls
+      ScheduledFuture<Boolean> periodicTask =
+          ((ScheduledExecutorService) FieldUtils.readField(blockingCrawler, "scheduler", true))
+              .schedule(() -> true, 0, TimeUnit.MILLISECONDS);
+      Assertions.assertTrue(periodicTask.get(30, TimeUnit.SECONDS));
+
+      releaseCrawl.countDown();
+      Awaitility.await().atMost(30, TimeUnit.SECONDS).until(() -> crawlDuration.getCount() == 1);
+      Awaitility.await()
+          .atMost(30, TimeUnit.SECONDS)
+          .until(() -> blockingCrawler.triggerCrawl(catalogIdent));
+      Awaitility.await().atMost(30, TimeUnit.SECONDS).until(() -> crawlDuration.getCount() == 2);
+    } finally {
+      releaseCrawl.countDown();
+      blockingCrawler.close();
+    }
+  }
+}
@@ -24,6 +24,8 @@ import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
 import static org.apache.gravitino.Entity.EntityType.SCHEMA;
 import static org.apache.gravitino.Entity.EntityType.TABLE;
 import static org.apache.gravitino.StringIdentifier.ID_KEY;
+import static org.apache.gravitino.TestCatalog.PROPERTY_KEY1;
+import static org.apache.gravitino.TestCatalog.PROPERTY_KEY2;
 import static org.apache.gravitino.TestBasePropertiesMetadata.COMMENT_KEY;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
@@ -45,6 +47,7 @@ import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.Catalog;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.GravitinoEnv;
@@ -53,8 +56,10 @@ import org.apache.gravitino.Namespace;
 import org.apache.gravitino.TestCatalog;
 import org.apache.gravitino.TestColumn;
 import org.apache.gravitino.auth.AuthConstants;
+import org.apache.gravitino.connector.BaseCatalog;
 import org.apache.gravitino.connector.TestCatalogOperations;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.exceptions.NoSuchTableException;
 import org.apache.gravitino.lock.LockManager;
 import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.meta.ColumnEntity;
@@ -368,6 +373,112 @@ public class TestTableOperationDispatcher extends TestOperationDispatcher {
         RuntimeException.class, () -> tableOperationDispatcher.dropTable(tableIdent));
   }
 
+  @Test
+  public void testLoadTableFromCache() throws IOException {
+    NameIdentifier catalogIdent = NameIdentifier.of(metalake, "catalog_table_cache");
+    catalogManager.createCatalog(
+        catalogIdent,
+        Catalog.Type.RELATIONAL,
+        "test",
+        "comment",
+        ImmutableMap.of(
+            PROPERTY_KEY1,
+            "value1",
+            PROPERTY_KEY2,
+            "value2",
+            BaseCatalog.TABLE_CACHE_STALENESS_MS,
+            "3600000"));
+    NameIdentifier tableIdent =
+        NameIdentifier.of(metalake, "catalog_table_cache", "schema81", "table41");
+    Map<String, String> props = ImmutableMap.of("k1", "v1", "k2", "v2");
+    Column[] columns =
+        new Column[] {
+          TestColumn.builder()
+              .withName("col1")
+              .withPosition(0)
+              .withType(Types.StringType.get())
+              .build()
+        };
+    schemaOperationDispatcher.createSchema(
+        NameIdentifier.of(tableIdent.namespace().levels()), "comment", props);
+    tableOperationDispatcher.createTable(tableIdent, columns, "comment", props, new Transform[0]);
+
+    Table loadedTable1 = tableOperationDispatcher.loadTable(tableIdent);
+    Assertions.assertEquals("v1", loadedTable1.properties().get("k1"));
+    Assertions.assertEquals(1, tableOperationDispatcher.cachedTableCount());
+
+    // The table altered directly in the underlying catalog is not visible within the staleness
+    TestCatalog testCatalog = (TestCatalog) catalogManager.loadCatalog(catalogIdent);
+    TestCatalogOperations testCatalogOperations = (TestCatalogOperations) testCatalog.ops();
+    testCatalogOperations.alterTable(tableIdent, TableChange.setProperty("k3", "v3"));
+    Table loadedTable2 = tableOperationDispatcher.loadTable(tableIdent);
+    Assertions.assertSame(loadedTable1, loadedTable2);
+    Assertions.assertFalse(loadedTable2.properties().containsKey("k3"));
+
+    // The table altered through Gravitino invalidates the cached table
+    tableOperationDispatcher.alterTable(tableIdent, TableChange.setProperty("k4", "v4"));
+    Table loadedTable3 = tableOperationDispatcher.loadTable(tableIdent);
+    Assertions.assertEquals("v3", loadedTable3.properties().get("k3"));
+    Assertions.assertEquals("v4", loadedTable3.properties().get("k4"));
+
+    // The table entity changed in the store invalidates the cached table
+    reset(entityStore);
+    TableEntity tableEntity =
+        TableEntity.builder()
+            .withId(1L)
+            .withName("table41")
+            .withNamespace(tableIdent.namespace())
+            .withAuditInfo(
+                AuditInfo.builder().withCreator("gravitino").withCreateTime(Instant.now()).build())
+            .build();
+    doReturn(tableEntity).when(entityStore).get(any(), eq(Entity.EntityType.TABLE), any());
+    Table loadedTable4 = tableOperationDispatcher.loadTable(tableIdent);
+    Assertions.assertNotSame(loadedTable3, loadedTable4);
+    reset(entityStore);
+
+    // The dropped table is not served from the cache
+    Assertions.assertTrue(tableOperationDispatcher.dropTable(tableIdent));
+    Assertions.assertThrows(
+        NoSuchTableException.class, () -> tableOperationDispatcher.loadTable(tableIdent));
+    Assertions.assertEquals(0, tableOperationDispatcher.cachedTableCount());
+  }
+
+  @Test
+  public void testInvalidTableCacheStaleness() throws IOException {
+    NameIdentifier catalogIdent = NameIdentifier.of(metalake, "catalog_invalid_staleness");
+    catalogManager.createCatalog(
+        catalogIdent,
+        Catalog.Type.RELATIONAL,
+        "test",
+        "comment",
+        ImmutableMap.of(
+            PROPERTY_KEY1,
+            "value1",
+            PROPERTY_KEY2,
+            "value2",
+            BaseCatalog.TABLE_CACHE_STALENESS_MS,
+            "-1"));
+    NameIdentifier tableIdent =
+        NameIdentifier.of(metalake, "catalog_invalid_staleness", "schema82", "table42");
+    Map<String, String> props = ImmutableMap.of("k1", "v1", "k2", "v2");
+    Column[] columns =
+        new Column[] {
+          TestColumn.builder()
+              .withName("col1")
+              .withPosition(0)
+              .withType(Types.StringType.get())
+              .build()
+        };
+    schemaOperationDispatcher.createSchema(
+        NameIdentifier.of(tableIdent.namespace().levels()), "comment", props);
+    tableOperationDispatcher.createTable(tableIdent, columns, "comment", props, new Transform[0]);
+
+    IllegalArgumentException exception =
+        Assertions.assertThrows(
+            IllegalArgumentException.class, () -> tableOperationDispatcher.loadTable(tableIdent));
+    Assertions.assertTrue(exception.getMessage().contains(BaseCatalog.TABLE_CACHE_STALENESS_MS));
+  }
+
   @Test
   public void testCreateTableNeedImportingSchema() throws IOException {
     Namespace tableNs = Namespace.of(metalake, catalog, "schema181");
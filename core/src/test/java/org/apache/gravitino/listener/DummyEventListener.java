@@ -19,13 +19,16 @@
 
 package org.apache.gravitino.listener;
 
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import lombok.Getter;
 import org.apache.gravitino.exceptions.ForbiddenException;
 import org.apache.gravitino.listener.api.EventListenerPlugin;
+import org.apache.gravitino.listener.api.event.BaseEvent;
 import org.apache.gravitino.listener.api.event.Event;
 import org.apache.gravitino.listener.api.event.PreEvent;
 import org.apache.gravitino.listener.api.event.SupportsChangingPreEvent;
@@ -123,4 +126,11 @@ public class DummyEventListener implements EventListenerPlugin {
       return Mode.ASYNC_ISOLATED;
     }
   }
+
+  public static class DummyPostEventListener extends DummyEventListener {
+    @Override
+    public Set<Class<? extends BaseEvent>> subscribedEventTypes() {
+      return Collections.singleton(Event.class);
+    }
+  }
 }
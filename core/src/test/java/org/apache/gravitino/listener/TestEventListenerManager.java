@@ -19,6 +19,8 @@
 
 package org.apache.gravitino.listener;
 
+import static org.mockito.Mockito.mock;
+
 import com.google.common.collect.ImmutableSet;
 import java.util.HashMap;
 import java.util.List;
@@ -26,15 +28,24 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.audit.AuditLogManager;
 import org.apache.gravitino.exceptions.ForbiddenException;
 import org.apache.gravitino.listener.DummyEventListener.DummyAsyncEventListener;
 import org.apache.gravitino.listener.DummyEventListener.DummyAsyncIsolatedEventListener;
+import org.apache.gravitino.listener.DummyEventListener.DummyPostEventListener;
 import org.apache.gravitino.listener.api.EventListenerPlugin;
 import org.apache.gravitino.listener.api.event.BaseEvent;
+import org.apache.gravitino.listener.api.event.DropTableEvent;
 import org.apache.gravitino.listener.api.event.Event;
+import org.apache.gravitino.listener.api.event.LoadTableEvent;
+import org.apache.gravitino.listener.api.event.LoadTablePreEvent;
 import org.apache.gravitino.listener.api.event.OperationStatus;
 import org.apache.gravitino.listener.api.event.PreEvent;
+import org.apache.gravitino.search.MetadataObjectIndex;
+import org.apache.gravitino.search.MetadataObjectIndexEventListener;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -270,6 +281,77 @@ public class TestEventListenerManager {
     Assertions.assertEquals(2, ((CountingPreEvent) transformedEvent.get()).count());
   }
 
+  @Test
+  void testSubscribedEventTypes() {
+    Map<String, String> properties = createSyncEventListenerConfig("sync1", "sync2");
+    properties.put(
+        "sync2." + EventListenerManager.GRAVITINO_EVENT_LISTENER_CLASS,
+        DummyPostEventListener.class.getName());
+
+    EventListenerManager eventListenerManager = new EventListenerManager();
+    eventListenerManager.init(properties);
+    eventListenerManager.start();
+
+    EventBus eventBus = eventListenerManager.createEventBus();
+    Assertions.assertTrue(eventBus.isSubscribed(DummyPostEvent.class));
+    Assertions.assertTrue(eventBus.isSubscribed(DummyPreEvent.class));
+
+    eventBus.dispatchEvent(DUMMY_POST_EVENT_INSTANCE);
+    eventBus.dispatchEvent(DUMMY_PRE_EVENT_INSTANCE);
+    for (EventListenerPlugin listener : eventBus.getEventListeners()) {
+      DummyEventListener userListener =
+          (DummyEventListener) ((EventListenerPluginWrapper) listener).getUserEventListener();
+      checkPostEvents(userListener.getPostEvents());
+      if (userListener instanceof DummyPostEventListener) {
+        Assertions.assertEquals(0, userListener.getPreEvents().size());
+      } else {
+        checkPreEvents(userListener.getPreEvents());
+      }
+    }
+    eventListenerManager.stop();
+
+    // No listener subscribes to the pre-events
+    properties.put(
+        "sync1." + EventListenerManager.GRAVITINO_EVENT_LISTENER_CLASS,
+        DummyPostEventListener.class.getName());
+    eventListenerManager = new EventListenerManager();
+    eventListenerManager.init(properties);
+    eventListenerManager.start();
+
+    eventBus = eventListenerManager.createEventBus();
+    Assertions.assertTrue(eventBus.isSubscribed(DummyPostEvent.class));
+    Assertions.assertFalse(eventBus.isSubscribed(DummyPreEvent.class));
+    eventListenerManager.stop();
+  }
+
+  @Test
+  void testDefaultListenersSubscribedEventTypes() {
+    EventListenerManager eventListenerManager = new EventListenerManager();
+    eventListenerManager.init(new HashMap<>());
+    eventListenerManager.start();
+    EventBus eventBus = eventListenerManager.createEventBus();
+    eventListenerManager.addEventListener(
+        "metadata-object-index",
+        new MetadataObjectIndexEventListener(mock(MetadataObjectIndex.class)));
+
+    // The metadata object index only subscribes to the events changing the index
+    Assertions.assertFalse(eventBus.isSubscribed(LoadTablePreEvent.class));
+    Assertions.assertFalse(eventBus.isSubscribed(LoadTableEvent.class));
+    Assertions.assertTrue(eventBus.isSubscribed(DropTableEvent.class));
+
+    // The audit log subscribes to all the post-events, but none of the pre-events
+    Config config = new Config(false) {};
+    config.set(Configs.AUDIT_LOG_ENABLED_CONF, true);
+    config.set(Configs.AUDIT_LOG_WRITER_CLASS_NAME, "org.apache.gravitino.audit.DummyAuditWriter");
+    config.set(
+        Configs.AUDIT_LOG_FORMATTER_CLASS_NAME, "org.apache.gravitino.audit.DummyAuditFormatter");
+    new AuditLogManager().init(config, eventListenerManager);
+    Assertions.assertFalse(eventBus.isSubscribed(LoadTablePreEvent.class));
+    Assertions.assertTrue(eventBus.isSubscribed(LoadTableEvent.class));
+    Assertions.assertTrue(eventBus.isSubscribed(DropTableEvent.class));
+    eventListenerManager.stop();
+  }
+
   private Map<String, String> createIsolatedAsyncEventListenerConfig(String async1, String async2) {
     Map<String, String> config = new HashMap<>();
 
@@ -298,6 +298,41 @@ public class TestTagEvent {
     Assertions.assertEquals(OperationStatus.SUCCESS, postevent.operationStatus());
   }
 
+  @Test
+  void testAssociateMetadataObjectsForTagEvent() {
+    MetadataObject catalog =
+        NameIdentifierUtil.toMetadataObject(
+            NameIdentifierUtil.ofCatalog("metalake", "catalog_for_test"),
+            Entity.EntityType.CATALOG);
+    MetadataObject[] objectsToAdd = new MetadataObject[] {catalog};
+    MetadataObject[] objectsToRemove = new MetadataObject[0];
+
+    dispatcher.associateMetadataObjectsForTag("metalake", "tag", objectsToAdd, objectsToRemove);
+    NameIdentifier identifier = NameIdentifierUtil.ofTag("metalake", "tag");
+
+    PreEvent preEvent = dummyEventListener.popPreEvent();
+    Assertions.assertEquals(identifier, preEvent.identifier());
+    Assertions.assertEquals(AssociateMetadataObjectsForTagPreEvent.class, preEvent.getClass());
+    Assertions.assertArrayEquals(
+        objectsToAdd, ((AssociateMetadataObjectsForTagPreEvent) preEvent).objectsToAdd());
+    Assertions.assertArrayEquals(
+        objectsToRemove, ((AssociateMetadataObjectsForTagPreEvent) preEvent).objectsToRemove());
+    Assertions.assertEquals(
+        OperationType.ASSOCIATE_METADATA_OBJECTS_FOR_TAG, preEvent.operationType());
+    Assertions.assertEquals(OperationStatus.UNPROCESSED, preEvent.operationStatus());
+
+    Event postEvent = dummyEventListener.popPostEvent();
+    Assertions.assertEquals(identifier, postEvent.identifier());
+    Assertions.assertEquals(AssociateMetadataObjectsForTagEvent.class, postEvent.getClass());
+    Assertions.assertArrayEquals(
+        objectsToAdd, ((AssociateMetadataObjectsForTagEvent) postEvent).objectsToAdd());
+    Assertions.assertArrayEquals(
+        objectsToRemove, ((AssociateMetadataObjectsForTagEvent) postEvent).objectsToRemove());
+    Assertions.assertEquals(
+        OperationType.ASSOCIATE_METADATA_OBJECTS_FOR_TAG, postEvent.operationType());
+    Assertions.assertEquals(OperationStatus.SUCCESS, postEvent.operationStatus());
+  }
+
   @Test
   void testGetTagForMetadataObject() {
     MetadataObject metadataObject =
@@ -514,6 +549,33 @@ public class TestTagEvent {
     Assertions.assertEquals(OperationStatus.FAILURE, event.operationStatus());
   }
 
+  @Test
+  void testAssociateMetadataObjectsForTagFailureEvent() {
+    MetadataObject catalog =
+        NameIdentifierUtil.toMetadataObject(
+            NameIdentifierUtil.ofCatalog("metalake", "catalog_for_test"),
+            Entity.EntityType.CATALOG);
+    MetadataObject[] objectsToAdd = new MetadataObject[] {catalog};
+
+    Assertions.assertThrowsExactly(
+        GravitinoRuntimeException.class,
+        () ->
+            failureDispatcher.associateMetadataObjectsForTag(
+                "metalake", "tag", objectsToAdd, null));
+    Event event = dummyEventListener.popPostEvent();
+    Assertions.assertEquals(NameIdentifierUtil.ofTag("metalake", "tag"), event.identifier());
+    Assertions.assertEquals(AssociateMetadataObjectsForTagFailureEvent.class, event.getClass());
+    Assertions.assertEquals(
+        GravitinoRuntimeException.class,
+        ((AssociateMetadataObjectsForTagFailureEvent) event).exception().getClass());
+    Assertions.assertArrayEquals(
+        objectsToAdd, ((AssociateMetadataObjectsForTagFailureEvent) event).objectsToAdd());
+    Assertions.assertNull(((AssociateMetadataObjectsForTagFailureEvent) event).objectsToRemove());
+    Assertions.assertEquals(
+        OperationType.ASSOCIATE_METADATA_OBJECTS_FOR_TAG, event.operationType());
+    Assertions.assertEquals(OperationStatus.FAILURE, event.operationStatus());
+  }
+
   private Tag mockTag() {
     Tag tag = mock(Tag.class);
     when(tag.name()).thenReturn("tag");
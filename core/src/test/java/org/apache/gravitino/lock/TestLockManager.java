@@ -669,4 +669,56 @@ public class TestLockManager {
     lockManager.createTreeLock(NameIdentifier.of("/"));
     Assertions.assertEquals(2L, lockManager.totalNodeCount.get(), "Should have 2 nodes");
   }
+
+  @Test
+  void testOptimisticRead() {
+    LockManager lockManager = new LockManager(getConfig());
+    NameIdentifier ident = NameIdentifier.of("m1", "c1", "s1", "t1");
+
+    // The tree lock nodes don't exist yet
+    Assertions.assertNull(lockManager.tryOptimisticRead(ident));
+
+    TreeLock treeLock = lockManager.createTreeLock(ident);
+    treeLock.lock(LockType.READ);
+    treeLock.unlock();
+
+    long rootReference = lockManager.treeLockRootNode.getReference();
+    long nodeCount = lockManager.totalNodeCount.get();
+    OptimisticRead read = lockManager.tryOptimisticRead(ident);
+    Assertions.assertNotNull(read);
+    Assertions.assertTrue(read.validate());
+    // The optimistic read doesn't create nodes or change the reference count
+    Assertions.assertEquals(rootReference, lockManager.treeLockRootNode.getReference());
+    Assertions.assertEquals(nodeCount, lockManager.totalNodeCount.get());
+
+    // Read locks and write locks of the other paths don't invalidate the optimistic read
+    TreeLock readLock = lockManager.createTreeLock(NameIdentifier.of("m1", "c1", "s1"));
+    readLock.lock(LockType.READ);
+    readLock.unlock();
+    TreeLock siblingLock = lockManager.createTreeLock(NameIdentifier.of("m1", "c1", "s1", "t2"));
+    siblingLock.lock(LockType.WRITE);
+    siblingLock.unlock();
+    Assertions.assertTrue(read.validate());
+
+    // Write lock of the ancestor invalidates the optimistic read
+    TreeLock writeLock = lockManager.createTreeLock(NameIdentifier.of("m1", "c1", "s1"));
+    writeLock.lock(LockType.WRITE);
+    Assertions.assertNull(lockManager.tryOptimisticRead(ident));
+    writeLock.unlock();
+    Assertions.assertFalse(read.validate());
+
+    // Replacing the evicted node invalidates the optimistic read
+    read = lockManager.tryOptimisticRead(ident);
+    Assertions.assertNotNull(read);
+    TreeLockNode schemaNode =
+        lockManager.treeLockRootNode.getChild("m1").getChild("c1").getChild("s1");
+    schemaNode.removeChild("t1");
+    treeLock = lockManager.createTreeLock(ident);
+    treeLock.lock(LockType.READ);
+    treeLock.unlock();
+    Assertions.assertFalse(read.validate());
+
+    lockManager.optimisticReadEnabled = false;
+    Assertions.assertNull(lockManager.tryOptimisticRead(ident));
+  }
 }
@@ -22,13 +22,25 @@ package org.apache.gravitino.lock;
 import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.gravitino.Config;
+import org.apache.gravitino.Entity;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.cache.CaffeineEntityCache;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.storage.relational.RelationalBackend;
+import org.apache.gravitino.storage.relational.RelationalEntityStore;
+import org.apache.gravitino.utils.TestUtil;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 public class TestTreeLockUtils {
@@ -48,4 +60,143 @@ public class TestTreeLockUtils {
             TreeLockUtils.doWithTreeLock(
                 NameIdentifier.of("test", "test1"), LockType.WRITE, () -> null));
   }
+
+  @Test
+  void testOptimisticReadFallback() throws Exception {
+    Config config = mock(Config.class);
+    doReturn(100000L).when(config).get(TREE_LOCK_MAX_NODE_IN_MEMORY);
+    doReturn(1000L).when(config).get(TREE_LOCK_MIN_NODE_IN_MEMORY);
+    doReturn(36000L).when(config).get(TREE_LOCK_CLEAN_INTERVAL);
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "lockManager", new LockManager(config), true);
+
+    NameIdentifier schemaIdent = NameIdentifier.of("m1", "c1", "s1");
+    NameIdentifier tableIdent = NameIdentifier.of("m1", "c1", "s1", "t1");
+    // The tree lock nodes don't exist, the read is executed with the tree lock directly
+    AtomicInteger executions = new AtomicInteger();
+    TreeLockUtils.doWithOptimisticReadLock(tableIdent, executions::incrementAndGet);
+    Assertions.assertEquals(1, executions.get());
+
+    // No concurrent writes, the read is executed only once without the tree lock
+    executions.set(0);
+    TreeLockUtils.doWithOptimisticReadLock(tableIdent, executions::incrementAndGet);
+    Assertions.assertEquals(1, executions.get());
+
+    // A write happens during the optimistic read, the read is executed again with the tree lock
+    executions.set(0);
+    int result =
+        TreeLockUtils.doWithOptimisticReadLock(
+            tableIdent,
+            () -> {
+              if (executions.incrementAndGet() == 1) {
+                TreeLockUtils.doWithTreeLock(schemaIdent, LockType.WRITE, () -> null);
+              }
+              return executions.get();
+            });
+    Assertions.assertEquals(2, result);
+
+    // The exception is thrown if the read is consistent
+    executions.set(0);
+    Assertions.assertThrows(
+        IllegalStateException.class,
+        () ->
+            TreeLockUtils.doWithOptimisticReadLock(
+                tableIdent,
+                () -> {
+                  executions.incrementAndGet();
+                  throw new IllegalStateException("mock error");
+                }));
+    Assertions.assertEquals(1, executions.get());
+  }
+
+  @Test
+  void testOptimisticReadRacingWithWriter() throws Exception {
+    Config config = mock(Config.class);
+    doReturn(100000L).when(config).get(TREE_LOCK_MAX_NODE_IN_MEMORY);
+    doReturn(1000L).when(config).get(TREE_LOCK_MIN_NODE_IN_MEMORY);
+    doReturn(36000L).when(config).get(TREE_LOCK_CLEAN_INTERVAL);
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "lockManager", new LockManager(config), true);
+
+    Namespace namespace = Namespace.of("m1", "c1", "s1");
+    NameIdentifier tableIdent = NameIdentifier.of(namespace, "t1");
+    TableEntity oldTable = TestUtil.getTestTableEntity(1L, "t1", namespace);
+    TableEntity newTable = TestUtil.getTestTableEntity(2L, "t1", namespace);
+
+    RelationalBackend backend = mock(RelationalBackend.class);
+    RelationalEntityStore store = new RelationalEntityStore();
+    FieldUtils.writeField(store, "backend", backend, true);
+    FieldUtils.writeField(store, "cache", new CaffeineEntityCache(new Config(false) {}), true);
+
+    // The writer updates the table after the reader reads the old table from the backend, but
+    // before the reader returns to the entity store.
+    AtomicInteger backendReads = new AtomicInteger();
+    when(backend.get(tableIdent, Entity.EntityType.TABLE))
+        .thenAnswer(
+            invocation -> {
+              if (backendReads.incrementAndGet() > 1) {
+                return newTable;
+              }
+              TreeLockUtils.doWithTreeLock(
+                  tableIdent,
+                  LockType.WRITE,
+                  () ->
+                      store.update(
+                          tableIdent, TableEntity.class, Entity.EntityType.TABLE, t -> newTable));
+              return oldTable;
+            });
+    when(backend.update(eq(tableIdent), eq(Entity.EntityType.TABLE), any())).thenReturn(newTable);
+
+    // Create the tree lock nodes, so that the optimistic read is not skipped.
+    TreeLockUtils.doWithTreeLock(tableIdent, LockType.READ, () -> null);
+
+    TableEntity loaded =
+        TreeLockUtils.doWithOptimisticReadLock(
+            tableIdent, () -> store.get(tableIdent, Entity.EntityType.TABLE, TableEntity.class));
+    Assertions.assertEquals(newTable.id(), loaded.id());
+    Assertions.assertEquals(2, backendReads.get());
+
+    // The old table read by the optimistic read is not cached.
+    Assertions.assertEquals(
+        newTable.id(), store.get(tableIdent, Entity.EntityType.TABLE, TableEntity.class).id());
+    Assertions.assertFalse(TreeLockUtils.isInOptimisticRead());
+  }
+
+  @Test
+  void testOptimisticReadCachesValidEntities() throws Exception {
+    Config config = mock(Config.class);
+    doReturn(100000L).when(config).get(TREE_LOCK_MAX_NODE_IN_MEMORY);
+    doReturn(1000L).when(config).get(TREE_LOCK_MIN_NODE_IN_MEMORY);
+    doReturn(36000L).when(config).get(TREE_LOCK_CLEAN_INTERVAL);
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "lockManager", new LockManager(config), true);
+
+    Namespace namespace = Namespace.of("m1", "c1", "s1");
+    NameIdentifier schemaIdent = NameIdentifier.of(namespace.levels());
+    NameIdentifier tableIdent = NameIdentifier.of(namespace, "t1");
+    TableEntity table = TestUtil.getTestTableEntity(1L, "t1", namespace);
+
+    RelationalBackend backend = mock(RelationalBackend.class);
+    when(backend.get(tableIdent, Entity.EntityType.TABLE)).thenReturn(table);
+    RelationalEntityStore store = new RelationalEntityStore();
+    CaffeineEntityCache cache = new CaffeineEntityCache(new Config(false) {});
+    FieldUtils.writeField(store, "backend", backend, true);
+    FieldUtils.writeField(store, "cache", cache, true);
+
+    // Create the tree lock nodes, so that the optimistic read is not skipped.
+    TreeLockUtils.doWithTreeLock(tableIdent, LockType.READ, () -> null);
+
+    // The nested optimistic read keeps the outer one, whose cache write is deferred until the
+    // outer read is validated.
+    TreeLockUtils.doWithOptimisticReadLock(
+        schemaIdent,
+        () -> {
+          TreeLockUtils.doWithOptimisticReadLock(
+              tableIdent, () -> store.get(tableIdent, Entity.EntityType.TABLE, TableEntity.class));
+          Assertions.assertTrue(TreeLockUtils.isInOptimisticRead());
+          Assertions.assertFalse(cache.contains(tableIdent, Entity.EntityType.TABLE));
+          return null;
+        });
+    Assertions.assertFalse(TreeLockUtils.isInOptimisticRead());
+
+    // The entity read by the validated optimistic read is cached
+    Assertions.assertTrue(cache.contains(tableIdent, Entity.EntityType.TABLE));
+  }
 }
@@ -109,5 +109,10 @@ public class TestExtractMetricNameAndLabel {
             + Collector.sanitizeMetricName(
                 MetricNames.ENTITY_STORE_RELATION_DATASOURCE_MAX_CONNECTIONS),
         ImmutableMap.of());
+
+    checkResult(
+        MetricsSource.LATENCY_TRACING_METRIC_NAME + ".entity_store.table",
+        Collector.sanitizeMetricName(MetricsSource.LATENCY_TRACING_METRIC_NAME) + "_entity_store",
+        ImmutableMap.of("type", "table"));
   }
 }
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics;
+
+import com.codahale.metrics.Timer;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.lock.LockType;
+import org.apache.gravitino.metrics.LatencyTracer.Subsystem;
+import org.apache.gravitino.metrics.source.LatencyTracingMetricsSource;
+import org.apache.gravitino.metrics.source.MetricsSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestLatencyTracer {
+
+  @AfterEach
+  void tearDown() {
+    LatencyTracer.disable();
+  }
+
+  @Test
+  void testDisabledTracer() {
+    Assertions.assertFalse(LatencyTracer.isEnabled());
+
+    LatencyTracer.RequestTrace trace = LatencyTracer.beginRequest("GET /metalakes");
+    try (LatencyTracer.Span ignored =
+        LatencyTracer.start(Subsystem.ENTITY_STORE, Entity.EntityType.METALAKE)) {
+      // do nothing
+    }
+    LatencyTracer.endRequest(trace);
+
+    Assertions.assertEquals(0, trace.stageCount(Subsystem.ENTITY_STORE));
+    Assertions.assertEquals("", trace.stageBreakdown());
+  }
+
+  @Test
+  void testRecordLatency() {
+    MetricsSystem metricsSystem = new MetricsSystem();
+    LatencyTracingMetricsSource source = new LatencyTracingMetricsSource();
+    metricsSystem.register(source);
+    LatencyTracer.enable(source);
+
+    try (LatencyTracer.Span ignored =
+        LatencyTracer.start(Subsystem.ENTITY_STORE, Entity.EntityType.TABLE)) {
+      // do nothing
+    }
+    try (LatencyTracer.Span ignored = LatencyTracer.start(Subsystem.TREE_LOCK, LockType.WRITE)) {
+      // do nothing
+    }
+
+    Timer storeTimer =
+        metricsSystem
+            .getMetricRegistry()
+            .getTimers()
+            .get(MetricsSource.LATENCY_TRACING_METRIC_NAME + ".entity_store.table");
+    Assertions.assertNotNull(storeTimer);
+    Assertions.assertEquals(1, storeTimer.getCount());
+    Assertions.assertSame(storeTimer, source.getTimer(Subsystem.ENTITY_STORE, "table"));
+    Assertions.assertEquals(1, source.getTimer(Subsystem.TREE_LOCK, "write").getCount());
+    Assertions.assertEquals(0, source.getTimer(Subsystem.TREE_LOCK, "read").getCount());
+  }
+
+  @Test
+  void testRequestTrace() {
+    LatencyTracer.enable(new LatencyTracingMetricsSource());
+
+    LatencyTracer.RequestTrace trace = LatencyTracer.beginRequest("GET /metalakes/m1");
+    for (int i = 0; i < 3; i++) {
+      try (LatencyTracer.Span ignored =
+          LatencyTracer.start(Subsystem.ENTITY_CACHE, Entity.EntityType.METALAKE)) {
+        // do nothing
+      }
+    }
+    try (LatencyTracer.Span ignored = LatencyTracer.start(Subsystem.CATALOG, "table")) {
+      // do nothing
+    }
+    LatencyTracer.endRequest(trace);
+
+    // The spans after the request is ended are not recorded into the trace
+    try (LatencyTracer.Span ignored = LatencyTracer.start(Subsystem.CATALOG, "table")) {
+      // do nothing
+    }
+
+    Assertions.assertEquals("GET /metalakes/m1", trace.name());
+    Assertions.assertEquals(3, trace.stageCount(Subsystem.ENTITY_CACHE));
+    Assertions.assertEquals(1, trace.stageCount(Subsystem.CATALOG));
+    Assertions.assertEquals(0, trace.stageCount(Subsystem.AUTHORIZATION));
+    Assertions.assertTrue(trace.stageBreakdown().startsWith("entity_cache="));
+    Assertions.assertTrue(trace.stageBreakdown().contains(", catalog="));
+    Assertions.assertFalse(trace.stageBreakdown().contains("authorization"));
+  }
+}
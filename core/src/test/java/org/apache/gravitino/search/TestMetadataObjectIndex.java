@@ -0,0 +1,281 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.search;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.MetadataObjects;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.listener.api.event.AlterTableEvent;
+import org.apache.gravitino.listener.api.event.AssociateMetadataObjectsForTagEvent;
+import org.apache.gravitino.listener.api.event.AssociateTagsForMetadataObjectEvent;
+import org.apache.gravitino.listener.api.event.DeleteTagEvent;
+import org.apache.gravitino.listener.api.event.DropSchemaEvent;
+import org.apache.gravitino.listener.api.event.DropTableEvent;
+import org.apache.gravitino.meta.PolicyEntity;
+import org.apache.gravitino.policy.PolicyChange;
+import org.apache.gravitino.policy.PolicyDispatcher;
+import org.apache.gravitino.rel.TableChange;
+import org.apache.gravitino.tag.TagDispatcher;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestMetadataObjectIndex {
+
+  private static final String METALAKE = "metalake";
+
+  private static final MetadataObject CATALOG =
+      MetadataObjects.parse("catalog", MetadataObject.Type.CATALOG);
+  private static final MetadataObject SCHEMA =
+      MetadataObjects.parse("catalog.schema", MetadataObject.Type.SCHEMA);
+  private static final MetadataObject TABLE1 =
+      MetadataObjects.parse("catalog.schema.table1", MetadataObject.Type.TABLE);
+  private static final MetadataObject TABLE2 =
+      MetadataObjects.parse("catalog.schema.table2", MetadataObject.Type.TABLE);
+  private static final MetadataObject COLUMN =
+      MetadataObjects.parse("catalog.schema.table1.column", MetadataObject.Type.COLUMN);
+  private static final MetadataObject OTHER_TABLE =
+      MetadataObjects.parse("catalog2.schema.table", MetadataObject.Type.TABLE);
+
+  private TagDispatcher tagDispatcher;
+  private PolicyDispatcher policyDispatcher;
+  private MetadataObjectIndex index;
+  private MetadataObjectIndexEventListener listener;
+
+  @BeforeEach
+  public void setUp() {
+    tagDispatcher = mock(TagDispatcher.class);
+    policyDispatcher = mock(PolicyDispatcher.class);
+
+    when(tagDispatcher.listTags(METALAKE)).thenReturn(new String[] {"pii", "gold"});
+    when(tagDispatcher.listMetadataObjectsForTag(METALAKE, "pii"))
+        .thenReturn(new MetadataObject[] {TABLE1, TABLE2, COLUMN, OTHER_TABLE});
+    when(tagDispatcher.listMetadataObjectsForTag(METALAKE, "gold"))
+        .thenReturn(new MetadataObject[] {CATALOG, TABLE2});
+    when(policyDispatcher.listPolicies(METALAKE)).thenReturn(new String[] {"retention"});
+    when(policyDispatcher.listMetadataObjectsForPolicy(METALAKE, "retention"))
+        .thenReturn(new MetadataObject[] {TABLE1, SCHEMA});
+
+    index = new MetadataObjectIndex(tagDispatcher, policyDispatcher);
+    listener = new MetadataObjectIndexEventListener(index);
+  }
+
+  @Test
+  public void testSearch() {
+    Assertions.assertEquals(
+        ImmutableList.of(TABLE1, COLUMN, TABLE2, OTHER_TABLE),
+        search(query().withTags(tags("pii"))));
+    Assertions.assertEquals(
+        ImmutableList.of(TABLE2), search(query().withTags(tags("pii", "gold"))));
+    Assertions.assertEquals(
+        ImmutableList.of(CATALOG, SCHEMA, TABLE1, TABLE2),
+        search(
+            query()
+                .withTags(tags("gold"))
+                .withPolicies(tags("retention"))
+                .withOperator(MetadataObjectQuery.Operator.OR)));
+    Assertions.assertEquals(
+        ImmutableList.of(TABLE1),
+        search(query().withTags(tags("pii")).withPolicies(tags("retention"))));
+    Assertions.assertTrue(search(query().withTags(tags("pii", "unknown"))).isEmpty());
+
+    // The index is loaded once
+    verify(tagDispatcher, times(1)).listTags(METALAKE);
+    verify(policyDispatcher, times(1)).listPolicies(METALAKE);
+  }
+
+  @Test
+  public void testSearchWithScopeAndType() {
+    Assertions.assertEquals(
+        ImmutableList.of(TABLE1, COLUMN, TABLE2),
+        search(query().withTags(tags("pii")).withScope("catalog")));
+    Assertions.assertEquals(
+        ImmutableList.of(TABLE1, COLUMN),
+        search(query().withTags(tags("pii")).withScope("catalog.schema.table1")));
+    Assertions.assertEquals(
+        ImmutableList.of(TABLE1, TABLE2),
+        search(
+            query()
+                .withTags(tags("pii"))
+                .withScope("catalog")
+                .withType(MetadataObject.Type.TABLE)));
+    Assertions.assertTrue(search(query().withTags(tags("pii")).withScope("cat")).isEmpty());
+  }
+
+  @Test
+  public void testSearchByPages() {
+    MetadataObjectQuery.Builder builder = query().withTags(tags("pii")).withPageSize(3);
+    MetadataObjectPage page = index.search(METALAKE, builder.build());
+    Assertions.assertArrayEquals(
+        new MetadataObject[] {TABLE1, COLUMN, TABLE2}, page.metadataObjects());
+    Assertions.assertNotNull(page.nextPageToken());
+
+    page = index.search(METALAKE, builder.withPageToken(page.nextPageToken()).build());
+    Assertions.assertArrayEquals(new MetadataObject[] {OTHER_TABLE}, page.metadataObjects());
+    Assertions.assertNull(page.nextPageToken());
+
+    page = index.search(METALAKE, query().withTags(tags("pii")).withPageSize(4).build());
+    Assertions.assertEquals(4, page.metadataObjects().length);
+    Assertions.assertNull(page.nextPageToken());
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> index.search(METALAKE, builder.withPageToken("invalid").build()));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> query().build());
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> query().withTags(tags("pii")).withPageSize(0).build());
+  }
+
+  @Test
+  public void testUpdateByTagEvents() {
+    loadIndex();
+
+    listener.onPostEvent(
+        new AssociateTagsForMetadataObjectEvent(
+            "user",
+            METALAKE,
+            TABLE1,
+            new String[] {"gold"},
+            new String[] {"pii"},
+            new String[] {"gold"}));
+    Assertions.assertArrayEquals(
+        new String[] {"gold"}, index.listTagsForMetadataObject(METALAKE, TABLE1));
+    Assertions.assertEquals(
+        ImmutableList.of(COLUMN, TABLE2, OTHER_TABLE), search(query().withTags(tags("pii"))));
+
+    listener.onPostEvent(
+        new AssociateMetadataObjectsForTagEvent(
+            "user",
+            METALAKE,
+            "pii",
+            new MetadataObject[] {TABLE1, SCHEMA},
+            new MetadataObject[] {COLUMN, SCHEMA}));
+    Assertions.assertEquals(
+        ImmutableList.of(TABLE1, TABLE2, OTHER_TABLE), search(query().withTags(tags("pii"))));
+
+    listener.onPostEvent(new DeleteTagEvent("user", METALAKE, "gold", true));
+    Assertions.assertTrue(search(query().withTags(tags("gold"))).isEmpty());
+    Assertions.assertArrayEquals(
+        new String[] {"pii"}, index.listTagsForMetadataObject(METALAKE, TABLE1));
+    Assertions.assertEquals(0, index.listTagsForMetadataObject(METALAKE, CATALOG).length);
+  }
+
+  @Test
+  public void testUpdateByPolicyDispatcher() {
+    loadIndex();
+    PolicyIndexDispatcher dispatcher = new PolicyIndexDispatcher(policyDispatcher, index);
+
+    when(policyDispatcher.associatePoliciesForMetadataObject(
+            eq(METALAKE), eq(TABLE2), any(), any()))
+        .thenReturn(new String[] {"retention", "masking"});
+    dispatcher.associatePoliciesForMetadataObject(
+        METALAKE, TABLE2, new String[] {"retention", "masking"}, null);
+    Assertions.assertEquals(
+        ImmutableList.of(SCHEMA, TABLE1, TABLE2), search(query().withPolicies(tags("retention"))));
+
+    dispatcher.associateMetadataObjectsForPolicy(
+        METALAKE, "masking", new MetadataObject[] {COLUMN}, new MetadataObject[] {TABLE2});
+    Assertions.assertEquals(
+        ImmutableList.of(COLUMN), search(query().withPolicies(tags("masking"))));
+
+    PolicyEntity renamed = mock(PolicyEntity.class);
+    when(renamed.name()).thenReturn("retention_v2");
+    PolicyChange rename = PolicyChange.rename("retention_v2");
+    when(policyDispatcher.alterPolicy(METALAKE, "retention", rename)).thenReturn(renamed);
+    dispatcher.alterPolicy(METALAKE, "retention", rename);
+    Assertions.assertTrue(search(query().withPolicies(tags("retention"))).isEmpty());
+    Assertions.assertEquals(
+        ImmutableList.of(SCHEMA, TABLE1, TABLE2),
+        search(query().withPolicies(tags("retention_v2"))));
+
+    when(policyDispatcher.deletePolicy(METALAKE, "retention_v2")).thenReturn(true);
+    dispatcher.deletePolicy(METALAKE, "retention_v2");
+    Assertions.assertTrue(search(query().withPolicies(tags("retention_v2"))).isEmpty());
+    Assertions.assertEquals(0, index.listPoliciesForMetadataObject(METALAKE, TABLE1).length);
+  }
+
+  @Test
+  public void testRemoveDroppedMetadataObjects() {
+    loadIndex();
+
+    NameIdentifier tableIdent = NameIdentifier.of(METALAKE, "catalog", "schema", "table1");
+    listener.onPostEvent(new DropTableEvent("user", tableIdent, true));
+    Assertions.assertEquals(
+        ImmutableList.of(TABLE2, OTHER_TABLE), search(query().withTags(tags("pii"))));
+    Assertions.assertEquals(
+        ImmutableList.of(SCHEMA), search(query().withPolicies(tags("retention"))));
+
+    listener.onPostEvent(
+        new DropSchemaEvent("user", NameIdentifier.of(METALAKE, "catalog", "schema"), true, true));
+    Assertions.assertEquals(ImmutableList.of(OTHER_TABLE), search(query().withTags(tags("pii"))));
+    Assertions.assertEquals(ImmutableList.of(CATALOG), search(query().withTags(tags("gold"))));
+    Assertions.assertTrue(search(query().withPolicies(tags("retention"))).isEmpty());
+    Assertions.assertTrue(index.isLoaded(METALAKE));
+  }
+
+  @Test
+  public void testInvalidateByRename() {
+    loadIndex();
+
+    listener.onPostEvent(
+        new AlterTableEvent(
+            "user",
+            NameIdentifier.of(METALAKE, "catalog", "schema", "table3"),
+            new TableChange[] {TableChange.rename("table3")},
+            null));
+    Assertions.assertFalse(index.isLoaded(METALAKE));
+
+    // The changes before the index is loaded are picked up by loading it
+    when(tagDispatcher.listMetadataObjectsForTag(METALAKE, "gold"))
+        .thenReturn(new MetadataObject[] {CATALOG});
+    Assertions.assertEquals(ImmutableList.of(CATALOG), search(query().withTags(tags("gold"))));
+    Assertions.assertTrue(index.isLoaded(METALAKE));
+    verify(tagDispatcher, times(2)).listTags(METALAKE);
+  }
+
+  private void loadIndex() {
+    search(query().withTags(tags("pii")));
+    Assertions.assertTrue(index.isLoaded(METALAKE));
+  }
+
+  private List<MetadataObject> search(MetadataObjectQuery.Builder builder) {
+    return Arrays.stream(index.search(METALAKE, builder.build()).metadataObjects())
+        .collect(Collectors.toList());
+  }
+
+  private static MetadataObjectQuery.Builder query() {
+    return MetadataObjectQuery.builder();
+  }
+
+  private static List<String> tags(String... names) {
+    return Arrays.asList(names);
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestSnowflakeIdGenerator {
+
+  private static final long NOW = SnowflakeIdGenerator.EPOCH_MS + TimeUnit.DAYS.toMillis(365);
+
+  @Test
+  public void testIdsAreOrderedAndCarryNodeId() {
+    AtomicLong clock = new AtomicLong(NOW);
+    SnowflakeIdGenerator generator = new SnowflakeIdGenerator(5, 1000, clock::get);
+
+    long previous = 0;
+    for (int i = 0; i < 10000; i++) {
+      if (i % 100 == 0) {
+        clock.incrementAndGet();
+      }
+      long id = generator.nextId();
+      Assertions.assertTrue(id > previous, "ids must be strictly increasing");
+      Assertions.assertEquals(
+          5, (id >>> SnowflakeIdGenerator.SEQUENCE_BITS) & SnowflakeIdGenerator.MAX_NODE_ID);
+      previous = id;
+    }
+  }
+
+  @Test
+  public void testClockMovesBackwards() {
+    AtomicLong clock = new AtomicLong(NOW);
+    SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 1000, clock::get);
+    long id = generator.nextId();
+
+    // Within the tolerance, the ids keep increasing from the last timestamp
+    clock.addAndGet(-500);
+    long nextId = generator.nextId();
+    Assertions.assertTrue(nextId > id);
+
+    // Beyond the tolerance, the generator refuses to generate ids
+    clock.addAndGet(-1000);
+    Assertions.assertThrows(IllegalStateException.class, generator::nextId);
+
+    // Recovers once the clock catches up
+    clock.set(NOW + 1);
+    Assertions.assertTrue(generator.nextId() > nextId);
+  }
+
+  @Test
+  public void testSequenceExhausted() {
+    int sequenceCount = 1 << SnowflakeIdGenerator.SEQUENCE_BITS;
+    AtomicLong calls = new AtomicLong();
+    // The clock moves forward a while after the sequence of the first millisecond is exhausted
+    LongSupplier clock = () -> calls.incrementAndGet() > sequenceCount + 10 ? NOW + 1 : NOW;
+    SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 1000, clock);
+
+    long previous = 0;
+    for (int i = 0; i <= sequenceCount; i++) {
+      long id = generator.nextId();
+      Assertions.assertTrue(id > previous);
+      previous = id;
+    }
+    Assertions.assertEquals(
+        NOW + 1 - SnowflakeIdGenerator.EPOCH_MS,
+        previous >>> (SnowflakeIdGenerator.NODE_ID_BITS + SnowflakeIdGenerator.SEQUENCE_BITS));
+  }
+
+  @Test
+  public void testConcurrentIdsAreUnique() throws Exception {
+    SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 1000, System::currentTimeMillis);
+    Set<Long> ids = ConcurrentHashMap.newKeySet();
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      Future<?>[] futures = new Future<?>[8];
+      for (int i = 0; i < futures.length; i++) {
+        futures[i] =
+            executor.submit(
+                () -> {
+                  for (int j = 0; j < 50000; j++) {
+                    long id = generator.nextId();
+                    Assertions.assertTrue(id > 0);
+                    ids.add(id);
+                  }
+                });
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    Assertions.assertEquals(8 * 50000, ids.size());
+  }
+
+  @Test
+  public void testInvalidNodeId() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new SnowflakeIdGenerator(1024, 1000, System::currentTimeMillis));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new SnowflakeIdGenerator(-1, 1000, System::currentTimeMillis));
+  }
+
+  @Test
+  public void testCreateByFactory() {
+    Config config = new Config(false) {};
+    Assertions.assertInstanceOf(
+        RandomIdGenerator.class, IdGeneratorFactory.createIdGenerator(config));
+
+    config.set(Configs.ENTITY_ID_GENERATOR, Configs.SNOWFLAKE_ID_GENERATOR);
+    config.set(Configs.ENTITY_ID_GENERATOR_SNOWFLAKE_NODE_ID, 7);
+    IdGenerator generator = IdGeneratorFactory.createIdGenerator(config);
+    Assertions.assertInstanceOf(SnowflakeIdGenerator.class, generator);
+    Assertions.assertEquals(7, ((SnowflakeIdGenerator) generator).nodeId());
+
+    config.set(Configs.ENTITY_ID_GENERATOR, RandomIdGenerator.class.getName());
+    Assertions.assertInstanceOf(
+        RandomIdGenerator.class, IdGeneratorFactory.createIdGenerator(config));
+  }
+}
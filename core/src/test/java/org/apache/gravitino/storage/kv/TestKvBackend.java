@@ -0,0 +1,599 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.kv;
+
+import static org.apache.gravitino.storage.relational.TestJDBCBackend.createBaseMakeLake;
+import static org.apache.gravitino.storage.relational.TestJDBCBackend.createCatalog;
+import static org.apache.gravitino.storage.relational.TestJDBCBackend.createFilesetEntity;
+import static org.apache.gravitino.storage.relational.TestJDBCBackend.createModelEntity;
+import static org.apache.gravitino.storage.relational.TestJDBCBackend.createModelVersionEntity;
+import static org.apache.gravitino.storage.relational.TestJDBCBackend.createPolicy;
+import static org.apache.gravitino.storage.relational.TestJDBCBackend.createSchemaEntity;
+import static org.apache.gravitino.storage.relational.TestJDBCBackend.createTopicEntity;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.EntityAlreadyExistsException;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.MetadataObjects;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.SupportsRelationOperations;
+import org.apache.gravitino.UnsupportedEntityTypeException;
+import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.exceptions.NonEmptyEntityException;
+import org.apache.gravitino.job.JobHandle;
+import org.apache.gravitino.job.ShellJobTemplate;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.BaseMetalake;
+import org.apache.gravitino.meta.CatalogEntity;
+import org.apache.gravitino.meta.ColumnEntity;
+import org.apache.gravitino.meta.FilesetEntity;
+import org.apache.gravitino.meta.GenericEntity;
+import org.apache.gravitino.meta.JobEntity;
+import org.apache.gravitino.meta.JobTemplateEntity;
+import org.apache.gravitino.meta.ModelEntity;
+import org.apache.gravitino.meta.ModelVersionEntity;
+import org.apache.gravitino.meta.PolicyEntity;
+import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.meta.StatisticEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.meta.TableStatisticEntity;
+import org.apache.gravitino.meta.TagEntity;
+import org.apache.gravitino.meta.TopicEntity;
+import org.apache.gravitino.meta.UserEntity;
+import org.apache.gravitino.rel.types.Types;
+import org.apache.gravitino.stats.StatisticValues;
+import org.apache.gravitino.storage.RandomIdGenerator;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+import org.apache.gravitino.utils.NamespaceUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+public class TestKvBackend {
+
+  private final AuditInfo auditInfo =
+      AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+
+  @TempDir private Path storePath;
+  private Config config;
+  private KvBackend backend;
+
+  @BeforeEach
+  public void setUp() {
+    config = Mockito.mock(Config.class);
+    Mockito.when(config.get(Configs.ENTITY_KV_BACKEND_PATH)).thenReturn(storePath.toString());
+    Mockito.when(config.get(Configs.ENTITY_KV_BACKEND_SYNC_WRITES)).thenReturn(false);
+    Mockito.when(config.get(Configs.ENTITY_KV_BACKEND_COMPACTION_THRESHOLD_BYTES)).thenReturn(1L);
+    backend = new KvBackend();
+    backend.initialize(config);
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    backend.close();
+  }
+
+  @Test
+  public void testInsertGetAndList() throws IOException {
+    createHierarchy();
+
+    NameIdentifier tableIdent = NameIdentifier.of("metalake", "catalog", "schema", "table");
+    TableEntity table = backend.get(tableIdent, Entity.EntityType.TABLE);
+    Assertions.assertEquals(
+        ImmutableList.of("id", "name"),
+        table.columns().stream().map(ColumnEntity::name).collect(Collectors.toList()));
+
+    List<TableEntity> tables = backend.list(tableIdent.namespace(), Entity.EntityType.TABLE, false);
+    Assertions.assertEquals(1, tables.size());
+    Assertions.assertTrue(tables.get(0).columns().isEmpty());
+
+    FilesetEntity fileset =
+        backend.get(
+            NameIdentifier.of("metalake", "catalog", "schema", "fileset"),
+            Entity.EntityType.FILESET);
+    Assertions.assertEquals("/tmp", fileset.storageLocation());
+    TopicEntity topic =
+        backend.get(
+            NameIdentifier.of("metalake", "catalog", "schema", "topic"), Entity.EntityType.TOPIC);
+    Assertions.assertEquals("test comment", topic.comment());
+
+    CatalogEntity duplicate =
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(), Namespace.of("metalake"), "catalog", auditInfo);
+    Assertions.assertThrows(
+        EntityAlreadyExistsException.class, () -> backend.insert(duplicate, false));
+    Assertions.assertThrows(
+        NoSuchEntityException.class,
+        () -> backend.list(Namespace.of("metalake", "absent"), Entity.EntityType.SCHEMA, true));
+    Assertions.assertFalse(
+        backend.exists(NameIdentifier.of("metalake", "absent"), Entity.EntityType.CATALOG));
+
+    UserEntity user =
+        UserEntity.builder()
+            .withId(RandomIdGenerator.INSTANCE.nextId())
+            .withName("user")
+            .withNamespace(NamespaceUtil.ofUser("metalake"))
+            .withAuditInfo(auditInfo)
+            .build();
+    Assertions.assertThrows(
+        UnsupportedEntityTypeException.class, () -> backend.insert(user, false));
+  }
+
+  @Test
+  public void testReopen() throws IOException {
+    createHierarchy();
+    backend.close();
+
+    backend = new KvBackend();
+    backend.initialize(config);
+    Assertions.assertEquals(
+        1, backend.list(Namespace.empty(), Entity.EntityType.METALAKE, true).size());
+    NameIdentifier tableIdent = NameIdentifier.of("metalake", "catalog", "schema", "table");
+    TableEntity table = backend.get(tableIdent, Entity.EntityType.TABLE);
+    Assertions.assertEquals(2, table.columns().size());
+
+    // Compacts the log into a snapshot, and reopens from the snapshot.
+    backend.hardDeleteLegacyData(Entity.EntityType.METALAKE, Instant.now().toEpochMilli());
+    backend.close();
+    backend = new KvBackend();
+    backend.initialize(config);
+    Assertions.assertTrue(
+        backend.exists(
+            NameIdentifier.of("metalake", "catalog", "schema", "topic"), Entity.EntityType.TOPIC));
+  }
+
+  @Test
+  public void testRename() throws IOException {
+    createHierarchy();
+
+    backend.update(
+        NameIdentifier.of("metalake", "catalog"),
+        Entity.EntityType.CATALOG,
+        (CatalogEntity catalog) ->
+            createCatalog(catalog.id(), catalog.namespace(), "catalog2", auditInfo));
+
+    Assertions.assertFalse(
+        backend.exists(NameIdentifier.of("metalake", "catalog"), Entity.EntityType.CATALOG));
+    Assertions.assertTrue(
+        backend.exists(
+            NameIdentifier.of("metalake", "catalog2", "schema", "table"), Entity.EntityType.TABLE));
+
+    backend.insert(
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(), Namespace.of("metalake"), "catalog3", auditInfo),
+        false);
+    Assertions.assertThrows(
+        EntityAlreadyExistsException.class,
+        () ->
+            backend.update(
+                NameIdentifier.of("metalake", "catalog3"),
+                Entity.EntityType.CATALOG,
+                (CatalogEntity catalog) ->
+                    createCatalog(catalog.id(), catalog.namespace(), "catalog2", auditInfo)));
+  }
+
+  @Test
+  public void testDelete() throws IOException {
+    createHierarchy();
+    NameIdentifier catalogIdent = NameIdentifier.of("metalake", "catalog");
+
+    Assertions.assertThrows(
+        NonEmptyEntityException.class,
+        () -> backend.delete(catalogIdent, Entity.EntityType.CATALOG, false));
+    Assertions.assertTrue(backend.delete(catalogIdent, Entity.EntityType.CATALOG, true));
+    Assertions.assertFalse(backend.exists(catalogIdent, Entity.EntityType.CATALOG));
+    Assertions.assertFalse(backend.delete(catalogIdent, Entity.EntityType.CATALOG, true));
+
+    // The schema is re-created under a new catalog with the same name, nothing is left behind.
+    backend.insert(
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(), Namespace.of("metalake"), "catalog", auditInfo),
+        false);
+    Namespace schemaNs = Namespace.of("metalake", "catalog");
+    Assertions.assertTrue(backend.list(schemaNs, Entity.EntityType.SCHEMA, true).isEmpty());
+
+    NameIdentifier metalakeIdent = NameIdentifier.of("metalake");
+    Assertions.assertThrows(
+        NonEmptyEntityException.class,
+        () -> backend.delete(metalakeIdent, Entity.EntityType.METALAKE, false));
+    Assertions.assertTrue(backend.delete(catalogIdent, Entity.EntityType.CATALOG, false));
+    Assertions.assertTrue(backend.delete(metalakeIdent, Entity.EntityType.METALAKE, false));
+
+  }
+
+  @Test
+  public void testTagAssociations() throws IOException {
+    createHierarchy();
+    NameIdentifier tableIdent = NameIdentifier.of("metalake", "catalog", "schema", "table");
+    NameIdentifier columnIdent = NameIdentifier.of("metalake", "catalog", "schema", "table", "id");
+    NameIdentifier tagIdent = NameIdentifierUtil.ofTag("metalake", "tag");
+    backend.insert(
+        TagEntity.builder()
+            .withId(RandomIdGenerator.INSTANCE.nextId())
+            .withName("tag")
+            .withNamespace(NamespaceUtil.ofTag("metalake"))
+            .withComment("tag comment")
+            .withAuditInfo(auditInfo)
+            .build(),
+        false);
+
+    List<TagEntity> tags =
+        backend.associateTagsWithMetadataObject(
+            tableIdent,
+            Entity.EntityType.TABLE,
+            new NameIdentifier[] {tagIdent},
+            new NameIdentifier[0]);
+    Assertions.assertEquals(1, tags.size());
+    backend.associateTagsWithMetadataObject(
+        columnIdent,
+        Entity.EntityType.COLUMN,
+        new NameIdentifier[] {tagIdent},
+        new NameIdentifier[0]);
+    Assertions.assertThrows(
+        EntityAlreadyExistsException.class,
+        () ->
+            backend.associateTagsWithMetadataObject(
+                tableIdent,
+                Entity.EntityType.TABLE,
+                new NameIdentifier[] {tagIdent},
+                new NameIdentifier[0]));
+
+    TagEntity columnTag =
+        backend.getTagForMetadataObject(columnIdent, Entity.EntityType.COLUMN, tagIdent);
+    Assertions.assertEquals("tag", columnTag.name());
+    List<MetadataObject> objects = backend.listAssociatedMetadataObjectsForTag(tagIdent);
+    Assertions.assertEquals(2, objects.size());
+    Assertions.assertTrue(
+        objects.contains(
+            MetadataObjects.of("catalog.schema.table", "id", MetadataObject.Type.COLUMN)));
+
+    // Dropping the column removes its associations.
+    backend.update(
+        tableIdent,
+        Entity.EntityType.TABLE,
+        (TableEntity table) ->
+            TableEntity.builder()
+                .withId(table.id())
+                .withName(table.name())
+                .withNamespace(table.namespace())
+                .withColumns(
+                    table.columns().stream()
+                        .filter(column -> !column.name().equals("id"))
+                        .collect(Collectors.toList()))
+                .withAuditInfo(auditInfo)
+                .build());
+    Assertions.assertEquals(
+        ImmutableList.of(MetadataObjects.of("catalog.schema", "table", MetadataObject.Type.TABLE)),
+        backend.listAssociatedMetadataObjectsForTag(tagIdent));
+
+    backend.associateTagsWithMetadataObject(
+        tableIdent,
+        Entity.EntityType.TABLE,
+        new NameIdentifier[0],
+        new NameIdentifier[] {tagIdent});
+    Assertions.assertTrue(
+        backend.listAssociatedTagsForMetadataObject(tableIdent, Entity.EntityType.TABLE).isEmpty());
+    Assertions.assertThrows(
+        NoSuchEntityException.class,
+        () -> backend.getTagForMetadataObject(tableIdent, Entity.EntityType.TABLE, tagIdent));
+  }
+
+  @Test
+  public void testPolicyAssociations() throws IOException {
+    createHierarchy();
+    NameIdentifier schemaIdent = NameIdentifier.of("metalake", "catalog", "schema");
+    NameIdentifier policyIdent = NameIdentifierUtil.ofPolicy("metalake", "policy");
+    PolicyEntity policy =
+        createPolicy(
+            RandomIdGenerator.INSTANCE.nextId(),
+            NamespaceUtil.ofPolicy("metalake"),
+            "policy",
+            auditInfo);
+    backend.insert(policy, false);
+
+    List<PolicyEntity> policies =
+        backend.updateEntityRelations(
+            SupportsRelationOperations.Type.POLICY_METADATA_OBJECT_REL,
+            schemaIdent,
+            Entity.EntityType.SCHEMA,
+            new NameIdentifier[] {policyIdent},
+            new NameIdentifier[0]);
+    Assertions.assertEquals(1, policies.size());
+
+    List<GenericEntity> objects =
+        backend.listEntitiesByRelation(
+            SupportsRelationOperations.Type.POLICY_METADATA_OBJECT_REL,
+            policyIdent,
+            Entity.EntityType.POLICY);
+    Assertions.assertEquals(1, objects.size());
+    Assertions.assertEquals(Entity.EntityType.SCHEMA, objects.get(0).type());
+
+    // Deleting the schema removes its associations.
+    backend.delete(schemaIdent, Entity.EntityType.SCHEMA, true);
+    Assertions.assertTrue(
+        backend
+            .listEntitiesByRelation(
+                SupportsRelationOperations.Type.POLICY_METADATA_OBJECT_REL,
+                policyIdent,
+                Entity.EntityType.POLICY)
+            .isEmpty());
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            backend.listEntitiesByRelation(
+                SupportsRelationOperations.Type.OWNER_REL,
+                NameIdentifier.of("metalake"),
+                Entity.EntityType.METALAKE));
+  }
+
+  @Test
+  public void testModelVersions() throws IOException {
+    createHierarchy();
+    Namespace schemaNs = Namespace.of("metalake", "catalog", "schema");
+    ModelEntity model =
+        createModelEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            schemaNs,
+            "model",
+            "comment",
+            0,
+            ImmutableMap.of(),
+            auditInfo);
+    backend.insert(model, false);
+
+    // The version numbers are assigned from the latest version of the model.
+    NameIdentifier modelIdent = NameIdentifier.of(schemaNs, "model");
+    backend.insert(createModelVersion(modelIdent, ImmutableList.of("a")), false);
+    backend.insert(createModelVersion(modelIdent, ImmutableList.of("b")), false);
+    ModelEntity loaded = backend.get(modelIdent, Entity.EntityType.MODEL);
+    Assertions.assertEquals(2, loaded.latestVersion());
+    Namespace versionNs = NamespaceUtil.ofModelVersion("metalake", "catalog", "schema", "model");
+    ModelVersionEntity version =
+        backend.get(NameIdentifier.of(versionNs, "a"), Entity.EntityType.MODEL_VERSION);
+    Assertions.assertEquals(0, version.version());
+    version = backend.get(NameIdentifier.of(versionNs, "1"), Entity.EntityType.MODEL_VERSION);
+    Assertions.assertEquals(ImmutableList.of("b"), version.aliases());
+    Assertions.assertThrows(
+        EntityAlreadyExistsException.class,
+        () -> backend.insert(createModelVersion(modelIdent, ImmutableList.of("a")), false));
+
+    // The aliases are moved along with the update.
+    backend.update(
+        NameIdentifier.of(versionNs, "a"),
+        Entity.EntityType.MODEL_VERSION,
+        (ModelVersionEntity modelVersion) ->
+            createModelVersionEntity(
+                modelIdent,
+                modelVersion.version(),
+                ImmutableMap.of("unknown", "s3://bucket/model"),
+                ImmutableList.of("c"),
+                "updated",
+                ImmutableMap.of(),
+                auditInfo));
+    Assertions.assertFalse(
+        backend.exists(NameIdentifier.of(versionNs, "a"), Entity.EntityType.MODEL_VERSION));
+    version = backend.get(NameIdentifier.of(versionNs, "c"), Entity.EntityType.MODEL_VERSION);
+    Assertions.assertEquals("updated", version.comment());
+    List<ModelVersionEntity> versions =
+        backend.list(versionNs, Entity.EntityType.MODEL_VERSION, true);
+    Assertions.assertEquals(
+        ImmutableList.of(0, 1),
+        versions.stream().map(ModelVersionEntity::version).collect(Collectors.toList()));
+
+    Assertions.assertTrue(
+        backend.delete(NameIdentifier.of(versionNs, "b"), Entity.EntityType.MODEL_VERSION, false));
+    Assertions.assertFalse(
+        backend.exists(NameIdentifier.of(versionNs, "1"), Entity.EntityType.MODEL_VERSION));
+
+    // The versions and their aliases are dropped along with the model.
+    Assertions.assertTrue(backend.delete(modelIdent, Entity.EntityType.MODEL, false));
+    backend.insert(model, false);
+    Assertions.assertTrue(backend.list(versionNs, Entity.EntityType.MODEL_VERSION, true).isEmpty());
+    backend.insert(createModelVersion(modelIdent, ImmutableList.of("a")), false);
+    backend.insert(createModelVersion(modelIdent, ImmutableList.of("c")), false);
+    version = backend.get(NameIdentifier.of(versionNs, "c"), Entity.EntityType.MODEL_VERSION);
+    Assertions.assertEquals(1, version.version());
+  }
+
+  @Test
+  public void testStatistics() throws IOException {
+    createHierarchy();
+    Namespace tableNs = Namespace.of("metalake", "catalog", "schema", "table");
+    backend.batchPut(
+        ImmutableList.of(
+            createStatistic(tableNs, "rows", 10L), createStatistic(tableNs, "size", 1L)),
+        true);
+    backend.batchPut(ImmutableList.of(createStatistic(tableNs, "rows", 20L)), true);
+
+    List<StatisticEntity> statistics =
+        backend.list(tableNs, Entity.EntityType.TABLE_STATISTIC, true);
+    Assertions.assertEquals(2, statistics.size());
+    Assertions.assertEquals(
+        StatisticValues.longValue(20L),
+        statistics.stream().filter(s -> s.name().equals("rows")).findFirst().get().value());
+
+    Assertions.assertEquals(
+        1,
+        backend.batchDelete(
+            ImmutableList.of(
+                Pair.of(NameIdentifier.of(tableNs, "size"), Entity.EntityType.TABLE_STATISTIC),
+                Pair.of(NameIdentifier.of(tableNs, "absent"), Entity.EntityType.TABLE_STATISTIC)),
+            true));
+    Assertions.assertEquals(
+        1, backend.list(tableNs, Entity.EntityType.TABLE_STATISTIC, true).size());
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> backend.batchPut(ImmutableList.of(createStatistic(tableNs, "rows", 1L)), false));
+  }
+
+  @Test
+  public void testJobs() throws IOException {
+    backend.insert(
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), "metalake", auditInfo), false);
+    backend.insert(createJobTemplate("template1"), false);
+    backend.insert(createJobTemplate("template2"), false);
+    JobEntity queued = createJob("template1", JobHandle.Status.QUEUED);
+    JobEntity succeeded = createJob("template1", JobHandle.Status.SUCCEEDED);
+    JobEntity started = createJob("template2", JobHandle.Status.STARTED);
+    for (JobEntity job : ImmutableList.of(queued, succeeded, started)) {
+      backend.insert(job, false);
+    }
+
+    Namespace jobNs = NamespaceUtil.ofJob("metalake");
+    Assertions.assertEquals(3, backend.list(jobNs, Entity.EntityType.JOB, true).size());
+    NameIdentifier templateIdent = NameIdentifierUtil.ofJobTemplate("metalake", "template1");
+    Namespace templateNs =
+        Namespace.of(ArrayUtils.add(templateIdent.namespace().levels(), templateIdent.name()));
+    List<JobEntity> jobs = backend.list(templateNs, Entity.EntityType.JOB, true);
+    Assertions.assertEquals(2, jobs.size());
+    Assertions.assertEquals(jobNs, jobs.get(0).namespace());
+
+    // The status of a job is updated by overwriting it.
+    JobEntity cancelled =
+        JobEntity.builder()
+            .withId(queued.id())
+            .withJobExecutionId(queued.jobExecutionId())
+            .withNamespace(jobNs)
+            .withJobTemplateName("template1")
+            .withStatus(JobHandle.Status.CANCELLED)
+            .withAuditInfo(auditInfo)
+            .build();
+    backend.insert(cancelled, true);
+    JobEntity loaded = backend.get(NameIdentifier.of(jobNs, queued.name()), Entity.EntityType.JOB);
+    Assertions.assertEquals(JobHandle.Status.CANCELLED, loaded.status());
+
+    // The finished jobs are deleted by the garbage collector.
+    long legacyTimeline = System.currentTimeMillis() + 1000;
+    Assertions.assertEquals(2, backend.hardDeleteLegacyData(Entity.EntityType.JOB, legacyTimeline));
+    Assertions.assertEquals(1, backend.list(jobNs, Entity.EntityType.JOB, true).size());
+
+    // The jobs are dropped along with the job template.
+    backend.insert(createJob("template1", JobHandle.Status.QUEUED), false);
+    Assertions.assertTrue(backend.delete(templateIdent, Entity.EntityType.JOB_TEMPLATE, false));
+    Assertions.assertTrue(backend.list(templateNs, Entity.EntityType.JOB, true).isEmpty());
+    Assertions.assertEquals(1, backend.list(jobNs, Entity.EntityType.JOB, true).size());
+  }
+
+  private void createHierarchy() throws IOException {
+    BaseMetalake metalake =
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), "metalake", auditInfo);
+    backend.insert(metalake, false);
+    CatalogEntity catalog =
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(), Namespace.of("metalake"), "catalog", auditInfo);
+    backend.insert(catalog, false);
+    SchemaEntity schema =
+        createSchemaEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            Namespace.of("metalake", "catalog"),
+            "schema",
+            auditInfo);
+    backend.insert(schema, false);
+
+    Namespace schemaNs = Namespace.of("metalake", "catalog", "schema");
+    TableEntity table =
+        TableEntity.builder()
+            .withId(RandomIdGenerator.INSTANCE.nextId())
+            .withName("table")
+            .withNamespace(schemaNs)
+            .withColumns(ImmutableList.of(createColumn("id", 0), createColumn("name", 1)))
+            .withAuditInfo(auditInfo)
+            .build();
+    backend.insert(table, false);
+    FilesetEntity fileset =
+        createFilesetEntity(RandomIdGenerator.INSTANCE.nextId(), schemaNs, "fileset", auditInfo);
+    backend.insert(fileset, false);
+    TopicEntity topic =
+        createTopicEntity(RandomIdGenerator.INSTANCE.nextId(), schemaNs, "topic", auditInfo);
+    backend.insert(topic, false);
+  }
+
+  private ColumnEntity createColumn(String name, int position) {
+    return ColumnEntity.builder()
+        .withId(RandomIdGenerator.INSTANCE.nextId())
+        .withName(name)
+        .withPosition(position)
+        .withComment("comment")
+        .withDataType(Types.IntegerType.get())
+        .withNullable(true)
+        .withAutoIncrement(false)
+        .withAuditInfo(auditInfo)
+        .build();
+  }
+
+  private ModelVersionEntity createModelVersion(NameIdentifier modelIdent, List<String> aliases) {
+    return createModelVersionEntity(
+        modelIdent,
+        // The version is assigned by the backend.
+        -1,
+        ImmutableMap.of("unknown", "s3://bucket/model"),
+        aliases,
+        "comment",
+        ImmutableMap.of(),
+        auditInfo);
+  }
+
+  private StatisticEntity createStatistic(Namespace tableNs, String name, long value) {
+    return TableStatisticEntity.builder()
+        .withId(RandomIdGenerator.INSTANCE.nextId())
+        .withName(name)
+        .withNamespace(tableNs)
+        .withValue(StatisticValues.longValue(value))
+        .withAuditInfo(auditInfo)
+        .build();
+  }
+
+  private JobTemplateEntity createJobTemplate(String name) {
+    ShellJobTemplate template =
+        ShellJobTemplate.builder().withName(name).withExecutable("/bin/echo").build();
+    return JobTemplateEntity.builder()
+        .withId(RandomIdGenerator.INSTANCE.nextId())
+        .withName(name)
+        .withNamespace(NamespaceUtil.ofJobTemplate("metalake"))
+        .withTemplateContent(JobTemplateEntity.TemplateContent.fromJobTemplate(template))
+        .withAuditInfo(auditInfo)
+        .build();
+  }
+
+  private JobEntity createJob(String jobTemplateName, JobHandle.Status status) {
+    return JobEntity.builder()
+        .withId(RandomIdGenerator.INSTANCE.nextId())
+        .withJobExecutionId(String.valueOf(RandomIdGenerator.INSTANCE.nextId()))
+        .withNamespace(NamespaceUtil.ofJob("metalake"))
+        .withJobTemplateName(jobTemplateName)
+        .withStatus(status)
+        .withAuditInfo(auditInfo)
+        .build();
+  }
+}
@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.kv;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestKvStorage {
+
+  @TempDir private Path storePath;
+
+  @Test
+  public void testWriteFailureTruncatesTornRecord() throws IOException {
+    try (KvStorage storage = new KvStorage(storePath, false)) {
+      storage.write(new KvStorage.WriteBatch().put("k1", bytes("v1")));
+      long logSize = storage.logSize();
+
+      // The log fails after writing a part of the record, e.g., the disk is full.
+      FileChannel log = (FileChannel) readField(storage, "log");
+      FailingFileChannel failingLog = new FailingFileChannel(log);
+      writeField(storage, "log", failingLog);
+      failingLog.failWrites = true;
+      Assertions.assertThrows(
+          IOException.class,
+          () -> storage.write(new KvStorage.WriteBatch().put("k2", bytes("v2"))));
+      Assertions.assertNull(storage.get("k2"));
+      Assertions.assertEquals(logSize, storage.logSize());
+      Assertions.assertEquals(logSize, log.size());
+
+      failingLog.failWrites = false;
+      storage.write(new KvStorage.WriteBatch().put("k3", bytes("v3")));
+    }
+
+    // The writes after the failure are recovered.
+    try (KvStorage storage = new KvStorage(storePath, false)) {
+      Assertions.assertArrayEquals(bytes("v1"), storage.get("k1"));
+      Assertions.assertNull(storage.get("k2"));
+      Assertions.assertArrayEquals(bytes("v3"), storage.get("k3"));
+    }
+  }
+
+  @Test
+  public void testRefuseWritesIfRollbackFails() throws IOException {
+    try (KvStorage storage = new KvStorage(storePath, false)) {
+      FileChannel log = (FileChannel) readField(storage, "log");
+      FailingFileChannel failingLog = new FailingFileChannel(log);
+      writeField(storage, "log", failingLog);
+      failingLog.failWrites = true;
+      failingLog.failTruncates = true;
+      Assertions.assertThrows(
+          IOException.class,
+          () -> storage.write(new KvStorage.WriteBatch().put("k1", bytes("v1"))));
+
+      failingLog.failWrites = false;
+      failingLog.failTruncates = false;
+      Assertions.assertThrows(
+          IOException.class,
+          () -> storage.write(new KvStorage.WriteBatch().put("k2", bytes("v2"))));
+      Assertions.assertNull(storage.get("k2"));
+    }
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static Object readField(KvStorage storage, String name) {
+    try {
+      return FieldUtils.readField(storage, name, true);
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static void writeField(KvStorage storage, String name, Object value) {
+    try {
+      FieldUtils.writeField(storage, name, value, true);
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  // Delegates to the file channel of the log, the writes fail after writing half of the buffer.
+  private static class FailingFileChannel extends FileChannel {
+    private final FileChannel delegate;
+    private volatile boolean failWrites;
+    private volatile boolean failTruncates;
+
+    private FailingFileChannel(FileChannel delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public int write(ByteBuffer src) throws IOException {
+      if (!failWrites) {
+        return delegate.write(src);
+      }
+      ByteBuffer half = src.duplicate();
+      half.limit(src.position() + src.remaining() / 2);
+      int written = delegate.write(half);
+      src.position(src.position() + written);
+      throw new IOException("No space left on device");
+    }
+
+    @Override
+    public FileChannel truncate(long size) throws IOException {
+      if (failTruncates) {
+        throw new IOException("Input/output error");
+      }
+      delegate.truncate(size);
+      return this;
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+      return delegate.read(dst);
+    }
+
+    @Override
+    public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+      return delegate.read(dsts, offset, length);
+    }
+
+    @Override
+    public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+      return delegate.write(srcs, offset, length);
+    }
+
+    @Override
+    public long position() throws IOException {
+      return delegate.position();
+    }
+
+    @Override
+    public FileChannel position(long newPosition) throws IOException {
+      delegate.position(newPosition);
+      return this;
+    }
+
+    @Override
+    public long size() throws IOException {
+      return delegate.size();
+    }
+
+    @Override
+    public void force(boolean metaData) throws IOException {
+      delegate.force(metaData);
+    }
+
+    @Override
+    public long transferTo(long position, long count, WritableByteChannel target)
+        throws IOException {
+      return delegate.transferTo(position, count, target);
+    }
+
+    @Override
+    public long transferFrom(ReadableByteChannel src, long position, long count)
+        throws IOException {
+      return delegate.transferFrom(src, position, count);
+    }
+
+    @Override
+    public int read(ByteBuffer dst, long position) throws IOException {
+      return delegate.read(dst, position);
+    }
+
+    @Override
+    public int write(ByteBuffer src, long position) throws IOException {
+      return delegate.write(src, position);
+    }
+
+    @Override
+    public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+      return delegate.map(mode, position, size);
+    }
+
+    @Override
+    public FileLock lock(long position, long size, boolean shared) throws IOException {
+      return delegate.lock(position, size, shared);
+    }
+
+    @Override
+    public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+      return delegate.tryLock(position, size, shared);
+    }
+
+    @Override
+    protected void implCloseChannel() throws IOException {
+      delegate.close();
+    }
+  }
+}
@@ -57,6 +57,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
@@ -89,12 +90,15 @@ import org.apache.gravitino.policy.Policy;
 import org.apache.gravitino.policy.PolicyContents;
 import org.apache.gravitino.storage.RandomIdGenerator;
 import org.apache.gravitino.storage.relational.mapper.CatalogMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.EntityColumnMigrationMapper;
 import org.apache.gravitino.storage.relational.mapper.GroupMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.UserMetaMapper;
+import org.apache.gravitino.storage.relational.po.EntityColumnValuePO;
 import org.apache.gravitino.storage.relational.service.CatalogMetaService;
 import org.apache.gravitino.storage.relational.service.MetalakeMetaService;
 import org.apache.gravitino.storage.relational.service.RoleMetaService;
 import org.apache.gravitino.storage.relational.session.SqlSessionFactoryHelper;
+import org.apache.gravitino.storage.relational.utils.EntityColumnCodec;
 import org.apache.gravitino.storage.relational.utils.SessionUtils;
 import org.apache.gravitino.utils.NamespaceUtil;
 import org.apache.ibatis.session.SqlSession;
@@ -1153,6 +1157,57 @@ public class TestJDBCBackend {
     assertEquals(roleWithoutDot.id(), roleIdWithoutDot);
   }
 
+  @Test
+  public void testMigrateEntityColumnEncoding() throws IOException {
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    String metalakeName = "testMetalake";
+    BaseMetalake metalake =
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), metalakeName, auditInfo);
+    backend.insert(metalake, false);
+
+    for (int i = 0; i < 5; i++) {
+      CatalogEntity catalog =
+          createCatalog(
+              RandomIdGenerator.INSTANCE.nextId(),
+              NamespaceUtil.ofCatalog(metalakeName),
+              "catalog" + i,
+              auditInfo);
+      backend.insert(catalog, false);
+    }
+    NameIdentifier catalogIdent = NameIdentifier.of(metalakeName, "catalog0");
+    CatalogEntity catalog = backend.get(catalogIdent, Entity.EntityType.CATALOG);
+
+    // The batch size is smaller than the row count to migrate the catalogs in batches.
+    EntityColumnMigrator migrator =
+        new EntityColumnMigrator(2, new EntityColumnCodec(EntityColumnCodec.Format.SMILE));
+    assertTrue(migrator.migrate() >= 6);
+    assertTrue(
+        listCatalogAuditInfos().stream().allMatch(EntityColumnCodec::isBinary),
+        "All the audit info should be re-encoded");
+    assertEquals(catalog, backend.get(catalogIdent, Entity.EntityType.CATALOG));
+    assertEquals(metalake, backend.get(metalake.nameIdentifier(), Entity.EntityType.METALAKE));
+    assertEquals(0, migrator.migrate());
+    migrator.close();
+
+    // Migrate back to JSON, which makes downgrading possible.
+    EntityColumnMigrator jsonMigrator = new EntityColumnMigrator(2, EntityColumnCodec.JSON_CODEC);
+    assertTrue(jsonMigrator.migrate() >= 6);
+    assertFalse(listCatalogAuditInfos().stream().anyMatch(EntityColumnCodec::isBinary));
+    assertEquals(catalog, backend.get(catalogIdent, Entity.EntityType.CATALOG));
+    jsonMigrator.close();
+  }
+
+  private List<String> listCatalogAuditInfos() {
+    List<EntityColumnValuePO> values =
+        SessionUtils.getWithoutCommit(
+            EntityColumnMigrationMapper.class,
+            mapper ->
+                mapper.selectColumnValuesAfterId(
+                    CatalogMetaMapper.TABLE_NAME, "catalog_id", "audit_info", Long.MIN_VALUE, 100));
+    return values.stream().map(EntityColumnValuePO::getColumnValue).collect(Collectors.toList());
+  }
+
   @Test
   public void testInsertRelationWithDotInRoleName() throws IOException {
     AuditInfo auditInfo =
@@ -267,6 +267,76 @@ public class TestModelVersionMetaService extends TestJDBCBackend {
                     getModelVersionNs(NameIdentifier.of(MODEL_NS, "model2"))));
   }
 
+  @Test
+  public void testListModelVersionsByRange() throws IOException {
+    createParentEntities(METALAKE_NAME, CATALOG_NAME, SCHEMA_NAME, auditInfo);
+
+    ModelEntity modelEntity =
+        createModelEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            MODEL_NS,
+            "model1",
+            "model1 comment",
+            0,
+            properties,
+            auditInfo);
+    Assertions.assertDoesNotThrow(
+        () -> ModelMetaService.getInstance().insertModel(modelEntity, false));
+
+    // Link 5 model versions, each has two URIs and an alias
+    for (int i = 0; i < 5; i++) {
+      ModelVersionEntity modelVersionEntity =
+          createModelVersionEntity(
+              modelEntity.nameIdentifier(),
+              i,
+              ImmutableMap.of("n1", "model_path_" + i, "n2", "model_path_" + i),
+              ImmutableList.of("alias" + i),
+              "test comment",
+              properties,
+              auditInfo);
+      Assertions.assertDoesNotThrow(
+          () -> ModelVersionMetaService.getInstance().insertModelVersion(modelVersionEntity));
+    }
+
+    Namespace modelVersionNs = getModelVersionNs(modelEntity.nameIdentifier());
+    List<ModelVersionEntity> page1 =
+        ModelVersionMetaService.getInstance().listModelVersionsByNamespace(modelVersionNs, 0, 2);
+    Assertions.assertEquals(
+        ImmutableList.of(0, 1),
+        page1.stream().map(ModelVersionEntity::version).collect(Collectors.toList()));
+    Assertions.assertEquals(ImmutableList.of("alias1"), page1.get(1).aliases());
+    Assertions.assertEquals(2, page1.get(1).uris().size());
+
+    List<ModelVersionEntity> page2 =
+        ModelVersionMetaService.getInstance().listModelVersionsByNamespace(modelVersionNs, 2, 2);
+    Assertions.assertEquals(
+        ImmutableList.of(2, 3),
+        page2.stream().map(ModelVersionEntity::version).collect(Collectors.toList()));
+    Assertions.assertEquals(ImmutableList.of("alias2"), page2.get(0).aliases());
+
+    List<ModelVersionEntity> page3 =
+        ModelVersionMetaService.getInstance().listModelVersionsByNamespace(modelVersionNs, 4, 10);
+    Assertions.assertEquals(1, page3.size());
+    Assertions.assertEquals(4, page3.get(0).version());
+
+    Assertions.assertTrue(
+        ModelVersionMetaService.getInstance()
+            .listModelVersionsByNamespace(modelVersionNs, 5, 10)
+            .isEmpty());
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            ModelVersionMetaService.getInstance()
+                .listModelVersionsByNamespace(modelVersionNs, 0, 0));
+
+    // List all the model versions in order
+    Assertions.assertEquals(
+        ImmutableList.of(0, 1, 2, 3, 4),
+        ModelVersionMetaService.getInstance().listModelVersionsByNamespace(modelVersionNs).stream()
+            .map(ModelVersionEntity::version)
+            .collect(Collectors.toList()));
+  }
+
   @Test
   public void testInsertAndDeleteModelVersion() throws IOException {
     createParentEntities(METALAKE_NAME, CATALOG_NAME, SCHEMA_NAME, auditInfo);
@@ -629,6 +629,99 @@ public class TestTableColumnMetaService extends TestJDBCBackend {
         MetalakeMetaService.getInstance().deleteMetalake(NameIdentifier.of(METALAKE_NAME), true));
   }
 
+  @Test
+  public void testDeleteColumnVersionsByRetentionCount() throws IOException {
+    String catalogName = "catalog1";
+    String schemaName = "schema1";
+    createParentEntities(METALAKE_NAME, catalogName, schemaName, auditInfo);
+
+    List<ColumnEntity> columns = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      columns.add(createColumn(RandomIdGenerator.INSTANCE.nextId(), i, "comment"));
+    }
+    TableEntity table =
+        TableEntity.builder()
+            .withId(RandomIdGenerator.INSTANCE.nextId())
+            .withName("versioned_table")
+            .withNamespace(Namespace.of(METALAKE_NAME, catalogName, schemaName))
+            .withColumns(columns)
+            .withAuditInfo(auditInfo)
+            .build();
+    TableMetaService.getInstance().insertTable(table, false);
+
+    // Version 2 updates column_0 and drops column_1, version 3 updates column_0 again.
+    List<ColumnEntity> columnsV2 =
+        Lists.newArrayList(createColumn(columns.get(0).id(), 0, "comment_v2"), columns.get(2));
+    updateColumns(table, columnsV2);
+    List<ColumnEntity> columnsV3 =
+        Lists.newArrayList(createColumn(columns.get(0).id(), 0, "comment_v3"), columns.get(2));
+    updateColumns(table, columnsV3);
+    Assertions.assertEquals(6, countActiveColumnRows(table.id()));
+
+    TableColumnMetaService service = TableColumnMetaService.getInstance();
+    // Retaining 2 versions removes column_0 of version 1 and all the rows of column_1.
+    Assertions.assertEquals(3, service.deleteColumnVersionsByRetentionCount(2L, 100));
+    Assertions.assertEquals(0, service.deleteColumnVersionsByRetentionCount(2L, 100));
+    Assertions.assertEquals(3, countActiveColumnRows(table.id()));
+
+    Assertions.assertEquals(1, service.deleteColumnVersionsByRetentionCount(1L, 100));
+    Assertions.assertEquals(2, countActiveColumnRows(table.id()));
+
+    TableEntity retrievedTable =
+        TableMetaService.getInstance().getTableByIdentifier(table.nameIdentifier());
+    compareTwoColumns(columnsV3, retrievedTable.columns());
+    Assertions.assertThrows(
+        NoSuchEntityException.class,
+        () -> service.getColumnIdByTableIdAndName(table.id(), "column_1"));
+  }
+
+  private ColumnEntity createColumn(Long id, int position, String comment) {
+    return ColumnEntity.builder()
+        .withId(id)
+        .withName("column_" + position)
+        .withPosition(position)
+        .withComment(comment)
+        .withDataType(Types.StringType.get())
+        .withNullable(true)
+        .withAutoIncrement(false)
+        .withAuditInfo(auditInfo)
+        .build();
+  }
+
+  private void updateColumns(TableEntity table, List<ColumnEntity> columns) throws IOException {
+    TableMetaService.getInstance()
+        .updateTable(
+            table.nameIdentifier(),
+            oldTable ->
+                TableEntity.builder()
+                    .withId(table.id())
+                    .withName(table.name())
+                    .withNamespace(table.namespace())
+                    .withColumns(columns)
+                    .withAuditInfo(auditInfo)
+                    .build());
+  }
+
+  private int countActiveColumnRows(Long tableId) throws IOException {
+    String sql =
+        "SELECT COUNT(*) FROM "
+            + TableColumnMapper.COLUMN_TABLE_NAME
+            + " WHERE table_id = ? AND deleted_at = 0";
+    Connection connection = SqlSessions.getSqlSession().getConnection();
+    try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+      stmt.setLong(1, tableId);
+      try (ResultSet rs = stmt.executeQuery()) {
+        rs.next();
+        int count = rs.getInt(1);
+        SqlSessions.commitAndCloseSqlSession();
+        return count;
+      }
+    } catch (SQLException e) {
+      SqlSessions.rollbackAndCloseSqlSession();
+      throw new IOException("Failed to count active column rows", e);
+    }
+  }
+
   private int countColumnsByTableId(long legacyTimeline) throws IOException {
     int count = 0;
     Connection connection = null;
@@ -30,9 +30,11 @@ import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_STORE;
 import static org.apache.gravitino.Configs.ENTITY_STORE;
 import static org.apache.gravitino.Configs.RELATIONAL_ENTITY_STORE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
@@ -153,4 +155,13 @@ public class TestSqlSession {
     SqlSessions.rollbackAndCloseSqlSession();
     assertNull(SqlSessions.getSessions().get());
   }
+
+  @Test
+  public void testHasSqlSession() {
+    assertFalse(SqlSessions.hasSqlSession());
+    SqlSessions.getSqlSession();
+    assertTrue(SqlSessions.hasSqlSession());
+    SqlSessions.closeSqlSession();
+    assertFalse(SqlSessions.hasSqlSession());
+  }
 }
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.collect.ImmutableMap;
+import java.time.Instant;
+import java.util.Map;
+import org.apache.gravitino.json.JsonUtils;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.rel.types.Type;
+import org.apache.gravitino.rel.types.Types;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestEntityColumnCodec {
+
+  private static final AuditInfo AUDIT_INFO =
+      AuditInfo.builder()
+          .withCreator("creator")
+          .withCreateTime(Instant.now())
+          .withLastModifier("modifier")
+          .withLastModifiedTime(Instant.now())
+          .build();
+
+  private static final Map<String, String> PROPERTIES = ImmutableMap.of("k1", "v1", "k2", "~v2");
+
+  private static final EntityColumnCodec SMILE_CODEC =
+      new EntityColumnCodec(EntityColumnCodec.Format.SMILE);
+
+  private static final EntityColumnCodec JSON_CODEC = EntityColumnCodec.JSON_CODEC;
+
+  @Test
+  public void testJsonFormat() throws JsonProcessingException {
+    String auditInfo = JSON_CODEC.writeValueAsString(AUDIT_INFO);
+    Assertions.assertEquals(JsonUtils.anyFieldMapper().writeValueAsString(AUDIT_INFO), auditInfo);
+    Assertions.assertFalse(EntityColumnCodec.isBinary(auditInfo));
+    Assertions.assertEquals(AUDIT_INFO, EntityColumnCodec.readValue(auditInfo, AuditInfo.class));
+  }
+
+  @Test
+  public void testSmileFormat() throws JsonProcessingException {
+    String auditInfo = SMILE_CODEC.writeValueAsString(AUDIT_INFO);
+    Assertions.assertTrue(auditInfo.startsWith(EntityColumnCodec.SMILE_MARKER));
+    Assertions.assertEquals(AUDIT_INFO, EntityColumnCodec.readValue(auditInfo, AuditInfo.class));
+
+    String properties = SMILE_CODEC.writeValueAsString(PROPERTIES);
+    Assertions.assertTrue(EntityColumnCodec.isBinary(properties));
+    Assertions.assertEquals(PROPERTIES, EntityColumnCodec.readValue(properties, Map.class));
+
+    Type type = Types.DecimalType.of(10, 2);
+    String columnType = SMILE_CODEC.writeValueAsString(type);
+    Assertions.assertEquals(type, EntityColumnCodec.readValue(columnType, Type.class));
+
+    // Null is always written as the JSON text.
+    Assertions.assertEquals("null", SMILE_CODEC.writeValueAsString(null));
+    Assertions.assertNull(EntityColumnCodec.readValue("null", Map.class));
+  }
+
+  @Test
+  public void testReadMixedFormats() throws JsonProcessingException {
+    String jsonAuditInfo = JSON_CODEC.writeValueAsString(AUDIT_INFO);
+    String smileAuditInfo = SMILE_CODEC.writeValueAsString(AUDIT_INFO);
+
+    // Both formats can be read regardless of the codec which writes them.
+    Assertions.assertEquals(
+        AUDIT_INFO, EntityColumnCodec.readValue(jsonAuditInfo, AuditInfo.class));
+    Assertions.assertEquals(
+        AUDIT_INFO, EntityColumnCodec.readValue(smileAuditInfo, AuditInfo.class));
+  }
+
+  @Test
+  public void testReencode() throws JsonProcessingException {
+    String json = JSON_CODEC.writeValueAsString(PROPERTIES);
+    Assertions.assertSame(json, JSON_CODEC.reencode(json));
+    Assertions.assertNull(JSON_CODEC.reencode(null));
+
+    String smile = SMILE_CODEC.reencode(json);
+    Assertions.assertTrue(EntityColumnCodec.isBinary(smile));
+    Assertions.assertEquals(PROPERTIES, EntityColumnCodec.readValue(smile, Map.class));
+    Assertions.assertSame(smile, SMILE_CODEC.reencode(smile));
+    Assertions.assertEquals("null", SMILE_CODEC.reencode("null"));
+
+    Assertions.assertEquals(
+        JsonUtils.anyFieldMapper().readTree(json),
+        JsonUtils.anyFieldMapper().readTree(JSON_CODEC.reencode(smile)));
+  }
+}
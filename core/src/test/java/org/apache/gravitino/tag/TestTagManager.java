@@ -563,6 +563,74 @@ public class TestTagManager {
                 "Tag with name non_existent_tag under metalake " + METALAKE + " does not exist"));
   }
 
+  @Test
+  public void testAssociateMetadataObjectsForTag() {
+    Tag tag1 = tagManager.createTag(METALAKE, "tag1", null, null);
+
+    MetadataObject catalogObject =
+        NameIdentifierUtil.toMetadataObject(
+            NameIdentifierUtil.ofCatalog(METALAKE, CATALOG), Entity.EntityType.CATALOG);
+    MetadataObject schemaObject =
+        NameIdentifierUtil.toMetadataObject(
+            NameIdentifierUtil.ofSchema(METALAKE, CATALOG, SCHEMA), Entity.EntityType.SCHEMA);
+    MetadataObject tableObject =
+        NameIdentifierUtil.toMetadataObject(
+            NameIdentifierUtil.ofTable(METALAKE, CATALOG, SCHEMA, TABLE), Entity.EntityType.TABLE);
+    MetadataObject columnObject =
+        NameIdentifierUtil.toMetadataObject(
+            NameIdentifierUtil.ofColumn(METALAKE, CATALOG, SCHEMA, TABLE, COLUMN),
+            Entity.EntityType.COLUMN);
+
+    // Associate the tag with all the metadata objects in one call
+    tagManager.associateMetadataObjectsForTag(
+        METALAKE,
+        tag1.name(),
+        new MetadataObject[] {catalogObject, schemaObject, tableObject, columnObject},
+        null);
+    Assertions.assertEquals(
+        ImmutableSet.of(catalogObject, schemaObject, tableObject, columnObject),
+        ImmutableSet.copyOf(tagManager.listMetadataObjectsForTag(METALAKE, tag1.name())));
+    Assertions.assertArrayEquals(
+        new String[] {tag1.name()}, tagManager.listTagsForMetadataObject(METALAKE, columnObject));
+
+    // Associate the already associated objects again, they should be skipped
+    tagManager.associateMetadataObjectsForTag(
+        METALAKE, tag1.name(), new MetadataObject[] {catalogObject, tableObject}, null);
+    Assertions.assertEquals(4, tagManager.listMetadataObjectsForTag(METALAKE, tag1.name()).length);
+
+    // Disassociate some objects, the objects both to add and remove should be ignored
+    tagManager.associateMetadataObjectsForTag(
+        METALAKE,
+        tag1.name(),
+        new MetadataObject[] {catalogObject},
+        new MetadataObject[] {catalogObject, schemaObject, columnObject});
+    Assertions.assertEquals(
+        ImmutableSet.of(catalogObject, tableObject),
+        ImmutableSet.copyOf(tagManager.listMetadataObjectsForTag(METALAKE, tag1.name())));
+
+    // Associate metadata objects for non-existent tag
+    Throwable e =
+        Assertions.assertThrows(
+            NoSuchTagException.class,
+            () ->
+                tagManager.associateMetadataObjectsForTag(
+                    METALAKE, "non_existent_tag", new MetadataObject[] {catalogObject}, null));
+    Assertions.assertTrue(
+        e.getMessage()
+            .contains(
+                "Tag with name non_existent_tag under metalake " + METALAKE + " does not exist"));
+
+    // Associate metadata objects of unsupported type
+    MetadataObject metalakeObject =
+        NameIdentifierUtil.toMetadataObject(
+            NameIdentifierUtil.ofMetalake(METALAKE), Entity.EntityType.METALAKE);
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            tagManager.associateMetadataObjectsForTag(
+                METALAKE, tag1.name(), new MetadataObject[] {metalakeObject}, null));
+  }
+
   @Test
   public void testListTagsForMetadataObject() {
     Tag tag1 = tagManager.createTag(METALAKE, "tag1", null, null);
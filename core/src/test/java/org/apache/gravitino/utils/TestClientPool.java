@@ -22,6 +22,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -63,6 +69,40 @@ public class TestClientPool {
     assertTrue(clientPool.isClosed());
   }
 
+  @Test
+  public void testConcurrentRun() throws Exception {
+    AtomicInteger inUse = new AtomicInteger();
+    AtomicInteger maxInUse = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  for (int j = 0; j < 100; j++) {
+                    clientPool.run(
+                        client -> {
+                          maxInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+                          Thread.sleep(1);
+                          inUse.decrementAndGet();
+                          return client.performAction("test");
+                        });
+                  }
+                  return null;
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertTrue(maxInUse.get() <= clientPool.poolSize());
+    assertEquals(0, inUse.get());
+  }
+
   @Test
   public void testPoolSize() {
     assertEquals(2, clientPool.poolSize());
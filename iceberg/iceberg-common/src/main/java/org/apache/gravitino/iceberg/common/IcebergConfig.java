@@ -210,6 +210,67 @@ public class IcebergConfig extends Config implements OverwriteDefaultConfig {
           .longConf()
           .createWithDefault(3600000L);
 
+  public static final ConfigEntry<Integer> SCAN_PLANNING_THREADS =
+      new ConfigBuilder(IcebergConstants.ICEBERG_REST_SCAN_PLANNING_THREADS)
+          .doc("The max number of threads to read the manifests when planning table scans.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(Math.max(2, Runtime.getRuntime().availableProcessors()));
+
+  public static final ConfigEntry<Integer> SCAN_PLANNING_PAGE_SIZE =
+      new ConfigBuilder(IcebergConstants.ICEBERG_REST_SCAN_PLANNING_PAGE_SIZE)
+          .doc("The max number of file scan tasks returned in a response of the scan planning.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000);
+
+  public static final ConfigEntry<Long> SCAN_PLAN_EXPIRATION =
+      new ConfigBuilder(IcebergConstants.ICEBERG_REST_SCAN_PLAN_EXPIRATION)
+          .doc("The time in milliseconds a scan plan is kept for the clients to fetch its tasks.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(300000L);
+
+  public static final ConfigEntry<Long> SCAN_PLAN_MAX_TOTAL_TASKS =
+      new ConfigBuilder(IcebergConstants.ICEBERG_REST_SCAN_PLAN_MAX_TOTAL_TASKS)
+          .doc(
+              "The max total number of file scan tasks kept by the scan plans, the least recently "
+                  + "used plans are dropped before they expire if it is exceeded.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000000L);
+
+  public static final ConfigEntry<Long> MANIFEST_CACHE_MAX_TOTAL_BYTES =
+      new ConfigBuilder(IcebergConstants.ICEBERG_REST_MANIFEST_CACHE_MAX_TOTAL_BYTES)
+          .doc(
+              "The max total bytes of the manifest lists and manifests cached by the scan "
+                  + "planning, 0 disables the cache.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(256L * 1024 * 1024);
+
+  public static final ConfigEntry<Long> MANIFEST_CACHE_MAX_CONTENT_LENGTH =
+      new ConfigBuilder(IcebergConstants.ICEBERG_REST_MANIFEST_CACHE_MAX_CONTENT_LENGTH)
+          .doc("The max length in bytes of a manifest list or manifest to be cached.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(8L * 1024 * 1024);
+
+  public static final ConfigEntry<Boolean> COMMIT_COALESCING_ENABLED =
+      new ConfigBuilder(IcebergConstants.ICEBERG_REST_COMMIT_COALESCING_ENABLED)
+          .doc(
+              "Whether to merge the concurrent append commits of a user to the same table into "
+                  + "one metadata write.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .booleanConf()
+          .createWithDefault(false);
+
   public static final ConfigEntry<String> ICEBERG_REST_CATALOG_CONFIG_PROVIDER =
       new ConfigBuilder(IcebergConstants.ICEBERG_REST_CATALOG_CONFIG_PROVIDER)
           .doc(
@@ -40,6 +40,7 @@ import org.apache.iceberg.catalog.SupportsNamespaces;
 import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.catalog.ViewCatalog;
 import org.apache.iceberg.rest.CatalogHandlers;
+import org.apache.iceberg.rest.requests.CommitTransactionRequest;
 import org.apache.iceberg.rest.requests.CreateNamespaceRequest;
 import org.apache.iceberg.rest.requests.CreateTableRequest;
 import org.apache.iceberg.rest.requests.CreateViewRequest;
@@ -195,6 +196,10 @@ public class IcebergCatalogWrapper implements AutoCloseable {
     return CatalogHandlers.updateTable(catalog, tableIdentifier, updateTableRequest);
   }
 
+  public void commitTransaction(CommitTransactionRequest commitTransactionRequest) {
+    CatalogHandlers.commitTransaction(catalog, commitTransactionRequest);
+  }
+
   public LoadTableResponse updateTable(IcebergTableChange icebergTableChange) {
     Transaction transaction = icebergTableChange.getTransaction();
     transaction.commitTransaction();
@@ -22,6 +22,7 @@ plugins {
   `maven-publish`
   id("java")
   id("idea")
+  alias(libs.plugins.jmh)
 }
 
 val scalaVersion: String = project.properties["scalaVersion"] as? String ?: extra["defaultScalaVersion"].toString()
@@ -103,6 +104,15 @@ dependencies {
   testImplementation(libs.testcontainers)
 
   testRuntimeOnly(libs.junit.jupiter.engine)
+
+  jmhImplementation(libs.hadoop2.common) {
+    exclude("com.github.spotbugs")
+    exclude("com.sun.jersey")
+    exclude("javax.servlet")
+    exclude("org.apache.curator")
+    exclude("org.apache.zookeeper")
+    exclude("org.mortbay.jetty")
+  }
 }
 
 tasks {
@@ -185,6 +195,20 @@ tasks.clean {
   delete("spark-warehouse")
 }
 
+tasks.named<JavaCompile>("jmhCompileGeneratedClasses").configure {
+  options.errorprone?.isEnabled = false
+  options.compilerArgs.removeAll { it.contains("Xplugin:ErrorProne") }
+}
+
+jmh {
+  jmhVersion.set(libs.versions.jmh.asProvider())
+  warmupIterations = 3
+  iterations = 5
+  fork = 1
+  resultFormat = "csv"
+  resultsFile = file("$buildDir/reports/jmh/results.csv")
+}
+
 tasks.getByName("generateMetadataFileForMavenJavaPublication") {
   dependsOn("copyDepends")
 }
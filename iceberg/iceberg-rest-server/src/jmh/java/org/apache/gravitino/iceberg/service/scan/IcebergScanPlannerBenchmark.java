@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.service.scan;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.apache.gravitino.catalog.lakehouse.iceberg.IcebergConstants;
+import org.apache.gravitino.iceberg.common.IcebergConfig;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.iceberg.AppendFiles;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.ManifestFiles;
+import org.apache.iceberg.ManifestWriter;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.catalog.Namespace;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.hadoop.HadoopCatalog;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.rest.requests.PlanTableScanRequest;
+import org.apache.iceberg.rest.responses.PlanTableScanResponse;
+import org.apache.iceberg.types.Types;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * IcebergScanPlannerBenchmark benchmarks the {@link IcebergScanPlanner} on a local filesystem table
+ * with thousands of manifests.
+ *
+ * <p>The table is created by a Hadoop catalog in a temporary directory, and a single append adds
+ * all the manifests to it, each manifest has {@link #FILES_PER_MANIFEST} data files.
+ *
+ * <p>It includes three benchmark methods:
+ *
+ * <ul>
+ *   <li>{@code benchmarkPlanWithCache}: Plans a full scan, the manifests are served by the manifest
+ *       cache after the first scan.
+ *   <li>{@code benchmarkPlanWithoutCache}: Plans a full scan with the manifest cache disabled, the
+ *       manifests are read from the local filesystem in parallel.
+ *   <li>{@code benchmarkPlanLocally}: Plans a full scan like a client does without the scan
+ *       planning of the server, as the baseline.
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class IcebergScanPlannerBenchmark {
+  private static final String CATALOG_NAME = "benchmark";
+  private static final TableIdentifier TABLE_IDENTIFIER = TableIdentifier.of("db", "tbl");
+  private static final Schema SCHEMA =
+      new Schema(Types.NestedField.required(1, "id", Types.LongType.get()));
+  private static final int FILES_PER_MANIFEST = 10;
+
+  @Param({"1000", "5000"})
+  public int manifestCnt;
+
+  private Path dir;
+  private HadoopCatalog catalog;
+  private Table table;
+  private IcebergScanPlanner cachedPlanner;
+  private IcebergScanPlanner uncachedPlanner;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    this.dir = Files.createTempDirectory("iceberg-scan-planner-benchmark");
+    this.catalog = new HadoopCatalog(new Configuration(), dir.toUri().toString());
+    catalog.createNamespace(Namespace.of("db"));
+    Table created = catalog.createTable(TABLE_IDENTIFIER, SCHEMA);
+
+    AppendFiles append = created.newFastAppend();
+    for (int i = 0; i < manifestCnt; i++) {
+      String location = created.location() + "/metadata/benchmark-" + i + "-m0.avro";
+      ManifestWriter<DataFile> writer =
+          ManifestFiles.write(
+              2, PartitionSpec.unpartitioned(), created.io().newOutputFile(location), null);
+      try {
+        for (int j = 0; j < FILES_PER_MANIFEST; j++) {
+          writer.add(
+              DataFiles.builder(PartitionSpec.unpartitioned())
+                  .withPath(created.location() + "/data/" + i + "-" + j + ".parquet")
+                  .withFileSizeInBytes(1024)
+                  .withRecordCount(1)
+                  .build());
+        }
+      } finally {
+        writer.close();
+      }
+      append.appendManifest(writer.toManifestFile());
+    }
+    append.commit();
+    this.table = catalog.loadTable(TABLE_IDENTIFIER);
+
+    this.cachedPlanner = new IcebergScanPlanner(new IcebergConfig(ImmutableMap.of()));
+    this.uncachedPlanner =
+        new IcebergScanPlanner(
+            new IcebergConfig(
+                ImmutableMap.of(
+                    IcebergConstants.ICEBERG_REST_MANIFEST_CACHE_MAX_TOTAL_BYTES, "0")));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    cachedPlanner.close();
+    uncachedPlanner.close();
+    catalog.close();
+    try (Stream<Path> paths = Files.walk(dir)) {
+      for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+        Files.delete(path);
+      }
+    }
+  }
+
+  @Benchmark
+  public PlanTableScanResponse benchmarkPlanWithCache() {
+    return plan(cachedPlanner);
+  }
+
+  @Benchmark
+  public PlanTableScanResponse benchmarkPlanWithoutCache() {
+    return plan(uncachedPlanner);
+  }
+
+  @Benchmark
+  public List<FileScanTask> benchmarkPlanLocally() throws IOException {
+    try (CloseableIterable<FileScanTask> files = table.newScan().planFiles()) {
+      return ImmutableList.copyOf(files);
+    }
+  }
+
+  private PlanTableScanResponse plan(IcebergScanPlanner planner) {
+    PlanTableScanResponse response =
+        planner.planTableScan(
+            CATALOG_NAME, TABLE_IDENTIFIER, table, PlanTableScanRequest.builder().build());
+    // Drops the plan, so the plans of the iterations don't pile up until they expire
+    if (response.planId() != null) {
+      planner.cancelPlanning(CATALOG_NAME, TABLE_IDENTIFIER, response.planId());
+    }
+    return response;
+  }
+}
@@ -91,6 +91,7 @@ public class RESTService implements GravitinoAuxiliaryService {
     EventBus eventBus = GravitinoEnv.getInstance().eventBus();
     this.icebergCatalogWrapperManager =
         new IcebergCatalogWrapperManager(configProperties, configProvider);
+    metricsSystem.register(icebergCatalogWrapperManager.getTableCommitter().metricsSource());
     this.icebergMetricsManager = new IcebergMetricsManager(icebergConfig);
     IcebergTableOperationExecutor icebergTableOperationExecutor =
         new IcebergTableOperationExecutor(icebergCatalogWrapperManager);
@@ -30,7 +30,9 @@ import java.util.concurrent.TimeUnit;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
 import org.apache.gravitino.iceberg.common.IcebergConfig;
 import org.apache.gravitino.iceberg.common.ops.IcebergCatalogWrapper;
+import org.apache.gravitino.iceberg.service.commit.IcebergTableCommitter;
 import org.apache.gravitino.iceberg.service.provider.IcebergConfigProvider;
+import org.apache.gravitino.iceberg.service.scan.IcebergScanPlanner;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,14 +44,20 @@ public class IcebergCatalogWrapperManager implements AutoCloseable {
 
   private final IcebergConfigProvider configProvider;
 
+  private final IcebergScanPlanner scanPlanner;
+
+  private final IcebergTableCommitter tableCommitter;
+
   public IcebergCatalogWrapperManager(
       Map<String, String> properties, IcebergConfigProvider configProvider) {
     this.configProvider = configProvider;
+    IcebergConfig serverConfig = new IcebergConfig(properties);
+    this.scanPlanner = new IcebergScanPlanner(serverConfig);
+    this.tableCommitter = new IcebergTableCommitter(serverConfig);
     this.icebergCatalogWrapperCache =
         Caffeine.newBuilder()
             .expireAfterWrite(
-                (new IcebergConfig(properties))
-                    .get(IcebergConfig.ICEBERG_REST_CATALOG_CACHE_EVICTION_INTERVAL),
+                serverConfig.get(IcebergConfig.ICEBERG_REST_CATALOG_CACHE_EVICTION_INTERVAL),
                 TimeUnit.MILLISECONDS)
             .removalListener(
                 (k, v, c) -> {
@@ -96,6 +104,16 @@ public class IcebergCatalogWrapperManager implements AutoCloseable {
     return createCatalogWrapper(catalogName, icebergConfig.get());
   }
 
+  /** @return The scan planner shared by all the catalogs. */
+  public IcebergScanPlanner getScanPlanner() {
+    return scanPlanner;
+  }
+
+  /** @return The table committer shared by all the catalogs. */
+  public IcebergTableCommitter getTableCommitter() {
+    return tableCommitter;
+  }
+
   // Overriding this method to create a new CatalogWrapperForREST for test;
   @VisibleForTesting
   protected CatalogWrapperForREST createCatalogWrapper(
@@ -114,5 +132,6 @@ public class IcebergCatalogWrapperManager implements AutoCloseable {
   @Override
   public void close() throws Exception {
     icebergCatalogWrapperCache.invalidateAll();
+    scanPlanner.close();
   }
 }
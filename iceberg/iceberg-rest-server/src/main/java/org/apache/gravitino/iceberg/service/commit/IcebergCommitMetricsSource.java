@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.service.commit;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Timer;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.MetricsSource;
+
+/**
+ * The metrics source of {@link IcebergTableCommitter}, it reports the latency of the table commits
+ * and how often they conflict with the concurrent commits.
+ */
+public class IcebergCommitMetricsSource extends MetricsSource {
+
+  private final Timer commitDuration;
+  private final Counter commitConflicts;
+  private final Counter coalescedCommits;
+
+  public IcebergCommitMetricsSource() {
+    super(MetricsSource.ICEBERG_COMMIT_METRIC_NAME);
+    this.commitDuration = getTimer(MetricNames.ICEBERG_COMMIT_DURATION);
+    this.commitConflicts = getCounter(MetricNames.ICEBERG_COMMIT_CONFLICTS);
+    this.coalescedCommits = getCounter(MetricNames.ICEBERG_COMMIT_COALESCED);
+    registerGauge(
+        MetricNames.ICEBERG_COMMIT_CONFLICT_RATE,
+        (Gauge<Double>)
+            () -> {
+              long commits = commitDuration.getCount();
+              return commits == 0 ? 0.0 : (double) commitConflicts.getCount() / commits;
+            });
+  }
+
+  /** @return The timer of the table commits and the multi-table transactions. */
+  public Timer commitDuration() {
+    return commitDuration;
+  }
+
+  /** @return The counter of the commits failed by the conflicts with the concurrent commits. */
+  public Counter commitConflicts() {
+    return commitConflicts;
+  }
+
+  /** @return The counter of the append commits merged into the commits of other requests. */
+  public Counter coalescedCommits() {
+    return coalescedCommits;
+  }
+}
@@ -0,0 +1,379 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.service.commit;
+
+import com.codahale.metrics.Timer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.apache.gravitino.iceberg.common.IcebergConfig;
+import org.apache.gravitino.iceberg.service.CatalogWrapperForREST;
+import org.apache.gravitino.utils.PrincipalUtils;
+import org.apache.iceberg.AppendFiles;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataOperations;
+import org.apache.iceberg.HasTableOperations;
+import org.apache.iceberg.ManifestFile;
+import org.apache.iceberg.MetadataUpdate;
+import org.apache.iceberg.Snapshot;
+import org.apache.iceberg.SnapshotRef;
+import org.apache.iceberg.SnapshotRefType;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableMetadata;
+import org.apache.iceberg.TableOperations;
+import org.apache.iceberg.Transaction;
+import org.apache.iceberg.UpdateRequirement;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.exceptions.CommitFailedException;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.rest.requests.CommitTransactionRequest;
+import org.apache.iceberg.rest.requests.UpdateTableRequest;
+import org.apache.iceberg.rest.responses.LoadTableResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Commits the table changes of the Iceberg REST server and records the commit metrics.
+ *
+ * <p>If the commit coalescing is enabled, the append commits of a user to the same table that
+ * arrive while a commit of the table is in flight are merged into one transaction, so they cost one
+ * metadata write instead of one each. Only the appends based on the same parent snapshot are
+ * coalesced: an append is accepted if it is based on the current snapshot, or on the parent of the
+ * previous coalesced appends and the table is only changed by them since then. The data files of a
+ * coalesced append are appended again on top of the latest table metadata, so it doesn't conflict
+ * with its sibling appends. The snapshots written by the clients are replaced by the snapshots of
+ * the server and the manifests written by the clients are deleted, the custom snapshot summary
+ * properties are kept. A batch of a single append based on the current snapshot is committed as
+ * is.
+ */
+public class IcebergTableCommitter {
+  private static final Logger LOG = LoggerFactory.getLogger(IcebergTableCommitter.class);
+
+  // The snapshot summary properties computed by Iceberg, they are not copied to the new snapshot.
+  private static final List<String> COMPUTED_SUMMARY_PREFIXES =
+      ImmutableList.of(
+          "added-",
+          "deleted-",
+          "removed-",
+          "total-",
+          "changed-partition-count",
+          "partitions.",
+          "partition-summaries-included",
+          "manifests-",
+          "entries-processed",
+          "iceberg-version");
+
+  private final boolean coalescingEnabled;
+  private final IcebergCommitMetricsSource metricsSource;
+  private final Cache<String, CommitQueue> commitQueues;
+
+  public IcebergTableCommitter(IcebergConfig config) {
+    this.coalescingEnabled = config.get(IcebergConfig.COMMIT_COALESCING_ENABLED);
+    this.metricsSource = new IcebergCommitMetricsSource();
+    // An evicted queue only loses the chance to coalesce, the commits are still serialized by the
+    // optimistic concurrency of the catalog.
+    this.commitQueues = Caffeine.newBuilder().expireAfterAccess(10, TimeUnit.MINUTES).build();
+  }
+
+  /** @return The metrics source of the table commits. */
+  public IcebergCommitMetricsSource metricsSource() {
+    return metricsSource;
+  }
+
+  /**
+   * Commits the changes of a table.
+   *
+   * @param catalogName The name of the catalog the table belongs to.
+   * @param catalogWrapper The catalog wrapper of the catalog.
+   * @param tableIdentifier The identifier of the table.
+   * @param updateTableRequest The changes of the table.
+   * @return The table metadata after the commit.
+   */
+  public LoadTableResponse updateTable(
+      String catalogName,
+      CatalogWrapperForREST catalogWrapper,
+      TableIdentifier tableIdentifier,
+      UpdateTableRequest updateTableRequest) {
+    return track(
+        () -> {
+          if (coalescingEnabled && isCoalescibleAppend(updateTableRequest)) {
+            return commitCoalesced(
+                catalogName, catalogWrapper, tableIdentifier, updateTableRequest);
+          }
+          return catalogWrapper.updateTable(tableIdentifier, updateTableRequest);
+        });
+  }
+
+  /**
+   * Commits the changes of multiple tables, the changes of all the tables are validated before
+   * any of them is committed.
+   *
+   * @param catalogWrapper The catalog wrapper of the catalog.
+   * @param commitTransactionRequest The changes of the tables.
+   */
+  public void commitTransaction(
+      CatalogWrapperForREST catalogWrapper, CommitTransactionRequest commitTransactionRequest) {
+    track(
+        () -> {
+          catalogWrapper.commitTransaction(commitTransactionRequest);
+          return null;
+        });
+  }
+
+  @VisibleForTesting
+  static boolean isCoalescibleAppend(UpdateTableRequest request) {
+    boolean coalescibleRequirements =
+        request.requirements().stream()
+            .allMatch(
+                requirement ->
+                    requirement instanceof UpdateRequirement.AssertTableUUID
+                        || (requirement instanceof UpdateRequirement.AssertRefSnapshotId
+                            && SnapshotRef.MAIN_BRANCH.equals(
+                                ((UpdateRequirement.AssertRefSnapshotId) requirement).refName())));
+    // The snapshot the append is based on must be asserted, so that it is only coalesced with the
+    // appends based on the same snapshot.
+    boolean baseAsserted =
+        request.requirements().stream()
+            .anyMatch(requirement -> requirement instanceof UpdateRequirement.AssertRefSnapshotId);
+    if (!coalescibleRequirements || !baseAsserted || request.updates().size() != 2) {
+      return false;
+    }
+
+    MetadataUpdate first = request.updates().get(0);
+    MetadataUpdate second = request.updates().get(1);
+    if (!(first instanceof MetadataUpdate.AddSnapshot)
+        || !(second instanceof MetadataUpdate.SetSnapshotRef)) {
+      return false;
+    }
+    Snapshot snapshot = ((MetadataUpdate.AddSnapshot) first).snapshot();
+    MetadataUpdate.SetSnapshotRef ref = (MetadataUpdate.SetSnapshotRef) second;
+    return DataOperations.APPEND.equals(snapshot.operation())
+        && SnapshotRef.MAIN_BRANCH.equals(ref.name())
+        && ref.type() == SnapshotRefType.BRANCH
+        && ref.snapshotId() == snapshot.snapshotId();
+  }
+
+  private <T> T track(Supplier<T> commit) {
+    try (Timer.Context ignored = metricsSource.commitDuration().time()) {
+      return commit.get();
+    } catch (CommitFailedException e) {
+      metricsSource.commitConflicts().inc();
+      throw e;
+    }
+  }
+
+  private LoadTableResponse commitCoalesced(
+      String catalogName,
+      CatalogWrapperForREST catalogWrapper,
+      TableIdentifier tableIdentifier,
+      UpdateTableRequest request) {
+    // Only the commits of the same user are coalesced, the commit is made by the user of the
+    // request draining the queue.
+    String queueKey =
+        String.join(
+            "/", catalogName, tableIdentifier.toString(), PrincipalUtils.getCurrentUserName());
+    CommitQueue queue = commitQueues.get(queueKey, key -> new CommitQueue());
+    PendingCommit pendingCommit = new PendingCommit(request);
+    queue.pendingCommits.add(pendingCommit);
+
+    // The request finding the queue idle commits all the pending commits in batches until the
+    // queue is empty, the other requests wait for their results.
+    while (!queue.pendingCommits.isEmpty() && queue.lock.tryLock()) {
+      try {
+        List<PendingCommit> batch = new ArrayList<>();
+        PendingCommit next;
+        while ((next = queue.pendingCommits.poll()) != null) {
+          batch.add(next);
+        }
+        if (!batch.isEmpty()) {
+          commitBatch(queue, catalogWrapper, tableIdentifier, batch);
+        }
+      } finally {
+        queue.lock.unlock();
+      }
+    }
+
+    try {
+      return pendingCommit.result.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  private void commitBatch(
+      CommitQueue queue,
+      CatalogWrapperForREST catalogWrapper,
+      TableIdentifier tableIdentifier,
+      List<PendingCommit> batch) {
+    try {
+      Table table = catalogWrapper.getCatalog().loadTable(tableIdentifier);
+      Preconditions.checkState(
+          table instanceof HasTableOperations, "Unsupported table type: %s", table.getClass());
+      TableOperations ops = ((HasTableOperations) table).operations();
+      Long currentSnapshotId = mainSnapshotId(ops.current());
+      // The appends based on the parent of the previous batches are still coalescible if the table
+      // has only been changed by the previous batches since then.
+      Long parentSnapshotId =
+          queue.coalescing && Objects.equals(queue.headSnapshotId, currentSnapshotId)
+              ? queue.parentSnapshotId
+              : currentSnapshotId;
+
+      if (batch.size() == 1
+          && Objects.equals(baseSnapshotId(batch.get(0).request), currentSnapshotId)) {
+        // Nothing to coalesce, the snapshot written by the client is committed as is.
+        LoadTableResponse response =
+            catalogWrapper.updateTable(tableIdentifier, batch.get(0).request);
+        queue.advance(parentSnapshotId, mainSnapshotId(response.tableMetadata()));
+        batch.get(0).result.complete(response);
+        return;
+      }
+
+      Transaction transaction = table.newTransaction();
+      List<PendingCommit> appended = new ArrayList<>();
+      for (PendingCommit pendingCommit : batch) {
+        try {
+          append(transaction, ops, pendingCommit.request, parentSnapshotId, currentSnapshotId);
+          appended.add(pendingCommit);
+        } catch (RuntimeException e) {
+          pendingCommit.result.completeExceptionally(e);
+        }
+      }
+      if (appended.isEmpty()) {
+        return;
+      }
+
+      transaction.commitTransaction();
+      TableMetadata committed = ops.refresh();
+      queue.advance(parentSnapshotId, mainSnapshotId(committed));
+      LoadTableResponse response = LoadTableResponse.builder().withTableMetadata(committed).build();
+      appended.forEach(pendingCommit -> pendingCommit.result.complete(response));
+      metricsSource.coalescedCommits().inc(appended.size() - 1);
+      appended.forEach(pendingCommit -> deleteClientManifests(ops.io(), pendingCommit.request));
+    } catch (RuntimeException e) {
+      queue.coalescing = false;
+      batch.forEach(pendingCommit -> pendingCommit.result.completeExceptionally(e));
+    }
+  }
+
+  private static void append(
+      Transaction transaction,
+      TableOperations ops,
+      UpdateTableRequest request,
+      Long parentSnapshotId,
+      Long currentSnapshotId) {
+    TableMetadata base = ((HasTableOperations) transaction.table()).operations().current();
+    request.requirements().stream()
+        .filter(requirement -> requirement instanceof UpdateRequirement.AssertTableUUID)
+        .forEach(requirement -> requirement.validate(base));
+    Long baseSnapshotId = baseSnapshotId(request);
+    if (!Objects.equals(baseSnapshotId, parentSnapshotId)
+        && !Objects.equals(baseSnapshotId, currentSnapshotId)) {
+      throw new CommitFailedException(
+          "Requirement failed: branch %s has changed: expected id %s != %s",
+          SnapshotRef.MAIN_BRANCH, baseSnapshotId, currentSnapshotId);
+    }
+
+    Snapshot snapshot = ((MetadataUpdate.AddSnapshot) request.updates().get(0)).snapshot();
+    if (snapshot.schemaId() != null && snapshot.schemaId() != base.currentSchemaId()) {
+      throw new CommitFailedException(
+          "Requirement failed: current schema changed: expected id %s != %s",
+          snapshot.schemaId(), base.currentSchemaId());
+    }
+
+    AppendFiles appendFiles = transaction.newFastAppend();
+    for (DataFile dataFile : snapshot.addedDataFiles(ops.io())) {
+      appendFiles.appendFile(dataFile);
+    }
+    snapshot.summary().entrySet().stream()
+        .filter(entry -> COMPUTED_SUMMARY_PREFIXES.stream().noneMatch(entry.getKey()::startsWith))
+        .forEach(entry -> appendFiles.set(entry.getKey(), entry.getValue()));
+    appendFiles.commit();
+  }
+
+  // The manifests added by the snapshot of the client and its manifest list are not referenced
+  // after the data files are appended again by the server.
+  private static void deleteClientManifests(FileIO io, UpdateTableRequest request) {
+    Snapshot snapshot = ((MetadataUpdate.AddSnapshot) request.updates().get(0)).snapshot();
+    try {
+      for (ManifestFile manifest : snapshot.allManifests(io)) {
+        if (Objects.equals(manifest.snapshotId(), snapshot.snapshotId())) {
+          io.deleteFile(manifest.path());
+        }
+      }
+      if (snapshot.manifestListLocation() != null) {
+        io.deleteFile(snapshot.manifestListLocation());
+      }
+    } catch (RuntimeException e) {
+      LOG.warn("Failed to delete the manifests of the coalesced snapshot {}", snapshot, e);
+    }
+  }
+
+  private static Long baseSnapshotId(UpdateTableRequest request) {
+    return request.requirements().stream()
+        .filter(requirement -> requirement instanceof UpdateRequirement.AssertRefSnapshotId)
+        .map(requirement -> ((UpdateRequirement.AssertRefSnapshotId) requirement).snapshotId())
+        .findFirst()
+        .orElse(null);
+  }
+
+  private static Long mainSnapshotId(TableMetadata metadata) {
+    SnapshotRef main = metadata.ref(SnapshotRef.MAIN_BRANCH);
+    return main == null ? null : main.snapshotId();
+  }
+
+  private static class CommitQueue {
+    private final Queue<PendingCommit> pendingCommits = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    // The parent snapshot of the coalesced appends and the snapshot committed by the last batch,
+    // guarded by the lock.
+    private boolean coalescing;
+    private Long parentSnapshotId;
+    private Long headSnapshotId;
+
+    private void advance(Long parentSnapshotId, Long headSnapshotId) {
+      this.coalescing = true;
+      this.parentSnapshotId = parentSnapshotId;
+      this.headSnapshotId = headSnapshotId;
+    }
+  }
+
+  private static class PendingCommit {
+    private final UpdateTableRequest request;
+    private final CompletableFuture<LoadTableResponse> result = new CompletableFuture<>();
+
+    private PendingCommit(UpdateTableRequest request) {
+      this.request = request;
+    }
+  }
+}
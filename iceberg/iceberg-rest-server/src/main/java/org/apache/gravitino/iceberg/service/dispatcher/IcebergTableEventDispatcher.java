@@ -19,6 +19,8 @@
 
 package org.apache.gravitino.iceberg.service.dispatcher;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.iceberg.service.IcebergRestUtils;
@@ -48,11 +50,19 @@ import org.apache.gravitino.listener.api.event.IcebergUpdateTableFailureEvent;
 import org.apache.gravitino.listener.api.event.IcebergUpdateTablePreEvent;
 import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.rest.requests.CommitTransactionRequest;
 import org.apache.iceberg.rest.requests.CreateTableRequest;
+import org.apache.iceberg.rest.requests.FetchScanTasksRequest;
+import org.apache.iceberg.rest.requests.PlanTableScanRequest;
 import org.apache.iceberg.rest.requests.RenameTableRequest;
 import org.apache.iceberg.rest.requests.UpdateTableRequest;
+import org.apache.iceberg.rest.responses.FetchPlanningResultResponse;
+import org.apache.iceberg.rest.responses.FetchScanTasksResponse;
 import org.apache.iceberg.rest.responses.ListTablesResponse;
 import org.apache.iceberg.rest.responses.LoadTableResponse;
+import org.apache.iceberg.rest.responses.PlanTableScanResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * {@code IcebergTableEventDispatcher} is a decorator for {@link IcebergTableOperationExecutor} that
@@ -61,6 +71,8 @@ import org.apache.iceberg.rest.responses.LoadTableResponse;
  */
 public class IcebergTableEventDispatcher implements IcebergTableOperationDispatcher {
 
+  private static final Logger LOG = LoggerFactory.getLogger(IcebergTableEventDispatcher.class);
+
   private IcebergTableOperationDispatcher icebergTableOperationDispatcher;
   private EventBus eventBus;
   private String metalakeName;
@@ -230,4 +242,87 @@ public class IcebergTableEventDispatcher implements IcebergTableOperationDispatc
     eventBus.dispatchEvent(
         new IcebergRenameTableEvent(context, gravitinoNameIdentifier, renameTableRequest));
   }
+
+  // The changes of every table are dispatched as the update table events. The transaction doesn't
+  // return the table metadata, so the committed tables are loaded for the update table events.
+  @Override
+  public void commitTransaction(
+      IcebergRequestContext context, CommitTransactionRequest commitTransactionRequest) {
+    List<UpdateTableRequest> tableChanges = new ArrayList<>();
+    for (UpdateTableRequest tableChange : commitTransactionRequest.tableChanges()) {
+      NameIdentifier gravitinoNameIdentifier =
+          IcebergRestUtils.getGravitinoNameIdentifier(
+              metalakeName, context.catalogName(), tableChange.identifier());
+      Optional<BaseEvent> transformedEvent =
+          eventBus.dispatchEvent(
+              new IcebergUpdateTablePreEvent(context, gravitinoNameIdentifier, tableChange));
+      tableChanges.add(((IcebergUpdateTablePreEvent) transformedEvent.get()).updateTableRequest());
+    }
+    try {
+      icebergTableOperationDispatcher.commitTransaction(
+          context, new CommitTransactionRequest(tableChanges));
+    } catch (Exception e) {
+      for (UpdateTableRequest tableChange : tableChanges) {
+        eventBus.dispatchEvent(
+            new IcebergUpdateTableFailureEvent(
+                context,
+                IcebergRestUtils.getGravitinoNameIdentifier(
+                    metalakeName, context.catalogName(), tableChange.identifier()),
+                tableChange,
+                e));
+      }
+      throw e;
+    }
+    for (UpdateTableRequest tableChange : tableChanges) {
+      eventBus.dispatchEvent(
+          new IcebergUpdateTableEvent(
+              context,
+              IcebergRestUtils.getGravitinoNameIdentifier(
+                  metalakeName, context.catalogName(), tableChange.identifier()),
+              tableChange,
+              loadCommittedTable(context, tableChange.identifier())));
+    }
+  }
+
+  // The transaction has been committed, so failing to load the table doesn't fail the request.
+  private LoadTableResponse loadCommittedTable(
+      IcebergRequestContext context, TableIdentifier tableIdentifier) {
+    try {
+      return icebergTableOperationDispatcher.loadTable(context, tableIdentifier);
+    } catch (Exception e) {
+      LOG.warn("Failed to load the committed table {}", tableIdentifier, e);
+      return null;
+    }
+  }
+
+  // The scan planning reads the table without changing it, so no events are dispatched for it.
+  @Override
+  public PlanTableScanResponse planTableScan(
+      IcebergRequestContext context,
+      TableIdentifier tableIdentifier,
+      PlanTableScanRequest planTableScanRequest) {
+    return icebergTableOperationDispatcher.planTableScan(
+        context, tableIdentifier, planTableScanRequest);
+  }
+
+  @Override
+  public FetchPlanningResultResponse fetchPlanningResult(
+      IcebergRequestContext context, TableIdentifier tableIdentifier, String planId) {
+    return icebergTableOperationDispatcher.fetchPlanningResult(context, tableIdentifier, planId);
+  }
+
+  @Override
+  public void cancelPlanning(
+      IcebergRequestContext context, TableIdentifier tableIdentifier, String planId) {
+    icebergTableOperationDispatcher.cancelPlanning(context, tableIdentifier, planId);
+  }
+
+  @Override
+  public FetchScanTasksResponse fetchScanTasks(
+      IcebergRequestContext context,
+      TableIdentifier tableIdentifier,
+      FetchScanTasksRequest fetchScanTasksRequest) {
+    return icebergTableOperationDispatcher.fetchScanTasks(
+        context, tableIdentifier, fetchScanTasksRequest);
+  }
 }
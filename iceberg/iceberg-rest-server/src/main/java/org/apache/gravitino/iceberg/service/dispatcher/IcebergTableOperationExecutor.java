@@ -21,13 +21,20 @@ package org.apache.gravitino.iceberg.service.dispatcher;
 
 import org.apache.gravitino.iceberg.service.IcebergCatalogWrapperManager;
 import org.apache.gravitino.listener.api.event.IcebergRequestContext;
+import org.apache.iceberg.Table;
 import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.rest.requests.CommitTransactionRequest;
 import org.apache.iceberg.rest.requests.CreateTableRequest;
+import org.apache.iceberg.rest.requests.FetchScanTasksRequest;
+import org.apache.iceberg.rest.requests.PlanTableScanRequest;
 import org.apache.iceberg.rest.requests.RenameTableRequest;
 import org.apache.iceberg.rest.requests.UpdateTableRequest;
+import org.apache.iceberg.rest.responses.FetchPlanningResultResponse;
+import org.apache.iceberg.rest.responses.FetchScanTasksResponse;
 import org.apache.iceberg.rest.responses.ListTablesResponse;
 import org.apache.iceberg.rest.responses.LoadTableResponse;
+import org.apache.iceberg.rest.responses.PlanTableScanResponse;
 
 public class IcebergTableOperationExecutor implements IcebergTableOperationDispatcher {
 
@@ -51,8 +58,12 @@ public class IcebergTableOperationExecutor implements IcebergTableOperationDispa
       TableIdentifier tableIdentifier,
       UpdateTableRequest updateTableRequest) {
     return icebergCatalogWrapperManager
-        .getCatalogWrapper(context.catalogName())
-        .updateTable(tableIdentifier, updateTableRequest);
+        .getTableCommitter()
+        .updateTable(
+            context.catalogName(),
+            icebergCatalogWrapperManager.getCatalogWrapper(context.catalogName()),
+            tableIdentifier,
+            updateTableRequest);
   }
 
   @Override
@@ -97,4 +108,55 @@ public class IcebergTableOperationExecutor implements IcebergTableOperationDispa
         .getCatalogWrapper(context.catalogName())
         .renameTable(renameTableRequest);
   }
+
+  @Override
+  public void commitTransaction(
+      IcebergRequestContext context, CommitTransactionRequest commitTransactionRequest) {
+    icebergCatalogWrapperManager
+        .getTableCommitter()
+        .commitTransaction(
+            icebergCatalogWrapperManager.getCatalogWrapper(context.catalogName()),
+            commitTransactionRequest);
+  }
+
+  @Override
+  public PlanTableScanResponse planTableScan(
+      IcebergRequestContext context,
+      TableIdentifier tableIdentifier,
+      PlanTableScanRequest planTableScanRequest) {
+    Table table =
+        icebergCatalogWrapperManager
+            .getCatalogWrapper(context.catalogName())
+            .getCatalog()
+            .loadTable(tableIdentifier);
+    return icebergCatalogWrapperManager
+        .getScanPlanner()
+        .planTableScan(context.catalogName(), tableIdentifier, table, planTableScanRequest);
+  }
+
+  @Override
+  public FetchPlanningResultResponse fetchPlanningResult(
+      IcebergRequestContext context, TableIdentifier tableIdentifier, String planId) {
+    return icebergCatalogWrapperManager
+        .getScanPlanner()
+        .fetchPlanningResult(context.catalogName(), tableIdentifier, planId);
+  }
+
+  @Override
+  public void cancelPlanning(
+      IcebergRequestContext context, TableIdentifier tableIdentifier, String planId) {
+    icebergCatalogWrapperManager
+        .getScanPlanner()
+        .cancelPlanning(context.catalogName(), tableIdentifier, planId);
+  }
+
+  @Override
+  public FetchScanTasksResponse fetchScanTasks(
+      IcebergRequestContext context,
+      TableIdentifier tableIdentifier,
+      FetchScanTasksRequest fetchScanTasksRequest) {
+    return icebergCatalogWrapperManager
+        .getScanPlanner()
+        .fetchScanTasks(context.catalogName(), tableIdentifier, fetchScanTasksRequest);
+  }
 }
@@ -57,6 +57,8 @@ public class IcebergConfigOperations {
 
   private final IcebergCatalogWrapperManager catalogWrapperManager;
 
+  private static final String TABLE_PATH = "/v1/{prefix}/namespaces/{namespace}/tables/{table}";
+
   private static final List<Endpoint> DEFAULT_ENDPOINTS =
       ImmutableList.<Endpoint>builder()
           .add(Endpoint.V1_LIST_NAMESPACES)
@@ -73,6 +75,10 @@ public class IcebergConfigOperations {
           .add(Endpoint.V1_REGISTER_TABLE)
           .add(Endpoint.V1_REPORT_METRICS)
           .add(Endpoint.V1_COMMIT_TRANSACTION)
+          .add(Endpoint.create("POST", TABLE_PATH + "/plan"))
+          .add(Endpoint.create("GET", TABLE_PATH + "/plan/{plan-id}"))
+          .add(Endpoint.create("DELETE", TABLE_PATH + "/plan/{plan-id}"))
+          .add(Endpoint.create("POST", TABLE_PATH + "/tasks"))
           .build();
 
   private static final List<Endpoint> DEFAULT_VIEW_ENDPOINTS =
@@ -53,10 +53,15 @@ import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.rest.RESTUtil;
 import org.apache.iceberg.rest.requests.CreateTableRequest;
+import org.apache.iceberg.rest.requests.FetchScanTasksRequest;
+import org.apache.iceberg.rest.requests.PlanTableScanRequest;
 import org.apache.iceberg.rest.requests.ReportMetricsRequest;
 import org.apache.iceberg.rest.requests.UpdateTableRequest;
+import org.apache.iceberg.rest.responses.FetchPlanningResultResponse;
+import org.apache.iceberg.rest.responses.FetchScanTasksResponse;
 import org.apache.iceberg.rest.responses.ListTablesResponse;
 import org.apache.iceberg.rest.responses.LoadTableResponse;
+import org.apache.iceberg.rest.responses.PlanTableScanResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -317,6 +322,143 @@ public class IcebergTableOperations {
     }
   }
 
+  @POST
+  @Path("{table}/plan")
+  @Produces(MediaType.APPLICATION_JSON)
+  @Timed(name = "plan-table-scan." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "plan-table-scan", absolute = true)
+  public Response planTableScan(
+      @PathParam("prefix") String prefix,
+      @Encoded() @PathParam("namespace") String namespace,
+      @PathParam("table") String table,
+      PlanTableScanRequest planTableScanRequest) {
+    String catalogName = IcebergRestUtils.getCatalogName(prefix);
+    Namespace icebergNS = RESTUtil.decodeNamespace(namespace);
+    LOG.info(
+        "Plan Iceberg table scan, catalog: {}, namespace: {}, table: {}, request: {}",
+        catalogName,
+        icebergNS,
+        table,
+        planTableScanRequest);
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            IcebergRequestContext context =
+                new IcebergRequestContext(httpServletRequest(), catalogName);
+            TableIdentifier tableIdentifier = TableIdentifier.of(icebergNS, table);
+            PlanTableScanResponse planTableScanResponse =
+                tableOperationDispatcher.planTableScan(
+                    context, tableIdentifier, planTableScanRequest);
+            return IcebergRestUtils.ok(planTableScanResponse);
+          });
+    } catch (Exception e) {
+      return IcebergExceptionMapper.toRESTResponse(e);
+    }
+  }
+
+  @GET
+  @Path("{table}/plan/{plan-id}")
+  @Produces(MediaType.APPLICATION_JSON)
+  @Timed(name = "fetch-planning-result." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "fetch-planning-result", absolute = true)
+  public Response fetchPlanningResult(
+      @PathParam("prefix") String prefix,
+      @Encoded() @PathParam("namespace") String namespace,
+      @PathParam("table") String table,
+      @PathParam("plan-id") String planId) {
+    String catalogName = IcebergRestUtils.getCatalogName(prefix);
+    Namespace icebergNS = RESTUtil.decodeNamespace(namespace);
+    LOG.info(
+        "Fetch Iceberg table scan plan, catalog: {}, namespace: {}, table: {}, plan id: {}",
+        catalogName,
+        icebergNS,
+        table,
+        planId);
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            IcebergRequestContext context =
+                new IcebergRequestContext(httpServletRequest(), catalogName);
+            TableIdentifier tableIdentifier = TableIdentifier.of(icebergNS, table);
+            FetchPlanningResultResponse fetchPlanningResultResponse =
+                tableOperationDispatcher.fetchPlanningResult(context, tableIdentifier, planId);
+            return IcebergRestUtils.ok(fetchPlanningResultResponse);
+          });
+    } catch (Exception e) {
+      return IcebergExceptionMapper.toRESTResponse(e);
+    }
+  }
+
+  @DELETE
+  @Path("{table}/plan/{plan-id}")
+  @Produces(MediaType.APPLICATION_JSON)
+  @Timed(name = "cancel-planning." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "cancel-planning", absolute = true)
+  public Response cancelPlanning(
+      @PathParam("prefix") String prefix,
+      @Encoded() @PathParam("namespace") String namespace,
+      @PathParam("table") String table,
+      @PathParam("plan-id") String planId) {
+    String catalogName = IcebergRestUtils.getCatalogName(prefix);
+    Namespace icebergNS = RESTUtil.decodeNamespace(namespace);
+    LOG.info(
+        "Cancel Iceberg table scan plan, catalog: {}, namespace: {}, table: {}, plan id: {}",
+        catalogName,
+        icebergNS,
+        table,
+        planId);
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            IcebergRequestContext context =
+                new IcebergRequestContext(httpServletRequest(), catalogName);
+            TableIdentifier tableIdentifier = TableIdentifier.of(icebergNS, table);
+            tableOperationDispatcher.cancelPlanning(context, tableIdentifier, planId);
+            return IcebergRestUtils.noContent();
+          });
+    } catch (Exception e) {
+      return IcebergExceptionMapper.toRESTResponse(e);
+    }
+  }
+
+  @POST
+  @Path("{table}/tasks")
+  @Produces(MediaType.APPLICATION_JSON)
+  @Timed(name = "fetch-scan-tasks." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "fetch-scan-tasks", absolute = true)
+  public Response fetchScanTasks(
+      @PathParam("prefix") String prefix,
+      @Encoded() @PathParam("namespace") String namespace,
+      @PathParam("table") String table,
+      FetchScanTasksRequest fetchScanTasksRequest) {
+    String catalogName = IcebergRestUtils.getCatalogName(prefix);
+    Namespace icebergNS = RESTUtil.decodeNamespace(namespace);
+    LOG.info(
+        "Fetch Iceberg table scan tasks, catalog: {}, namespace: {}, table: {}, plan task: {}",
+        catalogName,
+        icebergNS,
+        table,
+        fetchScanTasksRequest.planTask());
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            IcebergRequestContext context =
+                new IcebergRequestContext(httpServletRequest(), catalogName);
+            TableIdentifier tableIdentifier = TableIdentifier.of(icebergNS, table);
+            FetchScanTasksResponse fetchScanTasksResponse =
+                tableOperationDispatcher.fetchScanTasks(
+                    context, tableIdentifier, fetchScanTasksRequest);
+            return IcebergRestUtils.ok(fetchScanTasksResponse);
+          });
+    } catch (Exception e) {
+      return IcebergExceptionMapper.toRESTResponse(e);
+    }
+  }
+
   // HTTP request is null in Jersey test, override with a mock request when testing.
   @VisibleForTesting
   HttpServletRequest httpServletRequest() {
@@ -0,0 +1,366 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.service.scan;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.gravitino.iceberg.common.IcebergConfig;
+import org.apache.iceberg.BaseTable;
+import org.apache.iceberg.CombinedScanTask;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.HasTableOperations;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Scan;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableMetadata;
+import org.apache.iceberg.TableOperations;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.encryption.EncryptionManager;
+import org.apache.iceberg.exceptions.NotFoundException;
+import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.LocationProvider;
+import org.apache.iceberg.rest.PlanStatus;
+import org.apache.iceberg.rest.requests.FetchScanTasksRequest;
+import org.apache.iceberg.rest.requests.PlanTableScanRequest;
+import org.apache.iceberg.rest.responses.FetchPlanningResultResponse;
+import org.apache.iceberg.rest.responses.FetchScanTasksResponse;
+import org.apache.iceberg.rest.responses.PlanTableScanResponse;
+
+/**
+ * Plans the table scans for the clients of the Iceberg REST server. The manifests of a scan are
+ * read in parallel on a bounded pool shared by all the scans, through the shared {@link
+ * ManifestCache}. The file scan tasks of a plan are split into pages, the first page is returned
+ * with the plan and the other pages are returned as plan tasks which the clients fetch one by one
+ * until the plan expires. The plans are bounded by the total number of their file scan tasks, the
+ * least recently used plans are dropped before they expire if there are too many tasks.
+ */
+public class IcebergScanPlanner implements AutoCloseable {
+
+  private static final String PLAN_TASK_SEPARATOR = ":";
+
+  private final ExecutorService planningPool;
+  private final ManifestCache manifestCache;
+  private final int pageSize;
+  private final Cache<String, ScanPlan> scanPlans;
+
+  public IcebergScanPlanner(IcebergConfig config) {
+    int threads = config.get(IcebergConfig.SCAN_PLANNING_THREADS);
+    ThreadPoolExecutor pool =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            60L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("iceberg-scan-planner-%d")
+                .build());
+    pool.allowCoreThreadTimeOut(true);
+    this.planningPool = pool;
+    this.manifestCache =
+        new ManifestCache(
+            config.get(IcebergConfig.MANIFEST_CACHE_MAX_TOTAL_BYTES),
+            config.get(IcebergConfig.MANIFEST_CACHE_MAX_CONTENT_LENGTH));
+    this.pageSize = config.get(IcebergConfig.SCAN_PLANNING_PAGE_SIZE);
+    this.scanPlans =
+        Caffeine.newBuilder()
+            .expireAfterAccess(
+                config.get(IcebergConfig.SCAN_PLAN_EXPIRATION), TimeUnit.MILLISECONDS)
+            .maximumWeight(config.get(IcebergConfig.SCAN_PLAN_MAX_TOTAL_TASKS))
+            .weigher((String planId, ScanPlan scanPlan) -> scanPlan.taskCount())
+            .build();
+  }
+
+  /**
+   * Plans a scan of the table.
+   *
+   * @param catalogName The name of the catalog the table belongs to.
+   * @param tableIdentifier The identifier of the table.
+   * @param table The loaded table.
+   * @param request The scan planning request.
+   * @return The completed plan with the first page of the file scan tasks.
+   */
+  public PlanTableScanResponse planTableScan(
+      String catalogName,
+      TableIdentifier tableIdentifier,
+      Table table,
+      PlanTableScanRequest request) {
+    Table scanTable = scanTable(table);
+    List<FileScanTask> tasks = planFiles(scanTable, request);
+    List<List<FileScanTask>> pages = Lists.partition(tasks, pageSize);
+    List<FileScanTask> firstPage = pages.isEmpty() ? ImmutableList.of() : pages.get(0);
+
+    PlanTableScanResponse.Builder builder =
+        PlanTableScanResponse.builder()
+            .withPlanStatus(PlanStatus.COMPLETED)
+            .withFileScanTasks(firstPage)
+            .withDeleteFiles(deleteFiles(firstPage))
+            .withSpecsById(table.specs());
+    if (pages.size() > 1) {
+      String planId = UUID.randomUUID().toString();
+      scanPlans.put(planId, new ScanPlan(catalogName, tableIdentifier, pages, table.specs()));
+      builder.withPlanId(planId).withPlanTasks(planTasks(planId, 1, pages.size()));
+    }
+    return builder.build();
+  }
+
+  /**
+   * Fetches the result of a plan, all the pages of the plan are returned as plan tasks.
+   *
+   * @param catalogName The name of the catalog the table belongs to.
+   * @param tableIdentifier The identifier of the table.
+   * @param planId The id of the plan.
+   * @return The completed plan.
+   */
+  public FetchPlanningResultResponse fetchPlanningResult(
+      String catalogName, TableIdentifier tableIdentifier, String planId) {
+    ScanPlan scanPlan = getScanPlan(catalogName, tableIdentifier, planId);
+    return FetchPlanningResultResponse.builder()
+        .withPlanStatus(PlanStatus.COMPLETED)
+        .withPlanTasks(planTasks(planId, 0, scanPlan.pages.size()))
+        .withSpecsById(scanPlan.specsById)
+        .build();
+  }
+
+  /**
+   * Cancels a plan, the plan tasks of it can't be fetched any more. Cancelling a plan that doesn't
+   * exist is a no-op.
+   *
+   * @param catalogName The name of the catalog the table belongs to.
+   * @param tableIdentifier The identifier of the table.
+   * @param planId The id of the plan.
+   */
+  public void cancelPlanning(String catalogName, TableIdentifier tableIdentifier, String planId) {
+    ScanPlan scanPlan = scanPlans.getIfPresent(planId);
+    if (scanPlan != null && scanPlan.belongsTo(catalogName, tableIdentifier)) {
+      scanPlans.invalidate(planId);
+    }
+  }
+
+  /**
+   * Fetches the file scan tasks of a plan task.
+   *
+   * @param catalogName The name of the catalog the table belongs to.
+   * @param tableIdentifier The identifier of the table.
+   * @param request The request with the plan task to fetch.
+   * @return The file scan tasks of the plan task.
+   */
+  public FetchScanTasksResponse fetchScanTasks(
+      String catalogName, TableIdentifier tableIdentifier, FetchScanTasksRequest request) {
+    String planTask = request.planTask();
+    int separator = planTask.lastIndexOf(PLAN_TASK_SEPARATOR);
+    Preconditions.checkArgument(separator > 0, "Invalid plan task: %s", planTask);
+    String planId = planTask.substring(0, separator);
+    int pageIndex;
+    try {
+      pageIndex = Integer.parseInt(planTask.substring(separator + 1));
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid plan task: " + planTask, e);
+    }
+
+    ScanPlan scanPlan = getScanPlan(catalogName, tableIdentifier, planId);
+    if (pageIndex < 0 || pageIndex >= scanPlan.pages.size()) {
+      throw new NotFoundException("Plan task %s doesn't exist", planTask);
+    }
+    List<FileScanTask> page = scanPlan.pages.get(pageIndex);
+    return FetchScanTasksResponse.builder()
+        .withFileScanTasks(page)
+        .withDeleteFiles(deleteFiles(page))
+        .withSpecsById(scanPlan.specsById)
+        .build();
+  }
+
+  @VisibleForTesting
+  ManifestCache manifestCache() {
+    return manifestCache;
+  }
+
+  @VisibleForTesting
+  long scanPlanCount() {
+    scanPlans.cleanUp();
+    return scanPlans.estimatedSize();
+  }
+
+  @Override
+  public void close() {
+    scanPlans.invalidateAll();
+    planningPool.shutdownNow();
+  }
+
+  private ScanPlan getScanPlan(String catalogName, TableIdentifier tableIdentifier, String planId) {
+    ScanPlan scanPlan = scanPlans.getIfPresent(planId);
+    if (scanPlan == null || !scanPlan.belongsTo(catalogName, tableIdentifier)) {
+      throw new NotFoundException("Plan %s doesn't exist or has expired", planId);
+    }
+    return scanPlan;
+  }
+
+  // Scans the metadata the table is loaded with, reading the manifests through the cache.
+  private Table scanTable(Table table) {
+    Preconditions.checkArgument(
+        table instanceof HasTableOperations, "Unsupported table type: %s", table.getClass());
+    TableOperations ops = ((HasTableOperations) table).operations();
+    return new BaseTable(new ScanTableOperations(ops, manifestCache.wrap(ops.io())), table.name());
+  }
+
+  private List<FileScanTask> planFiles(Table table, PlanTableScanRequest request) {
+    Scan<?, FileScanTask, CombinedScanTask> scan;
+    if (request.startSnapshotId() != null) {
+      Preconditions.checkArgument(
+          request.endSnapshotId() != null, "End snapshot id is required for incremental scans");
+      scan =
+          configure(
+              table
+                  .newIncrementalAppendScan()
+                  .fromSnapshotExclusive(request.startSnapshotId())
+                  .toSnapshot(request.endSnapshotId()),
+              request);
+    } else {
+      scan =
+          request.snapshotId() == null
+              ? configure(table.newScan(), request)
+              : configure(table.newScan().useSnapshot(request.snapshotId()), request);
+    }
+
+    try (CloseableIterable<FileScanTask> files = scan.planFiles()) {
+      return ImmutableList.copyOf(files);
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to plan files of table %s", table.name());
+    }
+  }
+
+  private <T extends Scan<T, FileScanTask, CombinedScanTask>> T configure(
+      T scan, PlanTableScanRequest request) {
+    T configured = scan.caseSensitive(request.caseSensitive()).planWith(planningPool);
+    if (request.select() != null) {
+      configured = configured.select(request.select());
+    }
+    if (request.filter() != null) {
+      configured = configured.filter(request.filter());
+    }
+    if (request.statsFields() != null) {
+      configured = configured.includeColumnStats(request.statsFields());
+    }
+    return configured;
+  }
+
+  private static List<DeleteFile> deleteFiles(List<FileScanTask> tasks) {
+    Map<String, DeleteFile> deleteFiles = new LinkedHashMap<>();
+    tasks.forEach(task -> task.deletes().forEach(f -> deleteFiles.putIfAbsent(f.location(), f)));
+    return ImmutableList.copyOf(deleteFiles.values());
+  }
+
+  private static List<String> planTasks(String planId, int fromPage, int toPage) {
+    return IntStream.range(fromPage, toPage)
+        .mapToObj(page -> planId + PLAN_TASK_SEPARATOR + page)
+        .collect(Collectors.toList());
+  }
+
+  private static class ScanPlan {
+    private final String catalogName;
+    private final TableIdentifier tableIdentifier;
+    private final List<List<FileScanTask>> pages;
+    private final Map<Integer, PartitionSpec> specsById;
+
+    private ScanPlan(
+        String catalogName,
+        TableIdentifier tableIdentifier,
+        List<List<FileScanTask>> pages,
+        Map<Integer, PartitionSpec> specsById) {
+      this.catalogName = catalogName;
+      this.tableIdentifier = tableIdentifier;
+      this.pages = pages;
+      this.specsById = specsById;
+    }
+
+    private int taskCount() {
+      return pages.stream().mapToInt(List::size).sum();
+    }
+
+    private boolean belongsTo(String catalogName, TableIdentifier tableIdentifier) {
+      return this.catalogName.equals(catalogName) && this.tableIdentifier.equals(tableIdentifier);
+    }
+  }
+
+  // Serves the loaded metadata without refreshing it, scans can't commit.
+  private static class ScanTableOperations implements TableOperations {
+    private final TableOperations ops;
+    private final FileIO io;
+
+    private ScanTableOperations(TableOperations ops, FileIO io) {
+      this.ops = ops;
+      this.io = io;
+    }
+
+    @Override
+    public TableMetadata current() {
+      return ops.current();
+    }
+
+    @Override
+    public TableMetadata refresh() {
+      return ops.current();
+    }
+
+    @Override
+    public void commit(TableMetadata base, TableMetadata metadata) {
+      throw new UnsupportedOperationException("Scan planning doesn't commit tables");
+    }
+
+    @Override
+    public FileIO io() {
+      return io;
+    }
+
+    @Override
+    public EncryptionManager encryption() {
+      return ops.encryption();
+    }
+
+    @Override
+    public String metadataFileLocation(String fileName) {
+      return ops.metadataFileLocation(fileName);
+    }
+
+    @Override
+    public LocationProvider locationProvider() {
+      return ops.locationProvider();
+    }
+  }
+}
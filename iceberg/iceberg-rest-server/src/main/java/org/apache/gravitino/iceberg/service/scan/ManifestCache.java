@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.service.scan;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.io.ByteStreams;
+import java.io.IOException;
+import java.util.Map;
+import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.inmemory.InMemoryInputFile;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.io.SeekableInputStream;
+
+/**
+ * A size-bounded in-memory cache of the manifest lists and manifests read by the scan planning. The
+ * cache is shared by all the catalogs of the Iceberg REST server, the entries are keyed by the file
+ * locations which is safe because the manifest lists and manifests are never rewritten in place.
+ */
+public class ManifestCache {
+
+  private final Cache<String, byte[]> cache;
+  private final long maxContentLength;
+
+  /**
+   * Creates a manifest cache.
+   *
+   * @param maxTotalBytes The max total bytes of the cached files, 0 disables the cache.
+   * @param maxContentLength The max length of a file to be cached.
+   */
+  public ManifestCache(long maxTotalBytes, long maxContentLength) {
+    Preconditions.checkArgument(maxTotalBytes >= 0, "Max total bytes must not be negative");
+    Preconditions.checkArgument(maxContentLength > 0, "Max content length must be positive");
+    this.maxContentLength = Math.min(maxContentLength, Integer.MAX_VALUE);
+    this.cache =
+        maxTotalBytes == 0
+            ? null
+            : Caffeine.newBuilder()
+                .maximumWeight(maxTotalBytes)
+                .<String, byte[]>weigher((location, content) -> content.length)
+                .recordStats()
+                .build();
+  }
+
+  /**
+   * Wraps the file IO of a table to read the files through the cache.
+   *
+   * @param io The file IO of the table.
+   * @return The read only file IO reading through the cache, or the file IO itself if the cache is
+   *     disabled.
+   */
+  public FileIO wrap(FileIO io) {
+    return cache == null ? io : new CachingFileIO(io);
+  }
+
+  @VisibleForTesting
+  CacheStats stats() {
+    return cache == null ? CacheStats.empty() : cache.stats();
+  }
+
+  private static byte[] readFully(InputFile inputFile, int length) {
+    byte[] content = new byte[length];
+    try (SeekableInputStream in = inputFile.newStream()) {
+      ByteStreams.readFully(in, content);
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to read file: %s", inputFile.location());
+    }
+    return content;
+  }
+
+  private class CachingFileIO implements FileIO {
+    private final FileIO io;
+
+    private CachingFileIO(FileIO io) {
+      this.io = io;
+    }
+
+    @Override
+    public InputFile newInputFile(String path) {
+      byte[] content = cache.getIfPresent(path);
+      if (content != null) {
+        return new InMemoryInputFile(path, content);
+      }
+      return new CachingInputFile(io.newInputFile(path));
+    }
+
+    @Override
+    public InputFile newInputFile(String path, long length) {
+      if (length > maxContentLength) {
+        return io.newInputFile(path, length);
+      }
+      byte[] content = cache.getIfPresent(path);
+      if (content != null) {
+        return new InMemoryInputFile(path, content);
+      }
+      return new CachingInputFile(io.newInputFile(path, length));
+    }
+
+    @Override
+    public OutputFile newOutputFile(String path) {
+      throw new UnsupportedOperationException("Scan planning doesn't write files");
+    }
+
+    @Override
+    public void deleteFile(String path) {
+      throw new UnsupportedOperationException("Scan planning doesn't delete files");
+    }
+
+    @Override
+    public Map<String, String> properties() {
+      return io.properties();
+    }
+
+    @Override
+    public void close() {
+      // The wrapped file IO is owned and closed by the table.
+    }
+  }
+
+  private class CachingInputFile implements InputFile {
+    private final InputFile inputFile;
+
+    private CachingInputFile(InputFile inputFile) {
+      this.inputFile = inputFile;
+    }
+
+    @Override
+    public long getLength() {
+      return inputFile.getLength();
+    }
+
+    @Override
+    public SeekableInputStream newStream() {
+      long length = inputFile.getLength();
+      if (length > maxContentLength) {
+        return inputFile.newStream();
+      }
+      byte[] content = cache.get(location(), key -> readFully(inputFile, (int) length));
+      return new InMemoryInputFile(location(), content).newStream();
+    }
+
+    @Override
+    public String location() {
+      return inputFile.location();
+    }
+
+    @Override
+    public boolean exists() {
+      return inputFile.exists();
+    }
+  }
+}
@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.service.commit;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.gravitino.catalog.lakehouse.iceberg.IcebergConstants;
+import org.apache.gravitino.iceberg.common.IcebergConfig;
+import org.apache.gravitino.iceberg.service.CatalogWrapperForREST;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.HasTableOperations;
+import org.apache.iceberg.MetadataUpdate;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Snapshot;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableMetadata;
+import org.apache.iceberg.TableOperations;
+import org.apache.iceberg.Transaction;
+import org.apache.iceberg.UpdateRequirement;
+import org.apache.iceberg.UpdateRequirements;
+import org.apache.iceberg.catalog.Namespace;
+import org.apache.iceberg.catalog.SupportsNamespaces;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.exceptions.CommitFailedException;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.rest.requests.CommitTransactionRequest;
+import org.apache.iceberg.rest.requests.UpdateTableRequest;
+import org.apache.iceberg.types.Types;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestIcebergTableCommitter {
+
+  private static final String CATALOG_NAME = "test_catalog";
+  private static final TableIdentifier TABLE_1 = TableIdentifier.of("db", "tbl1");
+  private static final TableIdentifier TABLE_2 = TableIdentifier.of("db", "tbl2");
+  private static final Schema SCHEMA =
+      new Schema(Types.NestedField.required(1, "id", Types.LongType.get()));
+
+  private CatalogWrapperForREST catalogWrapper;
+
+  @BeforeEach
+  void setUp() {
+    catalogWrapper = new CatalogWrapperForREST(CATALOG_NAME, new IcebergConfig());
+    ((SupportsNamespaces) catalogWrapper.getCatalog()).createNamespace(Namespace.of("db"));
+    catalogWrapper.getCatalog().createTable(TABLE_1, SCHEMA);
+    catalogWrapper.getCatalog().createTable(TABLE_2, SCHEMA);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    catalogWrapper.close();
+  }
+
+  @Test
+  void testConcurrentAppendsConflictWithoutCoalescing() {
+    IcebergTableCommitter committer = new IcebergTableCommitter(new IcebergConfig());
+    UpdateTableRequest first = appendRequest(TABLE_1, "a");
+    UpdateTableRequest second = appendRequest(TABLE_1, "b");
+
+    committer.updateTable(CATALOG_NAME, catalogWrapper, TABLE_1, first);
+    Assertions.assertThrows(
+        CommitFailedException.class,
+        () -> committer.updateTable(CATALOG_NAME, catalogWrapper, TABLE_1, second));
+    Assertions.assertEquals(2, committer.metricsSource().commitDuration().getCount());
+    Assertions.assertEquals(1, committer.metricsSource().commitConflicts().getCount());
+  }
+
+  @Test
+  void testConcurrentAppendsWithCoalescing() {
+    IcebergTableCommitter committer =
+        new IcebergTableCommitter(
+            new IcebergConfig(
+                ImmutableMap.of(IcebergConstants.ICEBERG_REST_COMMIT_COALESCING_ENABLED, "true")));
+    UpdateTableRequest first = appendRequest(TABLE_1, "a");
+    UpdateTableRequest second = appendRequest(TABLE_1, "b");
+    Assertions.assertTrue(IcebergTableCommitter.isCoalescibleAppend(first));
+
+    committer.updateTable(CATALOG_NAME, catalogWrapper, TABLE_1, first);
+    committer.updateTable(CATALOG_NAME, catalogWrapper, TABLE_1, second);
+    Assertions.assertEquals(0, committer.metricsSource().commitConflicts().getCount());
+
+    Table table = catalogWrapper.getCatalog().loadTable(TABLE_1);
+    List<String> files = Lists.newArrayList();
+    table.newScan().planFiles().forEach(task -> files.add(task.file().location()));
+    Assertions.assertEquals(2, files.size());
+    Assertions.assertEquals("v", table.currentSnapshot().summary().get("custom-property"));
+
+    // The first append is committed as is, the second one is appended again by the server and the
+    // manifest list written by the client is deleted.
+    Snapshot firstSnapshot = snapshot(first);
+    Snapshot secondSnapshot = snapshot(second);
+    Assertions.assertEquals(firstSnapshot.snapshotId(), table.currentSnapshot().parentId());
+    Assertions.assertNotEquals(secondSnapshot.snapshotId(), table.currentSnapshot().snapshotId());
+    FileIO io = table.io();
+    Assertions.assertTrue(io.newInputFile(firstSnapshot.manifestListLocation()).exists());
+    Assertions.assertFalse(io.newInputFile(secondSnapshot.manifestListLocation()).exists());
+  }
+
+  @Test
+  void testAppendsOfDifferentParentsAreNotCoalesced() {
+    IcebergTableCommitter committer =
+        new IcebergTableCommitter(
+            new IcebergConfig(
+                ImmutableMap.of(IcebergConstants.ICEBERG_REST_COMMIT_COALESCING_ENABLED, "true")));
+    UpdateTableRequest first = appendRequest(TABLE_1, "a");
+    UpdateTableRequest second = appendRequest(TABLE_1, "b");
+
+    // The table is changed by another commit, the append based on the replaced snapshot fails
+    catalogWrapper.updateTable(TABLE_1, first);
+    Assertions.assertThrows(
+        CommitFailedException.class,
+        () -> committer.updateTable(CATALOG_NAME, catalogWrapper, TABLE_1, second));
+    Assertions.assertEquals(1, committer.metricsSource().commitConflicts().getCount());
+
+    // The append based on the current snapshot is committed
+    UpdateTableRequest third = appendRequest(TABLE_1, "c");
+    committer.updateTable(CATALOG_NAME, catalogWrapper, TABLE_1, third);
+    Assertions.assertEquals(
+        snapshot(third).snapshotId(),
+        catalogWrapper.getCatalog().loadTable(TABLE_1).currentSnapshot().snapshotId());
+  }
+
+  @Test
+  void testNonAppendIsNotCoalescible() {
+    TableMetadata base = operations(TABLE_1).current();
+    List<MetadataUpdate> updates =
+        ImmutableList.of(new MetadataUpdate.SetProperties(ImmutableMap.of("k", "v")));
+    UpdateTableRequest request =
+        UpdateTableRequest.create(
+            TABLE_1, UpdateRequirements.forUpdateTable(base, updates), updates);
+    Assertions.assertFalse(IcebergTableCommitter.isCoalescibleAppend(request));
+
+    // An append without asserting the snapshot it is based on is not coalescible
+    UpdateTableRequest append = appendRequest(TABLE_1, "a");
+    UpdateTableRequest unasserted =
+        UpdateTableRequest.create(
+            TABLE_1,
+            append.requirements().stream()
+                .filter(requirement -> requirement instanceof UpdateRequirement.AssertTableUUID)
+                .collect(Collectors.toList()),
+            append.updates());
+    Assertions.assertFalse(IcebergTableCommitter.isCoalescibleAppend(unasserted));
+  }
+
+  @Test
+  void testCommitTransaction() {
+    IcebergTableCommitter committer = new IcebergTableCommitter(new IcebergConfig());
+    committer.commitTransaction(
+        catalogWrapper,
+        new CommitTransactionRequest(
+            ImmutableList.of(appendRequest(TABLE_1, "a"), appendRequest(TABLE_2, "b"))));
+
+    Assertions.assertNotNull(catalogWrapper.getCatalog().loadTable(TABLE_1).currentSnapshot());
+    Assertions.assertNotNull(catalogWrapper.getCatalog().loadTable(TABLE_2).currentSnapshot());
+    Assertions.assertEquals(1, committer.metricsSource().commitDuration().getCount());
+  }
+
+  // Stages an append in a transaction and turns it to the request a REST client sends.
+  private UpdateTableRequest appendRequest(TableIdentifier tableIdentifier, String fileName) {
+    HasTableOperations table =
+        (HasTableOperations) catalogWrapper.getCatalog().loadTable(tableIdentifier);
+    TableMetadata base = table.operations().current();
+    Transaction transaction = ((Table) table).newTransaction();
+    transaction
+        .newFastAppend()
+        .appendFile(dataFile(fileName))
+        .set("custom-property", "v")
+        .commit();
+    List<MetadataUpdate> updates =
+        ((HasTableOperations) transaction.table()).operations().current().changes();
+    return UpdateTableRequest.create(
+        tableIdentifier, UpdateRequirements.forUpdateTable(base, updates), updates);
+  }
+
+  private static Snapshot snapshot(UpdateTableRequest request) {
+    return ((MetadataUpdate.AddSnapshot) request.updates().get(0)).snapshot();
+  }
+
+  private TableOperations operations(TableIdentifier tableIdentifier) {
+    return ((HasTableOperations) catalogWrapper.getCatalog().loadTable(tableIdentifier))
+        .operations();
+  }
+
+  private static DataFile dataFile(String fileName) {
+    return DataFiles.builder(PartitionSpec.unpartitioned())
+        .withPath("/tmp/db/data/" + fileName + ".parquet")
+        .withFileSizeInBytes(100)
+        .withRecordCount(1)
+        .build();
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.service.dispatcher;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
+import java.util.Collections;
+import javax.servlet.http.HttpServletRequest;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.iceberg.service.rest.DummyEventListener;
+import org.apache.gravitino.listener.EventBus;
+import org.apache.gravitino.listener.api.event.IcebergRequestContext;
+import org.apache.gravitino.listener.api.event.IcebergUpdateTableEvent;
+import org.apache.gravitino.listener.api.event.IcebergUpdateTableFailureEvent;
+import org.apache.gravitino.listener.api.event.IcebergUpdateTablePreEvent;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.TableMetadata;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.rest.requests.CommitTransactionRequest;
+import org.apache.iceberg.rest.requests.UpdateTableRequest;
+import org.apache.iceberg.rest.responses.LoadTableResponse;
+import org.apache.iceberg.types.Types;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestIcebergTableEventDispatcher {
+
+  private static final String METALAKE_NAME = "metalake";
+  private static final String CATALOG_NAME = "catalog";
+  private static final TableIdentifier TABLE_1 = TableIdentifier.of("db", "t1");
+  private static final TableIdentifier TABLE_2 = TableIdentifier.of("db", "t2");
+
+  private IcebergTableOperationDispatcher operationDispatcher;
+  private DummyEventListener eventListener;
+  private IcebergTableEventDispatcher eventDispatcher;
+  private IcebergRequestContext context;
+
+  @BeforeEach
+  void setUp() {
+    operationDispatcher = mock(IcebergTableOperationDispatcher.class);
+    eventListener = new DummyEventListener();
+    eventDispatcher =
+        new IcebergTableEventDispatcher(
+            operationDispatcher,
+            new EventBus(Arrays.asList(eventListener)),
+            METALAKE_NAME);
+
+    HttpServletRequest httpRequest = mock(HttpServletRequest.class);
+    when(httpRequest.getHeaderNames()).thenReturn(Collections.emptyEnumeration());
+    context = new IcebergRequestContext(httpRequest, CATALOG_NAME);
+  }
+
+  @Test
+  void testCommitTransaction() {
+    TableMetadata metadata =
+        TableMetadata.newTableMetadata(
+            new Schema(Types.NestedField.required(1, "id", Types.LongType.get())),
+            PartitionSpec.unpartitioned(),
+            "file:/tmp/db/t1",
+            ImmutableMap.of());
+    when(operationDispatcher.loadTable(any(), eq(TABLE_1)))
+        .thenReturn(LoadTableResponse.builder().withTableMetadata(metadata).build());
+    // The table failed to load still gets its update table event
+    when(operationDispatcher.loadTable(any(), eq(TABLE_2)))
+        .thenThrow(new RuntimeException("mock error"));
+
+    eventDispatcher.commitTransaction(
+        context, new CommitTransactionRequest(Arrays.asList(change(TABLE_1), change(TABLE_2))));
+
+    IcebergUpdateTableEvent event = (IcebergUpdateTableEvent) eventListener.popPostEvent();
+    Assertions.assertEquals(tableIdent(TABLE_2), event.identifier());
+    Assertions.assertNull(event.loadTableResponse());
+    event = (IcebergUpdateTableEvent) eventListener.popPostEvent();
+    Assertions.assertEquals(tableIdent(TABLE_1), event.identifier());
+    Assertions.assertEquals(
+        metadata.location(), event.loadTableResponse().tableMetadata().location());
+    Assertions.assertTrue(eventListener.popPreEvent() instanceof IcebergUpdateTablePreEvent);
+    Assertions.assertTrue(eventListener.popPreEvent() instanceof IcebergUpdateTablePreEvent);
+  }
+
+  @Test
+  void testCommitTransactionFailure() {
+    doThrow(new RuntimeException("mock error"))
+        .when(operationDispatcher)
+        .commitTransaction(any(), any());
+
+    Assertions.assertThrows(
+        RuntimeException.class,
+        () ->
+            eventDispatcher.commitTransaction(
+                context, new CommitTransactionRequest(Arrays.asList(change(TABLE_1)))));
+
+    IcebergUpdateTableFailureEvent event =
+        (IcebergUpdateTableFailureEvent) eventListener.popPostEvent();
+    Assertions.assertEquals(tableIdent(TABLE_1), event.identifier());
+    Assertions.assertThrows(AssertionError.class, eventListener::popPostEvent);
+  }
+
+  private static UpdateTableRequest change(TableIdentifier tableIdentifier) {
+    return UpdateTableRequest.create(
+        tableIdentifier, Collections.emptyList(), Collections.emptyList());
+  }
+
+  private static NameIdentifier tableIdent(TableIdentifier tableIdentifier) {
+    return NameIdentifier.of(METALAKE_NAME, CATALOG_NAME, "db", tableIdentifier.name());
+  }
+}
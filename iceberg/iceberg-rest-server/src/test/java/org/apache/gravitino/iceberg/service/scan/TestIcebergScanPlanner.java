@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.service.scan;
+
+import com.google.common.collect.ImmutableMap;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.gravitino.catalog.lakehouse.iceberg.IcebergConstants;
+import org.apache.gravitino.iceberg.common.IcebergConfig;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.Metrics;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.catalog.Namespace;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.exceptions.NotFoundException;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.inmemory.InMemoryCatalog;
+import org.apache.iceberg.rest.PlanStatus;
+import org.apache.iceberg.rest.requests.FetchScanTasksRequest;
+import org.apache.iceberg.rest.requests.PlanTableScanRequest;
+import org.apache.iceberg.rest.responses.FetchPlanningResultResponse;
+import org.apache.iceberg.rest.responses.PlanTableScanResponse;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Types;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestIcebergScanPlanner {
+
+  private static final String CATALOG_NAME = "test_catalog";
+  private static final TableIdentifier TABLE_IDENTIFIER = TableIdentifier.of("db", "tbl");
+  private static final Schema SCHEMA =
+      new Schema(Types.NestedField.required(1, "id", Types.LongType.get()));
+
+  private InMemoryCatalog catalog;
+  private IcebergScanPlanner scanPlanner;
+
+  @BeforeEach
+  void setUp() {
+    catalog = new InMemoryCatalog();
+    catalog.initialize(CATALOG_NAME, ImmutableMap.of());
+    catalog.createNamespace(Namespace.of("db"));
+    Table table = catalog.createTable(TABLE_IDENTIFIER, SCHEMA);
+    // Every append writes a new manifest.
+    for (int i = 0; i < 5; i++) {
+      table.newAppend().appendFile(dataFile(i)).commit();
+    }
+
+    IcebergConfig config =
+        new IcebergConfig(
+            ImmutableMap.of(
+                IcebergConstants.ICEBERG_REST_SCAN_PLANNING_PAGE_SIZE,
+                "2",
+                IcebergConstants.ICEBERG_REST_SCAN_PLANNING_THREADS,
+                "2"));
+    scanPlanner = new IcebergScanPlanner(config);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    scanPlanner.close();
+    catalog.close();
+  }
+
+  @Test
+  void testPlanTableScanInPages() {
+    PlanTableScanResponse response =
+        scanPlanner.planTableScan(
+            CATALOG_NAME,
+            TABLE_IDENTIFIER,
+            catalog.loadTable(TABLE_IDENTIFIER),
+            PlanTableScanRequest.builder().build());
+    Assertions.assertEquals(PlanStatus.COMPLETED, response.planStatus());
+    Assertions.assertEquals(2, response.fileScanTasks().size());
+    Assertions.assertNotNull(response.planId());
+    Assertions.assertEquals(2, response.planTasks().size());
+
+    List<String> paths = new ArrayList<>(locations(response.fileScanTasks()));
+    for (String planTask : response.planTasks()) {
+      paths.addAll(
+          locations(
+              scanPlanner
+                  .fetchScanTasks(
+                      CATALOG_NAME, TABLE_IDENTIFIER, new FetchScanTasksRequest(planTask))
+                  .fileScanTasks()));
+    }
+    Assertions.assertEquals(5, paths.size());
+    Assertions.assertEquals(5, paths.stream().distinct().count());
+
+    FetchPlanningResultResponse result =
+        scanPlanner.fetchPlanningResult(CATALOG_NAME, TABLE_IDENTIFIER, response.planId());
+    Assertions.assertEquals(PlanStatus.COMPLETED, result.planStatus());
+    Assertions.assertEquals(3, result.planTasks().size());
+
+    // The plan belongs to the table it is planned for.
+    Assertions.assertThrows(
+        NotFoundException.class,
+        () ->
+            scanPlanner.fetchPlanningResult(
+                CATALOG_NAME, TableIdentifier.of("db", "other"), response.planId()));
+
+    scanPlanner.cancelPlanning(CATALOG_NAME, TABLE_IDENTIFIER, response.planId());
+    Assertions.assertThrows(
+        NotFoundException.class,
+        () ->
+            scanPlanner.fetchScanTasks(
+                CATALOG_NAME,
+                TABLE_IDENTIFIER,
+                new FetchScanTasksRequest(response.planTasks().get(0))));
+  }
+
+  @Test
+  void testPlanTableScanWithFilter() {
+    PlanTableScanRequest request =
+        PlanTableScanRequest.builder()
+            .withFilter(Expressions.equal("id", 3L))
+            .build();
+    PlanTableScanResponse response =
+        scanPlanner.planTableScan(
+            CATALOG_NAME, TABLE_IDENTIFIER, catalog.loadTable(TABLE_IDENTIFIER), request);
+    Assertions.assertEquals(1, response.fileScanTasks().size());
+    Assertions.assertNull(response.planId());
+    Assertions.assertTrue(response.fileScanTasks().get(0).file().location().endsWith("3.parquet"));
+  }
+
+  @Test
+  void testScanPlansAreBoundedByTasks() {
+    IcebergConfig config =
+        new IcebergConfig(
+            ImmutableMap.of(
+                IcebergConstants.ICEBERG_REST_SCAN_PLANNING_PAGE_SIZE,
+                "2",
+                IcebergConstants.ICEBERG_REST_SCAN_PLAN_MAX_TOTAL_TASKS,
+                "8"));
+    try (IcebergScanPlanner planner = new IcebergScanPlanner(config)) {
+      List<String> planIds = new ArrayList<>();
+      for (int i = 0; i < 2; i++) {
+        planIds.add(
+            planner
+                .planTableScan(
+                    CATALOG_NAME,
+                    TABLE_IDENTIFIER,
+                    catalog.loadTable(TABLE_IDENTIFIER),
+                    PlanTableScanRequest.builder().build())
+                .planId());
+      }
+
+      // Each plan keeps 5 tasks, so only one of them fits.
+      Assertions.assertEquals(1, planner.scanPlanCount());
+      long fetchablePlans =
+          planIds.stream()
+              .filter(
+                  planId -> {
+                    try {
+                      planner.fetchPlanningResult(CATALOG_NAME, TABLE_IDENTIFIER, planId);
+                      return true;
+                    } catch (NotFoundException e) {
+                      return false;
+                    }
+                  })
+              .count();
+      Assertions.assertEquals(1, fetchablePlans);
+    }
+  }
+
+  @Test
+  void testManifestsAreCached() {
+    for (int i = 0; i < 2; i++) {
+      scanPlanner.planTableScan(
+          CATALOG_NAME,
+          TABLE_IDENTIFIER,
+          catalog.loadTable(TABLE_IDENTIFIER),
+          PlanTableScanRequest.builder().build());
+    }
+    Assertions.assertTrue(scanPlanner.manifestCache().stats().hitCount() > 0);
+  }
+
+  private static DataFile dataFile(long id) {
+    ByteBuffer bound = Conversions.toByteBuffer(Types.LongType.get(), id);
+    return DataFiles.builder(PartitionSpec.unpartitioned())
+        .withPath("/tmp/db/tbl/data/" + id + ".parquet")
+        .withFileSizeInBytes(100)
+        .withMetrics(
+            new Metrics(
+                1L, null, null, null, null, ImmutableMap.of(1, bound), ImmutableMap.of(1, bound)))
+        .build();
+  }
+
+  private static List<String> locations(List<FileScanTask> tasks) {
+    return tasks.stream().map(task -> task.file().location()).collect(Collectors.toList());
+  }
+}
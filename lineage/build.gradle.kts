@@ -19,9 +19,11 @@
 
 plugins {
   id("java")
+  alias(libs.plugins.jmh)
 }
 
 dependencies {
+  implementation(project(":api"))
   implementation(project(":common"))
   implementation(project(":core"))
   implementation(project(":server-common"))
@@ -57,3 +59,17 @@ dependencies {
 
   testRuntimeOnly(libs.junit.jupiter.engine)
 }
+
+tasks.named<JavaCompile>("jmhCompileGeneratedClasses").configure {
+  options.errorprone?.isEnabled = false
+  options.compilerArgs.removeAll { it.contains("Xplugin:ErrorProne") }
+}
+
+jmh {
+  jmhVersion.set(libs.versions.jmh.asProvider())
+  warmupIterations = 3
+  iterations = 5
+  fork = 1
+  resultFormat = "csv"
+  resultsFile = file("$buildDir/reports/jmh/results.csv")
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lineage.graph;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * LineageGraphStoreBenchmark benchmarks the {@link LineageGraphStore} on graphs with millions of
+ * edges.
+ *
+ * <p>The graph is generated randomly, each job reads two datasets and writes two datasets, so the
+ * number of jobs and datasets are both a quarter of the number of edges. The edges are added in
+ * batches when the benchmark is set up, and the time to build the graph is logged.
+ *
+ * <p>It includes three benchmark methods:
+ *
+ * <ul>
+ *   <li>{@code benchmarkUpstream}: Traverses the upstream of a random dataset by three jobs.
+ *   <li>{@code benchmarkDownstream}: Traverses the downstream of a random dataset by three jobs.
+ *   <li>{@code benchmarkAddEdges}: Adds a batch of the edges of new jobs to the graph.
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class LineageGraphStoreBenchmark {
+  private static final Logger LOG = LoggerFactory.getLogger(LineageGraphStoreBenchmark.class);
+  private static final String NAMESPACE = "metalake";
+  private static final int BATCH_SIZE = 10000;
+  private static final int DEPTH = 3;
+  private static final int MAX_NODES = 1000;
+
+  @Param({"1000000", "5000000"})
+  public int edgeCnt;
+
+  private Path dir;
+  private LineageGraphStore store;
+  private int datasetCnt;
+  private int jobCnt;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    this.dir = Files.createTempDirectory("lineage-graph-benchmark");
+    this.store = new LineageGraphStore(dir.resolve("lineage-graph.log"), false);
+    this.datasetCnt = edgeCnt / 4;
+
+    Random random = new Random(0);
+    List<LineageEdge> batch = new ArrayList<>(BATCH_SIZE);
+    long start = System.currentTimeMillis();
+    for (jobCnt = 0; jobCnt < edgeCnt / 4; jobCnt++) {
+      addJobEdges(batch, jobCnt, random);
+      if (batch.size() >= BATCH_SIZE) {
+        store.addEdges(batch);
+        batch.clear();
+      }
+    }
+    store.addEdges(batch);
+    LOG.info(
+        "Built lineage graph with {} nodes and {} edges in {} ms",
+        store.nodeCount(),
+        store.edgeCount(),
+        System.currentTimeMillis() - start);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    store.close();
+    try (Stream<Path> paths = Files.walk(dir)) {
+      for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+        Files.delete(path);
+      }
+    }
+  }
+
+  @Benchmark
+  public LineageGraph benchmarkUpstream() {
+    return store.traverse(randomDataset(), LineageGraph.Direction.UPSTREAM, 2 * DEPTH, MAX_NODES);
+  }
+
+  @Benchmark
+  public LineageGraph benchmarkDownstream() {
+    return store.traverse(randomDataset(), LineageGraph.Direction.DOWNSTREAM, 2 * DEPTH, MAX_NODES);
+  }
+
+  @Benchmark
+  public int benchmarkAddEdges() {
+    List<LineageEdge> batch = new ArrayList<>();
+    synchronized (this) {
+      for (int i = 0; i < 250; i++) {
+        addJobEdges(batch, jobCnt++, ThreadLocalRandom.current());
+      }
+    }
+    return store.addEdges(batch);
+  }
+
+  private LineageNode randomDataset() {
+    return dataset(ThreadLocalRandom.current().nextInt(datasetCnt));
+  }
+
+  private LineageNode dataset(int index) {
+    return LineageNode.dataset(NAMESPACE, "catalog.schema.table_" + index);
+  }
+
+  private void addJobEdges(List<LineageEdge> batch, int jobIndex, Random random) {
+    LineageNode job = LineageNode.job(NAMESPACE, "job_" + jobIndex);
+    for (int i = 0; i < 2; i++) {
+      batch.add(new LineageEdge(dataset(random.nextInt(datasetCnt)), job));
+      batch.add(new LineageEdge(job, dataset(random.nextInt(datasetCnt))));
+    }
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lineage;
+
+import com.codahale.metrics.Counter;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.MetricsSource;
+
+/**
+ * The metrics source of {@link LineageService}, it reports the lineage events dispatched to the
+ * sinks and the events rejected because the sinks are overloaded.
+ */
+public class LineageMetricsSource extends MetricsSource {
+
+  private final Counter eventsDispatched;
+  private final Counter eventsRejected;
+
+  public LineageMetricsSource() {
+    super(MetricsSource.LINEAGE_METRIC_NAME);
+    this.eventsDispatched = getCounter(MetricNames.LINEAGE_EVENTS_DISPATCHED);
+    this.eventsRejected = getCounter(MetricNames.LINEAGE_EVENTS_REJECTED);
+  }
+
+  /** @return The counter of the lineage events dispatched to the sinks. */
+  public Counter eventsDispatched() {
+    return eventsDispatched;
+  }
+
+  /** @return The counter of the lineage events rejected by the high watermark of the sinks. */
+  public Counter eventsRejected() {
+    return eventsRejected;
+  }
+}
@@ -19,24 +19,37 @@
 
 package org.apache.gravitino.lineage;
 
+import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableSet;
 import io.openlineage.server.OpenLineage;
 import io.openlineage.server.OpenLineage.RunEvent;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.lineage.graph.LineageGraphStore;
+import org.apache.gravitino.lineage.graph.rest.LineageGraphOperations;
 import org.apache.gravitino.lineage.processor.LineageProcessor;
+import org.apache.gravitino.lineage.sink.LineageGraphSink;
 import org.apache.gravitino.lineage.sink.LineageSinkManager;
 import org.apache.gravitino.lineage.source.LineageSource;
+import org.apache.gravitino.metrics.MetricsSystem;
 import org.apache.gravitino.server.web.SupportsRESTPackages;
 import org.apache.gravitino.utils.ClassUtils;
+import org.apache.gravitino.utils.MapUtils;
 
 /**
  * The LineageService manages the life cycle of lineage sinks, sources, and processors. It provides
  * {@code dispatchLineageEvent} method for lineage source to dispatch lineage events to the sinks.
  */
 public class LineageService implements LineageDispatcher, SupportsRESTPackages {
+  private final LineageMetricsSource metricsSource = new LineageMetricsSource();
   private LineageSinkManager sinkManager;
   private LineageSource source;
   private LineageProcessor processor;
+  private LineageGraphSink graphSink;
 
   public void initialize(LineageConfig lineageConfig) {
     String sourceName = lineageConfig.source();
@@ -47,8 +60,34 @@ public class LineageService implements LineageDispatcher, SupportsRESTPackages {
     String processorClassName = lineageConfig.processorClass();
     this.processor = ClassUtils.loadClass(processorClassName);
 
-    sinkManager.initialize(lineageConfig.sinks(), lineageConfig.getSinkConfigs());
+    Map<String, String> sinkConfigs = lineageConfig.getSinkConfigs();
+    // The graph sink is owned by the service instead of an event listener, so that its store could
+    // be served to the lineage graph REST APIs.
+    String graphSinkClass = LineageGraphSink.class.getName();
+    List<String> graphSinks =
+        lineageConfig.sinks().stream()
+            .filter(
+                sink ->
+                    graphSinkClass.equals(
+                        sinkConfigs.get(sink + "." + LineageConfig.LINEAGE_SINK_CLASS_NAME)))
+            .collect(Collectors.toList());
+    Preconditions.checkArgument(
+        graphSinks.size() <= 1, "Only one lineage graph sink is allowed, but got %s", graphSinks);
+    if (!graphSinks.isEmpty()) {
+      this.graphSink = new LineageGraphSink();
+      graphSink.initialize(MapUtils.getPrefixMap(sinkConfigs, graphSinks.get(0) + "."));
+    }
+    List<String> sinks =
+        lineageConfig.sinks().stream()
+            .filter(sink -> !graphSinks.contains(sink))
+            .collect(Collectors.toList());
+    sinkManager.initialize(sinks, sinkConfigs);
     source.initialize(lineageConfig.getConfigsWithPrefix(sourceName), this);
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
   }
 
   @Override
@@ -61,24 +100,46 @@ public class LineageService implements LineageDispatcher, SupportsRESTPackages {
       sinkManager.close();
       sinkManager = null;
     }
+    if (graphSink != null) {
+      graphSink.close();
+      graphSink = null;
+    }
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
   }
 
   @Override
   public boolean dispatchLineageEvent(OpenLineage.RunEvent runEvent) {
     if (sinkManager.isHighWatermark()) {
+      metricsSource.eventsRejected().inc();
       return false;
     }
 
     RunEvent newEvent = processor.process(runEvent);
     sinkManager.sink(newEvent);
+    if (graphSink != null) {
+      graphSink.sink(newEvent);
+    }
+    metricsSource.eventsDispatched().inc();
     return true;
   }
 
+  /** @return The store of the lineage graph sink, or empty if the graph sink is not enabled. */
+  public Optional<LineageGraphStore> graphStore() {
+    return graphSink == null ? Optional.empty() : graphSink.graphStore();
+  }
+
   @Override
   public Set<String> getRESTPackages() {
+    ImmutableSet.Builder<String> packages = ImmutableSet.builder();
     if (source instanceof SupportsRESTPackages) {
-      return ((SupportsRESTPackages) source).getRESTPackages();
+      packages.addAll(((SupportsRESTPackages) source).getRESTPackages());
+    }
+    if (graphSink != null) {
+      packages.add(LineageGraphOperations.class.getPackage().getName());
     }
-    return ImmutableSet.of();
+    return packages.build();
   }
 }
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lineage.graph;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import java.util.Objects;
+
+/**
+ * A directed edge of the lineage graph, the data flows from the source node to the target node,
+ * that is from an input dataset to a job, or from a job to an output dataset.
+ */
+public final class LineageEdge {
+
+  private final LineageNode source;
+  private final LineageNode target;
+
+  /**
+   * Creates a lineage edge.
+   *
+   * @param source The upstream node of the edge.
+   * @param target The downstream node of the edge.
+   */
+  public LineageEdge(LineageNode source, LineageNode target) {
+    Preconditions.checkArgument(source != null, "Lineage edge source must not be null");
+    Preconditions.checkArgument(target != null, "Lineage edge target must not be null");
+    this.source = source;
+    this.target = target;
+  }
+
+  /** @return The upstream node of the edge. */
+  @JsonProperty("source")
+  public LineageNode source() {
+    return source;
+  }
+
+  /** @return The downstream node of the edge. */
+  @JsonProperty("target")
+  public LineageNode target() {
+    return target;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof LineageEdge)) {
+      return false;
+    }
+    LineageEdge that = (LineageEdge) o;
+    return source.equals(that.source) && target.equals(that.target);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(source, target);
+  }
+
+  @Override
+  public String toString() {
+    return source + " -> " + target;
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lineage.graph;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * A sub graph of the lineage graph reached from a node by traversing the edges in one direction. It
+ * contains the reached nodes with their distances to the start node, and the traversed edges.
+ */
+public final class LineageGraph {
+
+  /** The direction to traverse the lineage graph. */
+  public enum Direction {
+    /** Follows the edges from the targets to the sources, finds where the data comes from. */
+    UPSTREAM,
+    /** Follows the edges from the sources to the targets, finds where the data flows to. */
+    DOWNSTREAM
+  }
+
+  /** A node reached by the traversal and the number of edges between it and the start node. */
+  public static final class Hop {
+    private final LineageNode node;
+    private final int distance;
+
+    Hop(LineageNode node, int distance) {
+      this.node = node;
+      this.distance = distance;
+    }
+
+    /** @return The reached node. */
+    @JsonProperty("node")
+    @JsonUnwrapped
+    public LineageNode node() {
+      return node;
+    }
+
+    /** @return The number of edges between the node and the start node. */
+    @JsonProperty("distance")
+    public int distance() {
+      return distance;
+    }
+  }
+
+  private final List<Hop> nodes;
+  private final List<LineageEdge> edges;
+  private final boolean truncated;
+
+  LineageGraph(List<Hop> nodes, List<LineageEdge> edges, boolean truncated) {
+    this.nodes = ImmutableList.copyOf(nodes);
+    this.edges = ImmutableList.copyOf(edges);
+    this.truncated = truncated;
+  }
+
+  /** @return The reached nodes, including the start node, in the order they are reached. */
+  public List<Hop> nodes() {
+    return nodes;
+  }
+
+  /** @return The traversed edges between the reached nodes. */
+  public List<LineageEdge> edges() {
+    return edges;
+  }
+
+  /** @return True if the traversal stopped early because it reached the max number of nodes. */
+  public boolean truncated() {
+    return truncated;
+  }
+
+  /**
+   * Returns the sub graph with only the visible nodes, the edges from or to the invisible nodes are
+   * removed as well.
+   *
+   * @param visible The predicate to test whether a node is visible.
+   * @return The sub graph with only the visible nodes.
+   */
+  public LineageGraph filter(Predicate<LineageNode> visible) {
+    List<Hop> visibleNodes =
+        nodes.stream().filter(hop -> visible.test(hop.node())).collect(Collectors.toList());
+    if (visibleNodes.size() == nodes.size()) {
+      return this;
+    }
+
+    List<LineageEdge> visibleEdges =
+        edges.stream()
+            .filter(edge -> visible.test(edge.source()) && visible.test(edge.target()))
+            .collect(Collectors.toList());
+    return new LineageGraph(visibleNodes, visibleEdges, truncated);
+  }
+}
@@ -0,0 +1,471 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lineage.graph;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.io.CountingInputStream;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An embedded lineage graph store. The nodes and edges are appended to a log file, and indexed in
+ * memory by integer node ids with the upstream and downstream adjacency lists, the log is replayed
+ * to rebuild the index when the store is opened.
+ *
+ * <p>The log starts with a header of a magic number and a version, followed by the records:
+ *
+ * <ul>
+ *   <li>Node record: {@code 1 | node id (int) | type (byte) | namespace | name}, written when a
+ *       node is seen for the first time. The strings are encoded in UTF-8 and prefixed by the
+ *       length of the bytes (int).
+ *   <li>Edge record: {@code 2 | source node id (int) | target node id (int)}, written when an edge
+ *       is seen for the first time.
+ * </ul>
+ *
+ * A partially written record at the end of the log, left by a crash, is truncated when the store is
+ * opened. The records of a batch are encoded in memory before any of them is written, and a batch
+ * which fails to be written is truncated from the log, so the log always matches the in-memory
+ * index. If the truncation fails as well, the store refuses to write any more edges.
+ */
+public class LineageGraphStore implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(LineageGraphStore.class);
+
+  private static final int MAGIC = 0x474c4753;
+  private static final byte VERSION = 1;
+  private static final int HEADER_LENGTH = Integer.BYTES + Byte.BYTES;
+  private static final byte NODE_RECORD = 1;
+  private static final byte EDGE_RECORD = 2;
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final Path logFile;
+  private final boolean syncOnWrite;
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private final Map<LineageNode, Integer> nodeIds = new HashMap<>();
+  private final List<LineageNode> nodes = new ArrayList<>();
+  private final Set<Long> edges = new HashSet<>();
+  private final Adjacency downstream = new Adjacency();
+  private final Adjacency upstream = new Adjacency();
+
+  private final FileChannel channel;
+  private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(BUFFER_SIZE);
+  private final DataOutputStream output = new DataOutputStream(buffer);
+  // The length of the log after the last batch written successfully.
+  private long committedLength;
+  private IOException failure;
+
+  /**
+   * Opens the lineage graph store, the log file is created if it doesn't exist, or replayed to
+   * rebuild the index if it exists.
+   *
+   * @param logFile The path of the log file.
+   * @param syncOnWrite Whether to force the log to the storage device after each batch of edges.
+   * @throws IOException If the log file can't be created or read.
+   */
+  public LineageGraphStore(Path logFile, boolean syncOnWrite) throws IOException {
+    this.logFile = logFile;
+    this.syncOnWrite = syncOnWrite;
+
+    Path parent = logFile.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    long validLength = Files.exists(logFile) ? replay() : 0;
+
+    this.channel = FileChannel.open(logFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+    if (channel.size() > validLength) {
+      LOG.warn(
+          "Truncate the incomplete records at the end of lineage graph log {} from {} to {} bytes",
+          logFile,
+          channel.size(),
+          validLength);
+      channel.truncate(validLength);
+    }
+    channel.position(validLength);
+    this.committedLength = validLength;
+
+    if (validLength == 0) {
+      output.writeInt(MAGIC);
+      output.writeByte(VERSION);
+      commit();
+    }
+    LOG.info(
+        "Opened lineage graph store {} with {} nodes and {} edges",
+        logFile,
+        nodes.size(),
+        edges.size());
+  }
+
+  /**
+   * Adds the edges to the graph, the edges already in the graph are skipped. The new nodes and
+   * edges are appended to the log and flushed once for the whole batch, they are added to the
+   * graph only if the batch is written to the log.
+   *
+   * @param batch The edges to add.
+   * @return The number of the edges added to the graph.
+   */
+  public int addEdges(Collection<LineageEdge> batch) {
+    lock.writeLock().lock();
+    try {
+      if (failure != null) {
+        throw new IOException("The lineage graph log failed and refuses writes", failure);
+      }
+
+      List<LineageNode> newNodes = new ArrayList<>();
+      Map<LineageNode, Integer> newNodeIds = new HashMap<>();
+      Set<Long> newEdges = new LinkedHashSet<>();
+      for (LineageEdge edge : batch) {
+        int source = getOrCreateNodeId(edge.source(), newNodes, newNodeIds);
+        int target = getOrCreateNodeId(edge.target(), newNodes, newNodeIds);
+        long edgeKey = edgeKey(source, target);
+        if (!edges.contains(edgeKey) && newEdges.add(edgeKey)) {
+          output.writeByte(EDGE_RECORD);
+          output.writeInt(source);
+          output.writeInt(target);
+        }
+      }
+      commit();
+
+      for (LineageNode node : newNodes) {
+        nodeIds.put(node, nodes.size());
+        nodes.add(node);
+      }
+      for (long edgeKey : newEdges) {
+        int source = (int) (edgeKey >>> 32);
+        int target = (int) edgeKey;
+        edges.add(edgeKey);
+        downstream.add(source, target);
+        upstream.add(target, source);
+      }
+      return newEdges.size();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to append lineage edges to " + logFile, e);
+    } finally {
+      buffer.reset();
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Traverses the graph from the start node in breadth-first order.
+   *
+   * @param start The node to start from.
+   * @param direction The direction to follow the edges.
+   * @param maxDistance The max number of edges between the reached nodes and the start node.
+   * @param maxNodes The max number of the reached nodes, including the start node.
+   * @return The traversed sub graph, or null if the start node is not in the graph.
+   */
+  public LineageGraph traverse(
+      LineageNode start, LineageGraph.Direction direction, int maxDistance, int maxNodes) {
+    Preconditions.checkArgument(maxDistance >= 0, "Max distance must not be negative");
+    Preconditions.checkArgument(maxNodes > 0, "Max nodes must be positive");
+
+    lock.readLock().lock();
+    try {
+      Integer startId = nodeIds.get(start);
+      if (startId == null) {
+        return null;
+      }
+
+      Adjacency adjacency = direction == LineageGraph.Direction.UPSTREAM ? upstream : downstream;
+      Map<Integer, Integer> distances = new HashMap<>();
+      Deque<Integer> queue = new ArrayDeque<>();
+      List<LineageGraph.Hop> hops = new ArrayList<>();
+      List<LineageEdge> traversedEdges = new ArrayList<>();
+      boolean truncated = false;
+
+      distances.put(startId, 0);
+      queue.add(startId);
+      hops.add(new LineageGraph.Hop(start, 0));
+      while (!queue.isEmpty()) {
+        int current = queue.poll();
+        int distance = distances.get(current);
+        if (distance == maxDistance) {
+          continue;
+        }
+
+        for (int i = 0; i < adjacency.size(current); i++) {
+          int neighbor = adjacency.get(current, i);
+          if (!distances.containsKey(neighbor)) {
+            if (hops.size() >= maxNodes) {
+              truncated = true;
+              continue;
+            }
+            distances.put(neighbor, distance + 1);
+            queue.add(neighbor);
+            hops.add(new LineageGraph.Hop(nodes.get(neighbor), distance + 1));
+          }
+
+          LineageNode currentNode = nodes.get(current);
+          LineageNode neighborNode = nodes.get(neighbor);
+          traversedEdges.add(
+              direction == LineageGraph.Direction.UPSTREAM
+                  ? new LineageEdge(neighborNode, currentNode)
+                  : new LineageEdge(currentNode, neighborNode));
+        }
+      }
+      return new LineageGraph(hops, traversedEdges, truncated);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /** @return The number of the nodes in the graph. */
+  public int nodeCount() {
+    lock.readLock().lock();
+    try {
+      return nodes.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /** @return The number of the edges in the graph. */
+  public int edgeCount() {
+    lock.readLock().lock();
+    try {
+      return edges.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    lock.writeLock().lock();
+    try {
+      channel.close();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @VisibleForTesting
+  Path logFile() {
+    return logFile;
+  }
+
+  private int getOrCreateNodeId(
+      LineageNode node, List<LineageNode> newNodes, Map<LineageNode, Integer> newNodeIds)
+      throws IOException {
+    Integer id = nodeIds.get(node);
+    if (id == null) {
+      id = newNodeIds.get(node);
+    }
+    if (id != null) {
+      return id;
+    }
+
+    int newId = nodes.size() + newNodes.size();
+    output.writeByte(NODE_RECORD);
+    output.writeInt(newId);
+    output.writeByte(node.type().ordinal());
+    writeString(node.namespace());
+    writeString(node.name());
+    newNodeIds.put(node, newId);
+    newNodes.add(node);
+    return newId;
+  }
+
+  private void writeString(String value) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    output.writeInt(bytes.length);
+    output.write(bytes);
+  }
+
+  // Writes the encoded records to the log, the log is truncated to the last committed length if
+  // any of them fails to be written.
+  private void commit() throws IOException {
+    ByteBuffer records = ByteBuffer.wrap(buffer.toByteArray());
+    buffer.reset();
+    try {
+      while (records.hasRemaining()) {
+        channel.write(records);
+      }
+      if (syncOnWrite) {
+        channel.force(false);
+      }
+    } catch (IOException e) {
+      rollback(e);
+      throw e;
+    }
+    committedLength += records.limit();
+  }
+
+  private void rollback(IOException cause) {
+    try {
+      channel.truncate(committedLength);
+      channel.position(committedLength);
+    } catch (IOException e) {
+      cause.addSuppressed(e);
+      failure = cause;
+      LOG.error(
+          "Failed to truncate the lineage graph log {} to {} bytes, refuse further writes",
+          logFile,
+          committedLength,
+          e);
+    }
+  }
+
+  // Replays the log to rebuild the index, returns the length of the complete records.
+  private long replay() throws IOException {
+    try (InputStream fileInput = Files.newInputStream(logFile);
+        CountingInputStream counter =
+            new CountingInputStream(new BufferedInputStream(fileInput, BUFFER_SIZE))) {
+      DataInputStream input = new DataInputStream(counter);
+      long validLength = 0;
+      try {
+        int magic = input.readInt();
+        byte version = input.readByte();
+        if (magic != MAGIC || version != VERSION) {
+          throw new IOException(
+              String.format(
+                  "%s is not a lineage graph log of version %d, magic: %x, version: %d",
+                  logFile, VERSION, magic, version));
+        }
+        validLength = HEADER_LENGTH;
+
+        while (true) {
+          byte recordType = input.readByte();
+          if (recordType == NODE_RECORD) {
+            replayNode(input);
+          } else if (recordType == EDGE_RECORD) {
+            replayEdge(input);
+          } else {
+            throw new IOException(
+                String.format(
+                    "Unknown record type %d at offset %d of lineage graph log %s",
+                    recordType, validLength, logFile));
+          }
+          validLength = counter.getCount();
+        }
+      } catch (EOFException e) {
+        return validLength;
+      }
+    }
+  }
+
+  private void replayNode(DataInputStream input) throws IOException {
+    int id = input.readInt();
+    LineageNode.Type type = LineageNode.Type.values()[input.readByte()];
+    String namespace = readString(input);
+    String name = readString(input);
+    if (id != nodes.size()) {
+      throw new IOException(
+          String.format(
+              "Unexpected node id %d in lineage graph log %s, expected: %d",
+              id, logFile, nodes.size()));
+    }
+    LineageNode node = LineageNode.of(type, namespace, name);
+    nodeIds.put(node, id);
+    nodes.add(node);
+  }
+
+  private String readString(DataInputStream input) throws IOException {
+    int length = input.readInt();
+    if (length < 0) {
+      throw new IOException(
+          String.format("Invalid string length %d in lineage graph log %s", length, logFile));
+    }
+    byte[] bytes = new byte[length];
+    input.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private void replayEdge(DataInputStream input) throws IOException {
+    int source = input.readInt();
+    int target = input.readInt();
+    if (source >= nodes.size() || target >= nodes.size()) {
+      throw new IOException(
+          String.format(
+              "Unknown node of edge %d -> %d in lineage graph log %s", source, target, logFile));
+    }
+    if (edges.add(edgeKey(source, target))) {
+      downstream.add(source, target);
+      upstream.add(target, source);
+    }
+  }
+
+  private static long edgeKey(int source, int target) {
+    return ((long) source << 32) | (target & 0xFFFFFFFFL);
+  }
+
+  // The adjacency lists of all the nodes, indexed by the node ids.
+  private static class Adjacency {
+    private int[][] lists = new int[16][];
+    private int[] sizes = new int[16];
+
+    void add(int node, int neighbor) {
+      if (node >= sizes.length) {
+        int capacity = Math.max(node + 1, sizes.length * 2);
+        lists = Arrays.copyOf(lists, capacity);
+        sizes = Arrays.copyOf(sizes, capacity);
+      }
+
+      int[] list = lists[node];
+      int size = sizes[node];
+      if (list == null) {
+        list = new int[2];
+        lists[node] = list;
+      } else if (size == list.length) {
+        list = Arrays.copyOf(list, size * 2);
+        lists[node] = list;
+      }
+      list[size] = neighbor;
+      sizes[node] = size + 1;
+    }
+
+    int size(int node) {
+      return node < sizes.length ? sizes[node] : 0;
+    }
+
+    int get(int node, int index) {
+      return lists[node][index];
+    }
+  }
+}
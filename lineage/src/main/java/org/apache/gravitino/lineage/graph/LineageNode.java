@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lineage.graph;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import java.util.Objects;
+
+/**
+ * A node of the lineage graph, which is either a dataset or a job identified by the OpenLineage
+ * namespace and name. For the datasets managed by Gravitino, the namespace is the metalake name and
+ * the name is the full name of the metadata object under the metalake, like {@code
+ * catalog.schema.table}.
+ */
+public final class LineageNode {
+
+  /** The type of the lineage node. */
+  public enum Type {
+    /** The dataset read or written by the jobs. */
+    DATASET,
+    /** The job reading and writing the datasets. */
+    JOB
+  }
+
+  private final Type type;
+  private final String namespace;
+  private final String name;
+
+  private LineageNode(Type type, String namespace, String name) {
+    Preconditions.checkArgument(type != null, "Lineage node type must not be null");
+    Preconditions.checkArgument(namespace != null, "Lineage node namespace must not be null");
+    Preconditions.checkArgument(name != null, "Lineage node name must not be null");
+    this.type = type;
+    this.namespace = namespace;
+    this.name = name;
+  }
+
+  /**
+   * Creates a lineage node.
+   *
+   * @param type The type of the node.
+   * @param namespace The OpenLineage namespace of the node.
+   * @param name The OpenLineage name of the node.
+   * @return The lineage node.
+   */
+  public static LineageNode of(Type type, String namespace, String name) {
+    return new LineageNode(type, namespace, name);
+  }
+
+  /**
+   * Creates a dataset lineage node.
+   *
+   * @param namespace The OpenLineage namespace of the dataset.
+   * @param name The OpenLineage name of the dataset.
+   * @return The dataset lineage node.
+   */
+  public static LineageNode dataset(String namespace, String name) {
+    return new LineageNode(Type.DATASET, namespace, name);
+  }
+
+  /**
+   * Creates a job lineage node.
+   *
+   * @param namespace The OpenLineage namespace of the job.
+   * @param name The OpenLineage name of the job.
+   * @return The job lineage node.
+   */
+  public static LineageNode job(String namespace, String name) {
+    return new LineageNode(Type.JOB, namespace, name);
+  }
+
+  /** @return The type of the node. */
+  @JsonProperty("type")
+  public Type type() {
+    return type;
+  }
+
+  /** @return The OpenLineage namespace of the node. */
+  @JsonProperty("namespace")
+  public String namespace() {
+    return namespace;
+  }
+
+  /** @return The OpenLineage name of the node. */
+  @JsonProperty("name")
+  public String name() {
+    return name;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof LineageNode)) {
+      return false;
+    }
+    LineageNode that = (LineageNode) o;
+    return type == that.type && namespace.equals(that.namespace) && name.equals(that.name);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(type, namespace, name);
+  }
+
+  @Override
+  public String toString() {
+    return type + ":" + namespace + "/" + name;
+  }
+}
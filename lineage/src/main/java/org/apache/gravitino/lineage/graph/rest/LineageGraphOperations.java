@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lineage.graph.rest;
+
+import com.codahale.metrics.annotation.ResponseMetered;
+import com.codahale.metrics.annotation.Timed;
+import com.google.common.collect.ImmutableSet;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import javax.inject.Inject;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.exceptions.NoSuchMetadataObjectException;
+import org.apache.gravitino.lineage.LineageService;
+import org.apache.gravitino.lineage.graph.LineageGraph;
+import org.apache.gravitino.lineage.graph.LineageGraphStore;
+import org.apache.gravitino.lineage.graph.LineageNode;
+import org.apache.gravitino.lineage.sink.LineageGraphSink;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.server.authorization.MetadataFilterHelper;
+import org.apache.gravitino.server.web.Utils;
+import org.apache.gravitino.utils.PrincipalUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The REST APIs to query the upstream and downstream lineage of the datasets stored by the {@link
+ * LineageGraphSink}. The datasets are identified by the Gravitino metalake name and the full name
+ * of the metadata object under the metalake, like {@code catalog.schema.table}, which are the
+ * OpenLineage namespace and name generated by the Gravitino OpenLineage Spark plugin.
+ *
+ * <p>The depth is the number of jobs between the dataset and the returned datasets, so the lineage
+ * graph is traversed {@code 2 * depth} edges from the dataset.
+ *
+ * <p>The datasets named like the tables of the metalake require the same privileges as loading the
+ * tables. The lineage of such a dataset can't be queried without the privileges, and such datasets
+ * are removed from the returned lineage graph along with their edges. The other datasets are not
+ * Gravitino metadata objects, so they are not checked.
+ */
+@Path("/lineage/graph/metalakes/{metalake}/datasets/{dataset}")
+public class LineageGraphOperations {
+
+  private static final Logger LOG = LoggerFactory.getLogger(LineageGraphOperations.class);
+
+  static final int MAX_DEPTH = 10;
+  static final int MAX_NODES = 10000;
+
+  private static final String LOAD_TABLE_AUTHORIZATION_EXPRESSION =
+      "ANY(OWNER, METALAKE, CATALOG) || "
+          + "SCHEMA_OWNER_WITH_USE_CATALOG || "
+          + "ANY_USE_CATALOG && ANY_USE_SCHEMA  && "
+          + "(TABLE::OWNER || ANY_SELECT_TABLE || ANY_MODIFY_TABLE)";
+
+  private final LineageService lineageService;
+
+  @Context private HttpServletRequest httpRequest;
+
+  @Inject
+  public LineageGraphOperations(LineageService lineageService) {
+    this.lineageService = lineageService;
+  }
+
+  @GET
+  @Path("upstream")
+  @Produces(MediaType.APPLICATION_JSON)
+  @Timed(name = "get-lineage-upstream." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "get-lineage-upstream", absolute = true)
+  public Response getUpstream(
+      @PathParam("metalake") String metalake,
+      @PathParam("dataset") String dataset,
+      @QueryParam("depth") @DefaultValue("1") int depth,
+      @QueryParam("maxNodes") @DefaultValue("1000") int maxNodes) {
+    return traverse(metalake, dataset, LineageGraph.Direction.UPSTREAM, depth, maxNodes);
+  }
+
+  @GET
+  @Path("downstream")
+  @Produces(MediaType.APPLICATION_JSON)
+  @Timed(name = "get-lineage-downstream." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "get-lineage-downstream", absolute = true)
+  public Response getDownstream(
+      @PathParam("metalake") String metalake,
+      @PathParam("dataset") String dataset,
+      @QueryParam("depth") @DefaultValue("1") int depth,
+      @QueryParam("maxNodes") @DefaultValue("1000") int maxNodes) {
+    return traverse(metalake, dataset, LineageGraph.Direction.DOWNSTREAM, depth, maxNodes);
+  }
+
+  private Response traverse(
+      String metalake, String dataset, LineageGraph.Direction direction, int depth, int maxNodes) {
+    if (depth < 1 || depth > MAX_DEPTH) {
+      return Utils.illegalArguments("Depth must be between 1 and " + MAX_DEPTH);
+    }
+    if (maxNodes < 1 || maxNodes > MAX_NODES) {
+      return Utils.illegalArguments("Max nodes must be between 1 and " + MAX_NODES);
+    }
+
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            Optional<LineageGraphStore> graphStore = lineageService.graphStore();
+            if (!graphStore.isPresent()) {
+              return Utils.unsupportedOperation("Lineage graph sink is not enabled");
+            }
+
+            LineageNode node = LineageNode.dataset(metalake, dataset);
+            NameIdentifier tableIdent = toTableIdent(metalake, node);
+            if (tableIdent != null && authorizedTables(metalake, tableIdent).isEmpty()) {
+              return Utils.forbidden(
+                  String.format(
+                      "User '%s' is not authorized to get the lineage of dataset %s",
+                      PrincipalUtils.getCurrentUserName(), node),
+                  null);
+            }
+
+            LineageGraph graph = graphStore.get().traverse(node, direction, 2 * depth, maxNodes);
+            if (graph == null) {
+              return Utils.notFound(
+                  NoSuchMetadataObjectException.class.getSimpleName(),
+                  String.format("Dataset %s is not found in the lineage graph", node));
+            }
+            return Utils.ok(new LineageGraphResponse(filterAuthorized(metalake, graph)));
+          });
+    } catch (Exception e) {
+      LOG.warn("Failed to get the {} lineage of dataset {}.{}", direction, metalake, dataset, e);
+      return Utils.internalError(e.getMessage(), e);
+    }
+  }
+
+  private static LineageGraph filterAuthorized(String metalake, LineageGraph graph) {
+    Set<NameIdentifier> authorized =
+        authorizedTables(
+            metalake,
+            graph.nodes().stream()
+                .map(hop -> toTableIdent(metalake, hop.node()))
+                .filter(Objects::nonNull)
+                .toArray(NameIdentifier[]::new));
+    return graph.filter(
+        node -> {
+          NameIdentifier tableIdent = toTableIdent(metalake, node);
+          return tableIdent == null || authorized.contains(tableIdent);
+        });
+  }
+
+  private static Set<NameIdentifier> authorizedTables(
+      String metalake, NameIdentifier... tableIdents) {
+    return ImmutableSet.copyOf(
+        MetadataFilterHelper.filterByExpression(
+            metalake, LOAD_TABLE_AUTHORIZATION_EXPRESSION, Entity.EntityType.TABLE, tableIdents));
+  }
+
+  // Returns the identifier of the table which the dataset is named like, or null if the dataset is
+  // not named like a table of the metalake.
+  private static NameIdentifier toTableIdent(String metalake, LineageNode node) {
+    if (node.type() != LineageNode.Type.DATASET || !metalake.equals(node.namespace())) {
+      return null;
+    }
+    String[] levels = node.name().split("\\.", -1);
+    if (levels.length != 3 || Arrays.stream(levels).anyMatch(String::isEmpty)) {
+      return null;
+    }
+    return NameIdentifier.of(metalake, levels[0], levels[1], levels[2]);
+  }
+}
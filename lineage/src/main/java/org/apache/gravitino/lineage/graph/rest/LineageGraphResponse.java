@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lineage.graph.rest;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.apache.gravitino.dto.responses.BaseResponse;
+import org.apache.gravitino.lineage.graph.LineageEdge;
+import org.apache.gravitino.lineage.graph.LineageGraph;
+
+/** Represents a response of the upstream or downstream lineage graph of a dataset. */
+@ToString
+@EqualsAndHashCode(callSuper = true)
+public class LineageGraphResponse extends BaseResponse {
+
+  @JsonProperty("nodes")
+  private final List<LineageGraph.Hop> nodes;
+
+  @JsonProperty("edges")
+  private final List<LineageEdge> edges;
+
+  @JsonProperty("truncated")
+  private final boolean truncated;
+
+  /**
+   * Constructor for LineageGraphResponse.
+   *
+   * @param graph The traversed lineage graph.
+   */
+  public LineageGraphResponse(LineageGraph graph) {
+    super(0);
+    this.nodes = graph.nodes();
+    this.edges = graph.edges();
+    this.truncated = graph.truncated();
+  }
+}
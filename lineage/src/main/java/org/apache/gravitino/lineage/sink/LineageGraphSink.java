@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lineage.sink;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.openlineage.server.OpenLineage.InputDataset;
+import io.openlineage.server.OpenLineage.Job;
+import io.openlineage.server.OpenLineage.OutputDataset;
+import io.openlineage.server.OpenLineage.RunEvent;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.lineage.Utils;
+import org.apache.gravitino.lineage.graph.LineageEdge;
+import org.apache.gravitino.lineage.graph.LineageGraphStore;
+import org.apache.gravitino.lineage.graph.LineageNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The lineage graph sink stores the dataset and job edges of the lineage events in an embedded
+ * {@link LineageGraphStore}, so the upstream and downstream of the datasets could be queried from
+ * the Gravitino server. Each run event adds the edges from the input datasets to the job and from
+ * the job to the output datasets, the edges are buffered and added to the store in batches.
+ *
+ * <p>Unlike the other sinks, it's not run by an event listener but owned by the {@code
+ * LineageService}, which sinks the events to it directly and serves its store to the lineage graph
+ * REST APIs.
+ */
+public class LineageGraphSink implements LineageSink {
+
+  public static final String PATH = "path";
+  public static final String BATCH_SIZE = "batchSize";
+  public static final String FLUSH_INTERVAL_MS = "flushIntervalMs";
+  public static final String SYNC_ON_WRITE = "syncOnWrite";
+
+  @VisibleForTesting static final String DEFAULT_PATH = "data/lineage/lineage-graph.log";
+  private static final int DEFAULT_BATCH_SIZE = 1000;
+  private static final long DEFAULT_FLUSH_INTERVAL_MS = 1000L;
+
+  private static final Logger LOG = LoggerFactory.getLogger(LineageGraphSink.class);
+
+  private final Object pendingLock = new Object();
+  private List<LineageEdge> pendingEdges = new ArrayList<>();
+  private int batchSize;
+  private volatile LineageGraphStore graphStore;
+  private volatile ScheduledExecutorService flushExecutor;
+
+  /** @return The lineage graph store of the sink, or empty if the sink is not initialized. */
+  public Optional<LineageGraphStore> graphStore() {
+    return Optional.ofNullable(graphStore);
+  }
+
+  @Override
+  public void initialize(Map<String, String> configs) {
+    Path path = resolvePath(configs.getOrDefault(PATH, DEFAULT_PATH));
+    this.batchSize =
+        Integer.parseInt(configs.getOrDefault(BATCH_SIZE, String.valueOf(DEFAULT_BATCH_SIZE)));
+    long flushIntervalMs =
+        Long.parseLong(
+            configs.getOrDefault(FLUSH_INTERVAL_MS, String.valueOf(DEFAULT_FLUSH_INTERVAL_MS)));
+    boolean syncOnWrite = Boolean.parseBoolean(configs.getOrDefault(SYNC_ON_WRITE, "false"));
+    Preconditions.checkArgument(batchSize > 0, BATCH_SIZE + " must be positive");
+    Preconditions.checkArgument(flushIntervalMs > 0, FLUSH_INTERVAL_MS + " must be positive");
+    LOG.info(
+        "Lineage graph sink path: {}, batch size: {}, flush interval: {}ms, sync on write: {}",
+        path,
+        batchSize,
+        flushIntervalMs,
+        syncOnWrite);
+
+    try {
+      this.graphStore = new LineageGraphStore(path, syncOnWrite);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to open lineage graph store " + path, e);
+    }
+
+    this.flushExecutor =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("lineage-graph-sink-flusher-%d")
+                .build());
+    flushExecutor.scheduleWithFixedDelay(
+        this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void sink(RunEvent event) {
+    List<LineageEdge> edges = toEdges(event);
+    if (edges.isEmpty()) {
+      return;
+    }
+
+    boolean shouldFlush;
+    synchronized (pendingLock) {
+      pendingEdges.addAll(edges);
+      shouldFlush = pendingEdges.size() >= batchSize;
+    }
+    // The events are sunk in the request threads, so the full batch is flushed by the flush
+    // thread rather than the caller.
+    ScheduledExecutorService executor = flushExecutor;
+    if (shouldFlush && executor != null) {
+      try {
+        executor.execute(this::flush);
+      } catch (RejectedExecutionException e) {
+        // The sink is being closed, which flushes the pending edges.
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    if (flushExecutor != null) {
+      flushExecutor.shutdownNow();
+      flushExecutor = null;
+    }
+    if (graphStore != null) {
+      flush();
+      try {
+        graphStore.close();
+      } catch (IOException e) {
+        LOG.warn("Failed to close lineage graph store", e);
+      }
+      graphStore = null;
+    }
+  }
+
+  @VisibleForTesting
+  void flush() {
+    List<LineageEdge> batch;
+    synchronized (pendingLock) {
+      if (pendingEdges.isEmpty()) {
+        return;
+      }
+      batch = pendingEdges;
+      pendingEdges = new ArrayList<>();
+    }
+
+    try {
+      int added = graphStore.addEdges(batch);
+      LOG.debug("Added {} new edges of {} to lineage graph store", added, batch.size());
+    } catch (Exception e) {
+      LOG.warn("Failed to add {} edges to lineage graph store", batch.size(), e);
+    }
+  }
+
+  @VisibleForTesting
+  static List<LineageEdge> toEdges(RunEvent event) {
+    Job job = event.getJob();
+    if (job == null || job.getNamespace() == null || job.getName() == null) {
+      LOG.debug("Skip lineage event without job, run id: {}", Utils.getRunID(event));
+      return Collections.emptyList();
+    }
+
+    LineageNode jobNode = LineageNode.job(job.getNamespace(), job.getName());
+    List<LineageEdge> edges = new ArrayList<>();
+    if (event.getInputs() != null) {
+      for (InputDataset input : event.getInputs()) {
+        LineageNode inputNode = LineageNode.dataset(input.getNamespace(), input.getName());
+        edges.add(new LineageEdge(inputNode, jobNode));
+      }
+    }
+    if (event.getOutputs() != null) {
+      for (OutputDataset output : event.getOutputs()) {
+        LineageNode outputNode = LineageNode.dataset(output.getNamespace(), output.getName());
+        edges.add(new LineageEdge(jobNode, outputNode));
+      }
+    }
+    return edges;
+  }
+
+  private static Path resolvePath(String path) {
+    Preconditions.checkArgument(StringUtils.isNotBlank(path), PATH + " must not be blank");
+    Path resolved = Paths.get(path);
+    String gravitinoHome = System.getenv("GRAVITINO_HOME");
+    if (!resolved.isAbsolute() && gravitinoHome != null) {
+      return Paths.get(gravitinoHome).resolve(resolved);
+    }
+    return resolved;
+  }
+}
@@ -0,0 +1,406 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lineage.sink;
+
+import com.codahale.metrics.Timer;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.openlineage.client.transports.HttpConfig;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sends the lineage events to the lineage HTTP server in batches. The events are buffered until the
+ * batch is full or the linger time is elapsed, then each batch is posted as a JSON array, gzipped
+ * optionally, with a bounded number of requests in flight. The failed requests are retried with
+ * exponential backoff.
+ *
+ * <p>If all the requests are in flight or the retries are exhausted, the batches are stored in the
+ * overflow buffer on the disk and resent later, instead of blocking the sink until the lineage
+ * event queue is full and the new events are rejected. If there is no overflow buffer or it's full,
+ * the sink waits for a request to complete.
+ */
+class LineageHttpBatchSender implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(LineageHttpBatchSender.class);
+
+  private static final long MAX_RETRY_BACKOFF_MS = 30_000L;
+  private static final long CLOSE_TIMEOUT_MS = 30_000L;
+
+  private enum Outcome {
+    SENT,
+    REJECTED,
+    FAILED
+  }
+
+  private final HttpConfig httpConfig;
+  private final URI endpoint;
+  private final int batchSize;
+  private final boolean gzip;
+  private final int maxInFlightRequests;
+  private final int maxRetries;
+  private final long retryBackoffMs;
+  private final LineageOverflowBuffer overflowBuffer;
+  private final LineageHttpSinkMetricsSource metricsSource;
+
+  private final CloseableHttpClient httpClient;
+  private final Semaphore inFlightPermits;
+  private final ExecutorService sendExecutor;
+  private final ScheduledExecutorService flushExecutor;
+
+  private final Object pendingLock = new Object();
+  private List<byte[]> pendingEvents = new ArrayList<>();
+  private volatile boolean overflowHealthy = true;
+
+  LineageHttpBatchSender(
+      HttpConfig httpConfig,
+      String batchEndpoint,
+      int batchSize,
+      long lingerMs,
+      boolean gzip,
+      int maxInFlightRequests,
+      int maxRetries,
+      long retryBackoffMs,
+      int timeoutMs,
+      LineageOverflowBuffer overflowBuffer,
+      LineageHttpSinkMetricsSource metricsSource) {
+    this.httpConfig = httpConfig;
+    this.endpoint = httpConfig.getUrl().resolve(batchEndpoint);
+    this.batchSize = batchSize;
+    this.gzip = gzip;
+    this.maxInFlightRequests = maxInFlightRequests;
+    this.maxRetries = maxRetries;
+    this.retryBackoffMs = retryBackoffMs;
+    this.overflowBuffer = overflowBuffer;
+    this.metricsSource = metricsSource;
+
+    ConnectionConfig connectionConfig =
+        ConnectionConfig.custom()
+            .setConnectTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+            .setSocketTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+            .build();
+    this.httpClient =
+        HttpClients.custom()
+            .setConnectionManager(
+                PoolingHttpClientConnectionManagerBuilder.create()
+                    .setDefaultConnectionConfig(connectionConfig)
+                    .setMaxConnTotal(maxInFlightRequests)
+                    .setMaxConnPerRoute(maxInFlightRequests)
+                    .build())
+            .build();
+    this.inFlightPermits = new Semaphore(maxInFlightRequests);
+    this.sendExecutor =
+        Executors.newFixedThreadPool(
+            maxInFlightRequests,
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("lineage-http-sink-sender-%d")
+                .build());
+    this.flushExecutor =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("lineage-http-sink-flusher-%d")
+                .build());
+    flushExecutor.scheduleWithFixedDelay(
+        this::flushAndDrainOverflow, lingerMs, lingerMs, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Adds a lineage event to the current batch, the batch is sent if it is full.
+   *
+   * @param event The lineage event in JSON.
+   */
+  void add(byte[] event) {
+    List<byte[]> batch = null;
+    synchronized (pendingLock) {
+      pendingEvents.add(event);
+      if (pendingEvents.size() >= batchSize) {
+        batch = pendingEvents;
+        pendingEvents = new ArrayList<>();
+      }
+    }
+    if (batch != null) {
+      dispatch(batch);
+    }
+  }
+
+  /** @return The number of the requests in flight. */
+  int inFlightRequests() {
+    return maxInFlightRequests - inFlightPermits.availablePermits();
+  }
+
+  @Override
+  public void close() {
+    flushExecutor.shutdownNow();
+    flush();
+    sendExecutor.shutdown();
+    try {
+      if (!sendExecutor.awaitTermination(CLOSE_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+        LOG.warn("Timed out waiting for the lineage requests to complete");
+        sendExecutor.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      sendExecutor.shutdownNow();
+    }
+    try {
+      httpClient.close();
+    } catch (IOException e) {
+      LOG.warn("Failed to close the lineage HTTP client", e);
+    }
+  }
+
+  @VisibleForTesting
+  void flush() {
+    List<byte[]> batch;
+    synchronized (pendingLock) {
+      if (pendingEvents.isEmpty()) {
+        return;
+      }
+      batch = pendingEvents;
+      pendingEvents = new ArrayList<>();
+    }
+    dispatch(batch);
+  }
+
+  @VisibleForTesting
+  void drainOverflow() {
+    if (overflowBuffer == null) {
+      return;
+    }
+
+    // Probes the lineage HTTP server with one batch if the last resent batch failed, to avoid
+    // occupying all the requests with the batches which are likely to fail.
+    int maxBatches = overflowHealthy ? Integer.MAX_VALUE : 1;
+    for (int i = 0; i < maxBatches && !overflowBuffer.isEmpty(); i++) {
+      if (!inFlightPermits.tryAcquire()) {
+        return;
+      }
+
+      LineageOverflowBuffer.Entry entry = overflowBuffer.poll();
+      if (entry == null) {
+        inFlightPermits.release();
+        return;
+      }
+      submit(() -> resend(entry));
+    }
+  }
+
+  private void flushAndDrainOverflow() {
+    try {
+      flush();
+      drainOverflow();
+    } catch (Exception e) {
+      LOG.warn("Failed to flush the lineage events", e);
+    }
+  }
+
+  private void dispatch(List<byte[]> events) {
+    byte[] body = toJsonArray(events);
+    int eventCount = events.size();
+    if (!inFlightPermits.tryAcquire()) {
+      if (overflowBuffer != null && overflowBuffer.offer(body, eventCount)) {
+        metricsSource.eventsOverflowed().inc(eventCount);
+        return;
+      }
+
+      try {
+        inFlightPermits.acquire();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        LOG.warn("Interrupted while waiting to send {} lineage events", eventCount);
+        metricsSource.eventsFailed().inc(eventCount);
+        return;
+      }
+    }
+    submit(() -> send(body, eventCount));
+  }
+
+  // Runs the task with an acquired in-flight permit, the permit is released after the task.
+  private void submit(Runnable task) {
+    try {
+      sendExecutor.execute(
+          () -> {
+            try {
+              task.run();
+            } finally {
+              inFlightPermits.release();
+            }
+          });
+    } catch (RuntimeException e) {
+      inFlightPermits.release();
+      throw e;
+    }
+  }
+
+  private void send(byte[] body, int eventCount) {
+    Outcome outcome = sendWithRetries(body, eventCount);
+    if (outcome == Outcome.FAILED
+        && overflowBuffer != null
+        && overflowBuffer.offer(body, eventCount)) {
+      metricsSource.eventsOverflowed().inc(eventCount);
+    } else if (outcome != Outcome.SENT) {
+      metricsSource.eventsFailed().inc(eventCount);
+    }
+  }
+
+  private void resend(LineageOverflowBuffer.Entry entry) {
+    byte[] body;
+    try {
+      body = overflowBuffer.read(entry);
+    } catch (IOException e) {
+      LOG.warn("Failed to read lineage events from overflow buffer, drop them", e);
+      overflowBuffer.remove(entry);
+      metricsSource.eventsFailed().inc(entry.eventCount());
+      return;
+    }
+
+    Outcome outcome = sendWithRetries(body, entry.eventCount());
+    overflowHealthy = outcome != Outcome.FAILED;
+    if (outcome == Outcome.FAILED) {
+      overflowBuffer.requeue(entry);
+      return;
+    }
+    overflowBuffer.remove(entry);
+    if (outcome == Outcome.REJECTED) {
+      metricsSource.eventsFailed().inc(entry.eventCount());
+    }
+  }
+
+  private Outcome sendWithRetries(byte[] body, int eventCount) {
+    byte[] payload;
+    try {
+      payload = gzip ? gzip(body) : body;
+    } catch (IOException e) {
+      LOG.warn("Failed to compress {} lineage events", eventCount, e);
+      return Outcome.REJECTED;
+    }
+
+    for (int attempt = 0; ; attempt++) {
+      if (attempt > 0) {
+        metricsSource.retries().inc();
+        try {
+          Thread.sleep(Math.min(retryBackoffMs << Math.min(attempt - 1, 20), MAX_RETRY_BACKOFF_MS));
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return Outcome.FAILED;
+        }
+      }
+
+      int status;
+      try (Timer.Context ignored = metricsSource.requestDuration().time()) {
+        status = httpClient.execute(newRequest(payload), ClassicHttpResponse::getCode);
+      } catch (IOException e) {
+        LOG.warn(
+            "Failed to send {} lineage events to {}, attempt: {}",
+            eventCount,
+            endpoint,
+            attempt + 1,
+            e);
+        if (attempt < maxRetries) {
+          continue;
+        }
+        return Outcome.FAILED;
+      }
+
+      if (status >= HttpStatus.SC_SUCCESS && status < HttpStatus.SC_REDIRECTION) {
+        metricsSource.eventsSent().inc(eventCount);
+        return Outcome.SENT;
+      }
+      boolean retryable =
+          status == HttpStatus.SC_TOO_MANY_REQUESTS || status >= HttpStatus.SC_SERVER_ERROR;
+      LOG.warn(
+          "Failed to send {} lineage events to {}, status: {}, attempt: {}",
+          eventCount,
+          endpoint,
+          status,
+          attempt + 1);
+      if (!retryable) {
+        return Outcome.REJECTED;
+      }
+      if (attempt >= maxRetries) {
+        return Outcome.FAILED;
+      }
+    }
+  }
+
+  private HttpPost newRequest(byte[] payload) {
+    HttpPost request = new HttpPost(endpoint);
+    if (httpConfig.getHeaders() != null) {
+      httpConfig.getHeaders().forEach(request::setHeader);
+    }
+    if (httpConfig.getAuth() != null) {
+      request.setHeader(HttpHeaders.AUTHORIZATION, httpConfig.getAuth().getToken());
+    }
+    if (gzip) {
+      request.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+    }
+    request.setEntity(new ByteArrayEntity(payload, ContentType.APPLICATION_JSON));
+    return request;
+  }
+
+  private static byte[] toJsonArray(List<byte[]> events) {
+    int size = events.size() + 1;
+    for (byte[] event : events) {
+      size += event.length;
+    }
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream(size);
+    output.write('[');
+    for (int i = 0; i < events.size(); i++) {
+      if (i > 0) {
+        output.write(',');
+      }
+      output.write(events.get(i), 0, events.get(i).length);
+    }
+    output.write(']');
+    return output.toByteArray();
+  }
+
+  private static byte[] gzip(byte[] body) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream(body.length / 4 + 64);
+    try (GZIPOutputStream gzipOutput = new GZIPOutputStream(output)) {
+      gzipOutput.write(body);
+    }
+    return output.toByteArray();
+  }
+}
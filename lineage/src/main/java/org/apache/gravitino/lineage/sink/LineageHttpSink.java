@@ -18,33 +18,97 @@
  */
 package org.apache.gravitino.lineage.sink;
 
+import com.codahale.metrics.Timer;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
 import io.openlineage.client.OpenLineageClient;
 import io.openlineage.client.transports.HttpConfig;
 import io.openlineage.client.transports.HttpTransport;
 import io.openlineage.server.OpenLineage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
 import java.util.Map;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.lineage.Utils;
 import org.apache.gravitino.lineage.auth.AuthenticationFactory;
 import org.apache.gravitino.lineage.auth.LineageServerAuthenticationStrategy;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.server.web.ObjectMapperProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * The HTTP sink sends the lineage events to an HTTP server following the OpenLineage REST
+ * specification. In the default {@code single} mode each event is posted by the OpenLineage client
+ * in its own request. In the {@code batch} mode the events are posted in batches by {@link
+ * LineageHttpBatchSender}, the receiving endpoint must accept a JSON array of the events.
+ */
 public class LineageHttpSink implements LineageSink {
 
+  public static final String MODE = "mode";
+  public static final String MODE_SINGLE = "single";
+  public static final String MODE_BATCH = "batch";
+  public static final String BATCH_ENDPOINT = "batchEndpoint";
+  public static final String BATCH_SIZE = "batchSize";
+  public static final String LINGER_MS = "lingerMs";
+  public static final String COMPRESSION = "compression";
+  public static final String COMPRESSION_GZIP = "gzip";
+  public static final String MAX_IN_FLIGHT_REQUESTS = "maxInFlightRequests";
+  public static final String MAX_RETRIES = "maxRetries";
+  public static final String RETRY_BACKOFF_MS = "retryBackoffMs";
+  public static final String TIMEOUT_MS = "timeoutMs";
+  public static final String OVERFLOW_PATH = "overflowPath";
+  public static final String OVERFLOW_MAX_BYTES = "overflowMaxBytes";
+
+  private static final String DEFAULT_BATCH_ENDPOINT = "/api/v1/lineage/batch";
+  private static final int DEFAULT_BATCH_SIZE = 100;
+  private static final long DEFAULT_LINGER_MS = 1000L;
+  private static final int DEFAULT_MAX_IN_FLIGHT_REQUESTS = 4;
+  private static final int DEFAULT_MAX_RETRIES = 3;
+  private static final long DEFAULT_RETRY_BACKOFF_MS = 500L;
+  private static final int DEFAULT_TIMEOUT_MS = 5000;
+  private static final long DEFAULT_OVERFLOW_MAX_BYTES = 1024L * 1024 * 1024;
+
   private static final Logger LOG = LoggerFactory.getLogger(LineageHttpSink.class);
   private OpenLineageClient client;
+  private LineageHttpBatchSender batchSender;
+  private LineageOverflowBuffer overflowBuffer;
+  private LineageHttpSinkMetricsSource metricsSource;
 
   @Override
   public void initialize(Map<String, String> configs) {
     String httpSinkUrl = configs.getOrDefault("url", "http://localhost:5000/");
     String authType = configs.get("authType");
-    LOG.info("Http sink URL: {}, authentication type: {}", httpSinkUrl, authType);
+    String mode = configs.getOrDefault(MODE, MODE_SINGLE).toLowerCase(Locale.ROOT);
+    Preconditions.checkArgument(
+        MODE_SINGLE.equals(mode) || MODE_BATCH.equals(mode),
+        "Unsupported http sink mode: %s, the supported modes are %s and %s",
+        mode,
+        MODE_SINGLE,
+        MODE_BATCH);
+    LOG.info("Http sink URL: {}, authentication type: {}, mode: {}", httpSinkUrl, authType, mode);
     LineageServerAuthenticationStrategy authStrategy =
         AuthenticationFactory.createStrategy(authType);
 
     HttpConfig httpConfig = authStrategy.configureHttpConfig(httpSinkUrl, configs);
 
+    this.metricsSource =
+        new LineageHttpSinkMetricsSource(this::inFlightRequests, this::overflowBytes);
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+
+    if (MODE_BATCH.equals(mode)) {
+      this.batchSender = createBatchSender(httpConfig, configs);
+      return;
+    }
+
     HttpTransport transport = new HttpTransport(httpConfig);
 
     client = OpenLineageClient.builder().transport(transport).build();
@@ -52,17 +116,42 @@ public class LineageHttpSink implements LineageSink {
 
   @Override
   public void sink(OpenLineage.RunEvent runEvent) {
-    try {
+    if (batchSender != null) {
+      try {
+        batchSender.add(ObjectMapperProvider.objectMapper().writeValueAsBytes(runEvent));
+      } catch (JsonProcessingException e) {
+        LOG.warn("Could not parse lineage run event, run id: {}", Utils.getRunID(runEvent), e);
+        metricsSource.eventsFailed().inc();
+      }
+      return;
+    }
+
+    try (Timer.Context ignored = metricsSource.requestDuration().time()) {
       client.emit(Utils.getClientRunEvent(runEvent));
+      metricsSource.eventsSent().inc();
       LOG.info("Sent lineage event to http sink: {}", runEvent);
     } catch (JsonProcessingException e) {
       LOG.warn("Could not parse lineage run event", e);
+      metricsSource.eventsFailed().inc();
       throw new RuntimeException(e);
+    } catch (RuntimeException e) {
+      metricsSource.eventsFailed().inc();
+      throw e;
     }
   }
 
   @Override
   public void close() {
+    if (batchSender != null) {
+      batchSender.close();
+      batchSender = null;
+    }
+    if (metricsSource != null) {
+      MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+      if (metricsSystem != null) {
+        metricsSystem.unregister(metricsSource);
+      }
+    }
     if (client != null) {
       try {
         client.close();
@@ -71,4 +160,96 @@ public class LineageHttpSink implements LineageSink {
       }
     }
   }
+
+  @VisibleForTesting
+  LineageHttpSinkMetricsSource metricsSource() {
+    return metricsSource;
+  }
+
+  private LineageHttpBatchSender createBatchSender(
+      HttpConfig httpConfig, Map<String, String> configs) {
+    int batchSize = getInt(configs, BATCH_SIZE, DEFAULT_BATCH_SIZE);
+    long lingerMs = getLong(configs, LINGER_MS, DEFAULT_LINGER_MS);
+    int maxInFlightRequests =
+        getInt(configs, MAX_IN_FLIGHT_REQUESTS, DEFAULT_MAX_IN_FLIGHT_REQUESTS);
+    int maxRetries = getInt(configs, MAX_RETRIES, DEFAULT_MAX_RETRIES);
+    long retryBackoffMs = getLong(configs, RETRY_BACKOFF_MS, DEFAULT_RETRY_BACKOFF_MS);
+    int timeoutMs = getInt(configs, TIMEOUT_MS, DEFAULT_TIMEOUT_MS);
+    String compression = configs.get(COMPRESSION);
+    Preconditions.checkArgument(batchSize > 0, BATCH_SIZE + " must be positive");
+    Preconditions.checkArgument(lingerMs > 0, LINGER_MS + " must be positive");
+    Preconditions.checkArgument(
+        maxInFlightRequests > 0, MAX_IN_FLIGHT_REQUESTS + " must be positive");
+    Preconditions.checkArgument(maxRetries >= 0, MAX_RETRIES + " must not be negative");
+    Preconditions.checkArgument(retryBackoffMs > 0, RETRY_BACKOFF_MS + " must be positive");
+    Preconditions.checkArgument(timeoutMs > 0, TIMEOUT_MS + " must be positive");
+    Preconditions.checkArgument(
+        StringUtils.isBlank(compression) || COMPRESSION_GZIP.equalsIgnoreCase(compression),
+        "Unsupported http sink compression: %s",
+        compression);
+
+    String overflowPath = configs.get(OVERFLOW_PATH);
+    if (StringUtils.isNotBlank(overflowPath)) {
+      long overflowMaxBytes = getLong(configs, OVERFLOW_MAX_BYTES, DEFAULT_OVERFLOW_MAX_BYTES);
+      Preconditions.checkArgument(overflowMaxBytes > 0, OVERFLOW_MAX_BYTES + " must be positive");
+      Path overflowDirectory = resolvePath(overflowPath);
+      try {
+        this.overflowBuffer = new LineageOverflowBuffer(overflowDirectory, overflowMaxBytes);
+      } catch (IOException e) {
+        throw new UncheckedIOException(
+            "Failed to create lineage overflow buffer " + overflowDirectory, e);
+      }
+    }
+
+    LOG.info(
+        "Http sink batch size: {}, linger: {}ms, compression: {}, max in-flight requests: {}, "
+            + "max retries: {}, overflow path: {}",
+        batchSize,
+        lingerMs,
+        compression,
+        maxInFlightRequests,
+        maxRetries,
+        overflowPath);
+    return new LineageHttpBatchSender(
+        httpConfig,
+        configs.getOrDefault(BATCH_ENDPOINT, DEFAULT_BATCH_ENDPOINT),
+        batchSize,
+        lingerMs,
+        COMPRESSION_GZIP.equalsIgnoreCase(compression),
+        maxInFlightRequests,
+        maxRetries,
+        retryBackoffMs,
+        timeoutMs,
+        overflowBuffer,
+        metricsSource);
+  }
+
+  private int inFlightRequests() {
+    LineageHttpBatchSender sender = batchSender;
+    return sender == null ? 0 : sender.inFlightRequests();
+  }
+
+  private long overflowBytes() {
+    LineageOverflowBuffer buffer = overflowBuffer;
+    return buffer == null ? 0L : buffer.bytes();
+  }
+
+  private static int getInt(Map<String, String> configs, String key, int defaultValue) {
+    String value = configs.get(key);
+    return StringUtils.isBlank(value) ? defaultValue : Integer.parseInt(value.trim());
+  }
+
+  private static long getLong(Map<String, String> configs, String key, long defaultValue) {
+    String value = configs.get(key);
+    return StringUtils.isBlank(value) ? defaultValue : Long.parseLong(value.trim());
+  }
+
+  private static Path resolvePath(String path) {
+    Path resolved = Paths.get(path);
+    String gravitinoHome = System.getenv("GRAVITINO_HOME");
+    if (!resolved.isAbsolute() && gravitinoHome != null) {
+      return Paths.get(gravitinoHome).resolve(resolved);
+    }
+    return resolved;
+  }
 }
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lineage.sink;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Timer;
+import java.util.function.Supplier;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.MetricsSource;
+
+/**
+ * The metrics source of {@link LineageHttpSink}, it reports the throughput and the latency of the
+ * requests to the lineage HTTP server, and the events failed, retried or buffered on the disk.
+ */
+public class LineageHttpSinkMetricsSource extends MetricsSource {
+
+  private final Counter eventsSent;
+  private final Counter eventsFailed;
+  private final Counter eventsOverflowed;
+  private final Counter retries;
+  private final Timer requestDuration;
+
+  /**
+   * @param inFlightRequests The supplier of the number of the requests being sent.
+   * @param overflowBytes The supplier of the size of the events buffered on the disk.
+   */
+  public LineageHttpSinkMetricsSource(
+      Supplier<Integer> inFlightRequests, Supplier<Long> overflowBytes) {
+    super(MetricsSource.LINEAGE_HTTP_SINK_METRIC_NAME);
+    this.eventsSent = getCounter(MetricNames.LINEAGE_HTTP_SINK_EVENTS_SENT);
+    this.eventsFailed = getCounter(MetricNames.LINEAGE_HTTP_SINK_EVENTS_FAILED);
+    this.eventsOverflowed = getCounter(MetricNames.LINEAGE_HTTP_SINK_EVENTS_OVERFLOWED);
+    this.retries = getCounter(MetricNames.LINEAGE_HTTP_SINK_RETRIES);
+    this.requestDuration = getTimer(MetricNames.LINEAGE_HTTP_SINK_REQUEST_DURATION);
+    registerGauge(
+        MetricNames.LINEAGE_HTTP_SINK_IN_FLIGHT_REQUESTS, (Gauge<Integer>) inFlightRequests::get);
+    registerGauge(MetricNames.LINEAGE_HTTP_SINK_OVERFLOW_BYTES, (Gauge<Long>) overflowBytes::get);
+  }
+
+  /** @return The counter of the events sent to the lineage HTTP server. */
+  public Counter eventsSent() {
+    return eventsSent;
+  }
+
+  /** @return The counter of the events dropped after they failed to be sent. */
+  public Counter eventsFailed() {
+    return eventsFailed;
+  }
+
+  /** @return The counter of the events buffered on the disk to be sent later. */
+  public Counter eventsOverflowed() {
+    return eventsOverflowed;
+  }
+
+  /** @return The counter of the retried requests. */
+  public Counter retries() {
+    return retries;
+  }
+
+  /** @return The timer of the requests to the lineage HTTP server. */
+  public Timer requestDuration() {
+    return requestDuration;
+  }
+}
@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lineage.sink;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A bounded buffer on the disk for the batches of lineage events which can't be sent to the lineage
+ * HTTP server in time. Each batch is stored in a file named {@code <sequence>-<event count>.json},
+ * the files left by the previous run are loaded when the buffer is created, so the buffered events
+ * survive the restart of the Gravitino server.
+ */
+class LineageOverflowBuffer {
+
+  private static final Logger LOG = LoggerFactory.getLogger(LineageOverflowBuffer.class);
+
+  private static final String FILE_SUFFIX = ".json";
+  private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+  /** A batch of lineage events stored in the buffer. */
+  static final class Entry {
+    private final Path file;
+    private final long sequence;
+    private final int eventCount;
+    private final long size;
+
+    private Entry(Path file, long sequence, int eventCount, long size) {
+      this.file = file;
+      this.sequence = sequence;
+      this.eventCount = eventCount;
+      this.size = size;
+    }
+
+    int eventCount() {
+      return eventCount;
+    }
+  }
+
+  private final Path directory;
+  private final long maxBytes;
+  private final Deque<Entry> entries = new ArrayDeque<>();
+  private long bytes;
+  private long nextSequence;
+
+  LineageOverflowBuffer(Path directory, long maxBytes) throws IOException {
+    this.directory = directory;
+    this.maxBytes = maxBytes;
+    Files.createDirectories(directory);
+
+    List<Entry> existing = new ArrayList<>();
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+      for (Path file : files) {
+        String fileName = file.getFileName().toString();
+        if (fileName.endsWith(TEMP_FILE_SUFFIX)) {
+          Files.deleteIfExists(file);
+          continue;
+        }
+        Entry entry = parseEntry(file);
+        if (entry == null) {
+          LOG.warn("Ignore unknown file {} in lineage overflow buffer {}", fileName, directory);
+          continue;
+        }
+        existing.add(entry);
+      }
+    }
+    existing.sort(Comparator.comparingLong(e -> e.sequence));
+    for (Entry entry : existing) {
+      entries.add(entry);
+      bytes += entry.size;
+      nextSequence = entry.sequence + 1;
+    }
+    if (!existing.isEmpty()) {
+      LOG.info(
+          "Loaded {} batches of lineage events with {} bytes from overflow buffer {}",
+          existing.size(),
+          bytes,
+          directory);
+    }
+  }
+
+  /**
+   * Stores a batch of lineage events in the buffer.
+   *
+   * @param body The JSON array of the lineage events.
+   * @param eventCount The number of the lineage events in the batch.
+   * @return True if the batch is stored, false if the buffer is full or the batch failed to be
+   *     written.
+   */
+  synchronized boolean offer(byte[] body, int eventCount) {
+    if (bytes + body.length > maxBytes) {
+      return false;
+    }
+
+    long sequence = nextSequence++;
+    Path file = directory.resolve(sequence + "-" + eventCount + FILE_SUFFIX);
+    Path tempFile = directory.resolve(file.getFileName() + TEMP_FILE_SUFFIX);
+    try {
+      Files.write(tempFile, body);
+      Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      LOG.warn("Failed to write lineage events to overflow buffer {}", directory, e);
+      try {
+        Files.deleteIfExists(tempFile);
+      } catch (IOException ignored) {
+        // The temp file is deleted when the buffer is loaded next time.
+      }
+      return false;
+    }
+
+    entries.add(new Entry(file, sequence, eventCount, body.length));
+    bytes += body.length;
+    return true;
+  }
+
+  /**
+   * Takes the oldest batch out of the buffer, the batch still occupies the buffer until it is
+   * removed by {@link #remove(Entry)} or put back by {@link #requeue(Entry)}.
+   *
+   * @return The oldest batch, or null if the buffer is empty.
+   */
+  synchronized Entry poll() {
+    return entries.pollFirst();
+  }
+
+  /**
+   * Puts a batch taken by {@link #poll()} back to the head of the buffer.
+   *
+   * @param entry The batch to put back.
+   */
+  synchronized void requeue(Entry entry) {
+    entries.addFirst(entry);
+  }
+
+  /**
+   * Deletes a batch taken by {@link #poll()} from the buffer.
+   *
+   * @param entry The batch to delete.
+   */
+  synchronized void remove(Entry entry) {
+    try {
+      Files.deleteIfExists(entry.file);
+    } catch (IOException e) {
+      LOG.warn("Failed to delete {} from lineage overflow buffer", entry.file, e);
+    }
+    bytes -= entry.size;
+  }
+
+  /**
+   * Reads the lineage events of a batch.
+   *
+   * @param entry The batch to read.
+   * @return The JSON array of the lineage events.
+   * @throws IOException If the batch file can't be read.
+   */
+  byte[] read(Entry entry) throws IOException {
+    return Files.readAllBytes(entry.file);
+  }
+
+  /** @return True if there is no batch waiting to be sent in the buffer. */
+  synchronized boolean isEmpty() {
+    return entries.isEmpty();
+  }
+
+  /** @return The total size of the batches in the buffer. */
+  synchronized long bytes() {
+    return bytes;
+  }
+
+  private static Entry parseEntry(Path file) throws IOException {
+    String fileName = file.getFileName().toString();
+    if (!fileName.endsWith(FILE_SUFFIX)) {
+      return null;
+    }
+
+    String[] parts = fileName.substring(0, fileName.length() - FILE_SUFFIX.length()).split("-");
+    if (parts.length != 2) {
+      return null;
+    }
+    try {
+      long sequence = Long.parseLong(parts[0]);
+      int eventCount = Integer.parseInt(parts[1]);
+      return new Entry(file, sequence, eventCount, Files.size(file));
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,346 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lineage.graph;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import io.openlineage.server.OpenLineage;
+import io.openlineage.server.OpenLineage.RunEvent;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.lineage.sink.LineageGraphSink;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestLineageGraphStore {
+
+  private static final LineageNode INPUT = LineageNode.dataset("metalake", "catalog.db.input");
+  private static final LineageNode MIDDLE = LineageNode.dataset("metalake", "catalog.db.middle");
+  private static final LineageNode OUTPUT = LineageNode.dataset("metalake", "catalog.db.output");
+  private static final LineageNode JOB1 = LineageNode.job("namespace", "job1");
+  private static final LineageNode JOB2 = LineageNode.job("namespace", "job2");
+
+  @TempDir Path tempDir;
+
+  @Test
+  public void testAddEdgesAndTraverse() throws IOException {
+    try (LineageGraphStore store = new LineageGraphStore(tempDir.resolve("graph.log"), false)) {
+      Assertions.assertEquals(4, store.addEdges(chainEdges()));
+      Assertions.assertEquals(0, store.addEdges(chainEdges()));
+      Assertions.assertEquals(5, store.nodeCount());
+      Assertions.assertEquals(4, store.edgeCount());
+
+      LineageGraph upstream = store.traverse(OUTPUT, LineageGraph.Direction.UPSTREAM, 4, 100);
+      Assertions.assertEquals(
+          ImmutableMap.of(OUTPUT, 0, JOB2, 1, MIDDLE, 2, JOB1, 3, INPUT, 4), distances(upstream));
+      Assertions.assertEquals(4, upstream.edges().size());
+      Assertions.assertTrue(upstream.edges().contains(new LineageEdge(INPUT, JOB1)));
+      Assertions.assertFalse(upstream.truncated());
+
+      LineageGraph downstream = store.traverse(INPUT, LineageGraph.Direction.DOWNSTREAM, 2, 100);
+      Assertions.assertEquals(ImmutableMap.of(INPUT, 0, JOB1, 1, MIDDLE, 2), distances(downstream));
+      Assertions.assertEquals(
+          ImmutableList.of(new LineageEdge(INPUT, JOB1), new LineageEdge(JOB1, MIDDLE)),
+          downstream.edges());
+
+      LineageGraph truncated = store.traverse(INPUT, LineageGraph.Direction.DOWNSTREAM, 4, 2);
+      Assertions.assertEquals(ImmutableMap.of(INPUT, 0, JOB1, 1), distances(truncated));
+      Assertions.assertTrue(truncated.truncated());
+
+      Assertions.assertNull(
+          store.traverse(
+              LineageNode.dataset("metalake", "catalog.db.unknown"),
+              LineageGraph.Direction.UPSTREAM,
+              2,
+              100));
+    }
+  }
+
+  @Test
+  public void testReplayLog() throws IOException {
+    Path logFile = tempDir.resolve("graph.log");
+    try (LineageGraphStore store = new LineageGraphStore(logFile, true)) {
+      store.addEdges(chainEdges());
+    }
+
+    // Append an incomplete edge record to simulate a crash while writing the log.
+    long length = Files.size(logFile);
+    try (OutputStream output = Files.newOutputStream(logFile, StandardOpenOption.APPEND)) {
+      output.write(new byte[] {2, 0, 0});
+    }
+
+    try (LineageGraphStore store = new LineageGraphStore(logFile, false)) {
+      Assertions.assertEquals(length, Files.size(logFile));
+      Assertions.assertEquals(5, store.nodeCount());
+      Assertions.assertEquals(4, store.edgeCount());
+      Assertions.assertEquals(
+          ImmutableMap.of(OUTPUT, 0, JOB2, 1, MIDDLE, 2),
+          distances(store.traverse(OUTPUT, LineageGraph.Direction.UPSTREAM, 2, 100)));
+
+      LineageNode job3 = LineageNode.job("namespace", "job3");
+      Assertions.assertEquals(
+          2,
+          store.addEdges(
+              ImmutableList.of(new LineageEdge(OUTPUT, job3), new LineageEdge(job3, INPUT))));
+    }
+
+    try (LineageGraphStore store = new LineageGraphStore(logFile, false)) {
+      Assertions.assertEquals(6, store.nodeCount());
+      Assertions.assertEquals(6, store.edgeCount());
+    }
+  }
+
+  @Test
+  public void testLongNodeName() throws IOException {
+    Path logFile = tempDir.resolve("graph.log");
+    // The name is longer than the 64KB limit of the modified UTF-8 strings.
+    LineageNode longNode = LineageNode.dataset("metalake", StringUtils.repeat("名", 30000));
+    try (LineageGraphStore store = new LineageGraphStore(logFile, false)) {
+      Assertions.assertEquals(
+          1, store.addEdges(ImmutableList.of(new LineageEdge(INPUT, longNode))));
+    }
+
+    try (LineageGraphStore store = new LineageGraphStore(logFile, false)) {
+      Assertions.assertEquals(2, store.nodeCount());
+      Assertions.assertEquals(
+          ImmutableMap.of(longNode, 0, INPUT, 1),
+          distances(store.traverse(longNode, LineageGraph.Direction.UPSTREAM, 1, 100)));
+    }
+  }
+
+  @Test
+  public void testWriteFailure() throws Exception {
+    Path logFile = tempDir.resolve("graph.log");
+    try (LineageGraphStore store = new LineageGraphStore(logFile, false)) {
+      store.addEdges(ImmutableList.of(new LineageEdge(INPUT, JOB1)));
+      long length = Files.size(logFile);
+
+      // The log fails after writing a part of the batch, e.g., the disk is full.
+      FileChannel channel = (FileChannel) FieldUtils.readField(store, "channel", true);
+      FailingFileChannel failingChannel = new FailingFileChannel(channel);
+      FieldUtils.writeField(store, "channel", failingChannel, true);
+      failingChannel.failWrites = true;
+      Assertions.assertThrows(
+          UncheckedIOException.class,
+          () -> store.addEdges(ImmutableList.of(new LineageEdge(JOB1, MIDDLE))));
+      Assertions.assertEquals(length, Files.size(logFile));
+      Assertions.assertEquals(2, store.nodeCount());
+      Assertions.assertEquals(1, store.edgeCount());
+
+      failingChannel.failWrites = false;
+      Assertions.assertEquals(
+          2,
+          store.addEdges(
+              ImmutableList.of(new LineageEdge(JOB1, OUTPUT), new LineageEdge(JOB1, MIDDLE))));
+    }
+
+    try (LineageGraphStore store = new LineageGraphStore(logFile, false)) {
+      Assertions.assertEquals(4, store.nodeCount());
+      Assertions.assertEquals(3, store.edgeCount());
+      Assertions.assertEquals(
+          ImmutableMap.of(INPUT, 0, JOB1, 1, OUTPUT, 2, MIDDLE, 2),
+          distances(store.traverse(INPUT, LineageGraph.Direction.DOWNSTREAM, 2, 100)));
+    }
+  }
+
+  @Test
+  public void testInvalidLog() throws IOException {
+    Path logFile = tempDir.resolve("graph.log");
+    Files.write(logFile, new byte[] {1, 2, 3, 4, 5, 6});
+    Assertions.assertThrows(IOException.class, () -> new LineageGraphStore(logFile, false));
+  }
+
+  @Test
+  public void testLineageGraphSink() throws IOException {
+    Path logFile = tempDir.resolve("sink").resolve("graph.log");
+    LineageGraphSink sink = new LineageGraphSink();
+    sink.initialize(
+        ImmutableMap.of(
+            LineageGraphSink.PATH, logFile.toString(), LineageGraphSink.BATCH_SIZE, "2"));
+    try {
+      Assertions.assertTrue(sink.graphStore().isPresent());
+      LineageGraphStore graphStore = sink.graphStore().get();
+      sink.sink(createRunEvent("job1", "catalog.db.input", "catalog.db.middle"));
+      sink.sink(createRunEvent("job2", "catalog.db.middle", "catalog.db.output"));
+
+      // The full batches are flushed by the flush thread
+      Awaitility.await().atMost(30, TimeUnit.SECONDS).until(() -> graphStore.edgeCount() == 4);
+      LineageGraph graph = graphStore.traverse(OUTPUT, LineageGraph.Direction.UPSTREAM, 4, 100);
+      Assertions.assertEquals(5, graph.nodes().size());
+    } finally {
+      sink.close();
+    }
+    Assertions.assertFalse(sink.graphStore().isPresent());
+
+    try (LineageGraphStore store = new LineageGraphStore(logFile, false)) {
+      Assertions.assertEquals(4, store.edgeCount());
+    }
+  }
+
+  private static ImmutableList<LineageEdge> chainEdges() {
+    return ImmutableList.of(
+        new LineageEdge(INPUT, JOB1),
+        new LineageEdge(JOB1, MIDDLE),
+        new LineageEdge(MIDDLE, JOB2),
+        new LineageEdge(JOB2, OUTPUT));
+  }
+
+  private static Map<LineageNode, Integer> distances(LineageGraph graph) {
+    return graph.nodes().stream()
+        .collect(Collectors.toMap(LineageGraph.Hop::node, LineageGraph.Hop::distance));
+  }
+
+  private static RunEvent createRunEvent(String jobName, String input, String output) {
+    ZonedDateTime now = ZonedDateTime.now();
+    OpenLineage ol = new OpenLineage(URI.create("producer"));
+    return ol.newRunEvent(
+        now,
+        OpenLineage.RunEvent.EventType.COMPLETE,
+        ol.newRun(UUID.randomUUID(), ol.newRunFacetsBuilder().build()),
+        ol.newJob("namespace", jobName, ol.newJobFacetsBuilder().build()),
+        Arrays.asList(ol.newInputDataset("metalake", input, null, null)),
+        Arrays.asList(ol.newOutputDataset("metalake", output, null, null)));
+  }
+
+  // Delegates to the file channel of the log, the writes fail after writing half of the buffer.
+  private static class FailingFileChannel extends FileChannel {
+    private final FileChannel delegate;
+    private volatile boolean failWrites;
+
+    private FailingFileChannel(FileChannel delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public int write(ByteBuffer src) throws IOException {
+      if (!failWrites) {
+        return delegate.write(src);
+      }
+      ByteBuffer half = src.duplicate();
+      half.limit(src.position() + src.remaining() / 2);
+      src.position(src.position() + delegate.write(half));
+      throw new IOException("No space left on device");
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+      return delegate.read(dst);
+    }
+
+    @Override
+    public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+      return delegate.read(dsts, offset, length);
+    }
+
+    @Override
+    public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+      return delegate.write(srcs, offset, length);
+    }
+
+    @Override
+    public long position() throws IOException {
+      return delegate.position();
+    }
+
+    @Override
+    public FileChannel position(long newPosition) throws IOException {
+      delegate.position(newPosition);
+      return this;
+    }
+
+    @Override
+    public long size() throws IOException {
+      return delegate.size();
+    }
+
+    @Override
+    public FileChannel truncate(long size) throws IOException {
+      delegate.truncate(size);
+      return this;
+    }
+
+    @Override
+    public void force(boolean metaData) throws IOException {
+      delegate.force(metaData);
+    }
+
+    @Override
+    public long transferTo(long position, long count, WritableByteChannel target)
+        throws IOException {
+      return delegate.transferTo(position, count, target);
+    }
+
+    @Override
+    public long transferFrom(ReadableByteChannel src, long position, long count)
+        throws IOException {
+      return delegate.transferFrom(src, position, count);
+    }
+
+    @Override
+    public int read(ByteBuffer dst, long position) throws IOException {
+      return delegate.read(dst, position);
+    }
+
+    @Override
+    public int write(ByteBuffer src, long position) throws IOException {
+      return delegate.write(src, position);
+    }
+
+    @Override
+    public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+      return delegate.map(mode, position, size);
+    }
+
+    @Override
+    public FileLock lock(long position, long size, boolean shared) throws IOException {
+      return delegate.lock(position, size, shared);
+    }
+
+    @Override
+    public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+      return delegate.tryLock(position, size, shared);
+    }
+
+    @Override
+    protected void implCloseChannel() throws IOException {
+      delegate.close();
+    }
+  }
+}
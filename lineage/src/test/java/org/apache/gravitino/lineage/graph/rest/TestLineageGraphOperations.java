@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lineage.graph.rest;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.core.Response;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.lineage.LineageService;
+import org.apache.gravitino.lineage.graph.LineageEdge;
+import org.apache.gravitino.lineage.graph.LineageGraph;
+import org.apache.gravitino.lineage.graph.LineageGraphStore;
+import org.apache.gravitino.lineage.graph.LineageNode;
+import org.apache.gravitino.server.authorization.MetadataFilterHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentMatchers;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+public class TestLineageGraphOperations {
+
+  private static final String METALAKE = "metalake";
+  private static final LineageNode INPUT = LineageNode.dataset(METALAKE, "catalog.db.input");
+  private static final LineageNode OUTPUT = LineageNode.dataset(METALAKE, "catalog.db.output");
+  private static final LineageNode EXTERNAL = LineageNode.dataset("s3://bucket", "path");
+  private static final LineageNode JOB = LineageNode.job("namespace", "job");
+
+  @TempDir Path tempDir;
+
+  private LineageGraphStore graphStore;
+  private LineageGraphOperations operations;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    graphStore = new LineageGraphStore(tempDir.resolve("graph.log"), false);
+    graphStore.addEdges(
+        ImmutableList.of(
+            new LineageEdge(INPUT, JOB),
+            new LineageEdge(EXTERNAL, JOB),
+            new LineageEdge(JOB, OUTPUT)));
+
+    LineageService lineageService = Mockito.mock(LineageService.class);
+    Mockito.when(lineageService.graphStore()).thenReturn(Optional.of(graphStore));
+    operations = new LineageGraphOperations(lineageService);
+    FieldUtils.writeField(operations, "httpRequest", Mockito.mock(HttpServletRequest.class), true);
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    graphStore.close();
+  }
+
+  @Test
+  public void testGraphSinkNotEnabled() throws IllegalAccessException {
+    LineageGraphOperations disabledOperations =
+        new LineageGraphOperations(Mockito.mock(LineageService.class));
+    FieldUtils.writeField(
+        disabledOperations, "httpRequest", Mockito.mock(HttpServletRequest.class), true);
+    Response response = disabledOperations.getUpstream(METALAKE, "catalog.db.output", 1, 100);
+    Assertions.assertEquals(
+        Response.Status.METHOD_NOT_ALLOWED.getStatusCode(), response.getStatus());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testUnauthorizedDatasetsAreHidden() throws IllegalAccessException {
+    try (MockedStatic<MetadataFilterHelper> filterHelper =
+        Mockito.mockStatic(MetadataFilterHelper.class)) {
+      // Only the output table is authorized.
+      filterHelper
+          .when(
+              () ->
+                  MetadataFilterHelper.filterByExpression(
+                      ArgumentMatchers.eq(METALAKE),
+                      ArgumentMatchers.anyString(),
+                      ArgumentMatchers.eq(Entity.EntityType.TABLE),
+                      ArgumentMatchers.any(NameIdentifier[].class)))
+          .thenAnswer(
+              invocation ->
+                  Arrays.stream((NameIdentifier[]) invocation.getArgument(3))
+                      .filter(ident -> ident.name().equals("output"))
+                      .toArray(NameIdentifier[]::new));
+
+      Response response = operations.getDownstream(METALAKE, "catalog.db.input", 1, 100);
+      Assertions.assertEquals(Response.Status.FORBIDDEN.getStatusCode(), response.getStatus());
+
+      // The unauthorized input table is hidden, while the external dataset is not checked.
+      response = operations.getUpstream(METALAKE, "catalog.db.output", 1, 100);
+      Assertions.assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+      List<LineageGraph.Hop> nodes =
+          (List<LineageGraph.Hop>) FieldUtils.readField(response.getEntity(), "nodes", true);
+      Assertions.assertEquals(
+          ImmutableSet.of(OUTPUT, JOB, EXTERNAL),
+          nodes.stream().map(LineageGraph.Hop::node).collect(Collectors.toSet()));
+      List<LineageEdge> edges =
+          (List<LineageEdge>) FieldUtils.readField(response.getEntity(), "edges", true);
+      Assertions.assertEquals(
+          ImmutableSet.of(new LineageEdge(EXTERNAL, JOB), new LineageEdge(JOB, OUTPUT)),
+          ImmutableSet.copyOf(edges));
+    }
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lineage.sink;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.ByteStreams;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.openlineage.server.OpenLineage;
+import io.openlineage.server.OpenLineage.RunEvent;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import org.apache.gravitino.server.web.ObjectMapperProvider;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestLineageHttpSink {
+
+  private static final String BATCH_ENDPOINT = "/api/v1/lineage/batch";
+
+  @TempDir Path tempDir;
+
+  private HttpServer server;
+  private final AtomicInteger responseStatus = new AtomicInteger(200);
+  private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+  private final AtomicInteger requests = new AtomicInteger();
+
+  @BeforeEach
+  void startServer() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext(BATCH_ENDPOINT, this::handle);
+    server.start();
+  }
+
+  @AfterEach
+  void stopServer() {
+    server.stop(0);
+  }
+
+  @Test
+  void testSendInBatches() {
+    LineageHttpSink sink = new LineageHttpSink();
+    sink.initialize(
+        batchConfigs(
+            ImmutableMap.of(LineageHttpSink.BATCH_SIZE, "2", LineageHttpSink.COMPRESSION, "gzip")));
+    try {
+      for (int i = 0; i < 3; i++) {
+        sink.sink(createRunEvent());
+      }
+    } finally {
+      sink.close();
+    }
+
+    Assertions.assertEquals(2, requests.get());
+    Assertions.assertEquals(3, batchSizes.stream().mapToInt(Integer::intValue).sum());
+    Assertions.assertEquals(3, sink.metricsSource().eventsSent().getCount());
+    Assertions.assertEquals(2, sink.metricsSource().requestDuration().getCount());
+    Assertions.assertEquals(0, sink.metricsSource().eventsFailed().getCount());
+  }
+
+  @Test
+  void testRetryAndOverflow() throws IOException {
+    responseStatus.set(503);
+    Path overflowPath = tempDir.resolve("overflow");
+    LineageHttpSink sink = new LineageHttpSink();
+    sink.initialize(
+        batchConfigs(
+            ImmutableMap.of(
+                LineageHttpSink.BATCH_SIZE,
+                "2",
+                LineageHttpSink.MAX_RETRIES,
+                "1",
+                LineageHttpSink.OVERFLOW_PATH,
+                overflowPath.toString())));
+    try {
+      sink.sink(createRunEvent());
+      sink.sink(createRunEvent());
+
+      LineageHttpSinkMetricsSource metrics = sink.metricsSource();
+      Awaitility.await()
+          .atMost(20, TimeUnit.SECONDS)
+          .until(() -> metrics.eventsOverflowed().getCount() == 2);
+      Assertions.assertTrue(metrics.retries().getCount() >= 1);
+      Assertions.assertEquals(0, metrics.eventsSent().getCount());
+
+      // The buffered events are resent when the server recovers.
+      responseStatus.set(200);
+      Awaitility.await().atMost(20, TimeUnit.SECONDS).until(() -> batchSizes.contains(2));
+      Awaitility.await()
+          .atMost(20, TimeUnit.SECONDS)
+          .until(() -> metrics.eventsSent().getCount() == 2);
+      Awaitility.await().atMost(20, TimeUnit.SECONDS).until(() -> isEmptyDirectory(overflowPath));
+      Assertions.assertEquals(0, metrics.eventsFailed().getCount());
+    } finally {
+      sink.close();
+    }
+  }
+
+  @Test
+  void testDropRejectedEvents() {
+    responseStatus.set(400);
+    LineageHttpSink sink = new LineageHttpSink();
+    sink.initialize(batchConfigs(ImmutableMap.of(LineageHttpSink.BATCH_SIZE, "1")));
+    try {
+      sink.sink(createRunEvent());
+      Awaitility.await()
+          .atMost(20, TimeUnit.SECONDS)
+          .until(() -> sink.metricsSource().eventsFailed().getCount() == 1);
+      Assertions.assertEquals(1, requests.get());
+      Assertions.assertEquals(0, sink.metricsSource().retries().getCount());
+    } finally {
+      sink.close();
+    }
+  }
+
+  private Map<String, String> batchConfigs(Map<String, String> configs) {
+    return ImmutableMap.<String, String>builder()
+        .put("url", "http://localhost:" + server.getAddress().getPort())
+        .put(LineageHttpSink.MODE, LineageHttpSink.MODE_BATCH)
+        .put(LineageHttpSink.LINGER_MS, "100")
+        .put(LineageHttpSink.RETRY_BACKOFF_MS, "10")
+        .putAll(configs)
+        .build();
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    requests.incrementAndGet();
+    int status = responseStatus.get();
+    if (status == 200) {
+      InputStream body = exchange.getRequestBody();
+      if ("gzip".equals(exchange.getRequestHeaders().getFirst("Content-Encoding"))) {
+        body = new GZIPInputStream(body);
+      }
+      JsonNode events = ObjectMapperProvider.objectMapper().readTree(ByteStreams.toByteArray(body));
+      Assertions.assertTrue(events.isArray());
+      batchSizes.add(events.size());
+    }
+    exchange.sendResponseHeaders(status, -1);
+    exchange.close();
+  }
+
+  private static boolean isEmptyDirectory(Path path) throws IOException {
+    try (Stream<Path> files = Files.list(path)) {
+      return !files.findAny().isPresent();
+    }
+  }
+
+  private static RunEvent createRunEvent() {
+    ZonedDateTime now = ZonedDateTime.now();
+    OpenLineage ol = new OpenLineage(URI.create("producer"));
+    return ol.newRunEvent(
+        now,
+        OpenLineage.RunEvent.EventType.COMPLETE,
+        ol.newRun(UUID.randomUUID(), ol.newRunFacetsBuilder().build()),
+        ol.newJob("namespace", "job", ol.newJobFacetsBuilder().build()),
+        Collections.emptyList(),
+        Collections.emptyList());
+  }
+}
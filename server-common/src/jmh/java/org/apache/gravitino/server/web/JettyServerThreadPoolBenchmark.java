@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.rest.RESTUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * JettyServerThreadPoolBenchmark compares the throughput of the {@link JettyServer} running the
+ * requests on the thread pool and on virtual threads.
+ *
+ * <p>The requests are served by a servlet blocking for {@code latencyMs} to simulate the calls to
+ * the entity store and the catalogs. They are sent by more client threads than {@code maxThreads},
+ * so the thread pool is saturated while the virtual threads are not bounded. The virtual threads
+ * need Java 21+, the benchmark fails on the {@code virtual} mode otherwise.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Threads(256)
+public class JettyServerThreadPoolBenchmark {
+
+  static {
+    // Keep the connections of all the client threads alive, the JDK keeps 5 by default.
+    System.setProperty("http.maxConnections", "512");
+  }
+
+  @Param({"platform", "virtual"})
+  public String mode;
+
+  @Param({"64"})
+  public int maxThreads;
+
+  @Param({"5", "20"})
+  public long latencyMs;
+
+  private JettyServer server;
+  private URL url;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    boolean virtual = "virtual".equals(mode);
+    if (virtual && !VirtualThreadPool.isSupported()) {
+      throw new IllegalStateException("The virtual mode requires Java 21 or later");
+    }
+
+    int port = RESTUtils.findAvailablePort(5000, 6000);
+    Config config = new Config(false) {};
+    config.set(JettyServerConfig.WEBSERVER_HTTP_PORT, port);
+    config.set(JettyServerConfig.WEBSERVER_MIN_THREADS, maxThreads);
+    config.set(JettyServerConfig.WEBSERVER_MAX_THREADS, maxThreads);
+    config.set(JettyServerConfig.WEBSERVER_THREAD_POOL_WORK_QUEUE_SIZE, 4096);
+    config.set(JettyServerConfig.ENABLE_VIRTUAL_THREADS, virtual);
+
+    server = new JettyServer();
+    server.initialize(JettyServerConfig.fromConfig(config), "benchmark", false);
+    server.addServlet(new BlockingServlet(latencyMs), "/blocking");
+    server.start();
+    url = new URL("http://localhost:" + port + "/blocking");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    if (server != null) {
+      server.stop();
+    }
+  }
+
+  @Benchmark
+  public int benchmarkBlockingRequest() throws IOException {
+    HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+    int code = connection.getResponseCode();
+    if (code != HttpServletResponse.SC_OK) {
+      throw new IllegalStateException("Unexpected response code " + code);
+    }
+    // Drain the response so that the connection is reused.
+    int length = 0;
+    try (InputStream in = connection.getInputStream()) {
+      byte[] buffer = new byte[256];
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        length += read;
+      }
+    }
+    return length;
+  }
+
+  private static class BlockingServlet extends HttpServlet {
+    private static final byte[] BODY = "ok".getBytes(StandardCharsets.UTF_8);
+
+    private final long latencyMs;
+
+    private BlockingServlet(long latencyMs) {
+      this.latencyMs = latencyMs;
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+      try {
+        Thread.sleep(latencyMs);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        resp.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        return;
+      }
+      resp.setContentLength(BODY.length);
+      resp.getOutputStream().write(BODY);
+    }
+  }
+}
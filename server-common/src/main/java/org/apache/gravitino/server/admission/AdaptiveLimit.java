@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.admission;
+
+/**
+ * An adaptive concurrency limit of a subsystem, which is adjusted by the latency and the result of
+ * each request completed by the subsystem.
+ */
+public interface AdaptiveLimit {
+
+  /** @return The current max number of concurrent requests. */
+  int getLimit();
+
+  /**
+   * Updates the limit with a completed request.
+   *
+   * @param rttNanos The time in nanoseconds the request took.
+   * @param inFlight The number of requests in flight when the request started.
+   * @param dropped Whether the request failed because the subsystem is overloaded.
+   */
+  void onSample(long rttNanos, int inFlight, boolean dropped);
+}
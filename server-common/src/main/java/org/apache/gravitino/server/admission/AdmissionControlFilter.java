@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.admission;
+
+import java.io.IOException;
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * AdmissionControlFilter admits a request only if the subsystem serving it is under its
+ * concurrency limit, otherwise the request is rejected with 503 and a {@code Retry-After} header,
+ * so a slow catalog or entity store sheds its own load instead of occupying all the worker threads.
+ * The latency and the status of the admitted requests adjust the limit of the subsystem.
+ */
+public class AdmissionControlFilter implements Filter {
+
+  private static final Logger LOG = LoggerFactory.getLogger(AdmissionControlFilter.class);
+  private static final String RETRY_AFTER_HEADER = "Retry-After";
+
+  private final AdmissionController controller;
+
+  public AdmissionControlFilter(AdmissionController controller) {
+    this.controller = controller;
+  }
+
+  @Override
+  public void init(FilterConfig filterConfig) throws ServletException {}
+
+  @Override
+  public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+      throws IOException, ServletException {
+    HttpServletRequest req = (HttpServletRequest) request;
+    HttpServletResponse resp = (HttpServletResponse) response;
+    String subsystem = RequestClassifier.classify(req.getRequestURI());
+    ConcurrencyLimiter limiter = controller.limiter(subsystem);
+
+    int inFlight = limiter.tryAcquire();
+    if (inFlight < 0) {
+      controller.onRejected();
+      LOG.debug(
+          "Reject the request {} {} since {} is at its concurrency limit {}",
+          req.getMethod(),
+          req.getRequestURI(),
+          subsystem,
+          limiter.limit());
+      resp.setHeader(RETRY_AFTER_HEADER, String.valueOf(controller.retryAfterSecs()));
+      resp.sendError(
+          HttpServletResponse.SC_SERVICE_UNAVAILABLE,
+          String.format("Too many concurrent requests to %s, please retry later", subsystem));
+      return;
+    }
+
+    long start = System.nanoTime();
+    boolean dropped = true;
+    try {
+      chain.doFilter(request, response);
+      dropped = isOverloaded(resp.getStatus());
+    } finally {
+      limiter.release(System.nanoTime() - start, inFlight, dropped);
+    }
+  }
+
+  @Override
+  public void destroy() {}
+
+  private static boolean isOverloaded(int status) {
+    // The failures of the catalog backends, e.g. the connection timeouts, are returned as 5xx.
+    return status >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR || status == 429;
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.admission;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.gravitino.server.web.JettyServerConfig;
+
+/**
+ * AdmissionController keeps a {@link ConcurrencyLimiter} for each subsystem classified by {@link
+ * RequestClassifier}. The limiters are created on demand and expire after they are idle, so the
+ * catalogs dropped or never used again do not leak.
+ */
+public class AdmissionController {
+
+  private static final long MAX_SUBSYSTEMS = 10000;
+  private static final long IDLE_EXPIRATION_MINUTES = 30;
+
+  private final JettyServerConfig serverConfig;
+  private final Cache<String, ConcurrencyLimiter> limiters;
+  private final AtomicLong rejected = new AtomicLong();
+
+  /**
+   * Creates an admission controller.
+   *
+   * @param serverConfig The config of the web server.
+   */
+  public AdmissionController(JettyServerConfig serverConfig) {
+    this.serverConfig = serverConfig;
+    this.limiters =
+        CacheBuilder.newBuilder()
+            .maximumSize(MAX_SUBSYSTEMS)
+            .expireAfterAccess(IDLE_EXPIRATION_MINUTES, TimeUnit.MINUTES)
+            .build();
+  }
+
+  /**
+   * Returns the limiter of the subsystem, creates it if absent.
+   *
+   * @param subsystem The name of the subsystem.
+   * @return The limiter of the subsystem.
+   */
+  public ConcurrencyLimiter limiter(String subsystem) {
+    try {
+      return limiters.get(subsystem, () -> new ConcurrencyLimiter(subsystem, newLimit()));
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Failed to create the limiter of " + subsystem, e);
+    }
+  }
+
+  /** Records a rejected request. */
+  void onRejected() {
+    rejected.incrementAndGet();
+  }
+
+  /** @return The number of requests rejected by all the subsystems. */
+  public long rejected() {
+    return rejected.get();
+  }
+
+  /** @return The number of requests in flight of all the subsystems. */
+  public int inFlight() {
+    return limiters.asMap().values().stream().mapToInt(ConcurrencyLimiter::inFlight).sum();
+  }
+
+  /** @return The number of seconds the rejected requests should retry after. */
+  public int retryAfterSecs() {
+    return serverConfig.getAdmissionControlRetryAfterSecs();
+  }
+
+  private AdaptiveLimit newLimit() {
+    if ("aimd".equalsIgnoreCase(serverConfig.getAdmissionControlAlgorithm())) {
+      return new AimdLimit(
+          serverConfig.getAdmissionControlInitialLimit(),
+          serverConfig.getAdmissionControlMinLimit(),
+          serverConfig.getAdmissionControlMaxLimit(),
+          serverConfig.getAdmissionControlLatencyThresholdMs());
+    }
+    return new GradientLimit(
+        serverConfig.getAdmissionControlInitialLimit(),
+        serverConfig.getAdmissionControlMinLimit(),
+        serverConfig.getAdmissionControlMaxLimit());
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.admission;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An additive-increase/multiplicative-decrease limit. The limit grows by one when a request
+ * succeeds while the limit is being used, and is cut by {@link #BACKOFF_RATIO} when a request is
+ * dropped or takes longer than the latency threshold.
+ */
+public class AimdLimit implements AdaptiveLimit {
+
+  static final double BACKOFF_RATIO = 0.9;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final long latencyThresholdNanos;
+  private volatile int limit;
+
+  /**
+   * Creates an AIMD limit.
+   *
+   * @param initialLimit The initial limit.
+   * @param minLimit The min limit.
+   * @param maxLimit The max limit.
+   * @param latencyThresholdMs The latency in milliseconds above which a request counts as dropped.
+   */
+  public AimdLimit(int initialLimit, int minLimit, int maxLimit, long latencyThresholdMs) {
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMs);
+    this.limit = initialLimit;
+  }
+
+  @Override
+  public int getLimit() {
+    return limit;
+  }
+
+  @Override
+  public synchronized void onSample(long rttNanos, int inFlight, boolean dropped) {
+    if (dropped || rttNanos > latencyThresholdNanos) {
+      limit = Math.max(minLimit, (int) (limit * BACKOFF_RATIO));
+    } else if (inFlight * 2 >= limit) {
+      // Only grow the limit when it is being used, an idle subsystem keeps its limit.
+      limit = Math.min(maxLimit, limit + 1);
+    }
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/** Limits the number of concurrent requests of a subsystem with an {@link AdaptiveLimit}. */
+public class ConcurrencyLimiter {
+
+  private final String subsystem;
+  private final AdaptiveLimit limit;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicLong rejected = new AtomicLong();
+
+  /**
+   * Creates a limiter of the subsystem.
+   *
+   * @param subsystem The name of the subsystem.
+   * @param limit The adaptive limit of the subsystem.
+   */
+  public ConcurrencyLimiter(String subsystem, AdaptiveLimit limit) {
+    this.subsystem = subsystem;
+    this.limit = limit;
+  }
+
+  /**
+   * Tries to admit a request, the caller must call {@link #release(long, int, boolean)} when the
+   * admitted request completes.
+   *
+   * @return The number of requests in flight before the request if it is admitted, or -1 if the
+   *     subsystem is at its limit.
+   */
+  public int tryAcquire() {
+    while (true) {
+      int current = inFlight.get();
+      if (current >= limit.getLimit()) {
+        rejected.incrementAndGet();
+        return -1;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return current;
+      }
+    }
+  }
+
+  /**
+   * Releases an admitted request and updates the limit with its latency.
+   *
+   * @param rttNanos The time in nanoseconds the request took.
+   * @param inFlightOnAcquire The number returned by {@link #tryAcquire()}.
+   * @param dropped Whether the request failed because the subsystem is overloaded.
+   */
+  public void release(long rttNanos, int inFlightOnAcquire, boolean dropped) {
+    inFlight.decrementAndGet();
+    limit.onSample(rttNanos, inFlightOnAcquire + 1, dropped);
+  }
+
+  /** @return The name of the subsystem. */
+  public String subsystem() {
+    return subsystem;
+  }
+
+  /** @return The current limit of the subsystem. */
+  public int limit() {
+    return limit.getLimit();
+  }
+
+  /** @return The number of requests in flight. */
+  public int inFlight() {
+    return inFlight.get();
+  }
+
+  /** @return The number of requests rejected. */
+  public long rejected() {
+    return rejected.get();
+  }
+}
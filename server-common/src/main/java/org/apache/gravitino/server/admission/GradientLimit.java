@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.admission;
+
+/**
+ * A limit adjusted by the gradient between the long-term and the short-term latency of the
+ * subsystem. The long-term latency is the baseline of a healthy subsystem, the limit shrinks when
+ * the recent requests are slower than the baseline since the requests are queueing in the
+ * subsystem, and grows by a small headroom otherwise.
+ *
+ * <p>Both latencies are exponential moving averages, so a permanent slowdown is eventually accepted
+ * as the new baseline through the long window. When the subsystem recovers and the recent latency
+ * is much lower than the baseline, the baseline is decayed faster so that a later slowdown is
+ * detected against the recovered latency.
+ */
+public class GradientLimit implements AdaptiveLimit {
+
+  private static final double LONG_WINDOW = 600;
+  private static final double SHORT_WINDOW = 10;
+  private static final double TOLERANCE = 1.5;
+  private static final double SMOOTHING = 0.2;
+  private static final double MIN_GRADIENT = 0.5;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private volatile int limit;
+  private double estimatedLimit;
+  private double longRtt;
+  private double shortRtt;
+
+  /**
+   * Creates a gradient limit.
+   *
+   * @param initialLimit The initial limit.
+   * @param minLimit The min limit.
+   * @param maxLimit The max limit.
+   */
+  public GradientLimit(int initialLimit, int minLimit, int maxLimit) {
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.limit = initialLimit;
+    this.estimatedLimit = initialLimit;
+  }
+
+  @Override
+  public int getLimit() {
+    return limit;
+  }
+
+  @Override
+  public synchronized void onSample(long rttNanos, int inFlight, boolean dropped) {
+    if (longRtt == 0) {
+      longRtt = rttNanos;
+      shortRtt = rttNanos;
+      return;
+    }
+    longRtt += (rttNanos - longRtt) / LONG_WINDOW;
+    shortRtt += (rttNanos - shortRtt) / SHORT_WINDOW;
+
+    // Decay the baseline faster towards the recent latency when the subsystem has recovered.
+    if (longRtt / shortRtt > 2) {
+      longRtt *= 0.95;
+    }
+
+    // Don't grow the limit when it is not used, it would not be verified by the latency.
+    if (!dropped && inFlight < estimatedLimit / 2) {
+      return;
+    }
+
+    double gradient = MIN_GRADIENT;
+    if (!dropped) {
+      gradient = Math.max(MIN_GRADIENT, Math.min(1.0, TOLERANCE * longRtt / shortRtt));
+    }
+    double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+    newLimit = estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+    estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    limit = (int) estimatedLimit;
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.admission;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Classifies the requests by the subsystem serving them, so that a slow catalog only exhausts its
+ * own limit. The requests to a catalog of the Gravitino server or a catalog of the Iceberg REST
+ * server are served by the catalog, the other requests of the Gravitino REST API are served by the
+ * entity store.
+ */
+public final class RequestClassifier {
+
+  /** The subsystem of the requests served by the entity store. */
+  public static final String ENTITY_STORE = "entity-store";
+
+  /** The subsystem of the requests not served by a catalog nor the entity store. */
+  public static final String OTHER = "other";
+
+  private static final String CATALOG_PREFIX = "catalog:";
+  private static final String ICEBERG_DEFAULT_CATALOG = "default";
+
+  private static final Pattern GRAVITINO_CATALOG_PATTERN =
+      Pattern.compile("^/api/metalakes/([^/]+)/catalogs/([^/]+)(/.*)?$");
+  private static final Pattern GRAVITINO_API_PATTERN = Pattern.compile("^/api/metalakes(/.*)?$");
+  private static final Pattern ICEBERG_CATALOG_PATTERN =
+      Pattern.compile("^/iceberg/v1/(?:([^/]+)/)?(namespaces|views|tables|transactions)(/.*)?$");
+
+  private RequestClassifier() {}
+
+  /**
+   * Returns the subsystem serving the request.
+   *
+   * @param requestUri The URI of the request, without the query string.
+   * @return The name of the subsystem.
+   */
+  public static String classify(String requestUri) {
+    if (requestUri == null) {
+      return OTHER;
+    }
+
+    Matcher matcher = GRAVITINO_CATALOG_PATTERN.matcher(requestUri);
+    if (matcher.matches()) {
+      return CATALOG_PREFIX + matcher.group(1) + "." + matcher.group(2);
+    }
+    if (GRAVITINO_API_PATTERN.matcher(requestUri).matches()) {
+      return ENTITY_STORE;
+    }
+
+    matcher = ICEBERG_CATALOG_PATTERN.matcher(requestUri);
+    if (matcher.matches()) {
+      String catalog = matcher.group(1) == null ? ICEBERG_DEFAULT_CATALOG : matcher.group(1);
+      return CATALOG_PREFIX + catalog;
+    }
+    return OTHER;
+  }
+}
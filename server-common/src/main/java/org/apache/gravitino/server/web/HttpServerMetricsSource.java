@@ -25,6 +25,7 @@ import com.codahale.metrics.jersey2.InstrumentedResourceMethodApplicationListene
 import java.util.concurrent.TimeUnit;
 import org.apache.gravitino.metrics.MetricNames;
 import org.apache.gravitino.metrics.source.MetricsSource;
+import org.apache.gravitino.server.admission.AdmissionController;
 import org.glassfish.jersey.server.ResourceConfig;
 
 public class HttpServerMetricsSource extends MetricsSource {
@@ -40,5 +41,11 @@ public class HttpServerMetricsSource extends MetricsSource {
                     getTimeSlidingWindowSeconds(), TimeUnit.SECONDS)));
     registerGauge(
         MetricNames.SERVER_IDLE_THREAD_NUM, () -> server.getThreadPool().getIdleThreads());
+
+    AdmissionController admissionController = server.getAdmissionController();
+    if (admissionController != null) {
+      registerGauge(MetricNames.SERVER_ADMISSION_REJECTED_REQUESTS, admissionController::rejected);
+      registerGauge(MetricNames.SERVER_ADMISSION_IN_FLIGHT_REQUESTS, admissionController::inFlight);
+    }
   }
 }
@@ -40,6 +40,8 @@ import javax.servlet.Servlet;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.server.admission.AdmissionControlFilter;
+import org.apache.gravitino.server.admission.AdmissionController;
 import org.apache.gravitino.server.authentication.AuthenticationFilter;
 import org.eclipse.jetty.server.ConnectionFactory;
 import org.eclipse.jetty.server.HttpConfiguration;
@@ -79,6 +81,8 @@ public final class JettyServer {
 
   private String serverName;
 
+  private AdmissionController admissionController;
+
   public JettyServer() {}
 
   public synchronized void initialize(
@@ -86,11 +90,32 @@ public final class JettyServer {
     this.serverConfig = serverConfig;
     this.serverName = serverName;
 
-    ThreadPool threadPool =
-        createThreadPool(
-            serverConfig.getMinThreads(),
-            serverConfig.getMaxThreads(),
-            serverConfig.getThreadPoolWorkQueueSize());
+    ThreadPool threadPool;
+    if (serverConfig.isEnableVirtualThreads() && VirtualThreadPool.isSupported()) {
+      LOG.info("{} web server runs the requests on virtual threads.", serverName);
+      threadPool =
+          new VirtualThreadPool(
+              serverName,
+              Thread.currentThread().getContextClassLoader(),
+              serverConfig.getStopTimeout());
+    } else {
+      if (serverConfig.isEnableVirtualThreads()) {
+        LOG.warn(
+            "Virtual threads are not supported by Java {}, {} web server falls back to the thread "
+                + "pool.",
+            System.getProperty("java.version"),
+            serverName);
+      }
+      threadPool =
+          createThreadPool(
+              serverConfig.getMinThreads(),
+              serverConfig.getMaxThreads(),
+              serverConfig.getThreadPoolWorkQueueSize());
+    }
+
+    if (serverConfig.isEnableAdmissionControl()) {
+      admissionController = new AdmissionController(serverConfig);
+    }
 
     // Create and config Jetty Server
     server = new Server(threadPool);
@@ -450,6 +475,11 @@ public final class JettyServer {
     return server.getThreadPool();
   }
 
+  /** @return The admission controller, or null if the admission control is not enabled. */
+  public AdmissionController getAdmissionController() {
+    return admissionController;
+  }
+
   public void addCustomFilters(String pathSpec) {
     for (String filterName : serverConfig.getCustomFilters()) {
       if (StringUtils.isBlank(filterName)) {
@@ -470,6 +500,10 @@ public final class JettyServer {
       servletContextHandler.addFilter(
           CorsFilterHolder.create(serverConfig), pathSpec, EnumSet.allOf(DispatcherType.class));
     }
+    // Shed the requests before authenticating them, which may call the external services.
+    if (admissionController != null) {
+      addFilter(new AdmissionControlFilter(admissionController), pathSpec);
+    }
     addFilter(new AuthenticationFilter(), pathSpec);
   }
 }
@@ -117,6 +117,77 @@ public final class JettyServerConfig {
           .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
           .createWithDefault(100);
 
+  public static final ConfigEntry<Boolean> ENABLE_VIRTUAL_THREADS =
+      new ConfigBuilder("enableVirtualThreads")
+          .doc(
+              "Whether to run the requests on virtual threads instead of the thread pool, it only "
+                  + "takes effect on Java 21 or later, minThreads, maxThreads and "
+                  + "threadPoolWorkQueueSize are ignored if the virtual threads are used")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Boolean> ENABLE_ADMISSION_CONTROL =
+      new ConfigBuilder("enableAdmissionControl")
+          .doc(
+              "Whether to limit the concurrent requests of each catalog and the entity store "
+                  + "adaptively, and reject the requests over the limits")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<String> ADMISSION_CONTROL_ALGORITHM =
+      new ConfigBuilder("admissionControlAlgorithm")
+          .doc("The algorithm to adjust the concurrency limits, `gradient` or `aimd`")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .stringConf()
+          .checkValue(
+              value -> "gradient".equalsIgnoreCase(value) || "aimd".equalsIgnoreCase(value),
+              "The admission control algorithm must be `gradient` or `aimd`")
+          .createWithDefault("gradient");
+
+  public static final ConfigEntry<Integer> ADMISSION_CONTROL_INITIAL_LIMIT =
+      new ConfigBuilder("admissionControlInitialLimit")
+          .doc("The initial concurrency limit of each subsystem")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(20);
+
+  public static final ConfigEntry<Integer> ADMISSION_CONTROL_MIN_LIMIT =
+      new ConfigBuilder("admissionControlMinLimit")
+          .doc("The min concurrency limit of each subsystem")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(4);
+
+  public static final ConfigEntry<Integer> ADMISSION_CONTROL_MAX_LIMIT =
+      new ConfigBuilder("admissionControlMaxLimit")
+          .doc("The max concurrency limit of each subsystem")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(200);
+
+  public static final ConfigEntry<Long> ADMISSION_CONTROL_LATENCY_THRESHOLD_MS =
+      new ConfigBuilder("admissionControlLatencyThresholdMs")
+          .doc(
+              "The latency in milliseconds above which a request counts as dropped by the `aimd` "
+                  + "algorithm")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(5000L);
+
+  public static final ConfigEntry<Integer> ADMISSION_CONTROL_RETRY_AFTER_SECS =
+      new ConfigBuilder("admissionControlRetryAfterSecs")
+          .doc("The seconds in the `Retry-After` header of the rejected requests")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1);
+
   public static final ConfigEntry<Boolean> ENABLE_HTTPS =
       new ConfigBuilder("enableHttps")
           .doc("Enable https")
@@ -311,6 +382,16 @@ public final class JettyServerConfig {
 
   private final int threadPoolWorkQueueSize;
 
+  private final boolean enableVirtualThreads;
+
+  private final boolean enableAdmissionControl;
+  private final String admissionControlAlgorithm;
+  private final int admissionControlInitialLimit;
+  private final int admissionControlMinLimit;
+  private final int admissionControlMaxLimit;
+  private final long admissionControlLatencyThresholdMs;
+  private final int admissionControlRetryAfterSecs;
+
   private final int httpsPort;
   private final String keyStorePath;
   private final String keyStorePassword;
@@ -365,6 +446,23 @@ public final class JettyServerConfig {
     this.requestHeaderSize = internalConfig.get(WEBSERVER_REQUEST_HEADER_SIZE);
     this.responseHeaderSize = internalConfig.get(WEBSERVER_RESPONSE_HEADER_SIZE);
     this.threadPoolWorkQueueSize = internalConfig.get(WEBSERVER_THREAD_POOL_WORK_QUEUE_SIZE);
+    this.enableVirtualThreads = internalConfig.get(ENABLE_VIRTUAL_THREADS);
+
+    this.enableAdmissionControl = internalConfig.get(ENABLE_ADMISSION_CONTROL);
+    this.admissionControlAlgorithm = internalConfig.get(ADMISSION_CONTROL_ALGORITHM);
+    this.admissionControlInitialLimit = internalConfig.get(ADMISSION_CONTROL_INITIAL_LIMIT);
+    this.admissionControlMinLimit = internalConfig.get(ADMISSION_CONTROL_MIN_LIMIT);
+    this.admissionControlMaxLimit = internalConfig.get(ADMISSION_CONTROL_MAX_LIMIT);
+    Preconditions.checkArgument(
+        admissionControlMinLimit <= admissionControlInitialLimit
+            && admissionControlInitialLimit <= admissionControlMaxLimit,
+        String.format(
+            "admissionControlInitialLimit:%d should be between admissionControlMinLimit:%d and "
+                + "admissionControlMaxLimit:%d",
+            admissionControlInitialLimit, admissionControlMinLimit, admissionControlMaxLimit));
+    this.admissionControlLatencyThresholdMs =
+        internalConfig.get(ADMISSION_CONTROL_LATENCY_THRESHOLD_MS);
+    this.admissionControlRetryAfterSecs = internalConfig.get(ADMISSION_CONTROL_RETRY_AFTER_SECS);
 
     this.enableHttps = internalConfig.get(ENABLE_HTTPS);
     this.httpsPort = internalConfig.get(WEBSERVER_HTTPS_PORT);
@@ -455,6 +553,38 @@ public final class JettyServerConfig {
     return threadPoolWorkQueueSize;
   }
 
+  public boolean isEnableVirtualThreads() {
+    return enableVirtualThreads;
+  }
+
+  public boolean isEnableAdmissionControl() {
+    return enableAdmissionControl;
+  }
+
+  public String getAdmissionControlAlgorithm() {
+    return admissionControlAlgorithm;
+  }
+
+  public int getAdmissionControlInitialLimit() {
+    return admissionControlInitialLimit;
+  }
+
+  public int getAdmissionControlMinLimit() {
+    return admissionControlMinLimit;
+  }
+
+  public int getAdmissionControlMaxLimit() {
+    return admissionControlMaxLimit;
+  }
+
+  public long getAdmissionControlLatencyThresholdMs() {
+    return admissionControlLatencyThresholdMs;
+  }
+
+  public int getAdmissionControlRetryAfterSecs() {
+    return admissionControlRetryAfterSecs;
+  }
+
   public int getIdleTimeout() {
     return idleTimeout;
   }
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+import org.eclipse.jetty.util.thread.ThreadPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A Jetty {@link ThreadPool} that runs every task on a new virtual thread. The virtual thread API
+ * is only available on JDK 21+ while Gravitino is built against older JDKs, so the API is looked up
+ * by reflection, {@link #isSupported()} tells whether the running JVM provides it.
+ *
+ * <p>The pool is unbounded, so it never reports that it is low on threads, and it has no idle
+ * threads since a virtual thread is created per task and discarded when the task finishes.
+ */
+public class VirtualThreadPool extends AbstractLifeCycle implements ThreadPool {
+
+  private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadPool.class);
+
+  private static final Method OF_VIRTUAL_METHOD;
+  private static final Method NEW_THREAD_PER_TASK_EXECUTOR_METHOD;
+
+  static {
+    Method ofVirtual = null;
+    Method newThreadPerTaskExecutor = null;
+    try {
+      ofVirtual = Thread.class.getMethod("ofVirtual");
+      newThreadPerTaskExecutor =
+          Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+    } catch (NoSuchMethodException e) {
+      // Virtual threads are not supported by the running JVM.
+    }
+    OF_VIRTUAL_METHOD = ofVirtual;
+    NEW_THREAD_PER_TASK_EXECUTOR_METHOD = newThreadPerTaskExecutor;
+  }
+
+  private final String name;
+  private final ClassLoader classLoader;
+  private final long stopTimeoutMs;
+  private final AtomicInteger activeThreads = new AtomicInteger();
+
+  private volatile ExecutorService executor;
+
+  /**
+   * Creates a virtual thread pool.
+   *
+   * @param name The name prefix of the virtual threads.
+   * @param classLoader The context classloader of the tasks.
+   * @param stopTimeoutMs The time in milliseconds to wait for the running tasks when stopping.
+   */
+  public VirtualThreadPool(String name, ClassLoader classLoader, long stopTimeoutMs) {
+    if (!isSupported()) {
+      throw new UnsupportedOperationException(
+          "Virtual threads are not supported by Java " + System.getProperty("java.version"));
+    }
+    this.name = name;
+    this.classLoader = classLoader;
+    this.stopTimeoutMs = stopTimeoutMs;
+  }
+
+  /** @return True if the running JVM supports virtual threads. */
+  public static boolean isSupported() {
+    return OF_VIRTUAL_METHOD != null && NEW_THREAD_PER_TASK_EXECUTOR_METHOD != null;
+  }
+
+  @Override
+  protected void doStart() throws Exception {
+    executor = newVirtualThreadPerTaskExecutor();
+    super.doStart();
+  }
+
+  @Override
+  protected void doStop() throws Exception {
+    ExecutorService current = executor;
+    if (current != null) {
+      current.shutdown();
+      if (!current.awaitTermination(stopTimeoutMs, TimeUnit.MILLISECONDS)) {
+        LOG.warn("Interrupting {} tasks of {} which did not stop in time", activeThreads, name);
+        current.shutdownNow();
+      }
+    }
+    super.doStop();
+  }
+
+  @Override
+  public void execute(Runnable task) {
+    ExecutorService current = executor;
+    if (current == null) {
+      throw new RejectedExecutionException(name + " is not started");
+    }
+
+    current.execute(
+        () -> {
+          activeThreads.incrementAndGet();
+          // The virtual threads inherit the context classloader of the thread submitting the
+          // task, which may be a thread of the other server sharing the JVM, so we set it here.
+          Thread.currentThread().setContextClassLoader(classLoader);
+          try {
+            task.run();
+          } catch (Throwable t) {
+            LOG.error("{} uncaught exception:", Thread.currentThread().getName(), t);
+          } finally {
+            activeThreads.decrementAndGet();
+          }
+        });
+  }
+
+  @Override
+  public void join() throws InterruptedException {
+    ExecutorService current = executor;
+    if (current == null) {
+      return;
+    }
+    while (!current.awaitTermination(1, TimeUnit.MINUTES)) {
+      // Keep waiting until the pool is stopped.
+    }
+  }
+
+  @Override
+  public int getThreads() {
+    return activeThreads.get();
+  }
+
+  @Override
+  public int getIdleThreads() {
+    return 0;
+  }
+
+  @Override
+  public boolean isLowOnThreads() {
+    return false;
+  }
+
+  private ExecutorService newVirtualThreadPerTaskExecutor() {
+    try {
+      Object builder = OF_VIRTUAL_METHOD.invoke(null);
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      builder =
+          builderClass.getMethod("name", String.class, long.class).invoke(builder, name + "-", 0L);
+      ThreadFactory threadFactory =
+          (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+      return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR_METHOD.invoke(null, threadFactory);
+    } catch (InvocationTargetException e) {
+      throw new IllegalStateException("Failed to create the virtual thread executor", e.getCause());
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Failed to create the virtual thread executor", e);
+    }
+  }
+}
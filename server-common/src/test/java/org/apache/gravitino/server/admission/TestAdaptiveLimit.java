@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.admission;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestAdaptiveLimit {
+
+  private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+  private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(200);
+
+  @Test
+  public void testAimdLimit() {
+    AimdLimit limit = new AimdLimit(10, 2, 12, 100);
+
+    // An idle subsystem keeps its limit.
+    limit.onSample(FAST, 1, false);
+    Assertions.assertEquals(10, limit.getLimit());
+
+    limit.onSample(FAST, 8, false);
+    Assertions.assertEquals(11, limit.getLimit());
+    limit.onSample(FAST, 8, false);
+    limit.onSample(FAST, 8, false);
+    Assertions.assertEquals(12, limit.getLimit());
+
+    limit.onSample(FAST, 8, true);
+    Assertions.assertEquals(10, limit.getLimit());
+    limit.onSample(SLOW, 8, false);
+    Assertions.assertEquals(9, limit.getLimit());
+
+    for (int i = 0; i < 100; i++) {
+      limit.onSample(FAST, 8, true);
+    }
+    Assertions.assertEquals(2, limit.getLimit());
+  }
+
+  @Test
+  public void testGradientLimit() {
+    GradientLimit limit = new GradientLimit(20, 4, 100);
+
+    for (int i = 0; i < 100; i++) {
+      limit.onSample(FAST, limit.getLimit(), false);
+    }
+    int healthyLimit = limit.getLimit();
+    Assertions.assertTrue(healthyLimit > 20);
+
+    for (int i = 0; i < 20; i++) {
+      limit.onSample(SLOW, limit.getLimit(), false);
+    }
+    Assertions.assertTrue(limit.getLimit() < healthyLimit);
+
+    for (int i = 0; i < 100; i++) {
+      limit.onSample(SLOW, limit.getLimit(), true);
+    }
+    Assertions.assertEquals(4, limit.getLimit());
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.admission;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.server.web.JettyServerConfig;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestAdmissionControlFilter {
+
+  private AdmissionController controller;
+  private AdmissionControlFilter filter;
+
+  @BeforeEach
+  public void setUp() {
+    Config config = new Config(false) {};
+    config.set(JettyServerConfig.ENABLE_ADMISSION_CONTROL, true);
+    config.set(JettyServerConfig.ADMISSION_CONTROL_ALGORITHM, "aimd");
+    config.set(JettyServerConfig.ADMISSION_CONTROL_INITIAL_LIMIT, 1);
+    config.set(JettyServerConfig.ADMISSION_CONTROL_MIN_LIMIT, 1);
+    config.set(JettyServerConfig.ADMISSION_CONTROL_RETRY_AFTER_SECS, 3);
+    controller = new AdmissionController(JettyServerConfig.fromConfig(config));
+    filter = new AdmissionControlFilter(controller);
+  }
+
+  @Test
+  public void testRejectOverLimit() throws Exception {
+    HttpServletRequest request = mockRequest("/api/metalakes/m1/catalogs/c1/schemas");
+    HttpServletResponse response = mock(HttpServletResponse.class);
+    HttpServletResponse rejectedResponse = mock(HttpServletResponse.class);
+    HttpServletResponse otherResponse = mock(HttpServletResponse.class);
+    FilterChain nestedChain = mock(FilterChain.class);
+
+    // Send the other requests while the first request is in flight.
+    FilterChain chain =
+        (req, resp) -> {
+          filter.doFilter(request, rejectedResponse, nestedChain);
+          filter.doFilter(mockRequest("/api/metalakes/m1/catalogs/c2"), otherResponse, nestedChain);
+        };
+    when(response.getStatus()).thenReturn(HttpServletResponse.SC_OK);
+    when(otherResponse.getStatus()).thenReturn(HttpServletResponse.SC_OK);
+    filter.doFilter(request, response, chain);
+
+    verify(rejectedResponse).setHeader("Retry-After", "3");
+    verify(rejectedResponse).sendError(eq(HttpServletResponse.SC_SERVICE_UNAVAILABLE), anyString());
+    verify(nestedChain, never()).doFilter(any(), eq(rejectedResponse));
+    // The requests to the other catalog are not affected.
+    verify(nestedChain).doFilter(any(), eq(otherResponse));
+    verify(otherResponse, never()).sendError(anyInt(), anyString());
+
+    Assertions.assertEquals(1, controller.rejected());
+    Assertions.assertEquals(0, controller.inFlight());
+    Assertions.assertEquals(1, controller.limiter("catalog:m1.c1").rejected());
+  }
+
+  @Test
+  public void testReleaseOnFailure() throws Exception {
+    HttpServletRequest request = mockRequest("/api/metalakes/m1/catalogs/c1/schemas");
+    HttpServletResponse response = mock(HttpServletResponse.class);
+    FilterChain chain =
+        (req, resp) -> {
+          throw new IllegalStateException("mock failure");
+        };
+    Assertions.assertThrows(
+        IllegalStateException.class, () -> filter.doFilter(request, response, chain));
+    Assertions.assertEquals(0, controller.inFlight());
+
+    // The limit is released, so the next request is admitted.
+    FilterChain okChain = mock(FilterChain.class);
+    filter.doFilter(request, response, okChain);
+    verify(okChain).doFilter(request, response);
+    Assertions.assertEquals(0, controller.rejected());
+  }
+
+  private static HttpServletRequest mockRequest(String uri) {
+    HttpServletRequest request = mock(HttpServletRequest.class);
+    when(request.getRequestURI()).thenReturn(uri);
+    when(request.getMethod()).thenReturn("GET");
+    return request;
+  }
+}
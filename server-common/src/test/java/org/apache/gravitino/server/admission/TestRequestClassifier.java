@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.admission;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestRequestClassifier {
+
+  @Test
+  public void testClassifyGravitinoRequests() {
+    Assertions.assertEquals(
+        "catalog:m1.c1", RequestClassifier.classify("/api/metalakes/m1/catalogs/c1"));
+    Assertions.assertEquals(
+        "catalog:m1.c1",
+        RequestClassifier.classify("/api/metalakes/m1/catalogs/c1/schemas/s1/tables/t1"));
+    Assertions.assertEquals(
+        RequestClassifier.ENTITY_STORE, RequestClassifier.classify("/api/metalakes/m1/catalogs"));
+    Assertions.assertEquals(
+        RequestClassifier.ENTITY_STORE, RequestClassifier.classify("/api/metalakes/m1/tags/t1"));
+    Assertions.assertEquals(
+        RequestClassifier.ENTITY_STORE, RequestClassifier.classify("/api/metalakes"));
+    Assertions.assertEquals(RequestClassifier.OTHER, RequestClassifier.classify("/api/version"));
+    Assertions.assertEquals(RequestClassifier.OTHER, RequestClassifier.classify(null));
+  }
+
+  @Test
+  public void testClassifyIcebergRequests() {
+    Assertions.assertEquals(
+        "catalog:default", RequestClassifier.classify("/iceberg/v1/namespaces/db/tables/t1"));
+    Assertions.assertEquals(
+        "catalog:hive", RequestClassifier.classify("/iceberg/v1/hive/namespaces/db/tables/t1"));
+    Assertions.assertEquals(
+        "catalog:hive", RequestClassifier.classify("/iceberg/v1/hive/transactions/commit"));
+    Assertions.assertEquals(
+        RequestClassifier.OTHER, RequestClassifier.classify("/iceberg/v1/config"));
+  }
+}
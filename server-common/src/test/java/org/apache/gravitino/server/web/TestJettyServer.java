@@ -19,6 +19,7 @@
 package org.apache.gravitino.server.web;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 
@@ -68,6 +69,20 @@ public class TestJettyServer {
     jettyServer.stop();
   }
 
+  @Test
+  public void testStartAndStopWithVirtualThreads() throws RuntimeException, IOException {
+    Config config = new Config(false) {};
+    config.set(JettyServerConfig.WEBSERVER_HTTP_PORT, RESTUtils.findAvailablePort(5000, 6000));
+    config.set(JettyServerConfig.ENABLE_VIRTUAL_THREADS, true);
+    JettyServerConfig serverConfig = JettyServerConfig.fromConfig(config);
+    jettyServer.initialize(serverConfig, "test", false);
+    // Falls back to the thread pool if the JVM does not support virtual threads
+    assertEquals(
+        VirtualThreadPool.isSupported(), jettyServer.getThreadPool() instanceof VirtualThreadPool);
+    jettyServer.start();
+    jettyServer.stop();
+  }
+
   @Test
   public void testAddServletAndFilter() throws RuntimeException, IOException {
     Config config = new Config(false) {};
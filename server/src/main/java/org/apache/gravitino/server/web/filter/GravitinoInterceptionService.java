@@ -37,6 +37,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.metrics.LatencyTracer;
+import org.apache.gravitino.metrics.LatencyTracer.Subsystem;
 import org.apache.gravitino.server.authorization.annotations.AuthorizationExpression;
 import org.apache.gravitino.server.authorization.annotations.AuthorizationMetadata;
 import org.apache.gravitino.server.authorization.expression.AuthorizationExpressionEvaluator;
@@ -127,10 +129,13 @@ public class GravitinoInterceptionService implements InterceptionService {
           Map<String, Object> pathParams = extractPathParamsFromParameters(parameters, args);
           AuthorizationExpressionEvaluator authorizationExpressionEvaluator =
               new AuthorizationExpressionEvaluator(expression);
-          boolean authorizeResult =
-              authorizationExpressionEvaluator.evaluate(metadataContext, pathParams);
+          MetadataObject.Type type = expressionAnnotation.accessMetadataType();
+          boolean authorizeResult;
+          try (LatencyTracer.Span ignored = LatencyTracer.start(Subsystem.AUTHORIZATION, type)) {
+            authorizeResult =
+                authorizationExpressionEvaluator.evaluate(metadataContext, pathParams);
+          }
           if (!authorizeResult) {
-            MetadataObject.Type type = expressionAnnotation.accessMetadataType();
             NameIdentifier accessMetadataName =
                 metadataContext.get(Entity.EntityType.valueOf(type.name()));
             String errorMessage = expressionAnnotation.errorMessage();
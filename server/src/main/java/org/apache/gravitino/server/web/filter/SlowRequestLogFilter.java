@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.filter;
+
+import java.io.IOException;
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import org.apache.gravitino.metrics.LatencyTracer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * SlowRequestLogFilter traces each request with {@link LatencyTracer}, and logs the requests which
+ * take longer than the threshold along with the latency of each traced stage, e.g., the tree lock,
+ * the entity store and the catalog operations.
+ */
+public class SlowRequestLogFilter implements Filter {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SlowRequestLogFilter.class);
+
+  private final long slowRequestThresholdMs;
+
+  public SlowRequestLogFilter(long slowRequestThresholdMs) {
+    this.slowRequestThresholdMs = slowRequestThresholdMs;
+  }
+
+  @Override
+  public void init(FilterConfig filterConfig) throws ServletException {}
+
+  @Override
+  public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+      throws IOException, ServletException {
+    HttpServletRequest req = (HttpServletRequest) request;
+    LatencyTracer.RequestTrace trace =
+        LatencyTracer.beginRequest(req.getMethod() + " " + req.getRequestURI());
+    try {
+      chain.doFilter(request, response);
+    } finally {
+      LatencyTracer.endRequest(trace);
+      long elapsedMillis = trace.elapsedMillis();
+      if (elapsedMillis >= slowRequestThresholdMs) {
+        LOG.warn(
+            "Slow request {} took {} ms, stages: [{}]",
+            trace.name(),
+            elapsedMillis,
+            trace.stageBreakdown());
+      }
+    }
+  }
+
+  @Override
+  public void destroy() {}
+}
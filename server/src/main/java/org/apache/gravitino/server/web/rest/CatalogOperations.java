@@ -39,6 +39,7 @@ import javax.ws.rs.core.Response;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.CatalogChange;
 import org.apache.gravitino.Entity;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
@@ -246,6 +247,42 @@ public class CatalogOperations {
     }
   }
 
+  @POST
+  @Path("{catalog}/import")
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "import-catalog." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "import-catalog", absolute = true)
+  @AuthorizationExpression(
+      expression = "ANY(OWNER, METALAKE, CATALOG)",
+      accessMetadataType = MetadataObject.Type.CATALOG)
+  public Response importCatalog(
+      @PathParam("metalake") @AuthorizationMetadata(type = Entity.EntityType.METALAKE)
+          String metalake,
+      @PathParam("catalog") @AuthorizationMetadata(type = Entity.EntityType.CATALOG)
+          String catalogName) {
+    LOG.info("Received import request for catalog: {}.{}", metalake, catalogName);
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            NameIdentifier ident = NameIdentifierUtil.ofCatalog(metalake, catalogName);
+            boolean triggered =
+                GravitinoEnv.getInstance().metadataImportCrawler().triggerCrawl(ident);
+            Response response = Utils.ok(new BaseResponse());
+            if (triggered) {
+              LOG.info("Triggered import of catalog: {}.{}", metalake, catalogName);
+            } else {
+              LOG.info("Catalog {}.{} is being imported, skip this trigger", metalake, catalogName);
+            }
+            return response;
+          });
+
+    } catch (Exception e) {
+      return ExceptionHandlers.handleCatalogException(
+          OperationType.IMPORT, catalogName, metalake, e);
+    }
+  }
+
   @GET
   @Path("{catalog}")
   @Produces("application/vnd.gravitino.v1+json")
@@ -22,6 +22,7 @@ import static org.apache.gravitino.file.Fileset.LOCATION_NAME_UNKNOWN;
 
 import com.codahale.metrics.annotation.ResponseMetered;
 import com.codahale.metrics.annotation.Timed;
+import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
@@ -61,6 +62,7 @@ import org.apache.gravitino.dto.responses.FileLocationResponse;
 import org.apache.gravitino.dto.responses.FilesetResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.file.FileInfo;
+import org.apache.gravitino.file.FileInfoPage;
 import org.apache.gravitino.file.Fileset;
 import org.apache.gravitino.file.FilesetChange;
 import org.apache.gravitino.metrics.MetricNames;
@@ -79,6 +81,10 @@ public class FilesetOperations {
 
   private static final Logger LOG = LoggerFactory.getLogger(FilesetOperations.class);
 
+  private static final int DEFAULT_LIST_FILES_PAGE_SIZE = 1000;
+
+  private static final int MAX_LIST_FILES_PAGE_SIZE = 10000;
+
   private final FilesetDispatcher dispatcher;
 
   private static final String loadFilesetAuthorizationExpression =
@@ -230,16 +236,22 @@ public class FilesetOperations {
       @PathParam("schema") String schema,
       @PathParam("fileset") String fileset,
       @QueryParam("sub_path") @DefaultValue("/") String subPath,
-      @QueryParam("location_name") String locationName)
+      @QueryParam("location_name") String locationName,
+      @QueryParam("recursive") @DefaultValue("false") boolean recursive,
+      @QueryParam("page_token") String pageToken,
+      @QueryParam("page_size") Integer pageSize)
       throws UnsupportedEncodingException {
     LOG.info(
-        "Received list files request: {}.{}.{}.{}, subPath: {}, locationName:{}",
+        "Received list files request: {}.{}.{}.{}, subPath: {}, locationName:{}, recursive: {}, "
+            + "pageSize: {}",
         metalake,
         catalog,
         schema,
         fileset,
         subPath,
-        locationName);
+        locationName,
+        recursive,
+        pageSize);
 
     final String decodedSubPath =
         StringUtils.isNotBlank(subPath)
@@ -252,8 +264,26 @@ public class FilesetOperations {
           () -> {
             NameIdentifier filesetIdent =
                 NameIdentifierUtil.ofFileset(metalake, catalog, schema, fileset);
-            FileInfo[] files = dispatcher.listFiles(filesetIdent, locationName, decodedSubPath);
-            Response response = Utils.ok(new FileInfoListResponse(DTOConverters.toDTO(files)));
+            Response response;
+            // The files are listed page by page if the page or recursive listing is requested,
+            // otherwise all the files in the directory are returned in one response.
+            if (recursive || pageToken != null || pageSize != null) {
+              int size = pageSize == null ? DEFAULT_LIST_FILES_PAGE_SIZE : pageSize;
+              Preconditions.checkArgument(
+                  size > 0 && size <= MAX_LIST_FILES_PAGE_SIZE,
+                  "The page size must be in (0, %s]",
+                  MAX_LIST_FILES_PAGE_SIZE);
+              FileInfoPage page =
+                  dispatcher.listFiles(
+                      filesetIdent, locationName, decodedSubPath, recursive, pageToken, size);
+              response =
+                  Utils.ok(
+                      new FileInfoListResponse(
+                          DTOConverters.toDTO(page.files()), page.nextPageToken()));
+            } else {
+              FileInfo[] files = dispatcher.listFiles(filesetIdent, locationName, decodedSubPath);
+              response = Utils.ok(new FileInfoListResponse(DTOConverters.toDTO(files)));
+            }
             LOG.info(
                 "Files listed for fileset: {}.{}.{}.{}, subPath: {}, locationName:{}",
                 metalake,
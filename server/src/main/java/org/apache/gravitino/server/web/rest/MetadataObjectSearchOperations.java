@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.rest;
+
+import com.codahale.metrics.annotation.ResponseMetered;
+import com.codahale.metrics.annotation.Timed;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.Response;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.dto.responses.MetadataObjectListResponse;
+import org.apache.gravitino.dto.tag.MetadataObjectDTO;
+import org.apache.gravitino.dto.util.DTOConverters;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.search.MetadataObjectIndex;
+import org.apache.gravitino.search.MetadataObjectPage;
+import org.apache.gravitino.search.MetadataObjectQuery;
+import org.apache.gravitino.server.web.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@Path("/metalakes/{metalake}/objects")
+public class MetadataObjectSearchOperations {
+  private static final Logger LOG = LoggerFactory.getLogger(MetadataObjectSearchOperations.class);
+
+  private final MetadataObjectIndex metadataObjectIndex;
+
+  @Context private HttpServletRequest httpRequest;
+
+  public MetadataObjectSearchOperations() {
+    // The index is null if it is disabled, and Jersey injection doesn't support null value. So
+    // MetadataObjectSearchOperations retrieves it from GravitinoEnv instead of injection here.
+    this.metadataObjectIndex = GravitinoEnv.getInstance().metadataObjectIndex();
+  }
+
+  @GET
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "search-objects." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "search-objects", absolute = true)
+  public Response searchObjects(
+      @PathParam("metalake") String metalake,
+      @QueryParam("tag") List<String> tags,
+      @QueryParam("policy") List<String> policies,
+      @QueryParam("operator") @DefaultValue("and") String operator,
+      @QueryParam("scope") String scope,
+      @QueryParam("type") String type,
+      @QueryParam("page_size") @DefaultValue("100") int pageSize,
+      @QueryParam("page_token") String pageToken) {
+    LOG.info(
+        "Received search objects request under metalake: {}, tags: {}, policies: {}, operator: {},"
+            + " scope: {}, type: {}",
+        metalake,
+        tags,
+        policies,
+        operator,
+        scope,
+        type);
+
+    if (metadataObjectIndex == null) {
+      return Utils.unsupportedOperation(
+          String.format(
+              "Searching metadata objects is disabled, set %s to true to enable it",
+              Configs.METADATA_OBJECT_INDEX_ENABLED.getKey()));
+    }
+
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            MetadataObjectQuery query =
+                MetadataObjectQuery.builder()
+                    .withTags(tags)
+                    .withPolicies(policies)
+                    .withOperator(
+                        MetadataObjectQuery.Operator.valueOf(operator.toUpperCase(Locale.ROOT)))
+                    .withScope(scope)
+                    .withType(
+                        StringUtils.isBlank(type)
+                            ? null
+                            : MetadataObject.Type.valueOf(type.toUpperCase(Locale.ROOT)))
+                    .withPageSize(pageSize)
+                    .withPageToken(pageToken)
+                    .build();
+            MetadataObjectPage page = metadataObjectIndex.search(metalake, query);
+            MetadataObjectDTO[] objectDTOs =
+                Arrays.stream(page.metadataObjects())
+                    .map(DTOConverters::toDTO)
+                    .toArray(MetadataObjectDTO[]::new);
+
+            LOG.info("Found {} objects under metalake: {}", objectDTOs.length, metalake);
+            return Utils.ok(new MetadataObjectListResponse(objectDTOs, page.nextPageToken()));
+          });
+    } catch (Exception e) {
+      return ExceptionHandlers.handleTagException(OperationType.LIST, "", metalake, e);
+    }
+  }
+}
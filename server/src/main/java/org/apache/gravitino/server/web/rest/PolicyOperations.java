@@ -41,6 +41,7 @@ import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.dto.policy.PolicyDTO;
+import org.apache.gravitino.dto.requests.MetadataObjectsAssociateRequest;
 import org.apache.gravitino.dto.requests.PolicyCreateRequest;
 import org.apache.gravitino.dto.requests.PolicySetRequest;
 import org.apache.gravitino.dto.requests.PolicyUpdateRequest;
@@ -291,6 +292,46 @@ public class PolicyOperations {
     }
   }
 
+  @POST
+  @Path("{policy}/objects")
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(
+      name = "associate-objects-for-policy." + MetricNames.HTTP_PROCESS_DURATION,
+      absolute = true)
+  @ResponseMetered(name = "associate-objects-for-policy", absolute = true)
+  public Response associateMetadataObjectsForPolicy(
+      @PathParam("metalake") String metalake,
+      @PathParam("policy") String policyName,
+      MetadataObjectsAssociateRequest request) {
+    LOG.info("Received associate objects for policy: {} under metalake: {}", policyName, metalake);
+
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            request.validate();
+            MetadataObject[] objectsToAdd = DTOConverters.fromDTOs(request.getObjectsToAdd());
+            MetadataObject[] objectsToRemove =
+                DTOConverters.fromDTOs(request.getObjectsToRemove());
+            policyDispatcher.associateMetadataObjectsForPolicy(
+                metalake, policyName, objectsToAdd, objectsToRemove);
+
+            LOG.info(
+                "Associated {} objects and disassociated {} objects for policy: {} under "
+                    + "metalake: {}",
+                objectsToAdd.length,
+                objectsToRemove.length,
+                policyName,
+                metalake);
+            return Utils.ok(new BaseResponse());
+          });
+
+    } catch (Exception e) {
+      return ExceptionHandlers.handlePolicyException(
+          OperationType.ASSOCIATE, policyName, metalake, e);
+    }
+  }
+
   static PolicyDTO toDTO(PolicyEntity policy, Optional<Boolean> inherited) {
     PolicyDTO.Builder builder =
         PolicyDTO.builder()
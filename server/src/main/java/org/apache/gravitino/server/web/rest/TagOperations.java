@@ -37,10 +37,12 @@ import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.dto.requests.MetadataObjectsAssociateRequest;
 import org.apache.gravitino.dto.requests.TagCreateRequest;
 import org.apache.gravitino.dto.requests.TagUpdateRequest;
 import org.apache.gravitino.dto.requests.TagUpdatesRequest;
 import org.apache.gravitino.dto.requests.TagsAssociateRequest;
+import org.apache.gravitino.dto.responses.BaseResponse;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.MetadataObjectListResponse;
 import org.apache.gravitino.dto.responses.NameListResponse;
@@ -248,6 +250,42 @@ public class TagOperations {
     }
   }
 
+  @POST
+  @Path("{tag}/objects")
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "associate-objects-for-tag." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "associate-objects-for-tag", absolute = true)
+  public Response associateMetadataObjectsForTag(
+      @PathParam("metalake") String metalake,
+      @PathParam("tag") String tagName,
+      MetadataObjectsAssociateRequest request) {
+    LOG.info("Received associate objects for tag: {} under metalake: {}", tagName, metalake);
+
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            request.validate();
+            MetadataObject[] objectsToAdd = DTOConverters.fromDTOs(request.getObjectsToAdd());
+            MetadataObject[] objectsToRemove =
+                DTOConverters.fromDTOs(request.getObjectsToRemove());
+            tagDispatcher.associateMetadataObjectsForTag(
+                metalake, tagName, objectsToAdd, objectsToRemove);
+
+            LOG.info(
+                "Associated {} objects and disassociated {} objects for tag: {} under metalake: {}",
+                objectsToAdd.length,
+                objectsToRemove.length,
+                tagName,
+                metalake);
+            return Utils.ok(new BaseResponse());
+          });
+
+    } catch (Exception e) {
+      return ExceptionHandlers.handleTagException(OperationType.ASSOCIATE, tagName, metalake, e);
+    }
+  }
+
   /**
    * @deprecated This API has moved to {@code
    *     /api/metalakes/{metalake}/objects/{type}/{fullName}/tags}.
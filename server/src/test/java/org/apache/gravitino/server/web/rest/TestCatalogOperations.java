@@ -48,6 +48,7 @@ import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.catalog.CatalogDispatcher;
 import org.apache.gravitino.catalog.CatalogManager;
+import org.apache.gravitino.catalog.MetadataImportCrawler;
 import org.apache.gravitino.dto.CatalogDTO;
 import org.apache.gravitino.dto.requests.CatalogCreateRequest;
 import org.apache.gravitino.dto.requests.CatalogSetRequest;
@@ -549,6 +550,48 @@ public class TestCatalogOperations extends BaseOperationsTest {
     Assertions.assertEquals(0, baseResponse.getCode());
   }
 
+  @Test
+  public void testImportCatalog() throws IllegalAccessException {
+    MetadataImportCrawler crawler = mock(MetadataImportCrawler.class);
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "metadataImportCrawler", crawler, true);
+    when(crawler.triggerCrawl(any())).thenReturn(true);
+
+    Response resp =
+        target("/metalakes/metalake1/catalogs/catalog1/import")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(null);
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    BaseResponse baseResponse = resp.readEntity(BaseResponse.class);
+    Assertions.assertEquals(0, baseResponse.getCode());
+
+    // Test throw NoSuchCatalogException
+    doThrow(new NoSuchCatalogException("mock error")).when(crawler).triggerCrawl(any());
+    Response resp1 =
+        target("/metalakes/metalake1/catalogs/catalog1/import")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(null);
+
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), resp1.getStatus());
+    ErrorResponse errorResponse = resp1.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.NOT_FOUND_CODE, errorResponse.getCode());
+    Assertions.assertEquals(NoSuchCatalogException.class.getSimpleName(), errorResponse.getType());
+
+    // Test throw IllegalArgumentException for the non-relational catalog
+    doThrow(new IllegalArgumentException("mock error")).when(crawler).triggerCrawl(any());
+    Response resp2 =
+        target("/metalakes/metalake1/catalogs/catalog1/import")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(null);
+
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp2.getStatus());
+    ErrorResponse errorResponse2 = resp2.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.ILLEGAL_ARGUMENTS_CODE, errorResponse2.getCode());
+  }
+
   private static TestCatalog buildCatalog(String metalake, String catalogName) {
     CatalogEntity entity =
         CatalogEntity.builder()
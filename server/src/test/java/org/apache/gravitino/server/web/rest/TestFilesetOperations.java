@@ -49,6 +49,7 @@ import org.apache.gravitino.audit.FilesetDataOperation;
 import org.apache.gravitino.audit.InternalClientType;
 import org.apache.gravitino.catalog.FilesetDispatcher;
 import org.apache.gravitino.catalog.FilesetOperationDispatcher;
+import org.apache.gravitino.dto.file.FileInfoDTO;
 import org.apache.gravitino.dto.file.FilesetDTO;
 import org.apache.gravitino.dto.requests.FilesetCreateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdateRequest;
@@ -57,12 +58,15 @@ import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.ErrorConstants;
 import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.dto.responses.FileInfoListResponse;
 import org.apache.gravitino.dto.responses.FileLocationResponse;
 import org.apache.gravitino.dto.responses.FilesetResponse;
 import org.apache.gravitino.exceptions.FilesetAlreadyExistsException;
 import org.apache.gravitino.exceptions.NoSuchFilesetException;
 import org.apache.gravitino.exceptions.NoSuchLocationNameException;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
+import org.apache.gravitino.file.FileInfo;
+import org.apache.gravitino.file.FileInfoPage;
 import org.apache.gravitino.file.Fileset;
 import org.apache.gravitino.file.FilesetChange;
 import org.apache.gravitino.lock.LockManager;
@@ -669,6 +673,62 @@ public class TestFilesetOperations extends BaseOperationsTest {
     Assertions.assertNull(CallerContext.CallerContextHolder.get());
   }
 
+  @Test
+  public void testListFilesWithPages() throws IOException {
+    NameIdentifier fullIdentifier = NameIdentifier.of(metalake, catalog, schema, "fileset1");
+    FileInfo file =
+        FileInfoDTO.builder()
+            .name("file1")
+            .isDir(false)
+            .size(10)
+            .lastModified(1000L)
+            .path("/fileset/catalog1/schema1/fileset1/dir/file1")
+            .build();
+    when(dispatcher.listFiles(fullIdentifier, null, "/dir", true, null, 1))
+        .thenReturn(new FileInfoPage(new FileInfo[] {file}, "token"));
+    when(dispatcher.listFiles(fullIdentifier, null, "/dir", true, "token", 1))
+        .thenReturn(new FileInfoPage(new FileInfo[0], null));
+
+    Response resp =
+        target(filesetPath(metalake, catalog, schema) + "fileset1/files")
+            .queryParam("sub_path", RESTUtils.encodeString("/dir"))
+            .queryParam("recursive", true)
+            .queryParam("page_size", 1)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    FileInfoListResponse listResp = resp.readEntity(FileInfoListResponse.class);
+    Assertions.assertEquals(0, listResp.getCode());
+    Assertions.assertEquals(1, listResp.getFiles().length);
+    Assertions.assertEquals("file1", listResp.getFiles()[0].name());
+    Assertions.assertEquals("token", listResp.getNextPageToken());
+
+    // The last page has no next page token
+    resp =
+        target(filesetPath(metalake, catalog, schema) + "fileset1/files")
+            .queryParam("sub_path", RESTUtils.encodeString("/dir"))
+            .queryParam("recursive", true)
+            .queryParam("page_token", "token")
+            .queryParam("page_size", 1)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    listResp = resp.readEntity(FileInfoListResponse.class);
+    Assertions.assertEquals(0, listResp.getFiles().length);
+    Assertions.assertNull(listResp.getNextPageToken());
+
+    // Test invalid page size
+    resp =
+        target(filesetPath(metalake, catalog, schema) + "fileset1/files")
+            .queryParam("page_size", 0)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp.getStatus());
+  }
+
   private void assertUpdateFileset(FilesetUpdatesRequest req, Fileset updatedFileset) {
     when(dispatcher.alterFileset(any(), any(FilesetChange.class))).thenReturn(updatedFileset);
 
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.rest;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.MetadataObjects;
+import org.apache.gravitino.dto.responses.ErrorConstants;
+import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.dto.responses.MetadataObjectListResponse;
+import org.apache.gravitino.dto.util.DTOConverters;
+import org.apache.gravitino.exceptions.NoSuchMetalakeException;
+import org.apache.gravitino.rest.RESTUtils;
+import org.apache.gravitino.search.MetadataObjectIndex;
+import org.apache.gravitino.search.MetadataObjectPage;
+import org.apache.gravitino.search.MetadataObjectQuery;
+import org.glassfish.jersey.internal.inject.AbstractBinder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.TestProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestMetadataObjectSearchOperations extends BaseOperationsTest {
+
+  private static class MockServletRequestFactory extends ServletRequestFactoryBase {
+    @Override
+    public HttpServletRequest get() {
+      HttpServletRequest request = mock(HttpServletRequest.class);
+      when(request.getRemoteUser()).thenReturn(null);
+      return request;
+    }
+  }
+
+  private final MetadataObjectIndex index = mock(MetadataObjectIndex.class);
+
+  private final String metalake = "test_metalake";
+
+  @BeforeEach
+  public void setUpIndex() throws IllegalAccessException {
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "metadataObjectIndex", index, true);
+  }
+
+  @AfterEach
+  public void tearDownIndex() throws IllegalAccessException {
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "metadataObjectIndex", null, true);
+  }
+
+  @Override
+  protected Application configure() {
+    try {
+      forceSet(
+          TestProperties.CONTAINER_PORT, String.valueOf(RESTUtils.findAvailablePort(2000, 3000)));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    ResourceConfig resourceConfig = new ResourceConfig();
+    resourceConfig.register(MetadataObjectSearchOperations.class);
+    resourceConfig.register(
+        new AbstractBinder() {
+          @Override
+          protected void configure() {
+            bindFactory(MockServletRequestFactory.class).to(HttpServletRequest.class);
+          }
+        });
+
+    return resourceConfig;
+  }
+
+  @Test
+  public void testSearchObjects() {
+    MetadataObject table =
+        MetadataObjects.parse("catalog1.schema1.table1", MetadataObject.Type.TABLE);
+    MetadataObject column =
+        MetadataObjects.parse("catalog1.schema1.table1.column1", MetadataObject.Type.COLUMN);
+    when(index.search(
+            eq(metalake),
+            argThat(
+                query ->
+                    query != null
+                        && query.tags().contains("tag1")
+                        && query.policies().contains("policy1")
+                        && query.operator() == MetadataObjectQuery.Operator.OR
+                        && "catalog1".equals(query.scope())
+                        && query.pageSize() == 2)))
+        .thenReturn(new MetadataObjectPage(new MetadataObject[] {table, column}, "token"));
+
+    Response response =
+        target(basePath(metalake))
+            .queryParam("tag", "tag1")
+            .queryParam("policy", "policy1")
+            .queryParam("operator", "or")
+            .queryParam("scope", "catalog1")
+            .queryParam("page_size", 2)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+    MetadataObjectListResponse objectListResponse =
+        response.readEntity(MetadataObjectListResponse.class);
+    Assertions.assertEquals(0, objectListResponse.getCode());
+    Assertions.assertEquals("token", objectListResponse.getNextPageToken());
+    Assertions.assertArrayEquals(
+        new Object[] {DTOConverters.toDTO(table), DTOConverters.toDTO(column)},
+        objectListResponse.getMetadataObjects());
+
+    // Test the last page without the next page token
+    when(index.search(eq(metalake), argThat(query -> query != null && query.type() != null)))
+        .thenReturn(new MetadataObjectPage(new MetadataObject[] {table}, null));
+    Response response1 =
+        target(basePath(metalake))
+            .queryParam("tag", "tag1")
+            .queryParam("type", "table")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), response1.getStatus());
+    MetadataObjectListResponse objectListResponse1 =
+        response1.readEntity(MetadataObjectListResponse.class);
+    Assertions.assertNull(objectListResponse1.getNextPageToken());
+    Assertions.assertEquals(1, objectListResponse1.getMetadataObjects().length);
+  }
+
+  @Test
+  public void testSearchObjectsWithIllegalArguments() {
+    // Test without any tag or policy
+    Response response =
+        target(basePath(metalake))
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), response.getStatus());
+
+    // Test with an unknown operator
+    Response response1 =
+        target(basePath(metalake))
+            .queryParam("tag", "tag1")
+            .queryParam("operator", "xor")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), response1.getStatus());
+    ErrorResponse errorResponse = response1.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.ILLEGAL_ARGUMENTS_CODE, errorResponse.getCode());
+
+    // Test to throw NoSuchMetalakeException
+    when(index.search(any(), any())).thenThrow(new NoSuchMetalakeException("mock error"));
+    Response response2 =
+        target(basePath(metalake))
+            .queryParam("tag", "tag1")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), response2.getStatus());
+  }
+
+  @Test
+  public void testSearchObjectsWhenIndexDisabled() throws IllegalAccessException {
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "metadataObjectIndex", null, true);
+
+    Response response =
+        target(basePath(metalake))
+            .queryParam("tag", "tag1")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(
+        Response.Status.METHOD_NOT_ALLOWED.getStatusCode(), response.getStatus());
+    ErrorResponse errorResponse = response.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.UNSUPPORTED_OPERATION_CODE, errorResponse.getCode());
+  }
+
+  private String basePath(String metalake) {
+    return "/metalakes/" + metalake + "/objects";
+  }
+}
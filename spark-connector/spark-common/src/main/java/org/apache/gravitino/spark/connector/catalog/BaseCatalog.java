@@ -19,6 +19,7 @@
 
 package org.apache.gravitino.spark.connector.catalog;
 
+import com.codahale.metrics.Timer;
 import com.google.common.base.Preconditions;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -147,17 +148,19 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces {
 
   @Override
   public void initialize(String name, CaseInsensitiveStringMap options) {
-    this.catalogName = name;
-    this.gravitinoCatalogClient = gravitinoCatalogManager.getGravitinoCatalogInfo(name);
-    String provider = gravitinoCatalogClient.provider();
-    Preconditions.checkArgument(
-        StringUtils.isNotBlank(provider), name + " catalog provider is empty");
-    this.sparkCatalog =
-        createAndInitSparkCatalog(name, options, gravitinoCatalogClient.properties());
-    this.propertiesConverter = getPropertiesConverter();
-    this.sparkTransformConverter = getSparkTransformConverter();
-    this.sparkTypeConverter = getSparkTypeConverter();
-    this.sparkTableChangeConverter = getSparkTableChangeConverter(sparkTypeConverter);
+    try (Timer.Context ignored = gravitinoCatalogManager.catalogInitializationTimer().time()) {
+      this.catalogName = name;
+      this.gravitinoCatalogClient = gravitinoCatalogManager.getGravitinoCatalogInfo(name);
+      String provider = gravitinoCatalogClient.provider();
+      Preconditions.checkArgument(
+          StringUtils.isNotBlank(provider), name + " catalog provider is empty");
+      this.sparkCatalog =
+          createAndInitSparkCatalog(name, options, gravitinoCatalogClient.properties());
+      this.propertiesConverter = getPropertiesConverter();
+      this.sparkTransformConverter = getSparkTransformConverter();
+      this.sparkTypeConverter = getSparkTypeConverter();
+      this.sparkTableChangeConverter = getSparkTableChangeConverter(sparkTypeConverter);
+    }
   }
 
   @Override
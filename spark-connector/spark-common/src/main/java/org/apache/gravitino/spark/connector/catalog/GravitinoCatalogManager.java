@@ -18,6 +18,7 @@
  */
 package org.apache.gravitino.spark.connector.catalog;
 
+import com.codahale.metrics.Timer;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.base.Preconditions;
@@ -37,6 +38,10 @@ public class GravitinoCatalogManager {
   private volatile boolean isClosed = false;
   private final Cache<String, Catalog> gravitinoCatalogs;
   private final GravitinoClient gravitinoClient;
+  // The time to load a catalog definition from Gravitino on its first use.
+  private final Timer catalogLoadTimer = new Timer();
+  // The time to initialize a catalog registered to Spark, including its underlying Spark catalog.
+  private final Timer catalogInitializationTimer = new Timer();
 
   private GravitinoCatalogManager(Supplier<GravitinoClient> clientBuilder) {
     this.gravitinoClient = clientBuilder.get();
@@ -86,11 +91,30 @@ public class GravitinoCatalogManager {
     return gravitinoCatalogs.asMap();
   }
 
+  /**
+   * Lists the names of all the catalogs without loading their definitions.
+   *
+   * @return The catalog names.
+   */
+  public String[] listCatalogNames() {
+    return gravitinoClient.listCatalogs();
+  }
+
+  public Timer catalogLoadTimer() {
+    return catalogLoadTimer;
+  }
+
+  public Timer catalogInitializationTimer() {
+    return catalogInitializationTimer;
+  }
+
   private Catalog loadCatalog(String catalogName) {
-    Catalog catalog = gravitinoClient.loadCatalog(catalogName);
-    Preconditions.checkArgument(
-        Catalog.Type.RELATIONAL.equals(catalog.type()), "Only support relational catalog");
-    LOG.info("Load catalog {} from Gravitino successfully.", catalogName);
-    return catalog;
+    try (Timer.Context ignored = catalogLoadTimer.time()) {
+      Catalog catalog = gravitinoClient.loadCatalog(catalogName);
+      Preconditions.checkArgument(
+          Catalog.Type.RELATIONAL.equals(catalog.type()), "Only support relational catalog");
+      LOG.info("Load catalog {} from Gravitino successfully.", catalogName);
+      return catalog;
+    }
   }
 }
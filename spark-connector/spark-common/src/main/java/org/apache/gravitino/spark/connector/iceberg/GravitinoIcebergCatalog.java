@@ -125,6 +125,19 @@ public class GravitinoIcebergCatalog extends BaseCatalog
    */
   @Override
   public Procedure loadProcedure(Identifier identifier) throws NoSuchProcedureException {
+    return loadProcedure(this, identifier);
+  }
+
+  /**
+   * Loads the Iceberg procedure bound to the catalog registered to Spark catalogManager.
+   *
+   * @param registeredCatalog The catalog registered to Spark catalogManager.
+   * @param identifier The identifier of the procedure.
+   * @return The procedure.
+   * @throws NoSuchProcedureException If the procedure doesn't exist.
+   */
+  static Procedure loadProcedure(TableCatalog registeredCatalog, Identifier identifier)
+      throws NoSuchProcedureException {
     String[] namespace = identifier.namespace();
     String name = identifier.name();
 
@@ -132,7 +145,7 @@ public class GravitinoIcebergCatalog extends BaseCatalog
       if (isSystemNamespace(namespace)) {
         SparkProcedures.ProcedureBuilder builder = SparkProcedures.newBuilder(name);
         if (builder != null) {
-          return builder.withTableCatalog(this).build();
+          return builder.withTableCatalog(registeredCatalog).build();
         }
       }
     } catch (NoSuchMethodException
@@ -190,7 +203,7 @@ public class GravitinoIcebergCatalog extends BaseCatalog
     }
   }
 
-  private boolean isSystemNamespace(String[] namespace)
+  private static boolean isSystemNamespace(String[] namespace)
       throws NoSuchMethodException, InvocationTargetException, IllegalAccessException,
           ClassNotFoundException {
     Class<?> baseCatalog = Class.forName("org.apache.iceberg.spark.BaseCatalog");
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.spark.connector.iceberg;
+
+import org.apache.gravitino.spark.connector.catalog.LazyGravitinoCatalog;
+import org.apache.iceberg.catalog.Catalog;
+import org.apache.iceberg.spark.source.HasIcebergCatalog;
+import org.apache.spark.sql.catalyst.analysis.NoSuchProcedureException;
+import org.apache.spark.sql.connector.catalog.Identifier;
+import org.apache.spark.sql.connector.iceberg.catalog.Procedure;
+import org.apache.spark.sql.connector.iceberg.catalog.ProcedureCatalog;
+
+/**
+ * LazyGravitinoIcebergCatalog is the {@link LazyGravitinoCatalog} registered when the Iceberg
+ * support is enabled, it supports the Iceberg procedures if the delegated catalog is an Iceberg
+ * catalog.
+ */
+public class LazyGravitinoIcebergCatalog extends LazyGravitinoCatalog
+    implements ProcedureCatalog, HasIcebergCatalog {
+
+  @Override
+  protected void checkProvider(String name, String provider) {}
+
+  /**
+   * The procedures are bound to this catalog rather than the delegated catalog, as Iceberg checks
+   * the catalog passed to the procedure is the one registered to Spark catalogManager.
+   */
+  @Override
+  public Procedure loadProcedure(Identifier identifier) throws NoSuchProcedureException {
+    if (delegate instanceof GravitinoIcebergCatalog) {
+      return GravitinoIcebergCatalog.loadProcedure(this, identifier);
+    }
+    throw new NoSuchProcedureException(identifier);
+  }
+
+  @Override
+  public Catalog icebergCatalog() {
+    if (delegate instanceof GravitinoIcebergCatalog) {
+      return ((GravitinoIcebergCatalog) delegate).icebergCatalog();
+    }
+    throw new UnsupportedOperationException(name() + " is not an Iceberg catalog");
+  }
+}
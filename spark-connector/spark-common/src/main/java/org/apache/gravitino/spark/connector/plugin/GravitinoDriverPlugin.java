@@ -23,6 +23,8 @@ import static org.apache.gravitino.spark.connector.ConnectorConstants.COMMA;
 import static org.apache.gravitino.spark.connector.GravitinoSparkConfig.GRAVITINO_CLIENT_CONFIG_PREFIX;
 import static org.apache.gravitino.spark.connector.utils.ConnectorUtil.removeDuplicateSparkExtensions;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
@@ -34,6 +36,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nullable;
@@ -47,6 +50,8 @@ import org.apache.gravitino.client.GravitinoClientConfiguration;
 import org.apache.gravitino.client.KerberosTokenProvider;
 import org.apache.gravitino.spark.connector.GravitinoSparkConfig;
 import org.apache.gravitino.spark.connector.catalog.GravitinoCatalogManager;
+import org.apache.gravitino.spark.connector.catalog.LazyGravitinoCatalog;
+import org.apache.gravitino.spark.connector.iceberg.LazyGravitinoIcebergCatalog;
 import org.apache.gravitino.spark.connector.iceberg.extensions.GravitinoIcebergSparkSessionExtensions;
 import org.apache.gravitino.spark.connector.version.CatalogNameAdaptor;
 import org.apache.hadoop.security.UserGroupInformation;
@@ -76,6 +81,9 @@ public class GravitinoDriverPlugin implements DriverPlugin {
           GravitinoIcebergSparkSessionExtensions.class.getName(), ICEBERG_SPARK_EXTENSIONS);
   private final List<String> gravitinoDriverExtensions = new ArrayList<>();
   private boolean enableIcebergSupport = false;
+  private boolean enableLazyCatalogLoading = false;
+  private long catalogRegistrationTimeMs;
+  private int registeredCatalogCount;
 
   @Override
   public Map<String, String> init(SparkContext sc, PluginContext pluginContext) {
@@ -103,12 +111,40 @@ public class GravitinoDriverPlugin implements DriverPlugin {
             () ->
                 createGravitinoClient(
                     gravitinoUri, metalake, conf, sc.sparkUser(), gravitinoClientConfig));
-    catalogManager.loadRelationalCatalogs();
-    registerGravitinoCatalogs(conf, catalogManager.getCatalogs());
+
+    this.enableLazyCatalogLoading =
+        conf.getBoolean(GravitinoSparkConfig.GRAVITINO_ENABLE_LAZY_CATALOG_LOADING, false);
+    long startTime = System.nanoTime();
+    if (enableLazyCatalogLoading) {
+      registerLazyCatalogs(conf, catalogManager.listCatalogNames(), enableIcebergSupport);
+    } else {
+      catalogManager.loadRelationalCatalogs();
+      registerGravitinoCatalogs(conf, catalogManager.getCatalogs());
+    }
+    this.catalogRegistrationTimeMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    LOG.info(
+        "Register {} catalogs to Spark in {} ms, lazy catalog loading: {}.",
+        registeredCatalogCount,
+        catalogRegistrationTimeMs,
+        enableLazyCatalogLoading);
+
     registerSqlExtensions(conf);
     return Collections.emptyMap();
   }
 
+  @Override
+  public void registerMetrics(String appId, PluginContext pluginContext) {
+    MetricRegistry metricRegistry = pluginContext.metricRegistry();
+    metricRegistry.register(
+        "catalogRegistrationTimeMs", (Gauge<Long>) () -> catalogRegistrationTimeMs);
+    metricRegistry.register("registeredCatalogs", (Gauge<Integer>) () -> registeredCatalogCount);
+    metricRegistry.register(
+        "lazyCatalogLoading", (Gauge<Integer>) () -> enableLazyCatalogLoading ? 1 : 0);
+    metricRegistry.register("catalogLoadTime", catalogManager.catalogLoadTimer());
+    metricRegistry.register(
+        "catalogInitializationTime", catalogManager.catalogInitializationTimer());
+  }
+
   @Override
   public void shutdown() {
     if (catalogManager != null) {
@@ -137,6 +173,29 @@ public class GravitinoDriverPlugin implements DriverPlugin {
             });
   }
 
+  @VisibleForTesting
+  int registeredCatalogCount() {
+    return registeredCatalogCount;
+  }
+
+  // Registers a lazy catalog for every catalog name, the catalog definitions are loaded on the
+  // first use of the catalogs. The catalogs not supported by Spark fail on their first use.
+  @VisibleForTesting
+  void registerLazyCatalogs(
+      SparkConf sparkConf, String[] catalogNames, boolean enableIcebergSupport) {
+    String catalogClassName =
+        enableIcebergSupport
+            ? LazyGravitinoIcebergCatalog.class.getName()
+            : LazyGravitinoCatalog.class.getName();
+    for (String catalogName : catalogNames) {
+      try {
+        registerCatalogClass(sparkConf, catalogName, catalogClassName);
+      } catch (Exception e) {
+        LOG.warn("Register catalog {} failed.", catalogName, e);
+      }
+    }
+  }
+
   private void registerCatalog(SparkConf sparkConf, String catalogName, String provider) {
     if (StringUtils.isBlank(provider)) {
       LOG.warn("Skip registering {} because catalog provider is empty.", catalogName);
@@ -149,11 +208,17 @@ public class GravitinoDriverPlugin implements DriverPlugin {
       return;
     }
 
+    registerCatalogClass(sparkConf, catalogName, catalogClassName);
+  }
+
+  private void registerCatalogClass(
+      SparkConf sparkConf, String catalogName, String catalogClassName) {
     String sparkCatalogConfigName = "spark.sql.catalog." + catalogName;
     Preconditions.checkArgument(
         !sparkConf.contains(sparkCatalogConfigName),
         catalogName + " is already registered to SparkCatalogManager");
     sparkConf.set(sparkCatalogConfigName, catalogClassName);
+    registeredCatalogCount++;
     LOG.info("Register {} catalog to Spark catalog manager.", catalogName);
   }
 
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.spark.connector.catalog;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.Collections;
+import org.apache.gravitino.Catalog;
+import org.apache.gravitino.client.GravitinoClient;
+import org.apache.spark.sql.catalyst.analysis.NoSuchFunctionException;
+import org.apache.spark.sql.connector.catalog.FunctionCatalog;
+import org.apache.spark.sql.connector.catalog.Identifier;
+import org.apache.spark.sql.connector.catalog.Table;
+import org.apache.spark.sql.connector.catalog.functions.UnboundFunction;
+import org.apache.spark.sql.util.CaseInsensitiveStringMap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestLazyGravitinoCatalog {
+
+  private static final Identifier IDENT = Identifier.of(new String[] {"db"}, "tbl");
+
+  @Test
+  void testRejectIcebergCatalogWithoutIcebergSupport() {
+    Catalog gravitinoCatalog = mock(Catalog.class);
+    when(gravitinoCatalog.type()).thenReturn(Catalog.Type.RELATIONAL);
+    when(gravitinoCatalog.provider()).thenReturn("lakehouse-iceberg");
+    GravitinoClient client = mock(GravitinoClient.class);
+    when(client.loadCatalog("iceberg")).thenReturn(gravitinoCatalog);
+
+    GravitinoCatalogManager catalogManager = GravitinoCatalogManager.create(() -> client);
+    try {
+      LazyGravitinoCatalog catalog = new LazyGravitinoCatalog();
+      IllegalArgumentException exception =
+          Assertions.assertThrows(
+              IllegalArgumentException.class,
+              () ->
+                  catalog.initialize(
+                      "iceberg", new CaseInsensitiveStringMap(Collections.emptyMap())));
+      Assertions.assertTrue(exception.getMessage().contains("Iceberg support is disabled"));
+    } finally {
+      catalogManager.close();
+    }
+  }
+
+  @Test
+  void testDelegateOperations() throws Exception {
+    BaseCatalog delegate = mock(BaseCatalog.class);
+    Table table = mock(Table.class);
+    when(delegate.loadTable(IDENT)).thenReturn(table);
+    when(delegate.listTables(new String[] {"db"})).thenReturn(new Identifier[] {IDENT});
+    when(delegate.namespaceExists(new String[] {"db"})).thenReturn(true);
+    when(delegate.dropTable(IDENT)).thenReturn(true);
+
+    LazyGravitinoCatalog catalog = new LazyGravitinoCatalog();
+    catalog.delegate = delegate;
+    Assertions.assertSame(table, catalog.loadTable(IDENT));
+    Assertions.assertArrayEquals(new Identifier[] {IDENT}, catalog.listTables(new String[] {"db"}));
+    Assertions.assertTrue(catalog.namespaceExists(new String[] {"db"}));
+    Assertions.assertTrue(catalog.dropTable(IDENT));
+    catalog.createNamespace(new String[] {"db2"}, Collections.emptyMap());
+    verify(delegate).createNamespace(new String[] {"db2"}, Collections.emptyMap());
+  }
+
+  @Test
+  void testLoadFunction() throws Exception {
+    Identifier functionIdent = Identifier.of(new String[] {"system"}, "bucket");
+    UnboundFunction function = mock(UnboundFunction.class);
+    BaseCatalog delegate =
+        mock(BaseCatalog.class, withSettings().extraInterfaces(FunctionCatalog.class));
+    when(((FunctionCatalog) delegate).loadFunction(functionIdent)).thenReturn(function);
+    when(((FunctionCatalog) delegate).listFunctions(new String[] {"system"}))
+        .thenReturn(new Identifier[] {functionIdent});
+
+    LazyGravitinoCatalog catalog = new LazyGravitinoCatalog();
+    catalog.delegate = delegate;
+    Assertions.assertSame(function, catalog.loadFunction(functionIdent));
+    Assertions.assertArrayEquals(
+        new Identifier[] {functionIdent}, catalog.listFunctions(new String[] {"system"}));
+
+    // The catalogs without functions have no function to load
+    catalog.delegate = mock(BaseCatalog.class);
+    Assertions.assertThrows(
+        NoSuchFunctionException.class, () -> catalog.loadFunction(functionIdent));
+    Assertions.assertEquals(0, catalog.listFunctions(new String[] {"system"}).length);
+  }
+}
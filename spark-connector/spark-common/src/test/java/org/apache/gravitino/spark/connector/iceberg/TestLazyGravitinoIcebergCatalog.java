@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.spark.connector.iceberg;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.spark.connector.catalog.BaseCatalog;
+import org.apache.iceberg.catalog.Catalog;
+import org.apache.spark.sql.SparkSession;
+import org.apache.spark.sql.catalyst.analysis.NoSuchProcedureException;
+import org.apache.spark.sql.connector.catalog.Identifier;
+import org.apache.spark.sql.connector.iceberg.catalog.Procedure;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestLazyGravitinoIcebergCatalog {
+
+  private static final Identifier PROCEDURE_IDENT =
+      Identifier.of(new String[] {"system"}, "rewrite_data_files");
+
+  @Test
+  void testAcceptIcebergProvider() {
+    LazyGravitinoIcebergCatalog catalog = new LazyGravitinoIcebergCatalog();
+    Assertions.assertDoesNotThrow(() -> catalog.checkProvider("iceberg", "lakehouse-iceberg"));
+  }
+
+  @Test
+  void testLoadProcedureBindsToLazyCatalog() throws Exception {
+    LazyGravitinoIcebergCatalog catalog = lazyCatalog(mock(GravitinoIcebergCatalog.class));
+    // Iceberg procedures get the active session when they are built
+    SparkSession sparkSession = SparkSession.builder().master("local[1]").getOrCreate();
+    try {
+      Procedure procedure = catalog.loadProcedure(PROCEDURE_IDENT);
+      Assertions.assertSame(catalog, FieldUtils.readField(procedure, "tableCatalog", true));
+    } finally {
+      sparkSession.stop();
+    }
+  }
+
+  @Test
+  void testIcebergCatalog() {
+    Catalog icebergCatalog = mock(Catalog.class);
+    GravitinoIcebergCatalog delegate = mock(GravitinoIcebergCatalog.class);
+    when(delegate.icebergCatalog()).thenReturn(icebergCatalog);
+    Assertions.assertSame(icebergCatalog, lazyCatalog(delegate).icebergCatalog());
+  }
+
+  @Test
+  void testNonIcebergDelegate() {
+    LazyGravitinoIcebergCatalog catalog = lazyCatalog(mock(BaseCatalog.class));
+    Assertions.assertThrows(
+        NoSuchProcedureException.class, () -> catalog.loadProcedure(PROCEDURE_IDENT));
+    Assertions.assertThrows(UnsupportedOperationException.class, catalog::icebergCatalog);
+  }
+
+  private static LazyGravitinoIcebergCatalog lazyCatalog(BaseCatalog delegateCatalog) {
+    return new LazyGravitinoIcebergCatalog() {
+      {
+        this.delegate = delegateCatalog;
+      }
+    };
+  }
+}
@@ -154,6 +154,11 @@ public abstract class SparkEnvIT extends SparkUtilIT {
 
   protected void initCatalogEnv() throws Exception {}
 
+  // Whether the catalogs are registered to Spark lazily, the definitions are loaded on first use.
+  protected boolean enableLazyCatalogLoading() {
+    return false;
+  }
+
   private void initIcebergRestServiceEnv() {
     ignoreIcebergRestService = false;
     Map<String, String> icebergRestServiceConfigs = new HashMap<>();
@@ -201,6 +206,9 @@ public abstract class SparkEnvIT extends SparkUtilIT {
             .set(GravitinoSparkConfig.GRAVITINO_URI, gravitinoUri)
             .set(GravitinoSparkConfig.GRAVITINO_METALAKE, metalakeName)
             .set(GravitinoSparkConfig.GRAVITINO_ENABLE_ICEBERG_SUPPORT, "true")
+            .set(
+                GravitinoSparkConfig.GRAVITINO_ENABLE_LAZY_CATALOG_LOADING,
+                String.valueOf(enableLazyCatalogLoading()))
             .set("hive.exec.dynamic.partition.mode", "nonstrict")
             .set("spark.sql.warehouse.dir", warehouse)
             .set("spark.sql.session.timeZone", TIME_ZONE_UTC);
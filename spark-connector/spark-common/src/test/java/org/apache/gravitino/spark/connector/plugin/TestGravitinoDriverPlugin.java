@@ -19,7 +19,10 @@
 
 package org.apache.gravitino.spark.connector.plugin;
 
+import org.apache.gravitino.spark.connector.catalog.LazyGravitinoCatalog;
+import org.apache.gravitino.spark.connector.iceberg.LazyGravitinoIcebergCatalog;
 import org.apache.iceberg.spark.extensions.IcebergSparkSessionExtensions;
+import org.apache.spark.SparkConf;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -31,4 +34,32 @@ public class TestGravitinoDriverPlugin {
         IcebergSparkSessionExtensions.class.getName(),
         GravitinoDriverPlugin.ICEBERG_SPARK_EXTENSIONS);
   }
+
+  @Test
+  void testRegisterLazyCatalogs() {
+    SparkConf sparkConf = new SparkConf(false).set("spark.sql.catalog.registered", "custom");
+    GravitinoDriverPlugin plugin = new GravitinoDriverPlugin();
+    plugin.registerLazyCatalogs(sparkConf, new String[] {"hive", "registered", "mysql"}, false);
+
+    // The catalog already registered to Spark is skipped
+    Assertions.assertEquals(2, plugin.registeredCatalogCount());
+    Assertions.assertEquals(
+        LazyGravitinoCatalog.class.getName(), sparkConf.get("spark.sql.catalog.hive"));
+    Assertions.assertEquals(
+        LazyGravitinoCatalog.class.getName(), sparkConf.get("spark.sql.catalog.mysql"));
+    Assertions.assertEquals("custom", sparkConf.get("spark.sql.catalog.registered"));
+  }
+
+  @Test
+  void testRegisterLazyCatalogsWithIcebergSupport() {
+    SparkConf sparkConf = new SparkConf(false);
+    GravitinoDriverPlugin plugin = new GravitinoDriverPlugin();
+    plugin.registerLazyCatalogs(sparkConf, new String[] {"hive", "iceberg"}, true);
+
+    Assertions.assertEquals(2, plugin.registeredCatalogCount());
+    Assertions.assertEquals(
+        LazyGravitinoIcebergCatalog.class.getName(), sparkConf.get("spark.sql.catalog.hive"));
+    Assertions.assertEquals(
+        LazyGravitinoIcebergCatalog.class.getName(), sparkConf.get("spark.sql.catalog.iceberg"));
+  }
 }